@@ -0,0 +1,80 @@
+/*
+Copyright (C) 2018-2019 Andres Castellanos
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <https://www.gnu.org/licenses/>
+*/
+
+package vsim.bench;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import vsim.Machine;
+import vsim.linker.LinkedProgram;
+
+
+/**
+ * Benchmark of {@link vsim.assembler.Assembler#assemble} and {@link vsim.linker.Linker#link}, end to end from a source
+ * file to a linked program, on generated programs of different sizes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AssembleBenchmark {
+
+  /** number of instructions of the program */
+  @Param({"1000", "10000", "100000"})
+  public int size;
+
+  /** program source file */
+  private File file;
+  /** machine where the program is linked */
+  private Machine machine;
+
+  /**
+   * Writes the program source file.
+   *
+   * @throws IOException if the program could not be written
+   */
+  @Setup
+  public void setup() throws IOException {
+    this.file = Programs.write(Programs.source(this.size, false));
+    this.machine = new Machine();
+  }
+
+  /**
+   * Assembles and links the program, resetting the machine first.
+   *
+   * @return linked program
+   */
+  @Benchmark
+  public LinkedProgram assembleAndLink() {
+    return Programs.link(this.machine, this.file);
+  }
+
+}
@@ -0,0 +1,88 @@
+/*
+Copyright (C) 2018-2019 Andres Castellanos
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <https://www.gnu.org/licenses/>
+*/
+
+package vsim.bench;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import vsim.Globals;
+import vsim.Machine;
+import vsim.assembler.statements.Statement;
+import vsim.linker.LinkedProgram;
+import vsim.riscv.MemorySegments;
+import vsim.riscv.instructions.MachineCode;
+import vsim.utils.Data;
+
+
+/**
+ * Benchmark of {@link vsim.riscv.InstructionSet#decode}, the decoder used by self-modifying code, cycling through the
+ * machine codes of a generated program.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DecodeBenchmark {
+
+  /** machine codes to decode */
+  private MachineCode[] codes;
+  /** index of the next machine code */
+  private int index;
+
+  /**
+   * Assembles a program and collects its machine codes.
+   *
+   * @throws IOException if the program could not be written
+   */
+  @Setup
+  public void setup() throws IOException {
+    Machine machine = new Machine();
+    LinkedProgram program = Programs.link(machine, Programs.write(Programs.source(1024, false)));
+    ArrayList<MachineCode> codes = new ArrayList<MachineCode>();
+    Statement stmt;
+    for (int pc = MemorySegments.TEXT_SEGMENT_BEGIN; (stmt = program.getStatement(pc)) != null; pc += Data.WORD_LENGTH)
+      codes.add(stmt.result());
+    this.codes = codes.toArray(new MachineCode[0]);
+    this.index = 0;
+  }
+
+  /**
+   * Decodes the next machine code.
+   *
+   * @return instruction mnemonic
+   */
+  @Benchmark
+  public String decode() {
+    MachineCode code = this.codes[this.index];
+    this.index = (this.index + 1) % this.codes.length;
+    return Globals.iset.decode(code);
+  }
+
+}
@@ -0,0 +1,118 @@
+/*
+Copyright (C) 2018-2019 Andres Castellanos
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <https://www.gnu.org/licenses/>
+*/
+
+package vsim.bench;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import vsim.Globals;
+import vsim.Machine;
+import vsim.assembler.statements.Statement;
+import vsim.linker.LinkedProgram;
+import vsim.riscv.MemorySegments;
+import vsim.riscv.exceptions.SimulationException;
+import vsim.riscv.instructions.DecodedInstruction;
+import vsim.riscv.instructions.Instruction;
+import vsim.riscv.instructions.MachineCode;
+import vsim.utils.Data;
+
+
+/**
+ * Benchmarks of the dispatch of one instruction of every format, from a predecoded instruction like the simulator and
+ * from a machine code like self-modifying code.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExecuteBenchmark {
+
+  /** instruction mnemonic, one of every format: R, I, S, B, U, J and R4 */
+  @Param({"add", "addi", "sw", "beq", "lui", "jal", "fmadd.s"})
+  public String mnemonic;
+
+  /** machine where the instruction is executed */
+  private Machine machine;
+  /** instruction under test */
+  private Instruction instruction;
+  /** machine code of the instruction */
+  private MachineCode code;
+  /** predecoded instruction */
+  private DecodedInstruction decoded;
+
+  /**
+   * Assembles a program and takes its first instruction with the benchmark mnemonic.
+   *
+   * @throws IOException if the program could not be written
+   * @throws SimulationException if the instruction could not be fetched
+   */
+  @Setup
+  public void setup() throws IOException, SimulationException {
+    this.machine = new Machine();
+    LinkedProgram program = Programs.link(this.machine, Programs.write(Programs.source(64, false)));
+    int pc = MemorySegments.TEXT_SEGMENT_BEGIN;
+    Statement stmt;
+    while ((stmt = program.getStatement(pc)) != null) {
+      if (stmt.getMnemonic().equals(this.mnemonic)) {
+        this.machine.getRegfile().setProgramCounter(pc);
+        this.instruction = Globals.iset.get(this.mnemonic);
+        this.code = stmt.result();
+        this.decoded = program.fetch(this.machine);
+        break;
+      }
+      pc += Data.WORD_LENGTH;
+    }
+    if (this.instruction == null)
+      throw new IllegalStateException("instruction not found in benchmark program: " + this.mnemonic);
+    // stores use s0 as base address
+    this.machine.getRegfile().setRegister("s0", MemorySegments.STATIC_SEGMENT);
+  }
+
+  /**
+   * Executes the predecoded instruction.
+   *
+   * @throws SimulationException if the instruction fails
+   */
+  @Benchmark
+  public void executeDecoded() throws SimulationException {
+    this.decoded.execute(this.machine);
+  }
+
+  /**
+   * Decodes the fields of the machine code and executes it.
+   *
+   * @throws SimulationException if the instruction fails
+   */
+  @Benchmark
+  public void executeCode() throws SimulationException {
+    this.instruction.execute(this.machine, this.code);
+  }
+
+}
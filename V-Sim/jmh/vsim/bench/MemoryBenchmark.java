@@ -0,0 +1,150 @@
+/*
+Copyright (C) 2018-2019 Andres Castellanos
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <https://www.gnu.org/licenses/>
+*/
+
+package vsim.bench;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import vsim.riscv.MemorySegments;
+import vsim.riscv.exceptions.SimulationException;
+import vsim.riscv.hardware.Memory;
+
+
+/**
+ * Benchmarks of the byte, half and word loads and stores of the main memory, walking a working set of the static
+ * segment, so small working sets stay in one page and large ones touch many pages.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MemoryBenchmark {
+
+  /** access stride in bytes, every access is word aligned */
+  private static final int STRIDE = 4;
+
+  /** working set size in bytes, a power of 2 */
+  @Param({"4096", "1048576", "16777216"})
+  public int size;
+
+  /** memory under test */
+  private Memory memory;
+  /** offset of the next access */
+  private int offset;
+  /** value stored */
+  private int value;
+
+  /**
+   * Creates the memory and writes the whole working set, so loads never see missing pages.
+   *
+   * @throws SimulationException if the working set is not writable
+   */
+  @Setup
+  public void setup() throws SimulationException {
+    this.memory = new Memory();
+    for (int i = 0; i < this.size; i += STRIDE)
+      this.memory.storeWord(MemorySegments.STATIC_SEGMENT + i, i);
+    this.offset = 0;
+    this.value = 0;
+  }
+
+  /**
+   * Gets the address of the next access.
+   *
+   * @return word aligned address in the working set
+   */
+  private int next() {
+    this.offset = (this.offset + STRIDE) & (this.size - 1);
+    return MemorySegments.STATIC_SEGMENT + this.offset;
+  }
+
+  /**
+   * Loads a byte.
+   *
+   * @return loaded value
+   * @throws SimulationException if the address is invalid
+   */
+  @Benchmark
+  public int loadByte() throws SimulationException {
+    return this.memory.loadByte(this.next());
+  }
+
+  /**
+   * Loads a half.
+   *
+   * @return loaded value
+   * @throws SimulationException if the address is invalid
+   */
+  @Benchmark
+  public int loadHalf() throws SimulationException {
+    return this.memory.loadHalf(this.next());
+  }
+
+  /**
+   * Loads a word.
+   *
+   * @return loaded value
+   * @throws SimulationException if the address is invalid
+   */
+  @Benchmark
+  public int loadWord() throws SimulationException {
+    return this.memory.loadWord(this.next());
+  }
+
+  /**
+   * Stores a byte.
+   *
+   * @throws SimulationException if the address is invalid
+   */
+  @Benchmark
+  public void storeByte() throws SimulationException {
+    this.memory.storeByte(this.next(), this.value++);
+  }
+
+  /**
+   * Stores a half.
+   *
+   * @throws SimulationException if the address is invalid
+   */
+  @Benchmark
+  public void storeHalf() throws SimulationException {
+    this.memory.storeHalf(this.next(), this.value++);
+  }
+
+  /**
+   * Stores a word.
+   *
+   * @throws SimulationException if the address is invalid
+   */
+  @Benchmark
+  public void storeWord() throws SimulationException {
+    this.memory.storeWord(this.next(), this.value++);
+  }
+
+}
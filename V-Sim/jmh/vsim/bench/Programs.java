@@ -0,0 +1,127 @@
+/*
+Copyright (C) 2018-2019 Andres Castellanos
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <https://www.gnu.org/licenses/>
+*/
+
+package vsim.bench;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import vsim.Errors;
+import vsim.Machine;
+import vsim.assembler.Assembler;
+import vsim.linker.LinkedProgram;
+import vsim.linker.Linker;
+
+
+/**
+ * The class Programs generates the RISC-V programs used by the benchmarks. Programs are a repeated mix of R, I, S, B,
+ * U, J and R4 format instructions, with loads and stores to a static buffer, so every instruction format and the
+ * memory are exercised.
+ */
+final class Programs {
+
+  /** instruction mix, %1$d is a static buffer offset and %2$d a unique label number */
+  private static final String[] MIX = {
+      "add t0, t1, t2",
+      "addi t3, t0, 5",
+      "sw t3, %1$d(s0)",
+      "lw t4, %1$d(s0)",
+      "sub t5, t4, t1",
+      "lui t6, 0x12",
+      "xor t0, t5, t6",
+      "beq t0, zero, b%2$d\nb%2$d:",
+      "slli t3, t2, 2",
+      "mul t4, t1, t2",
+      "fadd.s ft0, ft1, ft2",
+      "fmadd.s ft3, ft1, ft2, ft0",
+      "sb t1, %1$d(s0)",
+      "lbu t5, %1$d(s0)",
+      "jal zero, j%2$d\nj%2$d:",
+      "auipc t6, 0"};
+
+  /** static buffer size in bytes */
+  private static final int BUFFER = 256;
+
+  /**
+   * Generates a program.
+   *
+   * @param size number of instructions of the program body
+   * @param loop true = the body runs forever, false = the program exits after the body
+   * @return program source
+   */
+  public static String source(int size, boolean loop) {
+    StringBuilder s = new StringBuilder();
+    s.append(".data\n");
+    s.append("buf: .space ").append(BUFFER).append('\n');
+    s.append(".text\n");
+    s.append(".globl main\n");
+    s.append("main:\n");
+    s.append("  la s0, buf\n");
+    s.append("  li t1, 7\n");
+    s.append("  li t2, 3\n");
+    s.append("  fcvt.s.w ft1, t1\n");
+    s.append("  fcvt.s.w ft2, t2\n");
+    s.append("loop:\n");
+    for (int i = 0; i < size; i++) {
+      String inst = String.format(MIX[i % MIX.length], (i * 4) % BUFFER, i);
+      s.append("  ").append(inst).append('\n');
+    }
+    if (loop)
+      s.append("  j loop\n");
+    else {
+      s.append("  li a0, 10\n");
+      s.append("  ecall\n");
+    }
+    return s.toString();
+  }
+
+  /**
+   * Writes a program to a temporary file, deleted when the JVM exits.
+   *
+   * @param source program source
+   * @return program file
+   * @throws IOException if the file could not be written
+   */
+  public static File write(String source) throws IOException {
+    File file = File.createTempFile("vsim-bench", ".s");
+    file.deleteOnExit();
+    Files.write(file.toPath(), source.getBytes(StandardCharsets.UTF_8));
+    return file;
+  }
+
+  /**
+   * Assembles and links a program in a machine.
+   *
+   * @param machine machine where the program is linked, it is reset first
+   * @param file program file
+   * @return linked program
+   * @throws IllegalStateException if the program has errors
+   */
+  public static LinkedProgram link(Machine machine, File file) {
+    ArrayList<File> files = new ArrayList<File>();
+    files.add(file);
+    Errors.clear();
+    machine.reset();
+    LinkedProgram program = Linker.link(machine, Assembler.assemble(machine, files));
+    if (program == null)
+      throw new IllegalStateException("benchmark program has errors: " + file);
+    return program;
+  }
+
+}
@@ -0,0 +1,112 @@
+/*
+Copyright (C) 2018-2019 Andres Castellanos
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <https://www.gnu.org/licenses/>
+*/
+
+package vsim.bench;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import vsim.riscv.hardware.RVFRegisterFile;
+import vsim.riscv.hardware.RVIRegisterFile;
+
+
+/**
+ * Benchmarks of the RVI and RVF register file reads and writes, cycling through all the registers.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RegisterFileBenchmark {
+
+  /** RVI register file under test */
+  private RVIRegisterFile regfile;
+  /** RVF register file under test */
+  private RVFRegisterFile fregfile;
+  /** number of the next register */
+  private int number;
+  /** value written */
+  private int value;
+
+  /**
+   * Creates the register files.
+   */
+  @Setup
+  public void setup() {
+    this.regfile = new RVIRegisterFile();
+    this.fregfile = new RVFRegisterFile();
+    this.number = 0;
+    this.value = 0;
+  }
+
+  /**
+   * Gets the number of the next register.
+   *
+   * @return register number, 0 to 31
+   */
+  private int next() {
+    this.number = (this.number + 1) & 31;
+    return this.number;
+  }
+
+  /**
+   * Reads a RVI register.
+   *
+   * @return register value
+   */
+  @Benchmark
+  public int getRVI() {
+    return this.regfile.getRegister(this.next());
+  }
+
+  /**
+   * Writes a RVI register.
+   */
+  @Benchmark
+  public void setRVI() {
+    this.regfile.setRegister(this.next(), this.value++);
+  }
+
+  /**
+   * Reads a RVF register.
+   *
+   * @return register value
+   */
+  @Benchmark
+  public float getRVF() {
+    return this.fregfile.getRegisterFloat(this.next());
+  }
+
+  /**
+   * Writes a RVF register.
+   */
+  @Benchmark
+  public void setRVF() {
+    this.fregfile.setRegister(this.next(), (float) this.value++);
+  }
+
+}
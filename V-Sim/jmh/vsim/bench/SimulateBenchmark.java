@@ -0,0 +1,170 @@
+/*
+Copyright (C) 2018-2019 Andres Castellanos
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <https://www.gnu.org/licenses/>
+*/
+
+package vsim.bench;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import vsim.Machine;
+import vsim.linker.LinkedProgram;
+import vsim.simulator.Budget;
+import vsim.simulator.Debugger;
+import vsim.simulator.Simulator;
+import vsim.utils.Console;
+import vsim.utils.IO;
+
+
+/**
+ * Benchmarks of the simulation throughput of {@link vsim.simulator.Simulator#simulate},
+ * {@link vsim.simulator.Debugger#go} and {@link vsim.simulator.Debugger#step}, running a generated program that loops
+ * forever. Every invocation executes {@link #STEPS} instructions, so the score is the time per simulated instruction.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SimulateBenchmark {
+
+  /** instructions executed by every invocation */
+  public static final int STEPS = 100000;
+
+  /** number of instructions of the program loop */
+  @Param({"16", "1024", "65536"})
+  public int size;
+
+  /** machine of the simulator */
+  private Machine simulated;
+  /** program of the simulator */
+  private LinkedProgram program;
+  /** machine of the debugger, the debugger logs every write so it does not share the simulator machine */
+  private Machine debugged;
+  /** debugger */
+  private Debugger debugger;
+  /** address of the first instruction of the program loop */
+  private int loop;
+  /** number of instructions of the program loop, including the jump back */
+  private int length;
+  /** position in the program loop where the continued debugger stopped */
+  private int position;
+  /** machine of the continued debugger */
+  private Machine continued;
+  /** continued debugger, stopped by a breakpoint every {@link #STEPS} instructions */
+  private Debugger continuer;
+
+  /**
+   * Links the program in both machines and starts the debugger. Program output and the budget summary are discarded.
+   *
+   * @throws IOException if the program could not be written
+   */
+  @Setup
+  public void setup() throws IOException {
+    File file = Programs.write(Programs.source(this.size, true));
+    this.simulated = new Machine();
+    this.program = Programs.link(this.simulated, file);
+    this.debugged = new Machine();
+    LinkedProgram debugProgram = Programs.link(this.debugged, file);
+    debugProgram.reset(this.debugged);
+    this.debugger = new Debugger(this.debugged, debugProgram);
+    this.continued = new Machine();
+    LinkedProgram continuedProgram = Programs.link(this.continued, file);
+    continuedProgram.reset(this.continued);
+    this.continuer = new Debugger(this.continued, continuedProgram);
+    this.loop = this.continued.getLocal().values().iterator().next().get("loop");
+    this.length = this.size + 1;
+    // setup runs in the benchmark thread, the console is attached to it
+    new Console(new byte[0], IO.nullout, IO.nullout).attach();
+    // run the program prologue, the continued debugger always stops inside the loop
+    this.continuer.breakpoint(String.valueOf(this.loop));
+    this.continuer.go();
+    this.position = 0;
+  }
+
+  /**
+   * Detaches the console of the benchmark thread.
+   */
+  @TearDown
+  public void tearDown() {
+    Console.detach();
+  }
+
+  /**
+   * Simulates {@link #STEPS} instructions from the start of the program, until the budget is exhausted.
+   *
+   * @return exit status
+   */
+  @Benchmark
+  @OperationsPerInvocation(STEPS)
+  public int simulate() {
+    try {
+      Simulator.simulate(this.simulated, this.program, new Budget(STEPS, 0));
+    } catch (Console.Exit e) {
+      return e.getStatus();
+    }
+    return this.simulated.getExitStatus();
+  }
+
+  /**
+   * Continues the debugger until a breakpoint that is reached after {@link #STEPS} instructions, like the continue
+   * command. The breakpoint is set at the loop position {@link #STEPS} instructions ahead and ignores the earlier
+   * passes over it.
+   *
+   * @return program counter where the debugger stopped
+   */
+  @Benchmark
+  @OperationsPerInvocation(STEPS)
+  public int go() {
+    this.position = (int) ((this.position + (long) STEPS) % this.length);
+    String address = String.valueOf(this.loop + this.position * 4);
+    this.continuer.clear();
+    this.continuer.breakpoint(address);
+    this.continuer.ignore(address, String.valueOf((STEPS - 1) / this.length));
+    this.continuer.go();
+    return this.continued.getRegfile().getProgramCounter();
+  }
+
+  /**
+   * Steps the debugger {@link #STEPS} times with {@link vsim.simulator.Debugger#step}, printing nothing. The continue
+   * command only steps this way over self-modifying code.
+   *
+   * @return true if every instruction was executed
+   */
+  @Benchmark
+  @OperationsPerInvocation(STEPS)
+  public boolean step() {
+    boolean stepped = true;
+    for (int i = 0; i < STEPS; i++)
+      stepped &= this.debugger.step(true);
+    return stepped;
+  }
+
+}
@@ -28,8 +28,11 @@ import vsim.utils.Message;
  */
 public final class Errors {
 
-  /** V-Sim assembler, linker and runtime error list */
-  private static final ArrayList<String> errors = new ArrayList<String>();
+  /**
+   * V-Sim assembler, linker and runtime error list, one per thread so machines assembled in different threads do not
+   * mix their errors
+   */
+  private static final ThreadLocal<ArrayList<String>> errors = ThreadLocal.withInitial(ArrayList::new);
 
   /**
    * This method adds a raw error message to the error list {@link vsim.Errors#errors}.
@@ -37,8 +40,9 @@ public final class Errors {
    * @param msg an error message
    */
   public static void add(String msg) {
-    if (!Errors.errors.contains(msg))
-      Errors.errors.add(msg);
+    ArrayList<String> errors = Errors.errors.get();
+    if (!errors.contains(msg))
+      errors.add(msg);
   }
 
   /**
@@ -86,22 +90,23 @@ public final class Errors {
    * @return true if there are errors, false otherwise.
    */
   public static boolean report() {
-    if (Errors.errors.size() > 0) {
+    ArrayList<String> errors = Errors.errors.get();
+    if (errors.size() > 0) {
       // print every error message
-      for (String msg : Errors.errors)
+      for (String msg : errors)
         Message.error(msg + System.getProperty("line.separator"));
       // report how many errors ocurred
       if (Settings.GUI)
-        IO.guistderr.postError(Errors.errors.size() + " errors(s)" + System.getProperty("line.separator"));
+        IO.guistderr.postError(errors.size() + " errors(s)" + System.getProperty("line.separator"));
       else {
-        IO.stderr.println(Errors.errors.size() + " errors(s)");
+        IO.stderr.println(errors.size() + " errors(s)");
         IO.stderr.flush();
       }
       // clear messages
-      Errors.errors.clear();
+      errors.clear();
       // exit only in CLI mode
       if (!Settings.GUI)
-        System.exit(1);
+        IO.exit(1);
       return true;
     }
     return false;
@@ -111,7 +116,7 @@ public final class Errors {
    * This method clears all the errors in the error list {@link vsim.Errors#errors}.
    */
   public static void clear() {
-    Errors.errors.clear();
+    Errors.errors.get().clear();
   }
 
 }
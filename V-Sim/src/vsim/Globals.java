@@ -17,13 +17,8 @@ along with this program.  If not, see <https://www.gnu.org/licenses/>
 
 package vsim;
 
-import java.util.Hashtable;
-import vsim.assembler.SymbolTable;
 import vsim.gui.components.ExceptionDialog;
 import vsim.riscv.InstructionSet;
-import vsim.riscv.hardware.Memory;
-import vsim.riscv.hardware.RVFRegisterFile;
-import vsim.riscv.hardware.RVIRegisterFile;
 
 
 /**
@@ -40,54 +35,13 @@ public final class Globals {
   /** Help URL */
   public static final String HELP = "https://git.io/fhnyL";
 
-  /** RISC-V (RV32) principal memory (RAM) */
-  public static final Memory memory = Memory.ram;
-
-  /** RV32I register file */
-  public static final RVIRegisterFile regfile = RVIRegisterFile.regfile;
-
-  /** RV32F register file */
-  public static final RVFRegisterFile fregfile = RVFRegisterFile.regfile;
-
-  /** RISC-V (RV32IMF) instruction set */
+  /** RISC-V (RV32IMF) instruction set, instructions are stateless and shared by all machines */
   public static final InstructionSet iset = InstructionSet.insts;
 
-  /** .globl symbol table (used for debugging and global symbols) */
-  public static final SymbolTable globl = new SymbolTable();
-
-  /** local symbol table per file (used for debugging and local symbols) */
-  public static Hashtable<String, SymbolTable> local = new Hashtable<String, SymbolTable>();
+  /** machine simulated by the command line and the GUI */
+  public static final Machine machine = new Machine();
 
   /** Exception dialog available only in GUI */
   public static ExceptionDialog exceptionDialog = null;
 
-  /**
-   * This method resets the simulator state
-   */
-  public static void resetState() {
-    // reset memory
-    Globals.memory.reset();
-    // reset registers
-    Globals.regfile.reset();
-    // reset floating point registers
-    Globals.fregfile.reset();
-  }
-
-  /**
-   * This method resets the local and global symbol tables
-   */
-  public static void resetST() {
-    Globals.globl.reset();
-    Globals.local = new Hashtable<String, SymbolTable>();
-  }
-
-  /**
-   * This method reset the simulator state and global and local symbol tables
-   */
-  public static void reset() {
-    Errors.clear();
-    Globals.resetST();
-    Globals.resetState();
-  }
-
 }
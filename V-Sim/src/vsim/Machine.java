@@ -0,0 +1,295 @@
+/*
+Copyright (C) 2018-2019 Andres Castellanos
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <https://www.gnu.org/licenses/>
+*/
+
+package vsim;
+
+import java.util.Hashtable;
+import java.util.Random;
+import vsim.assembler.SymbolTable;
+import vsim.riscv.hardware.Clock;
+import vsim.riscv.hardware.Memory;
+import vsim.riscv.hardware.RVFRegisterFile;
+import vsim.riscv.hardware.RVIRegisterFile;
+import vsim.simulator.Budget;
+import vsim.simulator.Status;
+import vsim.utils.FS;
+import vsim.utils.Tape;
+
+
+/**
+ * The Machine class contains the state of a simulated RISC-V machine, i.e memory, register files, symbol tables, open
+ * files and exit status. Machines do not share any state, so many programs can be assembled, linked and simulated at
+ * the same time, each one in its own machine and thread.
+ */
+public final class Machine {
+
+  /** RISC-V (RV32) principal memory (RAM) */
+  private final Memory memory;
+  /** RV32I register file */
+  private final RVIRegisterFile regfile;
+  /** RV32F register file */
+  private final RVFRegisterFile fregfile;
+  /** .globl symbol table (used for debugging and global symbols) */
+  private final SymbolTable globl;
+  /** local symbol table per file (used for debugging and local symbols) */
+  private final Hashtable<String, SymbolTable> local;
+  /** open files */
+  private final FS fs;
+  /** random number generator used by the random ecalls */
+  private final Random random;
+  /** virtual clock used by the time ecalls in virtual time mode */
+  private final Clock clock;
+  /** log of nondeterministic inputs, recorded or replayed */
+  private Tape tape;
+  /** budget of the running program, null if the run is not limited */
+  private Budget budget;
+  /** if the program executed an exit/exit2 ecall, checked from the simulation loop */
+  private volatile boolean exit;
+  /** program exit status */
+  private int status;
+
+  /**
+   * Creates a new machine with an empty memory and all registers in their reset values.
+   */
+  public Machine() {
+    this(new Memory(), new SymbolTable(), new Hashtable<String, SymbolTable>());
+  }
+
+  /**
+   * Creates a new machine with a given memory and symbol tables and all registers in their reset values.
+   *
+   * @param memory machine memory
+   * @param globl global symbol table
+   * @param local local symbol tables by filename
+   */
+  private Machine(Memory memory, SymbolTable globl, Hashtable<String, SymbolTable> local) {
+    this.memory = memory;
+    this.regfile = new RVIRegisterFile();
+    this.fregfile = new RVFRegisterFile();
+    this.globl = globl;
+    this.local = local;
+    this.fs = new FS(this.memory);
+    this.random = new Random();
+    this.clock = new Clock();
+    this.tape = Tape.OFF;
+    this.budget = null;
+    this.exit = false;
+    this.status = 0;
+  }
+
+  /**
+   * Forks this machine, e.g a machine with a linked program that is not running yet, to run the same program many
+   * times without assembling and linking it again. The clone starts with a copy of the registers and shares the memory
+   * pages with this machine, copying them only when they are written (see {@link vsim.riscv.hardware.Memory#fork}).
+   * The symbol tables are shared too, so the symbol tables of a clone must not be reset. Open files, exit status,
+   * random numbers, the virtual clock, the input tape and the run budget are not inherited.
+   *
+   * @return machine clone
+   */
+  public synchronized Machine fork() {
+    Machine clone = new Machine(this.memory.fork(), this.globl, this.local);
+    clone.regfile.load(this.regfile.save());
+    clone.regfile.setProgramCounter(this.regfile.getProgramCounter());
+    clone.fregfile.load(this.fregfile.save());
+    return clone;
+  }
+
+  /**
+   * Gets the machine memory.
+   *
+   * @return machine memory
+   */
+  public Memory getMemory() {
+    return this.memory;
+  }
+
+  /**
+   * Gets the RV32I register file.
+   *
+   * @return RV32I register file
+   */
+  public RVIRegisterFile getRegfile() {
+    return this.regfile;
+  }
+
+  /**
+   * Gets the RV32F register file.
+   *
+   * @return RV32F register file
+   */
+  public RVFRegisterFile getFregfile() {
+    return this.fregfile;
+  }
+
+  /**
+   * Gets the global symbol table.
+   *
+   * @return global symbol table
+   */
+  public SymbolTable getGlobl() {
+    return this.globl;
+  }
+
+  /**
+   * Gets the local symbol tables by filename.
+   *
+   * @return local symbol tables
+   */
+  public Hashtable<String, SymbolTable> getLocal() {
+    return this.local;
+  }
+
+  /**
+   * Gets the machine file system.
+   *
+   * @return machine file system
+   */
+  public FS getFS() {
+    return this.fs;
+  }
+
+  /**
+   * Gets the random number generator used by the random ecalls.
+   *
+   * @return random number generator
+   */
+  public Random getRandom() {
+    return this.random;
+  }
+
+  /**
+   * Gets the virtual clock used by the time ecalls.
+   *
+   * @return virtual clock
+   */
+  public Clock getClock() {
+    return this.clock;
+  }
+
+  /**
+   * Gets the tape of nondeterministic inputs used by the ecalls.
+   *
+   * @return input tape, {@link vsim.utils.Tape#OFF} if inputs are not recorded or replayed
+   */
+  public Tape getTape() {
+    return this.tape;
+  }
+
+  /**
+   * Sets the tape of nondeterministic inputs used by the ecalls.
+   *
+   * @param tape input tape
+   */
+  public void setTape(Tape tape) {
+    this.tape = tape;
+  }
+
+  /**
+   * Gets the budget of the running program, used by the sleep ecall to wake up at the run deadline.
+   *
+   * @return run budget or null if the run is not limited
+   */
+  public Budget getBudget() {
+    return this.budget;
+  }
+
+  /**
+   * Sets the budget of the running program.
+   *
+   * @param budget run budget or null if the run is not limited
+   */
+  public void setBudget(Budget budget) {
+    this.budget = budget;
+  }
+
+  /**
+   * Sets the exit flag, updating the {@link vsim.simulator.Status#EXIT} property too (GUI mode only).
+   *
+   * @param exit if the simulation executed an exit/exit2 ecall
+   */
+  public void setExit(boolean exit) {
+    this.exit = exit;
+    if (Settings.GUI)
+      Status.EXIT.set(exit);
+  }
+
+  /**
+   * Terminates the program with an exit status, called by the exit/exit2 ecalls.
+   *
+   * @param status program exit status
+   */
+  public void exit(int status) {
+    this.status = status;
+    this.setExit(true);
+  }
+
+  /**
+   * Verifies if the simulation executed an exit/exit2 ecall.
+   *
+   * @return true if the program exited, false otherwise
+   */
+  public boolean hasExited() {
+    return this.exit;
+  }
+
+  /**
+   * Gets the program exit status.
+   *
+   * @return program exit status
+   */
+  public int getExitStatus() {
+    return this.status;
+  }
+
+  /**
+   * This method resets the machine state.
+   */
+  public void resetState() {
+    // reset memory
+    this.memory.reset();
+    // reset registers
+    this.regfile.reset();
+    // reset floating point registers
+    this.fregfile.reset();
+    // a new run starts at virtual time 0
+    this.clock.reset();
+    // a new run reads the inputs from the start of the tape
+    this.tape.setPosition(0);
+    // clear exit status
+    this.status = 0;
+    this.setExit(false);
+  }
+
+  /**
+   * This method resets the local and global symbol tables.
+   */
+  public void resetST() {
+    this.globl.reset();
+    this.local.clear();
+  }
+
+  /**
+   * This method resets the machine state and the global and local symbol tables.
+   */
+  public void reset() {
+    this.resetST();
+    // discard memory snapshot of the previous program
+    this.memory.clear();
+    this.resetState();
+  }
+
+}
@@ -39,6 +39,9 @@ public final class Settings {
   /** history length (backstep) */
   public static int HIST_SIZE = 2000;
 
+  /** number of instructions between reverse execution checkpoints */
+  public static int CHECKPOINT_INTERVAL = 10000;
+
   /** global start label, set with -start flag */
   public static String START = "main";
 
@@ -65,6 +68,72 @@ public final class Settings {
   /** dump static data to a file, set with -data flag */
   public static String DATA = null;
 
+  /** max number of instructions to execute (0 = no limit), set with -maxinsts flag */
+  public static long MAX_INSTS = 0;
+
+  /** max wall clock time of a run in milliseconds (0 = no limit), set with -timeout flag */
+  public static long TIMEOUT = 0;
+
+  /** if the sleep and time ecalls use a virtual clock, set with -virtualtime flag */
+  public static boolean VIRTUAL_TIME = false;
+
+  /** instructions per virtual millisecond (0 = only sleeps advance the clock), set with -timerate flag */
+  public static long TIME_RATE = 0;
+
+  /** directory or glob pattern of programs to run in batch mode, set with -batch flag */
+  public static String BATCH = null;
+
+  /** directory of standard inputs to run the program against, set with -sweep flag */
+  public static String SWEEP = null;
+
+  /** directory or glob pattern of workloads to measure in bench mode, set with -bench flag */
+  public static String BENCH = null;
+
+  /** number of bench mode warm-up runs per workload, set with -warmup flag */
+  public static int WARMUP = 3;
+
+  /** number of bench mode measured runs per workload, set with -iterations flag */
+  public static int ITERATIONS = 5;
+
+  /** bench mode baseline file to compare against, set with -baseline flag */
+  public static String BASELINE = null;
+
+  /** bench mode file where the scores are saved as a new baseline, set with -savebaseline flag */
+  public static String SAVE_BASELINE = null;
+
+  /** number of batch mode worker threads, set with -workers flag */
+  public static int WORKERS = Runtime.getRuntime().availableProcessors();
+
+  /** number of batch mode worker processes (0 = run in this JVM), set with -procs flag */
+  public static int PROCS = 0;
+
+  /** batch worker process mode, set with -worker flag */
+  public static boolean WORKER = false;
+
+  /** batch mode JSON report file, set with -json flag */
+  public static String JSON = null;
+
+  /** batch mode JUnit XML report file, set with -junit flag */
+  public static String JUNIT = null;
+
+  /** result cache directory (null = no cache), set with -cache flag */
+  public static String CACHE = null;
+
+  /** max result cache size in bytes, set with -cachesize flag */
+  public static long CACHE_SIZE = 256L << 20;
+
+  /** ignore cached results but store fresh ones, set with -nocache flag */
+  public static boolean NOCACHE = false;
+
+  /** simulation server mode, set with -server flag */
+  public static boolean SERVER = false;
+
+  /** simulation server TCP port (-1 = no server), set with -server or -connect flags */
+  public static int PORT = -1;
+
+  /** max number of server jobs waiting for a worker, set with -queue flag */
+  public static int QUEUE = 256;
+
 // GUI ONLY SETTINGS
 
   /** if running in GUI mode */
@@ -22,7 +22,13 @@ import java.util.ArrayList;
 import com.sun.javafx.application.LauncherImpl;
 import vsim.gui.Gui;
 import vsim.gui.Preloader;
+import vsim.server.Client;
+import vsim.server.Server;
+import vsim.server.Worker;
+import vsim.simulator.Batch;
+import vsim.simulator.Bench;
 import vsim.simulator.Simulator;
+import vsim.simulator.Sweep;
 import vsim.utils.Cmd;
 
 
@@ -40,8 +46,26 @@ public final class VSim {
       // parse arguments
       ArrayList<File> files = Cmd.parse(args);
       Cmd.title();
+      // run a batch of programs
+      if (Settings.BATCH != null)
+        Batch.batch(Settings.BATCH);
+      // measure the simulator speed
+      else if (Settings.BENCH != null)
+        Bench.bench(Settings.BENCH);
+      // run a program with many inputs
+      else if (Settings.SWEEP != null)
+        Sweep.sweep(Settings.SWEEP, files);
+      // run batch jobs for a coordinator
+      else if (Settings.WORKER)
+        Worker.serve();
+      // start a simulation server
+      else if (Settings.SERVER)
+        Server.serve(Settings.PORT);
+      // run files on a simulation server
+      else if (Settings.PORT >= 0)
+        Client.connect(Settings.PORT, files);
       // only if files are provided
-      if (files.size() > 0) {
+      else if (files.size() > 0) {
         // simulate/debug program
         if (!Settings.DEBUG)
           Simulator.simulate(files);
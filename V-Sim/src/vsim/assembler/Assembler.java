@@ -20,7 +20,7 @@ package vsim.assembler;
 import java.io.File;
 import java.util.ArrayList;
 import vsim.Errors;
-import vsim.Globals;
+import vsim.Machine;
 import vsim.assembler.statements.Statement;
 
 
@@ -29,23 +29,16 @@ import vsim.assembler.statements.Statement;
  */
 public final class Assembler {
 
-  /** current assembler segment */
-  public static Segment segment = Segment.TEXT;
-
-  /** current assembler program */
-  public static Program program = null;
-
-  /** current assembler filename */
-  public static String filename = null;
-
   /**
-   * This method is used to assemble all the RISC-V files and it is called before the linkage process.
+   * This method is used to assemble all the RISC-V files and it is called before the linkage process. The symbols of
+   * the programs are added to the symbol tables of the given machine.
    *
+   * @param machine machine where the programs will be linked
    * @param files the RISC-V files to assemble
    * @see vsim.assembler.Program
    * @return all the assembled files
    */
-  public static ArrayList<Program> assemble(ArrayList<File> files) {
+  public static ArrayList<Program> assemble(Machine machine, ArrayList<File> files) {
     ArrayList<Program> programs = new ArrayList<Program>();
     // assemble all files
     if (files.size() > 0) {
@@ -53,16 +46,10 @@ public final class Assembler {
         // ignore empty files
         if (file.length() == 0)
           continue;
-        // current filename
-        Assembler.filename = file.getAbsolutePath();
-        // start in text segment
-        Assembler.segment = Segment.TEXT;
         // create a new RISC-V Program
-        Program program = new Program(Assembler.filename);
-        // set current program
-        Assembler.program = program;
+        Program program = new Program(file.getAbsolutePath());
         // parse line by line all file
-        Parser.parse(file);
+        Parser.parse(machine, program, file);
         // add this processed program only if it has statements
         if (program.getTextSize() > 0 || program.getDataSize() > 0)
           programs.add(program);
@@ -70,16 +57,16 @@ public final class Assembler {
     }
     // do first pass
     for (Program program : programs) {
-      // add program ST to Globals.local
+      // add program ST to the machine local symbol tables
       SymbolTable table = program.getST();
       String filename = program.getFilename();
-      Globals.local.put(filename, table);
+      machine.getLocal().put(filename, table);
       // check globals of program
       for (String global : program.getGlobals()) {
         Symbol sym = table.getSymbol(global);
         DebugInfo debug = program.getGlobalDebug(global);
         if (sym != null) {
-          if (!Globals.globl.add(global, sym))
+          if (!machine.getGlobl().add(global, sym))
             Errors.add(debug, "assembler", "'" + global + "' already defined as global in a different file");
         } else
           Errors.add(debug, "assembler", "'" + global + "' declared global label but not defined");
@@ -88,17 +75,13 @@ public final class Assembler {
     // try to resolve all statements and collect errors if any
     for (Program program : programs) {
       for (Statement stmt : program.getStatements())
-        stmt.resolve();
+        stmt.resolve(machine);
     }
     // no unlinked programs ?
     if (programs.size() == 0)
       Errors.add("assembler: no valid RISC-V source file was passed");
     // report errors
     if (!Errors.report()) {
-      // clean all
-      Assembler.program = null;
-      Assembler.filename = null;
-      Assembler.segment = Segment.TEXT;
       programs.trimToSize();
       // return all processed programs, now linking ?
       return programs;
@@ -46,11 +46,11 @@ public final class Lexer implements java_cup.runtime.Scanner {
   /**
    * Translates characters to character classes
    */
-  private static final String ZZ_CMAP_PACKED = "\11\0\1\105\1\7\1\11\1\11\1\10\22\0\1\105\1\0\1\5"
-      + "\1\13\3\0\1\12\1\3\1\4\1\0\1\104\1\2\1\104\1\1" + "\1\0\1\76\1\74\1\35\1\75\1\40\2\77\1\100\1\101\1\73"
-      + "\1\103\1\13\5\0\1\53\1\42\1\56\1\60\1\43\1\70\1\45" + "\1\63\1\54\1\57\1\72\1\47\1\62\1\51\1\65\1\55\1\44"
-      + "\1\66\1\64\1\50\1\46\1\61\1\71\1\67\1\102\1\52\1\0" + "\1\6\2\0\1\102\1\0\1\22\1\30\1\23\1\37\1\15\1\34"
-      + "\1\27\1\32\1\24\1\57\1\72\1\33\1\62\1\26\1\17\1\21" + "\1\44\1\16\1\20\1\25\1\46\1\106\1\36\1\41\1\31\1\14"
+  private static final String ZZ_CMAP_PACKED = "\11\0\1\106\1\7\1\11\1\11\1\10\22\0\1\106\1\0\1\5"
+      + "\1\13\3\0\1\12\1\3\1\4\1\0\1\105\1\2\1\105\1\1" + "\1\0\1\77\1\75\1\35\1\76\1\40\2\100\1\101\1\102\1\74"
+      + "\1\104\1\13\5\0\1\53\1\42\1\56\1\60\1\43\1\70\1\45" + "\1\63\1\54\1\57\1\72\1\47\1\62\1\51\1\65\1\55\1\44"
+      + "\1\66\1\64\1\50\1\46\1\61\1\71\1\67\1\73\1\52\1\0" + "\1\6\2\0\1\103\1\0\1\22\1\30\1\23\1\37\1\15\1\34"
+      + "\1\27\1\32\1\24\1\57\1\72\1\33\1\62\1\26\1\17\1\21" + "\1\44\1\16\1\20\1\25\1\46\1\107\1\36\1\41\1\31\1\14"
       + "\12\0\1\11\u1fa2\0\1\11\1\11\uffff\0\uffff\0\uffff\0\uffff\0\uffff\0\uffff\0\uffff\0\uffff\0\uffff\0\uffff\0\uffff\0\uffff\0\uffff\0\uffff\0\uffff\0\uffff\0\udfe6\0";
 
   /**
@@ -67,21 +67,22 @@ public final class Lexer implements java_cup.runtime.Scanner {
       + "\1\10\1\11\16\12\1\13\4\12\1\14\4\12\1\13" + "\1\1\1\15\1\16\2\17\1\20\1\21\1\22\2\23"
       + "\1\24\1\25\1\26\1\24\1\27\1\30\1\31\1\32" + "\1\33\1\34\1\35\1\36\1\37\2\40\1\41\1\42"
       + "\1\43\1\44\1\45\1\46\1\47\1\50\1\51\1\52" + "\1\53\1\54\13\0\1\55\2\0\2\55\1\0\1\12"
-      + "\1\56\3\12\1\57\1\60\4\12\1\61\1\62\1\12" + "\1\63\1\12\1\57\13\12\1\64\1\65\1\66\1\67"
-      + "\1\70\10\12\1\71\1\12\1\71\3\12\1\71\2\0" + "\2\12\1\57\1\72\2\12\1\73\27\0\4\12\1\74"
-      + "\1\75\1\76\1\12\1\77\1\100\2\12\1\101\1\102" + "\1\103\1\104\1\105\3\12\1\106\1\107\1\110\1\111"
-      + "\1\112\1\113\1\114\1\115\1\116\1\117\1\120\1\121" + "\2\12\1\122\12\12\1\123\6\12\1\55\1\0\1\124"
-      + "\1\125\1\126\1\127\1\130\1\131\13\0\1\132\11\0" + "\2\12\1\133\1\134\1\135\1\136\1\137\1\140\1\141"
-      + "\1\142\1\143\1\144\1\145\1\146\1\12\1\147\1\150" + "\1\151\1\152\1\153\1\154\1\155\1\156\1\157\1\160"
-      + "\1\161\1\162\1\0\12\12\2\0\6\12\1\0\1\163" + "\1\164\1\165\1\166\1\167\7\0\1\170\2\0\1\171"
-      + "\1\172\1\173\2\0\1\174\1\0\1\175\1\12\1\176" + "\1\177\1\200\2\12\3\0\1\12\2\0\2\12\1\201"
-      + "\1\202\1\0\2\12\3\0\1\203\3\12\1\204\3\0" + "\1\205\1\206\1\207\1\0\1\210\1\0\1\211\1\212"
-      + "\1\0\2\12\1\0\1\213\1\214\1\215\3\12\1\216" + "\2\12\1\217\2\0\1\220\1\221\1\222\2\0\1\223"
-      + "\1\224\1\0\1\225\1\226\2\0\1\227\3\0\1\12" + "\2\0\1\230\1\231\1\232\1\233\1\234\1\235\1\236"
-      + "\1\237\1\240\1\241\1\0\1\242\1\243\1\244\1\245";
+      + "\1\56\3\12\1\57\1\12\1\60\4\12\1\61\1\62" + "\1\12\1\63\1\12\1\57\14\12\1\64\1\65\1\66"
+      + "\1\67\1\70\10\12\1\71\1\12\1\71\3\12\1\71" + "\2\0\2\12\1\57\1\72\2\12\1\73\27\0\4\12"
+      + "\1\74\1\75\3\12\1\76\1\12\1\77\1\100\2\12" + "\1\101\1\102\1\103\1\104\1\105\4\12\1\106\1\107"
+      + "\1\110\1\111\1\112\1\113\1\114\1\115\1\116\1\117" + "\1\120\1\121\2\12\1\122\12\12\1\123\6\12\1\55"
+      + "\1\0\1\124\1\125\1\126\1\127\1\130\1\131\13\0" + "\1\132\11\0\2\12\1\133\3\12\1\134\1\135\1\136"
+      + "\1\137\1\140\1\141\1\142\1\143\1\144\1\145\1\146" + "\1\12\1\147\1\150\1\151\1\152\1\153\1\154\1\155"
+      + "\1\156\1\157\1\160\1\161\1\162\1\163\1\0\12\12" + "\2\0\6\12\1\0\1\164\1\165\1\166\1\167\1\170"
+      + "\7\0\1\171\2\0\1\172\1\173\1\174\2\0\1\175" + "\1\0\1\176\4\12\1\177\1\200\1\201\1\202\1\203"
+      + "\1\204\2\12\3\0\1\12\2\0\2\12\1\205\1\206" + "\1\0\2\12\3\0\1\207\3\12\1\210\3\0\1\211"
+      + "\1\212\1\213\1\0\1\214\1\0\1\215\1\216\2\12" + "\1\217\1\220\1\221\1\222\1\0\2\12\1\0\1\223"
+      + "\1\224\1\225\3\12\1\226\2\12\1\227\2\0\1\230" + "\1\231\1\232\2\0\1\233\1\234\1\0\1\235\1\236"
+      + "\1\12\1\237\1\240\2\0\1\241\3\0\1\12\2\0" + "\1\242\1\243\1\244\1\245\1\246\1\247\1\12\1\250"
+      + "\1\251\1\252\1\253\1\254\1\0\1\255\1\256\1\257" + "\1\260\1\261\1\262";
 
   private static int[] zzUnpackAction() {
-    int[] result = new int[413];
+    int[] result = new int[442];
     int offset = 0;
     offset = zzUnpackAction(ZZ_ACTION_PACKED_0, offset, result);
     return result;
@@ -106,60 +107,64 @@ public final class Lexer implements java_cup.runtime.Scanner {
    */
   private static final int[] ZZ_ROWMAP = zzUnpackRowMap();
 
-  private static final String ZZ_ROWMAP_PACKED_0 = "\0\0\0\107\0\216\0\325\0\u011c\0\u0163\0\u01aa\0\u01f1"
-      + "\0\u01aa\0\u01aa\0\u01aa\0\u01aa\0\u0238\0\u01aa\0\u01aa\0\u027f"
-      + "\0\u02c6\0\u030d\0\u0354\0\u039b\0\u03e2\0\u0429\0\u0470\0\u04b7"
-      + "\0\u04fe\0\u0545\0\u058c\0\u05d3\0\u061a\0\u0661\0\u06a8\0\u06ef"
-      + "\0\u0736\0\u077d\0\u07c4\0\u080b\0\u0852\0\u0899\0\u08e0\0\u0927"
-      + "\0\u096e\0\u01aa\0\u01aa\0\u01aa\0\u09b5\0\u01aa\0\u01aa\0\u01aa"
-      + "\0\u01aa\0\u09fc\0\u01aa\0\u01aa\0\u01aa\0\u0a43\0\u01aa\0\u01aa"
-      + "\0\u01aa\0\u01aa\0\u01aa\0\u01aa\0\u01aa\0\u01aa\0\u01aa\0\u01aa"
-      + "\0\u0a8a\0\u01aa\0\u01aa\0\u01aa\0\u01aa\0\u01aa\0\u01aa\0\u01aa"
-      + "\0\u01aa\0\u01aa\0\u01aa\0\u01aa\0\u01aa\0\u0ad1\0\u0b18\0\u0b5f"
-      + "\0\u0ba6\0\u0bed\0\u0c34\0\u0c7b\0\u0cc2\0\u0d09\0\u0d50\0\u0d97"
-      + "\0\u0dde\0\u0e25\0\u0e6c\0\u0eb3\0\u0efa\0\u0f41\0\u0f88\0\u01aa"
-      + "\0\u0fcf\0\u1016\0\u105d\0\u03e2\0\u10a4\0\u10eb\0\u1132\0\u1179"
-      + "\0\u11c0\0\u03e2\0\u03e2\0\u1207\0\u03e2\0\u124e\0\u1295\0\u12dc"
-      + "\0\u1323\0\u136a\0\u13b1\0\u13f8\0\u143f\0\u1486\0\u14cd\0\u1514"
-      + "\0\u155b\0\u15a2\0\u03e2\0\u03e2\0\u15e9\0\u1630\0\u03e2\0\u1677"
-      + "\0\u16be\0\u1705\0\u174c\0\u1793\0\u17da\0\u1821\0\u1868\0\u18af"
-      + "\0\u18f6\0\u03e2\0\u193d\0\u1984\0\u19cb\0\u1a12\0\u1a59\0\u1aa0"
-      + "\0\u1ae7\0\u1b2e\0\u1b75\0\u03e2\0\u1bbc\0\u1c03\0\u03e2\0\u1c4a"
-      + "\0\u1c91\0\u1cd8\0\u1d1f\0\u1d66\0\u1dad\0\u1df4\0\u1e3b\0\u1e82"
-      + "\0\u1ec9\0\u1f10\0\u1f57\0\u1f9e\0\u1fe5\0\u202c\0\u2073\0\u20ba"
-      + "\0\u2101\0\u2148\0\u218f\0\u21d6\0\u221d\0\u2264\0\u22ab\0\u22f2"
-      + "\0\u2339\0\u2380\0\u03e2\0\u23c7\0\u03e2\0\u240e\0\u2455\0\u249c"
-      + "\0\u24e3\0\u252a\0\u2571\0\u25b8\0\u03e2\0\u25ff\0\u2646\0\u268d"
-      + "\0\u26d4\0\u271b\0\u03e2\0\u03e2\0\u03e2\0\u2762\0\u27a9\0\u27f0"
-      + "\0\u2837\0\u287e\0\u28c5\0\u03e2\0\u03e2\0\u03e2\0\u290c\0\u2953"
-      + "\0\u03e2\0\u299a\0\u29e1\0\u2a28\0\u2a6f\0\u2ab6\0\u2afd\0\u2b44"
-      + "\0\u2b8b\0\u2bd2\0\u2c19\0\u03e2\0\u2c60\0\u2ca7\0\u2cee\0\u2d35"
-      + "\0\u2d7c\0\u2dc3\0\u2e0a\0\u2e0a\0\u2e51\0\u2e98\0\u2edf\0\u2f26"
-      + "\0\u1c4a\0\u1c91\0\u2f6d\0\u2fb4\0\u2ffb\0\u3042\0\u3089\0\u30d0"
-      + "\0\u3117\0\u315e\0\u31a5\0\u31ec\0\u3233\0\u01aa\0\u327a\0\u32c1"
-      + "\0\u3308\0\u334f\0\u3396\0\u33dd\0\u3424\0\u346b\0\u34b2\0\u34f9"
-      + "\0\u3540\0\u03e2\0\u03e2\0\u03e2\0\u03e2\0\u03e2\0\u03e2\0\u03e2"
-      + "\0\u3587\0\u03e2\0\u03e2\0\u03e2\0\u03e2\0\u35ce\0\u03e2\0\u03e2"
-      + "\0\u03e2\0\u03e2\0\u03e2\0\u03e2\0\u03e2\0\u03e2\0\u03e2\0\u03e2"
-      + "\0\u03e2\0\u03e2\0\u3615\0\u365c\0\u36a3\0\u36ea\0\u3731\0\u3778"
-      + "\0\u37bf\0\u3806\0\u384d\0\u3894\0\u38db\0\u3922\0\u3969\0\u39b0"
-      + "\0\u39f7\0\u3a3e\0\u3a85\0\u3acc\0\u3b13\0\u3b5a\0\u03e2\0\u03e2"
-      + "\0\u03e2\0\u3ba1\0\u01aa\0\u3be8\0\u3c2f\0\u3c76\0\u3cbd\0\u3d04"
-      + "\0\u3d4b\0\u3d92\0\u01aa\0\u3dd9\0\u3e20\0\u01aa\0\u01aa\0\u01aa"
-      + "\0\u3e67\0\u3eae\0\u01aa\0\u3ef5\0\u03e2\0\u3f3c\0\u03e2\0\u03e2"
-      + "\0\u22ab\0\u3f83\0\u3fca\0\u4011\0\u4058\0\u409f\0\u40e6\0\u412d"
-      + "\0\u4174\0\u41bb\0\u4202\0\u22ab\0\u22ab\0\u4249\0\u4290\0\u42d7"
-      + "\0\u431e\0\u4365\0\u43ac\0\u43f3\0\u43f3\0\u443a\0\u4481\0\u03e2"
-      + "\0\u44c8\0\u450f\0\u4556\0\u01aa\0\u459d\0\u01aa\0\u45e4\0\u01aa"
-      + "\0\u462b\0\u01aa\0\u03e2\0\u4672\0\u46b9\0\u4700\0\u4747\0\u22ab"
-      + "\0\u22ab\0\u22ab\0\u478e\0\u47d5\0\u481c\0\u22ab\0\u4863\0\u48aa"
-      + "\0\u22ab\0\u48f1\0\u4938\0\u22ab\0\u22ab\0\u22ab\0\u497f\0\u49c6"
-      + "\0\u03e2\0\u01aa\0\u4a0d\0\u01aa\0\u22ab\0\u4a54\0\u4a9b\0\u22ab"
-      + "\0\u4ae2\0\u4b29\0\u4b70\0\u4bb7\0\u4bfe\0\u4c45\0\u22ab\0\u22ab"
-      + "\0\u01aa\0\u01aa\0\u01aa\0\u22ab\0\u22ab\0\u22ab\0\u4c8c\0\u01aa" + "\0\u4cd3\0\u22ab\0\u22ab\0\u01aa\0\u01aa";
+  private static final String ZZ_ROWMAP_PACKED_0 = "\0\0\0\110\0\220\0\330\0\u0120\0\u0168\0\u01b0\0\u01f8"
+      + "\0\u01b0\0\u01b0\0\u01b0\0\u01b0\0\u0240\0\u01b0\0\u01b0\0\u0288"
+      + "\0\u02d0\0\u0318\0\u0360\0\u03a8\0\u03f0\0\u0438\0\u0480\0\u04c8"
+      + "\0\u0510\0\u0558\0\u05a0\0\u05e8\0\u0630\0\u0678\0\u06c0\0\u0708"
+      + "\0\u0750\0\u0798\0\u07e0\0\u0828\0\u0870\0\u08b8\0\u0900\0\u0948"
+      + "\0\u0990\0\u01b0\0\u01b0\0\u01b0\0\u09d8\0\u01b0\0\u01b0\0\u01b0"
+      + "\0\u01b0\0\u0a20\0\u01b0\0\u01b0\0\u01b0\0\u0a68\0\u01b0\0\u01b0"
+      + "\0\u01b0\0\u01b0\0\u01b0\0\u01b0\0\u01b0\0\u01b0\0\u01b0\0\u01b0"
+      + "\0\u0ab0\0\u01b0\0\u01b0\0\u01b0\0\u01b0\0\u01b0\0\u01b0\0\u01b0"
+      + "\0\u01b0\0\u01b0\0\u01b0\0\u01b0\0\u01b0\0\u0af8\0\u0b40\0\u0b88"
+      + "\0\u0bd0\0\u0c18\0\u0c60\0\u0ca8\0\u0cf0\0\u0d38\0\u0d80\0\u0dc8"
+      + "\0\u0e10\0\u0e58\0\u0ea0\0\u0ee8\0\u0f30\0\u0f78\0\u0fc0\0\u01b0"
+      + "\0\u1008\0\u1050\0\u1098\0\u03f0\0\u10e0\0\u1128\0\u1170\0\u11b8"
+      + "\0\u1200\0\u1248\0\u03f0\0\u03f0\0\u1290\0\u03f0\0\u12d8\0\u1320"
+      + "\0\u1368\0\u13b0\0\u13f8\0\u1440\0\u1488\0\u14d0\0\u1518\0\u1560"
+      + "\0\u15a8\0\u15f0\0\u1638\0\u1680\0\u03f0\0\u03f0\0\u16c8\0\u1710"
+      + "\0\u03f0\0\u1758\0\u17a0\0\u17e8\0\u1830\0\u1878\0\u18c0\0\u1908"
+      + "\0\u1950\0\u1998\0\u19e0\0\u03f0\0\u1a28\0\u1a70\0\u1ab8\0\u1b00"
+      + "\0\u1b48\0\u1b90\0\u1bd8\0\u1c20\0\u1c68\0\u03f0\0\u1cb0\0\u1cf8"
+      + "\0\u03f0\0\u1d40\0\u1d88\0\u1dd0\0\u1e18\0\u1e60\0\u1ea8\0\u1ef0"
+      + "\0\u1f38\0\u1f80\0\u1fc8\0\u2010\0\u2058\0\u20a0\0\u20e8\0\u2130"
+      + "\0\u2178\0\u21c0\0\u2208\0\u2250\0\u2298\0\u22e0\0\u2328\0\u2370"
+      + "\0\u23b8\0\u2400\0\u2448\0\u2490\0\u03f0\0\u24d8\0\u2520\0\u2568"
+      + "\0\u25b0\0\u03f0\0\u25f8\0\u2640\0\u2688\0\u26d0\0\u2718\0\u2760"
+      + "\0\u27a8\0\u03f0\0\u27f0\0\u2838\0\u2880\0\u28c8\0\u2910\0\u2958"
+      + "\0\u03f0\0\u03f0\0\u03f0\0\u29a0\0\u29e8\0\u2a30\0\u2a78\0\u2ac0"
+      + "\0\u2b08\0\u03f0\0\u03f0\0\u03f0\0\u2b50\0\u2b98\0\u03f0\0\u2be0"
+      + "\0\u2c28\0\u2c70\0\u2cb8\0\u2d00\0\u2d48\0\u2d90\0\u2dd8\0\u2e20"
+      + "\0\u2e68\0\u03f0\0\u2eb0\0\u2ef8\0\u2f40\0\u2f88\0\u2fd0\0\u3018"
+      + "\0\u3060\0\u3060\0\u30a8\0\u30f0\0\u3138\0\u3180\0\u1d40\0\u1d88"
+      + "\0\u31c8\0\u3210\0\u3258\0\u32a0\0\u32e8\0\u3330\0\u3378\0\u33c0"
+      + "\0\u3408\0\u3450\0\u3498\0\u01b0\0\u34e0\0\u3528\0\u3570\0\u35b8"
+      + "\0\u3600\0\u3648\0\u3690\0\u36d8\0\u3720\0\u3768\0\u37b0\0\u03f0"
+      + "\0\u37f8\0\u3840\0\u3888\0\u03f0\0\u03f0\0\u03f0\0\u03f0\0\u03f0"
+      + "\0\u03f0\0\u38d0\0\u03f0\0\u03f0\0\u03f0\0\u03f0\0\u3918\0\u3960"
+      + "\0\u03f0\0\u03f0\0\u03f0\0\u03f0\0\u03f0\0\u03f0\0\u03f0\0\u03f0"
+      + "\0\u03f0\0\u03f0\0\u03f0\0\u03f0\0\u39a8\0\u39f0\0\u3a38\0\u3a80"
+      + "\0\u3ac8\0\u3b10\0\u3b58\0\u3ba0\0\u3be8\0\u3c30\0\u3c78\0\u3cc0"
+      + "\0\u3d08\0\u3d50\0\u3d98\0\u3de0\0\u3e28\0\u3e70\0\u3eb8\0\u3f00"
+      + "\0\u03f0\0\u03f0\0\u03f0\0\u3f48\0\u01b0\0\u3f90\0\u3fd8\0\u4020"
+      + "\0\u4068\0\u40b0\0\u40f8\0\u4140\0\u01b0\0\u4188\0\u41d0\0\u01b0"
+      + "\0\u01b0\0\u01b0\0\u4218\0\u4260\0\u01b0\0\u42a8\0\u03f0\0\u42f0"
+      + "\0\u4338\0\u4380\0\u43c8\0\u03f0\0\u03f0\0\u4410\0\u4458\0\u44a0"
+      + "\0\u23b8\0\u44e8\0\u4530\0\u4578\0\u45c0\0\u4608\0\u4650\0\u4698"
+      + "\0\u46e0\0\u4728\0\u4770\0\u23b8\0\u23b8\0\u47b8\0\u4800\0\u4848"
+      + "\0\u4890\0\u48d8\0\u4920\0\u4968\0\u4968\0\u49b0\0\u49f8\0\u03f0"
+      + "\0\u4a40\0\u4a88\0\u4ad0\0\u01b0\0\u4b18\0\u01b0\0\u4b60\0\u01b0"
+      + "\0\u4ba8\0\u01b0\0\u03f0\0\u4bf0\0\u4c38\0\u4c80\0\u03f0\0\u03f0"
+      + "\0\u03f0\0\u4cc8\0\u4d10\0\u4d58\0\u4da0\0\u23b8\0\u23b8\0\u23b8"
+      + "\0\u4de8\0\u4e30\0\u4e78\0\u23b8\0\u4ec0\0\u4f08\0\u23b8\0\u4f50"
+      + "\0\u4f98\0\u23b8\0\u23b8\0\u23b8\0\u4fe0\0\u5028\0\u03f0\0\u01b0"
+      + "\0\u5070\0\u01b0\0\u50b8\0\u5100\0\u03f0\0\u23b8\0\u5148\0\u5190"
+      + "\0\u23b8\0\u51d8\0\u5220\0\u5268\0\u52b0\0\u52f8\0\u5340\0\u23b8"
+      + "\0\u23b8\0\u01b0\0\u01b0\0\u01b0\0\u03f0\0\u5388\0\u23b8\0\u23b8"
+      + "\0\u23b8\0\u53d0\0\u01b0\0\u5418\0\u23b8\0\u23b8\0\u5460\0\u01b0" + "\0\u01b0\0\u03f0";
 
   private static int[] zzUnpackRowMap() {
-    int[] result = new int[413];
+    int[] result = new int[442];
     int offset = 0;
     offset = zzUnpackRowMap(ZZ_ROWMAP_PACKED_0, offset, result);
     return result;
@@ -184,164 +189,181 @@ public final class Lexer implements java_cup.runtime.Scanner {
   private static final String ZZ_TRANS_PACKED_0 = "\1\7\1\10\1\11\1\12\1\13\1\14\1\7\3\15"
       + "\1\16\1\17\1\20\1\21\1\22\1\23\1\24\1\25" + "\1\26\1\27\1\25\1\30\1\31\1\32\1\33\2\25"
       + "\1\34\1\35\1\36\1\25\1\37\1\36\1\40\1\33" + "\1\21\3\25\1\34\1\41\1\31\1\25\1\42\2\25"
-      + "\1\27\1\43\1\37\1\25\1\44\1\25\1\45\1\23" + "\1\46\1\40\1\47\2\25\3\36\1\50\3\36\1\25"
-      + "\1\7\1\51\1\52\1\25\7\53\1\54\1\55\1\54" + "\75\53\5\56\1\57\1\60\1\61\1\62\1\61\75\56"
+      + "\1\27\1\43\1\37\1\25\1\44\1\25\1\45\1\23" + "\1\46\1\40\1\47\3\25\3\36\1\50\3\36\1\25"
+      + "\1\7\1\51\1\52\1\25\7\53\1\54\1\55\1\54" + "\76\53\5\56\1\57\1\60\1\61\1\62\1\61\76\56"
       + "\5\63\1\64\1\65\1\63\1\66\1\63\1\67\3\63" + "\1\70\6\63\1\71\1\72\1\63\1\73\3\63\1\74"
-      + "\41\63\1\75\7\63\1\76\6\56\1\77\1\100\1\101" + "\1\100\1\102\74\56\5\103\1\104\1\105\1\100\1\101"
-      + "\1\100\1\106\3\103\1\107\6\103\1\110\1\111\1\103" + "\1\112\3\103\1\113\41\103\1\114\7\103\1\115\123\0"
+      + "\42\63\1\75\7\63\1\76\6\56\1\77\1\100\1\101" + "\1\100\1\102\75\56\5\103\1\104\1\105\1\100\1\101"
+      + "\1\100\1\106\3\103\1\107\6\103\1\110\1\111\1\103" + "\1\112\3\103\1\113\42\103\1\114\7\103\1\115\124\0"
       + "\1\116\1\0\1\117\1\0\1\120\1\121\1\122\2\0" + "\1\123\1\0\1\124\1\125\1\0\1\126\1\127\1\130"
-      + "\1\131\1\132\1\133\1\134\32\0\7\135\14\0\3\15" + "\76\0\1\136\12\0\1\25\1\137\65\25\1\140\2\0"
-      + "\1\25\1\0\1\136\12\0\7\25\1\141\4\25\1\142" + "\11\25\1\142\13\25\1\141\24\25\1\140\2\0\1\25"
-      + "\1\0\1\136\12\0\1\25\1\143\4\25\1\144\20\25" + "\1\143\37\25\1\140\2\0\1\25\1\0\1\136\12\0"
-      + "\2\25\1\145\47\25\1\145\14\25\1\140\2\0\1\25" + "\1\0\1\136\12\0\1\25\1\146\1\147\2\25\1\144"
-      + "\4\25\1\150\1\151\1\152\1\25\1\153\1\154\1\25" + "\1\144\1\155\1\25\1\144\1\25\1\152\1\146\1\25"
-      + "\1\151\1\156\1\154\1\25\1\150\11\25\1\153\2\25" + "\1\147\2\25\1\155\1\25\1\144\1\157\5\144\1\25"
-      + "\1\140\2\0\1\25\1\0\1\136\12\0\67\25\1\140" + "\2\0\1\25\1\0\1\136\12\0\12\25\1\160\6\25"
-      + "\1\144\1\25\1\161\1\144\5\25\1\162\2\25\1\160" + "\6\25\1\161\13\25\5\144\2\25\1\140\2\0\1\25"
-      + "\1\0\1\136\12\0\6\25\1\163\30\25\1\163\27\25" + "\1\140\2\0\1\25\1\0\1\136\12\0\5\25\1\144"
-      + "\1\164\12\25\1\144\2\25\1\144\12\25\1\164\20\25" + "\4\144\3\25\1\140\2\0\1\25\1\0\1\136\12\0"
-      + "\1\25\1\165\1\25\1\166\23\25\1\165\21\25\1\166" + "\15\25\1\140\2\0\1\25\1\0\1\136\12\0\5\25"
-      + "\1\144\61\25\1\140\2\0\1\25\1\0\1\136\12\0" + "\1\25\1\167\10\25\1\170\1\171\3\25\1\172\7\25"
-      + "\1\167\1\25\1\171\1\25\1\172\1\25\1\170\31\25" + "\1\140\2\0\1\25\1\0\1\136\12\0\6\25\1\173"
-      + "\1\25\1\174\3\25\1\175\1\25\1\176\3\25\1\177" + "\3\25\1\175\3\25\1\200\4\25\1\173\1\174\6\25"
-      + "\1\176\5\25\1\177\11\25\1\140\2\0\1\25\1\0" + "\1\136\12\0\1\25\1\201\2\25\1\202\1\144\1\203"
-      + "\1\204\1\25\1\205\1\206\4\25\1\207\1\25\1\210" + "\1\25\1\211\1\212\2\25\1\201\3\25\1\207\1\25"
-      + "\1\206\1\25\1\213\2\25\1\204\1\25\1\211\1\25" + "\1\214\1\25\1\215\6\25\1\212\1\210\1\216\4\212"
-      + "\1\25\1\140\2\0\1\25\1\0\1\217\13\0\1\220" + "\17\0\1\36\2\0\1\36\2\0\1\220\27\0\7\36"
-      + "\6\0\1\136\12\0\10\25\1\221\27\25\1\221\26\25" + "\1\140\2\0\1\25\1\0\1\136\12\0\3\25\1\222"
-      + "\15\25\1\223\2\25\1\144\24\25\1\222\5\25\1\144" + "\1\223\1\157\4\144\1\25\1\140\2\0\1\25\1\0"
-      + "\1\136\12\0\6\25\1\164\30\25\1\164\27\25\1\140" + "\2\0\1\25\1\0\1\136\12\0\12\25\1\160\10\25"
-      + "\1\161\6\25\1\162\2\25\1\160\6\25\1\161\22\25" + "\1\140\2\0\1\25\1\0\1\136\12\0\2\25\1\224"
-      + "\3\25\1\225\30\25\1\225\12\25\1\224\14\25\1\140" + "\2\0\1\25\1\0\1\136\12\0\32\25\1\226\12\25"
-      + "\1\227\21\25\1\140\2\0\1\227\1\0\1\136\12\0" + "\1\25\1\146\1\147\7\25\1\150\1\151\1\152\1\25"
-      + "\1\153\1\154\2\25\1\155\3\25\1\152\1\146\1\25" + "\1\151\1\156\1\154\1\25\1\150\11\25\1\153\2\25"
-      + "\1\147\2\25\1\155\11\25\1\140\2\0\1\25\1\0" + "\1\136\12\0\1\25\1\143\25\25\1\143\37\25\1\140"
-      + "\2\0\1\25\1\0\1\136\12\0\1\25\1\201\2\25" + "\1\215\1\25\1\213\1\204\2\25\1\206\4\25\1\207"
-      + "\1\25\1\210\1\25\1\211\1\212\2\25\1\201\3\25" + "\1\207\1\25\1\206\1\25\1\213\2\25\1\204\1\25"
-      + "\1\211\1\25\1\214\1\25\1\215\6\25\1\212\1\210" + "\1\216\4\212\1\25\1\140\2\0\1\25\1\0\1\217"
-      + "\13\0\1\220\12\0\1\230\4\0\1\36\2\0\1\36" + "\1\231\1\230\1\220\23\0\1\231\3\0\7\36\6\0"
-      + "\1\217\33\0\1\36\2\0\1\36\32\0\7\36\14\0" + "\1\54\106\0\1\61\106\0\1\63\106\0\1\100\114\0"
-      + "\1\232\110\0\1\233\104\0\1\234\3\0\1\235\3\0" + "\1\236\4\0\1\237\111\0\1\240\71\0\1\241\12\0"
-      + "\1\242\70\0\1\243\124\0\1\244\73\0\1\245\1\0" + "\1\246\6\0\1\247\77\0\1\250\103\0\1\251\122\0"
-      + "\1\252\70\0\1\220\12\0\1\253\4\0\1\135\2\0" + "\1\135\2\0\1\220\27\0\7\135\24\0\1\254\111\0"
-      + "\1\255\101\0\1\220\12\0\1\256\4\0\1\135\2\0" + "\1\135\2\0\1\220\27\0\7\135\22\0\1\220\17\0"
-      + "\1\135\2\0\1\135\2\0\1\220\27\0\7\135\21\0" + "\67\257\3\0\1\257\1\0\1\136\12\0\2\25\1\260"
-      + "\64\25\1\140\2\0\1\25\1\0\1\136\12\0\6\25" + "\1\261\30\25\1\261\27\25\1\140\2\0\1\25\1\0"
-      + "\1\136\12\0\2\25\1\262\47\25\1\262\14\25\1\140" + "\2\0\1\25\1\0\1\136\12\0\11\25\1\263\22\25"
-      + "\1\263\11\25\1\264\20\25\1\140\2\0\1\25\1\0" + "\1\136\12\0\10\25\1\265\27\25\1\265\26\25\1\140"
-      + "\2\0\1\25\1\0\1\136\12\0\30\25\1\266\36\25" + "\1\140\2\0\1\25\1\0\1\136\12\0\6\25\1\267"
-      + "\10\25\1\270\13\25\1\270\3\25\1\267\27\25\1\140" + "\2\0\1\25\1\0\1\136\12\0\1\25\1\271\25\25"
-      + "\1\271\37\25\1\140\2\0\1\25\1\0\1\136\12\0" + "\11\25\1\272\22\25\1\272\32\25\1\140\2\0\1\25"
-      + "\1\0\1\136\12\0\11\25\1\273\5\25\1\274\13\25" + "\1\274\1\273\32\25\1\140\2\0\1\25\1\0\1\136"
-      + "\12\0\14\25\1\275\11\25\1\275\40\25\1\140\2\0" + "\1\25\1\0\1\136\12\0\60\25\1\144\1\25\1\144"
-      + "\4\25\1\140\2\0\1\25\1\0\1\136\12\0\23\25" + "\1\276\20\25\1\276\22\25\1\140\2\0\1\25\1\0"
-      + "\1\136\12\0\23\25\1\277\20\25\1\277\22\25\1\140" + "\2\0\1\25\1\0\1\136\12\0\10\25\1\300\27\25"
-      + "\1\300\26\25\1\140\2\0\1\25\1\0\1\136\12\0" + "\17\25\1\301\13\25\1\301\33\25\1\140\2\0\1\25"
-      + "\1\0\1\136\12\0\10\25\1\302\27\25\1\302\26\25" + "\1\140\2\0\1\25\1\0\1\136\12\0\13\25\1\303"
-      + "\15\25\1\303\35\25\1\140\2\0\1\25\1\0\1\136" + "\12\0\5\25\1\304\3\25\1\305\22\25\1\305\4\25"
-      + "\1\304\25\25\1\140\2\0\1\25\1\0\1\136\12\0" + "\30\25\1\306\36\25\1\140\2\0\1\25\1\0\1\136"
-      + "\12\0\1\25\1\307\25\25\1\307\37\25\1\140\2\0" + "\1\25\1\0\1\136\12\0\1\25\1\310\7\25\1\311"
-      + "\15\25\1\310\4\25\1\311\32\25\1\140\2\0\1\25" + "\1\0\1\136\12\0\1\25\1\312\7\25\1\313\15\25"
-      + "\1\312\4\25\1\313\32\25\1\140\2\0\1\25\1\0" + "\1\136\12\0\32\25\1\314\34\25\1\140\2\0\1\25"
-      + "\1\0\1\136\12\0\32\25\1\315\34\25\1\140\2\0" + "\1\25\1\0\1\136\12\0\10\25\1\316\27\25\1\316"
-      + "\26\25\1\140\2\0\1\25\1\0\1\136\12\0\30\25" + "\1\317\36\25\1\140\2\0\1\25\1\0\1\136\12\0"
-      + "\13\25\1\320\5\25\1\212\1\321\1\25\1\212\3\25" + "\1\322\1\320\1\323\22\25\1\321\1\25\1\212\1\216"
-      + "\5\212\1\25\1\140\2\0\1\25\1\0\1\136\12\0" + "\14\25\1\324\4\25\1\212\1\25\1\325\1\212\1\25"
-      + "\1\324\15\25\1\325\13\25\6\212\1\25\1\140\2\0" + "\1\25\1\0\1\136\12\0\17\25\1\326\13\25\1\326"
-      + "\11\25\1\327\21\25\1\140\2\0\1\327\1\0\1\136" + "\12\0\21\25\1\212\2\25\1\212\32\25\1\212\1\216"
-      + "\5\212\1\25\1\140\2\0\1\25\1\0\1\136\12\0" + "\1\25\1\330\25\25\1\330\16\25\1\331\20\25\1\140"
-      + "\2\0\1\25\1\0\1\136\12\0\1\25\1\332\7\25" + "\1\333\10\25\1\334\4\25\1\332\4\25\1\333\20\25"
-      + "\1\334\11\25\1\140\2\0\1\25\1\0\1\136\12\0" + "\21\25\1\212\2\25\1\212\32\25\7\212\1\25\1\140"
-      + "\2\0\1\25\1\0\1\136\12\0\10\25\1\335\27\25" + "\1\335\26\25\1\140\2\0\1\25\1\0\1\136\12\0"
-      + "\14\25\1\324\6\25\1\325\2\25\1\324\15\25\1\325" + "\22\25\1\140\2\0\1\25\1\0\1\136\12\0\4\25"
-      + "\1\336\1\25\1\337\1\25\1\340\21\25\1\341\4\25" + "\1\337\1\340\4\25\1\342\2\25\1\336\16\25\1\140"
-      + "\2\0\1\342\1\0\1\136\12\0\13\25\1\320\6\25" + "\1\321\5\25\1\322\1\320\1\323\22\25\1\321\11\25"
-      + "\1\140\2\0\1\25\1\0\1\136\12\0\60\25\1\212" + "\1\25\1\212\4\25\1\140\2\0\1\25\35\0\1\135"
-      + "\2\0\1\135\32\0\7\135\42\0\1\343\2\0\1\343" + "\32\0\7\343\2\0\1\344\3\0\1\136\12\0\45\25"
-      + "\1\345\21\25\1\140\2\0\1\345\1\0\1\136\12\0" + "\2\25\1\346\47\25\1\346\14\25\1\140\2\0\1\25"
-      + "\1\0\1\136\12\0\21\25\1\144\2\25\1\144\32\25" + "\7\144\1\25\1\140\2\0\1\25\1\0\1\136\12\0"
-      + "\17\25\1\347\13\25\1\347\33\25\1\140\2\0\1\25" + "\1\0\1\136\12\0\17\25\1\350\13\25\1\350\33\25"
-      + "\1\140\2\0\1\25\74\0\1\351\1\0\1\351\25\0" + "\1\352\4\0\2\352\4\0\1\352\3\0\2\352\1\0"
-      + "\2\352\1\0\2\352\7\0\1\352\2\0\1\352\1\0" + "\1\352\7\0\1\352\2\0\7\352\23\0\1\353\127\0"
-      + "\1\354\72\0\1\355\105\0\1\356\102\0\1\357\107\0" + "\1\360\111\0\1\361\107\0\1\362\107\0\1\363\123\0"
-      + "\1\364\64\0\1\365\107\0\1\366\121\0\1\367\100\0" + "\1\370\114\0\1\371\101\0\1\372\77\0\1\373\120\0"
-      + "\1\374\73\0\1\375\115\0\1\376\112\0\1\377\71\0" + "\67\257\1\140\2\0\1\257\1\0\1\136\12\0\3\25"
-      + "\1\144\63\25\1\140\2\0\1\25\1\0\1\136\12\0" + "\17\25\1\u0100\13\25\1\u0100\33\25\1\140\2\0\1\25"
-      + "\1\0\1\136\12\0\1\25\1\u0101\25\25\1\u0101\37\25" + "\1\140\2\0\1\25\1\0\1\136\12\0\32\25\1\u0102"
-      + "\34\25\1\140\2\0\1\25\1\0\1\136\12\0\1\u0103" + "\35\25\1\u0103\30\25\1\140\2\0\1\25\1\0\1\136"
-      + "\12\0\10\25\1\u0104\27\25\1\u0104\26\25\1\140\2\0" + "\1\25\1\0\1\136\12\0\10\25\1\u0105\27\25\1\u0105"
-      + "\26\25\1\140\2\0\1\25\1\0\1\136\12\0\1\u0106" + "\35\25\1\u0106\30\25\1\140\2\0\1\25\1\0\1\136"
-      + "\12\0\1\u0107\35\25\1\u0107\30\25\1\140\2\0\1\25" + "\1\0\1\136\12\0\1\u0108\7\25\1\u0109\21\25\1\u010a"
-      + "\3\25\1\u0108\1\25\1\u0109\26\25\1\140\2\0\1\25" + "\1\0\1\136\12\0\10\25\1\u010b\27\25\1\u010b\26\25"
-      + "\1\140\2\0\1\25\1\0\1\136\12\0\10\25\1\u010c" + "\27\25\1\u010c\26\25\1\140\2\0\1\25\1\0\1\136"
-      + "\12\0\10\25\1\u010d\27\25\1\u010d\26\25\1\140\2\0" + "\1\25\1\0\1\136\12\0\5\25\1\u010e\33\25\1\u010e"
-      + "\25\25\1\140\2\0\1\25\1\0\1\136\12\0\17\25" + "\1\u010f\13\25\1\u010f\33\25\1\140\2\0\1\25\1\0"
-      + "\1\136\12\0\17\25\1\u0110\13\25\1\u0110\33\25\1\140" + "\2\0\1\25\1\0\1\136\12\0\1\u0111\35\25\1\u0111"
-      + "\30\25\1\140\2\0\1\25\1\0\1\136\12\0\1\u0112" + "\35\25\1\u0112\30\25\1\140\2\0\1\25\1\0\1\136"
-      + "\12\0\1\u0113\31\25\1\u0114\3\25\1\u0113\30\25\1\140" + "\2\0\1\25\1\0\1\136\12\0\1\u0115\31\25\1\u0116"
-      + "\3\25\1\u0115\30\25\1\140\2\0\1\25\1\0\1\136" + "\12\0\1\u0117\31\25\1\u0118\3\25\1\u0117\30\25\1\140"
-      + "\2\0\1\25\1\0\1\136\12\0\1\u0119\31\25\1\u011a" + "\3\25\1\u0119\30\25\1\140\2\0\1\25\1\0\1\u011b"
-      + "\12\0\67\25\1\140\2\0\1\25\1\0\1\136\12\0" + "\12\25\1\u011c\22\25\1\u011c\31\25\1\140\2\0\1\25"
-      + "\1\0\1\136\12\0\2\25\1\u011d\47\25\1\u011d\14\25" + "\1\140\2\0\1\25\1\0\1\136\12\0\14\25\1\u011e"
-      + "\11\25\1\u011e\40\25\1\140\2\0\1\25\1\0\1\136" + "\12\0\4\25\1\u011f\43\25\1\u011f\16\25\1\140\2\0"
-      + "\1\25\1\0\1\136\12\0\23\25\1\u0120\20\25\1\u0120" + "\22\25\1\140\2\0\1\25\1\0\1\136\12\0\6\25"
-      + "\1\u0121\30\25\1\u0121\27\25\1\140\2\0\1\25\1\0" + "\1\136\12\0\11\25\1\u0122\22\25\1\u0122\32\25\1\140"
-      + "\2\0\1\25\1\0\1\136\12\0\13\25\1\u0123\15\25" + "\1\u0123\35\25\1\140\2\0\1\25\1\0\1\136\12\0"
-      + "\4\25\1\u0124\1\25\1\u0125\30\25\1\u0125\10\25\1\u0124" + "\16\25\1\140\2\0\1\25\1\0\1\u0126\12\0\67\25"
-      + "\1\140\2\0\1\25\1\0\1\u0127\12\0\67\25\1\140" + "\2\0\1\25\1\0\1\136\12\0\45\25\1\u0128\21\25"
-      + "\1\140\2\0\1\u0128\1\0\1\136\12\0\32\25\1\u0129" + "\34\25\1\140\2\0\1\25\1\0\1\136\12\0\23\25"
-      + "\1\u012a\1\25\1\u012b\16\25\1\u012a\6\25\1\u012b\13\25" + "\1\140\2\0\1\25\1\0\1\136\12\0\12\25\1\u012c"
-      + "\22\25\1\u012c\31\25\1\140\2\0\1\25\1\0\1\136" + "\12\0\17\25\1\u012d\13\25\1\u012d\33\25\1\140\2\0"
-      + "\1\25\1\0\1\u012e\12\0\67\25\1\140\2\0\1\25" + "\35\0\1\343\2\0\1\343\32\0\7\343\6\0\1\136"
-      + "\12\0\32\25\1\u012f\34\25\1\140\2\0\1\25\1\0" + "\1\136\12\0\10\25\1\u0130\27\25\1\u0130\26\25\1\140"
-      + "\2\0\1\25\1\0\1\136\12\0\2\25\1\u0131\47\25" + "\1\u0131\14\25\1\140\2\0\1\25\1\0\1\136\12\0"
-      + "\16\25\1\u0132\30\25\1\u0132\17\25\1\140\2\0\1\25" + "\17\0\1\u0133\111\0\1\u0134\111\0\1\u0135\104\0\1\u0136"
-      + "\107\0\1\u0137\100\0\1\u0138\123\0\1\242\77\0\1\u0139"
-      + "\111\0\1\u013a\104\0\1\u013b\111\0\1\u013c\102\0\1\u013d"
-      + "\77\0\1\u013e\125\0\1\u013f\101\0\1\u0140\101\0\1\u0141"
-      + "\111\0\1\u0142\120\0\1\u0140\71\0\1\u0143\111\0\1\u0144" + "\62\0\1\136\12\0\17\25\1\u0145\13\25\1\u0145\33\25"
-      + "\1\140\2\0\1\25\1\0\1\136\12\0\6\25\1\u0146" + "\30\25\1\u0146\27\25\1\140\2\0\1\25\1\0\1\136"
-      + "\12\0\32\25\1\u0147\34\25\1\140\2\0\1\25\1\0" + "\1\136\12\0\7\25\1\u0148\32\25\1\u0148\24\25\1\140"
-      + "\2\0\1\25\14\0\4\257\1\u0149\43\257\1\u0149\16\257" + "\3\0\1\257\1\0\1\136\12\0\43\25\1\u014a\23\25"
-      + "\1\140\2\0\1\25\1\0\1\136\12\0\11\25\1\u014b" + "\22\25\1\u014b\32\25\1\140\2\0\1\25\1\0\1\u014c"
-      + "\12\0\67\25\1\140\2\0\1\25\1\0\1\u014d\12\0" + "\67\25\1\140\2\0\1\25\1\0\1\u014e\12\0\67\25"
-      + "\1\140\2\0\1\25\1\0\1\136\12\0\4\25\1\u014f" + "\43\25\1\u014f\16\25\1\140\2\0\1\25\1\0\1\u0150"
-      + "\12\0\67\25\1\140\2\0\1\25\1\0\1\u0151\12\0" + "\67\25\1\140\2\0\1\25\1\0\1\136\12\0\32\25"
-      + "\1\u0152\34\25\1\140\2\0\1\25\1\0\1\136\12\0" + "\23\25\1\u0153\20\25\1\u0153\22\25\1\140\2\0\1\25"
-      + "\14\0\4\257\1\u0154\43\257\1\u0154\16\257\3\0\1\257" + "\14\0\4\257\1\u0155\43\257\1\u0155\16\257\3\0\1\257"
-      + "\1\0\1\u0156\12\0\67\25\1\140\2\0\1\25\1\0" + "\1\136\12\0\14\25\1\u0157\11\25\1\u0157\40\25\1\140"
-      + "\2\0\1\25\1\0\1\136\12\0\23\25\1\u0158\20\25" + "\1\u0158\22\25\1\140\2\0\1\25\1\0\1\u0159\12\0"
-      + "\67\25\1\140\2\0\1\25\1\0\1\u015a\12\0\67\25" + "\1\140\2\0\1\25\1\0\1\u015b\12\0\67\25\1\140"
-      + "\2\0\1\25\14\0\4\257\1\u015c\15\257\1\u015d\2\257"
-      + "\1\u015e\22\257\1\u015c\2\257\1\u015e\1\257\1\u015d\11\257" + "\3\0\1\257\1\0\1\136\12\0\4\25\1\u015f\25\25"
-      + "\1\u0160\15\25\1\u015f\16\25\1\140\2\0\1\25\25\0" + "\1\u0161\105\0\1\u0162\77\0\1\u0133\117\0\1\u0163\105\0"
-      + "\1\u013f\75\0\1\u0164\7\0\1\u0165\110\0\1\u0166\102\0"
-      + "\1\u0167\10\0\1\u0168\102\0\1\u0169\104\0\1\u016a\76\0"
-      + "\1\u013f\106\0\1\u0140\72\0\1\136\12\0\56\25\1\u016b" + "\10\25\1\140\2\0\1\25\1\0\1\u016c\12\0\12\25"
-      + "\1\u016d\12\25\1\u016e\7\25\1\u016d\15\25\1\u016e\13\25" + "\1\140\2\0\1\25\1\0\1\u016f\12\0\67\25\1\140"
-      + "\2\0\1\25\14\0\4\257\1\u0170\43\257\1\u0170\16\257" + "\3\0\1\257\14\0\4\257\1\u0171\43\257\1\u0171\16\257"
-      + "\3\0\1\257\14\0\4\257\1\u0172\43\257\1\u0172\16\257" + "\3\0\1\257\1\0\1\136\12\0\4\25\1\u0173\43\25"
-      + "\1\u0173\16\25\1\140\2\0\1\25\14\0\4\257\1\u0174" + "\15\257\1\u0175\25\257\1\u0174\4\257\1\u0175\11\257\3\0"
-      + "\1\257\14\0\4\257\1\u0176\43\257\1\u0176\16\257\3\0" + "\1\257\1\0\1\136\12\0\14\25\1\u0177\11\25\1\u0177"
-      + "\40\25\1\140\2\0\1\25\1\0\1\136\12\0\23\25" + "\1\u0178\20\25\1\u0178\22\25\1\140\2\0\1\25\14\0"
-      + "\4\257\1\u0179\43\257\1\u0179\16\257\3\0\1\257\1\0" + "\1\u017a\12\0\67\25\1\140\2\0\1\25\1\0\1\u017b"
-      + "\12\0\67\25\1\140\2\0\1\25\14\0\4\257\1\u017c" + "\43\257\1\u017c\16\257\3\0\1\257\14\0\4\257\1\u017d"
-      + "\43\257\1\u017d\16\257\3\0\1\257\14\0\4\257\1\u017e" + "\43\257\1\u017e\16\257\3\0\1\257\1\0\1\u017f\12\0"
-      + "\67\257\1\140\2\0\1\257\1\0\1\u0180\12\0\67\257" + "\1\140\2\0\1\257\1\0\1\136\12\0\32\25\1\u0181"
-      + "\34\25\1\140\2\0\1\25\22\0\1\u0182\103\0\1\u0183" + "\116\0\1\u0164\73\0\1\u0164\125\0\1\u0168\101\0\1\u0184"
-      + "\74\0\4\257\1\u0185\43\257\1\u0185\16\257\3\0\1\257" + "\1\0\1\u0186\12\0\67\25\1\140\2\0\1\25\1\0"
-      + "\1\u0187\12\0\67\25\1\140\2\0\1\25\14\0\4\257" + "\1\u0188\43\257\1\u0188\16\257\3\0\1\257\1\0\1\u0189"
-      + "\12\0\67\25\1\140\2\0\1\25\1\0\1\u018a\12\0" + "\67\257\1\140\2\0\1\257\1\0\1\u018b\12\0\32\257"
-      + "\1\u018c\34\257\1\140\2\0\1\257\1\0\1\u018d\12\0" + "\67\25\1\140\2\0\1\25\1\0\1\u018e\12\0\67\25"
-      + "\1\140\2\0\1\25\14\0\4\257\1\u018f\43\257\1\u018f" + "\16\257\3\0\1\257\14\0\4\257\1\u0190\43\257\1\u0190"
-      + "\16\257\3\0\1\257\41\0\1\u0191\25\0\1\u0191\37\0" + "\1\u0192\15\0\1\u0192\25\0\1\u0192\4\0\1\u0192\43\0"
-      + "\1\u0193\74\0\4\257\1\u0194\43\257\1\u0194\16\257\3\0" + "\1\257\14\0\4\257\1\u0195\43\257\1\u0195\16\257\3\0"
-      + "\1\257\14\0\4\257\1\u0196\43\257\1\u0196\16\257\3\0" + "\1\257\36\0\1\u0197\32\0\1\u0197\35\0\1\u0198\43\0"
-      + "\1\u0198\23\0\1\u0199\12\0\67\257\1\140\2\0\1\257" + "\14\0\4\257\1\u019a\43\257\1\u019a\16\257\3\0\1\257"
-      + "\14\0\4\257\1\u019b\43\257\1\u019b\16\257\3\0\1\257" + "\46\0\1\u019c\60\0\1\u019d\43\0\1\u019d\22\0";
+      + "\1\131\1\132\1\133\1\134\33\0\7\135\14\0\3\15" + "\77\0\1\136\12\0\1\25\1\137\66\25\1\140\2\0"
+      + "\1\25\1\0\1\136\12\0\7\25\1\141\4\25\1\142" + "\11\25\1\142\13\25\1\141\25\25\1\140\2\0\1\25"
+      + "\1\0\1\136\12\0\1\25\1\143\4\25\1\144\14\25" + "\1\145\3\25\1\143\14\25\1\145\23\25\1\140\2\0"
+      + "\1\25\1\0\1\136\12\0\2\25\1\146\47\25\1\146" + "\15\25\1\140\2\0\1\25\1\0\1\136\12\0\1\25"
+      + "\1\147\1\150\2\25\1\144\4\25\1\151\1\152\1\153" + "\1\25\1\154\1\155\1\25\1\144\1\156\1\25\1\144"
+      + "\1\25\1\153\1\147\1\25\1\152\1\157\1\155\1\25" + "\1\151\11\25\1\154\2\25\1\150\2\25\1\156\2\25"
+      + "\1\144\1\160\5\144\1\25\1\140\2\0\1\25\1\0" + "\1\136\12\0\70\25\1\140\2\0\1\25\1\0\1\136"
+      + "\12\0\12\25\1\161\6\25\1\144\1\25\1\162\1\144" + "\5\25\1\163\2\25\1\161\6\25\1\162\14\25\5\144"
+      + "\2\25\1\140\2\0\1\25\1\0\1\136\12\0\4\25" + "\1\164\1\25\1\165\30\25\1\165\10\25\1\164\17\25"
+      + "\1\140\2\0\1\25\1\0\1\136\12\0\5\25\1\144" + "\1\166\12\25\1\144\2\25\1\144\12\25\1\166\21\25"
+      + "\4\144\3\25\1\140\2\0\1\25\1\0\1\136\12\0" + "\1\25\1\167\1\25\1\170\23\25\1\167\21\25\1\170"
+      + "\16\25\1\140\2\0\1\25\1\0\1\136\12\0\5\25" + "\1\144\62\25\1\140\2\0\1\25\1\0\1\136\12\0"
+      + "\1\25\1\171\10\25\1\172\1\173\3\25\1\174\7\25" + "\1\171\1\25\1\173\1\25\1\174\1\25\1\172\32\25"
+      + "\1\140\2\0\1\25\1\0\1\136\12\0\6\25\1\175" + "\1\25\1\176\3\25\1\177\1\25\1\200\3\25\1\201"
+      + "\3\25\1\177\3\25\1\202\4\25\1\175\1\176\6\25" + "\1\200\5\25\1\201\12\25\1\140\2\0\1\25\1\0"
+      + "\1\136\12\0\1\25\1\203\2\25\1\204\1\144\1\205" + "\1\206\1\25\1\207\1\210\4\25\1\211\1\25\1\212"
+      + "\1\25\1\213\1\214\2\25\1\203\3\25\1\211\1\25" + "\1\210\1\25\1\215\2\25\1\206\1\25\1\213\1\25"
+      + "\1\216\1\25\1\217\7\25\1\214\1\212\1\220\4\214" + "\1\25\1\140\2\0\1\25\1\0\1\221\13\0\1\222"
+      + "\17\0\1\36\2\0\1\36\2\0\1\222\30\0\7\36" + "\6\0\1\136\12\0\10\25\1\223\27\25\1\223\27\25"
+      + "\1\140\2\0\1\25\1\0\1\136\12\0\3\25\1\224" + "\15\25\1\225\2\25\1\144\24\25\1\224\6\25\1\144"
+      + "\1\225\1\160\4\144\1\25\1\140\2\0\1\25\1\0" + "\1\136\12\0\6\25\1\166\30\25\1\166\30\25\1\140"
+      + "\2\0\1\25\1\0\1\136\12\0\12\25\1\161\10\25" + "\1\162\6\25\1\163\2\25\1\161\6\25\1\162\23\25"
+      + "\1\140\2\0\1\25\1\0\1\136\12\0\2\25\1\226" + "\3\25\1\227\30\25\1\227\12\25\1\226\15\25\1\140"
+      + "\2\0\1\25\1\0\1\136\12\0\32\25\1\230\12\25" + "\1\231\22\25\1\140\2\0\1\231\1\0\1\136\12\0"
+      + "\1\25\1\147\1\150\7\25\1\151\1\152\1\153\1\25" + "\1\154\1\155\2\25\1\156\3\25\1\153\1\147\1\25"
+      + "\1\152\1\157\1\155\1\25\1\151\11\25\1\154\2\25" + "\1\150\2\25\1\156\12\25\1\140\2\0\1\25\1\0"
+      + "\1\136\12\0\1\25\1\143\21\25\1\145\3\25\1\143" + "\14\25\1\145\23\25\1\140\2\0\1\25\1\0\1\136"
+      + "\12\0\1\25\1\203\2\25\1\217\1\25\1\215\1\206" + "\2\25\1\210\4\25\1\211\1\25\1\212\1\25\1\213"
+      + "\1\214\2\25\1\203\3\25\1\211\1\25\1\210\1\25" + "\1\215\2\25\1\206\1\25\1\213\1\25\1\216\1\25"
+      + "\1\217\7\25\1\214\1\212\1\220\4\214\1\25\1\140" + "\2\0\1\25\1\0\1\221\13\0\1\222\12\0\1\232"
+      + "\4\0\1\36\2\0\1\36\1\233\1\232\1\222\23\0" + "\1\233\4\0\7\36\6\0\1\221\33\0\1\36\2\0"
+      + "\1\36\33\0\7\36\14\0\1\54\107\0\1\61\107\0" + "\1\63\107\0\1\100\115\0\1\234\111\0\1\235\105\0"
+      + "\1\236\3\0\1\237\3\0\1\240\4\0\1\241\112\0" + "\1\242\72\0\1\243\12\0\1\244\71\0\1\245\125\0"
+      + "\1\246\74\0\1\247\1\0\1\250\6\0\1\251\100\0" + "\1\252\104\0\1\253\123\0\1\254\71\0\1\222\12\0"
+      + "\1\255\4\0\1\135\2\0\1\135\2\0\1\222\30\0" + "\7\135\24\0\1\256\112\0\1\257\102\0\1\222\12\0"
+      + "\1\260\4\0\1\135\2\0\1\135\2\0\1\222\30\0" + "\7\135\22\0\1\222\17\0\1\135\2\0\1\135\2\0"
+      + "\1\222\30\0\7\135\21\0\70\261\3\0\1\261\1\0" + "\1\136\12\0\2\25\1\262\65\25\1\140\2\0\1\25"
+      + "\1\0\1\136\12\0\6\25\1\263\30\25\1\263\30\25" + "\1\140\2\0\1\25\1\0\1\136\12\0\2\25\1\264"
+      + "\47\25\1\264\15\25\1\140\2\0\1\25\1\0\1\136" + "\12\0\11\25\1\265\22\25\1\265\11\25\1\266\21\25"
+      + "\1\140\2\0\1\25\1\0\1\136\12\0\7\25\1\267" + "\1\270\1\271\22\25\1\271\3\25\1\270\1\25\1\267"
+      + "\25\25\1\140\2\0\1\25\1\0\1\136\12\0\10\25" + "\1\272\27\25\1\272\27\25\1\140\2\0\1\25\1\0"
+      + "\1\136\12\0\30\25\1\273\37\25\1\140\2\0\1\25" + "\1\0\1\136\12\0\6\25\1\274\10\25\1\275\13\25"
+      + "\1\275\3\25\1\274\30\25\1\140\2\0\1\25\1\0" + "\1\136\12\0\1\25\1\276\25\25\1\276\40\25\1\140"
+      + "\2\0\1\25\1\0\1\136\12\0\11\25\1\277\22\25" + "\1\277\33\25\1\140\2\0\1\25\1\0\1\136\12\0"
+      + "\11\25\1\300\5\25\1\301\13\25\1\301\1\300\33\25" + "\1\140\2\0\1\25\1\0\1\136\12\0\14\25\1\302"
+      + "\11\25\1\302\41\25\1\140\2\0\1\25\1\0\1\136" + "\12\0\61\25\1\144\1\25\1\144\4\25\1\140\2\0"
+      + "\1\25\1\0\1\136\12\0\23\25\1\303\20\25\1\303" + "\23\25\1\140\2\0\1\25\1\0\1\136\12\0\23\25"
+      + "\1\304\20\25\1\304\23\25\1\140\2\0\1\25\1\0" + "\1\136\12\0\10\25\1\305\27\25\1\305\27\25\1\140"
+      + "\2\0\1\25\1\0\1\136\12\0\2\25\1\306\47\25" + "\1\306\15\25\1\140\2\0\1\25\1\0\1\136\12\0"
+      + "\17\25\1\307\13\25\1\307\34\25\1\140\2\0\1\25" + "\1\0\1\136\12\0\10\25\1\310\27\25\1\310\27\25"
+      + "\1\140\2\0\1\25\1\0\1\136\12\0\13\25\1\311" + "\15\25\1\311\36\25\1\140\2\0\1\25\1\0\1\136"
+      + "\12\0\5\25\1\312\3\25\1\313\22\25\1\313\4\25" + "\1\312\26\25\1\140\2\0\1\25\1\0\1\136\12\0"
+      + "\30\25\1\314\37\25\1\140\2\0\1\25\1\0\1\136" + "\12\0\1\25\1\315\25\25\1\315\40\25\1\140\2\0"
+      + "\1\25\1\0\1\136\12\0\1\25\1\316\7\25\1\317" + "\15\25\1\316\4\25\1\317\33\25\1\140\2\0\1\25"
+      + "\1\0\1\136\12\0\1\25\1\320\7\25\1\321\15\25" + "\1\320\4\25\1\321\33\25\1\140\2\0\1\25\1\0"
+      + "\1\136\12\0\32\25\1\322\35\25\1\140\2\0\1\25" + "\1\0\1\136\12\0\32\25\1\323\35\25\1\140\2\0"
+      + "\1\25\1\0\1\136\12\0\10\25\1\324\27\25\1\324" + "\27\25\1\140\2\0\1\25\1\0\1\136\12\0\30\25"
+      + "\1\325\37\25\1\140\2\0\1\25\1\0\1\136\12\0" + "\13\25\1\326\5\25\1\214\1\327\1\25\1\214\3\25"
+      + "\1\330\1\326\1\331\22\25\1\327\2\25\1\214\1\220" + "\5\214\1\25\1\140\2\0\1\25\1\0\1\136\12\0"
+      + "\14\25\1\332\4\25\1\214\1\25\1\333\1\214\1\25" + "\1\332\15\25\1\333\14\25\6\214\1\25\1\140\2\0"
+      + "\1\25\1\0\1\136\12\0\17\25\1\334\13\25\1\334" + "\11\25\1\335\22\25\1\140\2\0\1\335\1\0\1\136"
+      + "\12\0\21\25\1\214\2\25\1\214\33\25\1\214\1\220" + "\5\214\1\25\1\140\2\0\1\25\1\0\1\136\12\0"
+      + "\1\25\1\336\25\25\1\336\16\25\1\337\21\25\1\140" + "\2\0\1\25\1\0\1\136\12\0\1\25\1\340\7\25"
+      + "\1\341\10\25\1\342\4\25\1\340\4\25\1\341\20\25" + "\1\342\12\25\1\140\2\0\1\25\1\0\1\136\12\0"
+      + "\21\25\1\214\2\25\1\214\33\25\7\214\1\25\1\140" + "\2\0\1\25\1\0\1\136\12\0\10\25\1\343\27\25"
+      + "\1\343\27\25\1\140\2\0\1\25\1\0\1\136\12\0" + "\14\25\1\332\6\25\1\333\2\25\1\332\15\25\1\333"
+      + "\23\25\1\140\2\0\1\25\1\0\1\136\12\0\4\25" + "\1\344\1\25\1\345\1\25\1\346\21\25\1\347\4\25"
+      + "\1\345\1\346\4\25\1\350\2\25\1\344\17\25\1\140" + "\2\0\1\350\1\0\1\136\12\0\13\25\1\326\6\25"
+      + "\1\327\5\25\1\330\1\326\1\331\22\25\1\327\12\25" + "\1\140\2\0\1\25\1\0\1\136\12\0\61\25\1\214"
+      + "\1\25\1\214\4\25\1\140\2\0\1\25\35\0\1\135" + "\2\0\1\135\33\0\7\135\42\0\1\351\2\0\1\351"
+      + "\33\0\7\351\2\0\1\352\3\0\1\136\12\0\45\25" + "\1\353\22\25\1\140\2\0\1\353\1\0\1\136\12\0"
+      + "\2\25\1\354\47\25\1\354\15\25\1\140\2\0\1\25" + "\1\0\1\136\12\0\21\25\1\144\2\25\1\144\33\25"
+      + "\7\144\1\25\1\140\2\0\1\25\1\0\1\136\12\0" + "\17\25\1\355\13\25\1\355\34\25\1\140\2\0\1\25"
+      + "\1\0\1\136\12\0\17\25\1\356\13\25\1\356\34\25" + "\1\140\2\0\1\25\75\0\1\357\1\0\1\357\25\0"
+      + "\1\360\4\0\2\360\4\0\1\360\3\0\2\360\1\0" + "\2\360\1\0\2\360\7\0\1\360\2\0\1\360\1\0"
+      + "\1\360\7\0\1\360\3\0\7\360\23\0\1\361\130\0" + "\1\362\73\0\1\363\106\0\1\364\103\0\1\365\110\0"
+      + "\1\366\112\0\1\367\110\0\1\370\110\0\1\371\124\0" + "\1\372\65\0\1\373\110\0\1\374\122\0\1\375\101\0"
+      + "\1\376\115\0\1\377\102\0\1\u0100\100\0\1\u0101\121\0"
+      + "\1\u0102\74\0\1\u0103\116\0\1\u0104\113\0\1\u0105\72\0" + "\70\261\1\140\2\0\1\261\1\0\1\136\12\0\3\25"
+      + "\1\144\64\25\1\140\2\0\1\25\1\0\1\136\12\0" + "\17\25\1\u0106\13\25\1\u0106\34\25\1\140\2\0\1\25"
+      + "\1\0\1\136\12\0\1\25\1\u0107\25\25\1\u0107\40\25" + "\1\140\2\0\1\25\1\0\1\136\12\0\32\25\1\u0108"
+      + "\35\25\1\140\2\0\1\25\1\0\1\136\12\0\15\25" + "\1\u0109\41\25\1\u0109\10\25\1\140\2\0\1\25\1\0"
+      + "\1\136\12\0\12\25\1\u010a\22\25\1\u010a\32\25\1\140" + "\2\0\1\25\1\0\1\136\12\0\10\25\1\u010b\27\25"
+      + "\1\u010b\27\25\1\140\2\0\1\25\1\0\1\136\12\0" + "\1\u010c\35\25\1\u010c\31\25\1\140\2\0\1\25\1\0"
+      + "\1\136\12\0\10\25\1\u010d\27\25\1\u010d\27\25\1\140" + "\2\0\1\25\1\0\1\136\12\0\10\25\1\u010e\27\25"
+      + "\1\u010e\27\25\1\140\2\0\1\25\1\0\1\136\12\0" + "\1\u010f\35\25\1\u010f\31\25\1\140\2\0\1\25\1\0"
+      + "\1\136\12\0\1\u0110\35\25\1\u0110\31\25\1\140\2\0" + "\1\25\1\0\1\136\12\0\1\u0111\7\25\1\u0112\21\25"
+      + "\1\u0113\3\25\1\u0111\1\25\1\u0112\27\25\1\140\2\0" + "\1\25\1\0\1\136\12\0\10\25\1\u0114\27\25\1\u0114"
+      + "\27\25\1\140\2\0\1\25\1\0\1\136\12\0\10\25" + "\1\u0115\27\25\1\u0115\27\25\1\140\2\0\1\25\1\0"
+      + "\1\136\12\0\10\25\1\u0116\27\25\1\u0116\27\25\1\140" + "\2\0\1\25\1\0\1\136\12\0\5\25\1\u0117\33\25"
+      + "\1\u0117\26\25\1\140\2\0\1\25\1\0\1\136\12\0" + "\2\25\1\u0118\47\25\1\u0118\15\25\1\140\2\0\1\25"
+      + "\1\0\1\136\12\0\17\25\1\u0119\13\25\1\u0119\34\25" + "\1\140\2\0\1\25\1\0\1\136\12\0\17\25\1\u011a"
+      + "\13\25\1\u011a\34\25\1\140\2\0\1\25\1\0\1\136" + "\12\0\1\u011b\35\25\1\u011b\31\25\1\140\2\0\1\25"
+      + "\1\0\1\136\12\0\1\u011c\35\25\1\u011c\31\25\1\140" + "\2\0\1\25\1\0\1\136\12\0\1\u011d\31\25\1\u011e"
+      + "\3\25\1\u011d\31\25\1\140\2\0\1\25\1\0\1\136" + "\12\0\1\u011f\31\25\1\u0120\3\25\1\u011f\31\25\1\140"
+      + "\2\0\1\25\1\0\1\136\12\0\1\u0121\31\25\1\u0122" + "\3\25\1\u0121\31\25\1\140\2\0\1\25\1\0\1\136"
+      + "\12\0\1\u0123\31\25\1\u0124\3\25\1\u0123\31\25\1\140" + "\2\0\1\25\1\0\1\u0125\12\0\70\25\1\140\2\0"
+      + "\1\25\1\0\1\136\12\0\12\25\1\u0126\22\25\1\u0126" + "\32\25\1\140\2\0\1\25\1\0\1\136\12\0\2\25"
+      + "\1\u0127\47\25\1\u0127\15\25\1\140\2\0\1\25\1\0" + "\1\136\12\0\14\25\1\u0128\11\25\1\u0128\41\25\1\140"
+      + "\2\0\1\25\1\0\1\136\12\0\4\25\1\u0129\43\25" + "\1\u0129\17\25\1\140\2\0\1\25\1\0\1\136\12\0"
+      + "\23\25\1\u012a\20\25\1\u012a\23\25\1\140\2\0\1\25" + "\1\0\1\136\12\0\6\25\1\u012b\30\25\1\u012b\30\25"
+      + "\1\140\2\0\1\25\1\0\1\136\12\0\11\25\1\u012c" + "\22\25\1\u012c\33\25\1\140\2\0\1\25\1\0\1\136"
+      + "\12\0\13\25\1\u012d\15\25\1\u012d\36\25\1\140\2\0" + "\1\25\1\0\1\136\12\0\4\25\1\u012e\1\25\1\u012f"
+      + "\30\25\1\u012f\10\25\1\u012e\17\25\1\140\2\0\1\25" + "\1\0\1\u0130\12\0\70\25\1\140\2\0\1\25\1\0"
+      + "\1\u0131\12\0\70\25\1\140\2\0\1\25\1\0\1\136" + "\12\0\45\25\1\u0132\22\25\1\140\2\0\1\u0132\1\0"
+      + "\1\136\12\0\32\25\1\u0133\35\25\1\140\2\0\1\25" + "\1\0\1\136\12\0\23\25\1\u0134\1\25\1\u0135\16\25"
+      + "\1\u0134\6\25\1\u0135\14\25\1\140\2\0\1\25\1\0" + "\1\136\12\0\12\25\1\u0136\22\25\1\u0136\32\25\1\140"
+      + "\2\0\1\25\1\0\1\136\12\0\17\25\1\u0137\13\25" + "\1\u0137\34\25\1\140\2\0\1\25\1\0\1\u0138\12\0"
+      + "\70\25\1\140\2\0\1\25\35\0\1\351\2\0\1\351" + "\33\0\7\351\6\0\1\136\12\0\32\25\1\u0139\35\25"
+      + "\1\140\2\0\1\25\1\0\1\136\12\0\10\25\1\u013a" + "\27\25\1\u013a\27\25\1\140\2\0\1\25\1\0\1\136"
+      + "\12\0\2\25\1\u013b\47\25\1\u013b\15\25\1\140\2\0" + "\1\25\1\0\1\136\12\0\16\25\1\u013c\30\25\1\u013c"
+      + "\20\25\1\140\2\0\1\25\17\0\1\u013d\112\0\1\u013e" + "\112\0\1\u013f\105\0\1\u0140\110\0\1\u0141\101\0\1\u0142"
+      + "\124\0\1\244\100\0\1\u0143\112\0\1\u0144\105\0\1\u0145"
+      + "\112\0\1\u0146\103\0\1\u0147\100\0\1\u0148\126\0\1\u0149"
+      + "\102\0\1\u014a\102\0\1\u014b\112\0\1\u014c\121\0\1\u014a" + "\72\0\1\u014d\112\0\1\u014e\63\0\1\136\12\0\17\25"
+      + "\1\u014f\13\25\1\u014f\34\25\1\140\2\0\1\25\1\0" + "\1\136\12\0\6\25\1\u0150\30\25\1\u0150\30\25\1\140"
+      + "\2\0\1\25\1\0\1\136\12\0\7\25\1\u0151\32\25" + "\1\u0151\25\25\1\140\2\0\1\25\1\0\1\136\12\0"
+      + "\4\25\1\u0152\43\25\1\u0152\17\25\1\140\2\0\1\25" + "\1\0\1\136\12\0\46\25\1\u0153\21\25\1\140\2\0"
+      + "\1\25\1\0\1\136\12\0\32\25\1\u0154\35\25\1\140" + "\2\0\1\25\1\0\1\136\12\0\7\25\1\u0155\32\25"
+      + "\1\u0155\25\25\1\140\2\0\1\25\1\0\1\136\12\0" + "\4\25\1\u0156\2\25\1\u0157\12\25\1\u0158\17\25\1\u0157"
+      + "\5\25\1\u0156\4\25\1\u0158\12\25\1\140\2\0\1\25" + "\14\0\4\261\1\u0159\43\261\1\u0159\17\261\3\0\1\261"
+      + "\1\0\1\136\12\0\43\25\1\u015a\24\25\1\140\2\0" + "\1\25\1\0\1\136\12\0\11\25\1\u015b\22\25\1\u015b"
+      + "\33\25\1\140\2\0\1\25\1\0\1\u015c\12\0\70\25" + "\1\140\2\0\1\25\1\0\1\u015d\12\0\70\25\1\140"
+      + "\2\0\1\25\1\0\1\u015e\12\0\70\25\1\140\2\0" + "\1\25\1\0\1\136\12\0\4\25\1\u015f\43\25\1\u015f"
+      + "\17\25\1\140\2\0\1\25\1\0\1\u0160\12\0\70\25" + "\1\140\2\0\1\25\1\0\1\u0161\12\0\70\25\1\140"
+      + "\2\0\1\25\1\0\1\136\12\0\32\25\1\u0162\35\25" + "\1\140\2\0\1\25\1\0\1\136\12\0\23\25\1\u0163"
+      + "\20\25\1\u0163\23\25\1\140\2\0\1\25\14\0\4\261" + "\1\u0164\43\261\1\u0164\17\261\3\0\1\261\14\0\4\261"
+      + "\1\u0165\43\261\1\u0165\17\261\3\0\1\261\1\0\1\u0166" + "\12\0\70\25\1\140\2\0\1\25\1\0\1\136\12\0"
+      + "\14\25\1\u0167\11\25\1\u0167\41\25\1\140\2\0\1\25" + "\1\0\1\136\12\0\23\25\1\u0168\20\25\1\u0168\23\25"
+      + "\1\140\2\0\1\25\1\0\1\u0169\12\0\70\25\1\140" + "\2\0\1\25\1\0\1\u016a\12\0\70\25\1\140\2\0"
+      + "\1\25\1\0\1\u016b\12\0\70\25\1\140\2\0\1\25" + "\14\0\4\261\1\u016c\15\261\1\u016d\2\261\1\u016e\22\261"
+      + "\1\u016c\2\261\1\u016e\1\261\1\u016d\12\261\3\0\1\261" + "\1\0\1\136\12\0\4\25\1\u016f\25\25\1\u0170\15\25"
+      + "\1\u016f\17\25\1\140\2\0\1\25\25\0\1\u0171\106\0" + "\1\u0172\100\0\1\u013d\120\0\1\u0173\106\0\1\u0149\76\0"
+      + "\1\u0174\7\0\1\u0175\111\0\1\u0176\103\0\1\u0177\10\0"
+      + "\1\u0178\103\0\1\u0179\105\0\1\u017a\77\0\1\u0149\107\0" + "\1\u014a\73\0\1\136\12\0\56\25\1\u017b\11\25\1\140"
+      + "\2\0\1\25\1\0\1\136\12\0\17\25\1\u017c\13\25" + "\1\u017c\34\25\1\140\2\0\1\25\1\0\1\136\12\0"
+      + "\11\25\1\u017d\22\25\1\u017d\33\25\1\140\2\0\1\25" + "\1\0\1\136\12\0\1\25\1\u017e\25\25\1\u017e\40\25"
+      + "\1\140\2\0\1\25\1\0\1\136\12\0\10\25\1\u017f" + "\27\25\1\u017f\27\25\1\140\2\0\1\25\1\0\1\136"
+      + "\12\0\10\25\1\u0180\27\25\1\u0180\27\25\1\140\2\0" + "\1\25\1\0\1\136\12\0\10\25\1\u0181\27\25\1\u0181"
+      + "\27\25\1\140\2\0\1\25\1\0\1\u0182\12\0\12\25" + "\1\u0183\12\25\1\u0184\7\25\1\u0183\15\25\1\u0184\14\25"
+      + "\1\140\2\0\1\25\1\0\1\u0185\12\0\70\25\1\140" + "\2\0\1\25\14\0\4\261\1\u0186\43\261\1\u0186\17\261"
+      + "\3\0\1\261\14\0\4\261\1\u0187\43\261\1\u0187\17\261" + "\3\0\1\261\14\0\4\261\1\u0188\43\261\1\u0188\17\261"
+      + "\3\0\1\261\1\0\1\136\12\0\4\25\1\u0189\43\25" + "\1\u0189\17\25\1\140\2\0\1\25\14\0\4\261\1\u018a"
+      + "\15\261\1\u018b\25\261\1\u018a\4\261\1\u018b\12\261\3\0"
+      + "\1\261\14\0\4\261\1\u018c\43\261\1\u018c\17\261\3\0" + "\1\261\1\0\1\136\12\0\14\25\1\u018d\11\25\1\u018d"
+      + "\41\25\1\140\2\0\1\25\1\0\1\136\12\0\23\25" + "\1\u018e\20\25\1\u018e\23\25\1\140\2\0\1\25\14\0"
+      + "\4\261\1\u018f\43\261\1\u018f\17\261\3\0\1\261\1\0" + "\1\u0190\12\0\70\25\1\140\2\0\1\25\1\0\1\u0191"
+      + "\12\0\70\25\1\140\2\0\1\25\14\0\4\261\1\u0192" + "\43\261\1\u0192\17\261\3\0\1\261\14\0\4\261\1\u0193"
+      + "\43\261\1\u0193\17\261\3\0\1\261\14\0\4\261\1\u0194" + "\43\261\1\u0194\17\261\3\0\1\261\1\0\1\u0195\12\0"
+      + "\70\261\1\140\2\0\1\261\1\0\1\u0196\12\0\70\261" + "\1\140\2\0\1\261\1\0\1\136\12\0\32\25\1\u0197"
+      + "\35\25\1\140\2\0\1\25\22\0\1\u0198\104\0\1\u0199" + "\117\0\1\u0174\74\0\1\u0174\126\0\1\u0178\102\0\1\u019a"
+      + "\62\0\1\136\12\0\1\25\1\u019b\25\25\1\u019b\40\25" + "\1\140\2\0\1\25\1\0\1\136\12\0\2\25\1\u019c"
+      + "\47\25\1\u019c\15\25\1\140\2\0\1\25\1\0\1\136" + "\12\0\16\25\1\u019d\30\25\1\u019d\20\25\1\140\2\0"
+      + "\1\25\14\0\4\261\1\u019e\43\261\1\u019e\17\261\3\0" + "\1\261\1\0\1\u019f\12\0\70\25\1\140\2\0\1\25"
+      + "\1\0\1\u01a0\12\0\70\25\1\140\2\0\1\25\14\0" + "\4\261\1\u01a1\43\261\1\u01a1\17\261\3\0\1\261\1\0"
+      + "\1\u01a2\12\0\70\25\1\140\2\0\1\25\1\0\1\u01a3" + "\12\0\70\261\1\140\2\0\1\261\1\0\1\u01a4\12\0"
+      + "\32\261\1\u01a5\35\261\1\140\2\0\1\261\1\0\1\u01a6" + "\12\0\70\25\1\140\2\0\1\25\1\0\1\u01a7\12\0"
+      + "\70\25\1\140\2\0\1\25\14\0\4\261\1\u01a8\43\261" + "\1\u01a8\17\261\3\0\1\261\14\0\4\261\1\u01a9\43\261"
+      + "\1\u01a9\17\261\3\0\1\261\41\0\1\u01aa\25\0\1\u01aa" + "\40\0\1\u01ab\15\0\1\u01ab\25\0\1\u01ab\4\0\1\u01ab"
+      + "\44\0\1\u01ac\62\0\1\136\12\0\16\25\1\u01ad\30\25" + "\1\u01ad\20\25\1\140\2\0\1\25\1\0\1\136\12\0"
+      + "\1\25\1\u01ae\25\25\1\u01ae\40\25\1\140\2\0\1\25" + "\14\0\4\261\1\u01af\43\261\1\u01af\17\261\3\0\1\261"
+      + "\14\0\4\261\1\u01b0\43\261\1\u01b0\17\261\3\0\1\261" + "\14\0\4\261\1\u01b1\43\261\1\u01b1\17\261\3\0\1\261"
+      + "\36\0\1\u01b2\32\0\1\u01b2\36\0\1\u01b3\43\0\1\u01b3" + "\24\0\1\u01b4\12\0\70\261\1\140\2\0\1\261\14\0"
+      + "\4\261\1\u01b5\43\261\1\u01b5\17\261\3\0\1\261\14\0" + "\4\261\1\u01b6\43\261\1\u01b6\17\261\3\0\1\261\1\0"
+      + "\1\136\12\0\11\25\1\u01b7\22\25\1\u01b7\33\25\1\140" + "\2\0\1\25\46\0\1\u01b8\61\0\1\u01b9\43\0\1\u01b9"
+      + "\24\0\1\136\12\0\16\25\1\u01ba\30\25\1\u01ba\20\25" + "\1\140\2\0\1\25";
 
   private static int[] zzUnpackTrans() {
-    int[] result = new int[19738];
+    int[] result = new int[21672];
     int offset = 0;
     offset = zzUnpackTrans(ZZ_TRANS_PACKED_0, offset, result);
     return result;
@@ -377,14 +399,14 @@ public final class Lexer implements java_cup.runtime.Scanner {
   private static final int[] ZZ_ATTRIBUTE = zzUnpackAttribute();
 
   private static final String ZZ_ATTRIBUTE_PACKED_0 = "\6\0\1\11\1\1\4\11\1\1\2\11\32\1\3\11"
-      + "\1\1\4\11\1\1\3\11\1\1\12\11\1\1\14\11" + "\13\0\1\1\2\0\2\1\1\0\1\1\1\11\56\1"
-      + "\2\0\7\1\27\0\65\1\1\0\6\1\13\0\1\11" + "\11\0\33\1\1\0\12\1\2\0\6\1\1\0\4\1"
-      + "\1\11\7\0\1\11\2\0\3\11\2\0\1\11\1\0" + "\7\1\3\0\1\1\2\0\4\1\1\0\2\1\3\0"
-      + "\5\1\3\0\1\11\1\1\1\11\1\0\1\11\1\0" + "\1\11\1\1\1\0\2\1\1\0\12\1\2\0\3\1"
-      + "\2\0\1\1\1\11\1\0\1\11\1\1\2\0\1\1" + "\3\0\1\1\2\0\2\1\3\11\4\1\1\11\1\0" + "\2\1\2\11";
+      + "\1\1\4\11\1\1\3\11\1\1\12\11\1\1\14\11" + "\13\0\1\1\2\0\2\1\1\0\1\1\1\11\60\1"
+      + "\2\0\7\1\27\0\71\1\1\0\6\1\13\0\1\11" + "\11\0\37\1\1\0\12\1\2\0\6\1\1\0\4\1"
+      + "\1\11\7\0\1\11\2\0\3\11\2\0\1\11\1\0" + "\15\1\3\0\1\1\2\0\4\1\1\0\2\1\3\0"
+      + "\5\1\3\0\1\11\1\1\1\11\1\0\1\11\1\0" + "\1\11\7\1\1\0\2\1\1\0\12\1\2\0\3\1"
+      + "\2\0\1\1\1\11\1\0\1\11\4\1\2\0\1\1" + "\3\0\1\1\2\0\2\1\3\11\6\1\1\11\1\0" + "\3\1\2\11\1\1";
 
   private static int[] zzUnpackAttribute() {
-    int[] result = new int[413];
+    int[] result = new int[442];
     int offset = 0;
     offset = zzUnpackAttribute(ZZ_ATTRIBUTE_PACKED_0, offset, result);
     return result;
@@ -860,63 +882,63 @@ public final class Lexer implements java_cup.runtime.Scanner {
             return symbol(Token.ERROR, "(syntax) unexpected character: '" + yytext() + "'");
           }
           // fall through
-          case 166:
+          case 179:
             break;
           case 2: {
             return symbol(Token.DOT);
           }
           // fall through
-          case 167:
+          case 180:
             break;
           case 3: {
             return symbol(Token.COMMA);
           }
           // fall through
-          case 168:
+          case 181:
             break;
           case 4: {
             return symbol(Token.LPAREN);
           }
           // fall through
-          case 169:
+          case 182:
             break;
           case 5: {
             return symbol(Token.RPAREN);
           }
           // fall through
-          case 170:
+          case 183:
             break;
           case 6: {
             this.text.setLength(0);
             yybegin(STRING);
           }
           // fall through
-          case 171:
+          case 184:
             break;
           case 7: {
             return symbol(Token.NEWLINE);
           }
           // fall through
-          case 172:
+          case 185:
             break;
           case 8: {
             this.text.setLength(0);
             yybegin(CHARACTER);
           }
           // fall through
-          case 173:
+          case 186:
             break;
           case 9: {
             yybegin(COMMENT);
           }
           // fall through
-          case 174:
+          case 187:
             break;
           case 10: {
             return symbol(Token.IDENTIFIER);
           }
           // fall through
-          case 175:
+          case 188:
             break;
           case 11: {
             try {
@@ -926,49 +948,49 @@ public final class Lexer implements java_cup.runtime.Scanner {
             }
           }
           // fall through
-          case 176:
+          case 189:
             break;
           case 12: {
             return symbol(Token.I_J);
           }
           // fall through
-          case 177:
+          case 190:
             break;
           case 13: { /* do nothing */
           }
           // fall through
-          case 178:
+          case 191:
             break;
           case 14: { /* NOTHING TO DO */
           }
           // fall through
-          case 179:
+          case 192:
             break;
           case 15: {
             yypushback(yylength());
             yybegin(YYINITIAL);
           }
           // fall through
-          case 180:
+          case 193:
             break;
           case 16: {
             this.text.append(yytext());
           }
           // fall through
-          case 181:
+          case 194:
             break;
           case 17: {
             yybegin(YYINITIAL);
             return symbol(Token.STRING, this.text.toString());
           }
           // fall through
-          case 182:
+          case 195:
             break;
           case 18: {
             yybegin(SBACKSLASH);
           }
           // fall through
-          case 183:
+          case 196:
             break;
           case 19: {
             yypushback(yylength());
@@ -976,90 +998,90 @@ public final class Lexer implements java_cup.runtime.Scanner {
             return symbol(Token.ERROR, "unterminated string constant");
           }
           // fall through
-          case 184:
+          case 197:
             break;
           case 20: {
             this.text.append(yytext());
             yybegin(STRING);
           }
           // fall through
-          case 185:
+          case 198:
             break;
           case 21: {
             this.text.append("\"");
             yybegin(STRING);
           }
           // fall through
-          case 186:
+          case 199:
             break;
           case 22: {
             this.text.append("\\");
             yybegin(STRING);
           }
           // fall through
-          case 187:
+          case 200:
             break;
           case 23: {
             this.text.append("'");
             yybegin(STRING);
           }
           // fall through
-          case 188:
+          case 201:
             break;
           case 24: {
             this.text.append('\r');
             yybegin(STRING);
           }
           // fall through
-          case 189:
+          case 202:
             break;
           case 25: {
             this.text.append('\t');
             yybegin(STRING);
           }
           // fall through
-          case 190:
+          case 203:
             break;
           case 26: {
             this.text.append(System.getProperty("line.separator"));
             yybegin(STRING);
           }
           // fall through
-          case 191:
+          case 204:
             break;
           case 27: {
             this.text.append('\b');
             yybegin(STRING);
           }
           // fall through
-          case 192:
+          case 205:
             break;
           case 28: {
             this.text.append('\f');
             yybegin(STRING);
           }
           // fall through
-          case 193:
+          case 206:
             break;
           case 29: {
             this.text.append('\0');
             yybegin(STRING);
           }
           // fall through
-          case 194:
+          case 207:
             break;
           case 30: {
             this.text.append((char) 11);
             yybegin(STRING);
           }
           // fall through
-          case 195:
+          case 208:
             break;
           case 31: {
             yybegin(CBACKSLASH);
           }
           // fall through
-          case 196:
+          case 209:
             break;
           case 32: {
             yypushback(yylength());
@@ -1067,7 +1089,7 @@ public final class Lexer implements java_cup.runtime.Scanner {
             return symbol(Token.ERROR, "unterminated char constant");
           }
           // fall through
-          case 197:
+          case 210:
             break;
           case 33: {
             yybegin(YYINITIAL);
@@ -1078,84 +1100,84 @@ public final class Lexer implements java_cup.runtime.Scanner {
               return symbol(Token.ERROR, "invalid char: '" + ch + "'");
           }
           // fall through
-          case 198:
+          case 211:
             break;
           case 34: {
             this.text.append(yytext());
             yybegin(CHARACTER);
           }
           // fall through
-          case 199:
+          case 212:
             break;
           case 35: {
             this.text.append("\"");
             yybegin(CHARACTER);
           }
           // fall through
-          case 200:
+          case 213:
             break;
           case 36: {
             this.text.append("\\");
             yybegin(CHARACTER);
           }
           // fall through
-          case 201:
+          case 214:
             break;
           case 37: {
             this.text.append("\'");
             yybegin(CHARACTER);
           }
           // fall through
-          case 202:
+          case 215:
             break;
           case 38: {
             this.text.append((char) '\r');
             yybegin(CHARACTER);
           }
           // fall through
-          case 203:
+          case 216:
             break;
           case 39: {
             this.text.append('\t');
             yybegin(CHARACTER);
           }
           // fall through
-          case 204:
+          case 217:
             break;
           case 40: {
             this.text.append('\n');
             yybegin(CHARACTER);
           }
           // fall through
-          case 205:
+          case 218:
             break;
           case 41: {
             this.text.append('\b');
             yybegin(CHARACTER);
           }
           // fall through
-          case 206:
+          case 219:
             break;
           case 42: {
             this.text.append('\f');
             yybegin(CHARACTER);
           }
           // fall through
-          case 207:
+          case 220:
             break;
           case 43: {
             this.text.append('\0');
             yybegin(CHARACTER);
           }
           // fall through
-          case 208:
+          case 221:
             break;
           case 44: {
             this.text.append((char) 11);
             yybegin(CHARACTER);
           }
           // fall through
-          case 209:
+          case 222:
             break;
           case 45: {
             try {
@@ -1165,259 +1187,259 @@ public final class Lexer implements java_cup.runtime.Scanner {
             }
           }
           // fall through
-          case 210:
+          case 223:
             break;
           case 46: {
             return symbol(Token.LABEL);
           }
           // fall through
-          case 211:
+          case 224:
             break;
           case 47: {
             return symbol(Token.REGISTER);
           }
           // fall through
-          case 212:
+          case 225:
             break;
           case 48: {
             return symbol(Token.I_OR);
           }
           // fall through
-          case 213:
+          case 226:
             break;
           case 49: {
             return symbol(Token.I_SB);
           }
           // fall through
-          case 214:
+          case 227:
             break;
           case 50: {
             return symbol(Token.I_SH);
           }
           // fall through
-          case 215:
+          case 228:
             break;
           case 51: {
             return symbol(Token.I_SW);
           }
           // fall through
-          case 216:
+          case 229:
             break;
           case 52: {
             return symbol(Token.I_LA);
           }
           // fall through
-          case 217:
+          case 230:
             break;
           case 53: {
             return symbol(Token.I_LI);
           }
           // fall through
-          case 218:
+          case 231:
             break;
           case 54: {
             return symbol(Token.I_LB);
           }
           // fall through
-          case 219:
+          case 232:
             break;
           case 55: {
             return symbol(Token.I_LH);
           }
           // fall through
-          case 220:
+          case 233:
             break;
           case 56: {
             return symbol(Token.I_LW);
           }
           // fall through
-          case 221:
+          case 234:
             break;
           case 57: {
             return symbol(Token.FREGISTER);
           }
           // fall through
-          case 222:
+          case 235:
             break;
           case 58: {
             return symbol(Token.I_JR);
           }
           // fall through
-          case 223:
+          case 236:
             break;
           case 59: {
             return symbol(Token.I_MV);
           }
           // fall through
-          case 224:
+          case 237:
             break;
           case 60: {
             return symbol(Token.I_RET);
           }
           // fall through
-          case 225:
+          case 238:
             break;
           case 61: {
             return symbol(Token.I_REM);
           }
           // fall through
-          case 226:
+          case 239:
             break;
           case 62: {
             return symbol(Token.I_ORI);
           }
           // fall through
-          case 227:
+          case 240:
             break;
           case 63: {
             return symbol(Token.I_SRA);
           }
           // fall through
-          case 228:
+          case 241:
             break;
           case 64: {
             return symbol(Token.I_SRL);
           }
           // fall through
-          case 229:
+          case 242:
             break;
           case 65: {
             return symbol(Token.I_SLT);
           }
           // fall through
-          case 230:
+          case 243:
             break;
           case 66: {
             return symbol(Token.I_SLL);
           }
           // fall through
-          case 231:
+          case 244:
             break;
           case 67: {
             return symbol(Token.I_SUB);
           }
           // fall through
-          case 232:
+          case 245:
             break;
           case 68: {
             return symbol(Token.I_AND);
           }
           // fall through
-          case 233:
+          case 246:
             break;
           case 69: {
             return symbol(Token.I_ADD);
           }
           // fall through
-          case 234:
+          case 247:
             break;
           case 70: {
             return symbol(Token.I_NEG);
           }
           // fall through
-          case 235:
+          case 248:
             break;
           case 71: {
             return symbol(Token.I_NOP);
           }
           // fall through
-          case 236:
+          case 249:
             break;
           case 72: {
             return symbol(Token.I_NOT);
           }
           // fall through
-          case 237:
+          case 250:
             break;
           case 73: {
             return symbol(Token.I_BEQ);
           }
           // fall through
-          case 238:
+          case 251:
             break;
           case 74: {
             return symbol(Token.I_BNE);
           }
           // fall through
-          case 239:
+          case 252:
             break;
           case 75: {
             return symbol(Token.I_BGE);
           }
           // fall through
-          case 240:
+          case 253:
             break;
           case 76: {
             return symbol(Token.I_BGT);
           }
           // fall through
-          case 241:
+          case 254:
             break;
           case 77: {
             return symbol(Token.I_BLE);
           }
           // fall through
-          case 242:
+          case 255:
             break;
           case 78: {
             return symbol(Token.I_BLT);
           }
           // fall through
-          case 243:
+          case 256:
             break;
           case 79: {
             return symbol(Token.I_LBU);
           }
           // fall through
-          case 244:
+          case 257:
             break;
           case 80: {
             return symbol(Token.I_LHU);
           }
           // fall through
-          case 245:
+          case 258:
             break;
           case 81: {
             return symbol(Token.I_LUI);
           }
           // fall through
-          case 246:
+          case 259:
             break;
           case 82: {
             return symbol(Token.F_FSW);
           }
           // fall through
-          case 247:
+          case 260:
             break;
           case 83: {
             return symbol(Token.F_FLW);
           }
           // fall through
-          case 248:
+          case 261:
             break;
           case 84: {
             return symbol(Token.I_DIV);
           }
           // fall through
-          case 249:
+          case 262:
             break;
           case 85: {
             return symbol(Token.I_XOR);
           }
           // fall through
-          case 250:
+          case 263:
             break;
           case 86: {
             return symbol(Token.I_JAL);
           }
           // fall through
-          case 251:
+          case 264:
             break;
           case 87: {
             return symbol(Token.I_MUL);
           }
           // fall through
-          case 252:
+          case 265:
             break;
           case 88: {
             try {
@@ -1427,7 +1449,7 @@ public final class Lexer implements java_cup.runtime.Scanner {
             }
           }
           // fall through
-          case 253:
+          case 266:
             break;
           case 89: {
             try {
@@ -1437,463 +1459,541 @@ public final class Lexer implements java_cup.runtime.Scanner {
             }
           }
           // fall through
-          case 254:
+          case 267:
             break;
           case 90: {
             return symbol(Token.D_BSS);
           }
           // fall through
-          case 255:
+          case 268:
             break;
           case 91: {
             return symbol(Token.I_REMU);
           }
           // fall through
-          case 256:
+          case 269:
             break;
           case 92: {
             return symbol(Token.I_SEQZ);
           }
           // fall through
-          case 257:
+          case 270:
             break;
           case 93: {
             return symbol(Token.I_SRAI);
           }
           // fall through
-          case 258:
+          case 271:
             break;
           case 94: {
             return symbol(Token.I_SRLI);
           }
           // fall through
-          case 259:
+          case 272:
             break;
           case 95: {
             return symbol(Token.I_SNEZ);
           }
           // fall through
-          case 260:
+          case 273:
             break;
           case 96: {
             return symbol(Token.I_SGTZ);
           }
           // fall through
-          case 261:
+          case 274:
             break;
           case 97: {
             return symbol(Token.I_SLTZ);
           }
           // fall through
-          case 262:
+          case 275:
             break;
           case 98: {
             return symbol(Token.I_SLTI);
           }
           // fall through
-          case 263:
+          case 276:
             break;
           case 99: {
             return symbol(Token.I_SLTU);
           }
           // fall through
-          case 264:
+          case 277:
             break;
           case 100: {
             return symbol(Token.I_SLLI);
           }
           // fall through
-          case 265:
+          case 278:
             break;
           case 101: {
             return symbol(Token.I_ANDI);
           }
           // fall through
-          case 266:
+          case 279:
             break;
           case 102: {
             return symbol(Token.I_ADDI);
           }
           // fall through
-          case 267:
+          case 280:
             break;
           case 103: {
-            return symbol(Token.I_CALL);
+            return symbol(Token.I_CSRR);
           }
           // fall through
-          case 268:
+          case 281:
             break;
           case 104: {
-            return symbol(Token.I_TAIL);
+            return symbol(Token.I_CALL);
           }
           // fall through
-          case 269:
+          case 282:
             break;
           case 105: {
-            return symbol(Token.I_BEQZ);
+            return symbol(Token.I_TAIL);
           }
           // fall through
-          case 270:
+          case 283:
             break;
           case 106: {
-            return symbol(Token.I_BNEZ);
+            return symbol(Token.I_BEQZ);
           }
           // fall through
-          case 271:
+          case 284:
             break;
           case 107: {
-            return symbol(Token.I_BGEZ);
+            return symbol(Token.I_BNEZ);
           }
           // fall through
-          case 272:
+          case 285:
             break;
           case 108: {
-            return symbol(Token.I_BGEU);
+            return symbol(Token.I_BGEZ);
           }
           // fall through
-          case 273:
+          case 286:
             break;
           case 109: {
-            return symbol(Token.I_BGTZ);
+            return symbol(Token.I_BGEU);
           }
           // fall through
-          case 274:
+          case 287:
             break;
           case 110: {
-            return symbol(Token.I_BGTU);
+            return symbol(Token.I_BGTZ);
           }
           // fall through
-          case 275:
+          case 288:
             break;
           case 111: {
-            return symbol(Token.I_BLEZ);
+            return symbol(Token.I_BGTU);
           }
           // fall through
-          case 276:
+          case 289:
             break;
           case 112: {
-            return symbol(Token.I_BLEU);
+            return symbol(Token.I_BLEZ);
           }
           // fall through
-          case 277:
+          case 290:
             break;
           case 113: {
-            return symbol(Token.I_BLTZ);
+            return symbol(Token.I_BLEU);
           }
           // fall through
-          case 278:
+          case 291:
             break;
           case 114: {
-            return symbol(Token.I_BLTU);
+            return symbol(Token.I_BLTZ);
           }
           // fall through
-          case 279:
+          case 292:
             break;
           case 115: {
-            return symbol(Token.I_DIVU);
+            return symbol(Token.I_BLTU);
           }
           // fall through
-          case 280:
+          case 293:
             break;
           case 116: {
-            return symbol(Token.I_XORI);
+            return symbol(Token.I_DIVU);
           }
           // fall through
-          case 281:
+          case 294:
             break;
           case 117: {
-            return symbol(Token.I_JALR);
+            return symbol(Token.I_XORI);
           }
           // fall through
-          case 282:
+          case 295:
             break;
           case 118: {
-            return symbol(Token.I_MULH);
+            return symbol(Token.I_JALR);
           }
           // fall through
-          case 283:
+          case 296:
             break;
           case 119: {
-            return symbol(Token.D_ZERO);
+            return symbol(Token.I_MULH);
           }
           // fall through
-          case 284:
+          case 297:
             break;
           case 120: {
-            return symbol(Token.D_TEXT);
+            return symbol(Token.D_ZERO);
           }
           // fall through
-          case 285:
+          case 298:
             break;
           case 121: {
-            return symbol(Token.D_BYTE);
+            return symbol(Token.D_TEXT);
           }
           // fall through
-          case 286:
+          case 299:
             break;
           case 122: {
-            return symbol(Token.D_HALF);
+            return symbol(Token.D_BYTE);
           }
           // fall through
-          case 287:
+          case 300:
             break;
           case 123: {
-            return symbol(Token.D_WORD);
+            return symbol(Token.D_HALF);
           }
           // fall through
-          case 288:
+          case 301:
             break;
           case 124: {
-            return symbol(Token.D_DATA);
+            return symbol(Token.D_WORD);
           }
           // fall through
-          case 289:
+          case 302:
             break;
           case 125: {
-            return symbol(Token.I_ECALL);
+            return symbol(Token.D_DATA);
           }
           // fall through
-          case 290:
+          case 303:
             break;
           case 126: {
-            return symbol(Token.I_SLTIU);
+            return symbol(Token.I_ECALL);
           }
           // fall through
-          case 291:
+          case 304:
             break;
           case 127: {
-            return symbol(Token.I_AUIPC);
+            return symbol(Token.I_SLTIU);
           }
           // fall through
-          case 292:
+          case 305:
             break;
           case 128: {
-            return symbol(Token.F_FEQS);
+            return symbol(Token.I_AUIPC);
           }
           // fall through
-          case 293:
+          case 306:
             break;
           case 129: {
-            return symbol(Token.F_FLES);
+            return symbol(Token.I_CSRRS);
           }
           // fall through
-          case 294:
+          case 307:
             break;
           case 130: {
-            return symbol(Token.F_FLTS);
+            return symbol(Token.I_CSRRC);
           }
           // fall through
-          case 295:
+          case 308:
             break;
           case 131: {
-            return symbol(Token.F_FMVS);
+            return symbol(Token.I_CSRRW);
           }
           // fall through
-          case 296:
+          case 309:
             break;
           case 132: {
-            return symbol(Token.I_MULHU);
+            return symbol(Token.F_FEQS);
           }
           // fall through
-          case 297:
+          case 310:
             break;
           case 133: {
-            return symbol(Token.D_ASCIIZ);
+            return symbol(Token.F_FLES);
           }
           // fall through
-          case 298:
+          case 311:
             break;
           case 134: {
-            return symbol(Token.D_ASCII);
+            return symbol(Token.F_FLTS);
           }
           // fall through
-          case 299:
+          case 312:
             break;
           case 135: {
-            return symbol(Token.D_ALIGN);
+            return symbol(Token.F_FMVS);
           }
           // fall through
-          case 300:
+          case 313:
             break;
           case 136: {
-            return symbol(Token.D_GLOBL);
+            return symbol(Token.I_MULHU);
           }
           // fall through
-          case 301:
+          case 314:
             break;
           case 137: {
-            return symbol(Token.D_FLOAT);
+            return symbol(Token.D_ASCIIZ);
           }
           // fall through
-          case 302:
+          case 315:
             break;
           case 138: {
-            return symbol(Token.I_BREAK);
+            return symbol(Token.D_ASCII);
           }
           // fall through
-          case 303:
+          case 316:
             break;
           case 139: {
-            return symbol(Token.F_FSUBS);
+            return symbol(Token.D_ALIGN);
           }
           // fall through
-          case 304:
+          case 317:
             break;
           case 140: {
-            return symbol(Token.F_FABSS);
+            return symbol(Token.D_GLOBL);
           }
           // fall through
-          case 305:
+          case 318:
             break;
           case 141: {
-            return symbol(Token.F_FADDS);
+            return symbol(Token.D_FLOAT);
           }
           // fall through
-          case 306:
+          case 319:
             break;
           case 142: {
-            return symbol(Token.F_FNEGS);
+            return symbol(Token.I_BREAK);
           }
           // fall through
-          case 307:
+          case 320:
             break;
           case 143: {
-            return symbol(Token.F_FDIVS);
+            return symbol(Token.I_RDTIME);
           }
           // fall through
-          case 308:
+          case 321:
             break;
           case 144: {
-            return symbol(Token.F_FMAXS);
+            return symbol(Token.I_CSRRSI);
           }
           // fall through
-          case 309:
+          case 322:
             break;
           case 145: {
-            return symbol(Token.F_FMINS);
+            return symbol(Token.I_CSRRCI);
           }
           // fall through
-          case 310:
+          case 323:
             break;
           case 146: {
-            return symbol(Token.F_FMULS);
+            return symbol(Token.I_CSRRWI);
           }
           // fall through
-          case 311:
+          case 324:
             break;
           case 147: {
-            return symbol(Token.I_MULHSU);
+            return symbol(Token.F_FSUBS);
           }
           // fall through
-          case 312:
+          case 325:
             break;
           case 148: {
-            return symbol(Token.D_RODATA);
+            return symbol(Token.F_FABSS);
           }
           // fall through
-          case 313:
+          case 326:
             break;
           case 149: {
-            return symbol(Token.D_BALIGN);
+            return symbol(Token.F_FADDS);
           }
           // fall through
-          case 314:
+          case 327:
             break;
           case 150: {
-            return symbol(Token.F_FSGNJS);
+            return symbol(Token.F_FNEGS);
           }
           // fall through
-          case 315:
+          case 328:
             break;
           case 151: {
-            return symbol(Token.F_FSQRTS);
+            return symbol(Token.F_FDIVS);
           }
           // fall through
-          case 316:
+          case 329:
             break;
           case 152: {
-            return symbol(Token.F_FMSUBS);
+            return symbol(Token.F_FMAXS);
           }
           // fall through
-          case 317:
+          case 330:
             break;
           case 153: {
-            return symbol(Token.F_FMADDS);
+            return symbol(Token.F_FMINS);
           }
           // fall through
-          case 318:
+          case 331:
             break;
           case 154: {
-            return symbol(Token.F_FMVWX);
+            return symbol(Token.F_FMULS);
           }
           // fall through
-          case 319:
+          case 332:
             break;
           case 155: {
-            return symbol(Token.F_FMVXW);
+            return symbol(Token.I_MULHSU);
           }
           // fall through
-          case 320:
+          case 333:
             break;
           case 156: {
-            return symbol(Token.D_SECTION);
+            return symbol(Token.D_RODATA);
           }
           // fall through
-          case 321:
+          case 334:
             break;
           case 157: {
-            return symbol(Token.F_FSGNJNS);
+            return symbol(Token.D_BALIGN);
           }
           // fall through
-          case 322:
+          case 335:
             break;
           case 158: {
-            return symbol(Token.F_FSGNJXS);
+            return symbol(Token.I_RDCYCLE);
           }
           // fall through
-          case 323:
+          case 336:
             break;
           case 159: {
-            return symbol(Token.F_FCLASSS);
+            return symbol(Token.I_RDTIMEH);
           }
           // fall through
-          case 324:
+          case 337:
             break;
           case 160: {
-            return symbol(Token.F_FCVTSW);
+            return symbol(Token.F_FSGNJS);
           }
           // fall through
-          case 325:
+          case 338:
             break;
           case 161: {
-            return symbol(Token.F_FCVTWS);
+            return symbol(Token.F_FSQRTS);
           }
           // fall through
-          case 326:
+          case 339:
             break;
           case 162: {
-            return symbol(Token.F_FNMSUBS);
+            return symbol(Token.F_FMSUBS);
           }
           // fall through
-          case 327:
+          case 340:
             break;
           case 163: {
-            return symbol(Token.F_FNMADDS);
+            return symbol(Token.F_FMADDS);
           }
           // fall through
-          case 328:
+          case 341:
             break;
           case 164: {
-            return symbol(Token.F_FCVTSWU);
+            return symbol(Token.F_FMVWX);
           }
           // fall through
-          case 329:
+          case 342:
             break;
           case 165: {
+            return symbol(Token.F_FMVXW);
+          }
+          // fall through
+          case 343:
+            break;
+          case 166: {
+            return symbol(Token.D_SECTION);
+          }
+          // fall through
+          case 344:
+            break;
+          case 167: {
+            return symbol(Token.I_RDCYCLEH);
+          }
+          // fall through
+          case 345:
+            break;
+          case 168: {
+            return symbol(Token.F_FSGNJNS);
+          }
+          // fall through
+          case 346:
+            break;
+          case 169: {
+            return symbol(Token.F_FSGNJXS);
+          }
+          // fall through
+          case 347:
+            break;
+          case 170: {
+            return symbol(Token.F_FCLASSS);
+          }
+          // fall through
+          case 348:
+            break;
+          case 171: {
+            return symbol(Token.F_FCVTSW);
+          }
+          // fall through
+          case 349:
+            break;
+          case 172: {
+            return symbol(Token.F_FCVTWS);
+          }
+          // fall through
+          case 350:
+            break;
+          case 173: {
+            return symbol(Token.F_FNMSUBS);
+          }
+          // fall through
+          case 351:
+            break;
+          case 174: {
+            return symbol(Token.F_FNMADDS);
+          }
+          // fall through
+          case 352:
+            break;
+          case 175: {
+            return symbol(Token.I_RDINSTRET);
+          }
+          // fall through
+          case 353:
+            break;
+          case 176: {
+            return symbol(Token.F_FCVTSWU);
+          }
+          // fall through
+          case 354:
+            break;
+          case 177: {
             return symbol(Token.F_FCVTWUS);
           }
           // fall through
-          case 330:
+          case 355:
+            break;
+          case 178: {
+            return symbol(Token.I_RDINSTRETH);
+          }
+          // fall through
+          case 356:
             break;
           default:
             zzScanError(ZZ_NO_MATCH);
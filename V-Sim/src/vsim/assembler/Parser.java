@@ -18,16 +18,19 @@ along with this program.  If not, see <https://www.gnu.org/licenses/>
 package vsim.assembler;
 
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileNotFoundException;
-import java.io.FileReader;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java_cup.runtime.*;
 import vsim.Errors;
-import vsim.Globals;
+import vsim.Machine;
 import vsim.Settings;
 import vsim.assembler.statements.*;
 import vsim.linker.Relocation;
+import vsim.riscv.CSR;
 import vsim.utils.Data;
 import vsim.utils.Message;
 
@@ -61,7 +64,7 @@ public class Parser extends java_cup.runtime.lr_parser {
 
   /** Production table. */
   protected static final short _production_table[][] = unpackFromStrings(new String[] {
-      "\000\267\000\002\002\003\000\002\002\004\000\002\002" + "\004\000\002\002\003\000\002\003\004\000\002\003\003"
+      "\000\306\000\002\002\003\000\002\002\004\000\002\002" + "\004\000\002\002\003\000\002\003\004\000\002\003\003"
           + "\000\002\015\004\000\002\015\004\000\002\015\004\000"
           + "\002\015\003\000\002\015\003\000\002\015\003\000\002"
           + "\015\003\000\002\015\003\000\002\016\003\000\002\005"
@@ -85,19 +88,23 @@ public class Parser extends java_cup.runtime.lr_parser {
           + "\000\002\007\010\000\002\007\010\000\002\007\010\000"
           + "\002\007\010\000\002\007\010\000\002\007\011\000\002"
           + "\007\011\000\002\007\011\000\002\007\011\000\002\007"
-          + "\011\000\002\007\003\000\002\007\003\000\002\007\011"
-          + "\000\002\010\011\000\002\010\011\000\002\010\011\000"
-          + "\002\010\011\000\002\011\010\000\002\011\010\000\002"
-          + "\011\010\000\002\011\010\000\002\011\010\000\002\011"
-          + "\010\000\002\012\006\000\002\012\006\000\002\013\006"
-          + "\000\002\022\006\000\002\022\006\000\002\022\004\000"
-          + "\002\022\004\000\002\022\006\000\002\022\006\000\002"
-          + "\022\006\000\002\022\010\000\002\022\010\000\002\022"
-          + "\010\000\002\022\010\000\002\022\010\000\002\022\006"
+          + "\011\000\002\007\003\000\002\007\003\000\002\007\010"
+          + "\000\002\007\010\000\002\007\010\000\002\007\010\000"
+          + "\002\007\010\000\002\007\010\000\002\007\011\000\002"
+          + "\010\011\000\002\010\011\000\002\010\011\000\002\010"
+          + "\011\000\002\011\010\000\002\011\010\000\002\011\010"
+          + "\000\002\011\010\000\002\011\010\000\002\011\010\000"
+          + "\002\012\006\000\002\012\006\000\002\013\006\000\002"
+          + "\022\006\000\002\022\006\000\002\022\004\000\002\022"
+          + "\004\000\002\022\006\000\002\022\006\000\002\022\006"
+          + "\000\002\022\010\000\002\022\010\000\002\022\010\000"
+          + "\002\022\010\000\002\022\010\000\002\022\006\000\002"
+          + "\022\006\000\002\022\006\000\002\022\006\000\002\022"
+          + "\006\000\002\022\006\000\002\022\006\000\002\022\003"
           + "\000\002\022\006\000\002\022\006\000\002\022\006\000"
-          + "\002\022\006\000\002\022\006\000\002\022\006\000\002"
-          + "\022\003\000\002\022\006\000\002\022\006\000\002\022"
-          + "\006\000\002\022\004\000\002\022\004\000\002\022\003"
+          + "\002\022\004\000\002\022\004\000\002\022\003\000\002"
+          + "\022\006\000\002\022\004\000\002\022\004\000\002\022"
+          + "\004\000\002\022\004\000\002\022\004\000\002\022\004"
           + "\000\002\022\006\000\002\022\006\000\002\022\006\000"
           + "\002\022\006\000\002\022\006\000\002\022\006\000\002"
           + "\022\010\000\002\022\010\000\002\022\010\000\002\022"
@@ -111,11 +118,12 @@ public class Parser extends java_cup.runtime.lr_parser {
           + "\020\003\000\002\020\003\000\002\020\003\000\002\020"
           + "\003\000\002\031\004\000\002\025\003\000\002\025\005"
           + "\000\002\032\004\000\002\032\004\000\002\043\003\000"
-          + "\002\043\003\000\002\033\003\000\002\037\003\000\002"
-          + "\037\003\000\002\037\003\000\002\040\003\000\002\041"
-          + "\003\000\002\044\003\000\002\044\003\000\002\044\003"
-          + "\000\002\044\003\000\002\042\003\000\002\034\003\000"
-          + "\002\035\003\000\002\036\003\000\002\045\003\000\002" + "\045\003\000\002\046\002" });
+          + "\002\043\003\000\002\044\003\000\002\044\003\000\002"
+          + "\033\003\000\002\037\003\000\002\037\003\000\002\037"
+          + "\003\000\002\040\003\000\002\041\003\000\002\045\003"
+          + "\000\002\045\003\000\002\045\003\000\002\045\003\000"
+          + "\002\042\003\000\002\034\003\000\002\035\003\000\002"
+          + "\036\003\000\002\046\003\000\002\046\003\000\002\047" + "\002" });
 
   /** Access to production table. */
   public short[][] production_table() {
@@ -123,496 +131,554 @@ public class Parser extends java_cup.runtime.lr_parser {
   }
 
   /** Parse-action table. */
-  protected static final short[][] _action_table = unpackFromStrings(new String[] {
-      "\000\u027e\000\360\004\140\010\160\011\022\012\071\013" + "\145\014\130\015\072\016\212\017\216\020\016\021\027"
-          + "\022\147\023\123\024\132\025\035\026\104\027\076\030"
-          + "\120\031\107\032\214\033\163\034\175\035\153\036\144"
-          + "\037\201\040\010\041\021\042\047\043\116\044\151\045"
-          + "\051\046\112\047\044\050\113\051\142\052\102\053\207"
-          + "\054\171\055\050\056\164\057\100\060\040\061\117\062"
-          + "\203\063\211\064\136\065\067\066\167\067\134\070\061"
-          + "\071\043\072\055\073\054\074\032\075\133\076\126\077"
-          + "\056\100\053\101\025\102\075\103\135\104\105\105\074"
-          + "\106\023\107\017\110\217\111\037\112\011\113\166\114"
-          + "\073\115\200\116\161\117\141\120\036\121\034\122\114"
-          + "\123\063\124\012\125\052\126\215\127\005\130\157\131"
-          + "\173\132\125\133\030\134\070\135\103\136\014\137\026"
-          + "\140\066\141\150\142\174\143\155\144\213\145\177\146"
-          + "\033\147\202\150\124\151\127\152\111\153\077\154\024"
-          + "\155\172\156\007\170\110\171\065\172\060\173\162\174"
-          + "\205\175\204\176\045\177\020\200\131\201\121\202\154"
-          + "\203\046\204\137\205\156\206\004\001\002\000\012\157"
-          + "\u027c\160\237\161\226\162\u027e\001\002\000\004\165\220"
-          + "\001\002\000\362\002\001\004\140\010\160\011\022\012"
-          + "\071\013\145\014\130\015\072\016\212\017\216\020\016"
-          + "\021\027\022\147\023\123\024\132\025\035\026\104\027"
-          + "\076\030\120\031\107\032\214\033\163\034\175\035\153"
-          + "\036\144\037\201\040\010\041\021\042\047\043\116\044"
-          + "\151\045\051\046\112\047\044\050\113\051\142\052\102"
-          + "\053\207\054\171\055\050\056\164\057\100\060\040\061"
-          + "\117\062\203\063\211\064\136\065\067\066\167\067\134"
-          + "\070\061\071\043\072\055\073\054\074\032\075\133\076"
-          + "\126\077\056\100\053\101\025\102\075\103\135\104\105"
-          + "\105\074\106\023\107\017\110\217\111\037\112\011\113"
-          + "\166\114\073\115\200\116\161\117\141\120\036\121\034"
-          + "\122\114\123\063\124\012\125\052\126\215\127\005\130"
-          + "\157\131\173\132\125\133\030\134\070\135\103\136\014"
-          + "\137\026\140\066\141\150\142\174\143\155\144\213\145"
-          + "\177\146\033\147\202\150\124\151\127\152\111\153\077"
-          + "\154\024\155\172\156\007\170\110\171\065\172\060\173"
-          + "\162\174\205\175\204\176\045\177\020\200\131\201\121"
-          + "\202\154\203\046\204\137\205\156\206\004\001\002\000"
-          + "\004\166\277\001\002\000\004\165\220\001\002\000\004"
-          + "\165\220\001\002\000\006\002\uff8d\011\uff8d\001\002\000"
-          + "\006\002\uffef\011\uffef\001\002\000\004\165\220\001\002"
-          + "\000\006\002\ufffe\011\u0266\001\002\000\004\165\220\001"
-          + "\002\000\004\165\220\001\002\000\006\002\uff66\011\uff66"
-          + "\001\002\000\004\165\220\001\002\000\362\002\ufffc\004"
-          + "\ufffc\010\ufffc\011\ufffc\012\ufffc\013\ufffc\014\ufffc\015\ufffc"
-          + "\016\ufffc\017\ufffc\020\ufffc\021\ufffc\022\ufffc\023\ufffc\024"
-          + "\ufffc\025\ufffc\026\ufffc\027\ufffc\030\ufffc\031\ufffc\032\ufffc"
-          + "\033\ufffc\034\ufffc\035\ufffc\036\ufffc\037\ufffc\040\ufffc\041"
-          + "\ufffc\042\ufffc\043\ufffc\044\ufffc\045\ufffc\046\ufffc\047\ufffc"
-          + "\050\ufffc\051\ufffc\052\ufffc\053\ufffc\054\ufffc\055\ufffc\056"
-          + "\ufffc\057\ufffc\060\ufffc\061\ufffc\062\ufffc\063\ufffc\064\ufffc"
-          + "\065\ufffc\066\ufffc\067\ufffc\070\ufffc\071\ufffc\072\ufffc\073"
-          + "\ufffc\074\ufffc\075\ufffc\076\ufffc\077\ufffc\100\ufffc\101\ufffc"
-          + "\102\ufffc\103\ufffc\104\ufffc\105\ufffc\106\ufffc\107\ufffc\110"
-          + "\ufffc\111\ufffc\112\ufffc\113\ufffc\114\ufffc\115\ufffc\116\ufffc"
-          + "\117\ufffc\120\ufffc\121\ufffc\122\ufffc\123\ufffc\124\ufffc\125"
-          + "\ufffc\126\ufffc\127\ufffc\130\ufffc\131\ufffc\132\ufffc\133\ufffc"
-          + "\134\ufffc\135\ufffc\136\ufffc\137\ufffc\140\ufffc\141\ufffc\142"
-          + "\ufffc\143\ufffc\144\ufffc\145\ufffc\146\ufffc\147\ufffc\150\ufffc"
-          + "\151\ufffc\152\ufffc\153\ufffc\154\ufffc\155\ufffc\156\ufffc\170"
-          + "\ufffc\171\ufffc\172\ufffc\173\ufffc\174\ufffc\175\ufffc\176\ufffc"
-          + "\177\ufffc\200\ufffc\201\ufffc\202\ufffc\203\ufffc\204\ufffc\205"
-          + "\ufffc\206\ufffc\001\002\000\004\165\220\001\002\000\004"
-          + "\166\277\001\002\000\004\165\220\001\002\000\004\165"
-          + "\220\001\002\000\004\165\220\001\002\000\004\165\220"
-          + "\001\002\000\006\002\ufff7\011\ufff7\001\002\000\004\165"
-          + "\220\001\002\000\004\165\220\001\002\000\004\165\220"
-          + "\001\002\000\004\165\220\001\002\000\004\165\220\001"
-          + "\002\000\004\166\277\001\002\000\004\165\220\001\002"
-          + "\000\006\002\uff6a\011\uff6a\001\002\000\336\002\ufff8\011"
-          + "\ufff8\012\071\013\145\014\130\015\072\016\212\017\216"
-          + "\020\016\021\027\022\147\023\123\024\132\025\035\026"
-          + "\104\027\076\030\120\031\107\032\214\033\163\034\175"
-          + "\035\153\036\144\037\201\040\010\041\021\042\047\043"
-          + "\116\044\151\045\051\046\112\047\044\050\113\051\142"
-          + "\052\102\053\207\054\171\055\050\056\164\057\100\060"
-          + "\040\061\117\062\203\063\211\064\136\065\067\066\167"
-          + "\067\134\070\061\071\043\072\055\073\054\074\032\075"
-          + "\133\076\126\077\056\100\053\101\025\102\075\103\135"
-          + "\104\105\105\074\106\023\107\017\110\217\111\037\112"
-          + "\011\113\166\114\073\115\200\116\161\117\141\120\036"
-          + "\121\034\122\114\123\063\124\012\125\052\126\215\127"
-          + "\005\130\157\131\173\132\125\133\030\134\070\135\103"
-          + "\136\014\137\026\140\066\141\150\142\174\143\155\144"
-          + "\213\145\177\146\033\147\202\150\124\151\127\152\111"
-          + "\153\077\154\024\155\172\156\007\170\110\171\065\172"
-          + "\060\173\162\174\205\175\204\206\004\001\002\000\004"
-          + "\165\220\001\002\000\004\166\277\001\002\000\012\177"
-          + "\020\200\131\201\121\202\154\001\002\000\010\157\231"
-          + "\160\237\161\226\001\002\000\004\166\277\001\002\000"
-          + "\004\166\277\001\002\000\004\166\277\001\002\000\004"
-          + "\165\220\001\002\000\004\165\220\001\002\000\004\165"
-          + "\220\001\002\000\004\165\220\001\002\000\004\165\220"
-          + "\001\002\000\006\002\ufff1\011\ufff1\001\002\000\010\157"
-          + "\231\160\237\161\226\001\002\000\004\165\220\001\002"
-          + "\000\006\002\uffee\011\uffee\001\002\000\004\165\220\001"
-          + "\002\000\006\002\uff6c\011\uff6c\001\002\000\004\163\u0184"
-          + "\001\002\000\004\165\220\001\002\000\004\165\220\001"
-          + "\002\000\004\165\220\001\002\000\004\165\220\001\002"
-          + "\000\004\165\220\001\002\000\004\165\220\001\002\000"
-          + "\004\166\277\001\002\000\004\165\220\001\002\000\004"
-          + "\165\220\001\002\000\004\167\236\001\002\000\004\166"
-          + "\277\001\002\000\006\002\uff6b\011\uff6b\001\002\000\004"
-          + "\166\277\001\002\000\004\165\220\001\002\000\004\165"
-          + "\220\001\002\000\006\002\uffaf\011\uffaf\001\002\000\006"
-          + "\002\ufff5\011\ufff5\001\002\000\004\165\220\001\002\000"
-          + "\004\163\u0184\001\002\000\004\167\236\001\002\000\004"
-          + "\166\277\001\002\000\004\166\277\001\002\000\006\165"
-          + "\220\167\236\001\002\000\006\002\uff67\011\uff67\001\002"
-          + "\000\004\166\277\001\002\000\004\165\220\001\002\000"
-          + "\004\165\220\001\002\000\006\002\uff64\011\uff64\001\002"
-          + "\000\006\002\ufff2\011\ufff2\001\002\000\004\165\220\001"
-          + "\002\000\004\165\220\001\002\000\004\165\220\001\002"
-          + "\000\004\165\220\001\002\000\006\002\uff87\011\uff87\001"
-          + "\002\000\004\165\220\001\002\000\006\002\uff65\011\uff65"
-          + "\001\002\000\004\165\220\001\002\000\004\165\220\001"
-          + "\002\000\004\165\220\001\002\000\004\165\220\001\002"
-          + "\000\004\165\220\001\002\000\010\157\231\160\237\161"
-          + "\226\001\002\000\004\167\236\001\002\000\004\165\220"
-          + "\001\002\000\004\166\277\001\002\000\006\002\uffeb\011"
-          + "\uffeb\001\002\000\004\166\277\001\002\000\004\165\220"
-          + "\001\002\000\006\002\uffed\011\uffed\001\002\000\004\165"
-          + "\220\001\002\000\004\165\220\001\002\000\004\166\277"
-          + "\001\002\000\006\002\ufff4\011\ufff4\001\002\000\004\165"
-          + "\220\001\002\000\006\002\uff63\011\uff63\001\002\000\004"
-          + "\165\220\001\002\000\004\167\236\001\002\000\004\165"
-          + "\220\001\002\000\336\002\ufff3\011\ufff3\012\ufff3\013\ufff3"
-          + "\014\ufff3\015\ufff3\016\ufff3\017\ufff3\020\ufff3\021\ufff3\022"
-          + "\ufff3\023\ufff3\024\ufff3\025\ufff3\026\ufff3\027\ufff3\030\ufff3"
-          + "\031\ufff3\032\ufff3\033\ufff3\034\ufff3\035\ufff3\036\ufff3\037"
-          + "\ufff3\040\ufff3\041\ufff3\042\ufff3\043\ufff3\044\ufff3\045\ufff3"
-          + "\046\ufff3\047\ufff3\050\ufff3\051\ufff3\052\ufff3\053\ufff3\054"
-          + "\ufff3\055\ufff3\056\ufff3\057\ufff3\060\ufff3\061\ufff3\062\ufff3"
-          + "\063\ufff3\064\ufff3\065\ufff3\066\ufff3\067\ufff3\070\ufff3\071"
-          + "\ufff3\072\ufff3\073\ufff3\074\ufff3\075\ufff3\076\ufff3\077\ufff3"
-          + "\100\ufff3\101\ufff3\102\ufff3\103\ufff3\104\ufff3\105\ufff3\106"
-          + "\ufff3\107\ufff3\110\ufff3\111\ufff3\112\ufff3\113\ufff3\114\ufff3"
-          + "\115\ufff3\116\ufff3\117\ufff3\120\ufff3\121\ufff3\122\ufff3\123"
-          + "\ufff3\124\ufff3\125\ufff3\126\ufff3\127\ufff3\130\ufff3\131\ufff3"
-          + "\132\ufff3\133\ufff3\134\ufff3\135\ufff3\136\ufff3\137\ufff3\140"
-          + "\ufff3\141\ufff3\142\ufff3\143\ufff3\144\ufff3\145\ufff3\146\ufff3"
-          + "\147\ufff3\150\ufff3\151\ufff3\152\ufff3\153\ufff3\154\ufff3\155"
-          + "\ufff3\156\ufff3\170\ufff3\171\ufff3\172\ufff3\173\ufff3\174\ufff3"
-          + "\175\ufff3\206\ufff3\001\002\000\004\165\220\001\002\000"
-          + "\012\157\231\160\237\161\226\164\227\001\002\000\004"
-          + "\165\220\001\002\000\004\166\277\001\002\000\006\002"
-          + "\uffec\011\uffec\001\002\000\004\165\220\001\002\000\006"
-          + "\002\uffb0\011\uffb0\001\002\000\004\002\362\001\002\000"
-          + "\004\166\277\001\002\000\004\166\277\001\002\000\004"
-          + "\165\220\001\002\000\004\165\220\001\002\000\004\166"
-          + "\277\001\002\000\006\002\ufff6\011\ufff6\001\002\000\004"
-          + "\165\220\001\002\000\004\165\220\001\002\000\004\166"
-          + "\277\001\002\000\004\167\236\001\002\000\004\165\220"
-          + "\001\002\000\014\157\231\160\237\161\226\164\227\167"
-          + "\236\001\002\000\012\157\231\160\237\161\226\164\227"
-          + "\001\002\000\006\002\uffea\011\uffea\001\002\000\004\166"
-          + "\277\001\002\000\006\002\ufff0\011\ufff0\001\002\000\004"
-          + "\165\220\001\002\000\004\165\220\001\002\000\004\165"
-          + "\220\001\002\000\004\165\220\001\002\000\004\165\220"
-          + "\001\002\000\004\165\220\001\002\000\004\165\220\001"
-          + "\002\000\030\002\uff4f\005\uff4f\007\uff4f\011\uff4f\157\uff4f"
-          + "\160\uff4f\161\uff4f\164\uff4f\165\uff4f\166\uff4f\167\uff4f\001"
-          + "\002\000\016\005\222\157\uff4b\160\uff4b\161\uff4b\164\uff4b"
-          + "\167\uff4b\001\002\000\020\157\uff4d\160\uff4d\161\uff4d\164"
-          + "\uff4d\165\uff4d\166\uff4d\167\uff4d\001\002\000\014\157\231"
-          + "\160\237\161\226\164\227\167\236\001\002\000\020\157"
-          + "\uff4c\160\uff4c\161\uff4c\164\uff4c\165\uff4c\166\uff4c\167\uff4c"
-          + "\001\002\000\004\006\242\001\002\000\012\002\uff56\005"
-          + "\uff56\006\uff56\011\uff56\001\002\000\012\002\uff51\005\uff51"
-          + "\006\uff51\011\uff51\001\002\000\006\005\222\165\uff4b\001"
-          + "\002\000\012\002\uff5a\005\uff5a\006\uff5a\011\uff5a\001\002"
-          + "\000\012\002\uff58\005\uff58\006\uff58\011\uff58\001\002\000"
-          + "\012\002\uff59\005\uff59\006\uff59\011\uff59\001\002\000\012"
-          + "\002\uff5d\005\uff5d\006\uff5d\011\uff5d\001\002\000\012\002"
-          + "\uff5c\005\uff5c\006\uff5c\011\uff5c\001\002\000\012\002\uff5b"
-          + "\005\uff5b\011\uff5b\165\uff5b\001\002\000\012\002\uff57\005"
-          + "\uff57\006\uff57\011\uff57\001\002\000\004\165\220\001\002"
-          + "\000\006\002\uff96\011\uff96\001\002\000\004\165\220\001"
-          + "\002\000\004\007\244\001\002\000\006\002\uffab\011\uffab"
-          + "\001\002\000\006\005\222\165\uff4b\001\002\000\004\165"
-          + "\220\001\002\000\006\005\222\165\uff4b\001\002\000\004"
-          + "\165\220\001\002\000\006\002\uffd8\011\uffd8\001\002\000"
-          + "\006\005\222\165\uff4b\001\002\000\004\165\220\001\002"
-          + "\000\006\002\uff8c\011\uff8c\001\002\000\006\005\222\165"
-          + "\uff4b\001\002\000\004\165\220\001\002\000\006\005\222"
-          + "\165\uff4b\001\002\000\004\165\220\001\002\000\006\002"
-          + "\uffe1\011\uffe1\001\002\000\006\005\222\165\uff4b\001\002"
-          + "\000\004\165\220\001\002\000\006\005\222\167\uff4b\001"
-          + "\002\000\004\167\236\001\002\000\006\002\uff7f\011\uff7f"
-          + "\001\002\000\006\005\222\165\uff4b\001\002\000\004\165"
-          + "\220\001\002\000\006\005\222\165\uff4b\001\002\000\004"
-          + "\165\220\001\002\000\006\002\uffd9\011\uffd9\001\002\000"
-          + "\006\005\222\166\uff4b\001\002\000\004\166\277\001\002"
-          + "\000\006\002\uffc0\011\uffc0\001\002\000\026\002\uff4e\005"
-          + "\uff4e\011\uff4e\157\uff4e\160\uff4e\161\uff4e\164\uff4e\165\uff4e"
-          + "\166\uff4e\167\uff4e\001\002\000\006\005\222\166\uff4b\001"
-          + "\002\000\004\166\277\001\002\000\006\005\222\166\uff4b"
-          + "\001\002\000\004\166\277\001\002\000\006\002\uffce\011"
-          + "\uffce\001\002\000\010\002\uff72\005\uff72\011\uff72\001\002"
-          + "\000\010\002\uff79\005\307\011\uff79\001\002\000\012\157"
-          + "\231\160\237\161\226\164\227\001\002\000\010\002\uff71"
-          + "\005\uff71\011\uff71\001\002\000\010\002\uff70\005\uff70\011"
-          + "\uff70\001\002\000\010\002\uff78\005\307\011\uff78\001\002"
-          + "\000\010\002\uff77\005\314\011\uff77\001\002\000\004\167"
-          + "\236\001\002\000\010\002\uff6f\005\uff6f\011\uff6f\001\002"
-          + "\000\006\005\222\166\uff4b\001\002\000\004\166\277\001"
-          + "\002\000\006\005\222\166\uff4b\001\002\000\004\166\277"
-          + "\001\002\000\006\002\uffc1\011\uffc1\001\002\000\006\002"
-          + "\uff7b\011\uff7b\001\002\000\006\005\222\165\uff4b\001\002"
-          + "\000\004\165\220\001\002\000\006\002\uffc6\011\uffc6\001"
-          + "\002\000\006\005\222\165\uff4b\001\002\000\004\165\220"
-          + "\001\002\000\006\005\222\167\uff4b\001\002\000\004\167"
-          + "\236\001\002\000\006\002\uffa7\011\uffa7\001\002\000\006"
-          + "\005\222\165\uff4b\001\002\000\004\165\220\001\002\000"
-          + "\006\005\222\167\uff4b\001\002\000\004\167\236\001\002"
-          + "\000\006\002\uff7e\011\uff7e\001\002\000\006\005\222\165"
-          + "\uff4b\001\002\000\004\165\220\001\002\000\006\002\uffc8"
-          + "\011\uffc8\001\002\000\006\005\222\167\uff4b\001\002\000"
-          + "\004\167\236\001\002\000\006\002\uff81\011\uff81\001\002"
-          + "\000\006\005\222\165\uff4b\001\002\000\004\165\220\001"
-          + "\002\000\006\002\uff8a\011\uff8a\001\002\000\006\005\222"
-          + "\166\uff4b\001\002\000\004\166\277\001\002\000\006\002"
-          + "\uff8f\011\uff8f\001\002\000\006\005\222\166\uff4b\001\002"
-          + "\000\004\166\277\001\002\000\006\005\222\166\uff4b\001"
-          + "\002\000\004\166\277\001\002\000\006\002\uffcd\011\uffcd"
-          + "\001\002\000\004\002\000\001\002\000\006\005\222\165"
-          + "\uff4b\001\002\000\004\165\220\001\002\000\006\005\222"
-          + "\167\uff4b\001\002\000\004\167\236\001\002\000\006\002"
-          + "\uffa6\011\uffa6\001\002\000\006\005\222\166\uff4b\001\002"
-          + "\000\004\166\277\001\002\000\006\005\222\166\uff4b\001"
-          + "\002\000\004\166\277\001\002\000\006\002\uffcb\011\uffcb"
-          + "\001\002\000\006\005\222\165\uff4b\001\002\000\004\165"
-          + "\220\001\002\000\006\005\222\165\uff4b\001\002\000\004"
-          + "\165\220\001\002\000\006\002\uffe0\011\uffe0\001\002\000"
-          + "\010\002\uff7a\005\307\011\uff7a\001\002\000\006\005\222"
-          + "\165\uff4b\001\002\000\004\165\220\001\002\000\006\005"
-          + "\222\167\uff4b\001\002\000\004\167\236\001\002\000\006"
-          + "\002\uffa5\011\uffa5\001\002\000\006\005\222\165\uff4b\001"
-          + "\002\000\004\165\220\001\002\000\006\002\uff94\011\uff94"
+  protected static final short[][] _action_table = unpackFromStrings(
+      new String[] { "\000\u02b4\000\u010a\004\163\010\055\011\056\012\043\013"
+          + "\105\014\076\015\050\016\133\017\175\020\015\021\160"
+          + "\022\200\023\036\024\115\025\054\026\100\027\074\030"
+          + "\214\031\212\032\153\033\136\034\167\035\155\036\222"
+          + "\037\117\040\144\041\142\042\210\043\057\044\037\045"
+          + "\125\046\062\047\223\050\072\051\066\052\213\053\231"
+          + "\054\202\055\013\056\032\057\101\060\132\061\165\062"
+          + "\230\063\122\064\164\065\147\066\112\067\131\070\030"
+          + "\071\161\072\024\073\052\074\020\075\220\076\215\077"
+          + "\060\100\004\101\170\102\207\103\006\104\104\105\063"
+          + "\106\065\107\073\110\120\111\176\112\022\113\177\114"
+          + "\127\115\126\116\121\117\053\120\137\121\116\122\070"
+          + "\123\007\124\134\125\211\126\045\127\025\130\204\131"
+          + "\031\132\152\133\023\134\232\135\150\136\123\137\014"
+          + "\140\111\141\051\142\173\143\075\144\166\145\171\146"
+          + "\067\147\130\150\026\151\107\152\016\153\027\154\172"
+          + "\155\217\156\047\157\110\160\017\161\233\162\021\163"
+          + "\154\164\221\165\103\166\234\167\141\170\106\171\042"
+          + "\172\225\173\041\205\205\206\077\207\064\210\174\211"
+          + "\224\212\140\213\035\214\124\215\114\216\201\217\206"
+          + "\220\226\221\071\222\143\223\227\001\002\000\004\202"
+          + "\235\001\002\000\004\002\u02b1\001\002\000\004\202\235"
+          + "\001\002\000\004\202\235\001\002\000\006\002\ufff2\011"
+          + "\ufff2\001\002\000\006\002\ufff6\011\ufff6\001\002\000\006"
+          + "\002\ufff7\011\ufff7\001\002\000\004\203\247\001\002\000"
+          + "\004\202\235\001\002\000\004\202\235\001\002\000\004"
+          + "\202\235\001\002\000\004\204\240\001\002\000\004\202"
+          + "\235\001\002\000\004\203\247\001\002\000\004\202\235"
+          + "\001\002\000\004\202\235\001\002\000\004\202\235\001"
+          + "\002\000\004\202\235\001\002\000\004\202\235\001\002"
+          + "\000\004\202\235\001\002\000\004\202\235\001\002\000"
+          + "\004\202\235\001\002\000\004\203\247\001\002\000\006"
+          + "\002\ufff1\011\ufff1\001\002\000\006\002\ufff4\011\ufff4\001"
+          + "\002\000\012\214\124\215\114\216\201\217\206\001\002"
+          + "\000\004\202\235\001\002\000\004\203\247\001\002\000"
+          + "\006\002\ufffe\011\u0255\001\002\000\004\202\235\001\002"
+          + "\000\004\202\235\001\002\000\004\202\235\001\002\000"
+          + "\370\002\ufff8\011\ufff8\012\043\013\105\014\076\015\050"
+          + "\016\133\017\175\020\015\021\160\022\200\023\036\024"
+          + "\115\025\054\026\100\027\074\030\214\031\212\032\153"
+          + "\033\136\034\167\035\155\036\222\037\117\040\144\041"
+          + "\142\042\210\043\057\044\037\045\125\046\062\047\223"
+          + "\050\072\051\066\052\213\053\231\054\202\055\013\056"
+          + "\032\057\101\060\132\061\165\062\230\063\122\064\164"
+          + "\065\147\066\112\067\131\070\030\071\161\072\024\073"
+          + "\052\074\020\075\220\076\215\077\060\100\004\101\170"
+          + "\102\207\103\006\104\104\105\063\106\065\107\073\110"
+          + "\120\111\176\112\022\113\177\114\127\115\126\116\121"
+          + "\117\053\120\137\121\116\122\070\123\007\124\134\125"
+          + "\211\126\045\127\025\130\204\131\031\132\152\133\023"
+          + "\134\232\135\150\136\123\137\014\140\111\141\051\142"
+          + "\173\143\075\144\166\145\171\146\067\147\130\150\026"
+          + "\151\107\152\016\153\027\154\172\155\217\156\047\157"
+          + "\110\160\017\161\233\162\021\163\154\164\221\165\103"
+          + "\166\234\167\141\170\106\171\042\172\225\173\041\205"
+          + "\205\206\077\207\064\210\174\211\224\212\140\223\227"
+          + "\001\002\000\004\202\235\001\002\000\006\002\uffea\011"
+          + "\uffea\001\002\000\004\202\235\001\002\000\004\202\235"
+          + "\001\002\000\004\202\235\001\002\000\004\202\235\001"
+          + "\002\000\004\203\247\001\002\000\004\202\235\001\002"
+          + "\000\370\002\ufff3\011\ufff3\012\ufff3\013\ufff3\014\ufff3\015"
+          + "\ufff3\016\ufff3\017\ufff3\020\ufff3\021\ufff3\022\ufff3\023\ufff3"
+          + "\024\ufff3\025\ufff3\026\ufff3\027\ufff3\030\ufff3\031\ufff3\032"
+          + "\ufff3\033\ufff3\034\ufff3\035\ufff3\036\ufff3\037\ufff3\040\ufff3"
+          + "\041\ufff3\042\ufff3\043\ufff3\044\ufff3\045\ufff3\046\ufff3\047"
+          + "\ufff3\050\ufff3\051\ufff3\052\ufff3\053\ufff3\054\ufff3\055\ufff3"
+          + "\056\ufff3\057\ufff3\060\ufff3\061\ufff3\062\ufff3\063\ufff3\064"
+          + "\ufff3\065\ufff3\066\ufff3\067\ufff3\070\ufff3\071\ufff3\072\ufff3"
+          + "\073\ufff3\074\ufff3\075\ufff3\076\ufff3\077\ufff3\100\ufff3\101"
+          + "\ufff3\102\ufff3\103\ufff3\104\ufff3\105\ufff3\106\ufff3\107\ufff3"
+          + "\110\ufff3\111\ufff3\112\ufff3\113\ufff3\114\ufff3\115\ufff3\116"
+          + "\ufff3\117\ufff3\120\ufff3\121\ufff3\122\ufff3\123\ufff3\124\ufff3"
+          + "\125\ufff3\126\ufff3\127\ufff3\130\ufff3\131\ufff3\132\ufff3\133"
+          + "\ufff3\134\ufff3\135\ufff3\136\ufff3\137\ufff3\140\ufff3\141\ufff3"
+          + "\142\ufff3\143\ufff3\144\ufff3\145\ufff3\146\ufff3\147\ufff3\150"
+          + "\ufff3\151\ufff3\152\ufff3\153\ufff3\154\ufff3\155\ufff3\156\ufff3"
+          + "\157\ufff3\160\ufff3\161\ufff3\162\ufff3\163\ufff3\164\ufff3\165"
+          + "\ufff3\166\ufff3\167\ufff3\170\ufff3\171\ufff3\172\ufff3\173\ufff3"
+          + "\205\ufff3\206\ufff3\207\ufff3\210\ufff3\211\ufff3\212\ufff3\223"
+          + "\ufff3\001\002\000\u010c\002\ufffc\004\ufffc\010\ufffc\011\ufffc"
+          + "\012\ufffc\013\ufffc\014\ufffc\015\ufffc\016\ufffc\017\ufffc\020"
+          + "\ufffc\021\ufffc\022\ufffc\023\ufffc\024\ufffc\025\ufffc\026\ufffc"
+          + "\027\ufffc\030\ufffc\031\ufffc\032\ufffc\033\ufffc\034\ufffc\035"
+          + "\ufffc\036\ufffc\037\ufffc\040\ufffc\041\ufffc\042\ufffc\043\ufffc"
+          + "\044\ufffc\045\ufffc\046\ufffc\047\ufffc\050\ufffc\051\ufffc\052"
+          + "\ufffc\053\ufffc\054\ufffc\055\ufffc\056\ufffc\057\ufffc\060\ufffc"
+          + "\061\ufffc\062\ufffc\063\ufffc\064\ufffc\065\ufffc\066\ufffc\067"
+          + "\ufffc\070\ufffc\071\ufffc\072\ufffc\073\ufffc\074\ufffc\075\ufffc"
+          + "\076\ufffc\077\ufffc\100\ufffc\101\ufffc\102\ufffc\103\ufffc\104"
+          + "\ufffc\105\ufffc\106\ufffc\107\ufffc\110\ufffc\111\ufffc\112\ufffc"
+          + "\113\ufffc\114\ufffc\115\ufffc\116\ufffc\117\ufffc\120\ufffc\121"
+          + "\ufffc\122\ufffc\123\ufffc\124\ufffc\125\ufffc\126\ufffc\127\ufffc"
+          + "\130\ufffc\131\ufffc\132\ufffc\133\ufffc\134\ufffc\135\ufffc\136"
+          + "\ufffc\137\ufffc\140\ufffc\141\ufffc\142\ufffc\143\ufffc\144\ufffc"
+          + "\145\ufffc\146\ufffc\147\ufffc\150\ufffc\151\ufffc\152\ufffc\153"
+          + "\ufffc\154\ufffc\155\ufffc\156\ufffc\157\ufffc\160\ufffc\161\ufffc"
+          + "\162\ufffc\163\ufffc\164\ufffc\165\ufffc\166\ufffc\167\ufffc\170"
+          + "\ufffc\171\ufffc\172\ufffc\173\ufffc\205\ufffc\206\ufffc\207\ufffc"
+          + "\210\ufffc\211\ufffc\212\ufffc\213\ufffc\214\ufffc\215\ufffc\216"
+          + "\ufffc\217\ufffc\220\ufffc\221\ufffc\222\ufffc\223\ufffc\001\002"
+          + "\000\004\203\247\001\002\000\004\202\235\001\002\000"
+          + "\006\002\uffed\011\uffed\001\002\000\004\203\247\001\002"
+          + "\000\004\202\235\001\002\000\010\174\274\175\261\176"
+          + "\266\001\002\000\004\202\235\001\002\000\004\203\247"
+          + "\001\002\000\004\202\235\001\002\000\004\202\235\001"
+          + "\002\000\010\174\274\175\261\176\266\001\002\000\004"
+          + "\203\247\001\002\000\004\202\235\001\002\000\004\202"
+          + "\235\001\002\000\004\202\235\001\002\000\004\202\235"
+          + "\001\002\000\004\200\377\001\002\000\004\202\235\001"
+          + "\002\000\004\203\247\001\002\000\006\002\uffec\011\uffec"
+          + "\001\002\000\004\202\235\001\002\000\006\002\uffaf\011"
+          + "\uffaf\001\002\000\004\202\235\001\002\000\004\202\235"
+          + "\001\002\000\004\202\235\001\002\000\006\002\uff81\011"
+          + "\uff81\001\002\000\004\202\235\001\002\000\006\002\uffb0"
+          + "\011\uffb0\001\002\000\006\002\uff5f\011\uff5f\001\002\000"
+          + "\006\002\uff58\011\uff58\001\002\000\004\202\235\001\002"
+          + "\000\004\202\235\001\002\000\004\203\247\001\002\000"
+          + "\004\202\235\001\002\000\004\202\235\001\002\000\004"
+          + "\202\235\001\002\000\004\202\235\001\002\000\006\002"
+          + "\uff59\011\uff59\001\002\000\004\203\247\001\002\000\004"
+          + "\202\235\001\002\000\004\202\235\001\002\000\004\202"
+          + "\235\001\002\000\004\202\235\001\002\000\004\202\235"
+          + "\001\002\000\004\202\235\001\002\000\004\202\235\001"
+          + "\002\000\006\002\uff5d\011\uff5d\001\002\000\004\202\235"
+          + "\001\002\000\004\202\235\001\002\000\014\174\274\175"
+          + "\261\176\266\201\301\204\240\001\002\000\004\202\235"
+          + "\001\002\000\004\202\235\001\002\000\004\204\240\001"
+          + "\002\000\004\202\235\001\002\000\006\002\uffee\011\uffee"
+          + "\001\002\000\006\002\uff5a\011\uff5a\001\002\000\004\202"
+          + "\235\001\002\000\004\202\235\001\002\000\006\002\ufff0"
+          + "\011\ufff0\001\002\000\006\002\uff87\011\uff87\001\002\000"
+          + "\004\202\235\001\002\000\004\203\247\001\002\000\004"
+          + "\202\235\001\002\000\006\002\ufff5\011\ufff5\001\002\000"
+          + "\006\002\uffeb\011\uffeb\001\002\000\004\202\235\001\002"
+          + "\000\004\202\235\001\002\000\u010c\002\001\004\163\010"
+          + "\055\011\056\012\043\013\105\014\076\015\050\016\133"
+          + "\017\175\020\015\021\160\022\200\023\036\024\115\025"
+          + "\054\026\100\027\074\030\214\031\212\032\153\033\136"
+          + "\034\167\035\155\036\222\037\117\040\144\041\142\042"
+          + "\210\043\057\044\037\045\125\046\062\047\223\050\072"
+          + "\051\066\052\213\053\231\054\202\055\013\056\032\057"
+          + "\101\060\132\061\165\062\230\063\122\064\164\065\147"
+          + "\066\112\067\131\070\030\071\161\072\024\073\052\074"
+          + "\020\075\220\076\215\077\060\100\004\101\170\102\207"
+          + "\103\006\104\104\105\063\106\065\107\073\110\120\111"
+          + "\176\112\022\113\177\114\127\115\126\116\121\117\053"
+          + "\120\137\121\116\122\070\123\007\124\134\125\211\126"
+          + "\045\127\025\130\204\131\031\132\152\133\023\134\232"
+          + "\135\150\136\123\137\014\140\111\141\051\142\173\143"
+          + "\075\144\166\145\171\146\067\147\130\150\026\151\107"
+          + "\152\016\153\027\154\172\155\217\156\047\157\110\160"
+          + "\017\161\233\162\021\163\154\164\221\165\103\166\234"
+          + "\167\141\170\106\171\042\172\225\173\041\205\205\206"
+          + "\077\207\064\210\174\211\224\212\140\213\035\214\124"
+          + "\215\114\216\201\217\206\220\226\221\071\222\143\223"
+          + "\227\001\002\000\004\204\240\001\002\000\004\202\235"
+          + "\001\002\000\004\202\235\001\002\000\004\202\235\001"
+          + "\002\000\004\203\247\001\002\000\004\202\235\001\002"
+          + "\000\004\202\235\001\002\000\004\202\235\001\002\000"
+          + "\004\202\235\001\002\000\012\174\274\175\261\176\266"
+          + "\201\301\001\002\000\004\202\235\001\002\000\004\202"
+          + "\235\001\002\000\004\203\247\001\002\000\004\202\235"
+          + "\001\002\000\006\002\uff57\011\uff57\001\002\000\004\203"
+          + "\247\001\002\000\006\002\uffef\011\uffef\001\002\000\006"
+          + "\202\235\204\240\001\002\000\004\200\377\001\002\000"
+          + "\006\002\uff56\011\uff56\001\002\000\004\202\235\001\002"
+          + "\000\004\203\247\001\002\000\004\202\235\001\002\000"
+          + "\004\202\235\001\002\000\004\203\247\001\002\000\004"
+          + "\202\235\001\002\000\004\202\235\001\002\000\006\002"
+          + "\uff5e\011\uff5e\001\002\000\004\204\240\001\002\000\004"
+          + "\202\235\001\002\000\004\203\247\001\002\000\004\203"
+          + "\247\001\002\000\004\203\247\001\002\000\012\174\274"
+          + "\175\261\176\266\201\301\001\002\000\004\202\235\001"
+          + "\002\000\010\174\274\175\261\176\266\001\002\000\012"
+          + "\174\265\175\261\176\266\177\270\001\002\000\004\202"
+          + "\235\001\002\000\004\203\247\001\002\000\004\202\235"
+          + "\001\002\000\004\204\240\001\002\000\004\202\235\001"
+          + "\002\000\030\002\uff40\005\uff40\007\uff40\011\uff40\174\uff40"
+          + "\175\uff40\176\uff40\201\uff40\202\uff40\203\uff40\204\uff40\001"
+          + "\002\000\006\002\uff7f\011\uff7f\001\002\000\006\002\uff97"
+          + "\011\uff97\001\002\000\022\002\uff4c\005\uff4c\011\uff4c\174"
+          + "\uff4c\175\uff4c\176\uff4c\201\uff4c\202\uff4c\001\002\000\006"
+          + "\005\242\202\uff3c\001\002\000\020\174\uff3e\175\uff3e\176"
+          + "\uff3e\201\uff3e\202\uff3e\203\uff3e\204\uff3e\001\002\000\004"
+          + "\202\235\001\002\000\020\174\uff3d\175\uff3d\176\uff3d\201"
+          + "\uff3d\202\uff3d\203\uff3d\204\uff3d\001\002\000\006\002\uff86"
+          + "\011\uff86\001\002\000\006\005\242\203\uff3c\001\002\000"
+          + "\026\002\uff3f\005\uff3f\011\uff3f\174\uff3f\175\uff3f\176\uff3f"
+          + "\201\uff3f\202\uff3f\203\uff3f\204\uff3f\001\002\000\004\203"
+          + "\247\001\002\000\006\005\242\203\uff3c\001\002\000\004"
+          + "\203\247\001\002\000\006\002\uffce\011\uffce\001\002\000"
+          + "\006\005\242\203\uff3c\001\002\000\004\203\247\001\002"
+          + "\000\006\005\242\203\uff3c\001\002\000\004\203\247\001"
+          + "\002\000\006\002\uffc1\011\uffc1\001\002\000\024\002\uff48"
+          + "\005\uff48\006\uff48\011\uff48\174\uff48\175\uff48\176\uff48\201"
+          + "\uff48\202\uff48\001\002\000\010\002\uff45\005\uff45\011\uff45"
           + "\001\002\000\010\002\uff61\005\uff61\011\uff61\001\002\000"
-          + "\010\002\uff62\005\u010d\011\uff62\001\002\000\004\167\236"
-          + "\001\002\000\010\002\uff60\005\uff60\011\uff60\001\002\000"
-          + "\006\005\222\165\uff4b\001\002\000\004\165\220\001\002"
-          + "\000\006\005\222\167\uff4b\001\002\000\004\167\236\001"
-          + "\002\000\006\002\uff80\011\uff80\001\002\000\006\005\222"
-          + "\166\uff4b\001\002\000\004\166\277\001\002\000\006\002"
-          + "\uffc9\011\uffc9\001\002\000\006\005\222\166\uff4b\001\002"
-          + "\000\004\166\277\001\002\000\006\005\222\166\uff4b\001"
-          + "\002\000\004\166\277\001\002\000\006\002\uffd1\011\uffd1"
-          + "\001\002\000\006\005\222\167\uff4b\001\002\000\004\167"
-          + "\236\001\002\000\006\002\uff82\011\uff82\001\002\000\006"
-          + "\005\222\165\uff4b\001\002\000\004\165\220\001\002\000"
-          + "\006\005\222\165\uff4b\001\002\000\004\165\220\001\002"
-          + "\000\006\002\uffdf\011\uffdf\001\002\000\006\005\222\165"
-          + "\uff4b\001\002\000\004\165\220\001\002\000\006\005\222"
-          + "\165\uff4b\001\002\000\004\165\220\001\002\000\006\002"
-          + "\uffde\011\uffde\001\002\000\006\005\222\165\uff4b\001\002"
-          + "\000\004\165\220\001\002\000\006\002\uffc7\011\uffc7\001"
-          + "\002\000\006\005\222\166\uff4b\001\002\000\004\166\277"
-          + "\001\002\000\006\005\222\166\uff4b\001\002\000\004\166"
-          + "\277\001\002\000\006\005\222\166\uff4b\001\002\000\004"
-          + "\166\277\001\002\000\006\002\uffe6\011\uffe6\001\002\000"
-          + "\006\005\222\165\uff4b\001\002\000\004\165\220\001\002"
-          + "\000\006\005\222\167\uff4b\001\002\000\004\167\236\001"
-          + "\002\000\006\002\uffa8\011\uffa8\001\002\000\006\002\uff69"
-          + "\011\uff69\001\002\000\006\002\uff5e\011\uff5e\001\002\000"
-          + "\006\005\222\165\uff4b\001\002\000\004\165\220\001\002"
-          + "\000\014\005\222\157\uff4b\160\uff4b\161\uff4b\164\uff4b\001"
-          + "\002\000\012\157\231\160\237\161\226\164\227\001\002"
-          + "\000\006\002\uffbf\011\uffbf\001\002\000\006\005\222\165"
-          + "\uff4b\001\002\000\004\165\220\001\002\000\014\005\222"
-          + "\157\uff4b\160\uff4b\161\uff4b\164\uff4b\001\002\000\012\157"
-          + "\231\160\237\161\226\164\227\001\002\000\006\002\uffbe"
-          + "\011\uffbe\001\002\000\012\002\uff88\005\222\011\uff88\165"
-          + "\uff4b\001\002\000\004\165\220\001\002\000\014\005\222"
-          + "\157\uff4b\160\uff4b\161\uff4b\164\uff4b\001\002\000\012\157"
-          + "\231\160\237\161\226\164\227\001\002\000\006\002\uffb6"
-          + "\011\uffb6\001\002\000\006\005\222\165\uff4b\001\002\000"
-          + "\004\165\220\001\002\000\014\005\222\157\uff4b\160\uff4b"
-          + "\161\uff4b\164\uff4b\001\002\000\012\157\231\160\237\161"
-          + "\226\164\227\001\002\000\006\002\uffbd\011\uffbd\001\002"
-          + "\000\006\005\222\165\uff4b\001\002\000\004\165\220\001"
-          + "\002\000\006\005\222\165\uff4b\001\002\000\004\165\220"
+          + "\010\002\uff66\005\271\011\uff66\001\002\000\010\002\uff43"
+          + "\005\uff43\011\uff43\001\002\000\024\002\uff47\005\uff47\006"
+          + "\uff47\011\uff47\174\uff47\175\uff47\176\uff47\201\uff47\202\uff47"
+          + "\001\002\000\010\002\uff44\005\uff44\011\uff44\001\002\000"
+          + "\010\002\uff46\005\uff46\011\uff46\001\002\000\012\174\265"
+          + "\175\261\176\266\177\270\001\002\000\010\002\uff60\005"
+          + "\uff60\011\uff60\001\002\000\024\002\uff4a\005\uff4a\006\uff4a"
+          + "\011\uff4a\174\uff4a\175\uff4a\176\uff4a\201\uff4a\202\uff4a\001"
+          + "\002\000\024\002\uff4b\005\uff4b\006\uff4b\011\uff4b\174\uff4b"
+          + "\175\uff4b\176\uff4b\201\uff4b\202\uff4b\001\002\000\006\002"
+          + "\uff52\011\uff52\001\002\000\024\002\uff49\005\uff49\006\uff49"
+          + "\011\uff49\174\uff49\175\uff49\176\uff49\201\uff49\202\uff49\001"
+          + "\002\000\006\002\uff7b\011\uff7b\001\002\000\010\002\uff65"
+          + "\005\uff65\011\uff65\001\002\000\012\002\uff42\005\uff42\006"
+          + "\uff42\011\uff42\001\002\000\010\002\uff6c\005\305\011\uff6c"
+          + "\001\002\000\012\002\uff50\005\uff50\006\uff50\011\uff50\001"
+          + "\002\000\012\002\uff4f\005\uff4f\006\uff4f\011\uff4f\001\002"
+          + "\000\012\174\274\175\261\176\266\201\301\001\002\000"
+          + "\010\002\uff64\005\uff64\011\uff64\001\002\000\006\005\242"
+          + "\203\uff3c\001\002\000\004\203\247\001\002\000\006\005"
+          + "\242\203\uff3c\001\002\000\004\203\247\001\002\000\006"
+          + "\005\242\203\uff3c\001\002\000\004\203\247\001\002\000"
+          + "\006\002\uffe9\011\uffe9\001\002\000\006\005\242\202\uff3c"
+          + "\001\002\000\004\202\235\001\002\000\006\002\uffc7\011"
+          + "\uffc7\001\002\000\006\005\242\203\uff3c\001\002\000\004"
+          + "\203\247\001\002\000\006\002\uff88\011\uff88\001\002\000"
+          + "\006\005\242\202\uff3c\001\002\000\004\202\235\001\002"
+          + "\000\014\005\242\174\uff3c\175\uff3c\176\uff3c\201\uff3c\001"
+          + "\002\000\012\174\274\175\261\176\266\201\301\001\002"
+          + "\000\006\002\uffbd\011\uffbd\001\002\000\006\002\uff6e\011"
+          + "\uff6e\001\002\000\006\005\242\202\uff3c\001\002\000\004"
+          + "\202\235\001\002\000\014\005\242\174\uff3c\175\uff3c\176"
+          + "\uff3c\201\uff3c\001\002\000\012\174\274\175\261\176\266"
+          + "\201\301\001\002\000\006\002\uffb9\011\uffb9\001\002\000"
+          + "\006\005\242\202\uff3c\001\002\000\004\202\235\001\002"
+          + "\000\006\005\242\202\uff3c\001\002\000\004\202\235\001"
+          + "\002\000\006\002\uffe3\011\uffe3\001\002\000\006\005\242"
+          + "\203\uff3c\001\002\000\004\203\247\001\002\000\006\005"
+          + "\242\203\uff3c\001\002\000\004\203\247\001\002\000\006"
+          + "\005\242\203\uff3c\001\002\000\004\203\247\001\002\000"
+          + "\006\002\uffe7\011\uffe7\001\002\000\006\005\242\202\uff3c"
+          + "\001\002\000\004\202\235\001\002\000\006\005\242\202"
+          + "\uff3c\001\002\000\004\202\235\001\002\000\006\002\uffe4"
+          + "\011\uffe4\001\002\000\006\005\242\202\uff3c\001\002\000"
+          + "\004\202\235\001\002\000\006\005\242\204\uff3c\001\002"
+          + "\000\004\204\240\001\002\000\006\002\uffa2\011\uffa2\001"
+          + "\002\000\006\005\242\203\uff3c\001\002\000\004\203\247"
+          + "\001\002\000\006\005\242\203\uff3c\001\002\000\004\203"
+          + "\247\001\002\000\006\002\uffd3\011\uffd3\001\002\000\006"
+          + "\005\242\202\uff3c\001\002\000\004\202\235\001\002\000"
+          + "\014\005\242\174\uff3c\175\uff3c\176\uff3c\201\uff3c\001\002"
+          + "\000\012\174\274\175\261\176\266\201\301\001\002\000"
+          + "\006\002\uffb8\011\uffb8\001\002\000\006\002\uff41\011\uff41"
+          + "\001\002\000\006\002\uff69\011\uff69\001\002\000\006\002"
+          + "\uff6f\011\uff6f\001\002\000\006\005\242\204\uff3c\001\002"
+          + "\000\004\204\240\001\002\000\006\002\uff9b\011\uff9b\001"
+          + "\002\000\006\005\242\203\uff3c\001\002\000\004\203\247"
+          + "\001\002\000\006\005\242\203\uff3c\001\002\000\004\203"
+          + "\247\001\002\000\006\002\uffcd\011\uffcd\001\002\000\006"
+          + "\005\242\202\uff3c\001\002\000\004\202\235\001\002\000"
+          + "\006\005\242\202\uff3c\001\002\000\004\202\235\001\002"
+          + "\000\006\002\uffdf\011\uffdf\001\002\000\016\005\242\174"
+          + "\uff3c\175\uff3c\176\uff3c\201\uff3c\204\uff3c\001\002\000\014"
+          + "\174\274\175\261\176\266\201\301\204\240\001\002\000"
+          + "\004\006\u0115\001\002\000\006\005\242\202\uff3c\001\002"
+          + "\000\004\202\235\001\002\000\006\002\uff93\011\uff93\001"
+          + "\002\000\004\202\235\001\002\000\004\007\u0117\001\002"
+          + "\000\006\002\uffa8\011\uffa8\001\002\000\014\005\242\174"
+          + "\uff3c\175\uff3c\176\uff3c\204\uff3c\001\002\000\012\174\274"
+          + "\175\261\176\266\204\240\001\002\000\022\002\uff4e\005"
+          + "\uff4e\011\uff4e\174\uff4e\175\uff4e\176\uff4e\201\uff4e\202\uff4e"
+          + "\001\002\000\022\002\uff4d\005\uff4d\011\uff4d\174\uff4d\175"
+          + "\uff4d\176\uff4d\201\uff4d\202\uff4d\001\002\000\014\005\242"
+          + "\174\uff3c\175\uff3c\176\uff3c\201\uff3c\001\002\000\012\174"
+          + "\274\175\261\176\266\201\301\001\002\000\006\002\uffaa"
+          + "\011\uffaa\001\002\000\006\005\242\202\uff3c\001\002\000"
+          + "\004\202\235\001\002\000\006\005\242\202\uff3c\001\002"
+          + "\000\004\202\235\001\002\000\006\002\uffd8\011\uffd8\001"
+          + "\002\000\010\002\uff6d\005\305\011\uff6d\001\002\000\006"
+          + "\005\242\202\uff3c\001\002\000\004\202\235\001\002\000"
+          + "\006\002\uff8b\011\uff8b\001\002\000\006\005\242\202\uff3c"
+          + "\001\002\000\004\202\235\001\002\000\006\005\242\204"
+          + "\uff3c\001\002\000\004\204\240\001\002\000\006\002\uff70"
+          + "\011\uff70\001\002\000\006\005\242\204\uff3c\001\002\000"
+          + "\004\204\240\001\002\000\006\002\uff77\011\uff77\001\002"
+          + "\000\006\005\242\202\uff3c\001\002\000\004\202\235\001"
+          + "\002\000\014\005\242\174\uff3c\175\uff3c\176\uff3c\201\uff3c"
+          + "\001\002\000\012\174\274\175\261\176\266\201\301\001"
+          + "\002\000\006\002\uffb7\011\uffb7\001\002\000\006\005\242"
+          + "\202\uff3c\001\002\000\004\202\235\001\002\000\006\002"
+          + "\uffc8\011\uffc8\001\002\000\006\005\242\204\uff3c\001\002"
+          + "\000\004\204\240\001\002\000\006\002\uff78\011\uff78\001"
+          + "\002\000\006\005\242\203\uff3c\001\002\000\004\203\247"
+          + "\001\002\000\006\005\242\203\uff3c\001\002\000\004\203"
+          + "\247\001\002\000\006\002\uffc2\011\uffc2\001\002\000\006"
+          + "\005\242\202\uff3c\001\002\000\004\202\235\001\002\000"
+          + "\014\005\242\174\uff3c\175\uff3c\176\uff3c\201\uff3c\001\002"
+          + "\000\012\174\274\175\261\176\266\201\301\001\002\000"
+          + "\006\002\uffbf\011\uffbf\001\002\000\006\002\uff5c\011\uff5c"
+          + "\001\002\000\004\002\uffff\001\002\000\014\005\242\174"
+          + "\uff3c\175\uff3c\176\uff3c\201\uff3c\001\002\000\012\174\274"
+          + "\175\261\176\266\201\301\001\002\000\004\006\u014a\001"
+          + "\002\000\004\202\235\001\002\000\004\007\u014c\001\002"
+          + "\000\006\002\uffb4\011\uffb4\001\002\000\006\005\242\202"
+          + "\uff3c\001\002\000\004\202\235\001\002\000\006\005\242"
+          + "\202\uff3c\001\002\000\004\202\235\001\002\000\006\002"
+          + "\uffdb\011\uffdb\001\002\000\006\005\242\203\uff3c\001\002"
+          + "\000\004\203\247\001\002\000\006\002\uffc9\011\uffc9\001"
+          + "\002\000\006\005\242\203\uff3c\001\002\000\004\203\247"
+          + "\001\002\000\006\002\uff89\011\uff89\001\002\000\006\005"
+          + "\242\202\uff3c\001\002\000\004\202\235\001\002\000\006"
+          + "\005\242\202\uff3c\001\002\000\004\202\235\001\002\000"
+          + "\006\002\uffe1\011\uffe1\001\002\000\006\005\242\202\uff3c"
+          + "\001\002\000\004\202\235\001\002\000\006\002\uff85\011"
+          + "\uff85\001\002\000\006\005\242\202\uff3c\001\002\000\004"
+          + "\202\235\001\002\000\014\005\242\174\uff3c\175\uff3c\176"
+          + "\uff3c\201\uff3c\001\002\000\012\174\274\175\261\176\266"
+          + "\201\301\001\002\000\006\002\uffbc\011\uffbc\001\002\000"
+          + "\006\005\242\203\uff3c\001\002\000\004\203\247\001\002"
+          + "\000\006\002\uffc5\011\uffc5\001\002\000\010\002\uff54\005"
+          + "\uff54\011\uff54\001\002\000\010\002\uff55\005\u016a\011\uff55"
+          + "\001\002\000\004\204\240\001\002\000\010\002\uff53\005"
+          + "\uff53\011\uff53\001\002\000\006\005\242\203\uff3c\001\002"
+          + "\000\004\203\247\001\002\000\006\002\uffc4\011\uffc4\001"
+          + "\002\000\006\002\uff7e\011\uff7e\001\002\000\010\002\uff63"
+          + "\005\uff63\011\uff63\001\002\000\010\002\uff6b\005\305\011"
+          + "\uff6b\001\002\000\010\002\uff6a\005\u0173\011\uff6a\001\002"
+          + "\000\004\204\240\001\002\000\010\002\uff62\005\uff62\011"
+          + "\uff62\001\002\000\006\005\242\202\uff3c\001\002\000\004"
+          + "\202\235\001\002\000\006\005\242\204\uff3c\001\002\000"
+          + "\004\204\240\001\002\000\006\002\uffa3\011\uffa3\001\002"
+          + "\000\006\005\242\202\uff3c\001\002\000\004\202\235\001"
+          + "\002\000\006\005\242\202\uff3c\001\002\000\004\202\235"
+          + "\001\002\000\006\002\uffe0\011\uffe0\001\002\000\006\005"
+          + "\242\202\uff3c\001\002\000\004\202\235\001\002\000\006"
+          + "\005\242\204\uff3c\001\002\000\004\204\240\001\002\000"
+          + "\006\002\uff9f\011\uff9f\001\002\000\006\005\242\202\uff3c"
+          + "\001\002\000\004\202\235\001\002\000\006\005\242\202"
+          + "\uff3c\001\002\000\004\202\235\001\002\000\006\002\uffd9"
+          + "\011\uffd9\001\002\000\006\005\242\203\uff3c\001\002\000"
+          + "\004\203\247\001\002\000\006\005\242\203\uff3c\001\002"
+          + "\000\004\203\247\001\002\000\006\002\uffc3\011\uffc3\001"
+          + "\002\000\012\002\uff82\005\242\011\uff82\202\uff3c\001\002"
+          + "\000\004\202\235\001\002\000\014\005\242\174\uff3c\175"
+          + "\uff3c\176\uff3c\201\uff3c\001\002\000\012\174\274\175\261"
+          + "\176\266\201\301\001\002\000\006\002\uffb6\011\uffb6\001"
+          + "\002\000\006\005\242\204\uff3c\001\002\000\004\204\240"
+          + "\001\002\000\006\002\uff75\011\uff75\001\002\000\016\005"
+          + "\242\174\uff3c\175\uff3c\176\uff3c\201\uff3c\204\uff3c\001\002"
+          + "\000\014\174\274\175\261\176\266\201\301\204\240\001"
+          + "\002\000\004\006\u019c\001\002\000\006\005\242\202\uff3c"
+          + "\001\002\000\004\202\235\001\002\000\006\002\uff92\011"
+          + "\uff92\001\002\000\004\202\235\001\002\000\004\007\u019e"
+          + "\001\002\000\006\002\uffa7\011\uffa7\001\002\000\016\005"
+          + "\242\174\uff3c\175\uff3c\176\uff3c\201\uff3c\204\uff3c\001\002"
+          + "\000\014\174\274\175\261\176\266\201\301\204\240\001"
+          + "\002\000\004\006\u01a5\001\002\000\006\005\242\202\uff3c"
+          + "\001\002\000\004\202\235\001\002\000\006\002\uff91\011"
+          + "\uff91\001\002\000\004\202\235\001\002\000\004\007\u01a7"
+          + "\001\002\000\006\002\uffa6\011\uffa6\001\002\000\006\005"
+          + "\242\203\uff3c\001\002\000\004\203\247\001\002\000\006"
+          + "\005\242\203\uff3c\001\002\000\004\203\247\001\002\000"
+          + "\006\002\uffd0\011\uffd0\001\002\000\006\005\242\202\uff3c"
+          + "\001\002\000\004\202\235\001\002\000\006\002\uff8e\011"
+          + "\uff8e\001\002\000\006\005\242\203\uff3c\001\002\000\004"
+          + "\203\247\001\002\000\006\002\uffc0\011\uffc0\001\002\000"
+          + "\016\005\242\174\uff3c\175\uff3c\176\uff3c\201\uff3c\204\uff3c"
+          + "\001\002\000\014\174\274\175\261\176\266\201\301\204"
+          + "\240\001\002\000\004\006\u01b9\001\002\000\006\005\242"
+          + "\202\uff3c\001\002\000\004\202\235\001\002\000\006\002"
+          + "\uff90\011\uff90\001\002\000\004\202\235\001\002\000\004"
+          + "\007\u01bb\001\002\000\006\002\uffa5\011\uffa5\001\002\000"
+          + "\014\005\242\174\uff3c\175\uff3c\176\uff3c\204\uff3c\001\002"
+          + "\000\012\174\274\175\261\176\266\204\240\001\002\000"
+          + "\014\005\242\174\uff3c\175\uff3c\176\uff3c\201\uff3c\001\002"
+          + "\000\012\174\274\175\261\176\266\201\301\001\002\000"
+          + "\006\002\uffab\011\uffab\001\002\000\006\005\242\202\uff3c"
+          + "\001\002\000\004\202\235\001\002\000\006\002\uffc6\011"
+          + "\uffc6\001\002\000\006\005\242\202\uff3c\001\002\000\004"
+          + "\202\235\001\002\000\006\005\242\204\uff3c\001\002\000"
+          + "\004\204\240\001\002\000\006\002\uffa0\011\uffa0\001\002"
+          + "\000\006\005\242\202\uff3c\001\002\000\004\202\235\001"
+          + "\002\000\006\005\242\202\uff3c\001\002\000\004\202\235"
           + "\001\002\000\006\002\uffd5\011\uffd5\001\002\000\006\005"
-          + "\222\165\uff4b\001\002\000\004\165\220\001\002\000\006"
-          + "\005\222\165\uff4b\001\002\000\004\165\220\001\002\000"
-          + "\006\002\uffd6\011\uffd6\001\002\000\006\005\222\165\uff4b"
-          + "\001\002\000\004\165\220\001\002\000\014\005\222\157"
-          + "\uff4b\160\uff4b\161\uff4b\164\uff4b\001\002\000\012\157\231"
-          + "\160\237\161\226\164\227\001\002\000\006\002\uffb9\011"
-          + "\uffb9\001\002\000\006\005\222\165\uff4b\001\002\000\004"
-          + "\165\220\001\002\000\006\002\uff93\011\uff93\001\002\000"
-          + "\006\002\uff89\011\uff89\001\002\000\006\005\222\165\uff4b"
-          + "\001\002\000\004\165\220\001\002\000\006\005\222\165"
-          + "\uff4b\001\002\000\004\165\220\001\002\000\006\002\uffd4"
-          + "\011\uffd4\001\002\000\006\005\222\165\uff4b\001\002\000"
-          + "\004\165\220\001\002\000\006\005\222\165\uff4b\001\002"
-          + "\000\004\165\220\001\002\000\006\002\uffe3\011\uffe3\001"
-          + "\002\000\006\005\222\166\uff4b\001\002\000\004\166\277"
-          + "\001\002\000\006\005\222\166\uff4b\001\002\000\004\166"
-          + "\277\001\002\000\006\002\uffc2\011\uffc2\001\002\000\006"
-          + "\005\222\166\uff4b\001\002\000\004\166\277\001\002\000"
-          + "\006\005\222\166\uff4b\001\002\000\004\166\277\001\002"
-          + "\000\006\002\uffd2\011\uffd2\001\002\000\006\002\uff7c\011"
-          + "\uff7c\001\002\000\006\005\222\167\uff4b\001\002\000\004"
-          + "\167\236\001\002\000\006\002\uffa1\011\uffa1\001\002\000"
-          + "\006\005\222\166\uff4b\001\002\000\004\166\277\001\002"
-          + "\000\006\005\222\166\uff4b\001\002\000\004\166\277\001"
-          + "\002\000\006\005\222\166\uff4b\001\002\000\004\166\277"
-          + "\001\002\000\006\002\uffe8\011\uffe8\001\002\000\006\005"
-          + "\222\166\uff4b\001\002\000\004\166\277\001\002\000\006"
-          + "\002\uffcf\011\uffcf\001\002\000\006\002\uff9e\011\uff9e\001"
-          + "\002\000\006\002\uff50\011\uff50\001\002\000\006\002\uff76"
-          + "\011\uff76\001\002\000\006\005\222\165\uff4b\001\002\000"
-          + "\004\165\220\001\002\000\006\005\222\165\uff4b\001\002"
-          + "\000\004\165\220\001\002\000\006\002\uffe4\011\uffe4\001"
-          + "\002\000\006\005\222\165\uff4b\001\002\000\004\165\220"
-          + "\001\002\000\006\005\222\165\uff4b\001\002\000\004\165"
-          + "\220\001\002\000\006\002\uffe5\011\uffe5\001\002\000\006"
-          + "\005\222\167\uff4b\001\002\000\004\167\236\001\002\000"
-          + "\006\002\uff86\011\uff86\001\002\000\006\005\222\166\uff4b"
-          + "\001\002\000\004\166\277\001\002\000\006\005\222\166"
-          + "\uff4b\001\002\000\004\166\277\001\002\000\006\005\222"
-          + "\166\uff4b\001\002\000\004\166\277\001\002\000\006\002"
-          + "\uffe7\011\uffe7\001\002\000\006\005\222\166\uff4b\001\002"
-          + "\000\004\166\277\001\002\000\006\005\222\166\uff4b\001"
-          + "\002\000\004\166\277\001\002\000\006\002\uffca\011\uffca"
-          + "\001\002\000\006\002\uff9d\011\uff9d\001\002\000\006\005"
-          + "\222\165\uff4b\001\002\000\004\165\220\001\002\000\006"
-          + "\005\222\165\uff4b\001\002\000\004\165\220\001\002\000"
-          + "\006\002\uffdd\011\uffdd\001\002\000\006\005\222\165\uff4b"
-          + "\001\002\000\004\165\220\001\002\000\014\005\222\157"
-          + "\uff4b\160\uff4b\161\uff4b\164\uff4b\001\002\000\012\157\231"
-          + "\160\237\161\226\164\227\001\002\000\006\002\uffb8\011"
-          + "\uffb8\001\002\000\016\005\222\157\uff4b\160\uff4b\161\uff4b"
-          + "\164\uff4b\167\uff4b\001\002\000\014\157\231\160\237\161"
-          + "\226\164\227\167\236\001\002\000\004\006\u01b0\001\002"
-          + "\000\006\005\222\165\uff4b\001\002\000\004\165\220\001"
-          + "\002\000\006\002\uff99\011\uff99\001\002\000\004\165\220"
-          + "\001\002\000\004\007\u01b2\001\002\000\006\002\uffae\011"
-          + "\uffae\001\002\000\006\005\222\165\uff4b\001\002\000\004"
-          + "\165\220\001\002\000\006\005\222\167\uff4b\001\002\000"
-          + "\004\167\236\001\002\000\006\002\uffa4\011\uffa4\001\002"
-          + "\000\006\005\222\165\uff4b\001\002\000\004\165\220\001"
-          + "\002\000\006\005\222\165\uff4b\001\002\000\004\165\220"
-          + "\001\002\000\006\002\uffd7\011\uffd7\001\002\000\006\005"
-          + "\222\165\uff4b\001\002\000\004\165\220\001\002\000\006"
-          + "\005\222\165\uff4b\001\002\000\004\165\220\001\002\000"
-          + "\006\002\uffe2\011\uffe2\001\002\000\006\005\222\165\uff4b"
-          + "\001\002\000\004\165\220\001\002\000\006\002\uff91\011"
-          + "\uff91\001\002\000\006\005\222\165\uff4b\001\002\000\004"
-          + "\165\220\001\002\000\014\005\222\157\uff4b\160\uff4b\161"
-          + "\uff4b\164\uff4b\001\002\000\012\157\231\160\237\161\226"
-          + "\164\227\001\002\000\006\002\uffbc\011\uffbc\001\002\000"
-          + "\006\005\222\167\uff4b\001\002\000\004\167\236\001\002"
-          + "\000\006\002\uff83\011\uff83\001\002\000\006\002\uff75\011"
-          + "\uff75\001\002\000\006\005\222\167\uff4b\001\002\000\004"
-          + "\167\236\001\002\000\006\002\uffa0\011\uffa0\001\002\000"
-          + "\016\005\222\157\uff4b\160\uff4b\161\uff4b\164\uff4b\167\uff4b"
-          + "\001\002\000\014\157\231\160\237\161\226\164\227\167"
-          + "\236\001\002\000\004\006\u01d5\001\002\000\006\002\uff9c"
-          + "\011\uff9c\001\002\000\004\165\220\001\002\000\004\007"
-          + "\u01d7\001\002\000\006\002\uffb5\011\uffb5\001\002\000\006"
-          + "\002\uff74\011\uff74\001\002\000\006\005\222\165\uff4b\001"
-          + "\002\000\004\165\220\001\002\000\014\005\222\157\uff4b"
-          + "\160\uff4b\161\uff4b\164\uff4b\001\002\000\012\157\231\160"
-          + "\237\161\226\164\227\001\002\000\006\002\uffbb\011\uffbb"
-          + "\001\002\000\016\005\222\157\uff4b\160\uff4b\161\uff4b\164"
-          + "\uff4b\167\uff4b\001\002\000\014\157\231\160\237\161\226"
-          + "\164\227\167\236\001\002\000\004\006\u01e2\001\002\000"
-          + "\006\002\uff9b\011\uff9b\001\002\000\004\165\220\001\002"
-          + "\000\004\007\u01e4\001\002\000\006\002\uffb3\011\uffb3\001"
-          + "\002\000\014\005\222\157\uff4b\160\uff4b\161\uff4b\164\uff4b"
-          + "\001\002\000\012\157\231\160\237\161\226\164\227\001"
-          + "\002\000\004\006\u01e8\001\002\000\004\165\220\001\002"
-          + "\000\004\007\u01ea\001\002\000\006\002\uffb2\011\uffb2\001"
-          + "\002\000\006\005\222\165\uff4b\001\002\000\004\165\220"
-          + "\001\002\000\014\005\222\157\uff4b\160\uff4b\161\uff4b\164"
-          + "\uff4b\001\002\000\012\157\231\160\237\161\226\164\227"
-          + "\001\002\000\006\002\uffba\011\uffba\001\002\000\014\005"
-          + "\222\157\uff4b\160\uff4b\161\uff4b\164\uff4b\001\002\000\012"
-          + "\157\231\160\237\161\226\164\227\001\002\000\006\002"
-          + "\uff9f\011\uff9f\001\002\000\006\005\222\166\uff4b\001\002"
-          + "\000\004\166\277\001\002\000\006\005\222\166\uff4b\001"
-          + "\002\000\004\166\277\001\002\000\006\002\uffd0\011\uffd0"
-          + "\001\002\000\006\005\222\166\uff4b\001\002\000\004\166"
-          + "\277\001\002\000\006\005\222\166\uff4b\001\002\000\004"
-          + "\166\277\001\002\000\006\002\uffcc\011\uffcc\001\002\000"
-          + "\006\005\222\166\uff4b\001\002\000\004\166\277\001\002"
-          + "\000\006\005\222\166\uff4b\001\002\000\004\166\277\001"
-          + "\002\000\006\002\uffd3\011\uffd3\001\002\000\006\002\uff5f"
-          + "\011\uff5f\001\002\000\006\002\uff68\011\uff68\001\002\000"
-          + "\006\005\222\166\uff4b\001\002\000\004\166\277\001\002"
-          + "\000\006\005\222\166\uff4b\001\002\000\004\166\277\001"
-          + "\002\000\006\005\222\166\uff4b\001\002\000\004\166\277"
-          + "\001\002\000\006\002\uffe9\011\uffe9\001\002\000\014\005"
-          + "\222\157\uff4b\160\uff4b\161\uff4b\164\uff4b\001\002\000\012"
-          + "\157\231\160\237\161\226\164\227\001\002\000\004\006"
-          + "\u020e\001\002\000\004\165\220\001\002\000\004\007\u0210"
-          + "\001\002\000\006\002\uffb4\011\uffb4\001\002\000\006\002"
-          + "\ufffb\011\ufffb\001\002\000\006\002\ufff9\011\ufff9\001\002"
-          + "\000\006\002\ufffa\011\ufffa\001\002\000\006\005\222\166"
-          + "\uff4b\001\002\000\004\166\277\001\002\000\006\005\222"
-          + "\166\uff4b\001\002\000\004\166\277\001\002\000\006\002"
-          + "\uffc3\011\uffc3\001\002\000\016\005\222\157\uff4b\160\uff4b"
-          + "\161\uff4b\164\uff4b\167\uff4b\001\002\000\014\157\231\160"
-          + "\237\161\226\164\227\167\236\001\002\000\004\006\u021f"
-          + "\001\002\000\006\005\222\165\uff4b\001\002\000\004\165"
-          + "\220\001\002\000\006\002\uff95\011\uff95\001\002\000\004"
-          + "\165\220\001\002\000\004\007\u0221\001\002\000\006\002"
-          + "\uffaa\011\uffaa\001\002\000\014\005\222\157\uff4b\160\uff4b"
-          + "\161\uff4b\164\uff4b\001\002\000\012\157\231\160\237\161"
-          + "\226\164\227\001\002\000\006\002\uffa2\011\uffa2\001\002"
-          + "\000\006\005\222\165\uff4b\001\002\000\004\165\220\001"
-          + "\002\000\006\005\222\165\uff4b\001\002\000\004\165\220"
-          + "\001\002\000\006\002\uffdc\011\uffdc\001\002\000\014\005"
-          + "\222\157\uff4b\160\uff4b\161\uff4b\164\uff4b\001\002\000\012"
-          + "\157\231\160\237\161\226\164\227\001\002\000\006\002"
-          + "\uffa3\011\uffa3\001\002\000\006\005\222\165\uff4b\001\002"
-          + "\000\004\165\220\001\002\000\006\005\222\167\uff4b\001"
-          + "\002\000\004\167\236\001\002\000\006\002\uff7d\011\uff7d"
-          + "\001\002\000\016\005\222\157\uff4b\160\uff4b\161\uff4b\164"
-          + "\uff4b\167\uff4b\001\002\000\014\157\231\160\237\161\226"
-          + "\164\227\167\236\001\002\000\004\006\u0236\001\002\000"
-          + "\006\002\uff9a\011\uff9a\001\002\000\004\165\220\001\002"
-          + "\000\004\007\u0238\001\002\000\006\002\uffb1\011\uffb1\001"
-          + "\002\000\006\005\222\165\uff4b\001\002\000\004\165\220"
-          + "\001\002\000\006\002\uff92\011\uff92\001\002\000\006\005"
-          + "\222\165\uff4b\001\002\000\004\165\220\001\002\000\006"
-          + "\005\222\165\uff4b\001\002\000\004\165\220\001\002\000"
-          + "\006\002\uffdb\011\uffdb\001\002\000\006\005\222\167\uff4b"
-          + "\001\002\000\004\167\236\001\002\000\006\002\uff84\011"
-          + "\uff84\001\002\000\006\005\222\165\uff4b\001\002\000\004"
-          + "\165\220\001\002\000\014\005\222\157\uff4b\160\uff4b\161"
-          + "\uff4b\164\uff4b\001\002\000\012\157\231\160\237\161\226"
-          + "\164\227\001\002\000\006\002\uffb7\011\uffb7\001\002\000"
-          + "\006\005\222\166\uff4b\001\002\000\004\166\277\001\002"
-          + "\000\006\002\uff90\011\uff90\001\002\000\016\005\222\157"
-          + "\uff4b\160\uff4b\161\uff4b\164\uff4b\167\uff4b\001\002\000\014"
-          + "\157\231\160\237\161\226\164\227\167\236\001\002\000"
-          + "\004\006\u0252\001\002\000\006\005\222\165\uff4b\001\002"
-          + "\000\004\165\220\001\002\000\006\002\uff98\011\uff98\001"
-          + "\002\000\004\165\220\001\002\000\004\007\u0254\001\002"
-          + "\000\006\002\uffad\011\uffad\001\002\000\006\005\222\166"
-          + "\uff4b\001\002\000\004\166\277\001\002\000\006\002\uffc4"
-          + "\011\uffc4\001\002\000\016\005\222\157\uff4b\160\uff4b\161"
-          + "\uff4b\164\uff4b\167\uff4b\001\002\000\014\157\231\160\237"
-          + "\161\226\164\227\167\236\001\002\000\004\006\u025e\001"
-          + "\002\000\006\005\222\165\uff4b\001\002\000\004\165\220"
-          + "\001\002\000\006\002\uff97\011\uff97\001\002\000\004\165"
-          + "\220\001\002\000\004\007\u0260\001\002\000\006\002\uffac"
-          + "\011\uffac\001\002\000\006\005\222\165\uff4b\001\002\000"
-          + "\004\165\220\001\002\000\006\005\222\165\uff4b\001\002"
-          + "\000\004\165\220\001\002\000\006\002\uffda\011\uffda\001"
-          + "\002\000\362\002\ufffd\004\ufffd\010\ufffd\011\ufffd\012\ufffd"
-          + "\013\ufffd\014\ufffd\015\ufffd\016\ufffd\017\ufffd\020\ufffd\021"
-          + "\ufffd\022\ufffd\023\ufffd\024\ufffd\025\ufffd\026\ufffd\027\ufffd"
-          + "\030\ufffd\031\ufffd\032\ufffd\033\ufffd\034\ufffd\035\ufffd\036"
-          + "\ufffd\037\ufffd\040\ufffd\041\ufffd\042\ufffd\043\ufffd\044\ufffd"
-          + "\045\ufffd\046\ufffd\047\ufffd\050\ufffd\051\ufffd\052\ufffd\053"
-          + "\ufffd\054\ufffd\055\ufffd\056\ufffd\057\ufffd\060\ufffd\061\ufffd"
-          + "\062\ufffd\063\ufffd\064\ufffd\065\ufffd\066\ufffd\067\ufffd\070"
-          + "\ufffd\071\ufffd\072\ufffd\073\ufffd\074\ufffd\075\ufffd\076\ufffd"
-          + "\077\ufffd\100\ufffd\101\ufffd\102\ufffd\103\ufffd\104\ufffd\105"
-          + "\ufffd\106\ufffd\107\ufffd\110\ufffd\111\ufffd\112\ufffd\113\ufffd"
-          + "\114\ufffd\115\ufffd\116\ufffd\117\ufffd\120\ufffd\121\ufffd\122"
-          + "\ufffd\123\ufffd\124\ufffd\125\ufffd\126\ufffd\127\ufffd\130\ufffd"
-          + "\131\ufffd\132\ufffd\133\ufffd\134\ufffd\135\ufffd\136\ufffd\137"
-          + "\ufffd\140\ufffd\141\ufffd\142\ufffd\143\ufffd\144\ufffd\145\ufffd"
-          + "\146\ufffd\147\ufffd\150\ufffd\151\ufffd\152\ufffd\153\ufffd\154"
-          + "\ufffd\155\ufffd\156\ufffd\170\ufffd\171\ufffd\172\ufffd\173\ufffd"
-          + "\174\ufffd\175\ufffd\176\ufffd\177\ufffd\200\ufffd\201\ufffd\202"
-          + "\ufffd\203\ufffd\204\ufffd\205\ufffd\206\ufffd\001\002\000\006"
-          + "\005\222\167\uff4b\001\002\000\004\167\236\001\002\000"
-          + "\006\002\uff85\011\uff85\001\002\000\006\005\222\165\uff4b"
-          + "\001\002\000\004\165\220\001\002\000\006\005\222\167"
-          + "\uff4b\001\002\000\004\167\236\001\002\000\006\002\uffa9"
-          + "\011\uffa9\001\002\000\006\005\222\166\uff4b\001\002\000"
-          + "\004\166\277\001\002\000\006\002\uffc5\011\uffc5\001\002"
-          + "\000\006\005\222\166\uff4b\001\002\000\004\166\277\001"
-          + "\002\000\006\002\uff8e\011\uff8e\001\002\000\004\002\uffff"
-          + "\001\002\000\006\005\222\165\uff4b\001\002\000\004\165"
-          + "\220\001\002\000\006\002\uff8b\011\uff8b\001\002\000\010"
-          + "\002\uff54\005\uff54\011\uff54\001\002\000\010\002\uff6e\005"
-          + "\uff6e\011\uff6e\001\002\000\010\002\uff73\005\u027f\011\uff73"
-          + "\001\002\000\010\002\uff52\005\uff52\011\uff52\001\002\000"
-          + "\010\002\uff53\005\uff53\011\uff53\001\002\000\010\002\uff55"
-          + "\005\uff55\011\uff55\001\002\000\012\157\u027c\160\237\161"
-          + "\226\162\u027e\001\002\000\010\002\uff6d\005\uff6d\011\uff6d" + "\001\002" });
+          + "\242\202\uff3c\001\002\000\004\202\235\001\002\000\006"
+          + "\002\uff8d\011\uff8d\001\002\000\006\005\242\202\uff3c\001"
+          + "\002\000\004\202\235\001\002\000\006\005\242\204\uff3c"
+          + "\001\002\000\004\204\240\001\002\000\006\002\uff73\011"
+          + "\uff73\001\002\000\006\002\uff7d\011\uff7d\001\002\000\006"
+          + "\005\242\202\uff3c\001\002\000\004\202\235\001\002\000"
+          + "\006\005\242\202\uff3c\001\002\000\004\202\235\001\002"
+          + "\000\006\002\uffde\011\uffde\001\002\000\014\005\242\174"
+          + "\uff3c\175\uff3c\176\uff3c\204\uff3c\001\002\000\012\174\274"
+          + "\175\261\176\266\204\240\001\002\000\006\002\uff80\011"
+          + "\uff80\001\002\000\006\005\242\203\uff3c\001\002\000\004"
+          + "\203\247\001\002\000\006\005\242\203\uff3c\001\002\000"
+          + "\004\203\247\001\002\000\006\002\uffca\011\uffca\001\002"
+          + "\000\006\005\242\202\uff3c\001\002\000\004\202\235\001"
+          + "\002\000\006\005\242\202\uff3c\001\002\000\004\202\235"
+          + "\001\002\000\006\002\uffe5\011\uffe5\001\002\000\006\002"
+          + "\uff68\011\uff68\001\002\000\006\005\242\202\uff3c\001\002"
+          + "\000\004\202\235\001\002\000\006\005\242\202\uff3c\001"
+          + "\002\000\004\202\235\001\002\000\006\002\uffd6\011\uffd6"
+          + "\001\002\000\006\005\242\204\uff3c\001\002\000\004\204"
+          + "\240\001\002\000\006\002\uff79\011\uff79\001\002\000\006"
+          + "\005\242\202\uff3c\001\002\000\004\202\235\001\002\000"
+          + "\006\005\242\202\uff3c\001\002\000\004\202\235\001\002"
+          + "\000\006\002\uffdd\011\uffdd\001\002\000\014\005\242\174"
+          + "\uff3c\175\uff3c\176\uff3c\204\uff3c\001\002\000\012\174\274"
+          + "\175\261\176\266\204\240\001\002\000\006\005\242\202"
+          + "\uff3c\001\002\000\004\202\235\001\002\000\006\002\uffac"
+          + "\011\uffac\001\002\000\006\005\242\203\uff3c\001\002\000"
+          + "\004\203\247\001\002\000\006\005\242\203\uff3c\001\002"
+          + "\000\004\203\247\001\002\000\006\005\242\203\uff3c\001"
+          + "\002\000\004\203\247\001\002\000\006\002\uffe8\011\uffe8"
+          + "\001\002\000\006\002\uff51\011\uff51\001\002\000\006\005"
+          + "\242\202\uff3c\001\002\000\004\202\235\001\002\000\006"
+          + "\005\242\204\uff3c\001\002\000\004\204\240\001\002\000"
+          + "\006\002\uff9e\011\uff9e\001\002\000\006\005\242\204\uff3c"
+          + "\001\002\000\004\204\240\001\002\000\006\002\uff76\011"
+          + "\uff76\001\002\000\006\005\242\203\uff3c\001\002\000\004"
+          + "\203\247\001\002\000\006\005\242\203\uff3c\001\002\000"
+          + "\004\203\247\001\002\000\006\005\242\203\uff3c\001\002"
+          + "\000\004\203\247\001\002\000\006\002\uffe6\011\uffe6\001"
+          + "\002\000\014\005\242\174\uff3c\175\uff3c\176\uff3c\204\uff3c"
+          + "\001\002\000\012\174\274\175\261\176\266\204\240\001"
+          + "\002\000\006\005\242\202\uff3c\001\002\000\004\202\235"
+          + "\001\002\000\006\002\uffad\011\uffad\001\002\000\006\002"
+          + "\uff67\011\uff67\001\002\000\014\005\242\174\uff3c\175\uff3c"
+          + "\176\uff3c\204\uff3c\001\002\000\012\174\274\175\261\176"
+          + "\266\204\240\001\002\000\006\005\242\202\uff3c\001\002"
+          + "\000\004\202\235\001\002\000\006\002\uffae\011\uffae\001"
+          + "\002\000\006\005\242\203\uff3c\001\002\000\004\203\247"
+          + "\001\002\000\006\002\uffcf\011\uffcf\001\002\000\006\005"
+          + "\242\202\uff3c\001\002\000\004\202\235\001\002\000\014"
+          + "\005\242\174\uff3c\175\uff3c\176\uff3c\201\uff3c\001\002\000"
+          + "\012\174\274\175\261\176\266\201\301\001\002\000\006"
+          + "\002\uffbb\011\uffbb\001\002\000\006\005\242\203\uff3c\001"
+          + "\002\000\004\203\247\001\002\000\006\005\242\203\uff3c"
+          + "\001\002\000\004\203\247\001\002\000\006\002\uffd2\011"
+          + "\uffd2\001\002\000\006\005\242\202\uff3c\001\002\000\004"
+          + "\202\235\001\002\000\006\005\242\202\uff3c\001\002\000"
+          + "\004\202\235\001\002\000\006\002\uffdc\011\uffdc\001\002"
+          + "\000\016\005\242\174\uff3c\175\uff3c\176\uff3c\201\uff3c\204"
+          + "\uff3c\001\002\000\014\174\274\175\261\176\266\201\301"
+          + "\204\240\001\002\000\004\006\u0236\001\002\000\006\005"
+          + "\242\202\uff3c\001\002\000\004\202\235\001\002\000\006"
+          + "\002\uff8f\011\uff8f\001\002\000\004\202\235\001\002\000"
+          + "\004\007\u0238\001\002\000\006\002\uffa4\011\uffa4\001\002"
+          + "\000\014\005\242\174\uff3c\175\uff3c\176\uff3c\201\uff3c\001"
+          + "\002\000\012\174\274\175\261\176\266\201\301\001\002"
+          + "\000\004\006\u023c\001\002\000\004\202\235\001\002\000"
+          + "\004\007\u023e\001\002\000\006\002\uffb2\011\uffb2\001\002"
+          + "\000\006\005\242\202\uff3c\001\002\000\004\202\235\001"
+          + "\002\000\006\002\uff8c\011\uff8c\001\002\000\006\005\242"
+          + "\202\uff3c\001\002\000\004\202\235\001\002\000\006\005"
+          + "\242\202\uff3c\001\002\000\004\202\235\001\002\000\006"
+          + "\002\uffd7\011\uffd7\001\002\000\006\002\uff83\011\uff83\001"
+          + "\002\000\014\005\242\174\uff3c\175\uff3c\176\uff3c\201\uff3c"
+          + "\001\002\000\012\174\274\175\261\176\266\201\301\001"
+          + "\002\000\006\002\uff9c\011\uff9c\001\002\000\006\002\ufffb"
+          + "\011\ufffb\001\002\000\006\002\ufff9\011\ufff9\001\002\000"
+          + "\006\002\ufffa\011\ufffa\001\002\000\006\005\242\202\uff3c"
+          + "\001\002\000\004\202\235\001\002\000\006\005\242\202"
+          + "\uff3c\001\002\000\004\202\235\001\002\000\006\002\uffe2"
+          + "\011\uffe2\001\002\000\006\002\uff7c\011\uff7c\001\002\000"
+          + "\006\002\uff7a\011\uff7a\001\002\000\u010c\002\ufffd\004\ufffd"
+          + "\010\ufffd\011\ufffd\012\ufffd\013\ufffd\014\ufffd\015\ufffd\016"
+          + "\ufffd\017\ufffd\020\ufffd\021\ufffd\022\ufffd\023\ufffd\024\ufffd"
+          + "\025\ufffd\026\ufffd\027\ufffd\030\ufffd\031\ufffd\032\ufffd\033"
+          + "\ufffd\034\ufffd\035\ufffd\036\ufffd\037\ufffd\040\ufffd\041\ufffd"
+          + "\042\ufffd\043\ufffd\044\ufffd\045\ufffd\046\ufffd\047\ufffd\050"
+          + "\ufffd\051\ufffd\052\ufffd\053\ufffd\054\ufffd\055\ufffd\056\ufffd"
+          + "\057\ufffd\060\ufffd\061\ufffd\062\ufffd\063\ufffd\064\ufffd\065"
+          + "\ufffd\066\ufffd\067\ufffd\070\ufffd\071\ufffd\072\ufffd\073\ufffd"
+          + "\074\ufffd\075\ufffd\076\ufffd\077\ufffd\100\ufffd\101\ufffd\102"
+          + "\ufffd\103\ufffd\104\ufffd\105\ufffd\106\ufffd\107\ufffd\110\ufffd"
+          + "\111\ufffd\112\ufffd\113\ufffd\114\ufffd\115\ufffd\116\ufffd\117"
+          + "\ufffd\120\ufffd\121\ufffd\122\ufffd\123\ufffd\124\ufffd\125\ufffd"
+          + "\126\ufffd\127\ufffd\130\ufffd\131\ufffd\132\ufffd\133\ufffd\134"
+          + "\ufffd\135\ufffd\136\ufffd\137\ufffd\140\ufffd\141\ufffd\142\ufffd"
+          + "\143\ufffd\144\ufffd\145\ufffd\146\ufffd\147\ufffd\150\ufffd\151"
+          + "\ufffd\152\ufffd\153\ufffd\154\ufffd\155\ufffd\156\ufffd\157\ufffd"
+          + "\160\ufffd\161\ufffd\162\ufffd\163\ufffd\164\ufffd\165\ufffd\166"
+          + "\ufffd\167\ufffd\170\ufffd\171\ufffd\172\ufffd\173\ufffd\205\ufffd"
+          + "\206\ufffd\207\ufffd\210\ufffd\211\ufffd\212\ufffd\213\ufffd\214"
+          + "\ufffd\215\ufffd\216\ufffd\217\ufffd\220\ufffd\221\ufffd\222\ufffd"
+          + "\223\ufffd\001\002\000\006\005\242\203\uff3c\001\002\000"
+          + "\004\203\247\001\002\000\006\005\242\203\uff3c\001\002"
+          + "\000\004\203\247\001\002\000\006\002\uffd1\011\uffd1\001"
+          + "\002\000\006\005\242\202\uff3c\001\002\000\004\202\235"
+          + "\001\002\000\006\005\242\202\uff3c\001\002\000\004\202"
+          + "\235\001\002\000\006\002\uffd4\011\uffd4\001\002\000\006"
+          + "\002\uff5b\011\uff5b\001\002\000\006\005\242\203\uff3c\001"
+          + "\002\000\004\203\247\001\002\000\006\005\242\203\uff3c"
+          + "\001\002\000\004\203\247\001\002\000\006\002\uffcb\011"
+          + "\uffcb\001\002\000\006\005\242\204\uff3c\001\002\000\004"
+          + "\204\240\001\002\000\006\002\uff9a\011\uff9a\001\002\000"
+          + "\016\005\242\174\uff3c\175\uff3c\176\uff3c\201\uff3c\204\uff3c"
+          + "\001\002\000\014\174\274\175\261\176\266\201\301\204"
+          + "\240\001\002\000\004\006\u026d\001\002\000\006\002\uff96"
+          + "\011\uff96\001\002\000\004\202\235\001\002\000\004\007"
+          + "\u026f\001\002\000\006\002\uffb5\011\uffb5\001\002\000\006"
+          + "\005\242\202\uff3c\001\002\000\004\202\235\001\002\000"
+          + "\006\005\242\204\uff3c\001\002\000\004\204\240\001\002"
+          + "\000\006\002\uff71\011\uff71\001\002\000\006\005\242\204"
+          + "\uff3c\001\002\000\004\204\240\001\002\000\006\002\uff74"
+          + "\011\uff74\001\002\000\014\005\242\174\uff3c\175\uff3c\176"
+          + "\uff3c\201\uff3c\001\002\000\012\174\274\175\261\176\266"
+          + "\201\301\001\002\000\006\002\uff9d\011\uff9d\001\002\000"
+          + "\016\005\242\174\uff3c\175\uff3c\176\uff3c\201\uff3c\204\uff3c"
+          + "\001\002\000\014\174\274\175\261\176\266\201\301\204"
+          + "\240\001\002\000\004\006\u027f\001\002\000\006\002\uff95"
+          + "\011\uff95\001\002\000\004\202\235\001\002\000\004\007"
+          + "\u0281\001\002\000\006\002\uffb3\011\uffb3\001\002\000\014"
+          + "\005\242\174\uff3c\175\uff3c\176\uff3c\201\uff3c\001\002\000"
+          + "\012\174\274\175\261\176\266\201\301\001\002\000\006"
+          + "\002\uff99\011\uff99\001\002\000\014\005\242\174\uff3c\175"
+          + "\uff3c\176\uff3c\204\uff3c\001\002\000\012\174\274\175\261"
+          + "\176\266\204\240\001\002\000\014\005\242\174\uff3c\175"
+          + "\uff3c\176\uff3c\201\uff3c\001\002\000\012\174\274\175\261"
+          + "\176\266\201\301\001\002\000\006\002\uffa9\011\uffa9\001"
+          + "\002\000\006\005\242\203\uff3c\001\002\000\004\203\247"
+          + "\001\002\000\006\002\uff8a\011\uff8a\001\002\000\016\005"
+          + "\242\174\uff3c\175\uff3c\176\uff3c\201\uff3c\204\uff3c\001\002"
+          + "\000\014\174\274\175\261\176\266\201\301\204\240\001"
+          + "\002\000\004\006\u0291\001\002\000\006\002\uff94\011\uff94"
+          + "\001\002\000\004\202\235\001\002\000\004\007\u0293\001"
+          + "\002\000\006\002\uffb1\011\uffb1\001\002\000\006\002\uff98"
+          + "\011\uff98\001\002\000\006\005\242\202\uff3c\001\002\000"
+          + "\004\202\235\001\002\000\006\005\242\204\uff3c\001\002"
+          + "\000\004\204\240\001\002\000\006\002\uff72\011\uff72\001"
+          + "\002\000\006\005\242\202\uff3c\001\002\000\004\202\235"
+          + "\001\002\000\006\005\242\202\uff3c\001\002\000\004\202"
+          + "\235\001\002\000\006\002\uffda\011\uffda\001\002\000\006"
+          + "\005\242\202\uff3c\001\002\000\004\202\235\001\002\000"
+          + "\006\002\uff84\011\uff84\001\002\000\006\005\242\203\uff3c"
+          + "\001\002\000\004\203\247\001\002\000\006\005\242\203"
+          + "\uff3c\001\002\000\004\203\247\001\002\000\006\002\uffcc"
+          + "\011\uffcc\001\002\000\006\005\242\202\uff3c\001\002\000"
+          + "\004\202\235\001\002\000\006\005\242\204\uff3c\001\002"
+          + "\000\004\204\240\001\002\000\006\002\uffa1\011\uffa1\001"
+          + "\002\000\006\005\242\202\uff3c\001\002\000\004\202\235"
+          + "\001\002\000\014\005\242\174\uff3c\175\uff3c\176\uff3c\201"
+          + "\uff3c\001\002\000\012\174\274\175\261\176\266\201\301"
+          + "\001\002\000\006\002\uffbe\011\uffbe\001\002\000\004\002"
+          + "\000\001\002\000\006\005\242\202\uff3c\001\002\000\004"
+          + "\202\235\001\002\000\014\005\242\174\uff3c\175\uff3c\176"
+          + "\uff3c\201\uff3c\001\002\000\012\174\274\175\261\176\266"
+          + "\201\301\001\002\000\006\002\uffba\011\uffba\001\002" });
 
   /** Access to parse-action table. */
   public short[][] action_table() {
@@ -621,321 +687,352 @@ public class Parser extends java_cup.runtime.lr_parser {
 
   /** <code>reduce_goto</code> table. */
   protected static final short[][] _reduce_table = unpackFromStrings(new String[] {
-      "\000\u027e\000\054\002\167\003\005\004\121\005\030\006" + "\056\007\207\010\012\011\061\012\145\013\164\014\142"
-          + "\015\014\016\041\017\105\020\114\021\175\022\205\027"
-          + "\151\030\063\031\100\032\040\001\001\000\012\024\u027a"
-          + "\040\u0278\041\u027c\044\u0279\001\001\000\004\035\u0275\001"
-          + "\001\000\054\002\u0274\003\005\004\121\005\030\006\056"
-          + "\007\207\010\012\011\061\012\145\013\164\014\142\015"
-          + "\014\016\041\017\105\020\114\021\175\022\205\027\151"
-          + "\030\063\031\100\032\040\001\001\000\004\036\u0271\001"
-          + "\001\000\004\035\u026e\001\001\000\004\035\u0269\001\001"
-          + "\000\002\001\001\000\002\001\001\000\004\035\u0266\001"
-          + "\001\000\002\001\001\000\004\035\u0260\001\001\000\004"
-          + "\035\u0257\001\001\000\002\001\001\000\004\035\u0254\001"
-          + "\001\000\002\001\001\000\004\035\u024b\001\001\000\004"
-          + "\036\u0248\001\001\000\004\035\u0243\001\001\000\004\035"
-          + "\u0240\001\001\000\004\035\u023b\001\001\000\004\035\u0238"
-          + "\001\001\000\002\001\001\000\004\035\u0231\001\001\000"
-          + "\004\035\u022c\001\001\000\004\035\u0229\001\001\000\004"
-          + "\035\u0224\001\001\000\004\035\u0221\001\001\000\004\036"
-          + "\u0218\001\001\000\004\035\u0213\001\001\000\002\001\001"
-          + "\000\032\004\121\005\u0210\006\056\007\207\010\012\011"
-          + "\061\012\145\013\164\014\142\017\u0211\021\u0212\022\205"
-          + "\001\001\000\004\035\u020a\001\001\000\004\036\u0203\001"
-          + "\001\000\004\020\u0202\001\001\000\010\037\u0201\040\232"
-          + "\041\231\001\001\000\004\036\u01fc\001\001\000\004\036"
-          + "\u01f7\001\001\000\004\036\u01f2\001\001\000\004\035\u01ef"
-          + "\001\001\000\004\035\u01ea\001\001\000\004\035\u01e4\001"
-          + "\001\000\004\035\u01dd\001\001\000\004\035\u01d8\001\001"
-          + "\000\002\001\001\000\010\037\u01d7\040\232\041\231\001"
-          + "\001\000\004\035\u01d0\001\001\000\002\001\001\000\004"
-          + "\035\u01cd\001\001\000\002\001\001\000\004\034\u01cc\001"
-          + "\001\000\004\035\u01c9\001\001\000\004\035\u01c4\001\001"
-          + "\000\004\035\u01c1\001\001\000\004\035\u01bc\001\001\000"
-          + "\004\035\u01b7\001\001\000\004\035\u01b2\001\001\000\004"
-          + "\036\u01a9\001\001\000\004\035\u01a4\001\001\000\004\035"
-          + "\u019f\001\001\000\004\033\u019e\001\001\000\004\036\u0199"
-          + "\001\001\000\002\001\001\000\004\036\u0192\001\001\000"
-          + "\004\035\u018f\001\001\000\004\035\u018a\001\001\000\002"
-          + "\001\001\000\002\001\001\000\004\035\u0185\001\001\000"
-          + "\004\034\u0184\001\001\000\004\033\u0182\001\001\000\004"
-          + "\036\u017f\001\001\000\004\036\u0178\001\001\000\006\033"
-          + "\u0174\035\u0175\001\001\000\002\001\001\000\004\036\u016f"
-          + "\001\001\000\004\035\u016a\001\001\000\004\035\u0165\001"
-          + "\001\000\002\001\001\000\002\001\001\000\004\035\u0160"
-          + "\001\001\000\004\035\u015f\001\001\000\004\035\u015c\001"
-          + "\001\000\004\035\u0157\001\001\000\002\001\001\000\004"
-          + "\035\u0152\001\001\000\002\001\001\000\004\035\u014d\001"
-          + "\001\000\004\035\u0148\001\001\000\004\035\u0143\001\001"
-          + "\000\004\035\u013e\001\001\000\004\035\u0139\001\001\000"
-          + "\010\037\u0138\040\232\041\231\001\001\000\004\033\u0137"
-          + "\001\001\000\004\035\u0132\001\001\000\004\036\u012b\001"
-          + "\001\000\002\001\001\000\004\036\u0128\001\001\000\004"
-          + "\035\u0123\001\001\000\002\001\001\000\004\035\u011e\001"
-          + "\001\000\004\035\u011b\001\001\000\004\036\u0116\001\001"
-          + "\000\002\001\001\000\004\035\u0113\001\001\000\002\001"
-          + "\001\000\004\035\u010e\001\001\000\006\025\u010b\033\u010a"
-          + "\001\001\000\004\035\u0107\001\001\000\002\001\001\000"
-          + "\004\035\u0102\001\001\000\016\023\u0101\037\233\040\232"
-          + "\041\231\042\234\043\304\001\001\000\004\035\374\001"
-          + "\001\000\004\036\367\001\001\000\002\001\001\000\004"
-          + "\035\362\001\001\000\002\001\001\000\002\001\001\000"
-          + "\004\036\354\001\001\000\004\036\351\001\001\000\004"
-          + "\035\346\001\001\000\004\035\343\001\001\000\004\036"
-          + "\340\001\001\000\002\001\001\000\004\035\333\001\001"
-          + "\000\004\035\326\001\001\000\004\036\323\001\001\000"
-          + "\004\033\322\001\001\000\004\035\315\001\001\000\022"
-          + "\023\311\026\312\033\310\037\233\040\232\041\231\042"
-          + "\234\043\304\001\001\000\016\023\305\037\233\040\232"
-          + "\041\231\042\234\043\304\001\001\000\002\001\001\000"
-          + "\004\036\277\001\001\000\002\001\001\000\004\035\273"
-          + "\001\001\000\004\035\266\001\001\000\004\035\261\001"
-          + "\001\000\004\035\254\001\001\000\004\035\251\001\001"
-          + "\000\004\035\244\001\001\000\004\035\220\001\001\000"
-          + "\002\001\001\000\006\045\222\046\223\001\001\000\002"
-          + "\001\001\000\016\033\227\037\233\040\232\041\231\042"
-          + "\234\043\224\001\001\000\002\001\001\000\002\001\001"
-          + "\000\002\001\001\000\002\001\001\000\006\045\237\046"
-          + "\223\001\001\000\002\001\001\000\002\001\001\000\002"
+      "\000\u02b4\000\054\002\004\003\161\004\007\005\011\006" + "\032\007\150\010\202\011\144\012\060\013\101\014\156"
+          + "\015\037\016\043\017\155\020\145\021\010\022\045\027"
+          + "\033\030\112\031\215\032\134\001\001\000\004\035\u02b1"
+          + "\001\001\000\002\001\001\000\004\035\u02ab\001\001\000"
+          + "\004\035\u02a6\001\001\000\002\001\001\000\002\001\001"
+          + "\000\002\001\001\000\004\036\u02a1\001\001\000\004\035"
+          + "\u029e\001\001\000\004\035\u0299\001\001\000\004\035\u0294"
+          + "\001\001\000\004\033\u0293\001\001\000\004\035\u028c\001"
+          + "\001\000\004\036\u0289\001\001\000\004\035\u0284\001\001"
+          + "\000\004\035\u0281\001\001\000\004\035\u027a\001\001\000"
+          + "\004\035\u0277\001\001\000\004\035\u0274\001\001\000\004"
+          + "\035\u026f\001\001\000\004\035\u0268\001\001\000\004\035"
+          + "\u0265\001\001\000\004\036\u0260\001\001\000\002\001\001"
+          + "\000\002\001\001\000\004\020\u025f\001\001\000\004\035"
+          + "\u025a\001\001\000\004\036\u0255\001\001\000\002\001\001"
+          + "\000\004\035\u0253\001\001\000\004\035\u0252\001\001\000"
+          + "\004\035\u024d\001\001\000\032\004\007\005\u024a\006\032"
+          + "\007\150\010\202\011\144\012\060\013\101\014\156\017"
+          + "\u024b\021\u024c\022\045\001\001\000\004\035\u0247\001\001"
+          + "\000\002\001\001\000\004\035\u0246\001\001\000\004\035"
+          + "\u0241\001\001\000\004\035\u023e\001\001\000\004\035\u0238"
+          + "\001\001\000\004\036\u022f\001\001\000\004\035\u022a\001"
+          + "\001\000\002\001\001\000\002\001\001\000\004\036\u0225"
+          + "\001\001\000\004\035\u0220\001\001\000\002\001\001\000"
+          + "\004\036\u021d\001\001\000\004\035\u0218\001\001\000\010"
+          + "\037\u0217\040\272\041\275\001\001\000\004\035\u0212\001"
+          + "\001\000\004\036\u020b\001\001\000\004\035\u0208\001\001"
+          + "\000\004\035\u0203\001\001\000\010\037\u0202\040\272\041"
+          + "\275\001\001\000\004\036\u01fb\001\001\000\004\035\u01f6"
+          + "\001\001\000\004\035\u01f1\001\001\000\004\035\u01ee\001"
+          + "\001\000\004\035\u01e9\001\001\000\004\034\u01e8\001\001"
+          + "\000\004\035\u01e3\001\001\000\004\036\u01de\001\001\000"
+          + "\002\001\001\000\004\035\u01db\001\001\000\002\001\001"
+          + "\000\004\035\u01d6\001\001\000\004\035\u01d5\001\001\000"
+          + "\004\035\u01d0\001\001\000\002\001\001\000\004\035\u01cd"
           + "\001\001\000\002\001\001\000\002\001\001\000\002\001"
-          + "\001\000\002\001\001\000\004\035\240\001\001\000\002"
-          + "\001\001\000\004\035\242\001\001\000\002\001\001\000"
-          + "\002\001\001\000\006\045\245\046\223\001\001\000\004"
-          + "\035\246\001\001\000\006\045\247\046\223\001\001\000"
-          + "\004\035\250\001\001\000\002\001\001\000\006\045\252"
-          + "\046\223\001\001\000\004\035\253\001\001\000\002\001"
-          + "\001\000\006\045\255\046\223\001\001\000\004\035\256"
-          + "\001\001\000\006\045\257\046\223\001\001\000\004\035"
-          + "\260\001\001\000\002\001\001\000\006\045\262\046\223"
-          + "\001\001\000\004\035\263\001\001\000\006\045\264\046"
-          + "\223\001\001\000\004\033\265\001\001\000\002\001\001"
-          + "\000\006\045\267\046\223\001\001\000\004\035\270\001"
-          + "\001\000\006\045\271\046\223\001\001\000\004\035\272"
-          + "\001\001\000\002\001\001\000\006\045\274\046\223\001"
-          + "\001\000\004\036\275\001\001\000\002\001\001\000\002"
-          + "\001\001\000\006\045\300\046\223\001\001\000\004\036"
-          + "\301\001\001\000\006\045\302\046\223\001\001\000\004"
-          + "\036\303\001\001\000\002\001\001\000\002\001\001\000"
-          + "\002\001\001\000\014\037\233\040\232\041\231\042\234"
-          + "\043\307\001\001\000\002\001\001\000\002\001\001\000"
-          + "\002\001\001\000\002\001\001\000\004\033\314\001\001"
-          + "\000\002\001\001\000\006\045\316\046\223\001\001\000"
-          + "\004\036\317\001\001\000\006\045\320\046\223\001\001"
-          + "\000\004\036\321\001\001\000\002\001\001\000\002\001"
-          + "\001\000\006\045\324\046\223\001\001\000\004\035\325"
-          + "\001\001\000\002\001\001\000\006\045\327\046\223\001"
-          + "\001\000\004\035\330\001\001\000\006\045\331\046\223"
-          + "\001\001\000\004\033\332\001\001\000\002\001\001\000"
-          + "\006\045\334\046\223\001\001\000\004\035\335\001\001"
-          + "\000\006\045\336\046\223\001\001\000\004\033\337\001"
-          + "\001\000\002\001\001\000\006\045\341\046\223\001\001"
-          + "\000\004\035\342\001\001\000\002\001\001\000\006\045"
-          + "\344\046\223\001\001\000\004\033\345\001\001\000\002"
-          + "\001\001\000\006\045\347\046\223\001\001\000\004\035"
-          + "\350\001\001\000\002\001\001\000\006\045\352\046\223"
-          + "\001\001\000\004\036\353\001\001\000\002\001\001\000"
-          + "\006\045\355\046\223\001\001\000\004\036\356\001\001"
-          + "\000\006\045\357\046\223\001\001\000\004\036\360\001"
-          + "\001\000\002\001\001\000\002\001\001\000\006\045\363"
-          + "\046\223\001\001\000\004\035\364\001\001\000\006\045"
-          + "\365\046\223\001\001\000\004\033\366\001\001\000\002"
-          + "\001\001\000\006\045\370\046\223\001\001\000\004\036"
-          + "\371\001\001\000\006\045\372\046\223\001\001\000\004"
-          + "\036\373\001\001\000\002\001\001\000\006\045\375\046"
-          + "\223\001\001\000\004\035\376\001\001\000\006\045\377"
-          + "\046\223\001\001\000\004\035\u0100\001\001\000\002\001"
-          + "\001\000\002\001\001\000\006\045\u0103\046\223\001\001"
-          + "\000\004\035\u0104\001\001\000\006\045\u0105\046\223\001"
-          + "\001\000\004\033\u0106\001\001\000\002\001\001\000\006"
-          + "\045\u0108\046\223\001\001\000\004\035\u0109\001\001\000"
-          + "\002\001\001\000\002\001\001\000\002\001\001\000\004"
-          + "\033\u010d\001\001\000\002\001\001\000\006\045\u010f\046"
-          + "\223\001\001\000\004\035\u0110\001\001\000\006\045\u0111"
-          + "\046\223\001\001\000\004\033\u0112\001\001\000\002\001"
-          + "\001\000\006\045\u0114\046\223\001\001\000\004\036\u0115"
-          + "\001\001\000\002\001\001\000\006\045\u0117\046\223\001"
-          + "\001\000\004\036\u0118\001\001\000\006\045\u0119\046\223"
-          + "\001\001\000\004\036\u011a\001\001\000\002\001\001\000"
-          + "\006\045\u011c\046\223\001\001\000\004\033\u011d\001\001"
-          + "\000\002\001\001\000\006\045\u011f\046\223\001\001\000"
-          + "\004\035\u0120\001\001\000\006\045\u0121\046\223\001\001"
-          + "\000\004\035\u0122\001\001\000\002\001\001\000\006\045"
-          + "\u0124\046\223\001\001\000\004\035\u0125\001\001\000\006"
-          + "\045\u0126\046\223\001\001\000\004\035\u0127\001\001\000"
-          + "\002\001\001\000\006\045\u0129\046\223\001\001\000\004"
-          + "\035\u012a\001\001\000\002\001\001\000\006\045\u012c\046"
-          + "\223\001\001\000\004\036\u012d\001\001\000\006\045\u012e"
-          + "\046\223\001\001\000\004\036\u012f\001\001\000\006\045"
-          + "\u0130\046\223\001\001\000\004\036\u0131\001\001\000\002"
-          + "\001\001\000\006\045\u0133\046\223\001\001\000\004\035"
-          + "\u0134\001\001\000\006\045\u0135\046\223\001\001\000\004"
-          + "\033\u0136\001\001\000\002\001\001\000\002\001\001\000"
-          + "\002\001\001\000\006\045\u013a\046\223\001\001\000\004"
-          + "\035\u013b\001\001\000\006\045\u013c\046\223\001\001\000"
-          + "\014\037\233\040\232\041\231\042\234\043\u013d\001\001"
-          + "\000\002\001\001\000\006\045\u013f\046\223\001\001\000"
-          + "\004\035\u0140\001\001\000\006\045\u0141\046\223\001\001"
-          + "\000\014\037\233\040\232\041\231\042\234\043\u0142\001"
-          + "\001\000\002\001\001\000\006\045\u0144\046\223\001\001"
-          + "\000\004\035\u0145\001\001\000\006\045\u0146\046\223\001"
-          + "\001\000\014\037\233\040\232\041\231\042\234\043\u0147"
-          + "\001\001\000\002\001\001\000\006\045\u0149\046\223\001"
-          + "\001\000\004\035\u014a\001\001\000\006\045\u014b\046\223"
-          + "\001\001\000\014\037\233\040\232\041\231\042\234\043"
-          + "\u014c\001\001\000\002\001\001\000\006\045\u014e\046\223"
-          + "\001\001\000\004\035\u014f\001\001\000\006\045\u0150\046"
-          + "\223\001\001\000\004\035\u0151\001\001\000\002\001\001"
-          + "\000\006\045\u0153\046\223\001\001\000\004\035\u0154\001"
-          + "\001\000\006\045\u0155\046\223\001\001\000\004\035\u0156"
-          + "\001\001\000\002\001\001\000\006\045\u0158\046\223\001"
-          + "\001\000\004\035\u0159\001\001\000\006\045\u015a\046\223"
-          + "\001\001\000\014\037\233\040\232\041\231\042\234\043"
-          + "\u015b\001\001\000\002\001\001\000\006\045\u015d\046\223"
-          + "\001\001\000\004\035\u015e\001\001\000\002\001\001\000"
-          + "\002\001\001\000\006\045\u0161\046\223\001\001\000\004"
-          + "\035\u0162\001\001\000\006\045\u0163\046\223\001\001\000"
-          + "\004\035\u0164\001\001\000\002\001\001\000\006\045\u0166"
-          + "\046\223\001\001\000\004\035\u0167\001\001\000\006\045"
-          + "\u0168\046\223\001\001\000\004\035\u0169\001\001\000\002"
-          + "\001\001\000\006\045\u016b\046\223\001\001\000\004\036"
-          + "\u016c\001\001\000\006\045\u016d\046\223\001\001\000\004"
-          + "\036\u016e\001\001\000\002\001\001\000\006\045\u0170\046"
-          + "\223\001\001\000\004\036\u0171\001\001\000\006\045\u0172"
-          + "\046\223\001\001\000\004\036\u0173\001\001\000\002\001"
-          + "\001\000\002\001\001\000\006\045\u0176\046\223\001\001"
-          + "\000\004\033\u0177\001\001\000\002\001\001\000\006\045"
-          + "\u0179\046\223\001\001\000\004\036\u017a\001\001\000\006"
-          + "\045\u017b\046\223\001\001\000\004\036\u017c\001\001\000"
-          + "\006\045\u017d\046\223\001\001\000\004\036\u017e\001\001"
-          + "\000\002\001\001\000\006\045\u0180\046\223\001\001\000"
-          + "\004\036\u0181\001\001\000\002\001\001\000\002\001\001"
-          + "\000\002\001\001\000\002\001\001\000\006\045\u0186\046"
-          + "\223\001\001\000\004\035\u0187\001\001\000\006\045\u0188"
-          + "\046\223\001\001\000\004\035\u0189\001\001\000\002\001"
-          + "\001\000\006\045\u018b\046\223\001\001\000\004\035\u018c"
-          + "\001\001\000\006\045\u018d\046\223\001\001\000\004\035"
-          + "\u018e\001\001\000\002\001\001\000\006\045\u0190\046\223"
-          + "\001\001\000\004\033\u0191\001\001\000\002\001\001\000"
-          + "\006\045\u0193\046\223\001\001\000\004\036\u0194\001\001"
-          + "\000\006\045\u0195\046\223\001\001\000\004\036\u0196\001"
-          + "\001\000\006\045\u0197\046\223\001\001\000\004\036\u0198"
-          + "\001\001\000\002\001\001\000\006\045\u019a\046\223\001"
-          + "\001\000\004\036\u019b\001\001\000\006\045\u019c\046\223"
-          + "\001\001\000\004\036\u019d\001\001\000\002\001\001\000"
-          + "\002\001\001\000\006\045\u01a0\046\223\001\001\000\004"
-          + "\035\u01a1\001\001\000\006\045\u01a2\046\223\001\001\000"
-          + "\004\035\u01a3\001\001\000\002\001\001\000\006\045\u01a5"
-          + "\046\223\001\001\000\004\035\u01a6\001\001\000\006\045"
-          + "\u01a7\046\223\001\001\000\014\037\233\040\232\041\231"
-          + "\042\234\043\u01a8\001\001\000\002\001\001\000\006\045"
-          + "\u01aa\046\223\001\001\000\016\033\u01ac\037\233\040\232"
-          + "\041\231\042\234\043\u01ab\001\001\000\002\001\001\000"
-          + "\006\045\u01ad\046\223\001\001\000\004\035\u01ae\001\001"
-          + "\000\002\001\001\000\004\035\u01b0\001\001\000\002\001"
-          + "\001\000\002\001\001\000\006\045\u01b3\046\223\001\001"
-          + "\000\004\035\u01b4\001\001\000\006\045\u01b5\046\223\001"
-          + "\001\000\004\033\u01b6\001\001\000\002\001\001\000\006"
-          + "\045\u01b8\046\223\001\001\000\004\035\u01b9\001\001\000"
-          + "\006\045\u01ba\046\223\001\001\000\004\035\u01bb\001\001"
-          + "\000\002\001\001\000\006\045\u01bd\046\223\001\001\000"
-          + "\004\035\u01be\001\001\000\006\045\u01bf\046\223\001\001"
-          + "\000\004\035\u01c0\001\001\000\002\001\001\000\006\045"
-          + "\u01c2\046\223\001\001\000\004\035\u01c3\001\001\000\002"
-          + "\001\001\000\006\045\u01c5\046\223\001\001\000\004\035"
-          + "\u01c6\001\001\000\006\045\u01c7\046\223\001\001\000\014"
-          + "\037\233\040\232\041\231\042\234\043\u01c8\001\001\000"
-          + "\002\001\001\000\006\045\u01ca\046\223\001\001\000\004"
-          + "\033\u01cb\001\001\000\002\001\001\000\002\001\001\000"
-          + "\006\045\u01ce\046\223\001\001\000\004\033\u01cf\001\001"
-          + "\000\002\001\001\000\006\045\u01d1\046\223\001\001\000"
-          + "\016\033\u01d3\037\233\040\232\041\231\042\234\043\u01d2"
-          + "\001\001\000\002\001\001\000\002\001\001\000\004\035"
-          + "\u01d5\001\001\000\002\001\001\000\002\001\001\000\002"
-          + "\001\001\000\006\045\u01d9\046\223\001\001\000\004\035"
-          + "\u01da\001\001\000\006\045\u01db\046\223\001\001\000\014"
-          + "\037\233\040\232\041\231\042\234\043\u01dc\001\001\000"
-          + "\002\001\001\000\006\045\u01de\046\223\001\001\000\016"
-          + "\033\u01e0\037\233\040\232\041\231\042\234\043\u01df\001"
-          + "\001\000\002\001\001\000\002\001\001\000\004\035\u01e2"
-          + "\001\001\000\002\001\001\000\002\001\001\000\006\045"
-          + "\u01e5\046\223\001\001\000\014\037\233\040\232\041\231"
-          + "\042\234\043\u01e6\001\001\000\002\001\001\000\004\035"
-          + "\u01e8\001\001\000\002\001\001\000\002\001\001\000\006"
-          + "\045\u01eb\046\223\001\001\000\004\035\u01ec\001\001\000"
-          + "\006\045\u01ed\046\223\001\001\000\014\037\233\040\232"
-          + "\041\231\042\234\043\u01ee\001\001\000\002\001\001\000"
-          + "\006\045\u01f0\046\223\001\001\000\014\037\233\040\232"
-          + "\041\231\042\234\043\u01f1\001\001\000\002\001\001\000"
-          + "\006\045\u01f3\046\223\001\001\000\004\036\u01f4\001\001"
-          + "\000\006\045\u01f5\046\223\001\001\000\004\036\u01f6\001"
-          + "\001\000\002\001\001\000\006\045\u01f8\046\223\001\001"
-          + "\000\004\036\u01f9\001\001\000\006\045\u01fa\046\223\001"
-          + "\001\000\004\036\u01fb\001\001\000\002\001\001\000\006"
-          + "\045\u01fd\046\223\001\001\000\004\036\u01fe\001\001\000"
-          + "\006\045\u01ff\046\223\001\001\000\004\036\u0200\001\001"
-          + "\000\002\001\001\000\002\001\001\000\002\001\001\000"
-          + "\006\045\u0204\046\223\001\001\000\004\036\u0205\001\001"
-          + "\000\006\045\u0206\046\223\001\001\000\004\036\u0207\001"
-          + "\001\000\006\045\u0208\046\223\001\001\000\004\036\u0209"
-          + "\001\001\000\002\001\001\000\006\045\u020b\046\223\001"
-          + "\001\000\014\037\233\040\232\041\231\042\234\043\u020c"
-          + "\001\001\000\002\001\001\000\004\035\u020e\001\001\000"
+          + "\001\000\004\035\u01c8\001\001\000\004\035\u01c3\001\001"
+          + "\000\004\036\u01c0\001\001\000\004\035\u01bb\001\001\000"
+          + "\004\035\u01b2\001\001\000\004\035\u01af\001\001\000\004"
+          + "\035\u01ac\001\001\000\002\001\001\000\004\036\u01a7\001"
+          + "\001\000\004\035\u019e\001\001\000\004\035\u0195\001\001"
+          + "\000\004\035\u0192\001\001\000\004\035\u018d\001\001\000"
+          + "\004\035\u0188\001\001\000\004\035\u0183\001\001\000\004"
+          + "\035\u017e\001\001\000\002\001\001\000\004\035\u0179\001"
+          + "\001\000\004\035\u0174\001\001\000\022\023\u0170\026\u0171"
+          + "\033\u016f\037\302\040\272\041\275\042\303\043\277\001"
+          + "\001\000\004\035\u016e\001\001\000\004\035\u016b\001\001"
+          + "\000\006\025\u0168\033\u0167\001\001\000\004\035\u0164\001"
+          + "\001\000\002\001\001\000\002\001\001\000\004\035\u015f"
+          + "\001\001\000\004\035\u015c\001\001\000\002\001\001\000"
+          + "\002\001\001\000\004\035\u0157\001\001\000\004\036\u0154"
+          + "\001\001\000\004\035\u0151\001\001\000\002\001\001\000"
+          + "\002\001\001\000\004\035\u014c\001\001\000\004\035\u0146"
+          + "\001\001\000\054\002\u0145\003\161\004\007\005\011\006"
+          + "\032\007\150\010\202\011\144\012\060\013\101\014\156"
+          + "\015\037\016\043\017\155\020\145\021\010\022\045\027"
+          + "\033\030\112\031\215\032\134\001\001\000\004\033\u0144"
+          + "\001\001\000\004\035\u013f\001\001\000\004\035\u013a\001"
+          + "\001\000\004\035\u0137\001\001\000\004\036\u0134\001\001"
+          + "\000\004\035\u012f\001\001\000\004\035\u012c\001\001\000"
+          + "\004\035\u0127\001\001\000\004\035\u0124\001\001\000\016"
+          + "\023\u0123\037\302\040\272\041\275\042\303\043\277\001"
+          + "\001\000\004\035\u011e\001\001\000\004\035\u0117\001\001"
+          + "\000\004\036\u010e\001\001\000\004\035\u0109\001\001\000"
+          + "\002\001\001\000\004\036\u0104\001\001\000\002\001\001"
+          + "\000\006\033\u0100\035\u0101\001\001\000\004\034\377\001"
+          + "\001\000\002\001\001\000\004\035\371\001\001\000\004"
+          + "\036\364\001\001\000\004\035\357\001\001\000\004\035"
+          + "\352\001\001\000\004\036\343\001\001\000\004\035\336"
+          + "\001\001\000\004\035\331\001\001\000\002\001\001\000"
+          + "\004\033\330\001\001\000\004\035\323\001\001\000\004"
+          + "\036\320\001\001\000\004\036\315\001\001\000\004\036"
+          + "\306\001\001\000\016\023\301\037\302\040\272\041\275"
+          + "\042\303\043\277\001\001\000\004\035\276\001\001\000"
+          + "\010\037\274\040\272\041\275\001\001\000\012\024\263"
+          + "\040\261\041\266\045\262\001\001\000\004\035\253\001"
+          + "\001\000\004\036\245\001\001\000\004\035\240\001\001"
+          + "\000\004\033\236\001\001\000\004\035\235\001\001\000"
           + "\002\001\001\000\002\001\001\000\002\001\001\000\002"
-          + "\001\001\000\002\001\001\000\006\045\u0214\046\223\001"
-          + "\001\000\004\036\u0215\001\001\000\006\045\u0216\046\223"
-          + "\001\001\000\004\036\u0217\001\001\000\002\001\001\000"
-          + "\006\045\u0219\046\223\001\001\000\016\033\u021b\037\233"
-          + "\040\232\041\231\042\234\043\u021a\001\001\000\002\001"
-          + "\001\000\006\045\u021c\046\223\001\001\000\004\035\u021d"
-          + "\001\001\000\002\001\001\000\004\035\u021f\001\001\000"
-          + "\002\001\001\000\002\001\001\000\006\045\u0222\046\223"
-          + "\001\001\000\014\037\233\040\232\041\231\042\234\043"
-          + "\u0223\001\001\000\002\001\001\000\006\045\u0225\046\223"
-          + "\001\001\000\004\035\u0226\001\001\000\006\045\u0227\046"
-          + "\223\001\001\000\004\035\u0228\001\001\000\002\001\001"
-          + "\000\006\045\u022a\046\223\001\001\000\014\037\233\040"
-          + "\232\041\231\042\234\043\u022b\001\001\000\002\001\001"
-          + "\000\006\045\u022d\046\223\001\001\000\004\035\u022e\001"
-          + "\001\000\006\045\u022f\046\223\001\001\000\004\033\u0230"
-          + "\001\001\000\002\001\001\000\006\045\u0232\046\223\001"
-          + "\001\000\016\033\u0234\037\233\040\232\041\231\042\234"
-          + "\043\u0233\001\001\000\002\001\001\000\002\001\001\000"
-          + "\004\035\u0236\001\001\000\002\001\001\000\002\001\001"
-          + "\000\006\045\u0239\046\223\001\001\000\004\035\u023a\001"
-          + "\001\000\002\001\001\000\006\045\u023c\046\223\001\001"
-          + "\000\004\035\u023d\001\001\000\006\045\u023e\046\223\001"
-          + "\001\000\004\035\u023f\001\001\000\002\001\001\000\006"
-          + "\045\u0241\046\223\001\001\000\004\033\u0242\001\001\000"
-          + "\002\001\001\000\006\045\u0244\046\223\001\001\000\004"
-          + "\035\u0245\001\001\000\006\045\u0246\046\223\001\001\000"
-          + "\014\037\233\040\232\041\231\042\234\043\u0247\001\001"
-          + "\000\002\001\001\000\006\045\u0249\046\223\001\001\000"
-          + "\004\036\u024a\001\001\000\002\001\001\000\006\045\u024c"
-          + "\046\223\001\001\000\016\033\u024e\037\233\040\232\041"
-          + "\231\042\234\043\u024d\001\001\000\002\001\001\000\006"
-          + "\045\u024f\046\223\001\001\000\004\035\u0250\001\001\000"
-          + "\002\001\001\000\004\035\u0252\001\001\000\002\001\001"
-          + "\000\002\001\001\000\006\045\u0255\046\223\001\001\000"
-          + "\004\036\u0256\001\001\000\002\001\001\000\006\045\u0258"
-          + "\046\223\001\001\000\016\033\u025a\037\233\040\232\041"
-          + "\231\042\234\043\u0259\001\001\000\002\001\001\000\006"
-          + "\045\u025b\046\223\001\001\000\004\035\u025c\001\001\000"
-          + "\002\001\001\000\004\035\u025e\001\001\000\002\001\001"
-          + "\000\002\001\001\000\006\045\u0261\046\223\001\001\000"
-          + "\004\035\u0262\001\001\000\006\045\u0263\046\223\001\001"
-          + "\000\004\035\u0264\001\001\000\002\001\001\000\002\001"
-          + "\001\000\006\045\u0267\046\223\001\001\000\004\033\u0268"
-          + "\001\001\000\002\001\001\000\006\045\u026a\046\223\001"
-          + "\001\000\004\035\u026b\001\001\000\006\045\u026c\046\223"
-          + "\001\001\000\004\033\u026d\001\001\000\002\001\001\000"
-          + "\006\045\u026f\046\223\001\001\000\004\036\u0270\001\001"
-          + "\000\002\001\001\000\006\045\u0272\046\223\001\001\000"
-          + "\004\036\u0273\001\001\000\002\001\001\000\002\001\001"
-          + "\000\006\045\u0276\046\223\001\001\000\004\035\u0277\001"
+          + "\001\001\000\006\046\242\047\243\001\001\000\002\001"
+          + "\001\000\004\035\244\001\001\000\002\001\001\000\002"
+          + "\001\001\000\006\046\247\047\243\001\001\000\002\001"
+          + "\001\000\004\036\250\001\001\000\006\046\251\047\243"
+          + "\001\001\000\004\036\252\001\001\000\002\001\001\000"
+          + "\006\046\254\047\243\001\001\000\004\036\255\001\001"
+          + "\000\006\046\256\047\243\001\001\000\004\036\257\001"
           + "\001\000\002\001\001\000\002\001\001\000\002\001\001"
           + "\000\002\001\001\000\002\001\001\000\002\001\001\000"
-          + "\002\001\001\000\010\040\u0278\041\u027c\044\u027f\001\001" + "\000\002\001\001" });
+          + "\002\001\001\000\002\001\001\000\002\001\001\000\010"
+          + "\040\261\041\266\045\271\001\001\000\002\001\001\000"
+          + "\002\001\001\000\002\001\001\000\002\001\001\000\002"
+          + "\001\001\000\002\001\001\000\002\001\001\000\002\001"
+          + "\001\000\002\001\001\000\002\001\001\000\002\001\001"
+          + "\000\014\037\302\040\272\041\275\042\303\043\305\001"
+          + "\001\000\002\001\001\000\006\046\307\047\243\001\001"
+          + "\000\004\036\310\001\001\000\006\046\311\047\243\001"
+          + "\001\000\004\036\312\001\001\000\006\046\313\047\243"
+          + "\001\001\000\004\036\314\001\001\000\002\001\001\000"
+          + "\006\046\316\047\243\001\001\000\004\035\317\001\001"
+          + "\000\002\001\001\000\006\046\321\047\243\001\001\000"
+          + "\004\036\322\001\001\000\002\001\001\000\006\046\324"
+          + "\047\243\001\001\000\004\035\325\001\001\000\006\046"
+          + "\326\047\243\001\001\000\014\037\302\040\272\041\275"
+          + "\042\303\043\327\001\001\000\002\001\001\000\002\001"
+          + "\001\000\006\046\332\047\243\001\001\000\004\035\333"
+          + "\001\001\000\006\046\334\047\243\001\001\000\014\037"
+          + "\302\040\272\041\275\042\303\043\335\001\001\000\002"
+          + "\001\001\000\006\046\337\047\243\001\001\000\004\035"
+          + "\340\001\001\000\006\046\341\047\243\001\001\000\004"
+          + "\035\342\001\001\000\002\001\001\000\006\046\344\047"
+          + "\243\001\001\000\004\036\345\001\001\000\006\046\346"
+          + "\047\243\001\001\000\004\036\347\001\001\000\006\046"
+          + "\350\047\243\001\001\000\004\036\351\001\001\000\002"
+          + "\001\001\000\006\046\353\047\243\001\001\000\004\035"
+          + "\354\001\001\000\006\046\355\047\243\001\001\000\004"
+          + "\035\356\001\001\000\002\001\001\000\006\046\360\047"
+          + "\243\001\001\000\004\035\361\001\001\000\006\046\362"
+          + "\047\243\001\001\000\004\033\363\001\001\000\002\001"
+          + "\001\000\006\046\365\047\243\001\001\000\004\036\366"
+          + "\001\001\000\006\046\367\047\243\001\001\000\004\036"
+          + "\370\001\001\000\002\001\001\000\006\046\372\047\243"
+          + "\001\001\000\004\035\373\001\001\000\006\046\374\047"
+          + "\243\001\001\000\014\037\302\040\272\041\275\042\303"
+          + "\043\375\001\001\000\002\001\001\000\002\001\001\000"
+          + "\002\001\001\000\002\001\001\000\006\046\u0102\047\243"
+          + "\001\001\000\004\033\u0103\001\001\000\002\001\001\000"
+          + "\006\046\u0105\047\243\001\001\000\004\036\u0106\001\001"
+          + "\000\006\046\u0107\047\243\001\001\000\004\036\u0108\001"
+          + "\001\000\002\001\001\000\006\046\u010a\047\243\001\001"
+          + "\000\004\035\u010b\001\001\000\006\046\u010c\047\243\001"
+          + "\001\000\004\035\u010d\001\001\000\002\001\001\000\006"
+          + "\046\u010f\047\243\001\001\000\016\033\u0111\037\302\040"
+          + "\272\041\275\042\303\043\u0110\001\001\000\002\001\001"
+          + "\000\006\046\u0112\047\243\001\001\000\004\035\u0113\001"
+          + "\001\000\002\001\001\000\004\035\u0115\001\001\000\002"
+          + "\001\001\000\002\001\001\000\006\046\u0118\047\243\001"
+          + "\001\000\014\033\u0119\037\u011a\040\272\041\275\044\u011b"
+          + "\001\001\000\002\001\001\000\002\001\001\000\006\046"
+          + "\u011c\047\243\001\001\000\014\037\302\040\272\041\275"
+          + "\042\303\043\u011d\001\001\000\002\001\001\000\006\046"
+          + "\u011f\047\243\001\001\000\004\035\u0120\001\001\000\006"
+          + "\046\u0121\047\243\001\001\000\004\035\u0122\001\001\000"
+          + "\002\001\001\000\002\001\001\000\006\046\u0125\047\243"
+          + "\001\001\000\004\035\u0126\001\001\000\002\001\001\000"
+          + "\006\046\u0128\047\243\001\001\000\004\035\u0129\001\001"
+          + "\000\006\046\u012a\047\243\001\001\000\004\033\u012b\001"
+          + "\001\000\002\001\001\000\006\046\u012d\047\243\001\001"
+          + "\000\004\033\u012e\001\001\000\002\001\001\000\006\046"
+          + "\u0130\047\243\001\001\000\004\035\u0131\001\001\000\006"
+          + "\046\u0132\047\243\001\001\000\014\037\302\040\272\041"
+          + "\275\042\303\043\u0133\001\001\000\002\001\001\000\006"
+          + "\046\u0135\047\243\001\001\000\004\035\u0136\001\001\000"
+          + "\002\001\001\000\006\046\u0138\047\243\001\001\000\004"
+          + "\033\u0139\001\001\000\002\001\001\000\006\046\u013b\047"
+          + "\243\001\001\000\004\036\u013c\001\001\000\006\046\u013d"
+          + "\047\243\001\001\000\004\036\u013e\001\001\000\002\001"
+          + "\001\000\006\046\u0140\047\243\001\001\000\004\035\u0141"
+          + "\001\001\000\006\046\u0142\047\243\001\001\000\014\037"
+          + "\302\040\272\041\275\042\303\043\u0143\001\001\000\002"
+          + "\001\001\000\002\001\001\000\002\001\001\000\006\046"
+          + "\u0147\047\243\001\001\000\014\037\302\040\272\041\275"
+          + "\042\303\043\u0148\001\001\000\002\001\001\000\004\035"
+          + "\u014a\001\001\000\002\001\001\000\002\001\001\000\006"
+          + "\046\u014d\047\243\001\001\000\004\035\u014e\001\001\000"
+          + "\006\046\u014f\047\243\001\001\000\004\035\u0150\001\001"
+          + "\000\002\001\001\000\006\046\u0152\047\243\001\001\000"
+          + "\004\036\u0153\001\001\000\002\001\001\000\006\046\u0155"
+          + "\047\243\001\001\000\004\036\u0156\001\001\000\002\001"
+          + "\001\000\006\046\u0158\047\243\001\001\000\004\035\u0159"
+          + "\001\001\000\006\046\u015a\047\243\001\001\000\004\035"
+          + "\u015b\001\001\000\002\001\001\000\006\046\u015d\047\243"
+          + "\001\001\000\004\035\u015e\001\001\000\002\001\001\000"
+          + "\006\046\u0160\047\243\001\001\000\004\035\u0161\001\001"
+          + "\000\006\046\u0162\047\243\001\001\000\014\037\302\040"
+          + "\272\041\275\042\303\043\u0163\001\001\000\002\001\001"
+          + "\000\006\046\u0165\047\243\001\001\000\004\036\u0166\001"
+          + "\001\000\002\001\001\000\002\001\001\000\002\001\001"
+          + "\000\004\033\u016a\001\001\000\002\001\001\000\006\046"
+          + "\u016c\047\243\001\001\000\004\036\u016d\001\001\000\002"
+          + "\001\001\000\002\001\001\000\002\001\001\000\002\001"
+          + "\001\000\002\001\001\000\004\033\u0173\001\001\000\002"
+          + "\001\001\000\006\046\u0175\047\243\001\001\000\004\035"
+          + "\u0176\001\001\000\006\046\u0177\047\243\001\001\000\004"
+          + "\033\u0178\001\001\000\002\001\001\000\006\046\u017a\047"
+          + "\243\001\001\000\004\035\u017b\001\001\000\006\046\u017c"
+          + "\047\243\001\001\000\004\035\u017d\001\001\000\002\001"
+          + "\001\000\006\046\u017f\047\243\001\001\000\004\035\u0180"
+          + "\001\001\000\006\046\u0181\047\243\001\001\000\004\033"
+          + "\u0182\001\001\000\002\001\001\000\006\046\u0184\047\243"
+          + "\001\001\000\004\035\u0185\001\001\000\006\046\u0186\047"
+          + "\243\001\001\000\004\035\u0187\001\001\000\002\001\001"
+          + "\000\006\046\u0189\047\243\001\001\000\004\036\u018a\001"
+          + "\001\000\006\046\u018b\047\243\001\001\000\004\036\u018c"
+          + "\001\001\000\002\001\001\000\006\046\u018e\047\243\001"
+          + "\001\000\004\035\u018f\001\001\000\006\046\u0190\047\243"
+          + "\001\001\000\014\037\302\040\272\041\275\042\303\043"
+          + "\u0191\001\001\000\002\001\001\000\006\046\u0193\047\243"
+          + "\001\001\000\004\033\u0194\001\001\000\002\001\001\000"
+          + "\006\046\u0196\047\243\001\001\000\016\033\u0198\037\302"
+          + "\040\272\041\275\042\303\043\u0197\001\001\000\002\001"
+          + "\001\000\006\046\u0199\047\243\001\001\000\004\035\u019a"
+          + "\001\001\000\002\001\001\000\004\035\u019c\001\001\000"
+          + "\002\001\001\000\002\001\001\000\006\046\u019f\047\243"
+          + "\001\001\000\016\033\u01a1\037\302\040\272\041\275\042"
+          + "\303\043\u01a0\001\001\000\002\001\001\000\006\046\u01a2"
+          + "\047\243\001\001\000\004\035\u01a3\001\001\000\002\001"
+          + "\001\000\004\035\u01a5\001\001\000\002\001\001\000\002"
+          + "\001\001\000\006\046\u01a8\047\243\001\001\000\004\036"
+          + "\u01a9\001\001\000\006\046\u01aa\047\243\001\001\000\004"
+          + "\036\u01ab\001\001\000\002\001\001\000\006\046\u01ad\047"
+          + "\243\001\001\000\004\035\u01ae\001\001\000\002\001\001"
+          + "\000\006\046\u01b0\047\243\001\001\000\004\036\u01b1\001"
+          + "\001\000\002\001\001\000\006\046\u01b3\047\243\001\001"
+          + "\000\016\033\u01b5\037\302\040\272\041\275\042\303\043"
+          + "\u01b4\001\001\000\002\001\001\000\006\046\u01b6\047\243"
+          + "\001\001\000\004\035\u01b7\001\001\000\002\001\001\000"
+          + "\004\035\u01b9\001\001\000\002\001\001\000\002\001\001"
+          + "\000\006\046\u01bc\047\243\001\001\000\014\033\u0119\037"
+          + "\u011a\040\272\041\275\044\u01bd\001\001\000\006\046\u01be"
+          + "\047\243\001\001\000\014\037\302\040\272\041\275\042"
+          + "\303\043\u01bf\001\001\000\002\001\001\000\006\046\u01c1"
+          + "\047\243\001\001\000\004\035\u01c2\001\001\000\002\001"
+          + "\001\000\006\046\u01c4\047\243\001\001\000\004\035\u01c5"
+          + "\001\001\000\006\046\u01c6\047\243\001\001\000\004\033"
+          + "\u01c7\001\001\000\002\001\001\000\006\046\u01c9\047\243"
+          + "\001\001\000\004\035\u01ca\001\001\000\006\046\u01cb\047"
+          + "\243\001\001\000\004\035\u01cc\001\001\000\002\001\001"
+          + "\000\006\046\u01ce\047\243\001\001\000\004\035\u01cf\001"
+          + "\001\000\002\001\001\000\006\046\u01d1\047\243\001\001"
+          + "\000\004\035\u01d2\001\001\000\006\046\u01d3\047\243\001"
+          + "\001\000\004\033\u01d4\001\001\000\002\001\001\000\002"
+          + "\001\001\000\006\046\u01d7\047\243\001\001\000\004\035"
+          + "\u01d8\001\001\000\006\046\u01d9\047\243\001\001\000\004"
+          + "\035\u01da\001\001\000\002\001\001\000\006\046\u01dc\047"
+          + "\243\001\001\000\014\033\u0119\037\u011a\040\272\041\275"
+          + "\044\u01dd\001\001\000\002\001\001\000\006\046\u01df\047"
+          + "\243\001\001\000\004\036\u01e0\001\001\000\006\046\u01e1"
+          + "\047\243\001\001\000\004\036\u01e2\001\001\000\002\001"
+          + "\001\000\006\046\u01e4\047\243\001\001\000\004\035\u01e5"
+          + "\001\001\000\006\046\u01e6\047\243\001\001\000\004\035"
+          + "\u01e7\001\001\000\002\001\001\000\002\001\001\000\006"
+          + "\046\u01ea\047\243\001\001\000\004\035\u01eb\001\001\000"
+          + "\006\046\u01ec\047\243\001\001\000\004\035\u01ed\001\001"
+          + "\000\002\001\001\000\006\046\u01ef\047\243\001\001\000"
+          + "\004\033\u01f0\001\001\000\002\001\001\000\006\046\u01f2"
+          + "\047\243\001\001\000\004\035\u01f3\001\001\000\006\046"
+          + "\u01f4\047\243\001\001\000\004\035\u01f5\001\001\000\002"
+          + "\001\001\000\006\046\u01f7\047\243\001\001\000\014\033"
+          + "\u0119\037\u011a\040\272\041\275\044\u01f8\001\001\000\006"
+          + "\046\u01f9\047\243\001\001\000\004\035\u01fa\001\001\000"
+          + "\002\001\001\000\006\046\u01fc\047\243\001\001\000\004"
+          + "\036\u01fd\001\001\000\006\046\u01fe\047\243\001\001\000"
+          + "\004\036\u01ff\001\001\000\006\046\u0200\047\243\001\001"
+          + "\000\004\036\u0201\001\001\000\002\001\001\000\002\001"
+          + "\001\000\006\046\u0204\047\243\001\001\000\004\035\u0205"
+          + "\001\001\000\006\046\u0206\047\243\001\001\000\004\033"
+          + "\u0207\001\001\000\002\001\001\000\006\046\u0209\047\243"
+          + "\001\001\000\004\033\u020a\001\001\000\002\001\001\000"
+          + "\006\046\u020c\047\243\001\001\000\004\036\u020d\001\001"
+          + "\000\006\046\u020e\047\243\001\001\000\004\036\u020f\001"
+          + "\001\000\006\046\u0210\047\243\001\001\000\004\036\u0211"
+          + "\001\001\000\002\001\001\000\006\046\u0213\047\243\001"
+          + "\001\000\014\033\u0119\037\u011a\040\272\041\275\044\u0214"
+          + "\001\001\000\006\046\u0215\047\243\001\001\000\004\035"
+          + "\u0216\001\001\000\002\001\001\000\002\001\001\000\006"
+          + "\046\u0219\047\243\001\001\000\014\033\u0119\037\u011a\040"
+          + "\272\041\275\044\u021a\001\001\000\006\046\u021b\047\243"
+          + "\001\001\000\004\035\u021c\001\001\000\002\001\001\000"
+          + "\006\046\u021e\047\243\001\001\000\004\036\u021f\001\001"
+          + "\000\002\001\001\000\006\046\u0221\047\243\001\001\000"
+          + "\004\035\u0222\001\001\000\006\046\u0223\047\243\001\001"
+          + "\000\014\037\302\040\272\041\275\042\303\043\u0224\001"
+          + "\001\000\002\001\001\000\006\046\u0226\047\243\001\001"
+          + "\000\004\036\u0227\001\001\000\006\046\u0228\047\243\001"
+          + "\001\000\004\036\u0229\001\001\000\002\001\001\000\006"
+          + "\046\u022b\047\243\001\001\000\004\035\u022c\001\001\000"
+          + "\006\046\u022d\047\243\001\001\000\004\035\u022e\001\001"
+          + "\000\002\001\001\000\006\046\u0230\047\243\001\001\000"
+          + "\016\033\u0232\037\302\040\272\041\275\042\303\043\u0231"
+          + "\001\001\000\002\001\001\000\006\046\u0233\047\243\001"
+          + "\001\000\004\035\u0234\001\001\000\002\001\001\000\004"
+          + "\035\u0236\001\001\000\002\001\001\000\002\001\001\000"
+          + "\006\046\u0239\047\243\001\001\000\014\037\302\040\272"
+          + "\041\275\042\303\043\u023a\001\001\000\002\001\001\000"
+          + "\004\035\u023c\001\001\000\002\001\001\000\002\001\001"
+          + "\000\006\046\u023f\047\243\001\001\000\004\035\u0240\001"
+          + "\001\000\002\001\001\000\006\046\u0242\047\243\001\001"
+          + "\000\004\035\u0243\001\001\000\006\046\u0244\047\243\001"
+          + "\001\000\004\035\u0245\001\001\000\002\001\001\000\002"
+          + "\001\001\000\006\046\u0248\047\243\001\001\000\014\037"
+          + "\302\040\272\041\275\042\303\043\u0249\001\001\000\002"
+          + "\001\001\000\002\001\001\000\002\001\001\000\002\001"
+          + "\001\000\006\046\u024e\047\243\001\001\000\004\035\u024f"
+          + "\001\001\000\006\046\u0250\047\243\001\001\000\004\035"
+          + "\u0251\001\001\000\002\001\001\000\002\001\001\000\002"
+          + "\001\001\000\002\001\001\000\006\046\u0256\047\243\001"
+          + "\001\000\004\036\u0257\001\001\000\006\046\u0258\047\243"
+          + "\001\001\000\004\036\u0259\001\001\000\002\001\001\000"
+          + "\006\046\u025b\047\243\001\001\000\004\035\u025c\001\001"
+          + "\000\006\046\u025d\047\243\001\001\000\004\035\u025e\001"
+          + "\001\000\002\001\001\000\002\001\001\000\006\046\u0261"
+          + "\047\243\001\001\000\004\036\u0262\001\001\000\006\046"
+          + "\u0263\047\243\001\001\000\004\036\u0264\001\001\000\002"
+          + "\001\001\000\006\046\u0266\047\243\001\001\000\004\033"
+          + "\u0267\001\001\000\002\001\001\000\006\046\u0269\047\243"
+          + "\001\001\000\016\033\u026b\037\302\040\272\041\275\042"
+          + "\303\043\u026a\001\001\000\002\001\001\000\002\001\001"
+          + "\000\004\035\u026d\001\001\000\002\001\001\000\002\001"
+          + "\001\000\006\046\u0270\047\243\001\001\000\004\035\u0271"
+          + "\001\001\000\006\046\u0272\047\243\001\001\000\004\033"
+          + "\u0273\001\001\000\002\001\001\000\006\046\u0275\047\243"
+          + "\001\001\000\004\033\u0276\001\001\000\002\001\001\000"
+          + "\006\046\u0278\047\243\001\001\000\014\037\302\040\272"
+          + "\041\275\042\303\043\u0279\001\001\000\002\001\001\000"
+          + "\006\046\u027b\047\243\001\001\000\016\033\u027d\037\302"
+          + "\040\272\041\275\042\303\043\u027c\001\001\000\002\001"
+          + "\001\000\002\001\001\000\004\035\u027f\001\001\000\002"
+          + "\001\001\000\002\001\001\000\006\046\u0282\047\243\001"
+          + "\001\000\014\037\302\040\272\041\275\042\303\043\u0283"
+          + "\001\001\000\002\001\001\000\006\046\u0285\047\243\001"
+          + "\001\000\014\033\u0119\037\u011a\040\272\041\275\044\u0286"
+          + "\001\001\000\006\046\u0287\047\243\001\001\000\014\037"
+          + "\302\040\272\041\275\042\303\043\u0288\001\001\000\002"
+          + "\001\001\000\006\046\u028a\047\243\001\001\000\004\036"
+          + "\u028b\001\001\000\002\001\001\000\006\046\u028d\047\243"
+          + "\001\001\000\016\033\u028f\037\302\040\272\041\275\042"
+          + "\303\043\u028e\001\001\000\002\001\001\000\002\001\001"
+          + "\000\004\035\u0291\001\001\000\002\001\001\000\002\001"
+          + "\001\000\002\001\001\000\006\046\u0295\047\243\001\001"
+          + "\000\004\035\u0296\001\001\000\006\046\u0297\047\243\001"
+          + "\001\000\004\033\u0298\001\001\000\002\001\001\000\006"
+          + "\046\u029a\047\243\001\001\000\004\035\u029b\001\001\000"
+          + "\006\046\u029c\047\243\001\001\000\004\035\u029d\001\001"
+          + "\000\002\001\001\000\006\046\u029f\047\243\001\001\000"
+          + "\004\035\u02a0\001\001\000\002\001\001\000\006\046\u02a2"
+          + "\047\243\001\001\000\004\036\u02a3\001\001\000\006\046"
+          + "\u02a4\047\243\001\001\000\004\036\u02a5\001\001\000\002"
+          + "\001\001\000\006\046\u02a7\047\243\001\001\000\004\035"
+          + "\u02a8\001\001\000\006\046\u02a9\047\243\001\001\000\004"
+          + "\033\u02aa\001\001\000\002\001\001\000\006\046\u02ac\047"
+          + "\243\001\001\000\004\035\u02ad\001\001\000\006\046\u02ae"
+          + "\047\243\001\001\000\014\037\302\040\272\041\275\042"
+          + "\303\043\u02af\001\001\000\002\001\001\000\002\001\001"
+          + "\000\006\046\u02b2\047\243\001\001\000\004\035\u02b3\001"
+          + "\001\000\006\046\u02b4\047\243\001\001\000\014\037\302"
+          + "\040\272\041\275\042\303\043\u02b5\001\001\000\002\001" + "\001" });
 
   /** Access to <code>reduce_goto</code> table. */
   public short[][] reduce_table() {
@@ -977,9 +1074,22 @@ public class Parser extends java_cup.runtime.lr_parser {
     return 1;
   }
 
-  public static void parse(File file) {
+  /** machine where the program will be linked */
+  private Machine machine;
+  /** program being assembled */
+  private Program program;
+  /** program filename */
+  private String filename;
+  /** current assembler segment */
+  private Segment segment;
+
+  public static void parse(Machine machine, Program program, File file) {
     try {
-      Parser parser = new Parser(new Lexer(new FileReader(file)));
+      Parser parser = new Parser(new Lexer(new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8)));
+      parser.machine = machine;
+      parser.program = program;
+      parser.filename = program.getFilename();
+      parser.segment = Segment.TEXT;
       parser.parse();
     } catch (FileNotFoundException e) {
       Errors.add("assembler: file '" + file + "' not found");
@@ -1006,7 +1116,7 @@ public class Parser extends java_cup.runtime.lr_parser {
       cur_token.value = ((String) cur_token.value).replaceAll("\t", "\\\\t");
       cur_token.value = ((String) cur_token.value).replaceAll("\u000b", "\\\\v");
     }
-    DebugInfo info = info(cur_token.left, cur_token.right, cur_token.value.toString(), Assembler.filename);
+    DebugInfo info = info(cur_token.left, cur_token.right, cur_token.value.toString(), this.filename);
     // parser error
     if (cur_token.sym != Token.ERROR)
       Errors.add(info, "assembler", "(syntax) invalid statement: unexpected '" + cur_token.value + "'");
@@ -1209,8 +1319,8 @@ public class Parser extends java_cup.runtime.lr_parser {
 
           String rawLabel = (String) id;
           String lbl = rawLabel.substring(0, rawLabel.length() - 1);
-          if (!Assembler.program.addSymbol(Assembler.segment, lbl))
-            Errors.add(info(idleft, idright, rawLabel, Assembler.filename), "assembler",
+          if (!parser.program.addSymbol(parser.segment, lbl))
+            Errors.add(info(idleft, idright, rawLabel, parser.filename), "assembler",
                 "label '" + lbl + "' is already defined");
 
           CUP$Parser$result = parser.getSymbolFactory().newSymbol("Label", 12,
@@ -1227,10 +1337,10 @@ public class Parser extends java_cup.runtime.lr_parser {
           int iright = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           Statement i = (Statement) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 
-          if (!(Assembler.segment == Segment.TEXT))
+          if (!(parser.segment == Segment.TEXT))
             Errors.add(i.getDebugInfo(), "assembler", "instructions can appear only in text segment");
           else
-            Assembler.program.add(i);
+            parser.program.add(i);
 
           CUP$Parser$result = parser.getSymbolFactory().newSymbol("RISCVInst", 3,
               ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()), ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()),
@@ -1344,14 +1454,14 @@ public class Parser extends java_cup.runtime.lr_parser {
           int lright = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           ArrayList<Statement> l = (ArrayList<Statement>) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 
-          if (!(Assembler.segment == Segment.TEXT))
+          if (!(parser.segment == Segment.TEXT))
             Errors.add(l.get(0).getDebugInfo(), "assembler", "instructions can appear only in text segment");
           else {
             if (Settings.BARE)
               Errors.add(l.get(0).getDebugInfo(), "assembler", "invalid pseudo instruction (bare machine mode)");
             else {
               for (Statement stmt : l)
-                Assembler.program.add(stmt);
+                parser.program.add(stmt);
             }
           }
 
@@ -1381,8 +1491,8 @@ public class Parser extends java_cup.runtime.lr_parser {
           int rs3right = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           String rs3 = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
           RESULT = new R4Type("fmadd.s",
-              info(ileft, iright, String.format("fmadd.s %s, %s, %s, %s", rd, rs1, rs2, rs3), Assembler.filename), rd,
-              rs1, rs2, rs3);
+              info(ileft, iright, String.format("fmadd.s %s, %s, %s, %s", rd, rs1, rs2, rs3), parser.filename), rd, rs1,
+              rs2, rs3);
           CUP$Parser$result = parser.getSymbolFactory().newSymbol("R4Type", 10,
               ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 7)),
               ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()), RESULT);
@@ -1409,8 +1519,8 @@ public class Parser extends java_cup.runtime.lr_parser {
           int rs3right = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           String rs3 = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
           RESULT = new R4Type("fmsub.s",
-              info(ileft, iright, String.format("fmsub.s %s, %s, %s, %s", rd, rs1, rs2, rs3), Assembler.filename), rd,
-              rs1, rs2, rs3);
+              info(ileft, iright, String.format("fmsub.s %s, %s, %s, %s", rd, rs1, rs2, rs3), parser.filename), rd, rs1,
+              rs2, rs3);
           CUP$Parser$result = parser.getSymbolFactory().newSymbol("R4Type", 10,
               ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 7)),
               ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()), RESULT);
@@ -1437,7 +1547,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           int rs3right = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           String rs3 = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
           RESULT = new R4Type("fnmadd.s",
-              info(ileft, iright, String.format("fnmadd.s %s, %s, %s, %s", rd, rs1, rs2, rs3), Assembler.filename), rd,
+              info(ileft, iright, String.format("fnmadd.s %s, %s, %s, %s", rd, rs1, rs2, rs3), parser.filename), rd,
               rs1, rs2, rs3);
           CUP$Parser$result = parser.getSymbolFactory().newSymbol("R4Type", 10,
               ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 7)),
@@ -1465,7 +1575,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           int rs3right = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           String rs3 = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
           RESULT = new R4Type("fnmsub.s",
-              info(ileft, iright, String.format("fnmsub.s %s, %s, %s, %s", rd, rs1, rs2, rs3), Assembler.filename), rd,
+              info(ileft, iright, String.format("fnmsub.s %s, %s, %s, %s", rd, rs1, rs2, rs3), parser.filename), rd,
               rs1, rs2, rs3);
           CUP$Parser$result = parser.getSymbolFactory().newSymbol("R4Type", 10,
               ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 7)),
@@ -1489,8 +1599,8 @@ public class Parser extends java_cup.runtime.lr_parser {
           int rs2left = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).left;
           int rs2right = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           String rs2 = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-          RESULT = new RType("sll",
-              info(ileft, iright, String.format("sll %s, %s, %s", rd, rs1, rs2), Assembler.filename), rd, rs1, rs2);
+          RESULT = new RType("sll", info(ileft, iright, String.format("sll %s, %s, %s", rd, rs1, rs2), parser.filename),
+              rd, rs1, rs2);
           CUP$Parser$result = parser.getSymbolFactory().newSymbol("RType", 4,
               ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 5)),
               ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()), RESULT);
@@ -1513,8 +1623,8 @@ public class Parser extends java_cup.runtime.lr_parser {
           int rs2left = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).left;
           int rs2right = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           String rs2 = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-          RESULT = new RType("srl",
-              info(ileft, iright, String.format("srl %s, %s, %s", rd, rs1, rs2), Assembler.filename), rd, rs1, rs2);
+          RESULT = new RType("srl", info(ileft, iright, String.format("srl %s, %s, %s", rd, rs1, rs2), parser.filename),
+              rd, rs1, rs2);
           CUP$Parser$result = parser.getSymbolFactory().newSymbol("RType", 4,
               ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 5)),
               ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()), RESULT);
@@ -1537,8 +1647,8 @@ public class Parser extends java_cup.runtime.lr_parser {
           int rs2left = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).left;
           int rs2right = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           String rs2 = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-          RESULT = new RType("sra",
-              info(ileft, iright, String.format("sra %s, %s, %s", rd, rs1, rs2), Assembler.filename), rd, rs1, rs2);
+          RESULT = new RType("sra", info(ileft, iright, String.format("sra %s, %s, %s", rd, rs1, rs2), parser.filename),
+              rd, rs1, rs2);
           CUP$Parser$result = parser.getSymbolFactory().newSymbol("RType", 4,
               ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 5)),
               ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()), RESULT);
@@ -1561,8 +1671,8 @@ public class Parser extends java_cup.runtime.lr_parser {
           int rs2left = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).left;
           int rs2right = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           String rs2 = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-          RESULT = new RType("add",
-              info(ileft, iright, String.format("add %s, %s, %s", rd, rs1, rs2), Assembler.filename), rd, rs1, rs2);
+          RESULT = new RType("add", info(ileft, iright, String.format("add %s, %s, %s", rd, rs1, rs2), parser.filename),
+              rd, rs1, rs2);
           CUP$Parser$result = parser.getSymbolFactory().newSymbol("RType", 4,
               ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 5)),
               ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()), RESULT);
@@ -1585,8 +1695,8 @@ public class Parser extends java_cup.runtime.lr_parser {
           int rs2left = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).left;
           int rs2right = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           String rs2 = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-          RESULT = new RType("sub",
-              info(ileft, iright, String.format("sub %s, %s, %s", rd, rs1, rs2), Assembler.filename), rd, rs1, rs2);
+          RESULT = new RType("sub", info(ileft, iright, String.format("sub %s, %s, %s", rd, rs1, rs2), parser.filename),
+              rd, rs1, rs2);
           CUP$Parser$result = parser.getSymbolFactory().newSymbol("RType", 4,
               ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 5)),
               ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()), RESULT);
@@ -1609,8 +1719,8 @@ public class Parser extends java_cup.runtime.lr_parser {
           int rs2left = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).left;
           int rs2right = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           String rs2 = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-          RESULT = new RType("xor",
-              info(ileft, iright, String.format("xor %s, %s, %s", rd, rs1, rs2), Assembler.filename), rd, rs1, rs2);
+          RESULT = new RType("xor", info(ileft, iright, String.format("xor %s, %s, %s", rd, rs1, rs2), parser.filename),
+              rd, rs1, rs2);
           CUP$Parser$result = parser.getSymbolFactory().newSymbol("RType", 4,
               ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 5)),
               ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()), RESULT);
@@ -1633,8 +1743,8 @@ public class Parser extends java_cup.runtime.lr_parser {
           int rs2left = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).left;
           int rs2right = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           String rs2 = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-          RESULT = new RType("or",
-              info(ileft, iright, String.format("or %s, %s, %s", rd, rs1, rs2), Assembler.filename), rd, rs1, rs2);
+          RESULT = new RType("or", info(ileft, iright, String.format("or %s, %s, %s", rd, rs1, rs2), parser.filename),
+              rd, rs1, rs2);
           CUP$Parser$result = parser.getSymbolFactory().newSymbol("RType", 4,
               ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 5)),
               ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()), RESULT);
@@ -1657,8 +1767,8 @@ public class Parser extends java_cup.runtime.lr_parser {
           int rs2left = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).left;
           int rs2right = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           String rs2 = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-          RESULT = new RType("and",
-              info(ileft, iright, String.format("and %s, %s, %s", rd, rs1, rs2), Assembler.filename), rd, rs1, rs2);
+          RESULT = new RType("and", info(ileft, iright, String.format("and %s, %s, %s", rd, rs1, rs2), parser.filename),
+              rd, rs1, rs2);
           CUP$Parser$result = parser.getSymbolFactory().newSymbol("RType", 4,
               ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 5)),
               ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()), RESULT);
@@ -1681,8 +1791,8 @@ public class Parser extends java_cup.runtime.lr_parser {
           int rs2left = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).left;
           int rs2right = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           String rs2 = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-          RESULT = new RType("slt",
-              info(ileft, iright, String.format("slt %s, %s, %s", rd, rs1, rs2), Assembler.filename), rd, rs1, rs2);
+          RESULT = new RType("slt", info(ileft, iright, String.format("slt %s, %s, %s", rd, rs1, rs2), parser.filename),
+              rd, rs1, rs2);
           CUP$Parser$result = parser.getSymbolFactory().newSymbol("RType", 4,
               ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 5)),
               ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()), RESULT);
@@ -1706,7 +1816,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           int rs2right = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           String rs2 = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
           RESULT = new RType("sltu",
-              info(ileft, iright, String.format("sltu %s, %s, %s", rd, rs1, rs2), Assembler.filename), rd, rs1, rs2);
+              info(ileft, iright, String.format("sltu %s, %s, %s", rd, rs1, rs2), parser.filename), rd, rs1, rs2);
           CUP$Parser$result = parser.getSymbolFactory().newSymbol("RType", 4,
               ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 5)),
               ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()), RESULT);
@@ -1729,8 +1839,8 @@ public class Parser extends java_cup.runtime.lr_parser {
           int rs2left = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).left;
           int rs2right = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           String rs2 = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-          RESULT = new RType("mul",
-              info(ileft, iright, String.format("mul %s, %s, %s", rd, rs1, rs2), Assembler.filename), rd, rs1, rs2);
+          RESULT = new RType("mul", info(ileft, iright, String.format("mul %s, %s, %s", rd, rs1, rs2), parser.filename),
+              rd, rs1, rs2);
           CUP$Parser$result = parser.getSymbolFactory().newSymbol("RType", 4,
               ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 5)),
               ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()), RESULT);
@@ -1754,7 +1864,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           int rs2right = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           String rs2 = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
           RESULT = new RType("mulh",
-              info(ileft, iright, String.format("mulh %s, %s, %s", rd, rs1, rs2), Assembler.filename), rd, rs1, rs2);
+              info(ileft, iright, String.format("mulh %s, %s, %s", rd, rs1, rs2), parser.filename), rd, rs1, rs2);
           CUP$Parser$result = parser.getSymbolFactory().newSymbol("RType", 4,
               ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 5)),
               ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()), RESULT);
@@ -1778,7 +1888,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           int rs2right = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           String rs2 = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
           RESULT = new RType("mulhsu",
-              info(ileft, iright, String.format("mulhsu %s, %s, %s", rd, rs1, rs2), Assembler.filename), rd, rs1, rs2);
+              info(ileft, iright, String.format("mulhsu %s, %s, %s", rd, rs1, rs2), parser.filename), rd, rs1, rs2);
           CUP$Parser$result = parser.getSymbolFactory().newSymbol("RType", 4,
               ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 5)),
               ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()), RESULT);
@@ -1802,7 +1912,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           int rs2right = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           String rs2 = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
           RESULT = new RType("mulhu",
-              info(ileft, iright, String.format("mulhu %s, %s, %s", rd, rs1, rs2), Assembler.filename), rd, rs1, rs2);
+              info(ileft, iright, String.format("mulhu %s, %s, %s", rd, rs1, rs2), parser.filename), rd, rs1, rs2);
           CUP$Parser$result = parser.getSymbolFactory().newSymbol("RType", 4,
               ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 5)),
               ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()), RESULT);
@@ -1825,8 +1935,8 @@ public class Parser extends java_cup.runtime.lr_parser {
           int rs2left = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).left;
           int rs2right = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           String rs2 = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-          RESULT = new RType("div",
-              info(ileft, iright, String.format("div %s, %s, %s", rd, rs1, rs2), Assembler.filename), rd, rs1, rs2);
+          RESULT = new RType("div", info(ileft, iright, String.format("div %s, %s, %s", rd, rs1, rs2), parser.filename),
+              rd, rs1, rs2);
           CUP$Parser$result = parser.getSymbolFactory().newSymbol("RType", 4,
               ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 5)),
               ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()), RESULT);
@@ -1850,7 +1960,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           int rs2right = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           String rs2 = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
           RESULT = new RType("divu",
-              info(ileft, iright, String.format("divu %s, %s, %s", rd, rs1, rs2), Assembler.filename), rd, rs1, rs2);
+              info(ileft, iright, String.format("divu %s, %s, %s", rd, rs1, rs2), parser.filename), rd, rs1, rs2);
           CUP$Parser$result = parser.getSymbolFactory().newSymbol("RType", 4,
               ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 5)),
               ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()), RESULT);
@@ -1873,8 +1983,8 @@ public class Parser extends java_cup.runtime.lr_parser {
           int rs2left = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).left;
           int rs2right = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           String rs2 = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-          RESULT = new RType("rem",
-              info(ileft, iright, String.format("rem %s, %s, %s", rd, rs1, rs2), Assembler.filename), rd, rs1, rs2);
+          RESULT = new RType("rem", info(ileft, iright, String.format("rem %s, %s, %s", rd, rs1, rs2), parser.filename),
+              rd, rs1, rs2);
           CUP$Parser$result = parser.getSymbolFactory().newSymbol("RType", 4,
               ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 5)),
               ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()), RESULT);
@@ -1898,7 +2008,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           int rs2right = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           String rs2 = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
           RESULT = new RType("remu",
-              info(ileft, iright, String.format("remu %s, %s, %s", rd, rs1, rs2), Assembler.filename), rd, rs1, rs2);
+              info(ileft, iright, String.format("remu %s, %s, %s", rd, rs1, rs2), parser.filename), rd, rs1, rs2);
           CUP$Parser$result = parser.getSymbolFactory().newSymbol("RType", 4,
               ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 5)),
               ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()), RESULT);
@@ -1922,7 +2032,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           int rs2right = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           String rs2 = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
           RESULT = new FRType("fadd.s",
-              info(ileft, iright, String.format("fadd.s %s, %s, %s", rd, rs1, rs2), Assembler.filename), rd, rs1, rs2);
+              info(ileft, iright, String.format("fadd.s %s, %s, %s", rd, rs1, rs2), parser.filename), rd, rs1, rs2);
           CUP$Parser$result = parser.getSymbolFactory().newSymbol("RType", 4,
               ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 5)),
               ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()), RESULT);
@@ -1946,7 +2056,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           int rs2right = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           String rs2 = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
           RESULT = new FRType("fsub.s",
-              info(ileft, iright, String.format("fsub.s %s, %s, %s", rd, rs1, rs2), Assembler.filename), rd, rs1, rs2);
+              info(ileft, iright, String.format("fsub.s %s, %s, %s", rd, rs1, rs2), parser.filename), rd, rs1, rs2);
           CUP$Parser$result = parser.getSymbolFactory().newSymbol("RType", 4,
               ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 5)),
               ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()), RESULT);
@@ -1970,7 +2080,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           int rs2right = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           String rs2 = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
           RESULT = new FRType("fmul.s",
-              info(ileft, iright, String.format("fmul.s %s, %s, %s", rd, rs1, rs2), Assembler.filename), rd, rs1, rs2);
+              info(ileft, iright, String.format("fmul.s %s, %s, %s", rd, rs1, rs2), parser.filename), rd, rs1, rs2);
           CUP$Parser$result = parser.getSymbolFactory().newSymbol("RType", 4,
               ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 5)),
               ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()), RESULT);
@@ -1994,7 +2104,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           int rs2right = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           String rs2 = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
           RESULT = new FRType("fdiv.s",
-              info(ileft, iright, String.format("fdiv.s %s, %s, %s", rd, rs1, rs2), Assembler.filename), rd, rs1, rs2);
+              info(ileft, iright, String.format("fdiv.s %s, %s, %s", rd, rs1, rs2), parser.filename), rd, rs1, rs2);
           CUP$Parser$result = parser.getSymbolFactory().newSymbol("RType", 4,
               ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 5)),
               ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()), RESULT);
@@ -2014,8 +2124,8 @@ public class Parser extends java_cup.runtime.lr_parser {
           int rs1left = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).left;
           int rs1right = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           String rs1 = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-          RESULT = new FRType("fsqrt.s",
-              info(ileft, iright, String.format("fsqrt.s %s, %s", rd, rs1), Assembler.filename), rd, rs1, "f0");
+          RESULT = new FRType("fsqrt.s", info(ileft, iright, String.format("fsqrt.s %s, %s", rd, rs1), parser.filename),
+              rd, rs1, "f0");
           CUP$Parser$result = parser.getSymbolFactory().newSymbol("RType", 4,
               ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 3)),
               ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()), RESULT);
@@ -2039,7 +2149,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           int rs2right = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           String rs2 = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
           RESULT = new FRType("fsgnj.s",
-              info(ileft, iright, String.format("fsgnj.s %s, %s, %s", rd, rs1, rs2), Assembler.filename), rd, rs1, rs2);
+              info(ileft, iright, String.format("fsgnj.s %s, %s, %s", rd, rs1, rs2), parser.filename), rd, rs1, rs2);
           CUP$Parser$result = parser.getSymbolFactory().newSymbol("RType", 4,
               ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 5)),
               ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()), RESULT);
@@ -2063,8 +2173,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           int rs2right = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           String rs2 = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
           RESULT = new FRType("fsgnjn.s",
-              info(ileft, iright, String.format("fsgnjn.s %s, %s, %s", rd, rs1, rs2), Assembler.filename), rd, rs1,
-              rs2);
+              info(ileft, iright, String.format("fsgnjn.s %s, %s, %s", rd, rs1, rs2), parser.filename), rd, rs1, rs2);
           CUP$Parser$result = parser.getSymbolFactory().newSymbol("RType", 4,
               ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 5)),
               ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()), RESULT);
@@ -2088,8 +2197,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           int rs2right = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           String rs2 = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
           RESULT = new FRType("fsgnjx.s",
-              info(ileft, iright, String.format("fsgnjx.s %s, %s, %s", rd, rs1, rs2), Assembler.filename), rd, rs1,
-              rs2);
+              info(ileft, iright, String.format("fsgnjx.s %s, %s, %s", rd, rs1, rs2), parser.filename), rd, rs1, rs2);
           CUP$Parser$result = parser.getSymbolFactory().newSymbol("RType", 4,
               ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 5)),
               ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()), RESULT);
@@ -2113,7 +2221,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           int rs2right = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           String rs2 = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
           RESULT = new FRType("fmin.s",
-              info(ileft, iright, String.format("fmin.s %s, %s, %s", rd, rs1, rs2), Assembler.filename), rd, rs1, rs2);
+              info(ileft, iright, String.format("fmin.s %s, %s, %s", rd, rs1, rs2), parser.filename), rd, rs1, rs2);
           CUP$Parser$result = parser.getSymbolFactory().newSymbol("RType", 4,
               ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 5)),
               ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()), RESULT);
@@ -2137,7 +2245,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           int rs2right = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           String rs2 = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
           RESULT = new FRType("fmax.s",
-              info(ileft, iright, String.format("fmax.s %s, %s, %s", rd, rs1, rs2), Assembler.filename), rd, rs1, rs2);
+              info(ileft, iright, String.format("fmax.s %s, %s, %s", rd, rs1, rs2), parser.filename), rd, rs1, rs2);
           CUP$Parser$result = parser.getSymbolFactory().newSymbol("RType", 4,
               ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 5)),
               ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()), RESULT);
@@ -2159,9 +2267,9 @@ public class Parser extends java_cup.runtime.lr_parser {
           String rs1 = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 
           // hack to re-use FRType Statement
-          int num = Globals.regfile.getRegisterNumber(rd);
-          RESULT = new FRType("fmv.x.w",
-              info(ileft, iright, String.format("fmv.x.w %s, %s", rd, rs1), Assembler.filename), "f" + num, rs1, "f0");
+          int num = parser.machine.getRegfile().getRegisterNumber(rd);
+          RESULT = new FRType("fmv.x.w", info(ileft, iright, String.format("fmv.x.w %s, %s", rd, rs1), parser.filename),
+              "f" + num, rs1, "f0");
 
           CUP$Parser$result = parser.getSymbolFactory().newSymbol("RType", 4,
               ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 3)),
@@ -2184,9 +2292,9 @@ public class Parser extends java_cup.runtime.lr_parser {
           String rs1 = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 
           // hack to re-use FRType Statement
-          int num = Globals.regfile.getRegisterNumber(rs1);
-          RESULT = new FRType("fmv.w.x",
-              info(ileft, iright, String.format("fmv.w.x %s, %s", rd, rs1), Assembler.filename), rd, "f" + num, "f0");
+          int num = parser.machine.getRegfile().getRegisterNumber(rs1);
+          RESULT = new FRType("fmv.w.x", info(ileft, iright, String.format("fmv.w.x %s, %s", rd, rs1), parser.filename),
+              rd, "f" + num, "f0");
 
           CUP$Parser$result = parser.getSymbolFactory().newSymbol("RType", 4,
               ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 3)),
@@ -2209,9 +2317,9 @@ public class Parser extends java_cup.runtime.lr_parser {
           String rs1 = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 
           // hack to re-use FRType Statement
-          int num = Globals.regfile.getRegisterNumber(rs1);
+          int num = parser.machine.getRegfile().getRegisterNumber(rs1);
           RESULT = new FRType("fcvt.s.w",
-              info(ileft, iright, String.format("fcvt.s.w %s, %s", rd, rs1), Assembler.filename), rd, "f" + num, "f0");
+              info(ileft, iright, String.format("fcvt.s.w %s, %s", rd, rs1), parser.filename), rd, "f" + num, "f0");
 
           CUP$Parser$result = parser.getSymbolFactory().newSymbol("RType", 4,
               ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 3)),
@@ -2234,9 +2342,9 @@ public class Parser extends java_cup.runtime.lr_parser {
           String rs1 = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 
           // hack to re-use FRType Statement
-          int num = Globals.regfile.getRegisterNumber(rs1);
+          int num = parser.machine.getRegfile().getRegisterNumber(rs1);
           RESULT = new FRType("fcvt.s.wu",
-              info(ileft, iright, String.format("fcvt.s.wu %s, %s", rd, rs1), Assembler.filename), rd, "f" + num, "f1");
+              info(ileft, iright, String.format("fcvt.s.wu %s, %s", rd, rs1), parser.filename), rd, "f" + num, "f1");
 
           CUP$Parser$result = parser.getSymbolFactory().newSymbol("RType", 4,
               ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 3)),
@@ -2259,9 +2367,9 @@ public class Parser extends java_cup.runtime.lr_parser {
           String rs1 = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 
           // hack to re-use FRType Statement
-          int num = Globals.regfile.getRegisterNumber(rd);
+          int num = parser.machine.getRegfile().getRegisterNumber(rd);
           RESULT = new FRType("fcvt.w.s",
-              info(ileft, iright, String.format("fcvt.w.s %s, %s", rd, rs1), Assembler.filename), "f" + num, rs1, "f0");
+              info(ileft, iright, String.format("fcvt.w.s %s, %s", rd, rs1), parser.filename), "f" + num, rs1, "f0");
 
           CUP$Parser$result = parser.getSymbolFactory().newSymbol("RType", 4,
               ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 3)),
@@ -2284,10 +2392,9 @@ public class Parser extends java_cup.runtime.lr_parser {
           String rs1 = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 
           // hack to re-use FRType Statement
-          int num = Globals.regfile.getRegisterNumber(rd);
+          int num = parser.machine.getRegfile().getRegisterNumber(rd);
           RESULT = new FRType("fcvt.wu.s",
-              info(ileft, iright, String.format("fcvt.wu.s %s, %s", rd, rs1), Assembler.filename), "f" + num, rs1,
-              "f1");
+              info(ileft, iright, String.format("fcvt.wu.s %s, %s", rd, rs1), parser.filename), "f" + num, rs1, "f1");
 
           CUP$Parser$result = parser.getSymbolFactory().newSymbol("RType", 4,
               ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 3)),
@@ -2313,9 +2420,9 @@ public class Parser extends java_cup.runtime.lr_parser {
           String rs2 = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 
           // hack to re-use FRType Statement
-          int num = Globals.regfile.getRegisterNumber(rd);
+          int num = parser.machine.getRegfile().getRegisterNumber(rd);
           RESULT = new FRType("feq.s",
-              info(ileft, iright, String.format("feq.s %s, %s, %s", rd, rs1, rs2), Assembler.filename), "f" + num, rs1,
+              info(ileft, iright, String.format("feq.s %s, %s, %s", rd, rs1, rs2), parser.filename), "f" + num, rs1,
               rs2);
 
           CUP$Parser$result = parser.getSymbolFactory().newSymbol("RType", 4,
@@ -2342,9 +2449,9 @@ public class Parser extends java_cup.runtime.lr_parser {
           String rs2 = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 
           // hack to re-use FRType Statement
-          int num = Globals.regfile.getRegisterNumber(rd);
+          int num = parser.machine.getRegfile().getRegisterNumber(rd);
           RESULT = new FRType("flt.s",
-              info(ileft, iright, String.format("flt.s %s, %s, %s", rd, rs1, rs2), Assembler.filename), "f" + num, rs1,
+              info(ileft, iright, String.format("flt.s %s, %s, %s", rd, rs1, rs2), parser.filename), "f" + num, rs1,
               rs2);
 
           CUP$Parser$result = parser.getSymbolFactory().newSymbol("RType", 4,
@@ -2371,9 +2478,9 @@ public class Parser extends java_cup.runtime.lr_parser {
           String rs2 = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 
           // hack to re-use FRType Statement
-          int num = Globals.regfile.getRegisterNumber(rd);
+          int num = parser.machine.getRegfile().getRegisterNumber(rd);
           RESULT = new FRType("fle.s",
-              info(ileft, iright, String.format("fle.s %s, %s, %s", rd, rs1, rs2), Assembler.filename), "f" + num, rs1,
+              info(ileft, iright, String.format("fle.s %s, %s, %s", rd, rs1, rs2), parser.filename), "f" + num, rs1,
               rs2);
 
           CUP$Parser$result = parser.getSymbolFactory().newSymbol("RType", 4,
@@ -2397,9 +2504,9 @@ public class Parser extends java_cup.runtime.lr_parser {
           String rs1 = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 
           // hack to re-use FRType Statement
-          int num = Globals.regfile.getRegisterNumber(rd);
+          int num = parser.machine.getRegfile().getRegisterNumber(rd);
           RESULT = new FRType("fclass.s",
-              info(ileft, iright, String.format("fclass.s %s, %s", rd, rs1), Assembler.filename), "f" + num, rs1, "f1");
+              info(ileft, iright, String.format("fclass.s %s, %s", rd, rs1), parser.filename), "f" + num, rs1, "f1");
 
           CUP$Parser$result = parser.getSymbolFactory().newSymbol("RType", 4,
               ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 3)),
@@ -2424,7 +2531,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           int immright = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           Integer imm = (Integer) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
           RESULT = new IType("addi",
-              info(ileft, iright, String.format("addi %s, %s, %d", rd, rs1, imm), Assembler.filename), rd, rs1, imm);
+              info(ileft, iright, String.format("addi %s, %s, %d", rd, rs1, imm), parser.filename), rd, rs1, imm);
           CUP$Parser$result = parser.getSymbolFactory().newSymbol("IType", 5,
               ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 5)),
               ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()), RESULT);
@@ -2448,7 +2555,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           int immright = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           Integer imm = (Integer) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
           RESULT = new IType("xori",
-              info(ileft, iright, String.format("xori %s, %s, %d", rd, rs1, imm), Assembler.filename), rd, rs1, imm);
+              info(ileft, iright, String.format("xori %s, %s, %d", rd, rs1, imm), parser.filename), rd, rs1, imm);
           CUP$Parser$result = parser.getSymbolFactory().newSymbol("IType", 5,
               ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 5)),
               ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()), RESULT);
@@ -2471,8 +2578,8 @@ public class Parser extends java_cup.runtime.lr_parser {
           int immleft = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).left;
           int immright = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           Integer imm = (Integer) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-          RESULT = new IType("ori",
-              info(ileft, iright, String.format("ori %s, %s, %d", rd, rs1, imm), Assembler.filename), rd, rs1, imm);
+          RESULT = new IType("ori", info(ileft, iright, String.format("ori %s, %s, %d", rd, rs1, imm), parser.filename),
+              rd, rs1, imm);
           CUP$Parser$result = parser.getSymbolFactory().newSymbol("IType", 5,
               ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 5)),
               ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()), RESULT);
@@ -2496,7 +2603,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           int immright = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           Integer imm = (Integer) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
           RESULT = new IType("andi",
-              info(ileft, iright, String.format("andi %s, %s, %d", rd, rs1, imm), Assembler.filename), rd, rs1, imm);
+              info(ileft, iright, String.format("andi %s, %s, %d", rd, rs1, imm), parser.filename), rd, rs1, imm);
           CUP$Parser$result = parser.getSymbolFactory().newSymbol("IType", 5,
               ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 5)),
               ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()), RESULT);
@@ -2520,7 +2627,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           int immright = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           Integer imm = (Integer) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
           RESULT = new IType("slti",
-              info(ileft, iright, String.format("slti %s, %s, %d", rd, rs1, imm), Assembler.filename), rd, rs1, imm);
+              info(ileft, iright, String.format("slti %s, %s, %d", rd, rs1, imm), parser.filename), rd, rs1, imm);
           CUP$Parser$result = parser.getSymbolFactory().newSymbol("IType", 5,
               ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 5)),
               ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()), RESULT);
@@ -2544,7 +2651,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           int immright = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           Integer imm = (Integer) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
           RESULT = new IType("sltiu",
-              info(ileft, iright, String.format("sltiu %s, %s, %d", rd, rs1, imm), Assembler.filename), rd, rs1, imm);
+              info(ileft, iright, String.format("sltiu %s, %s, %d", rd, rs1, imm), parser.filename), rd, rs1, imm);
           CUP$Parser$result = parser.getSymbolFactory().newSymbol("IType", 5,
               ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 5)),
               ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()), RESULT);
@@ -2568,7 +2675,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           int immright = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           Integer imm = (Integer) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
           RESULT = new Shift("slli",
-              info(ileft, iright, String.format("slli %s, %s, %d", rd, rs1, imm), Assembler.filename), rd, rs1, imm);
+              info(ileft, iright, String.format("slli %s, %s, %d", rd, rs1, imm), parser.filename), rd, rs1, imm);
           CUP$Parser$result = parser.getSymbolFactory().newSymbol("IType", 5,
               ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 5)),
               ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()), RESULT);
@@ -2592,7 +2699,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           int immright = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           Integer imm = (Integer) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
           RESULT = new Shift("srli",
-              info(ileft, iright, String.format("srli %s, %s, %d", rd, rs1, imm), Assembler.filename), rd, rs1, imm);
+              info(ileft, iright, String.format("srli %s, %s, %d", rd, rs1, imm), parser.filename), rd, rs1, imm);
           CUP$Parser$result = parser.getSymbolFactory().newSymbol("IType", 5,
               ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 5)),
               ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()), RESULT);
@@ -2616,7 +2723,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           int immright = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           Integer imm = (Integer) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
           RESULT = new Shift("srai",
-              info(ileft, iright, String.format("srai %s, %s, %d", rd, rs1, imm), Assembler.filename), rd, rs1, imm);
+              info(ileft, iright, String.format("srai %s, %s, %d", rd, rs1, imm), parser.filename), rd, rs1, imm);
           CUP$Parser$result = parser.getSymbolFactory().newSymbol("IType", 5,
               ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 5)),
               ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()), RESULT);
@@ -2640,7 +2747,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           int immright = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           Integer imm = (Integer) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
           RESULT = new IType("jalr",
-              info(ileft, iright, String.format("jalr %s, %s, %d", rd, rs1, imm), Assembler.filename), rd, rs1, imm);
+              info(ileft, iright, String.format("jalr %s, %s, %d", rd, rs1, imm), parser.filename), rd, rs1, imm);
           CUP$Parser$result = parser.getSymbolFactory().newSymbol("IType", 5,
               ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 5)),
               ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()), RESULT);
@@ -2664,8 +2771,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           int rs1right = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 1)).right;
           String rs1 = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 1)).value;
           RESULT = new IType("lb",
-              info(ileft, iright, String.format("lb %s, %d(%s)", rd, offset, rs1), Assembler.filename), rd, rs1,
-              offset);
+              info(ileft, iright, String.format("lb %s, %d(%s)", rd, offset, rs1), parser.filename), rd, rs1, offset);
           CUP$Parser$result = parser.getSymbolFactory().newSymbol("IType", 5,
               ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 6)),
               ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()), RESULT);
@@ -2689,8 +2795,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           int rs1right = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 1)).right;
           String rs1 = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 1)).value;
           RESULT = new IType("lbu",
-              info(ileft, iright, String.format("lbu %s, %d(%s)", rd, offset, rs1), Assembler.filename), rd, rs1,
-              offset);
+              info(ileft, iright, String.format("lbu %s, %d(%s)", rd, offset, rs1), parser.filename), rd, rs1, offset);
           CUP$Parser$result = parser.getSymbolFactory().newSymbol("IType", 5,
               ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 6)),
               ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()), RESULT);
@@ -2714,8 +2819,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           int rs1right = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 1)).right;
           String rs1 = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 1)).value;
           RESULT = new IType("lh",
-              info(ileft, iright, String.format("lh %s, %d(%s)", rd, offset, rs1), Assembler.filename), rd, rs1,
-              offset);
+              info(ileft, iright, String.format("lh %s, %d(%s)", rd, offset, rs1), parser.filename), rd, rs1, offset);
           CUP$Parser$result = parser.getSymbolFactory().newSymbol("IType", 5,
               ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 6)),
               ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()), RESULT);
@@ -2739,8 +2843,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           int rs1right = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 1)).right;
           String rs1 = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 1)).value;
           RESULT = new IType("lhu",
-              info(ileft, iright, String.format("lhu %s, %d(%s)", rd, offset, rs1), Assembler.filename), rd, rs1,
-              offset);
+              info(ileft, iright, String.format("lhu %s, %d(%s)", rd, offset, rs1), parser.filename), rd, rs1, offset);
           CUP$Parser$result = parser.getSymbolFactory().newSymbol("IType", 5,
               ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 6)),
               ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()), RESULT);
@@ -2764,8 +2867,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           int rs1right = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 1)).right;
           String rs1 = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 1)).value;
           RESULT = new IType("lw",
-              info(ileft, iright, String.format("lw %s, %d(%s)", rd, offset, rs1), Assembler.filename), rd, rs1,
-              offset);
+              info(ileft, iright, String.format("lw %s, %d(%s)", rd, offset, rs1), parser.filename), rd, rs1, offset);
           CUP$Parser$result = parser.getSymbolFactory().newSymbol("IType", 5,
               ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 6)),
               ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()), RESULT);
@@ -2779,7 +2881,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           int ileft = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).left;
           int iright = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           Object i = (Object) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-          RESULT = new IType("ecall", info(ileft, iright, "ecall", Assembler.filename), "x0", "x0", 0);
+          RESULT = new IType("ecall", info(ileft, iright, "ecall", parser.filename), "x0", "x0", 0);
           CUP$Parser$result = parser.getSymbolFactory().newSymbol("IType", 5,
               ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()), ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()),
               RESULT);
@@ -2793,7 +2895,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           int ileft = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).left;
           int iright = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           Object i = (Object) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-          RESULT = new IType("ebreak", info(ileft, iright, "ebreak", Assembler.filename), "x0", "x0", 1);
+          RESULT = new IType("ebreak", info(ileft, iright, "ebreak", parser.filename), "x0", "x0", 1);
           CUP$Parser$result = parser.getSymbolFactory().newSymbol("IType", 5,
               ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()), ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()),
               RESULT);
@@ -2801,7 +2903,172 @@ public class Parser extends java_cup.runtime.lr_parser {
           return CUP$Parser$result;
 
         /* . . . . . . . . . . . . . . . . . . . . */
-        case 83: // IType ::= F_FLW FRegister Delimiter Const LPAREN Register RPAREN
+        case 83: // IType ::= I_CSRRW Register Delimiter Csr Delimiter Register
+        {
+          Statement RESULT = null;
+          int ileft = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 5)).left;
+          int iright = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 5)).right;
+          Object i = (Object) ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 5)).value;
+          int rdleft = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 4)).left;
+          int rdright = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 4)).right;
+          String rd = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 4)).value;
+          int csrleft = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 2)).left;
+          int csrright = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 2)).right;
+          Integer csr = (Integer) ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 2)).value;
+          int rs1left = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).left;
+          int rs1right = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
+          String rs1 = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+          RESULT = new IType("csrrw",
+              info(ileft, iright, String.format("csrrw %s, %s, %s", rd, CSR.name(csr), rs1), parser.filename), rd, rs1,
+              Data.signExtend(csr, 12));
+          CUP$Parser$result = parser.getSymbolFactory().newSymbol("IType", 5,
+              ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 5)),
+              ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()), RESULT);
+        }
+          return CUP$Parser$result;
+
+        /* . . . . . . . . . . . . . . . . . . . . */
+        case 84: // IType ::= I_CSRRS Register Delimiter Csr Delimiter Register
+        {
+          Statement RESULT = null;
+          int ileft = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 5)).left;
+          int iright = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 5)).right;
+          Object i = (Object) ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 5)).value;
+          int rdleft = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 4)).left;
+          int rdright = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 4)).right;
+          String rd = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 4)).value;
+          int csrleft = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 2)).left;
+          int csrright = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 2)).right;
+          Integer csr = (Integer) ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 2)).value;
+          int rs1left = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).left;
+          int rs1right = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
+          String rs1 = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+          RESULT = new IType("csrrs",
+              info(ileft, iright, String.format("csrrs %s, %s, %s", rd, CSR.name(csr), rs1), parser.filename), rd, rs1,
+              Data.signExtend(csr, 12));
+          CUP$Parser$result = parser.getSymbolFactory().newSymbol("IType", 5,
+              ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 5)),
+              ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()), RESULT);
+        }
+          return CUP$Parser$result;
+
+        /* . . . . . . . . . . . . . . . . . . . . */
+        case 85: // IType ::= I_CSRRC Register Delimiter Csr Delimiter Register
+        {
+          Statement RESULT = null;
+          int ileft = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 5)).left;
+          int iright = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 5)).right;
+          Object i = (Object) ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 5)).value;
+          int rdleft = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 4)).left;
+          int rdright = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 4)).right;
+          String rd = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 4)).value;
+          int csrleft = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 2)).left;
+          int csrright = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 2)).right;
+          Integer csr = (Integer) ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 2)).value;
+          int rs1left = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).left;
+          int rs1right = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
+          String rs1 = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+          RESULT = new IType("csrrc",
+              info(ileft, iright, String.format("csrrc %s, %s, %s", rd, CSR.name(csr), rs1), parser.filename), rd, rs1,
+              Data.signExtend(csr, 12));
+          CUP$Parser$result = parser.getSymbolFactory().newSymbol("IType", 5,
+              ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 5)),
+              ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()), RESULT);
+        }
+          return CUP$Parser$result;
+
+        /* . . . . . . . . . . . . . . . . . . . . */
+        case 86: // IType ::= I_CSRRWI Register Delimiter Csr Delimiter Const
+        {
+          Statement RESULT = null;
+          int ileft = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 5)).left;
+          int iright = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 5)).right;
+          Object i = (Object) ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 5)).value;
+          int rdleft = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 4)).left;
+          int rdright = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 4)).right;
+          String rd = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 4)).value;
+          int csrleft = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 2)).left;
+          int csrright = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 2)).right;
+          Integer csr = (Integer) ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 2)).value;
+          int zimmleft = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).left;
+          int zimmright = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
+          Integer zimm = (Integer) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+
+          DebugInfo debug = info(ileft, iright, String.format("csrrwi %s, %s, %d", rd, CSR.name(csr), zimm),
+              parser.filename);
+          if (!Data.inRange(zimm, 0, 31))
+            Errors.add(debug, "assembler", "immediate '" + zimm + "' out of range should be between 0 and 31");
+          // hack to re-use IType Statement, the rs1 field holds the immediate
+          RESULT = new IType("csrrwi", debug, rd, "x" + (zimm & 0x1f), Data.signExtend(csr, 12));
+
+          CUP$Parser$result = parser.getSymbolFactory().newSymbol("IType", 5,
+              ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 5)),
+              ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()), RESULT);
+        }
+          return CUP$Parser$result;
+
+        /* . . . . . . . . . . . . . . . . . . . . */
+        case 87: // IType ::= I_CSRRSI Register Delimiter Csr Delimiter Const
+        {
+          Statement RESULT = null;
+          int ileft = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 5)).left;
+          int iright = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 5)).right;
+          Object i = (Object) ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 5)).value;
+          int rdleft = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 4)).left;
+          int rdright = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 4)).right;
+          String rd = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 4)).value;
+          int csrleft = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 2)).left;
+          int csrright = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 2)).right;
+          Integer csr = (Integer) ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 2)).value;
+          int zimmleft = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).left;
+          int zimmright = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
+          Integer zimm = (Integer) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+
+          DebugInfo debug = info(ileft, iright, String.format("csrrsi %s, %s, %d", rd, CSR.name(csr), zimm),
+              parser.filename);
+          if (!Data.inRange(zimm, 0, 31))
+            Errors.add(debug, "assembler", "immediate '" + zimm + "' out of range should be between 0 and 31");
+          // hack to re-use IType Statement, the rs1 field holds the immediate
+          RESULT = new IType("csrrsi", debug, rd, "x" + (zimm & 0x1f), Data.signExtend(csr, 12));
+
+          CUP$Parser$result = parser.getSymbolFactory().newSymbol("IType", 5,
+              ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 5)),
+              ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()), RESULT);
+        }
+          return CUP$Parser$result;
+
+        /* . . . . . . . . . . . . . . . . . . . . */
+        case 88: // IType ::= I_CSRRCI Register Delimiter Csr Delimiter Const
+        {
+          Statement RESULT = null;
+          int ileft = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 5)).left;
+          int iright = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 5)).right;
+          Object i = (Object) ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 5)).value;
+          int rdleft = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 4)).left;
+          int rdright = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 4)).right;
+          String rd = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 4)).value;
+          int csrleft = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 2)).left;
+          int csrright = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 2)).right;
+          Integer csr = (Integer) ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 2)).value;
+          int zimmleft = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).left;
+          int zimmright = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
+          Integer zimm = (Integer) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+
+          DebugInfo debug = info(ileft, iright, String.format("csrrci %s, %s, %d", rd, CSR.name(csr), zimm),
+              parser.filename);
+          if (!Data.inRange(zimm, 0, 31))
+            Errors.add(debug, "assembler", "immediate '" + zimm + "' out of range should be between 0 and 31");
+          // hack to re-use IType Statement, the rs1 field holds the immediate
+          RESULT = new IType("csrrci", debug, rd, "x" + (zimm & 0x1f), Data.signExtend(csr, 12));
+
+          CUP$Parser$result = parser.getSymbolFactory().newSymbol("IType", 5,
+              ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 5)),
+              ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()), RESULT);
+        }
+          return CUP$Parser$result;
+
+        /* . . . . . . . . . . . . . . . . . . . . */
+        case 89: // IType ::= F_FLW FRegister Delimiter Const LPAREN Register RPAREN
         {
           Statement RESULT = null;
           int ileft = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 6)).left;
@@ -2818,9 +3085,9 @@ public class Parser extends java_cup.runtime.lr_parser {
           String rs1 = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 1)).value;
 
           // hack to re-use IType Statement
-          int num = Globals.fregfile.getRegisterNumber(rd);
+          int num = parser.machine.getFregfile().getRegisterNumber(rd);
           RESULT = new IType("flw",
-              info(ileft, iright, String.format("flw %s, %d(%s)", rd, offset, rs1), Assembler.filename), "x" + num, rs1,
+              info(ileft, iright, String.format("flw %s, %d(%s)", rd, offset, rs1), parser.filename), "x" + num, rs1,
               offset);
 
           CUP$Parser$result = parser.getSymbolFactory().newSymbol("IType", 5,
@@ -2830,7 +3097,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           return CUP$Parser$result;
 
         /* . . . . . . . . . . . . . . . . . . . . */
-        case 84: // SType ::= I_SB Register Delimiter Const LPAREN Register RPAREN
+        case 90: // SType ::= I_SB Register Delimiter Const LPAREN Register RPAREN
         {
           Statement RESULT = null;
           int ileft = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 6)).left;
@@ -2846,8 +3113,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           int rs1right = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 1)).right;
           String rs1 = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 1)).value;
           RESULT = new SType("sb",
-              info(ileft, iright, String.format("sb %s, %d(%s)", rs2, offset, rs1), Assembler.filename), rs1, rs2,
-              offset);
+              info(ileft, iright, String.format("sb %s, %d(%s)", rs2, offset, rs1), parser.filename), rs1, rs2, offset);
           CUP$Parser$result = parser.getSymbolFactory().newSymbol("SType", 6,
               ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 6)),
               ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()), RESULT);
@@ -2855,7 +3121,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           return CUP$Parser$result;
 
         /* . . . . . . . . . . . . . . . . . . . . */
-        case 85: // SType ::= I_SH Register Delimiter Const LPAREN Register RPAREN
+        case 91: // SType ::= I_SH Register Delimiter Const LPAREN Register RPAREN
         {
           Statement RESULT = null;
           int ileft = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 6)).left;
@@ -2871,8 +3137,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           int rs1right = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 1)).right;
           String rs1 = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 1)).value;
           RESULT = new SType("sh",
-              info(ileft, iright, String.format("sh %s, %d(%s)", rs2, offset, rs1), Assembler.filename), rs1, rs2,
-              offset);
+              info(ileft, iright, String.format("sh %s, %d(%s)", rs2, offset, rs1), parser.filename), rs1, rs2, offset);
           CUP$Parser$result = parser.getSymbolFactory().newSymbol("SType", 6,
               ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 6)),
               ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()), RESULT);
@@ -2880,7 +3145,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           return CUP$Parser$result;
 
         /* . . . . . . . . . . . . . . . . . . . . */
-        case 86: // SType ::= I_SW Register Delimiter Const LPAREN Register RPAREN
+        case 92: // SType ::= I_SW Register Delimiter Const LPAREN Register RPAREN
         {
           Statement RESULT = null;
           int ileft = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 6)).left;
@@ -2896,8 +3161,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           int rs1right = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 1)).right;
           String rs1 = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 1)).value;
           RESULT = new SType("sw",
-              info(ileft, iright, String.format("sw %s, %d(%s)", rs2, offset, rs1), Assembler.filename), rs1, rs2,
-              offset);
+              info(ileft, iright, String.format("sw %s, %d(%s)", rs2, offset, rs1), parser.filename), rs1, rs2, offset);
           CUP$Parser$result = parser.getSymbolFactory().newSymbol("SType", 6,
               ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 6)),
               ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()), RESULT);
@@ -2905,7 +3169,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           return CUP$Parser$result;
 
         /* . . . . . . . . . . . . . . . . . . . . */
-        case 87: // SType ::= F_FSW FRegister Delimiter Const LPAREN Register RPAREN
+        case 93: // SType ::= F_FSW FRegister Delimiter Const LPAREN Register RPAREN
         {
           Statement RESULT = null;
           int ileft = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 6)).left;
@@ -2922,10 +3186,10 @@ public class Parser extends java_cup.runtime.lr_parser {
           String rs1 = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 1)).value;
 
           // hack to re-use SType Statement
-          int num = Globals.fregfile.getRegisterNumber(rs2);
+          int num = parser.machine.getFregfile().getRegisterNumber(rs2);
           RESULT = new SType("fsw",
-              info(ileft, iright, String.format("fsw %s, %d(%s)", rs2, offset, rs1), Assembler.filename), rs1,
-              "x" + num, offset);
+              info(ileft, iright, String.format("fsw %s, %d(%s)", rs2, offset, rs1), parser.filename), rs1, "x" + num,
+              offset);
 
           CUP$Parser$result = parser.getSymbolFactory().newSymbol("SType", 6,
               ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 6)),
@@ -2934,7 +3198,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           return CUP$Parser$result;
 
         /* . . . . . . . . . . . . . . . . . . . . */
-        case 88: // BType ::= I_BEQ Register Delimiter Register Delimiter Id
+        case 94: // BType ::= I_BEQ Register Delimiter Register Delimiter Id
         {
           Statement RESULT = null;
           int ileft = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 5)).left;
@@ -2949,8 +3213,8 @@ public class Parser extends java_cup.runtime.lr_parser {
           int idleft = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).left;
           int idright = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           String id = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-          RESULT = new BType("beq",
-              info(ileft, iright, String.format("beq %s, %s, %s", rs1, rs2, id), Assembler.filename), rs1, rs2, id);
+          RESULT = new BType("beq", info(ileft, iright, String.format("beq %s, %s, %s", rs1, rs2, id), parser.filename),
+              rs1, rs2, id);
           CUP$Parser$result = parser.getSymbolFactory().newSymbol("BType", 7,
               ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 5)),
               ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()), RESULT);
@@ -2958,7 +3222,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           return CUP$Parser$result;
 
         /* . . . . . . . . . . . . . . . . . . . . */
-        case 89: // BType ::= I_BNE Register Delimiter Register Delimiter Id
+        case 95: // BType ::= I_BNE Register Delimiter Register Delimiter Id
         {
           Statement RESULT = null;
           int ileft = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 5)).left;
@@ -2973,8 +3237,8 @@ public class Parser extends java_cup.runtime.lr_parser {
           int idleft = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).left;
           int idright = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           String id = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-          RESULT = new BType("bne",
-              info(ileft, iright, String.format("bne %s, %s, %s", rs1, rs2, id), Assembler.filename), rs1, rs2, id);
+          RESULT = new BType("bne", info(ileft, iright, String.format("bne %s, %s, %s", rs1, rs2, id), parser.filename),
+              rs1, rs2, id);
           CUP$Parser$result = parser.getSymbolFactory().newSymbol("BType", 7,
               ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 5)),
               ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()), RESULT);
@@ -2982,7 +3246,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           return CUP$Parser$result;
 
         /* . . . . . . . . . . . . . . . . . . . . */
-        case 90: // BType ::= I_BLT Register Delimiter Register Delimiter Id
+        case 96: // BType ::= I_BLT Register Delimiter Register Delimiter Id
         {
           Statement RESULT = null;
           int ileft = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 5)).left;
@@ -2997,8 +3261,8 @@ public class Parser extends java_cup.runtime.lr_parser {
           int idleft = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).left;
           int idright = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           String id = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-          RESULT = new BType("blt",
-              info(ileft, iright, String.format("blt %s, %s, %s", rs1, rs2, id), Assembler.filename), rs1, rs2, id);
+          RESULT = new BType("blt", info(ileft, iright, String.format("blt %s, %s, %s", rs1, rs2, id), parser.filename),
+              rs1, rs2, id);
           CUP$Parser$result = parser.getSymbolFactory().newSymbol("BType", 7,
               ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 5)),
               ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()), RESULT);
@@ -3006,7 +3270,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           return CUP$Parser$result;
 
         /* . . . . . . . . . . . . . . . . . . . . */
-        case 91: // BType ::= I_BGE Register Delimiter Register Delimiter Id
+        case 97: // BType ::= I_BGE Register Delimiter Register Delimiter Id
         {
           Statement RESULT = null;
           int ileft = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 5)).left;
@@ -3021,8 +3285,8 @@ public class Parser extends java_cup.runtime.lr_parser {
           int idleft = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).left;
           int idright = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           String id = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-          RESULT = new BType("bge",
-              info(ileft, iright, String.format("bge %s, %s, %s", rs1, rs2, id), Assembler.filename), rs1, rs2, id);
+          RESULT = new BType("bge", info(ileft, iright, String.format("bge %s, %s, %s", rs1, rs2, id), parser.filename),
+              rs1, rs2, id);
           CUP$Parser$result = parser.getSymbolFactory().newSymbol("BType", 7,
               ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 5)),
               ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()), RESULT);
@@ -3030,7 +3294,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           return CUP$Parser$result;
 
         /* . . . . . . . . . . . . . . . . . . . . */
-        case 92: // BType ::= I_BLTU Register Delimiter Register Delimiter Id
+        case 98: // BType ::= I_BLTU Register Delimiter Register Delimiter Id
         {
           Statement RESULT = null;
           int ileft = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 5)).left;
@@ -3046,7 +3310,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           int idright = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           String id = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
           RESULT = new BType("bltu",
-              info(ileft, iright, String.format("bltu %s, %s, %s", rs1, rs2, id), Assembler.filename), rs1, rs2, id);
+              info(ileft, iright, String.format("bltu %s, %s, %s", rs1, rs2, id), parser.filename), rs1, rs2, id);
           CUP$Parser$result = parser.getSymbolFactory().newSymbol("BType", 7,
               ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 5)),
               ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()), RESULT);
@@ -3054,7 +3318,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           return CUP$Parser$result;
 
         /* . . . . . . . . . . . . . . . . . . . . */
-        case 93: // BType ::= I_BGEU Register Delimiter Register Delimiter Id
+        case 99: // BType ::= I_BGEU Register Delimiter Register Delimiter Id
         {
           Statement RESULT = null;
           int ileft = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 5)).left;
@@ -3070,7 +3334,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           int idright = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           String id = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
           RESULT = new BType("bgeu",
-              info(ileft, iright, String.format("bgeu %s, %s, %s", rs1, rs2, id), Assembler.filename), rs1, rs2, id);
+              info(ileft, iright, String.format("bgeu %s, %s, %s", rs1, rs2, id), parser.filename), rs1, rs2, id);
           CUP$Parser$result = parser.getSymbolFactory().newSymbol("BType", 7,
               ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 5)),
               ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()), RESULT);
@@ -3078,7 +3342,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           return CUP$Parser$result;
 
         /* . . . . . . . . . . . . . . . . . . . . */
-        case 94: // UType ::= I_AUIPC Register Delimiter Const
+        case 100: // UType ::= I_AUIPC Register Delimiter Const
         {
           Statement RESULT = null;
           int ileft = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 3)).left;
@@ -3090,8 +3354,8 @@ public class Parser extends java_cup.runtime.lr_parser {
           int immleft = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).left;
           int immright = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           Integer imm = (Integer) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-          RESULT = new UType("auipc", info(ileft, iright, String.format("auipc %s, %d", rd, imm), Assembler.filename),
-              rd, imm);
+          RESULT = new UType("auipc", info(ileft, iright, String.format("auipc %s, %d", rd, imm), parser.filename), rd,
+              imm);
           CUP$Parser$result = parser.getSymbolFactory().newSymbol("UType", 8,
               ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 3)),
               ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()), RESULT);
@@ -3099,7 +3363,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           return CUP$Parser$result;
 
         /* . . . . . . . . . . . . . . . . . . . . */
-        case 95: // UType ::= I_LUI Register Delimiter Const
+        case 101: // UType ::= I_LUI Register Delimiter Const
         {
           Statement RESULT = null;
           int ileft = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 3)).left;
@@ -3111,7 +3375,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           int immleft = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).left;
           int immright = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           Integer imm = (Integer) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-          RESULT = new UType("lui", info(ileft, iright, String.format("lui %s, %d", rd, imm), Assembler.filename), rd,
+          RESULT = new UType("lui", info(ileft, iright, String.format("lui %s, %d", rd, imm), parser.filename), rd,
               imm);
           CUP$Parser$result = parser.getSymbolFactory().newSymbol("UType", 8,
               ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 3)),
@@ -3120,7 +3384,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           return CUP$Parser$result;
 
         /* . . . . . . . . . . . . . . . . . . . . */
-        case 96: // JType ::= I_JAL Register Delimiter Id
+        case 102: // JType ::= I_JAL Register Delimiter Id
         {
           Statement RESULT = null;
           int ileft = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 3)).left;
@@ -3132,8 +3396,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           int idleft = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).left;
           int idright = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           String id = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-          RESULT = new JType("jal", info(ileft, iright, String.format("jal %s, %s", rd, id), Assembler.filename), rd,
-              id);
+          RESULT = new JType("jal", info(ileft, iright, String.format("jal %s, %s", rd, id), parser.filename), rd, id);
           CUP$Parser$result = parser.getSymbolFactory().newSymbol("JType", 9,
               ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 3)),
               ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()), RESULT);
@@ -3141,7 +3404,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           return CUP$Parser$result;
 
         /* . . . . . . . . . . . . . . . . . . . . */
-        case 97: // PSeudos ::= I_LA Register Delimiter Id
+        case 103: // PSeudos ::= I_LA Register Delimiter Id
         {
           ArrayList<Statement> RESULT = null;
           int ileft = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 3)).left;
@@ -3155,7 +3418,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           String id = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 
           ArrayList<Statement> stmts = new ArrayList<Statement>(2);
-          DebugInfo debug = info(ileft, iright, String.format("la %s, %s", rd, id), Assembler.filename);
+          DebugInfo debug = info(ileft, iright, String.format("la %s, %s", rd, id), parser.filename);
           stmts.add(new UType("auipc", debug, rd, new Relocation(Relocation.PCRELHI, id, debug)));
           stmts.add(new IType("addi", debug, rd, rd, new Relocation(Relocation.PCRELLO, id, debug)));
           RESULT = stmts;
@@ -3167,7 +3430,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           return CUP$Parser$result;
 
         /* . . . . . . . . . . . . . . . . . . . . */
-        case 98: // PSeudos ::= I_LI Register Delimiter Const
+        case 104: // PSeudos ::= I_LI Register Delimiter Const
         {
           ArrayList<Statement> RESULT = null;
           int ileft = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 3)).left;
@@ -3180,7 +3443,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           int immright = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           Integer imm = (Integer) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 
-          DebugInfo debug = info(ileft, iright, String.format("li %s, %d", rd, imm), Assembler.filename);
+          DebugInfo debug = info(ileft, iright, String.format("li %s, %d", rd, imm), parser.filename);
           if (imm > 2047 || imm < -2048) {
             int imm_hi = ((imm >>> 12) + ((imm >>> 11) & 0x1)) & 0x000fffff;
             int imm_lo = Data.signExtend((imm & 0xfff), 12);
@@ -3201,7 +3464,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           return CUP$Parser$result;
 
         /* . . . . . . . . . . . . . . . . . . . . */
-        case 99: // PSeudos ::= I_CALL Id
+        case 105: // PSeudos ::= I_CALL Id
         {
           ArrayList<Statement> RESULT = null;
           int ileft = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 1)).left;
@@ -3211,7 +3474,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           int idright = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           String id = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 
-          DebugInfo debug = info(ileft, iright, "call " + id, Assembler.filename);
+          DebugInfo debug = info(ileft, iright, "call " + id, parser.filename);
           ArrayList<Statement> stmts = new ArrayList<Statement>(2);
           stmts.add(new UType("auipc", debug, "x6", new Relocation(Relocation.PCRELHI, id, debug)));
           stmts.add(new IType("jalr", debug, "x1", "x6", new Relocation(Relocation.PCRELLO, id, debug)));
@@ -3224,7 +3487,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           return CUP$Parser$result;
 
         /* . . . . . . . . . . . . . . . . . . . . */
-        case 100: // PSeudos ::= I_TAIL Id
+        case 106: // PSeudos ::= I_TAIL Id
         {
           ArrayList<Statement> RESULT = null;
           int ileft = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 1)).left;
@@ -3234,7 +3497,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           int idright = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           String id = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 
-          DebugInfo debug = info(ileft, iright, "tail " + id, Assembler.filename);
+          DebugInfo debug = info(ileft, iright, "tail " + id, parser.filename);
           ArrayList<Statement> stmts = new ArrayList<Statement>(2);
           stmts.add(new UType("auipc", debug, "x6", new Relocation(Relocation.PCRELHI, id, debug)));
           stmts.add(new IType("jalr", debug, "x0", "x6", new Relocation(Relocation.PCRELLO, id, debug)));
@@ -3247,7 +3510,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           return CUP$Parser$result;
 
         /* . . . . . . . . . . . . . . . . . . . . */
-        case 101: // PSeudos ::= I_LB Register Delimiter Id
+        case 107: // PSeudos ::= I_LB Register Delimiter Id
         {
           ArrayList<Statement> RESULT = null;
           int ileft = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 3)).left;
@@ -3260,7 +3523,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           int idright = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           String id = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 
-          DebugInfo debug = info(ileft, iright, String.format("lb %s, %s", rd, id), Assembler.filename);
+          DebugInfo debug = info(ileft, iright, String.format("lb %s, %s", rd, id), parser.filename);
           ArrayList<Statement> stmts = new ArrayList<Statement>(2);
           stmts.add(new UType("auipc", debug, rd, new Relocation(Relocation.PCRELHI, id, debug)));
           stmts.add(new IType("lb", debug, rd, rd, new Relocation(Relocation.PCRELLO, id, debug)));
@@ -3273,7 +3536,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           return CUP$Parser$result;
 
         /* . . . . . . . . . . . . . . . . . . . . */
-        case 102: // PSeudos ::= I_LH Register Delimiter Id
+        case 108: // PSeudos ::= I_LH Register Delimiter Id
         {
           ArrayList<Statement> RESULT = null;
           int ileft = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 3)).left;
@@ -3286,7 +3549,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           int idright = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           String id = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 
-          DebugInfo debug = info(ileft, iright, String.format("lh %s, %s", rd, id), Assembler.filename);
+          DebugInfo debug = info(ileft, iright, String.format("lh %s, %s", rd, id), parser.filename);
           ArrayList<Statement> stmts = new ArrayList<Statement>(2);
           stmts.add(new UType("auipc", debug, rd, new Relocation(Relocation.PCRELHI, id, debug)));
           stmts.add(new IType("lh", debug, rd, rd, new Relocation(Relocation.PCRELLO, id, debug)));
@@ -3299,7 +3562,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           return CUP$Parser$result;
 
         /* . . . . . . . . . . . . . . . . . . . . */
-        case 103: // PSeudos ::= I_LW Register Delimiter Id
+        case 109: // PSeudos ::= I_LW Register Delimiter Id
         {
           ArrayList<Statement> RESULT = null;
           int ileft = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 3)).left;
@@ -3312,7 +3575,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           int idright = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           String id = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 
-          DebugInfo debug = info(ileft, iright, String.format("lw %s, %s", rd, id), Assembler.filename);
+          DebugInfo debug = info(ileft, iright, String.format("lw %s, %s", rd, id), parser.filename);
           ArrayList<Statement> stmts = new ArrayList<Statement>(2);
           stmts.add(new UType("auipc", debug, rd, new Relocation(Relocation.PCRELHI, id, debug)));
           stmts.add(new IType("lw", debug, rd, rd, new Relocation(Relocation.PCRELLO, id, debug)));
@@ -3325,7 +3588,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           return CUP$Parser$result;
 
         /* . . . . . . . . . . . . . . . . . . . . */
-        case 104: // PSeudos ::= F_FLW FRegister Delimiter Id Delimiter Register
+        case 110: // PSeudos ::= F_FLW FRegister Delimiter Id Delimiter Register
         {
           ArrayList<Statement> RESULT = null;
           int ileft = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 5)).left;
@@ -3341,10 +3604,10 @@ public class Parser extends java_cup.runtime.lr_parser {
           int rtright = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           String rt = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 
-          DebugInfo debug = info(ileft, iright, String.format("flw %s, %s, %s", rd, id, rt), Assembler.filename);
+          DebugInfo debug = info(ileft, iright, String.format("flw %s, %s, %s", rd, id, rt), parser.filename);
           ArrayList<Statement> stmts = new ArrayList<Statement>(2);
           // hack to re-use IType Statement
-          int num = Globals.fregfile.getRegisterNumber(rd);
+          int num = parser.machine.getFregfile().getRegisterNumber(rd);
           stmts.add(new UType("auipc", debug, rt, new Relocation(Relocation.PCRELHI, id, debug)));
           stmts.add(new IType("flw", debug, "x" + num, rt, new Relocation(Relocation.PCRELLO, id, debug)));
           RESULT = stmts;
@@ -3356,7 +3619,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           return CUP$Parser$result;
 
         /* . . . . . . . . . . . . . . . . . . . . */
-        case 105: // PSeudos ::= I_SB Register Delimiter Id Delimiter Register
+        case 111: // PSeudos ::= I_SB Register Delimiter Id Delimiter Register
         {
           ArrayList<Statement> RESULT = null;
           int ileft = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 5)).left;
@@ -3372,7 +3635,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           int rtright = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           String rt = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 
-          DebugInfo debug = info(ileft, iright, String.format("sb %s, %s, %s", rd, id, rt), Assembler.filename);
+          DebugInfo debug = info(ileft, iright, String.format("sb %s, %s, %s", rd, id, rt), parser.filename);
           ArrayList<Statement> stmts = new ArrayList<Statement>(2);
           stmts.add(new UType("auipc", debug, rt, new Relocation(Relocation.PCRELHI, id, debug)));
           stmts.add(new SType("sb", debug, rt, rd, new Relocation(Relocation.PCRELLO, id, debug)));
@@ -3385,7 +3648,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           return CUP$Parser$result;
 
         /* . . . . . . . . . . . . . . . . . . . . */
-        case 106: // PSeudos ::= I_SH Register Delimiter Id Delimiter Register
+        case 112: // PSeudos ::= I_SH Register Delimiter Id Delimiter Register
         {
           ArrayList<Statement> RESULT = null;
           int ileft = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 5)).left;
@@ -3401,7 +3664,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           int rtright = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           String rt = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 
-          DebugInfo debug = info(ileft, iright, String.format("sb %s, %s, %s", rd, id, rt), Assembler.filename);
+          DebugInfo debug = info(ileft, iright, String.format("sb %s, %s, %s", rd, id, rt), parser.filename);
           ArrayList<Statement> stmts = new ArrayList<Statement>(2);
           stmts.add(new UType("auipc", debug, rt, new Relocation(Relocation.PCRELHI, id, debug)));
           stmts.add(new SType("sh", debug, rt, rd, new Relocation(Relocation.PCRELLO, id, debug)));
@@ -3414,7 +3677,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           return CUP$Parser$result;
 
         /* . . . . . . . . . . . . . . . . . . . . */
-        case 107: // PSeudos ::= I_SW Register Delimiter Id Delimiter Register
+        case 113: // PSeudos ::= I_SW Register Delimiter Id Delimiter Register
         {
           ArrayList<Statement> RESULT = null;
           int ileft = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 5)).left;
@@ -3430,7 +3693,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           int rtright = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           String rt = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 
-          DebugInfo debug = info(ileft, iright, String.format("sb %s, %s, %s", rd, id, rt), Assembler.filename);
+          DebugInfo debug = info(ileft, iright, String.format("sb %s, %s, %s", rd, id, rt), parser.filename);
           ArrayList<Statement> stmts = new ArrayList<Statement>(2);
           stmts.add(new UType("auipc", debug, rt, new Relocation(Relocation.PCRELHI, id, debug)));
           stmts.add(new SType("sw", debug, rt, rd, new Relocation(Relocation.PCRELLO, id, debug)));
@@ -3443,7 +3706,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           return CUP$Parser$result;
 
         /* . . . . . . . . . . . . . . . . . . . . */
-        case 108: // PSeudos ::= F_FSW FRegister Delimiter Id Delimiter Register
+        case 114: // PSeudos ::= F_FSW FRegister Delimiter Id Delimiter Register
         {
           ArrayList<Statement> RESULT = null;
           int ileft = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 5)).left;
@@ -3459,10 +3722,10 @@ public class Parser extends java_cup.runtime.lr_parser {
           int rtright = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           String rt = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 
-          DebugInfo debug = info(ileft, iright, String.format("sb %s, %s, %s", rd, id, rt), Assembler.filename);
+          DebugInfo debug = info(ileft, iright, String.format("sb %s, %s, %s", rd, id, rt), parser.filename);
           ArrayList<Statement> stmts = new ArrayList<Statement>(2);
           // hack to re-use SType Statement
-          int num = Globals.fregfile.getRegisterNumber(rd);
+          int num = parser.machine.getFregfile().getRegisterNumber(rd);
           stmts.add(new UType("auipc", debug, rt, new Relocation(Relocation.PCRELHI, id, debug)));
           stmts.add(new SType("fsw", debug, rt, "x" + num, new Relocation(Relocation.PCRELLO, id, debug)));
           RESULT = stmts;
@@ -3474,7 +3737,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           return CUP$Parser$result;
 
         /* . . . . . . . . . . . . . . . . . . . . */
-        case 109: // PSeudos ::= I_NEG Register Delimiter Register
+        case 115: // PSeudos ::= I_NEG Register Delimiter Register
         {
           ArrayList<Statement> RESULT = null;
           int ileft = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 3)).left;
@@ -3487,7 +3750,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           int rsright = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           String rs = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 
-          DebugInfo debug = info(ileft, iright, String.format("neg %s, %s", rd, rs), Assembler.filename);
+          DebugInfo debug = info(ileft, iright, String.format("neg %s, %s", rd, rs), parser.filename);
           ArrayList<Statement> stmts = new ArrayList<Statement>(1);
           stmts.add(new RType("sub", debug, rd, "x0", rs));
           RESULT = stmts;
@@ -3499,7 +3762,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           return CUP$Parser$result;
 
         /* . . . . . . . . . . . . . . . . . . . . */
-        case 110: // PSeudos ::= I_SNEZ Register Delimiter Register
+        case 116: // PSeudos ::= I_SNEZ Register Delimiter Register
         {
           ArrayList<Statement> RESULT = null;
           int ileft = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 3)).left;
@@ -3512,7 +3775,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           int rsright = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           String rs = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 
-          DebugInfo debug = info(ileft, iright, String.format("snez %s, %s", rd, rs), Assembler.filename);
+          DebugInfo debug = info(ileft, iright, String.format("snez %s, %s", rd, rs), parser.filename);
           ArrayList<Statement> stmts = new ArrayList<Statement>(1);
           stmts.add(new RType("sltu", debug, rd, "x0", rs));
           RESULT = stmts;
@@ -3524,7 +3787,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           return CUP$Parser$result;
 
         /* . . . . . . . . . . . . . . . . . . . . */
-        case 111: // PSeudos ::= I_SLTZ Register Delimiter Register
+        case 117: // PSeudos ::= I_SLTZ Register Delimiter Register
         {
           ArrayList<Statement> RESULT = null;
           int ileft = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 3)).left;
@@ -3537,7 +3800,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           int rsright = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           String rs = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 
-          DebugInfo debug = info(ileft, iright, String.format("sltz %s, %s", rd, rs), Assembler.filename);
+          DebugInfo debug = info(ileft, iright, String.format("sltz %s, %s", rd, rs), parser.filename);
           ArrayList<Statement> stmts = new ArrayList<Statement>(1);
           stmts.add(new RType("slt", debug, rd, rs, "x0"));
           RESULT = stmts;
@@ -3549,7 +3812,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           return CUP$Parser$result;
 
         /* . . . . . . . . . . . . . . . . . . . . */
-        case 112: // PSeudos ::= I_SGTZ Register Delimiter Register
+        case 118: // PSeudos ::= I_SGTZ Register Delimiter Register
         {
           ArrayList<Statement> RESULT = null;
           int ileft = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 3)).left;
@@ -3562,7 +3825,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           int rsright = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           String rs = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 
-          DebugInfo debug = info(ileft, iright, String.format("sgtz %s, %s", rd, rs), Assembler.filename);
+          DebugInfo debug = info(ileft, iright, String.format("sgtz %s, %s", rd, rs), parser.filename);
           ArrayList<Statement> stmts = new ArrayList<Statement>(1);
           stmts.add(new RType("slt", debug, rd, "x0", rs));
           RESULT = stmts;
@@ -3574,7 +3837,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           return CUP$Parser$result;
 
         /* . . . . . . . . . . . . . . . . . . . . */
-        case 113: // PSeudos ::= F_FMVS FRegister Delimiter FRegister
+        case 119: // PSeudos ::= F_FMVS FRegister Delimiter FRegister
         {
           ArrayList<Statement> RESULT = null;
           int ileft = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 3)).left;
@@ -3587,7 +3850,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           int rsright = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           String rs = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 
-          DebugInfo debug = info(ileft, iright, String.format("fmv.s %s, %s", rd, rs), Assembler.filename);
+          DebugInfo debug = info(ileft, iright, String.format("fmv.s %s, %s", rd, rs), parser.filename);
           ArrayList<Statement> stmts = new ArrayList<Statement>(1);
           stmts.add(new FRType("fsgnj.s", debug, rd, rs, rs));
           RESULT = stmts;
@@ -3599,7 +3862,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           return CUP$Parser$result;
 
         /* . . . . . . . . . . . . . . . . . . . . */
-        case 114: // PSeudos ::= F_FABSS FRegister Delimiter FRegister
+        case 120: // PSeudos ::= F_FABSS FRegister Delimiter FRegister
         {
           ArrayList<Statement> RESULT = null;
           int ileft = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 3)).left;
@@ -3612,7 +3875,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           int rsright = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           String rs = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 
-          DebugInfo debug = info(ileft, iright, String.format("fabs.s %s, %s", rd, rs), Assembler.filename);
+          DebugInfo debug = info(ileft, iright, String.format("fabs.s %s, %s", rd, rs), parser.filename);
           ArrayList<Statement> stmts = new ArrayList<Statement>(1);
           stmts.add(new FRType("fsgnjx.s", debug, rd, rs, rs));
           RESULT = stmts;
@@ -3624,7 +3887,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           return CUP$Parser$result;
 
         /* . . . . . . . . . . . . . . . . . . . . */
-        case 115: // PSeudos ::= F_FNEGS FRegister Delimiter FRegister
+        case 121: // PSeudos ::= F_FNEGS FRegister Delimiter FRegister
         {
           ArrayList<Statement> RESULT = null;
           int ileft = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 3)).left;
@@ -3637,7 +3900,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           int rsright = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           String rs = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 
-          DebugInfo debug = info(ileft, iright, String.format("fneg.s %s, %s", rd, rs), Assembler.filename);
+          DebugInfo debug = info(ileft, iright, String.format("fneg.s %s, %s", rd, rs), parser.filename);
           ArrayList<Statement> stmts = new ArrayList<Statement>(1);
           stmts.add(new FRType("fsgnjn.s", debug, rd, rs, rs));
           RESULT = stmts;
@@ -3649,14 +3912,14 @@ public class Parser extends java_cup.runtime.lr_parser {
           return CUP$Parser$result;
 
         /* . . . . . . . . . . . . . . . . . . . . */
-        case 116: // PSeudos ::= I_NOP
+        case 122: // PSeudos ::= I_NOP
         {
           ArrayList<Statement> RESULT = null;
           int ileft = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).left;
           int iright = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           Object i = (Object) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 
-          DebugInfo debug = info(ileft, iright, "nop", Assembler.filename);
+          DebugInfo debug = info(ileft, iright, "nop", parser.filename);
           ArrayList<Statement> stmts = new ArrayList<Statement>(1);
           stmts.add(new IType("addi", debug, "x0", "x0", 0));
           RESULT = stmts;
@@ -3668,7 +3931,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           return CUP$Parser$result;
 
         /* . . . . . . . . . . . . . . . . . . . . */
-        case 117: // PSeudos ::= I_MV Register Delimiter Register
+        case 123: // PSeudos ::= I_MV Register Delimiter Register
         {
           ArrayList<Statement> RESULT = null;
           int ileft = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 3)).left;
@@ -3681,7 +3944,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           int rsright = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           String rs = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 
-          DebugInfo debug = info(ileft, iright, String.format("mv %s, %s", rd, rs), Assembler.filename);
+          DebugInfo debug = info(ileft, iright, String.format("mv %s, %s", rd, rs), parser.filename);
           ArrayList<Statement> stmts = new ArrayList<Statement>(1);
           stmts.add(new IType("addi", debug, rd, rs, 0));
           RESULT = stmts;
@@ -3693,7 +3956,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           return CUP$Parser$result;
 
         /* . . . . . . . . . . . . . . . . . . . . */
-        case 118: // PSeudos ::= I_NOT Register Delimiter Register
+        case 124: // PSeudos ::= I_NOT Register Delimiter Register
         {
           ArrayList<Statement> RESULT = null;
           int ileft = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 3)).left;
@@ -3706,7 +3969,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           int rsright = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           String rs = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 
-          DebugInfo debug = info(ileft, iright, String.format("not %s, %s", rd, rs), Assembler.filename);
+          DebugInfo debug = info(ileft, iright, String.format("not %s, %s", rd, rs), parser.filename);
           ArrayList<Statement> stmts = new ArrayList<Statement>(1);
           stmts.add(new IType("xori", debug, rd, rs, -1));
           RESULT = stmts;
@@ -3718,7 +3981,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           return CUP$Parser$result;
 
         /* . . . . . . . . . . . . . . . . . . . . */
-        case 119: // PSeudos ::= I_SEQZ Register Delimiter Register
+        case 125: // PSeudos ::= I_SEQZ Register Delimiter Register
         {
           ArrayList<Statement> RESULT = null;
           int ileft = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 3)).left;
@@ -3731,7 +3994,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           int rsright = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           String rs = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 
-          DebugInfo debug = info(ileft, iright, String.format("seqz %s, %s", rd, rs), Assembler.filename);
+          DebugInfo debug = info(ileft, iright, String.format("seqz %s, %s", rd, rs), parser.filename);
           ArrayList<Statement> stmts = new ArrayList<Statement>(1);
           stmts.add(new IType("sltiu", debug, rd, rs, 1));
           RESULT = stmts;
@@ -3743,7 +4006,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           return CUP$Parser$result;
 
         /* . . . . . . . . . . . . . . . . . . . . */
-        case 120: // PSeudos ::= I_JR Register
+        case 126: // PSeudos ::= I_JR Register
         {
           ArrayList<Statement> RESULT = null;
           int ileft = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 1)).left;
@@ -3753,7 +4016,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           int rsright = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           String rs = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 
-          DebugInfo debug = info(ileft, iright, String.format("jr %s", rs), Assembler.filename);
+          DebugInfo debug = info(ileft, iright, String.format("jr %s", rs), parser.filename);
           ArrayList<Statement> stmts = new ArrayList<Statement>(1);
           stmts.add(new IType("jalr", debug, "x0", rs, 0));
           RESULT = stmts;
@@ -3765,7 +4028,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           return CUP$Parser$result;
 
         /* . . . . . . . . . . . . . . . . . . . . */
-        case 121: // PSeudos ::= I_JALR Register
+        case 127: // PSeudos ::= I_JALR Register
         {
           ArrayList<Statement> RESULT = null;
           int ileft = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 1)).left;
@@ -3775,7 +4038,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           int rsright = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           String rs = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 
-          DebugInfo debug = info(ileft, iright, String.format("jalr %s", rs), Assembler.filename);
+          DebugInfo debug = info(ileft, iright, String.format("jalr %s", rs), parser.filename);
           ArrayList<Statement> stmts = new ArrayList<Statement>(1);
           stmts.add(new IType("jalr", debug, "x1", rs, 0));
           RESULT = stmts;
@@ -3787,14 +4050,14 @@ public class Parser extends java_cup.runtime.lr_parser {
           return CUP$Parser$result;
 
         /* . . . . . . . . . . . . . . . . . . . . */
-        case 122: // PSeudos ::= I_RET
+        case 128: // PSeudos ::= I_RET
         {
           ArrayList<Statement> RESULT = null;
           int ileft = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).left;
           int iright = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           Object i = (Object) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 
-          DebugInfo debug = info(ileft, iright, "ret", Assembler.filename);
+          DebugInfo debug = info(ileft, iright, "ret", parser.filename);
           ArrayList<Statement> stmts = new ArrayList<Statement>(1);
           stmts.add(new IType("jalr", debug, "x0", "x1", 0));
           RESULT = stmts;
@@ -3806,7 +4069,164 @@ public class Parser extends java_cup.runtime.lr_parser {
           return CUP$Parser$result;
 
         /* . . . . . . . . . . . . . . . . . . . . */
-        case 123: // PSeudos ::= I_BEQZ Register Delimiter Id
+        case 129: // PSeudos ::= I_CSRR Register Delimiter Csr
+        {
+          ArrayList<Statement> RESULT = null;
+          int ileft = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 3)).left;
+          int iright = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 3)).right;
+          Object i = (Object) ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 3)).value;
+          int rdleft = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 2)).left;
+          int rdright = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 2)).right;
+          String rd = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 2)).value;
+          int csrleft = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).left;
+          int csrright = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
+          Integer csr = (Integer) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+
+          DebugInfo debug = info(ileft, iright, String.format("csrr %s, %s", rd, CSR.name(csr)), parser.filename);
+          ArrayList<Statement> stmts = new ArrayList<Statement>(1);
+          stmts.add(new IType("csrrs", debug, rd, "x0", Data.signExtend(csr, 12)));
+          RESULT = stmts;
+
+          CUP$Parser$result = parser.getSymbolFactory().newSymbol("PSeudos", 16,
+              ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 3)),
+              ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()), RESULT);
+        }
+          return CUP$Parser$result;
+
+        /* . . . . . . . . . . . . . . . . . . . . */
+        case 130: // PSeudos ::= I_RDCYCLE Register
+        {
+          ArrayList<Statement> RESULT = null;
+          int ileft = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 1)).left;
+          int iright = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 1)).right;
+          Object i = (Object) ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 1)).value;
+          int rdleft = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).left;
+          int rdright = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
+          String rd = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+
+          DebugInfo debug = info(ileft, iright, String.format("rdcycle %s", rd), parser.filename);
+          ArrayList<Statement> stmts = new ArrayList<Statement>(1);
+          stmts.add(new IType("csrrs", debug, rd, "x0", Data.signExtend(CSR.CYCLE, 12)));
+          RESULT = stmts;
+
+          CUP$Parser$result = parser.getSymbolFactory().newSymbol("PSeudos", 16,
+              ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 1)),
+              ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()), RESULT);
+        }
+          return CUP$Parser$result;
+
+        /* . . . . . . . . . . . . . . . . . . . . */
+        case 131: // PSeudos ::= I_RDCYCLEH Register
+        {
+          ArrayList<Statement> RESULT = null;
+          int ileft = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 1)).left;
+          int iright = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 1)).right;
+          Object i = (Object) ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 1)).value;
+          int rdleft = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).left;
+          int rdright = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
+          String rd = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+
+          DebugInfo debug = info(ileft, iright, String.format("rdcycleh %s", rd), parser.filename);
+          ArrayList<Statement> stmts = new ArrayList<Statement>(1);
+          stmts.add(new IType("csrrs", debug, rd, "x0", Data.signExtend(CSR.CYCLEH, 12)));
+          RESULT = stmts;
+
+          CUP$Parser$result = parser.getSymbolFactory().newSymbol("PSeudos", 16,
+              ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 1)),
+              ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()), RESULT);
+        }
+          return CUP$Parser$result;
+
+        /* . . . . . . . . . . . . . . . . . . . . */
+        case 132: // PSeudos ::= I_RDTIME Register
+        {
+          ArrayList<Statement> RESULT = null;
+          int ileft = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 1)).left;
+          int iright = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 1)).right;
+          Object i = (Object) ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 1)).value;
+          int rdleft = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).left;
+          int rdright = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
+          String rd = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+
+          DebugInfo debug = info(ileft, iright, String.format("rdtime %s", rd), parser.filename);
+          ArrayList<Statement> stmts = new ArrayList<Statement>(1);
+          stmts.add(new IType("csrrs", debug, rd, "x0", Data.signExtend(CSR.TIME, 12)));
+          RESULT = stmts;
+
+          CUP$Parser$result = parser.getSymbolFactory().newSymbol("PSeudos", 16,
+              ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 1)),
+              ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()), RESULT);
+        }
+          return CUP$Parser$result;
+
+        /* . . . . . . . . . . . . . . . . . . . . */
+        case 133: // PSeudos ::= I_RDTIMEH Register
+        {
+          ArrayList<Statement> RESULT = null;
+          int ileft = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 1)).left;
+          int iright = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 1)).right;
+          Object i = (Object) ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 1)).value;
+          int rdleft = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).left;
+          int rdright = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
+          String rd = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+
+          DebugInfo debug = info(ileft, iright, String.format("rdtimeh %s", rd), parser.filename);
+          ArrayList<Statement> stmts = new ArrayList<Statement>(1);
+          stmts.add(new IType("csrrs", debug, rd, "x0", Data.signExtend(CSR.TIMEH, 12)));
+          RESULT = stmts;
+
+          CUP$Parser$result = parser.getSymbolFactory().newSymbol("PSeudos", 16,
+              ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 1)),
+              ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()), RESULT);
+        }
+          return CUP$Parser$result;
+
+        /* . . . . . . . . . . . . . . . . . . . . */
+        case 134: // PSeudos ::= I_RDINSTRET Register
+        {
+          ArrayList<Statement> RESULT = null;
+          int ileft = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 1)).left;
+          int iright = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 1)).right;
+          Object i = (Object) ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 1)).value;
+          int rdleft = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).left;
+          int rdright = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
+          String rd = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+
+          DebugInfo debug = info(ileft, iright, String.format("rdinstret %s", rd), parser.filename);
+          ArrayList<Statement> stmts = new ArrayList<Statement>(1);
+          stmts.add(new IType("csrrs", debug, rd, "x0", Data.signExtend(CSR.INSTRET, 12)));
+          RESULT = stmts;
+
+          CUP$Parser$result = parser.getSymbolFactory().newSymbol("PSeudos", 16,
+              ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 1)),
+              ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()), RESULT);
+        }
+          return CUP$Parser$result;
+
+        /* . . . . . . . . . . . . . . . . . . . . */
+        case 135: // PSeudos ::= I_RDINSTRETH Register
+        {
+          ArrayList<Statement> RESULT = null;
+          int ileft = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 1)).left;
+          int iright = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 1)).right;
+          Object i = (Object) ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 1)).value;
+          int rdleft = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).left;
+          int rdright = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
+          String rd = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+
+          DebugInfo debug = info(ileft, iright, String.format("rdinstreth %s", rd), parser.filename);
+          ArrayList<Statement> stmts = new ArrayList<Statement>(1);
+          stmts.add(new IType("csrrs", debug, rd, "x0", Data.signExtend(CSR.INSTRETH, 12)));
+          RESULT = stmts;
+
+          CUP$Parser$result = parser.getSymbolFactory().newSymbol("PSeudos", 16,
+              ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 1)),
+              ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()), RESULT);
+        }
+          return CUP$Parser$result;
+
+        /* . . . . . . . . . . . . . . . . . . . . */
+        case 136: // PSeudos ::= I_BEQZ Register Delimiter Id
         {
           ArrayList<Statement> RESULT = null;
           int ileft = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 3)).left;
@@ -3819,7 +4239,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           int idright = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           String id = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 
-          DebugInfo debug = info(ileft, iright, String.format("beqz %s, %s", rs, id), Assembler.filename);
+          DebugInfo debug = info(ileft, iright, String.format("beqz %s, %s", rs, id), parser.filename);
           ArrayList<Statement> stmts = new ArrayList<Statement>(1);
           stmts.add(new BType("beq", debug, rs, "x0", id));
           RESULT = stmts;
@@ -3831,7 +4251,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           return CUP$Parser$result;
 
         /* . . . . . . . . . . . . . . . . . . . . */
-        case 124: // PSeudos ::= I_BNEZ Register Delimiter Id
+        case 137: // PSeudos ::= I_BNEZ Register Delimiter Id
         {
           ArrayList<Statement> RESULT = null;
           int ileft = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 3)).left;
@@ -3844,7 +4264,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           int idright = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           String id = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 
-          DebugInfo debug = info(ileft, iright, String.format("bnez %s, %s", rs, id), Assembler.filename);
+          DebugInfo debug = info(ileft, iright, String.format("bnez %s, %s", rs, id), parser.filename);
           ArrayList<Statement> stmts = new ArrayList<Statement>(1);
           stmts.add(new BType("bne", debug, rs, "x0", id));
           RESULT = stmts;
@@ -3856,7 +4276,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           return CUP$Parser$result;
 
         /* . . . . . . . . . . . . . . . . . . . . */
-        case 125: // PSeudos ::= I_BLEZ Register Delimiter Id
+        case 138: // PSeudos ::= I_BLEZ Register Delimiter Id
         {
           ArrayList<Statement> RESULT = null;
           int ileft = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 3)).left;
@@ -3869,7 +4289,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           int idright = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           String id = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 
-          DebugInfo debug = info(ileft, iright, String.format("blez %s, %s", rs, id), Assembler.filename);
+          DebugInfo debug = info(ileft, iright, String.format("blez %s, %s", rs, id), parser.filename);
           ArrayList<Statement> stmts = new ArrayList<Statement>(1);
           stmts.add(new BType("bge", debug, "x0", rs, id));
           RESULT = stmts;
@@ -3881,7 +4301,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           return CUP$Parser$result;
 
         /* . . . . . . . . . . . . . . . . . . . . */
-        case 126: // PSeudos ::= I_BGEZ Register Delimiter Id
+        case 139: // PSeudos ::= I_BGEZ Register Delimiter Id
         {
           ArrayList<Statement> RESULT = null;
           int ileft = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 3)).left;
@@ -3894,7 +4314,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           int idright = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           String id = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 
-          DebugInfo debug = info(ileft, iright, String.format("bgez %s, %s", rs, id), Assembler.filename);
+          DebugInfo debug = info(ileft, iright, String.format("bgez %s, %s", rs, id), parser.filename);
           ArrayList<Statement> stmts = new ArrayList<Statement>(1);
           stmts.add(new BType("bge", debug, rs, "x0", id));
           RESULT = stmts;
@@ -3906,7 +4326,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           return CUP$Parser$result;
 
         /* . . . . . . . . . . . . . . . . . . . . */
-        case 127: // PSeudos ::= I_BLTZ Register Delimiter Id
+        case 140: // PSeudos ::= I_BLTZ Register Delimiter Id
         {
           ArrayList<Statement> RESULT = null;
           int ileft = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 3)).left;
@@ -3919,7 +4339,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           int idright = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           String id = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 
-          DebugInfo debug = info(ileft, iright, String.format("bltz %s, %s", rs, id), Assembler.filename);
+          DebugInfo debug = info(ileft, iright, String.format("bltz %s, %s", rs, id), parser.filename);
           ArrayList<Statement> stmts = new ArrayList<Statement>(1);
           stmts.add(new BType("blt", debug, rs, "x0", id));
           RESULT = stmts;
@@ -3931,7 +4351,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           return CUP$Parser$result;
 
         /* . . . . . . . . . . . . . . . . . . . . */
-        case 128: // PSeudos ::= I_BGTZ Register Delimiter Id
+        case 141: // PSeudos ::= I_BGTZ Register Delimiter Id
         {
           ArrayList<Statement> RESULT = null;
           int ileft = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 3)).left;
@@ -3944,7 +4364,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           int idright = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           String id = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 
-          DebugInfo debug = info(ileft, iright, String.format("bgtz %s, %s", rs, id), Assembler.filename);
+          DebugInfo debug = info(ileft, iright, String.format("bgtz %s, %s", rs, id), parser.filename);
           ArrayList<Statement> stmts = new ArrayList<Statement>(1);
           stmts.add(new BType("blt", debug, "x0", rs, id));
           RESULT = stmts;
@@ -3956,7 +4376,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           return CUP$Parser$result;
 
         /* . . . . . . . . . . . . . . . . . . . . */
-        case 129: // PSeudos ::= I_BGT Register Delimiter Register Delimiter Id
+        case 142: // PSeudos ::= I_BGT Register Delimiter Register Delimiter Id
         {
           ArrayList<Statement> RESULT = null;
           int ileft = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 5)).left;
@@ -3972,7 +4392,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           int idright = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           String id = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 
-          DebugInfo debug = info(ileft, iright, String.format("bgt %s, %s, %s", rs1, rs2, id), Assembler.filename);
+          DebugInfo debug = info(ileft, iright, String.format("bgt %s, %s, %s", rs1, rs2, id), parser.filename);
           ArrayList<Statement> stmts = new ArrayList<Statement>(1);
           stmts.add(new BType("blt", debug, rs2, rs1, id));
           RESULT = stmts;
@@ -3984,7 +4404,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           return CUP$Parser$result;
 
         /* . . . . . . . . . . . . . . . . . . . . */
-        case 130: // PSeudos ::= I_BLE Register Delimiter Register Delimiter Id
+        case 143: // PSeudos ::= I_BLE Register Delimiter Register Delimiter Id
         {
           ArrayList<Statement> RESULT = null;
           int ileft = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 5)).left;
@@ -4000,7 +4420,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           int idright = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           String id = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 
-          DebugInfo debug = info(ileft, iright, String.format("ble %s, %s, %s", rs1, rs2, id), Assembler.filename);
+          DebugInfo debug = info(ileft, iright, String.format("ble %s, %s, %s", rs1, rs2, id), parser.filename);
           ArrayList<Statement> stmts = new ArrayList<Statement>(1);
           stmts.add(new BType("bge", debug, rs2, rs1, id));
           RESULT = stmts;
@@ -4012,7 +4432,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           return CUP$Parser$result;
 
         /* . . . . . . . . . . . . . . . . . . . . */
-        case 131: // PSeudos ::= I_BGTU Register Delimiter Register Delimiter Id
+        case 144: // PSeudos ::= I_BGTU Register Delimiter Register Delimiter Id
         {
           ArrayList<Statement> RESULT = null;
           int ileft = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 5)).left;
@@ -4028,7 +4448,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           int idright = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           String id = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 
-          DebugInfo debug = info(ileft, iright, String.format("bgtu %s, %s, %s", rs1, rs2, id), Assembler.filename);
+          DebugInfo debug = info(ileft, iright, String.format("bgtu %s, %s, %s", rs1, rs2, id), parser.filename);
           ArrayList<Statement> stmts = new ArrayList<Statement>(1);
           stmts.add(new BType("bltu", debug, rs2, rs1, id));
           RESULT = stmts;
@@ -4040,7 +4460,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           return CUP$Parser$result;
 
         /* . . . . . . . . . . . . . . . . . . . . */
-        case 132: // PSeudos ::= I_BLEU Register Delimiter Register Delimiter Id
+        case 145: // PSeudos ::= I_BLEU Register Delimiter Register Delimiter Id
         {
           ArrayList<Statement> RESULT = null;
           int ileft = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 5)).left;
@@ -4056,7 +4476,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           int idright = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           String id = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 
-          DebugInfo debug = info(ileft, iright, String.format("bleu %s, %s, %s", rs1, rs2, id), Assembler.filename);
+          DebugInfo debug = info(ileft, iright, String.format("bleu %s, %s, %s", rs1, rs2, id), parser.filename);
           ArrayList<Statement> stmts = new ArrayList<Statement>(1);
           stmts.add(new BType("bgeu", debug, rs2, rs1, id));
           RESULT = stmts;
@@ -4068,7 +4488,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           return CUP$Parser$result;
 
         /* . . . . . . . . . . . . . . . . . . . . */
-        case 133: // PSeudos ::= I_JAL Id
+        case 146: // PSeudos ::= I_JAL Id
         {
           ArrayList<Statement> RESULT = null;
           int ileft = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 1)).left;
@@ -4078,7 +4498,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           int idright = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           String id = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 
-          DebugInfo debug = info(ileft, iright, String.format("jal %s", id), Assembler.filename);
+          DebugInfo debug = info(ileft, iright, String.format("jal %s", id), parser.filename);
           ArrayList<Statement> stmts = new ArrayList<Statement>(1);
           stmts.add(new JType("jal", debug, "x1", id));
           RESULT = stmts;
@@ -4090,7 +4510,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           return CUP$Parser$result;
 
         /* . . . . . . . . . . . . . . . . . . . . */
-        case 134: // PSeudos ::= I_J Id
+        case 147: // PSeudos ::= I_J Id
         {
           ArrayList<Statement> RESULT = null;
           int ileft = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 1)).left;
@@ -4100,7 +4520,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           int idright = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           String id = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 
-          DebugInfo debug = info(ileft, iright, String.format("j %s", id), Assembler.filename);
+          DebugInfo debug = info(ileft, iright, String.format("j %s", id), parser.filename);
           ArrayList<Statement> stmts = new ArrayList<Statement>(1);
           stmts.add(new JType("jal", debug, "x0", id));
           RESULT = stmts;
@@ -4112,7 +4532,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           return CUP$Parser$result;
 
         /* . . . . . . . . . . . . . . . . . . . . */
-        case 135: // Data ::= D_BYTE DataList
+        case 148: // Data ::= D_BYTE DataList
         {
           Object RESULT = null;
           int modeleft = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 1)).left;
@@ -4122,33 +4542,33 @@ public class Parser extends java_cup.runtime.lr_parser {
           int lright = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           ArrayList<Integer> l = (ArrayList<Integer>) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 
-          if ((Assembler.segment == Segment.DATA) || (Assembler.segment == Segment.RODATA)) {
+          if ((parser.segment == Segment.DATA) || (parser.segment == Segment.RODATA)) {
             for (int i = 0; i < l.size(); i++) {
               int value = l.get(i);
               // lossy conversion ?
               if (!Data.validByte(value)) {
-                String filename = Assembler.program.getFilename();
+                String filename = parser.program.getFilename();
                 if (!Settings.EXTRICT)
                   Message.warning(filename + ":assembler:" + modeleft + ":" + moderight + " lossy conversion to byte: '"
                       + value + "' -> " + (byte) (value & Data.BYTE_MASK));
                 else {
                   String list = l.toString();
                   list = list.substring(1, list.length() - 1);
-                  Errors.add(info(modeleft, moderight, mode + " " + list, Assembler.filename), "assembler",
+                  Errors.add(info(modeleft, moderight, mode + " " + list, parser.filename), "assembler",
                       "lossy conversion to byte: '" + value + "' -> " + (byte) (value & Data.BYTE_MASK));
                 }
               }
               // store byte by byte
               for (int j = 0; j < Data.BYTE_LENGTH; j++) {
                 byte byteVal = (byte) ((value >>> (j * Data.BYTE_LENGTH_BITS)) & Data.BYTE_MASK);
-                Assembler.program.addByte(Assembler.segment, byteVal);
+                parser.program.addByte(parser.segment, byteVal);
               }
             }
           } else {
             String list = l.toString();
             list = list.substring(1, list.length() - 1);
-            Errors.add(info(modeleft, moderight, mode + " " + list, Assembler.filename), "assembler",
-                mode + " directive can not appear in " + Assembler.segment.toString().toLowerCase() + " segment");
+            Errors.add(info(modeleft, moderight, mode + " " + list, parser.filename), "assembler",
+                mode + " directive can not appear in " + parser.segment.toString().toLowerCase() + " segment");
           }
 
           CUP$Parser$result = parser.getSymbolFactory().newSymbol("Data", 13,
@@ -4158,7 +4578,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           return CUP$Parser$result;
 
         /* . . . . . . . . . . . . . . . . . . . . */
-        case 136: // Data ::= D_HALF DataList
+        case 149: // Data ::= D_HALF DataList
         {
           Object RESULT = null;
           int modeleft = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 1)).left;
@@ -4168,32 +4588,32 @@ public class Parser extends java_cup.runtime.lr_parser {
           int lright = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           ArrayList<Integer> l = (ArrayList<Integer>) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 
-          if ((Assembler.segment == Segment.DATA) || (Assembler.segment == Segment.RODATA)) {
+          if ((parser.segment == Segment.DATA) || (parser.segment == Segment.RODATA)) {
             for (int i = 0; i < l.size(); i++) {
               int value = l.get(i);
               if (!Data.validHalf(value)) {
-                String filename = Assembler.program.getFilename();
+                String filename = parser.program.getFilename();
                 if (!Settings.EXTRICT)
                   Message.warning(filename + ":assembler:" + modeleft + ":" + moderight + " lossy conversion to half: '"
                       + value + "' -> " + (short) (value & Data.HALF_MASK));
                 else {
                   String list = l.toString();
                   list = list.substring(1, list.length() - 1);
-                  Errors.add(info(modeleft, moderight, mode + " " + list, Assembler.filename), "assembler",
+                  Errors.add(info(modeleft, moderight, mode + " " + list, parser.filename), "assembler",
                       "lossy conversion to half: '" + value + "' -> " + (short) (value & Data.HALF_MASK));
                 }
               }
               // store byte by byte
               for (int j = 0; j < Data.HALF_LENGTH; j++) {
                 byte byteVal = (byte) ((value >>> (j * Data.BYTE_LENGTH_BITS)) & Data.BYTE_MASK);
-                Assembler.program.addByte(Assembler.segment, byteVal);
+                parser.program.addByte(parser.segment, byteVal);
               }
             }
           } else {
             String list = l.toString();
             list = list.substring(1, list.length() - 1);
-            Errors.add(info(modeleft, moderight, mode + " " + list, Assembler.filename), "assembler",
-                mode + " directive can not appear in " + Assembler.segment.toString().toLowerCase() + " segment");
+            Errors.add(info(modeleft, moderight, mode + " " + list, parser.filename), "assembler",
+                mode + " directive can not appear in " + parser.segment.toString().toLowerCase() + " segment");
           }
 
           CUP$Parser$result = parser.getSymbolFactory().newSymbol("Data", 13,
@@ -4203,7 +4623,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           return CUP$Parser$result;
 
         /* . . . . . . . . . . . . . . . . . . . . */
-        case 137: // Data ::= D_WORD DataList
+        case 150: // Data ::= D_WORD DataList
         {
           Object RESULT = null;
           int modeleft = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 1)).left;
@@ -4213,20 +4633,20 @@ public class Parser extends java_cup.runtime.lr_parser {
           int lright = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           ArrayList<Integer> l = (ArrayList<Integer>) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 
-          if ((Assembler.segment == Segment.DATA) || (Assembler.segment == Segment.RODATA)) {
+          if ((parser.segment == Segment.DATA) || (parser.segment == Segment.RODATA)) {
             for (int i = 0; i < l.size(); i++) {
               int value = l.get(i);
               // store byte by byte
               for (int j = 0; j < Data.WORD_LENGTH; j++) {
                 byte byteVal = (byte) ((value >>> (j * Data.BYTE_LENGTH_BITS)) & Data.BYTE_MASK);
-                Assembler.program.addByte(Assembler.segment, byteVal);
+                parser.program.addByte(parser.segment, byteVal);
               }
             }
           } else {
             String list = l.toString();
             list = list.substring(1, list.length() - 1);
-            Errors.add(info(modeleft, moderight, mode + " " + list, Assembler.filename), "assembler",
-                mode + " directive can not appear in " + Assembler.segment.toString().toLowerCase() + " segment");
+            Errors.add(info(modeleft, moderight, mode + " " + list, parser.filename), "assembler",
+                mode + " directive can not appear in " + parser.segment.toString().toLowerCase() + " segment");
           }
 
           CUP$Parser$result = parser.getSymbolFactory().newSymbol("Data", 13,
@@ -4236,7 +4656,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           return CUP$Parser$result;
 
         /* . . . . . . . . . . . . . . . . . . . . */
-        case 138: // Data ::= D_WORD IdList
+        case 151: // Data ::= D_WORD IdList
         {
           Object RESULT = null;
           int modeleft = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 1)).left;
@@ -4246,15 +4666,15 @@ public class Parser extends java_cup.runtime.lr_parser {
           int lright = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           ArrayList<String> l = (ArrayList<String>) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 
-          if ((Assembler.segment == Segment.DATA) || (Assembler.segment == Segment.RODATA)) {
+          if ((parser.segment == Segment.DATA) || (parser.segment == Segment.RODATA)) {
             for (String id : l)
-              Assembler.program.addRef(Assembler.segment,
-                  new Relocation(Relocation.DEFAULT, id, info(modeleft, moderight, ".word " + l, Assembler.filename)));
+              parser.program.addRef(parser.segment,
+                  new Relocation(Relocation.DEFAULT, id, info(modeleft, moderight, ".word " + l, parser.filename)));
           } else {
             String list = l.toString();
             list = list.substring(1, list.length() - 1);
-            Errors.add(info(modeleft, moderight, mode + " " + list, Assembler.filename), "assembler",
-                mode + " directive can not appear in " + Assembler.segment.toString().toLowerCase() + " segment");
+            Errors.add(info(modeleft, moderight, mode + " " + list, parser.filename), "assembler",
+                mode + " directive can not appear in " + parser.segment.toString().toLowerCase() + " segment");
           }
 
           CUP$Parser$result = parser.getSymbolFactory().newSymbol("Data", 13,
@@ -4264,7 +4684,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           return CUP$Parser$result;
 
         /* . . . . . . . . . . . . . . . . . . . . */
-        case 139: // Data ::= D_ASCIIZ Str
+        case 152: // Data ::= D_ASCIIZ Str
         {
           Object RESULT = null;
           int modeleft = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 1)).left;
@@ -4274,15 +4694,15 @@ public class Parser extends java_cup.runtime.lr_parser {
           int sright = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           String s = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 
-          if ((Assembler.segment == Segment.DATA) || (Assembler.segment == Segment.RODATA)) {
+          if ((parser.segment == Segment.DATA) || (parser.segment == Segment.RODATA)) {
             // scan char by char
             for (int i = 0; i < s.length(); i++)
-              Assembler.program.addByte(Assembler.segment, (byte) s.charAt(i));
+              parser.program.addByte(parser.segment, (byte) s.charAt(i));
             // null terminate string
-            Assembler.program.addByte(Assembler.segment, (byte) 0);
+            parser.program.addByte(parser.segment, (byte) 0);
           } else
-            Errors.add(info(modeleft, moderight, mode + " " + s, Assembler.filename), "assembler",
-                mode + " directive can not appear in " + Assembler.segment.toString().toLowerCase() + " segment");
+            Errors.add(info(modeleft, moderight, mode + " " + s, parser.filename), "assembler",
+                mode + " directive can not appear in " + parser.segment.toString().toLowerCase() + " segment");
 
           CUP$Parser$result = parser.getSymbolFactory().newSymbol("Data", 13,
               ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 1)),
@@ -4291,7 +4711,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           return CUP$Parser$result;
 
         /* . . . . . . . . . . . . . . . . . . . . */
-        case 140: // Data ::= D_ASCII Str
+        case 153: // Data ::= D_ASCII Str
         {
           Object RESULT = null;
           int modeleft = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 1)).left;
@@ -4301,13 +4721,13 @@ public class Parser extends java_cup.runtime.lr_parser {
           int sright = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           String s = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 
-          if ((Assembler.segment == Segment.DATA) || (Assembler.segment == Segment.RODATA)) {
+          if ((parser.segment == Segment.DATA) || (parser.segment == Segment.RODATA)) {
             // scan char by char
             for (int i = 0; i < s.length(); i++)
-              Assembler.program.addByte(Assembler.segment, (byte) s.charAt(i));
+              parser.program.addByte(parser.segment, (byte) s.charAt(i));
           } else
-            Errors.add(info(modeleft, moderight, mode + " " + s, Assembler.filename), "assembler",
-                mode + " directive can not appear in " + Assembler.segment.toString().toLowerCase() + " segment");
+            Errors.add(info(modeleft, moderight, mode + " " + s, parser.filename), "assembler",
+                mode + " directive can not appear in " + parser.segment.toString().toLowerCase() + " segment");
 
           CUP$Parser$result = parser.getSymbolFactory().newSymbol("Data", 13,
               ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 1)),
@@ -4316,7 +4736,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           return CUP$Parser$result;
 
         /* . . . . . . . . . . . . . . . . . . . . */
-        case 141: // Data ::= D_ZERO Number
+        case 154: // Data ::= D_ZERO Number
         {
           Object RESULT = null;
           int modeleft = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 1)).left;
@@ -4327,14 +4747,14 @@ public class Parser extends java_cup.runtime.lr_parser {
           Integer e = (Integer) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 
           if (e > 0) {
-            if (!(Assembler.segment == Segment.TEXT || Assembler.segment == Segment.RODATA))
+            if (!(parser.segment == Segment.TEXT || parser.segment == Segment.RODATA))
               for (int i = 0; i < e; i++)
-                Assembler.program.addByte(Assembler.segment, (byte) 0);
+                parser.program.addByte(parser.segment, (byte) 0);
             else
-              Errors.add(info(modeleft, moderight, ".zero " + e, Assembler.filename), "assembler",
-                  mode + " directive can not appear in " + Assembler.segment.toString().toLowerCase() + " segment");
+              Errors.add(info(modeleft, moderight, ".zero " + e, parser.filename), "assembler",
+                  mode + " directive can not appear in " + parser.segment.toString().toLowerCase() + " segment");
           } else
-            Errors.add(info(eleft, eright, ".zero " + e, Assembler.filename), "assembler",
+            Errors.add(info(eleft, eright, ".zero " + e, parser.filename), "assembler",
                 "invalid " + mode + " argument: '" + e + "', expected value > 0");
 
           CUP$Parser$result = parser.getSymbolFactory().newSymbol("Data", 13,
@@ -4344,7 +4764,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           return CUP$Parser$result;
 
         /* . . . . . . . . . . . . . . . . . . . . */
-        case 142: // Data ::= D_FLOAT FloatList
+        case 155: // Data ::= D_FLOAT FloatList
         {
           Object RESULT = null;
           int modeleft = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 1)).left;
@@ -4354,20 +4774,20 @@ public class Parser extends java_cup.runtime.lr_parser {
           int lright = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           ArrayList<Float> l = (ArrayList<Float>) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 
-          if ((Assembler.segment == Segment.DATA) || (Assembler.segment == Segment.RODATA)) {
+          if ((parser.segment == Segment.DATA) || (parser.segment == Segment.RODATA)) {
             for (int i = 0; i < l.size(); i++) {
               int value = Float.floatToIntBits(l.get(i));
               // store byte by byte
               for (int j = 0; j < Data.WORD_LENGTH; j++) {
                 byte byteVal = (byte) ((value >>> (j * Data.BYTE_LENGTH_BITS)) & Data.BYTE_MASK);
-                Assembler.program.addByte(Assembler.segment, byteVal);
+                parser.program.addByte(parser.segment, byteVal);
               }
             }
           } else {
             String list = l.toString();
             list = list.substring(1, list.length() - 1);
-            Errors.add(info(modeleft, moderight, ".float " + list, Assembler.filename), "assembler",
-                ".float directive can not appear in " + Assembler.segment + " segment");
+            Errors.add(info(modeleft, moderight, ".float " + list, parser.filename), "assembler",
+                ".float directive can not appear in " + parser.segment + " segment");
           }
 
           CUP$Parser$result = parser.getSymbolFactory().newSymbol("Data", 13,
@@ -4377,7 +4797,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           return CUP$Parser$result;
 
         /* . . . . . . . . . . . . . . . . . . . . */
-        case 143: // DataList ::= Const
+        case 156: // DataList ::= Const
         {
           ArrayList<Integer> RESULT = null;
           int cleft = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).left;
@@ -4395,7 +4815,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           return CUP$Parser$result;
 
         /* . . . . . . . . . . . . . . . . . . . . */
-        case 144: // DataList ::= DataList COMMA Const
+        case 157: // DataList ::= DataList COMMA Const
         {
           ArrayList<Integer> RESULT = null;
           int lleft = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 2)).left;
@@ -4416,7 +4836,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           return CUP$Parser$result;
 
         /* . . . . . . . . . . . . . . . . . . . . */
-        case 145: // IdList ::= Id
+        case 158: // IdList ::= Id
         {
           ArrayList<String> RESULT = null;
           int idleft = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).left;
@@ -4434,7 +4854,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           return CUP$Parser$result;
 
         /* . . . . . . . . . . . . . . . . . . . . */
-        case 146: // IdList ::= IdList COMMA Id
+        case 159: // IdList ::= IdList COMMA Id
         {
           ArrayList<String> RESULT = null;
           int lleft = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 2)).left;
@@ -4455,7 +4875,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           return CUP$Parser$result;
 
         /* . . . . . . . . . . . . . . . . . . . . */
-        case 147: // FloatList ::= Float
+        case 160: // FloatList ::= Float
         {
           ArrayList<Float> RESULT = null;
           int fleft = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).left;
@@ -4473,7 +4893,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           return CUP$Parser$result;
 
         /* . . . . . . . . . . . . . . . . . . . . */
-        case 148: // FloatList ::= FloatList COMMA Float
+        case 161: // FloatList ::= FloatList COMMA Float
         {
           ArrayList<Float> RESULT = null;
           int lleft = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 2)).left;
@@ -4494,7 +4914,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           return CUP$Parser$result;
 
         /* . . . . . . . . . . . . . . . . . . . . */
-        case 149: // Directive ::= SectionDir
+        case 162: // Directive ::= SectionDir
         {
           Object RESULT = null;
 
@@ -4505,7 +4925,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           return CUP$Parser$result;
 
         /* . . . . . . . . . . . . . . . . . . . . */
-        case 150: // Directive ::= SymbolDir
+        case 163: // Directive ::= SymbolDir
         {
           Object RESULT = null;
 
@@ -4516,7 +4936,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           return CUP$Parser$result;
 
         /* . . . . . . . . . . . . . . . . . . . . */
-        case 151: // Directive ::= AlignDir
+        case 164: // Directive ::= AlignDir
         {
           Object RESULT = null;
 
@@ -4527,7 +4947,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           return CUP$Parser$result;
 
         /* . . . . . . . . . . . . . . . . . . . . */
-        case 152: // Directive ::= DOT Id
+        case 165: // Directive ::= DOT Id
         {
           Object RESULT = null;
           int ileft = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 1)).left;
@@ -4536,8 +4956,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           int idleft = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).left;
           int idright = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           String id = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-          Errors.add(info(ileft, iright, "." + id, Assembler.filename), "assembler",
-              "invalid directive: '." + id + "'");
+          Errors.add(info(ileft, iright, "." + id, parser.filename), "assembler", "invalid directive: '." + id + "'");
           CUP$Parser$result = parser.getSymbolFactory().newSymbol("Directive", 21,
               ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 1)),
               ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()), RESULT);
@@ -4545,7 +4964,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           return CUP$Parser$result;
 
         /* . . . . . . . . . . . . . . . . . . . . */
-        case 153: // SectionDir ::= D_SECTION Section
+        case 166: // SectionDir ::= D_SECTION Section
         {
           Object RESULT = null;
 
@@ -4556,7 +4975,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           return CUP$Parser$result;
 
         /* . . . . . . . . . . . . . . . . . . . . */
-        case 154: // SectionDir ::= Section
+        case 167: // SectionDir ::= Section
         {
           Object RESULT = null;
 
@@ -4567,13 +4986,13 @@ public class Parser extends java_cup.runtime.lr_parser {
           return CUP$Parser$result;
 
         /* . . . . . . . . . . . . . . . . . . . . */
-        case 155: // Section ::= D_TEXT
+        case 168: // Section ::= D_TEXT
         {
           Object RESULT = null;
           int sleft = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).left;
           int sright = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           Object s = (Object) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-          Assembler.segment = Segment.TEXT;
+          parser.segment = Segment.TEXT;
           CUP$Parser$result = parser.getSymbolFactory().newSymbol("Section", 14,
               ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()), ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()),
               RESULT);
@@ -4581,13 +5000,13 @@ public class Parser extends java_cup.runtime.lr_parser {
           return CUP$Parser$result;
 
         /* . . . . . . . . . . . . . . . . . . . . */
-        case 156: // Section ::= D_DATA
+        case 169: // Section ::= D_DATA
         {
           Object RESULT = null;
           int sleft = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).left;
           int sright = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           Object s = (Object) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-          Assembler.segment = Segment.DATA;
+          parser.segment = Segment.DATA;
           CUP$Parser$result = parser.getSymbolFactory().newSymbol("Section", 14,
               ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()), ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()),
               RESULT);
@@ -4595,13 +5014,13 @@ public class Parser extends java_cup.runtime.lr_parser {
           return CUP$Parser$result;
 
         /* . . . . . . . . . . . . . . . . . . . . */
-        case 157: // Section ::= D_RODATA
+        case 170: // Section ::= D_RODATA
         {
           Object RESULT = null;
           int sleft = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).left;
           int sright = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           Object s = (Object) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-          Assembler.segment = Segment.RODATA;
+          parser.segment = Segment.RODATA;
           CUP$Parser$result = parser.getSymbolFactory().newSymbol("Section", 14,
               ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()), ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()),
               RESULT);
@@ -4609,13 +5028,13 @@ public class Parser extends java_cup.runtime.lr_parser {
           return CUP$Parser$result;
 
         /* . . . . . . . . . . . . . . . . . . . . */
-        case 158: // Section ::= D_BSS
+        case 171: // Section ::= D_BSS
         {
           Object RESULT = null;
           int sleft = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).left;
           int sright = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           Object s = (Object) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-          Assembler.segment = Segment.BSS;
+          parser.segment = Segment.BSS;
           CUP$Parser$result = parser.getSymbolFactory().newSymbol("Section", 14,
               ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()), ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()),
               RESULT);
@@ -4623,7 +5042,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           return CUP$Parser$result;
 
         /* . . . . . . . . . . . . . . . . . . . . */
-        case 159: // SymbolDir ::= D_GLOBL SymList
+        case 172: // SymbolDir ::= D_GLOBL SymList
         {
           Object RESULT = null;
           int dleft = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 1)).left;
@@ -4635,9 +5054,9 @@ public class Parser extends java_cup.runtime.lr_parser {
 
           String list = l.toString();
           list = list.substring(1, list.length() - 1);
-          DebugInfo debug = info(dleft, dright, ".globl " + list, Assembler.filename);
+          DebugInfo debug = info(dleft, dright, ".globl " + list, parser.filename);
           for (String id : l) {
-            if (!Assembler.program.addGlobal(id, debug))
+            if (!parser.program.addGlobal(id, debug))
               Errors.add(debug, "assembler", "label '" + id + "' is already defined as global");
           }
 
@@ -4648,7 +5067,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           return CUP$Parser$result;
 
         /* . . . . . . . . . . . . . . . . . . . . */
-        case 160: // SymList ::= Id
+        case 173: // SymList ::= Id
         {
           ArrayList<String> RESULT = null;
           int idleft = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).left;
@@ -4666,7 +5085,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           return CUP$Parser$result;
 
         /* . . . . . . . . . . . . . . . . . . . . */
-        case 161: // SymList ::= SymList COMMA Id
+        case 174: // SymList ::= SymList COMMA Id
         {
           ArrayList<String> RESULT = null;
           int lleft = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 2)).left;
@@ -4687,7 +5106,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           return CUP$Parser$result;
 
         /* . . . . . . . . . . . . . . . . . . . . */
-        case 162: // AlignDir ::= D_ALIGN Number
+        case 175: // AlignDir ::= D_ALIGN Number
         {
           Object RESULT = null;
           int dleft = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 1)).left;
@@ -4697,14 +5116,14 @@ public class Parser extends java_cup.runtime.lr_parser {
           int eright = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           Integer e = (Integer) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 
-          if (!(Assembler.segment == Segment.TEXT)) {
+          if (!(parser.segment == Segment.TEXT)) {
             if (Data.inRange(e, 0, 2))
-              Assembler.program.align(e);
+              parser.program.align(e);
             else
-              Errors.add(info(eleft, eright, ".align " + e, Assembler.filename), "assembler",
+              Errors.add(info(eleft, eright, ".align " + e, parser.filename), "assembler",
                   "invalid align value: '" + e + "', expected 0 (byte), 1 (half) or 2 (word)");
           } else
-            Errors.add(info(dleft, dright, ".align " + e, Assembler.filename), "assembler",
+            Errors.add(info(dleft, dright, ".align " + e, parser.filename), "assembler",
                 ".align directive currently can not appear in text segment");
 
           CUP$Parser$result = parser.getSymbolFactory().newSymbol("AlignDir", 24,
@@ -4714,7 +5133,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           return CUP$Parser$result;
 
         /* . . . . . . . . . . . . . . . . . . . . */
-        case 163: // AlignDir ::= D_BALIGN Number
+        case 176: // AlignDir ::= D_BALIGN Number
         {
           Object RESULT = null;
           int dleft = ((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top - 1)).left;
@@ -4724,14 +5143,14 @@ public class Parser extends java_cup.runtime.lr_parser {
           int eright = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           Integer e = (Integer) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 
-          if (!(Assembler.segment == Segment.TEXT)) {
+          if (!(parser.segment == Segment.TEXT)) {
             if (e > 0)
-              Assembler.program.balign(e);
+              parser.program.balign(e);
             else
-              Errors.add(info(eleft, eright, ".balign " + e, Assembler.filename), "assembler",
+              Errors.add(info(eleft, eright, ".balign " + e, parser.filename), "assembler",
                   "invalid align value: '" + e + "', expected value > 0");
           } else
-            Errors.add(info(dleft, dright, ".balign " + e, Assembler.filename), "assembler",
+            Errors.add(info(dleft, dright, ".balign " + e, parser.filename), "assembler",
                 ".balign directive can not appear in text segment");
 
           CUP$Parser$result = parser.getSymbolFactory().newSymbol("AlignDir", 24,
@@ -4741,7 +5160,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           return CUP$Parser$result;
 
         /* . . . . . . . . . . . . . . . . . . . . */
-        case 164: // Const ::= Number
+        case 177: // Const ::= Number
         {
           Integer RESULT = null;
           int nleft = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).left;
@@ -4755,7 +5174,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           return CUP$Parser$result;
 
         /* . . . . . . . . . . . . . . . . . . . . */
-        case 165: // Const ::= Character
+        case 178: // Const ::= Character
         {
           Integer RESULT = null;
           int cleft = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).left;
@@ -4769,7 +5188,49 @@ public class Parser extends java_cup.runtime.lr_parser {
           return CUP$Parser$result;
 
         /* . . . . . . . . . . . . . . . . . . . . */
-        case 166: // Id ::= IDENTIFIER
+        case 179: // Csr ::= Id
+        {
+          Integer RESULT = null;
+          int nameleft = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).left;
+          int nameright = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
+          String name = (String) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+
+          RESULT = CSR.number(name);
+          if (RESULT < 0) {
+            Errors.add(info(nameleft, nameright, name, parser.filename), "assembler",
+                "invalid CSR name: '" + name + "'");
+            RESULT = 0;
+          }
+
+          CUP$Parser$result = parser.getSymbolFactory().newSymbol("Csr", 34,
+              ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()), ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()),
+              RESULT);
+        }
+          return CUP$Parser$result;
+
+        /* . . . . . . . . . . . . . . . . . . . . */
+        case 180: // Csr ::= Number
+        {
+          Integer RESULT = null;
+          int nleft = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).left;
+          int nright = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
+          Integer n = (Integer) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+
+          RESULT = n;
+          if (!Data.inRange(n, 0, 0xfff)) {
+            Errors.add(info(nleft, nright, String.valueOf(n), parser.filename), "assembler",
+                "CSR number '" + n + "' out of range should be between 0 and 4095");
+            RESULT = 0;
+          }
+
+          CUP$Parser$result = parser.getSymbolFactory().newSymbol("Csr", 34,
+              ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()), ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()),
+              RESULT);
+        }
+          return CUP$Parser$result;
+
+        /* . . . . . . . . . . . . . . . . . . . . */
+        case 181: // Id ::= IDENTIFIER
         {
           String RESULT = null;
           int idleft = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).left;
@@ -4783,7 +5244,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           return CUP$Parser$result;
 
         /* . . . . . . . . . . . . . . . . . . . . */
-        case 167: // Number ::= NUMBER
+        case 182: // Number ::= NUMBER
         {
           Integer RESULT = null;
           int nleft = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).left;
@@ -4797,7 +5258,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           return CUP$Parser$result;
 
         /* . . . . . . . . . . . . . . . . . . . . */
-        case 168: // Number ::= Hexnum
+        case 183: // Number ::= Hexnum
         {
           Integer RESULT = null;
           int nleft = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).left;
@@ -4811,7 +5272,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           return CUP$Parser$result;
 
         /* . . . . . . . . . . . . . . . . . . . . */
-        case 169: // Number ::= Binary
+        case 184: // Number ::= Binary
         {
           Integer RESULT = null;
           int nleft = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).left;
@@ -4825,7 +5286,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           return CUP$Parser$result;
 
         /* . . . . . . . . . . . . . . . . . . . . */
-        case 170: // Hexnum ::= HEXNUM
+        case 185: // Hexnum ::= HEXNUM
         {
           Integer RESULT = null;
           int nleft = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).left;
@@ -4839,7 +5300,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           return CUP$Parser$result;
 
         /* . . . . . . . . . . . . . . . . . . . . */
-        case 171: // Binary ::= BINARY
+        case 186: // Binary ::= BINARY
         {
           Integer RESULT = null;
           int nleft = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).left;
@@ -4853,63 +5314,63 @@ public class Parser extends java_cup.runtime.lr_parser {
           return CUP$Parser$result;
 
         /* . . . . . . . . . . . . . . . . . . . . */
-        case 172: // Float ::= FLOAT
+        case 187: // Float ::= FLOAT
         {
           Float RESULT = null;
           int fleft = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).left;
           int fright = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           Object f = (Object) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
           RESULT = (float) f;
-          CUP$Parser$result = parser.getSymbolFactory().newSymbol("Float", 34,
+          CUP$Parser$result = parser.getSymbolFactory().newSymbol("Float", 35,
               ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()), ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()),
               RESULT);
         }
           return CUP$Parser$result;
 
         /* . . . . . . . . . . . . . . . . . . . . */
-        case 173: // Float ::= Hexnum
+        case 188: // Float ::= Hexnum
         {
           Float RESULT = null;
           int nleft = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).left;
           int nright = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           Integer n = (Integer) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
           RESULT = Float.intBitsToFloat(n);
-          CUP$Parser$result = parser.getSymbolFactory().newSymbol("Float", 34,
+          CUP$Parser$result = parser.getSymbolFactory().newSymbol("Float", 35,
               ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()), ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()),
               RESULT);
         }
           return CUP$Parser$result;
 
         /* . . . . . . . . . . . . . . . . . . . . */
-        case 174: // Float ::= Binary
+        case 189: // Float ::= Binary
         {
           Float RESULT = null;
           int nleft = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).left;
           int nright = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           Integer n = (Integer) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
           RESULT = Float.intBitsToFloat(n);
-          CUP$Parser$result = parser.getSymbolFactory().newSymbol("Float", 34,
+          CUP$Parser$result = parser.getSymbolFactory().newSymbol("Float", 35,
               ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()), ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()),
               RESULT);
         }
           return CUP$Parser$result;
 
         /* . . . . . . . . . . . . . . . . . . . . */
-        case 175: // Float ::= NUMBER
+        case 190: // Float ::= NUMBER
         {
           Float RESULT = null;
           int nleft = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).left;
           int nright = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).right;
           Object n = (Object) ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
           RESULT = ((Integer) n).floatValue();
-          CUP$Parser$result = parser.getSymbolFactory().newSymbol("Float", 34,
+          CUP$Parser$result = parser.getSymbolFactory().newSymbol("Float", 35,
               ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()), ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()),
               RESULT);
         }
           return CUP$Parser$result;
 
         /* . . . . . . . . . . . . . . . . . . . . */
-        case 176: // Character ::= CHARACTER
+        case 191: // Character ::= CHARACTER
         {
           Integer RESULT = null;
           int cleft = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).left;
@@ -4923,7 +5384,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           return CUP$Parser$result;
 
         /* . . . . . . . . . . . . . . . . . . . . */
-        case 177: // Str ::= STRING
+        case 192: // Str ::= STRING
         {
           String RESULT = null;
           int sleft = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).left;
@@ -4937,7 +5398,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           return CUP$Parser$result;
 
         /* . . . . . . . . . . . . . . . . . . . . */
-        case 178: // Register ::= REGISTER
+        case 193: // Register ::= REGISTER
         {
           String RESULT = null;
           int regleft = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).left;
@@ -4951,7 +5412,7 @@ public class Parser extends java_cup.runtime.lr_parser {
           return CUP$Parser$result;
 
         /* . . . . . . . . . . . . . . . . . . . . */
-        case 179: // FRegister ::= FREGISTER
+        case 194: // FRegister ::= FREGISTER
         {
           String RESULT = null;
           int regleft = ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).left;
@@ -4965,33 +5426,33 @@ public class Parser extends java_cup.runtime.lr_parser {
           return CUP$Parser$result;
 
         /* . . . . . . . . . . . . . . . . . . . . */
-        case 180: // Delimiter ::= COMMA
+        case 195: // Delimiter ::= COMMA
         {
           Object RESULT = null;
 
-          CUP$Parser$result = parser.getSymbolFactory().newSymbol("Delimiter", 35,
+          CUP$Parser$result = parser.getSymbolFactory().newSymbol("Delimiter", 36,
               ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()), ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()),
               RESULT);
         }
           return CUP$Parser$result;
 
         /* . . . . . . . . . . . . . . . . . . . . */
-        case 181: // Delimiter ::= Epsilon
+        case 196: // Delimiter ::= Epsilon
         {
           Object RESULT = null;
 
-          CUP$Parser$result = parser.getSymbolFactory().newSymbol("Delimiter", 35,
+          CUP$Parser$result = parser.getSymbolFactory().newSymbol("Delimiter", 36,
               ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()), ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()),
               RESULT);
         }
           return CUP$Parser$result;
 
         /* . . . . . . . . . . . . . . . . . . . . */
-        case 182: // Epsilon ::=
+        case 197: // Epsilon ::=
         {
           Object RESULT = null;
 
-          CUP$Parser$result = parser.getSymbolFactory().newSymbol("Epsilon", 36,
+          CUP$Parser$result = parser.getSymbolFactory().newSymbol("Epsilon", 37,
               ((java_cup.runtime.Symbol) CUP$Parser$stack.peek()), RESULT);
         }
           return CUP$Parser$result;
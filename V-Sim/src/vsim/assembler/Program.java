@@ -20,7 +20,7 @@ package vsim.assembler;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Set;
-import vsim.Globals;
+import vsim.Machine;
 import vsim.assembler.statements.Statement;
 import vsim.linker.Relocation;
 import vsim.utils.Data;
@@ -112,8 +112,10 @@ public final class Program {
 
   /**
    * This method is used to relocate all local and global symbols of this program.
+   *
+   * @param machine machine whose global symbol table is updated
    */
-  public void relocateSymbols() {
+  public void relocateSymbols(Machine machine) {
     // first locals
     for (String label : this.table.labels()) {
       Symbol sym = this.table.getSymbol(label);
@@ -135,22 +137,24 @@ public final class Program {
     }
     // then globals
     for (String global : this.globals.keySet())
-      Globals.globl.set(global, this.table.get(global));
+      machine.getGlobl().set(global, this.table.get(global));
   }
 
   /**
    * This method stores the references in the specific segments.
+   *
+   * @param machine machine where the references are stored
    */
-  public void storeRefs() {
+  public void storeRefs(Machine machine) {
     // data segment
     for (Integer index : this.dataAddr.keySet()) {
       Relocation ref = this.dataAddr.get(index);
-      Globals.memory.privStoreWord(index + this.dataStart, ref.getTargetAddress());
+      machine.getMemory().privStoreWord(index + this.dataStart, ref.getTargetAddress(machine));
     }
     // rodata segment
     for (Integer index : this.rodataAddr.keySet()) {
       Relocation ref = this.rodataAddr.get(index);
-      Globals.memory.privStoreWord(index + this.rodataStart, ref.getTargetAddress());
+      machine.getMemory().privStoreWord(index + this.rodataStart, ref.getTargetAddress(machine));
     }
   }
 
@@ -19,6 +19,7 @@ package vsim.assembler.statements;
 
 import vsim.Errors;
 import vsim.Globals;
+import vsim.Machine;
 import vsim.assembler.DebugInfo;
 import vsim.linker.Relocation;
 import vsim.riscv.instructions.Instruction;
@@ -66,20 +67,20 @@ public final class BType extends Statement {
    * {@inheritDoc}
    */
   @Override
-  public void resolve() {
-    this.offset.resolve(0);
+  public void resolve(Machine machine) {
+    this.offset.resolve(machine, 0);
   }
 
   /**
    * {@inheritDoc}
    */
   @Override
-  public void build(int pc) {
-    int imm = this.offset.resolve(pc);
+  public void build(Machine machine, int pc) {
+    int imm = this.offset.resolve(machine, pc);
     if (Data.inRange(imm, BType.MIN_VAL, BType.MAX_VAL)) {
       Instruction inst = Globals.iset.get(this.mnemonic);
-      int rs1 = Globals.regfile.getRegisterNumber(this.rs1);
-      int rs2 = Globals.regfile.getRegisterNumber(this.rs2);
+      int rs1 = machine.getRegfile().getRegisterNumber(this.rs1);
+      int rs2 = machine.getRegfile().getRegisterNumber(this.rs2);
       int opcode = inst.getOpCode();
       int funct3 = inst.getFunct3();
       this.code.set(InstructionField.RS1, rs1);
@@ -19,6 +19,7 @@ package vsim.assembler.statements;
 
 import vsim.Errors;
 import vsim.Globals;
+import vsim.Machine;
 import vsim.assembler.DebugInfo;
 import vsim.linker.Relocation;
 import vsim.riscv.instructions.Instruction;
@@ -63,27 +64,27 @@ public class IType extends Statement {
    * {@inheritDoc}
    */
   @Override
-  public void resolve() {
+  public void resolve(Machine machine) {
     if (this.imm instanceof Relocation)
-      ((Relocation) this.imm).resolve(0);
+      ((Relocation) this.imm).resolve(machine, 0);
   }
 
   /**
    * {@inheritDoc}
    */
   @Override
-  public void build(int pc) {
+  public void build(Machine machine, int pc) {
     int imm;
     // get imm
     if (this.imm instanceof Relocation)
-      imm = ((Relocation) this.imm).resolve(pc);
+      imm = ((Relocation) this.imm).resolve(machine, pc);
     else
       imm = (int) this.imm;
     // check range
     if (Data.inRange(imm, IType.MIN_VAL, IType.MAX_VAL)) {
       Instruction inst = Globals.iset.get(this.mnemonic);
-      int rd = Globals.regfile.getRegisterNumber(this.rd);
-      int rs1 = Globals.regfile.getRegisterNumber(this.rs1);
+      int rd = machine.getRegfile().getRegisterNumber(this.rd);
+      int rs1 = machine.getRegfile().getRegisterNumber(this.rs1);
       int opcode = inst.getOpCode();
       int funct3 = inst.getFunct3();
       this.code.set(InstructionField.RD, rd);
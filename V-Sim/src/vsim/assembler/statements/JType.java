@@ -19,6 +19,7 @@ package vsim.assembler.statements;
 
 import vsim.Errors;
 import vsim.Globals;
+import vsim.Machine;
 import vsim.assembler.DebugInfo;
 import vsim.linker.Relocation;
 import vsim.riscv.instructions.Instruction;
@@ -62,20 +63,20 @@ public final class JType extends Statement {
    * {@inheritDoc}
    */
   @Override
-  public void resolve() {
-    this.target.resolve(0);
+  public void resolve(Machine machine) {
+    this.target.resolve(machine, 0);
   }
 
   /**
    * {@inheritDoc}
    */
   @Override
-  public void build(int pc) {
-    int imm = this.target.resolve(pc);
+  public void build(Machine machine, int pc) {
+    int imm = this.target.resolve(machine, pc);
     if (Data.inRange(imm, JType.MIN_VAL, JType.MAX_VAL)) {
       Instruction inst = Globals.iset.get(this.mnemonic);
       int opcode = inst.getOpCode();
-      int rd = Globals.regfile.getRegisterNumber(this.rd);
+      int rd = machine.getRegfile().getRegisterNumber(this.rd);
       this.code.set(InstructionField.IMM_20, imm >>> 20);
       this.code.set(InstructionField.IMM_10_1, imm >>> 1);
       this.code.set(InstructionField.IMM_19_12, imm >>> 12);
@@ -18,6 +18,7 @@ along with this program.  If not, see <https://www.gnu.org/licenses/>
 package vsim.assembler.statements;
 
 import vsim.Globals;
+import vsim.Machine;
 import vsim.assembler.DebugInfo;
 import vsim.riscv.instructions.Instruction;
 import vsim.riscv.instructions.InstructionField;
@@ -59,7 +60,7 @@ public final class R4Type extends Statement {
    * {@inheritDoc}
    */
   @Override
-  public void resolve() {
+  public void resolve(Machine machine) {
     /* DO NOTHING */
   }
 
@@ -67,12 +68,12 @@ public final class R4Type extends Statement {
    * {@inheritDoc}
    */
   @Override
-  public void build(int pc) {
+  public void build(Machine machine, int pc) {
     Instruction inst = Globals.iset.get(this.mnemonic);
-    int rd = Globals.fregfile.getRegisterNumber(this.rd);
-    int rs1 = Globals.fregfile.getRegisterNumber(this.rs1);
-    int rs2 = Globals.fregfile.getRegisterNumber(this.rs2);
-    int rs3 = Globals.fregfile.getRegisterNumber(this.rs3);
+    int rd = machine.getFregfile().getRegisterNumber(this.rd);
+    int rs1 = machine.getFregfile().getRegisterNumber(this.rs1);
+    int rs2 = machine.getFregfile().getRegisterNumber(this.rs2);
+    int rs3 = machine.getFregfile().getRegisterNumber(this.rs3);
     int opcode = inst.getOpCode();
     this.code.set(InstructionField.RD, rd);
     this.code.set(InstructionField.FMT, 0b00);
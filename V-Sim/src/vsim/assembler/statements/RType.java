@@ -18,6 +18,7 @@ along with this program.  If not, see <https://www.gnu.org/licenses/>
 package vsim.assembler.statements;
 
 import vsim.Globals;
+import vsim.Machine;
 import vsim.assembler.DebugInfo;
 import vsim.riscv.instructions.Instruction;
 import vsim.riscv.instructions.InstructionField;
@@ -55,7 +56,7 @@ public final class RType extends Statement {
    * {@inheritDoc}
    */
   @Override
-  public void resolve() {
+  public void resolve(Machine machine) {
     /* DO NOTHING */
   }
 
@@ -63,11 +64,11 @@ public final class RType extends Statement {
    * {@inheritDoc}
    */
   @Override
-  public void build(int pc) {
+  public void build(Machine machine, int pc) {
     Instruction inst = Globals.iset.get(this.mnemonic);
-    int rd = Globals.regfile.getRegisterNumber(this.rd);
-    int rs1 = Globals.regfile.getRegisterNumber(this.rs1);
-    int rs2 = Globals.regfile.getRegisterNumber(this.rs2);
+    int rd = machine.getRegfile().getRegisterNumber(this.rd);
+    int rs1 = machine.getRegfile().getRegisterNumber(this.rs1);
+    int rs2 = machine.getRegfile().getRegisterNumber(this.rs2);
     int opcode = inst.getOpCode();
     int funct3 = inst.getFunct3();
     int funct7 = inst.getFunct7();
@@ -19,6 +19,7 @@ package vsim.assembler.statements;
 
 import vsim.Errors;
 import vsim.Globals;
+import vsim.Machine;
 import vsim.assembler.DebugInfo;
 import vsim.riscv.instructions.Instruction;
 import vsim.riscv.instructions.InstructionField;
@@ -62,7 +63,7 @@ public final class Shift extends Statement {
    * {@inheritDoc}
    */
   @Override
-  public void resolve() {
+  public void resolve(Machine machine) {
     /* DO NOTHING */
   }
 
@@ -70,12 +71,12 @@ public final class Shift extends Statement {
    * {@inheritDoc}
    */
   @Override
-  public void build(int pc) {
+  public void build(Machine machine, int pc) {
     // check range
     if (Data.inRange(this.shamt, Shift.MIN_VAL, Shift.MAX_VAL)) {
       Instruction inst = Globals.iset.get(this.mnemonic);
-      int rd = Globals.regfile.getRegisterNumber(this.rd);
-      int rs1 = Globals.regfile.getRegisterNumber(this.rs1);
+      int rd = machine.getRegfile().getRegisterNumber(this.rd);
+      int rs1 = machine.getRegfile().getRegisterNumber(this.rs1);
       int opcode = inst.getOpCode();
       int funct3 = inst.getFunct3();
       int funct7 = inst.getFunct7();
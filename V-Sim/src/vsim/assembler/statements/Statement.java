@@ -17,6 +17,7 @@ along with this program.  If not, see <https://www.gnu.org/licenses/>
 
 package vsim.assembler.statements;
 
+import vsim.Machine;
 import vsim.assembler.DebugInfo;
 import vsim.riscv.instructions.MachineCode;
 
@@ -48,16 +49,18 @@ public abstract class Statement {
   /**
    * This method tries to resolve all the relocation expansions (if any).
    *
+   * @param machine machine whose symbol tables are used
    * @see vsim.linker.Relocation
    */
-  public abstract void resolve();
+  public abstract void resolve(Machine machine);
 
   /**
    * This method tries to build the machine code that represents the statement.
    *
+   * @param machine machine whose symbol tables are used
    * @param pc current program counter value
    */
-  public abstract void build(int pc);
+  public abstract void build(Machine machine, int pc);
 
   /**
    * This method returns the machine code that represents the statement.
@@ -19,6 +19,7 @@ package vsim.assembler.statements;
 
 import vsim.Errors;
 import vsim.Globals;
+import vsim.Machine;
 import vsim.assembler.DebugInfo;
 import vsim.linker.Relocation;
 import vsim.riscv.instructions.Instruction;
@@ -59,26 +60,26 @@ public final class UType extends Statement {
    * {@inheritDoc}
    */
   @Override
-  public void resolve() {
+  public void resolve(Machine machine) {
     if (this.imm instanceof Relocation)
-      ((Relocation) this.imm).resolve(0);
+      ((Relocation) this.imm).resolve(machine, 0);
   }
 
   /**
    * {@inheritDoc}
    */
   @Override
-  public void build(int pc) {
+  public void build(Machine machine, int pc) {
     int imm;
     // get imm
     if (this.imm instanceof Relocation)
-      imm = ((Relocation) this.imm).resolve(pc);
+      imm = ((Relocation) this.imm).resolve(machine, pc);
     else
       imm = (int) this.imm;
     // check range
     if (Data.inRange(imm, UType.MIN_VAL, UType.MAX_VAL)) {
       Instruction inst = Globals.iset.get(this.mnemonic);
-      int rd = Globals.regfile.getRegisterNumber(this.rd);
+      int rd = machine.getRegfile().getRegisterNumber(this.rd);
       int opcode = inst.getOpCode();
       this.code.set(InstructionField.RD, rd);
       this.code.set(InstructionField.OPCODE, opcode);
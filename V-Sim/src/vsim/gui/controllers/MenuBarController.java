@@ -79,6 +79,10 @@ public class MenuBarController {
   @FXML private MenuItem go;
   /** Run menu step option */
   @FXML private MenuItem step;
+  /** Run menu step over option */
+  @FXML private MenuItem next;
+  /** Run menu step out option */
+  @FXML private MenuItem finish;
   /** Run menu backstep option */
   @FXML private MenuItem backstep;
   /** Run menu reset option */
@@ -144,6 +148,8 @@ public class MenuBarController {
     ReadOnlyBooleanProperty editorSelected = this.mainController.editorTab.selectedProperty();
     this.go.disableProperty().bind(Bindings.or(Status.RUNNING, Bindings.or(editorSelected, Status.EXIT)));
     this.step.disableProperty().bind(Bindings.or(Status.RUNNING, Bindings.or(editorSelected, Status.EXIT)));
+    this.next.disableProperty().bind(Bindings.or(Status.RUNNING, Bindings.or(editorSelected, Status.EXIT)));
+    this.finish.disableProperty().bind(Bindings.or(Status.RUNNING, Bindings.or(editorSelected, Status.EXIT)));
     this.backstep.disableProperty()
         .bind(Bindings.or(Status.EMPTY, Bindings.or(Status.RUNNING, Bindings.or(editorSelected, Status.EXIT))));
     this.reset.disableProperty().bind(Bindings.or(Status.EMPTY, Bindings.or(Status.RUNNING, editorSelected)));
@@ -279,6 +285,16 @@ public class MenuBarController {
     this.mainController.simulatorController.step();
   }
 
+  @FXML
+  protected void next(ActionEvent e) {
+    this.mainController.simulatorController.next();
+  }
+
+  @FXML
+  protected void finish(ActionEvent e) {
+    this.mainController.simulatorController.finish();
+  }
+
   @FXML
   protected void backstep(ActionEvent e) {
     this.mainController.simulatorController.backstep();
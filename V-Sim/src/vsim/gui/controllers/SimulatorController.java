@@ -46,6 +46,7 @@ import com.jfoenix.controls.JFXButton;
 import com.jfoenix.controls.JFXTabPane;
 import com.sun.javafx.scene.control.skin.TableViewSkin;
 import com.sun.javafx.scene.control.skin.VirtualFlow;
+import vsim.Errors;
 import vsim.Globals;
 import vsim.Settings;
 import vsim.assembler.Assembler;
@@ -59,6 +60,7 @@ import vsim.linker.InfoStatement;
 import vsim.linker.LinkedProgram;
 import vsim.linker.Linker;
 import vsim.riscv.MemorySegments;
+import vsim.riscv.hardware.Memory;
 import vsim.riscv.hardware.MemoryCell;
 import vsim.riscv.hardware.Register;
 import vsim.simulator.Debugger;
@@ -80,6 +82,10 @@ public class SimulatorController {
   @FXML protected JFXButton stopBtn;
   /** Simulator step button */
   @FXML protected JFXButton stepBtn;
+  /** Simulator step over button */
+  @FXML protected JFXButton nextBtn;
+  /** Simulator step out button */
+  @FXML protected JFXButton finishBtn;
   /** Simulator backstep button */
   @FXML protected JFXButton backstepBtn;
   /** Simulator reset button */
@@ -190,7 +196,8 @@ public class SimulatorController {
   protected void assemble() {
     // reset simulator state
     Status.reset();
-    Globals.reset();
+    Errors.clear();
+    Globals.machine.reset();
     this.mainController.loading(true);
     this.debugger = null;
     this.textTable.getItems().clear();
@@ -222,23 +229,23 @@ public class SimulatorController {
         String assembling = files.toString();
         Message.log("assemble: assembling " + assembling.substring(1, assembling.length() - 1)
             + System.getProperty("line.separator"));
-        LinkedProgram program = Linker.link(Assembler.assemble(files));
+        LinkedProgram program = Linker.link(Globals.machine, Assembler.assemble(Globals.machine, files));
         if (program != null) {
-          program.reset();
-          this.debugger = new Debugger(program);
+          program.reset(Globals.machine);
+          this.debugger = new Debugger(Globals.machine, program);
           ObservableList<InfoStatement> stmts = program.getInfoStatements();
           for (InfoStatement stmt : stmts)
             stmt.breakpointProperty().addListener((e, oldVal, newVal) -> this.breakpoint(newVal, stmt));
           // update text table view
           this.textTable.setItems(stmts);
           // update symbol table table view
-          ArrayList<String> symFiles = new ArrayList<String>(Globals.local.keySet());
+          ArrayList<String> symFiles = new ArrayList<String>(Globals.machine.getLocal().keySet());
           Collections.sort(symFiles);
           for (String file : symFiles) {
             this.STTable.getItems().add(new SymbolInfo(file, -1, true));
             ArrayList<SymbolInfo> symbols = new ArrayList<SymbolInfo>();
-            for (String name : Globals.local.get(file).labels())
-              symbols.add(new SymbolInfo(name, Globals.local.get(file).get(name), false));
+            for (String name : Globals.machine.getLocal().get(file).labels())
+              symbols.add(new SymbolInfo(name, Globals.machine.getLocal().get(file).get(name), false));
             Collections.sort(symbols);
             symbols.forEach(e -> this.STTable.getItems().add(e));
           }
@@ -275,6 +282,25 @@ public class SimulatorController {
 
   /** Go simulator control, runs all the program. */
   protected void go() {
+    this.run(() -> this.debugger.go());
+  }
+
+  /** Step over simulator control, steps the program stepping over calls. */
+  protected void next() {
+    this.run(() -> this.debugger.next());
+  }
+
+  /** Step out simulator control, runs the program until the current function returns. */
+  protected void finish() {
+    this.run(() -> this.debugger.finish());
+  }
+
+  /**
+   * Runs a debugger action in a background task that can be stopped by the user.
+   *
+   * @param action debugger action
+   */
+  private void run(Runnable action) {
     Status.STOPPED.set(false);
     this.goTask = new Task<Boolean>() {
 
@@ -283,8 +309,7 @@ public class SimulatorController {
         Status.RUNNING.set(true);
         mainController.loading(true);
         refreshTables();
-        while (!this.isCancelled() && debugger.step(true))
-          ;
+        action.run();
         Status.RUNNING.set(false);
         mainController.loading(false);
         refreshTables();
@@ -301,6 +326,7 @@ public class SimulatorController {
   /** Stop simulator control, stops program execution. */
   protected void stop() {
     Status.STOPPED.set(true);
+    this.debugger.stop();
     this.goTask.cancel();
   }
 
@@ -314,6 +340,7 @@ public class SimulatorController {
         mainController.loading(true);
         debugger.step(false);
         mainController.loading(false);
+        refreshTables();
         return true;
       }
     });
@@ -324,6 +351,7 @@ public class SimulatorController {
   /** Backstep flow control, goes back to the previous step. */
   protected void backstep() {
     this.debugger.backstep();
+    this.refreshTables();
   }
 
   /** Resets all the simulator state and starts again. */
@@ -356,7 +384,7 @@ public class SimulatorController {
     chooser.setTitle("Dump Static Data To File");
     File file = chooser.showSaveDialog(this.mainController.stage);
     if (file != null)
-      Linker.dumpData(file);
+      Linker.dumpData(Globals.machine, file);
   }
 
   /** Shows Symbol Table tab if SHOW_LABELS setting is set to true. */
@@ -400,9 +428,11 @@ public class SimulatorController {
     Platform.runLater(() -> this.textTable.refresh());
   }
 
-  /** Refreshes all simulator tables views. */
+  /** Synchronizes register views and refreshes all simulator tables views. */
   private void refreshTables() {
     Platform.runLater(() -> {
+      Globals.machine.getRegfile().sync();
+      Globals.machine.getFregfile().sync();
       this.textTable.refresh();
       this.rviTable.refresh();
       this.rvfTable.refresh();
@@ -495,7 +525,7 @@ public class SimulatorController {
     String newValue = t.getNewValue().trim();
     // convert input to an integer value
     try {
-      Globals.memory.storeByte(cell.getIntAddress() + offset, Data.parseInt(newValue));
+      Globals.machine.getMemory().storeByte(cell.getIntAddress() + offset, Data.parseInt(newValue));
     } catch (Exception e) {
       Message.warning("invalid memory cell value: " + newValue);
     }
@@ -514,12 +544,15 @@ public class SimulatorController {
     // get user input
     String newValue = t.getNewValue().trim();
     try {
-      reg.setValue(Data.parseInt(newValue));
+      Globals.machine.getRegfile().setRegister(reg.getNumber(), Data.parseInt(newValue));
     } catch (Exception e) {
       Message.warning("invalid register value: " + newValue);
     }
     // always refresh table
-    Platform.runLater(() -> this.rviTable.refresh());
+    Platform.runLater(() -> {
+      Globals.machine.getRegfile().sync();
+      this.rviTable.refresh();
+    });
   }
 
   /**
@@ -533,11 +566,14 @@ public class SimulatorController {
     // get user input
     String newValue = t.getNewValue().trim();
     try {
-      reg.setValue(Float.floatToIntBits(Data.parseFloat(newValue)));
+      Globals.machine.getFregfile().setRegister(reg.getNumber(), Data.parseFloat(newValue));
     } catch (Exception e) {
       Message.warning("invalid register value: " + newValue);
     }
-    Platform.runLater(() -> this.rvfTable.refresh());
+    Platform.runLater(() -> {
+      Globals.machine.getFregfile().sync();
+      this.rvfTable.refresh();
+    });
   }
 
   /*-------------------------------------------------------*
@@ -552,6 +588,10 @@ public class SimulatorController {
     this.stopBtn.disableProperty().bind(Bindings.not(Status.RUNNING));
     this.stepBtn.setOnAction(e -> this.step());
     this.stepBtn.disableProperty().bind(Bindings.or(Status.EXIT, Status.RUNNING));
+    this.nextBtn.setOnAction(e -> this.next());
+    this.nextBtn.disableProperty().bind(Bindings.or(Status.EXIT, Status.RUNNING));
+    this.finishBtn.setOnAction(e -> this.finish());
+    this.finishBtn.disableProperty().bind(Bindings.or(Status.EXIT, Status.RUNNING));
     this.backstepBtn.setOnAction(e -> this.backstep());
     this.backstepBtn.disableProperty().bind(Bindings.or(Status.EMPTY, Bindings.or(Status.EXIT, Status.RUNNING)));
     this.resetBtn.setOnAction(e -> this.reset());
@@ -567,12 +607,13 @@ public class SimulatorController {
   private void initText() {
     this.textTable.getStyleClass().add("text-table");
     // PC current row
-    Globals.regfile.programCounterProperty().addListener(e -> {
+    Globals.machine.getRegfile().programCounterProperty().addListener(e -> {
       if (!Status.RUNNING.get()) {
         Platform.runLater(() -> {
           // refresh table to fire updateItem in table row
           this.textTable.refresh();
-          int pc = (Globals.regfile.getProgramCounter() - MemorySegments.TEXT_SEGMENT_BEGIN) / Data.WORD_LENGTH;
+          int pc = Globals.machine.getRegfile().getProgramCounter();
+          pc = (pc - MemorySegments.TEXT_SEGMENT_BEGIN) / Data.WORD_LENGTH;
           int row = Math.min(pc, this.textTable.getItems().size() - 1);
           VirtualFlow<?> vflow = (VirtualFlow<?>) ((TableViewSkin<?>) this.textTable.getSkin()).getChildren().get(1);
           if (vflow != null) {
@@ -597,7 +638,7 @@ public class SimulatorController {
             return;
           }
           String address = stmt.getAddress();
-          String pc = String.format("0x%08x", Globals.regfile.getProgramCounter());
+          String pc = String.format("0x%08x", Globals.machine.getRegfile().getProgramCounter());
           if (pc.equals(address))
             this.pseudoClassStateChanged(currentPc, true);
           else
@@ -623,6 +664,19 @@ public class SimulatorController {
     this.txtBkptCol.setCellFactory(boolCellFactory);
   }
 
+  /**
+   * Sets a watchpoint over the 4 words of the selected memory table row.
+   *
+   * @param kind watched accesses, {@link vsim.riscv.hardware.Memory#READ} and/or
+   *        {@link vsim.riscv.hardware.Memory#WRITE}
+   */
+  private void watchMemoryRow(int kind) {
+    MemoryCell cell = this.memTable.getSelectionModel().getSelectedItem();
+    if (this.debugger == null || cell == null)
+      return;
+    this.debugger.watch(cell.getIntAddress(), 4 * Data.WORD_LENGTH, kind, null);
+  }
+
   /** This method initializes the memory table. */
   @SuppressWarnings("unchecked")
   private void initMemory() {
@@ -648,22 +702,22 @@ public class SimulatorController {
     this.memOffset3.setCellFactory(cellFactory);
     this.memOffset3.getStyleClass().add("editable-cell");
     this.memOffset3.setOnEditCommit(e -> this.updateMemoryCell(e));
-    this.memTable.setItems(Globals.memory.getCells());
+    this.memTable.setItems(Globals.machine.getMemory().getCells());
     // Memory Segment Actions
-    this.upBtn.setOnAction(e -> Globals.memory.up());
-    this.downBtn.setOnAction(e -> Globals.memory.down());
+    this.upBtn.setOnAction(e -> Globals.machine.getMemory().up());
+    this.downBtn.setOnAction(e -> Globals.machine.getMemory().down());
     // Set memory table context menu
     MenuItem text = new MenuItem("Jump To Text Segment");
-    text.setOnAction(e -> Globals.memory.text());
+    text.setOnAction(e -> Globals.machine.getMemory().text());
     text.setGraphic(Icons.getImage("jump"));
     MenuItem data = new MenuItem("Jump To Data Segment");
-    data.setOnAction(e -> Globals.memory.data());
+    data.setOnAction(e -> Globals.machine.getMemory().data());
     data.setGraphic(Icons.getImage("jump"));
     MenuItem heap = new MenuItem("Jump To Heap Segment");
-    heap.setOnAction(e -> Globals.memory.heap());
+    heap.setOnAction(e -> Globals.machine.getMemory().heap());
     heap.setGraphic(Icons.getImage("jump"));
     MenuItem stack = new MenuItem("Jump To Stack Segment");
-    stack.setOnAction(e -> Globals.memory.stack());
+    stack.setOnAction(e -> Globals.machine.getMemory().stack());
     stack.setGraphic(Icons.getImage("jump"));
     MenuItem ascii = new MenuItem("ASCII Display Mode");
     ascii.setOnAction(e -> this.memoryDisplayAscii());
@@ -674,8 +728,24 @@ public class SimulatorController {
     MenuItem decimal = new MenuItem("Decimal Display Mode");
     decimal.setOnAction(e -> this.memoryDisplayDecimal());
     decimal.setGraphic(Icons.getImage("decimal"));
+    MenuItem watch = new MenuItem("Watch Row Writes");
+    watch.setOnAction(e -> this.watchMemoryRow(Memory.WRITE));
+    watch.setGraphic(Icons.getImage("trap"));
+    MenuItem rwatch = new MenuItem("Watch Row Reads");
+    rwatch.setOnAction(e -> this.watchMemoryRow(Memory.READ));
+    rwatch.setGraphic(Icons.getImage("trap"));
+    MenuItem awatch = new MenuItem("Watch Row Accesses");
+    awatch.setOnAction(e -> this.watchMemoryRow(Memory.READ | Memory.WRITE));
+    awatch.setGraphic(Icons.getImage("trap"));
+    MenuItem unwatch = new MenuItem("Clear All Watchpoints");
+    unwatch.setOnAction(e -> {
+      if (this.debugger != null)
+        this.debugger.unwatch();
+    });
+    unwatch.setGraphic(Icons.getImage("clear"));
     ContextMenu menu = new ContextMenu();
-    menu.getItems().addAll(text, data, heap, stack, new SeparatorMenuItem(), hex, decimal, ascii);
+    menu.getItems().addAll(text, data, heap, stack, new SeparatorMenuItem(), hex, decimal, ascii,
+        new SeparatorMenuItem(), watch, rwatch, awatch, unwatch);
     this.memTable.setContextMenu(menu);
     /*
      * Align table columns
@@ -715,7 +785,7 @@ public class SimulatorController {
     this.rviValue.setCellFactory(cellFactory);
     this.rviValue.setOnEditCommit(e -> this.updateRVIRegister(e));
     // apply style to modified rvi register
-    ObservableList<Register> rviList = Globals.regfile.getRF();
+    ObservableList<Register> rviList = Globals.machine.getRegfile().getRF();
     for (Register reg : rviList) {
       reg.setOnSetValueListener(number -> {
         lastReg = reg;
@@ -760,7 +830,7 @@ public class SimulatorController {
     this.rvfValue.setCellFactory(cellFactory);
     this.rvfValue.setOnEditCommit(e -> this.updateRVFRegister(e));
     // apply style to modified rvf register
-    ObservableList<Register> rvfList = Globals.fregfile.getRF();
+    ObservableList<Register> rvfList = Globals.machine.getFregfile().getRF();
     for (Register reg : rvfList) {
       reg.setOnSetValueListener(number -> {
         lastReg = reg;
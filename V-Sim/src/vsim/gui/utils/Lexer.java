@@ -45,10 +45,10 @@ public final class Lexer {
   /**
    * Translates characters to character classes
    */
-  private static final String ZZ_CMAP_PACKED = "\11\0\1\102\1\5\1\7\1\7\1\6\22\0\1\102\1\0\1\3"
-      + "\1\103\3\0\1\10\1\2\1\2\1\0\1\101\1\2\1\101\1\1" + "\1\0\1\73\1\71\1\32\1\72\1\35\2\74\1\75\1\76\1\70"
-      + "\1\100\1\103\5\0\1\50\1\37\1\53\1\55\1\40\1\65\1\42" + "\1\60\1\51\1\54\1\67\1\44\1\57\1\46\1\62\1\52\1\41"
-      + "\1\63\1\61\1\45\1\43\1\56\1\66\1\64\1\77\1\47\1\0" + "\1\4\2\0\1\77\1\0\1\17\1\25\1\20\1\34\1\12\1\31"
+  private static final String ZZ_CMAP_PACKED = "\11\0\1\103\1\5\1\7\1\7\1\6\22\0\1\103\1\0\1\3"
+      + "\1\104\3\0\1\10\1\2\1\2\1\0\1\102\1\2\1\102\1\1" + "\1\0\1\74\1\72\1\32\1\73\1\35\2\75\1\76\1\77\1\71"
+      + "\1\101\1\104\5\0\1\50\1\37\1\53\1\55\1\40\1\65\1\42" + "\1\60\1\51\1\54\1\67\1\44\1\57\1\46\1\62\1\52\1\41"
+      + "\1\63\1\61\1\45\1\43\1\56\1\66\1\64\1\70\1\47\1\0" + "\1\4\2\0\1\100\1\0\1\17\1\25\1\20\1\34\1\12\1\31"
       + "\1\24\1\27\1\21\1\54\1\67\1\30\1\57\1\23\1\14\1\16" + "\1\41\1\13\1\15\1\22\1\43\1\56\1\33\1\36\1\26\1\11"
       + "\12\0\1\7\u1fa2\0\1\7\1\7\uffff\0\uffff\0\uffff\0\uffff\0\uffff\0\uffff\0\uffff\0\uffff\0\uffff\0\uffff\0\uffff\0\uffff\0\uffff\0\uffff\0\uffff\0\uffff\0\udfe6\0";
 
@@ -64,12 +64,13 @@ public final class Lexer {
 
   private static final String ZZ_ACTION_PACKED_0 = "\5\0\1\1\2\2\1\3\1\4\1\5\16\6\1\7"
       + "\4\6\1\10\4\6\1\7\1\1\1\11\1\12\1\13" + "\1\14\1\0\1\15\1\16\1\17\1\20\14\0\1\7"
-      + "\2\0\1\7\1\0\1\6\1\21\2\6\1\22\1\10" + "\4\6\1\10\2\6\1\22\11\6\1\10\10\6\1\22"
-      + "\4\6\2\0\3\6\26\0\4\6\1\10\2\6\2\10" + "\20\6\1\7\1\0\2\10\2\7\11\0\1\23\6\0"
-      + "\2\6\1\0\5\6\1\0\1\10\4\0\1\6\1\10" + "\1\6\1\0\1\10\3\6\1\0\1\23\1\0\2\6" + "\4\0\1\6\2\10";
+      + "\2\0\1\7\1\0\1\6\1\21\3\6\1\22\1\6" + "\1\10\4\6\1\10\2\6\1\22\12\6\1\10\10\6"
+      + "\1\22\4\6\2\0\3\6\26\0\7\6\1\10\3\6" + "\2\10\20\6\1\7\1\0\2\10\2\7\11\0\1\23"
+      + "\6\0\5\6\1\10\1\0\5\6\1\0\1\10\4\0" + "\4\6\1\10\1\6\1\0\1\10\3\6\1\0\1\23"
+      + "\1\0\1\6\1\10\2\6\2\0\1\6\2\0\1\6" + "\1\10\1\6\1\10";
 
   private static int[] zzUnpackAction() {
-    int[] result = new int[208];
+    int[] result = new int[226];
     int offset = 0;
     offset = zzUnpackAction(ZZ_ACTION_PACKED_0, offset, result);
     return result;
@@ -94,35 +95,37 @@ public final class Lexer {
    */
   private static final int[] ZZ_ROWMAP = zzUnpackRowMap();
 
-  private static final String ZZ_ROWMAP_PACKED_0 = "\0\0\0\104\0\210\0\314\0\u0110\0\u0154\0\u0198\0\u0154"
-      + "\0\u0154\0\u0154\0\u0154\0\u01dc\0\u0220\0\u0264\0\u02a8\0\u02ec"
-      + "\0\u0330\0\u0374\0\u03b8\0\u03fc\0\u0440\0\u0484\0\u04c8\0\u050c"
-      + "\0\u0550\0\u0594\0\u05d8\0\u061c\0\u0660\0\u06a4\0\u06e8\0\u072c"
-      + "\0\u0770\0\u07b4\0\u07f8\0\u083c\0\u0880\0\u0154\0\u0154\0\u0154"
-      + "\0\u0154\0\u08c4\0\u0154\0\u0154\0\u0154\0\u0154\0\u0908\0\u094c"
-      + "\0\u0990\0\u09d4\0\u0a18\0\u0a5c\0\u0aa0\0\u0ae4\0\u0b28\0\u0b6c"
-      + "\0\u0bb0\0\u0bf4\0\u0c38\0\u0c7c\0\u0cc0\0\u0d04\0\u0d48\0\u0d8c"
-      + "\0\u0154\0\u0dd0\0\u0e14\0\u0330\0\u0e58\0\u0e9c\0\u0ee0\0\u0f24"
-      + "\0\u0f68\0\u0330\0\u0fac\0\u0ff0\0\u1034\0\u1078\0\u10bc\0\u1100"
-      + "\0\u1144\0\u1188\0\u11cc\0\u1210\0\u1254\0\u1298\0\u12dc\0\u0e58"
-      + "\0\u1320\0\u1364\0\u13a8\0\u13ec\0\u1430\0\u1474\0\u14b8\0\u14fc"
-      + "\0\u1540\0\u1584\0\u15c8\0\u160c\0\u1650\0\u1694\0\u16d8\0\u171c"
-      + "\0\u1760\0\u17a4\0\u17e8\0\u182c\0\u1870\0\u18b4\0\u18f8\0\u193c"
-      + "\0\u1980\0\u19c4\0\u1a08\0\u1a4c\0\u1a90\0\u1ad4\0\u1b18\0\u1b5c"
-      + "\0\u1ba0\0\u1be4\0\u1c28\0\u1c6c\0\u1cb0\0\u1cf4\0\u1d38\0\u1d7c"
-      + "\0\u1dc0\0\u1e04\0\u1e48\0\u1e8c\0\u1ed0\0\u1f14\0\u1e48\0\u1f58"
-      + "\0\u1f9c\0\u1fe0\0\u2024\0\u2068\0\u20ac\0\u20f0\0\u2134\0\u2178"
-      + "\0\u21bc\0\u2200\0\u2244\0\u2288\0\u22cc\0\u2310\0\u2354\0\u2398"
-      + "\0\u23dc\0\u23dc\0\u2420\0\u2464\0\u17a4\0\u17e8\0\u24a8\0\u24ec"
-      + "\0\u2530\0\u2574\0\u25b8\0\u25fc\0\u2640\0\u2684\0\u26c8\0\u0154"
-      + "\0\u270c\0\u2750\0\u2794\0\u27d8\0\u281c\0\u2860\0\u28a4\0\u28e8"
-      + "\0\u292c\0\u2970\0\u29b4\0\u29f8\0\u2a3c\0\u2a80\0\u2ac4\0\u2b08"
-      + "\0\u2b4c\0\u2b90\0\u2bd4\0\u2c18\0\u2c5c\0\u1d7c\0\u2ca0\0\u2ce4"
-      + "\0\u2d28\0\u2d28\0\u2d6c\0\u12dc\0\u2db0\0\u2df4\0\u2e38\0\u2e7c"
-      + "\0\u2ec0\0\u2f04\0\u2f48\0\u2f8c\0\u2fd0\0\u3014\0\u0154\0\u3058";
+  private static final String ZZ_ROWMAP_PACKED_0 = "\0\0\0\105\0\212\0\317\0\u0114\0\u0159\0\u019e\0\u0159"
+      + "\0\u0159\0\u0159\0\u0159\0\u01e3\0\u0228\0\u026d\0\u02b2\0\u02f7"
+      + "\0\u033c\0\u0381\0\u03c6\0\u040b\0\u0450\0\u0495\0\u04da\0\u051f"
+      + "\0\u0564\0\u05a9\0\u05ee\0\u0633\0\u0678\0\u06bd\0\u0702\0\u0747"
+      + "\0\u078c\0\u07d1\0\u0816\0\u085b\0\u08a0\0\u0159\0\u0159\0\u0159"
+      + "\0\u0159\0\u08e5\0\u0159\0\u0159\0\u0159\0\u0159\0\u092a\0\u096f"
+      + "\0\u09b4\0\u09f9\0\u0a3e\0\u0a83\0\u0ac8\0\u0b0d\0\u0b52\0\u0b97"
+      + "\0\u0bdc\0\u0c21\0\u0c66\0\u0cab\0\u0cf0\0\u0d35\0\u0d7a\0\u0dbf"
+      + "\0\u0159\0\u0e04\0\u0e49\0\u0e8e\0\u033c\0\u0ed3\0\u0f18\0\u0f5d"
+      + "\0\u0fa2\0\u0fe7\0\u102c\0\u033c\0\u1071\0\u10b6\0\u10fb\0\u1140"
+      + "\0\u1185\0\u11ca\0\u120f\0\u1254\0\u1299\0\u12de\0\u1323\0\u1368"
+      + "\0\u13ad\0\u13f2\0\u0f18\0\u1437\0\u147c\0\u14c1\0\u1506\0\u154b"
+      + "\0\u1590\0\u15d5\0\u161a\0\u165f\0\u16a4\0\u16e9\0\u172e\0\u1773"
+      + "\0\u17b8\0\u17fd\0\u1842\0\u1887\0\u18cc\0\u1911\0\u1956\0\u199b"
+      + "\0\u19e0\0\u1a25\0\u1a6a\0\u1aaf\0\u1af4\0\u1b39\0\u1b7e\0\u1bc3"
+      + "\0\u1c08\0\u1c4d\0\u1c92\0\u1cd7\0\u1d1c\0\u1d61\0\u1da6\0\u1deb"
+      + "\0\u1e30\0\u1e75\0\u1eba\0\u1eff\0\u1f44\0\u1f89\0\u1fce\0\u2013"
+      + "\0\u2058\0\u209d\0\u20e2\0\u2127\0\u216c\0\u2058\0\u21b1\0\u21f6"
+      + "\0\u223b\0\u2280\0\u22c5\0\u230a\0\u234f\0\u2394\0\u23d9\0\u241e"
+      + "\0\u2463\0\u24a8\0\u24ed\0\u2532\0\u2577\0\u25bc\0\u2601\0\u2646"
+      + "\0\u2646\0\u268b\0\u26d0\0\u18cc\0\u1911\0\u2715\0\u275a\0\u279f"
+      + "\0\u27e4\0\u2829\0\u286e\0\u28b3\0\u28f8\0\u293d\0\u0159\0\u2982"
+      + "\0\u29c7\0\u2a0c\0\u2a51\0\u2a96\0\u2adb\0\u2b20\0\u2b65\0\u2baa"
+      + "\0\u2bef\0\u2c34\0\u2c79\0\u2cbe\0\u2d03\0\u2d48\0\u2d8d\0\u2dd2"
+      + "\0\u2e17\0\u2e5c\0\u2ea1\0\u2ee6\0\u2f2b\0\u2f70\0\u2fb5\0\u2ffa"
+      + "\0\u303f\0\u3084\0\u30c9\0\u1eba\0\u310e\0\u3153\0\u3198\0\u3198"
+      + "\0\u31dd\0\u13f2\0\u3222\0\u3267\0\u32ac\0\u32f1\0\u3336\0\u337b"
+      + "\0\u33c0\0\u3405\0\u344a\0\u348f\0\u34d4\0\u3519\0\u355e\0\u0159" + "\0\u35a3\0\u35e8";
 
   private static int[] zzUnpackRowMap() {
-    int[] result = new int[208];
+    int[] result = new int[226];
     int offset = 0;
     offset = zzUnpackRowMap(ZZ_ROWMAP_PACKED_0, offset, result);
     return result;
@@ -147,102 +150,113 @@ public final class Lexer {
   private static final String ZZ_TRANS_PACKED_0 = "\1\6\1\7\1\10\1\11\1\6\2\12\1\0\1\13"
       + "\1\14\1\15\1\16\1\17\1\20\1\21\1\22\1\23" + "\1\21\1\24\1\25\1\26\1\27\2\21\1\30\1\31"
       + "\1\32\1\21\1\33\1\32\1\34\1\27\1\15\3\21" + "\1\30\1\35\1\25\1\21\1\36\2\21\1\23\1\37"
-      + "\1\33\1\21\1\40\1\21\1\41\1\17\1\42\1\34" + "\1\43\2\21\3\32\1\44\3\32\1\21\1\6\1\45"
-      + "\1\12\1\46\3\47\1\50\1\51\1\47\1\52\1\0" + "\74\47\6\53\2\0\74\53\4\47\1\54\1\47\1\52"
-      + "\1\0\1\50\73\47\5\55\1\56\1\57\1\0\74\55" + "\115\0\1\60\1\0\1\61\1\0\1\62\1\63\1\64"
-      + "\2\0\1\65\1\0\1\66\1\67\1\0\1\70\1\71" + "\1\72\1\73\1\74\1\75\1\73\32\0\7\76\6\0"
-      + "\1\77\7\0\1\21\1\100\65\21\1\101\4\0\1\77" + "\7\0\7\21\1\23\4\21\1\102\11\21\1\102\13\21"
-      + "\1\23\24\21\1\101\4\0\1\77\7\0\1\21\1\103" + "\4\21\1\104\20\21\1\103\37\21\1\101\4\0\1\77"
-      + "\7\0\2\21\1\105\47\21\1\105\14\21\1\101\4\0" + "\1\77\7\0\1\21\1\106\1\107\2\21\1\104\4\21"
-      + "\1\110\1\111\1\112\1\21\1\112\1\113\1\21\1\104" + "\1\112\1\21\1\104\1\21\1\112\1\106\1\21\1\111"
-      + "\1\114\1\113\1\21\1\110\11\21\1\112\2\21\1\107" + "\2\21\1\112\1\21\1\104\1\115\5\104\1\21\1\101"
-      + "\4\0\1\77\7\0\67\21\1\101\4\0\1\77\7\0" + "\12\21\1\116\6\21\1\104\1\21\1\116\1\104\5\21"
-      + "\1\117\2\21\1\116\6\21\1\116\13\21\5\104\2\21" + "\1\101\4\0\1\77\7\0\6\21\1\120\30\21\1\120"
-      + "\27\21\1\101\4\0\1\77\7\0\5\21\1\104\1\121" + "\12\21\1\104\2\21\1\104\12\21\1\121\20\21\4\104"
-      + "\3\21\1\101\4\0\1\77\7\0\1\21\1\122\1\21" + "\1\123\23\21\1\122\21\21\1\123\15\21\1\101\4\0"
-      + "\1\77\7\0\5\21\1\104\61\21\1\101\4\0\1\77" + "\7\0\1\21\1\124\10\21\1\125\1\126\3\21\1\126"
-      + "\7\21\1\124\1\21\1\126\1\21\1\126\1\21\1\125" + "\31\21\1\101\4\0\1\77\7\0\6\21\1\112\1\21"
-      + "\1\112\3\21\1\127\1\21\1\127\3\21\1\112\3\21" + "\1\127\3\21\1\130\4\21\2\112\6\21\1\127\5\21"
-      + "\1\112\11\21\1\101\4\0\1\77\7\0\1\21\1\131" + "\2\21\1\132\1\104\1\133\1\134\1\21\1\135\1\136"
-      + "\4\21\1\137\1\21\1\140\1\21\1\141\1\104\2\21" + "\1\131\3\21\1\137\1\21\1\136\1\21\1\142\2\21"
-      + "\1\134\1\21\1\141\1\21\1\143\1\21\1\144\6\21" + "\1\104\1\140\1\115\4\104\1\21\1\101\4\0\1\145"
-      + "\10\0\1\146\17\0\1\32\2\0\1\32\2\0\1\146" + "\27\0\7\32\6\0\1\77\7\0\10\21\1\147\27\21"
-      + "\1\147\26\21\1\101\4\0\1\77\7\0\3\21\1\17" + "\15\21\1\140\2\21\1\104\24\21\1\17\5\21\1\104"
-      + "\1\140\1\115\4\104\1\21\1\101\4\0\1\77\7\0" + "\6\21\1\121\30\21\1\121\27\21\1\101\4\0\1\77"
-      + "\7\0\12\21\1\116\10\21\1\116\6\21\1\117\2\21" + "\1\116\6\21\1\116\22\21\1\101\4\0\1\77\7\0"
-      + "\2\21\1\112\3\21\1\150\30\21\1\150\12\21\1\112" + "\14\21\1\101\4\0\1\77\7\0\32\21\1\151\12\21"
-      + "\1\112\21\21\1\101\4\0\1\77\7\0\1\21\1\106" + "\1\107\7\21\1\110\1\111\1\112\1\21\1\112\1\113"
-      + "\2\21\1\112\3\21\1\112\1\106\1\21\1\111\1\114" + "\1\113\1\21\1\110\11\21\1\112\2\21\1\107\2\21"
-      + "\1\112\11\21\1\101\4\0\1\77\7\0\1\21\1\103" + "\25\21\1\103\37\21\1\101\4\0\1\77\7\0\1\21"
-      + "\1\131\2\21\1\144\1\21\1\142\1\134\2\21\1\136" + "\4\21\1\137\1\21\1\140\1\21\1\141\1\104\2\21"
-      + "\1\131\3\21\1\137\1\21\1\136\1\21\1\142\2\21" + "\1\134\1\21\1\141\1\21\1\143\1\21\1\144\6\21"
-      + "\1\104\1\140\1\115\4\104\1\21\1\101\4\0\1\145" + "\10\0\1\146\12\0\1\152\4\0\1\32\2\0\1\32"
-      + "\1\153\1\152\1\146\23\0\1\153\3\0\7\32\6\0" + "\1\145\30\0\1\32\2\0\1\32\32\0\7\32\12\0"
-      + "\1\47\103\0\1\56\110\0\1\154\105\0\1\155\101\0" + "\1\156\3\0\1\157\3\0\1\160\4\0\1\161\106\0"
-      + "\1\162\66\0\1\163\12\0\1\164\65\0\1\165\121\0" + "\1\166\70\0\1\167\1\0\1\170\6\0\1\171\74\0"
-      + "\1\172\100\0\1\173\117\0\1\174\65\0\1\146\12\0" + "\1\175\4\0\1\76\2\0\1\76\2\0\1\146\27\0"
-      + "\7\76\21\0\1\176\106\0\1\177\76\0\1\146\17\0" + "\1\76\2\0\1\76\2\0\1\146\27\0\7\76\16\0"
-      + "\67\200\5\0\1\77\7\0\2\21\1\201\64\21\1\101" + "\4\0\1\77\7\0\2\21\1\202\47\21\1\202\14\21"
-      + "\1\101\4\0\1\77\7\0\11\21\1\112\22\21\1\112" + "\11\21\1\127\20\21\1\101\4\0\1\77\7\0\10\21"
-      + "\1\112\27\21\1\112\26\21\1\101\4\0\1\77\7\0" + "\30\21\1\203\36\21\1\101\4\0\1\77\7\0\6\21"
-      + "\1\105\10\21\1\105\13\21\1\105\3\21\1\105\27\21" + "\1\101\4\0\1\77\7\0\1\21\1\203\25\21\1\203"
-      + "\37\21\1\101\4\0\1\77\7\0\11\21\1\203\22\21" + "\1\203\32\21\1\101\4\0\1\77\7\0\11\21\1\204"
-      + "\5\21\1\105\13\21\1\105\1\204\32\21\1\101\4\0" + "\1\77\7\0\14\21\1\112\11\21\1\112\40\21\1\101"
-      + "\4\0\1\77\7\0\60\21\1\104\1\21\1\104\4\21" + "\1\101\4\0\1\77\7\0\23\21\1\105\20\21\1\105"
-      + "\22\21\1\101\4\0\1\77\7\0\10\21\1\205\27\21" + "\1\205\26\21\1\101\4\0\1\77\7\0\17\21\1\206"
-      + "\13\21\1\206\33\21\1\101\4\0\1\77\7\0\10\21" + "\1\206\27\21\1\206\26\21\1\101\4\0\1\77\7\0"
-      + "\13\21\1\112\15\21\1\112\35\21\1\101\4\0\1\77" + "\7\0\5\21\1\112\3\21\1\112\22\21\1\112\4\21"
-      + "\1\112\25\21\1\101\4\0\1\77\7\0\30\21\1\207" + "\36\21\1\101\4\0\1\77\7\0\1\21\1\207\25\21"
-      + "\1\207\37\21\1\101\4\0\1\77\7\0\1\21\1\210" + "\7\21\1\210\15\21\1\210\4\21\1\210\32\21\1\101"
-      + "\4\0\1\77\7\0\32\21\1\112\34\21\1\101\4\0" + "\1\77\7\0\30\21\1\211\36\21\1\101\4\0\1\77"
-      + "\7\0\13\21\1\212\5\21\1\104\1\112\1\21\1\104" + "\3\21\1\213\1\212\1\214\22\21\1\112\1\21\1\104"
-      + "\1\115\5\104\1\21\1\101\4\0\1\77\7\0\14\21" + "\1\215\4\21\1\104\1\21\1\216\1\104\1\21\1\215"
-      + "\15\21\1\216\13\21\6\104\1\21\1\101\4\0\1\77" + "\7\0\17\21\1\217\13\21\1\217\11\21\1\220\21\21"
-      + "\1\101\4\0\1\77\7\0\21\21\1\104\2\21\1\104" + "\32\21\1\104\1\115\5\104\1\21\1\101\4\0\1\77"
-      + "\7\0\1\21\1\221\25\21\1\221\16\21\1\222\20\21" + "\1\101\4\0\1\77\7\0\1\21\1\211\7\21\1\211"
-      + "\10\21\1\112\4\21\1\211\4\21\1\211\20\21\1\112" + "\11\21\1\101\4\0\1\77\7\0\21\21\1\104\2\21"
-      + "\1\104\32\21\7\104\1\21\1\101\4\0\1\77\7\0" + "\10\21\1\223\27\21\1\223\26\21\1\101\4\0\1\77"
-      + "\7\0\14\21\1\215\6\21\1\216\2\21\1\215\15\21" + "\1\216\22\21\1\101\4\0\1\77\7\0\4\21\1\224"
-      + "\1\21\1\225\1\21\1\226\21\21\1\227\4\21\1\225" + "\1\226\4\21\1\230\2\21\1\224\16\21\1\101\4\0"
-      + "\1\77\7\0\13\21\1\212\6\21\1\112\5\21\1\213" + "\1\212\1\214\22\21\1\112\11\21\1\101\35\0\1\76"
-      + "\2\0\1\76\32\0\7\76\37\0\1\231\2\0\1\231" + "\32\0\7\231\2\0\1\232\3\0\1\77\7\0\45\21"
-      + "\1\127\21\21\1\101\4\0\1\77\7\0\17\21\1\233" + "\13\21\1\233\33\21\1\101\4\0\1\77\7\0\17\21"
-      + "\1\234\13\21\1\234\33\21\1\101\74\0\1\235\1\0" + "\1\235\22\0\1\236\4\0\2\236\4\0\1\236\3\0"
-      + "\2\236\1\0\2\236\1\0\2\236\7\0\1\236\2\0" + "\1\236\1\0\1\236\7\0\1\236\2\0\7\236\20\0"
-      + "\1\237\124\0\1\75\67\0\1\240\102\0\1\241\77\0" + "\1\242\104\0\1\243\106\0\1\170\104\0\1\244\104\0"
-      + "\1\245\120\0\1\246\61\0\1\247\104\0\1\250\116\0" + "\1\164\75\0\1\251\111\0\1\252\76\0\1\253\74\0"
-      + "\1\254\115\0\1\171\70\0\1\255\112\0\1\256\72\0" + "\67\200\1\101\4\0\1\77\7\0\3\21\1\104\63\21"
-      + "\1\101\4\0\1\77\7\0\1\21\1\257\25\21\1\257" + "\37\21\1\101\4\0\1\77\7\0\1\112\35\21\1\112"
-      + "\30\21\1\101\4\0\1\77\7\0\1\112\7\21\1\127" + "\21\21\1\112\3\21\1\112\1\21\1\127\26\21\1\101"
-      + "\4\0\1\77\7\0\5\21\1\260\33\21\1\260\25\21" + "\1\101\4\0\1\77\7\0\17\21\1\112\13\21\1\112"
-      + "\33\21\1\101\4\0\1\77\7\0\1\112\31\21\1\112" + "\3\21\1\112\30\21\1\101\4\0\1\261\7\0\67\21"
-      + "\1\101\4\0\1\77\7\0\12\21\1\262\22\21\1\262" + "\31\21\1\101\4\0\1\77\7\0\2\21\1\263\47\21"
-      + "\1\263\14\21\1\101\4\0\1\77\7\0\14\21\1\211" + "\11\21\1\211\40\21\1\101\4\0\1\77\7\0\4\21"
-      + "\1\211\43\21\1\211\16\21\1\101\4\0\1\77\7\0" + "\23\21\1\211\20\21\1\211\22\21\1\101\4\0\1\77"
-      + "\7\0\6\21\1\264\30\21\1\264\27\21\1\101\4\0" + "\1\77\7\0\11\21\1\265\22\21\1\265\32\21\1\101"
-      + "\4\0\1\77\7\0\13\21\1\211\15\21\1\211\35\21" + "\1\101\4\0\1\77\7\0\4\21\1\224\1\21\1\266"
-      + "\30\21\1\266\10\21\1\224\16\21\1\101\4\0\1\77" + "\7\0\45\21\1\211\21\21\1\101\4\0\1\77\7\0"
-      + "\32\21\1\214\34\21\1\101\4\0\1\77\7\0\23\21" + "\1\216\1\21\1\211\16\21\1\216\6\21\1\211\13\21"
-      + "\1\101\4\0\1\77\7\0\12\21\1\211\22\21\1\211" + "\31\21\1\101\4\0\1\77\7\0\17\21\1\211\13\21"
-      + "\1\211\33\21\1\101\4\0\1\267\7\0\67\21\1\101" + "\35\0\1\231\2\0\1\231\32\0\7\231\6\0\1\77"
-      + "\7\0\2\21\1\112\47\21\1\112\14\21\1\101\4\0" + "\1\77\7\0\16\21\1\270\30\21\1\270\17\21\1\101"
-      + "\17\0\1\250\111\0\1\271\101\0\1\251\104\0\1\173" + "\75\0\1\246\111\0\1\272\106\0\1\273\101\0\1\250"
-      + "\106\0\1\274\70\0\1\250\122\0\1\250\76\0\1\250" + "\76\0\1\246\120\0\1\250\66\0\1\250\65\0\1\77"
-      + "\7\0\6\21\1\275\30\21\1\275\27\21\1\101\4\0" + "\1\77\7\0\7\21\1\112\32\21\1\112\24\21\1\101"
-      + "\14\0\4\200\1\276\43\200\1\276\16\200\5\0\1\77" + "\7\0\43\21\1\277\23\21\1\101\4\0\1\77\7\0"
-      + "\11\21\1\211\22\21\1\211\32\21\1\101\4\0\1\77" + "\7\0\4\21\1\215\43\21\1\215\16\21\1\101\4\0"
-      + "\1\300\7\0\67\21\1\101\4\0\1\77\7\0\23\21" + "\1\216\20\21\1\216\22\21\1\101\14\0\4\200\1\301"
-      + "\15\200\1\302\2\200\1\303\22\200\1\301\2\200\1\303" + "\1\200\1\302\11\200\5\0\1\77\7\0\4\21\1\304"
-      + "\25\21\1\112\15\21\1\304\16\21\1\101\24\0\1\305" + "\73\0\1\250\7\0\1\306\105\0\1\250\77\0\1\307"
-      + "\10\0\1\250\54\0\1\77\7\0\56\21\1\112\10\21" + "\1\101\4\0\1\261\7\0\12\21\1\211\12\21\1\211"
-      + "\7\21\1\211\15\21\1\211\13\21\1\101\14\0\4\200" + "\1\310\15\200\1\311\25\200\1\310\4\200\1\311\11\200"
-      + "\5\0\1\312\7\0\67\200\1\101\4\0\1\313\7\0" + "\67\200\1\101\17\0\1\273\100\0\1\250\122\0\1\250"
-      + "\54\0\1\314\7\0\67\200\1\101\4\0\1\315\7\0" + "\32\200\1\316\34\200\1\101\41\0\1\317\25\0\1\317"
-      + "\34\0\1\317\15\0\1\317\25\0\1\317\4\0\1\317" + "\50\0\1\320\32\0\1\320\32\0\1\317\43\0\1\317"
-      + "\23\0\1\315\7\0\67\200\1\101\46\0\1\317\40\0";
+      + "\1\33\1\21\1\40\1\21\1\41\1\17\1\42\1\34" + "\1\43\3\21\3\32\1\44\3\32\1\21\1\6\1\45"
+      + "\1\12\1\46\3\47\1\50\1\51\1\47\1\52\1\0" + "\75\47\6\53\2\0\75\53\4\47\1\54\1\47\1\52"
+      + "\1\0\1\50\74\47\5\55\1\56\1\57\1\0\75\55" + "\116\0\1\60\1\0\1\61\1\0\1\62\1\63\1\64"
+      + "\2\0\1\65\1\0\1\66\1\67\1\0\1\70\1\71" + "\1\72\1\73\1\74\1\75\1\73\33\0\7\76\6\0"
+      + "\1\77\7\0\1\21\1\100\66\21\1\101\4\0\1\77" + "\7\0\7\21\1\102\4\21\1\103\11\21\1\103\13\21"
+      + "\1\102\25\21\1\101\4\0\1\77\7\0\1\21\1\104" + "\4\21\1\105\14\21\1\106\3\21\1\104\14\21\1\106"
+      + "\23\21\1\101\4\0\1\77\7\0\2\21\1\107\47\21" + "\1\107\15\21\1\101\4\0\1\77\7\0\1\21\1\110"
+      + "\1\111\2\21\1\105\4\21\1\112\1\113\1\114\1\21" + "\1\114\1\115\1\21\1\105\1\114\1\21\1\105\1\21"
+      + "\1\114\1\110\1\21\1\113\1\116\1\115\1\21\1\112" + "\11\21\1\114\2\21\1\111\2\21\1\114\2\21\1\105"
+      + "\1\117\5\105\1\21\1\101\4\0\1\77\7\0\70\21" + "\1\101\4\0\1\77\7\0\12\21\1\120\6\21\1\105"
+      + "\1\21\1\120\1\105\5\21\1\121\2\21\1\120\6\21" + "\1\120\14\21\5\105\2\21\1\101\4\0\1\77\7\0"
+      + "\4\21\1\122\1\21\1\123\30\21\1\123\10\21\1\122" + "\17\21\1\101\4\0\1\77\7\0\5\21\1\105\1\124"
+      + "\12\21\1\105\2\21\1\105\12\21\1\124\21\21\4\105" + "\3\21\1\101\4\0\1\77\7\0\1\21\1\125\1\21"
+      + "\1\126\23\21\1\125\21\21\1\126\16\21\1\101\4\0" + "\1\77\7\0\5\21\1\105\62\21\1\101\4\0\1\77"
+      + "\7\0\1\21\1\127\10\21\1\130\1\131\3\21\1\131" + "\7\21\1\127\1\21\1\131\1\21\1\131\1\21\1\130"
+      + "\32\21\1\101\4\0\1\77\7\0\6\21\1\114\1\21" + "\1\114\3\21\1\132\1\21\1\132\3\21\1\114\3\21"
+      + "\1\132\3\21\1\133\4\21\2\114\6\21\1\132\5\21" + "\1\114\12\21\1\101\4\0\1\77\7\0\1\21\1\134"
+      + "\2\21\1\135\1\105\1\136\1\137\1\21\1\140\1\141" + "\4\21\1\142\1\21\1\143\1\21\1\144\1\105\2\21"
+      + "\1\134\3\21\1\142\1\21\1\141\1\21\1\145\2\21" + "\1\137\1\21\1\144\1\21\1\146\1\21\1\147\7\21"
+      + "\1\105\1\143\1\117\4\105\1\21\1\101\4\0\1\150" + "\10\0\1\151\17\0\1\32\2\0\1\32\2\0\1\151"
+      + "\30\0\7\32\6\0\1\77\7\0\10\21\1\152\27\21" + "\1\152\27\21\1\101\4\0\1\77\7\0\3\21\1\17"
+      + "\15\21\1\143\2\21\1\105\24\21\1\17\6\21\1\105" + "\1\143\1\117\4\105\1\21\1\101\4\0\1\77\7\0"
+      + "\6\21\1\124\30\21\1\124\30\21\1\101\4\0\1\77" + "\7\0\12\21\1\120\10\21\1\120\6\21\1\121\2\21"
+      + "\1\120\6\21\1\120\23\21\1\101\4\0\1\77\7\0" + "\2\21\1\114\3\21\1\153\30\21\1\153\12\21\1\114"
+      + "\15\21\1\101\4\0\1\77\7\0\32\21\1\154\12\21" + "\1\114\22\21\1\101\4\0\1\77\7\0\1\21\1\110"
+      + "\1\111\7\21\1\112\1\113\1\114\1\21\1\114\1\115" + "\2\21\1\114\3\21\1\114\1\110\1\21\1\113\1\116"
+      + "\1\115\1\21\1\112\11\21\1\114\2\21\1\111\2\21" + "\1\114\12\21\1\101\4\0\1\77\7\0\1\21\1\104"
+      + "\21\21\1\106\3\21\1\104\14\21\1\106\23\21\1\101" + "\4\0\1\77\7\0\1\21\1\134\2\21\1\147\1\21"
+      + "\1\145\1\137\2\21\1\141\4\21\1\142\1\21\1\143" + "\1\21\1\144\1\105\2\21\1\134\3\21\1\142\1\21"
+      + "\1\141\1\21\1\145\2\21\1\137\1\21\1\144\1\21" + "\1\146\1\21\1\147\7\21\1\105\1\143\1\117\4\105"
+      + "\1\21\1\101\4\0\1\150\10\0\1\151\12\0\1\155" + "\4\0\1\32\2\0\1\32\1\156\1\155\1\151\23\0"
+      + "\1\156\4\0\7\32\6\0\1\150\30\0\1\32\2\0" + "\1\32\33\0\7\32\12\0\1\47\104\0\1\56\111\0"
+      + "\1\157\106\0\1\160\102\0\1\161\3\0\1\162\3\0" + "\1\163\4\0\1\164\107\0\1\165\67\0\1\166\12\0"
+      + "\1\167\66\0\1\170\122\0\1\171\71\0\1\172\1\0" + "\1\173\6\0\1\174\75\0\1\175\101\0\1\176\120\0"
+      + "\1\177\66\0\1\151\12\0\1\200\4\0\1\76\2\0" + "\1\76\2\0\1\151\30\0\7\76\21\0\1\201\107\0"
+      + "\1\202\77\0\1\151\17\0\1\76\2\0\1\76\2\0" + "\1\151\30\0\7\76\16\0\70\203\5\0\1\77\7\0"
+      + "\2\21\1\204\65\21\1\101\4\0\1\77\7\0\6\21" + "\1\123\30\21\1\123\30\21\1\101\4\0\1\77\7\0"
+      + "\2\21\1\205\47\21\1\205\15\21\1\101\4\0\1\77" + "\7\0\11\21\1\114\22\21\1\114\11\21\1\132\21\21"
+      + "\1\101\4\0\1\77\7\0\7\21\1\206\1\207\1\210" + "\22\21\1\210\3\21\1\207\1\21\1\206\25\21\1\101"
+      + "\4\0\1\77\7\0\10\21\1\114\27\21\1\114\27\21" + "\1\101\4\0\1\77\7\0\30\21\1\211\37\21\1\101"
+      + "\4\0\1\77\7\0\6\21\1\107\10\21\1\107\13\21" + "\1\107\3\21\1\107\30\21\1\101\4\0\1\77\7\0"
+      + "\1\21\1\211\25\21\1\211\40\21\1\101\4\0\1\77" + "\7\0\11\21\1\211\22\21\1\211\33\21\1\101\4\0"
+      + "\1\77\7\0\11\21\1\212\5\21\1\107\13\21\1\107" + "\1\212\33\21\1\101\4\0\1\77\7\0\14\21\1\114"
+      + "\11\21\1\114\41\21\1\101\4\0\1\77\7\0\61\21" + "\1\105\1\21\1\105\4\21\1\101\4\0\1\77\7\0"
+      + "\23\21\1\107\20\21\1\107\23\21\1\101\4\0\1\77" + "\7\0\10\21\1\213\27\21\1\213\27\21\1\101\4\0"
+      + "\1\77\7\0\2\21\1\214\47\21\1\214\15\21\1\101" + "\4\0\1\77\7\0\17\21\1\215\13\21\1\215\34\21"
+      + "\1\101\4\0\1\77\7\0\10\21\1\215\27\21\1\215" + "\27\21\1\101\4\0\1\77\7\0\13\21\1\114\15\21"
+      + "\1\114\36\21\1\101\4\0\1\77\7\0\5\21\1\114" + "\3\21\1\114\22\21\1\114\4\21\1\114\26\21\1\101"
+      + "\4\0\1\77\7\0\30\21\1\216\37\21\1\101\4\0" + "\1\77\7\0\1\21\1\216\25\21\1\216\40\21\1\101"
+      + "\4\0\1\77\7\0\1\21\1\217\7\21\1\217\15\21" + "\1\217\4\21\1\217\33\21\1\101\4\0\1\77\7\0"
+      + "\32\21\1\114\35\21\1\101\4\0\1\77\7\0\30\21" + "\1\220\37\21\1\101\4\0\1\77\7\0\13\21\1\221"
+      + "\5\21\1\105\1\114\1\21\1\105\3\21\1\222\1\221" + "\1\223\22\21\1\114\2\21\1\105\1\117\5\105\1\21"
+      + "\1\101\4\0\1\77\7\0\14\21\1\224\4\21\1\105" + "\1\21\1\225\1\105\1\21\1\224\15\21\1\225\14\21"
+      + "\6\105\1\21\1\101\4\0\1\77\7\0\17\21\1\226" + "\13\21\1\226\11\21\1\227\22\21\1\101\4\0\1\77"
+      + "\7\0\21\21\1\105\2\21\1\105\33\21\1\105\1\117" + "\5\105\1\21\1\101\4\0\1\77\7\0\1\21\1\230"
+      + "\25\21\1\230\16\21\1\231\21\21\1\101\4\0\1\77" + "\7\0\1\21\1\220\7\21\1\220\10\21\1\114\4\21"
+      + "\1\220\4\21\1\220\20\21\1\114\12\21\1\101\4\0" + "\1\77\7\0\21\21\1\105\2\21\1\105\33\21\7\105"
+      + "\1\21\1\101\4\0\1\77\7\0\10\21\1\232\27\21" + "\1\232\27\21\1\101\4\0\1\77\7\0\14\21\1\224"
+      + "\6\21\1\225\2\21\1\224\15\21\1\225\23\21\1\101" + "\4\0\1\77\7\0\4\21\1\233\1\21\1\234\1\21"
+      + "\1\235\21\21\1\236\4\21\1\234\1\235\4\21\1\237" + "\2\21\1\233\17\21\1\101\4\0\1\77\7\0\13\21"
+      + "\1\221\6\21\1\114\5\21\1\222\1\221\1\223\22\21" + "\1\114\12\21\1\101\35\0\1\76\2\0\1\76\33\0"
+      + "\7\76\37\0\1\240\2\0\1\240\33\0\7\240\2\0" + "\1\241\3\0\1\77\7\0\45\21\1\132\22\21\1\101"
+      + "\4\0\1\77\7\0\17\21\1\242\13\21\1\242\34\21" + "\1\101\4\0\1\77\7\0\17\21\1\243\13\21\1\243"
+      + "\34\21\1\101\75\0\1\244\1\0\1\244\22\0\1\245" + "\4\0\2\245\4\0\1\245\3\0\2\245\1\0\2\245"
+      + "\1\0\2\245\7\0\1\245\2\0\1\245\1\0\1\245" + "\7\0\1\245\3\0\7\245\20\0\1\246\125\0\1\75"
+      + "\70\0\1\247\103\0\1\250\100\0\1\251\105\0\1\252" + "\107\0\1\173\105\0\1\253\105\0\1\254\121\0\1\255"
+      + "\62\0\1\256\105\0\1\257\117\0\1\167\76\0\1\260" + "\112\0\1\261\77\0\1\262\75\0\1\263\116\0\1\174"
+      + "\71\0\1\264\113\0\1\265\73\0\70\203\1\101\4\0" + "\1\77\7\0\3\21\1\105\64\21\1\101\4\0\1\77"
+      + "\7\0\1\21\1\266\25\21\1\266\40\21\1\101\4\0" + "\1\77\7\0\15\21\1\267\41\21\1\267\10\21\1\101"
+      + "\4\0\1\77\7\0\12\21\1\270\22\21\1\270\32\21" + "\1\101\4\0\1\77\7\0\10\21\1\271\27\21\1\271"
+      + "\27\21\1\101\4\0\1\77\7\0\1\114\35\21\1\114" + "\31\21\1\101\4\0\1\77\7\0\1\114\7\21\1\132"
+      + "\21\21\1\114\3\21\1\114\1\21\1\132\27\21\1\101" + "\4\0\1\77\7\0\5\21\1\272\33\21\1\272\26\21"
+      + "\1\101\4\0\1\77\7\0\2\21\1\273\47\21\1\273" + "\15\21\1\101\4\0\1\77\7\0\17\21\1\114\13\21"
+      + "\1\114\34\21\1\101\4\0\1\77\7\0\1\114\31\21" + "\1\114\3\21\1\114\31\21\1\101\4\0\1\274\7\0"
+      + "\70\21\1\101\4\0\1\77\7\0\12\21\1\275\22\21" + "\1\275\32\21\1\101\4\0\1\77\7\0\2\21\1\276"
+      + "\47\21\1\276\15\21\1\101\4\0\1\77\7\0\14\21" + "\1\220\11\21\1\220\41\21\1\101\4\0\1\77\7\0"
+      + "\4\21\1\220\43\21\1\220\17\21\1\101\4\0\1\77" + "\7\0\23\21\1\220\20\21\1\220\23\21\1\101\4\0"
+      + "\1\77\7\0\6\21\1\277\30\21\1\277\30\21\1\101" + "\4\0\1\77\7\0\11\21\1\300\22\21\1\300\33\21"
+      + "\1\101\4\0\1\77\7\0\13\21\1\220\15\21\1\220" + "\36\21\1\101\4\0\1\77\7\0\4\21\1\233\1\21"
+      + "\1\301\30\21\1\301\10\21\1\233\17\21\1\101\4\0" + "\1\77\7\0\45\21\1\220\22\21\1\101\4\0\1\77"
+      + "\7\0\32\21\1\223\35\21\1\101\4\0\1\77\7\0" + "\23\21\1\225\1\21\1\220\16\21\1\225\6\21\1\220"
+      + "\14\21\1\101\4\0\1\77\7\0\12\21\1\220\22\21" + "\1\220\32\21\1\101\4\0\1\77\7\0\17\21\1\220"
+      + "\13\21\1\220\34\21\1\101\4\0\1\302\7\0\70\21" + "\1\101\35\0\1\240\2\0\1\240\33\0\7\240\6\0"
+      + "\1\77\7\0\2\21\1\114\47\21\1\114\15\21\1\101" + "\4\0\1\77\7\0\16\21\1\303\30\21\1\303\20\21"
+      + "\1\101\17\0\1\257\112\0\1\304\102\0\1\260\105\0" + "\1\176\76\0\1\255\112\0\1\305\107\0\1\306\102\0"
+      + "\1\257\107\0\1\307\71\0\1\257\123\0\1\257\77\0" + "\1\257\77\0\1\255\121\0\1\257\67\0\1\257\66\0"
+      + "\1\77\7\0\6\21\1\310\30\21\1\310\30\21\1\101" + "\4\0\1\77\7\0\7\21\1\311\32\21\1\311\25\21"
+      + "\1\101\4\0\1\77\7\0\4\21\1\312\43\21\1\312" + "\17\21\1\101\4\0\1\77\7\0\46\21\1\313\21\21"
+      + "\1\101\4\0\1\77\7\0\7\21\1\114\32\21\1\114" + "\25\21\1\101\4\0\1\77\7\0\4\21\1\107\2\21"
+      + "\1\107\12\21\1\107\17\21\1\107\5\21\1\107\4\21" + "\1\107\12\21\1\101\14\0\4\203\1\314\43\203\1\314"
+      + "\17\203\5\0\1\77\7\0\43\21\1\315\24\21\1\101" + "\4\0\1\77\7\0\11\21\1\220\22\21\1\220\33\21"
+      + "\1\101\4\0\1\77\7\0\4\21\1\224\43\21\1\224" + "\17\21\1\101\4\0\1\316\7\0\70\21\1\101\4\0"
+      + "\1\77\7\0\23\21\1\225\20\21\1\225\23\21\1\101" + "\14\0\4\203\1\317\15\203\1\320\2\203\1\321\22\203"
+      + "\1\317\2\203\1\321\1\203\1\320\12\203\5\0\1\77" + "\7\0\4\21\1\322\25\21\1\114\15\21\1\322\17\21"
+      + "\1\101\24\0\1\323\74\0\1\257\7\0\1\324\106\0" + "\1\257\100\0\1\325\10\0\1\257\55\0\1\77\7\0"
+      + "\56\21\1\114\11\21\1\101\4\0\1\77\7\0\17\21" + "\1\313\13\21\1\313\34\21\1\101\4\0\1\77\7\0"
+      + "\11\21\1\326\22\21\1\326\33\21\1\101\4\0\1\77" + "\7\0\1\21\1\327\25\21\1\327\40\21\1\101\4\0"
+      + "\1\274\7\0\12\21\1\220\12\21\1\220\7\21\1\220" + "\15\21\1\220\14\21\1\101\14\0\4\203\1\330\15\203"
+      + "\1\331\25\203\1\330\4\203\1\331\12\203\5\0\1\332" + "\7\0\70\203\1\101\4\0\1\333\7\0\70\203\1\101"
+      + "\17\0\1\306\101\0\1\257\123\0\1\257\55\0\1\77" + "\7\0\2\21\1\334\47\21\1\334\15\21\1\101\4\0"
+      + "\1\77\7\0\16\21\1\114\30\21\1\114\20\21\1\101" + "\4\0\1\335\7\0\70\203\1\101\4\0\1\336\7\0"
+      + "\32\203\1\337\35\203\1\101\41\0\1\340\25\0\1\340" + "\35\0\1\340\15\0\1\340\25\0\1\340\4\0\1\340"
+      + "\17\0\1\77\7\0\1\21\1\341\25\21\1\341\40\21" + "\1\101\36\0\1\342\32\0\1\342\33\0\1\340\43\0"
+      + "\1\340\24\0\1\336\7\0\70\203\1\101\4\0\1\77" + "\7\0\11\21\1\327\22\21\1\327\33\21\1\101\46\0" + "\1\340\41\0";
 
   private static int[] zzUnpackTrans() {
-    int[] result = new int[12444];
+    int[] result = new int[13869];
     int offset = 0;
     offset = zzUnpackTrans(ZZ_TRANS_PACKED_0, offset, result);
     return result;
@@ -278,11 +292,11 @@ public final class Lexer {
   private static final int[] ZZ_ATTRIBUTE = zzUnpackAttribute();
 
   private static final String ZZ_ATTRIBUTE_PACKED_0 = "\5\0\1\11\1\1\4\11\32\1\4\11\1\0\4\11"
-      + "\14\0\1\1\2\0\1\1\1\0\1\1\1\11\43\1" + "\2\0\3\1\26\0\32\1\1\0\4\1\11\0\1\11"
-      + "\6\0\2\1\1\0\5\1\1\0\1\1\4\0\3\1" + "\1\0\4\1\1\0\1\1\1\0\2\1\4\0\1\1" + "\1\11\1\1";
+      + "\14\0\1\1\2\0\1\1\1\0\1\1\1\11\46\1" + "\2\0\3\1\26\0\36\1\1\0\4\1\11\0\1\11"
+      + "\6\0\6\1\1\0\5\1\1\0\1\1\4\0\6\1" + "\1\0\4\1\1\0\1\1\1\0\4\1\2\0\1\1" + "\2\0\1\1\1\11\2\1";
 
   private static int[] zzUnpackAttribute() {
-    int[] result = new int[208];
+    int[] result = new int[226];
     int offset = 0;
     offset = zzUnpackAttribute(ZZ_ATTRIBUTE_PACKED_0, offset, result);
     return result;
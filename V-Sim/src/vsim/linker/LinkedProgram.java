@@ -19,13 +19,15 @@ package vsim.linker;
 
 import static vsim.riscv.MemorySegments.TEXT_SEGMENT_BEGIN;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashMap;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import vsim.Globals;
+import vsim.Machine;
 import vsim.assembler.statements.Statement;
 import vsim.riscv.exceptions.NonInstructionException;
+import vsim.riscv.instructions.DecodedInstruction;
 import vsim.utils.Data;
 
 
@@ -34,41 +36,86 @@ import vsim.utils.Data;
  */
 public final class LinkedProgram {
 
-  /** a history of the program statements */
-  private HashMap<Integer, Statement> program;
+  /** program statements in text segment order, indexed by (address - text segment begin) / 4 */
+  private final Statement[] program;
+  /** predecoded program instructions, indexed like the statements */
+  private final DecodedInstruction[] code;
 
   /**
-   * Unique constructor that takes a history of statements.
+   * Unique constructor that takes the statements of the text segment in address order.
    *
-   * @param program A history of statements
+   * @param program statements placed contiguously from the beginning of the text segment
    * @see vsim.assembler.statements.Statement
    * @see vsim.linker.Linker
    */
-  public LinkedProgram(HashMap<Integer, Statement> program) {
-    this.program = program;
+  public LinkedProgram(ArrayList<Statement> program) {
+    this.program = program.toArray(new Statement[program.size()]);
+    this.code = new DecodedInstruction[this.program.length];
+    // predecode all statements once, so a fetch is just an array load
+    for (int i = 0; i < this.program.length; i++) {
+      Statement stmt = this.program[i];
+      this.code[i] = new DecodedInstruction(Globals.iset.get(stmt.getMnemonic()), stmt.result());
+    }
+  }
+
+  /**
+   * Gets the index of an address in the text segment arrays.
+   *
+   * @param address text segment address
+   * @return the index of the address or -1 if no statement is placed at that address
+   */
+  private int index(int address) {
+    int offset = address - TEXT_SEGMENT_BEGIN;
+    if ((offset & (Data.WORD_LENGTH - 1)) != 0)
+      return -1;
+    int index = offset >>> 2;
+    return (index < this.program.length) ? index : -1;
   }
 
   /**
-   * This method returns the next available statement.
+   * This method returns the next available statement of a machine.
    *
+   * @param machine machine that runs the program
    * @see vsim.assembler.statements.Statement
    * @return the next available statement or null if no more available
    * @throws NonInstructionException if no more instructions available
    */
-  public Statement next() throws NonInstructionException {
+  public Statement next(Machine machine) throws NonInstructionException {
     // fecth next statement
-    Statement stmt = this.program.get(Globals.regfile.getProgramCounter());
+    int pc = machine.getRegfile().getProgramCounter();
+    int index = this.index(pc);
+    // non instruction exception
+    if (index == -1)
+      throw new NonInstructionException(pc);
+    return this.program[index];
+  }
+
+  /**
+   * This method fetches the next predecoded instruction of a machine. The predecoded instructions do not hold any
+   * machine state, so a linked program can be run by many machines.
+   *
+   * @param machine machine that runs the program
+   * @see vsim.riscv.instructions.DecodedInstruction
+   * @return the next predecoded instruction
+   * @throws NonInstructionException if no more instructions available
+   */
+  public DecodedInstruction fetch(Machine machine) throws NonInstructionException {
+    int pc = machine.getRegfile().getProgramCounter();
+    int index = this.index(pc);
     // non instruction exception
-    if (stmt == null)
-      throw new NonInstructionException();
-    return stmt;
+    if (index == -1)
+      throw new NonInstructionException(pc);
+    return this.code[index];
   }
 
   /**
-   * This method resets the program, setting the program counter equal to the beginning of the text segment.
+   * This method resets the program, setting the program counter of a machine equal to the beginning of the text
+   * segment.
+   *
+   * @param machine machine that runs the program
    */
-  public void reset() {
-    Globals.regfile.setProgramCounter(TEXT_SEGMENT_BEGIN);
+  public void reset(Machine machine) {
+    machine.getRegfile().setProgramCounter(TEXT_SEGMENT_BEGIN);
   }
 
   /**
@@ -78,7 +125,8 @@ public final class LinkedProgram {
    * @return statement at the given address or null if no statement at that address
    */
   public Statement getStatement(int address) {
-    return this.program.get(address);
+    int index = this.index(address);
+    return (index != -1) ? this.program[index] : null;
   }
 
   /**
@@ -88,7 +136,16 @@ public final class LinkedProgram {
    * @return all the statements available statements
    */
   public Collection<Statement> getStatements() {
-    return this.program.values();
+    return Arrays.asList(this.program);
+  }
+
+  /**
+   * This method returns the number of statements of the program.
+   *
+   * @return number of statements
+   */
+  public int size() {
+    return this.program.length;
   }
 
   /**
@@ -99,9 +156,9 @@ public final class LinkedProgram {
    */
   public ArrayList<Integer> getBreakpoints() {
     ArrayList<Integer> breakpoints = new ArrayList<Integer>();
-    for (Integer address : this.program.keySet()) {
-      if (this.program.get(address).getMnemonic().equals("ebreak"))
-        breakpoints.add(address);
+    for (int i = 0; i < this.program.length; i++) {
+      if (this.program[i].getMnemonic().equals("ebreak"))
+        breakpoints.add(TEXT_SEGMENT_BEGIN + i * Data.WORD_LENGTH);
     }
     breakpoints.trimToSize();
     return breakpoints;
@@ -114,15 +171,8 @@ public final class LinkedProgram {
    */
   public ObservableList<InfoStatement> getInfoStatements() {
     ObservableList<InfoStatement> stmts = FXCollections.observableArrayList();
-    int pc = TEXT_SEGMENT_BEGIN;
-    while (true) {
-      Statement stmt = this.program.get(pc);
-      if (stmt == null)
-        break;
-      else
-        stmts.add(new InfoStatement(pc, stmt));
-      pc += Data.WORD_LENGTH;
-    }
+    for (int i = 0; i < this.program.length; i++)
+      stmts.add(new InfoStatement(TEXT_SEGMENT_BEGIN + i * Data.WORD_LENGTH, this.program[i]));
     return stmts;
   }
 
@@ -22,9 +22,8 @@ import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.HashMap;
 import vsim.Errors;
-import vsim.Globals;
+import vsim.Machine;
 import vsim.Settings;
 import vsim.assembler.DebugInfo;
 import vsim.assembler.Program;
@@ -33,6 +32,7 @@ import vsim.assembler.statements.IType;
 import vsim.assembler.statements.Statement;
 import vsim.assembler.statements.UType;
 import vsim.riscv.MemorySegments;
+import vsim.riscv.hardware.Memory;
 import vsim.riscv.instructions.InstructionField;
 import vsim.utils.Data;
 import vsim.utils.Message;
@@ -43,10 +43,24 @@ import vsim.utils.Message;
  */
 public final class Linker {
 
+  /** machine where the programs are linked */
+  private final Machine machine;
   /** where static data segment begins */
-  private static int dataAddress = MemorySegments.STATIC_SEGMENT;
+  private int dataAddress;
   /** where text segment starts */
-  private static int textAddress = MemorySegments.TEXT_SEGMENT_BEGIN;
+  private int textAddress;
+
+  /**
+   * Creates a linker that stores the linked programs in the memory of a machine.
+   *
+   * @param machine machine where the programs are linked
+   */
+  private Linker(Machine machine) {
+    this.machine = machine;
+    this.dataAddress = MemorySegments.STATIC_SEGMENT;
+    // 2 words added because of the two initial statements representing the far call to START label
+    this.textAddress = MemorySegments.TEXT_SEGMENT_BEGIN + 2 * Data.WORD_LENGTH;
+  }
 
   /**
    * This method takes an array of RISC-V programs and stores all the read-only segment data of these programs in
@@ -55,25 +69,21 @@ public final class Linker {
    * @param programs an array of programs
    * @see vsim.assembler.Program
    */
-  private static void linkRodata(ArrayList<Program> programs) {
-    int startAddress = Linker.dataAddress;
-    MemorySegments.RODATA_SEGMENT_BEGIN = Linker.dataAddress;
-    MemorySegments.RODATA_SEGMENT_END = Linker.dataAddress;
+  private void linkRodata(ArrayList<Program> programs) {
+    int startAddress = this.dataAddress;
     for (Program program : programs) {
-      program.setRodataStart(Linker.dataAddress);
+      program.setRodataStart(this.dataAddress);
       // store every byte of rodata of the current program
       for (Byte b : program.getRodata())
-        Globals.memory.privStoreByte(Linker.dataAddress++, b);
+        this.machine.getMemory().privStoreByte(this.dataAddress++, b);
       // align to a word boundary for next program
-      Linker.dataAddress = Data.alignToWordBoundary(Linker.dataAddress);
-      MemorySegments.RODATA_SEGMENT_END = Linker.dataAddress;
+      this.dataAddress = Data.alignToWordBoundary(this.dataAddress);
     }
     // move next address by 1 word to set a rodata address range properly
-    if (Linker.dataAddress != startAddress)
-      Linker.dataAddress += Data.WORD_LENGTH;
-    else {
-      MemorySegments.RODATA_SEGMENT_BEGIN = -1;
-      MemorySegments.RODATA_SEGMENT_END = -1;
+    if (this.dataAddress != startAddress) {
+      // rodata segment and the word after it are read only
+      this.machine.getMemory().protect(startAddress, this.dataAddress + Data.WORD_LENGTH - 1, Memory.READ);
+      this.dataAddress += Data.WORD_LENGTH;
     }
   }
 
@@ -83,19 +93,19 @@ public final class Linker {
    * @param programs an array of programs
    * @see vsim.assembler.Program
    */
-  private static void linkBss(ArrayList<Program> programs) {
-    int startAddress = Linker.dataAddress;
+  private void linkBss(ArrayList<Program> programs) {
+    int startAddress = this.dataAddress;
     for (Program program : programs) {
-      program.setBssStart(Linker.dataAddress);
+      program.setBssStart(this.dataAddress);
       // store every byte of bss of the current program
       for (Byte b : program.getBss())
-        Globals.memory.privStoreByte(Linker.dataAddress++, b);
+        this.machine.getMemory().privStoreByte(this.dataAddress++, b);
       // align to a word boundary for next program
-      Linker.dataAddress = Data.alignToWordBoundary(Linker.dataAddress);
+      this.dataAddress = Data.alignToWordBoundary(this.dataAddress);
     }
     // move next address by 1 word to set a bss address range properly
-    if (Linker.dataAddress != startAddress)
-      Linker.dataAddress += Data.WORD_LENGTH;
+    if (this.dataAddress != startAddress)
+      this.dataAddress += Data.WORD_LENGTH;
   }
 
   /**
@@ -104,22 +114,21 @@ public final class Linker {
    * @param programs an array of programs
    * @see vsim.assembler.Program
    */
-  private static void linkData(ArrayList<Program> programs) {
-    int startAddress = Linker.dataAddress;
+  private void linkData(ArrayList<Program> programs) {
+    int startAddress = this.dataAddress;
     for (Program program : programs) {
-      program.setDataStart(Linker.dataAddress);
+      program.setDataStart(this.dataAddress);
       // store every byte of data of the current program
       for (Byte b : program.getData())
-        Globals.memory.privStoreByte(Linker.dataAddress++, b);
+        this.machine.getMemory().privStoreByte(this.dataAddress++, b);
       // align to a word boundary for next program
-      Linker.dataAddress = Data.alignToWordBoundary(Linker.dataAddress);
+      this.dataAddress = Data.alignToWordBoundary(this.dataAddress);
     }
     // move next address by 1 word to set a data address range properly
-    if (Linker.dataAddress != startAddress)
-      Linker.dataAddress += Data.WORD_LENGTH;
+    if (this.dataAddress != startAddress)
+      this.dataAddress += Data.WORD_LENGTH;
     // save heap segment start address
-    MemorySegments.HEAP_SEGMENT = Linker.dataAddress;
-    MemorySegments.HEAP_SEGMENT_BEGIN = MemorySegments.HEAP_SEGMENT;
+    this.machine.getMemory().setHeapBegin(this.dataAddress);
   }
 
   /**
@@ -128,16 +137,16 @@ public final class Linker {
    * @param programs an array of programs
    * @see vsim.assembler.Program
    */
-  private static void linkSymbols(ArrayList<Program> programs) {
+  private void linkSymbols(ArrayList<Program> programs) {
     // first relocate symbols
     for (Program program : programs) {
-      program.setTextStart(Linker.textAddress);
-      program.relocateSymbols();
-      Linker.textAddress += program.getTextSize();
+      program.setTextStart(this.textAddress);
+      program.relocateSymbols(this.machine);
+      this.textAddress += program.getTextSize();
     }
     // then store references to this symbols
     for (Program program : programs)
-      program.storeRefs();
+      program.storeRefs(this.machine);
   }
 
   /**
@@ -147,40 +156,40 @@ public final class Linker {
    * @see vsim.assembler.Program
    * @return a RISC-V linked program
    */
-  private static LinkedProgram linkPrograms(ArrayList<Program> programs) {
+  private LinkedProgram linkPrograms(ArrayList<Program> programs) {
     // set start of text segment
-    Linker.textAddress = MemorySegments.TEXT_SEGMENT_BEGIN;
-    HashMap<Integer, Statement> all = new HashMap<Integer, Statement>();
-    if (Globals.globl.get(Settings.START) != null
-        && Globals.globl.getSymbol(Settings.START).getSegment() == Segment.TEXT) {
+    this.textAddress = MemorySegments.TEXT_SEGMENT_BEGIN;
+    ArrayList<Statement> all = new ArrayList<Statement>();
+    if (this.machine.getGlobl().get(Settings.START) != null
+        && this.machine.getGlobl().getSymbol(Settings.START).getSegment() == Segment.TEXT) {
       // far call to start label always the first (two) statements
       DebugInfo debug = new DebugInfo(0, 0, "call " + Settings.START, "start");
       // utype statement (CALL start)
       UType u = new UType("auipc", debug, "x6", new Relocation(Relocation.PCRELHI, Settings.START, debug));
-      u.build(Linker.textAddress);
-      Globals.memory.privStoreWord(Linker.textAddress, u.result().get(InstructionField.ALL));
-      all.put(Linker.textAddress, u);
+      u.build(this.machine, this.textAddress);
+      this.machine.getMemory().privStoreWord(this.textAddress, u.result().get(InstructionField.ALL));
+      all.add(u);
       // next word align address
-      Linker.textAddress += Data.WORD_LENGTH;
+      this.textAddress += Data.WORD_LENGTH;
       // itype statement (CALL start)
       IType i = new IType("jalr", debug, "x1", "x6", new Relocation(Relocation.PCRELLO, Settings.START, debug));
-      i.build(Linker.textAddress);
-      Globals.memory.privStoreWord(Linker.textAddress, i.result().get(InstructionField.ALL));
-      all.put(Linker.textAddress, i);
+      i.build(this.machine, this.textAddress);
+      this.machine.getMemory().privStoreWord(this.textAddress, i.result().get(InstructionField.ALL));
+      all.add(i);
       // next word align address
-      Linker.textAddress += Data.WORD_LENGTH;
+      this.textAddress += Data.WORD_LENGTH;
       for (Program program : programs) {
         for (Statement stmt : program.getStatements()) {
           // build machine code
-          stmt.build(Linker.textAddress);
+          stmt.build(this.machine, this.textAddress);
           // store result in text segment
           int code = stmt.result().get(InstructionField.ALL);
-          Globals.memory.privStoreWord(Linker.textAddress, code);
+          this.machine.getMemory().privStoreWord(this.textAddress, code);
           // add this statement
-          all.put(Linker.textAddress, stmt);
+          all.add(stmt);
           // next word align address
-          Linker.textAddress += Data.WORD_LENGTH;
-          if (Linker.textAddress > MemorySegments.TEXT_SEGMENT_END)
+          this.textAddress += Data.WORD_LENGTH;
+          if (this.textAddress > MemorySegments.TEXT_SEGMENT_END)
             Errors.add("linker: program to large > ~256MiB");
         }
       }
@@ -190,26 +199,27 @@ public final class Linker {
   }
 
   /**
-   * This method tries to link all programs, handling all data, relocating all symbols and reporting errors if any.
+   * This method tries to link all programs in the memory of a machine, handling all data, relocating all symbols and
+   * reporting errors if any.
    *
+   * @param machine machine where the programs are linked
    * @param programs an array of programs
    * @see vsim.linker.LinkedProgram
    * @see vsim.assembler.Program
    * @return a RISC-V linked program
    */
-  public static LinkedProgram link(ArrayList<Program> programs) {
+  public static LinkedProgram link(Machine machine, ArrayList<Program> programs) {
     if (programs != null) {
-      // reset this
-      Linker.dataAddress = MemorySegments.STATIC_SEGMENT;
-      // 2 words added because of the two initial statements representing the far call to START label
-      Linker.textAddress = MemorySegments.TEXT_SEGMENT_BEGIN + 2 * Data.WORD_LENGTH;
+      Linker linker = new Linker(machine);
+      // default memory layout permissions
+      machine.getMemory().resetPermissions();
       // handle static data
-      Linker.linkRodata(programs);
-      Linker.linkBss(programs);
-      Linker.linkData(programs);
-      Linker.linkSymbols(programs);
+      linker.linkRodata(programs);
+      linker.linkBss(programs);
+      linker.linkData(programs);
+      linker.linkSymbols(programs);
       // link all statements and get linked program
-      LinkedProgram program = Linker.linkPrograms(programs);
+      LinkedProgram program = linker.linkPrograms(programs);
       // report errors
       if (!Errors.report()) {
         // dump code statements ?
@@ -221,7 +231,7 @@ public final class Linker {
         // dump static data ?
         if (Settings.DATA != null) {
           File file = new File(Settings.DATA);
-          Linker.dumpData(file);
+          Linker.dumpData(machine, file);
           Settings.DATA = null;
         }
         // return linked program, now simulate ?
@@ -263,9 +273,10 @@ public final class Linker {
   /**
    * Dumps static data to a file.
    *
+   * @param machine machine where the program was linked
    * @param file file to dump static data
    */
-  public static void dumpData(File file) {
+  public static void dumpData(Machine machine, File file) {
     try {
       // create file if necessary
       if (!file.exists())
@@ -274,9 +285,9 @@ public final class Linker {
       try {
         BufferedWriter bw = new BufferedWriter(new FileWriter(file));
         long start = Integer.toUnsignedLong(MemorySegments.STATIC_SEGMENT);
-        long end = Integer.toUnsignedLong(MemorySegments.HEAP_SEGMENT_BEGIN);
+        long end = Integer.toUnsignedLong(machine.getMemory().getHeapBegin());
         for (long addr = start; addr < end; addr += Data.WORD_LENGTH) {
-          bw.write(String.format("%08x", Globals.memory.privLoadWord((int) addr)));
+          bw.write(String.format("%08x", machine.getMemory().privLoadWord((int) addr)));
           bw.newLine();
         }
         bw.close();
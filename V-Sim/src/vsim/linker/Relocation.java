@@ -18,7 +18,7 @@ along with this program.  If not, see <https://www.gnu.org/licenses/>
 package vsim.linker;
 
 import vsim.Errors;
-import vsim.Globals;
+import vsim.Machine;
 import vsim.assembler.DebugInfo;
 import vsim.assembler.SymbolTable;
 import vsim.utils.Data;
@@ -60,17 +60,18 @@ public final class Relocation {
    * This method tries to localize the address of the relocation target in the local symbol table of the program or the
    * global symbol table or creates an error if it is not found.
    *
+   * @param machine machine whose symbol tables are used
    * @return the address of the relocation target
    */
-  public int getTargetAddress() {
+  public int getTargetAddress(Machine machine) {
     int address = -1;
-    SymbolTable table = Globals.local.get(this.debug.getFilename());
+    SymbolTable table = machine.getLocal().get(this.debug.getFilename());
     // local lookup
     if (table != null && table.get(this.target) != null)
       address = table.get(this.target);
     // global lookup
-    else if (Globals.globl.get(this.target) != null)
-      address = Globals.globl.get(this.target);
+    else if (machine.getGlobl().get(this.target) != null)
+      address = machine.getGlobl().get(this.target);
     // relocation error
     else
       Errors.add(this.debug, "assembler", "label: '" + this.target + "' used but not defined");
@@ -80,11 +81,12 @@ public final class Relocation {
   /**
    * This method tries to resolve the relocation.
    *
+   * @param machine machine whose symbol tables are used
    * @param pc current program counter value
    * @return the resolved relocation
    */
-  public int resolve(int pc) {
-    int target = this.getTargetAddress();
+  public int resolve(Machine machine, int pc) {
+    int target = this.getTargetAddress(machine);
     int delta = target - pc;
     // correct target given a relocation type
     switch (this.type) {
@@ -0,0 +1,155 @@
+/*
+Copyright (C) 2018-2019 Andres Castellanos
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <https://www.gnu.org/licenses/>
+*/
+
+package vsim.riscv;
+
+import vsim.Machine;
+import vsim.riscv.exceptions.SimulationException;
+import vsim.utils.Data;
+
+
+/**
+ * The class CSR implements the control and status registers of the Zicsr extension. Only the read-only user counters
+ * are available: {@code cycle} and {@code instret} count the instructions retired by the current run (one cycle per
+ * instruction) and {@code time} is the same clock used by the TIME ecall, in milliseconds. The counters are not stored
+ * anywhere, they are derived from the instruction count of the running simulator when they are read.
+ *
+ * @see vsim.riscv.hardware.Clock
+ */
+public final class CSR {
+
+  /** cycle counter */
+  public static final int CYCLE = 0xc00;
+  /** real time clock */
+  public static final int TIME = 0xc01;
+  /** instructions retired counter */
+  public static final int INSTRET = 0xc02;
+  /** upper 32 bits of cycle */
+  public static final int CYCLEH = 0xc80;
+  /** upper 32 bits of time */
+  public static final int TIMEH = 0xc81;
+  /** upper 32 bits of instret */
+  public static final int INSTRETH = 0xc82;
+
+  /** csr names */
+  private static final String[] NAMES = { "cycle", "time", "instret", "cycleh", "timeh", "instreth" };
+  /** csr numbers, in the same order as the names */
+  private static final int[] NUMBERS = { CYCLE, TIME, INSTRET, CYCLEH, TIMEH, INSTRETH };
+
+  /**
+   * Gets the number of a csr given its name.
+   *
+   * @param name csr name, e.g cycle
+   * @return csr number or -1 if the name is not a csr
+   */
+  public static int number(String name) {
+    for (int i = 0; i < NAMES.length; i++) {
+      if (NAMES[i].equalsIgnoreCase(name))
+        return NUMBERS[i];
+    }
+    return -1;
+  }
+
+  /**
+   * Gets the name of a csr given its number.
+   *
+   * @param csr csr number
+   * @return csr name or its number in hex if the csr does not exist
+   */
+  public static String name(int csr) {
+    int index = CSR.index(csr);
+    return (index >= 0) ? NAMES[index] : String.format("0x%03x", csr);
+  }
+
+  /**
+   * Reads a csr, the counters are computed from the clock of the machine.
+   *
+   * @param machine machine where the csr is read
+   * @param csr csr number
+   * @return csr value
+   * @throws SimulationException if the csr does not exist
+   */
+  public static int read(Machine machine, int csr) throws SimulationException {
+    switch (csr) {
+      case CYCLE:
+      case INSTRET:
+        return (int) CSR.retired(machine);
+      case CYCLEH:
+      case INSTRETH:
+        return (int) (CSR.retired(machine) >>> Data.WORD_LENGTH_BITS);
+      case TIME:
+        return (int) Ecall.now(machine);
+      case TIMEH:
+        return (int) (Ecall.now(machine) >>> Data.WORD_LENGTH_BITS);
+      default:
+        throw CSR.invalid(machine, csr);
+    }
+  }
+
+  /**
+   * Writes a csr.
+   *
+   * @param machine machine where the csr is written
+   * @param csr csr number
+   * @param value new csr value
+   * @throws SimulationException if the csr does not exist or it is read-only, the counters are always read-only
+   */
+  public static void write(Machine machine, int csr, int value) throws SimulationException {
+    if (CSR.index(csr) < 0)
+      throw CSR.invalid(machine, csr);
+    throw new SimulationException(String.format("CSR %s is read-only at pc 0x%08x", CSR.name(csr),
+        machine.getRegfile().getProgramCounter()));
+  }
+
+  /**
+   * Gets the index of a csr in the csr tables.
+   *
+   * @param csr csr number
+   * @return index of the csr or -1 if the csr does not exist
+   */
+  private static int index(int csr) {
+    for (int i = 0; i < NUMBERS.length; i++) {
+      if (NUMBERS[i] == csr)
+        return i;
+    }
+    return -1;
+  }
+
+  /**
+   * Creates the exception of an access to a csr that does not exist.
+   *
+   * @param machine machine where the csr is accessed
+   * @param csr csr number
+   * @return simulation exception
+   */
+  private static SimulationException invalid(Machine machine, int csr) {
+    return new SimulationException(String.format("invalid CSR %s at pc 0x%08x", CSR.name(csr),
+        machine.getRegfile().getProgramCounter()));
+  }
+
+  /**
+   * Gets the number of instructions retired before the executing instruction.
+   *
+   * @param machine machine where the instruction is executed
+   * @return number of instructions retired
+   */
+  private static long retired(Machine machine) {
+    // the simulator accounts an instruction before executing it
+    return Math.max(machine.getClock().getInstructions() - 1, 0);
+  }
+
+}
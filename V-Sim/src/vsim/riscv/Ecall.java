@@ -17,19 +17,23 @@ along with this program.  If not, see <https://www.gnu.org/licenses/>
 
 package vsim.riscv;
 
-import java.util.Random;
-import vsim.Globals;
+import java.nio.charset.StandardCharsets;
+import vsim.Machine;
 import vsim.Settings;
 import vsim.riscv.exceptions.SimulationException;
-import vsim.simulator.Status;
+import vsim.riscv.hardware.RVIRegisterFile;
+import vsim.simulator.Budget;
 import vsim.utils.Data;
 import vsim.utils.FS;
 import vsim.utils.IO;
 import vsim.utils.Message;
+import vsim.utils.Tape;
 
 
 /**
- * The class Ecall contains methods that implement common environmental calls.
+ * The class Ecall contains methods that implement common environmental calls. Every nondeterministic input, i.e
+ * console reads, file system results, time, random numbers and the working directory, goes through the machine
+ * {@link vsim.utils.Tape}, so it can be recorded and replayed.
  */
 public final class Ecall {
 
@@ -61,97 +65,95 @@ public final class Ecall {
   private static final int RAND_INT_RNG = 26;
   private static final int RAND_FLOAT = 27;
 
-  /** random number generator */
-  private static final Random RNG = new Random();
-
   /**
    * This method is used to simulate the ecall instruction, it is called in
    * {@link vsim.riscv.instructions.itype.Ecall#compute} to handle the ecall request. First obtains the syscall code
    * from register a0 and then tries to match this code with the available syscalls. If the code does not match an
    * available syscall a warning is generated.
    *
+   * @param machine machine that executes the ecall
    * @throws SimulationException if some exception occur while handling environmental call
    */
-  public static void handler() throws SimulationException {
+  public static void handler(Machine machine) throws SimulationException {
     // match ecall code
-    switch (Globals.regfile.getRegister("a0")) {
+    switch (machine.getRegfile().getRegister("a0")) {
       case PRINT_INT:
-        Ecall.printInt();
+        Ecall.printInt(machine);
         break;
       case PRINT_FLOAT:
-        Ecall.printFloat();
+        Ecall.printFloat(machine);
         break;
       case PRINT_STRING:
-        Ecall.printString();
+        Ecall.printString(machine);
         break;
       case READ_INT:
-        Ecall.readInt();
+        Ecall.readInt(machine);
         break;
       case READ_FLOAT:
-        Ecall.readFloat();
+        Ecall.readFloat(machine);
         break;
       case READ_STRING:
-        Ecall.readString();
+        Ecall.readString(machine);
         break;
       case SBRK:
-        Ecall.sbrk();
+        Ecall.sbrk(machine);
         break;
       case EXIT:
-        Ecall.exit();
+        Ecall.exit(machine);
         break;
       case PRINT_CHAR:
-        Ecall.printChar();
+        Ecall.printChar(machine);
         break;
       case READ_CHAR:
-        Ecall.readChar();
+        Ecall.readChar(machine);
         break;
       case OPEN:
-        Ecall.open();
+        Ecall.open(machine);
         break;
       case READ:
-        Ecall.read();
+        Ecall.read(machine);
         break;
       case WRITE:
-        Ecall.write();
+        Ecall.write(machine);
         break;
       case CLOSE:
-        Ecall.close();
+        Ecall.close(machine);
         break;
       case EXIT2:
-        Ecall.exit2();
+        Ecall.exit2(machine);
         break;
       case SLEEP:
-        Ecall.sleep();
+        Ecall.sleep(machine);
         break;
       case CWD:
-        Ecall.cwd();
+        Ecall.cwd(machine);
         break;
       case TIME:
-        Ecall.time();
+        Ecall.time(machine);
         break;
       case PRINT_HEX:
-        Ecall.printHex();
+        Ecall.printHex(machine);
         break;
       case PRINT_BIN:
-        Ecall.printBin();
+        Ecall.printBin(machine);
         break;
       case PRINT_USGN:
-        Ecall.printUsgn();
+        Ecall.printUsgn(machine);
         break;
       case SET_SEED:
-        Ecall.setSeed();
+        Ecall.setSeed(machine);
         break;
       case RAND_INT:
-        Ecall.randInt();
+        Ecall.randInt(machine);
         break;
       case RAND_INT_RNG:
-        Ecall.randIntRng();
+        Ecall.randIntRng(machine);
         break;
       case RAND_FLOAT:
-        Ecall.randFloat();
+        Ecall.randFloat(machine);
         break;
       default:
-        throw new SimulationException("ecall: invalid ecall code: " + Globals.regfile.getRegister("a0"));
+        throw new SimulationException("ecall: invalid ecall code: " + machine.getRegfile().getRegister("a0"));
     }
   }
 
@@ -159,8 +161,8 @@ public final class Ecall {
    * This method implements the PRINT_INT syscall, first gets the int value from a1 register and then prints it to
    * stdout.
    */
-  private static void printInt() {
-    int num = Globals.regfile.getRegister("a1");
+  private static void printInt(Machine machine) {
+    int num = machine.getRegfile().getRegister("a1");
     if (Settings.GUI)
       IO.guistdout.postRunMessage(Integer.toString(num), "#b71c1c");
     else
@@ -171,8 +173,8 @@ public final class Ecall {
    * This method implements the PRINT_FLOAT syscall, first gets the float value from f12 register and then prints it to
    * stdout.
    */
-  private static void printFloat() {
-    float num = Globals.fregfile.getRegister("fa0");
+  private static void printFloat(Machine machine) {
+    float num = machine.getFregfile().getRegister("fa0");
     if (Settings.GUI)
       IO.guistdout.postRunMessage(Float.toString(num), "#b71c1c");
     else
@@ -183,11 +185,11 @@ public final class Ecall {
    * This method implements the PRINT_STRING syscall, first gets the address of the buffer to print from register a1 and
    * then obtains char by char the null terminated string from memory, then prints it.
    */
-  private static void printString() throws SimulationException {
-    int buffer = Globals.regfile.getRegister("a1");
+  private static void printString(Machine machine) throws SimulationException {
+    int buffer = machine.getRegfile().getRegister("a1");
     StringBuffer s = new StringBuffer(0);
     char c;
-    while ((c = (char) Globals.memory.loadByteUnsigned(buffer)) != '\0') {
+    while ((c = (char) machine.getMemory().loadByteUnsigned(buffer)) != '\0') {
       s.append(c);
       buffer++;
     }
@@ -201,9 +203,9 @@ public final class Ecall {
    * This method implements the READ_INT syscall, first tries to get the int value from stdin and then saves it in
    * register a0.
    */
-  private static void readInt() throws SimulationException {
+  private static void readInt(Machine machine) throws SimulationException {
     try {
-      Globals.regfile.setRegister("a0", IO.readInt());
+      machine.getRegfile().setRegister("a0", (int) machine.getTape().value(Tape.READ_INT, IO::readInt));
     } catch (NumberFormatException e) {
       throw new SimulationException("ecall: invalid integer input");
     }
@@ -213,9 +215,10 @@ public final class Ecall {
    * This method implements the READ_FLOAT syscall, first tries to get the float value from stdin and then saves it in
    * register fa0.
    */
-  private static void readFloat() throws SimulationException {
+  private static void readFloat(Machine machine) throws SimulationException {
     try {
-      Globals.fregfile.setRegister("fa0", IO.readFloat());
+      long bits = machine.getTape().value(Tape.READ_FLOAT, () -> Float.floatToRawIntBits(IO.readFloat()));
+      machine.getFregfile().setRegister("fa0", Float.intBitsToFloat((int) bits));
     } catch (NumberFormatException e) {
       throw new SimulationException("ecall: invalid float input");
     }
@@ -225,16 +228,18 @@ public final class Ecall {
    * This method implements the READ_STRING syscall, first tries to read a line from stdin, then stores char by char the
    * string in memory starting at address given in register a1 until length given in register a2 is reached.
    */
-  private static void readString() throws SimulationException {
-    int buffer = Globals.regfile.getRegister("a1");
-    int length = Math.max(Globals.regfile.getRegister("a2") - 1, 0);
-    String s = IO.readString(length);
+  private static void readString(Machine machine) throws SimulationException {
+    int buffer = machine.getRegfile().getRegister("a1");
+    int length = Math.max(machine.getRegfile().getRegister("a2") - 1, 0);
+    byte[] bytes =
+        machine.getTape().bytes(Tape.READ_STRING, () -> IO.readString(length).getBytes(StandardCharsets.UTF_8));
+    String s = new String(bytes, StandardCharsets.UTF_8);
     int minLength = Math.min(length, s.length());
     for (int i = 0; i < minLength; i++) {
       char c = s.charAt(i);
-      Globals.memory.storeByte(buffer++, c);
+      machine.getMemory().storeByte(buffer++, c);
     }
-    Globals.memory.storeByte(buffer, 0);
+    machine.getMemory().storeByte(buffer, 0);
   }
 
   /**
@@ -242,19 +247,19 @@ public final class Ecall {
    * {@link vsim.riscv.Memory#allocateBytesFromHeap} to obtain the address/pointer to the allocated space then saves the
    * result in register a0.
    */
-  private static void sbrk() throws SimulationException {
-    int numBytes = Globals.regfile.getRegister("a1");
+  private static void sbrk(Machine machine) throws SimulationException {
+    int numBytes = machine.getRegfile().getRegister("a1");
     if (numBytes >= 0) {
-      int address = Globals.memory.allocateBytesFromHeap(numBytes);
-      Globals.regfile.setRegister("a0", address);
+      int address = machine.getMemory().allocateBytesFromHeap(numBytes);
+      machine.getRegfile().setRegister("a0", address);
     } else
       throw new SimulationException("ecall: number of bytes should be >= 0");
   }
 
   /**
-   * This method implements the EXIT syscall, first logs the status, then calls System.exit(0).
+   * This method implements the EXIT syscall, first logs the status, then terminates the machine with status 0.
    */
-  private static void exit() {
+  private static void exit(Machine machine) {
     if (Settings.GUI) {
       IO.guistdout.postRunMessage(System.getProperty("line.separator"));
       IO.guistdout.postRunMessage("vsim: " + "exit(", "#01579b");
@@ -264,17 +269,15 @@ public final class Ecall {
       IO.stdout.println();
       Message.log("exit(0)");
     }
-    Status.EXIT.set(true);
-    if (!Settings.GUI)
-      System.exit(0);
+    machine.exit(0);
   }
 
   /**
    * This method implements the PRINT_CHAR syscall, first obtains the char value from register a1, then prints it to
    * stdout.
    */
-  private static void printChar() {
-    char c = (char) Globals.regfile.getRegister("a1");
+  private static void printChar(Machine machine) {
+    char c = (char) machine.getRegfile().getRegister("a1");
     if (Settings.GUI)
       IO.guistdout.postRunMessage(c + "", "#004d40");
     else
@@ -285,8 +288,8 @@ public final class Ecall {
    * This method implements the READ_CHAR syscall, first tries to read a char from stdin, then saves the char value in
    * register a0.
    */
-  private static void readChar() {
-    Globals.regfile.setRegister("a0", IO.readChar());
+  private static void readChar(Machine machine) throws SimulationException {
+    machine.getRegfile().setRegister("a0", (int) machine.getTape().value(Tape.READ_CHAR, IO::readChar));
   }
 
   /**
@@ -294,15 +297,18 @@ public final class Ecall {
    *
    * @see vsim.utils.FS#open
    */
-  private static void open() throws SimulationException {
-    int buffer = Globals.regfile.getRegister("a1");
+  private static void open(Machine machine) throws SimulationException {
+    int buffer = machine.getRegfile().getRegister("a1");
     StringBuffer s = new StringBuffer(0);
     char c;
-    while ((c = (char) Globals.memory.loadByteUnsigned(buffer)) != '\0') {
+    while ((c = (char) machine.getMemory().loadByteUnsigned(buffer)) != '\0') {
       s.append(c);
       buffer++;
     }
-    Globals.regfile.setRegister("a0", FS.open(s.toString(), Globals.regfile.getRegister("a2")));
+    String path = s.toString();
+    int flags = machine.getRegfile().getRegister("a2");
+    machine.getRegfile().setRegister("a0",
+        (int) machine.getTape().value(Tape.OPEN, () -> machine.getFS().open(path, flags)));
   }
 
   /**
@@ -310,10 +316,26 @@ public final class Ecall {
    *
    * @see vsim.utils.FS#read
    */
-  private static void read() throws SimulationException {
-    if (Globals.regfile.getRegister("a3") > 0) {
-      Globals.regfile.setRegister("a0", FS.read(Globals.regfile.getRegister("a1"), Globals.regfile.getRegister("a2"),
-          Globals.regfile.getRegister("a3")));
+  private static void read(Machine machine) throws SimulationException {
+    RVIRegisterFile regfile = machine.getRegfile();
+    int fd = regfile.getRegister("a1");
+    int buffer = regfile.getRegister("a2");
+    int nbytes = regfile.getRegister("a3");
+    if (nbytes > 0) {
+      Tape tape = machine.getTape();
+      int count = (int) tape.value(Tape.READ, () -> machine.getFS().read(fd, buffer, nbytes));
+      if (count > 0 && tape != Tape.OFF) {
+        // replayed bytes are stored now, recorded bytes are already in memory
+        byte[] data = tape.bytes(Tape.READ_DATA, () -> {
+          byte[] bytes = new byte[count];
+          for (int i = 0; i < count; i++)
+            bytes[i] = (byte) machine.getMemory().loadByte(buffer + i);
+          return bytes;
+        });
+        for (int i = 0; i < data.length; i++)
+          machine.getMemory().storeByte(buffer + i, data[i]);
+      }
+      regfile.setRegister("a0", count);
     } else
       throw new SimulationException("ecall: number of bytes should be > 0");
   }
@@ -323,10 +345,18 @@ public final class Ecall {
    *
    * @see vsim.utils.FS#write
    */
-  private static void write() throws SimulationException {
-    if (Globals.regfile.getRegister("a3") > 0) {
-      Globals.regfile.setRegister("a0", FS.write(Globals.regfile.getRegister("a1"), Globals.regfile.getRegister("a2"),
-          Globals.regfile.getRegister("a3")));
+  private static void write(Machine machine) throws SimulationException {
+    RVIRegisterFile regfile = machine.getRegfile();
+    int fd = regfile.getRegister("a1");
+    int buffer = regfile.getRegister("a2");
+    int nbytes = regfile.getRegister("a3");
+    if (nbytes > 0) {
+      // console output is never replayed, the file system is
+      if (fd == FS.STDOUT || fd == FS.STDERR)
+        regfile.setRegister("a0", machine.getFS().write(fd, buffer, nbytes));
+      else
+        regfile.setRegister("a0",
+            (int) machine.getTape().value(Tape.WRITE, () -> machine.getFS().write(fd, buffer, nbytes)));
     } else
       throw new SimulationException("ecall: number of bytes should be > 0");
   }
@@ -336,17 +366,18 @@ public final class Ecall {
    *
    * @see vsim.utils.FS#close
    */
-  private static void close() throws SimulationException {
-    Globals.regfile.setRegister("a0", FS.close(Globals.regfile.getRegister("a1")));
+  private static void close(Machine machine) throws SimulationException {
+    int fd = machine.getRegfile().getRegister("a1");
+    machine.getRegfile().setRegister("a0", (int) machine.getTape().value(Tape.CLOSE, () -> machine.getFS().close(fd)));
   }
 
   /**
    * This method implements the EXIT2 syscall, first obtains the status code from register a1, prints the status, then
-   * calls System.exit with the obtained status.
+   * terminates the machine with the obtained status.
    */
-  private static void exit2() {
-    int status = Globals.regfile.getRegister("a1");
-    Status.EXIT.set(true);
+  private static void exit2(Machine machine) {
+    int status = machine.getRegfile().getRegister("a1");
+    machine.exit(status);
     if (Settings.GUI) {
       IO.guistdout.postRunMessage(System.getProperty("line.separator"));
       IO.guistdout.postRunMessage("vsim: " + "exit(", "#01579b");
@@ -356,16 +387,27 @@ public final class Ecall {
       IO.stdout.println();
       Message.log("exit(" + status + ")");
     }
-    if (!Settings.GUI)
-      System.exit(status);
   }
 
   /**
    * This method implements the SLEEP syscall.
    */
-  private static void sleep() throws SimulationException {
-    int millis = Globals.regfile.getRegister("a1");
+  private static void sleep(Machine machine) throws SimulationException {
+    int millis = machine.getRegfile().getRegister("a1");
     if (millis >= 0) {
+      // virtual time and replayed runs do not wait
+      if (Settings.VIRTUAL_TIME) {
+        machine.getClock().sleep(millis);
+        return;
+      }
+      if (machine.getTape().isReplaying())
+        return;
+      // a limited run sleeps at most until its deadline
+      Budget budget = machine.getBudget();
+      if (budget != null) {
+        budget.sleep(millis);
+        return;
+      }
       try {
         Thread.sleep(millis);
       } catch (Exception e) {
@@ -377,29 +419,45 @@ public final class Ecall {
   /**
    * This method implements the PWD syscall.
    */
-  private static void cwd() throws SimulationException {
-    String path = System.getProperty("user.dir");
-    int buffer = Globals.regfile.getRegister("a1");
+  private static void cwd(Machine machine) throws SimulationException {
+    byte[] bytes = machine.getTape().bytes(Tape.CWD,
+        () -> System.getProperty("user.dir").getBytes(StandardCharsets.UTF_8));
+    String path = new String(bytes, StandardCharsets.UTF_8);
+    int buffer = machine.getRegfile().getRegister("a1");
     for (int i = 0; i < path.length(); i++) {
-      Globals.memory.storeByte(buffer++, (int) path.charAt(i));
+      machine.getMemory().storeByte(buffer++, (int) path.charAt(i));
     }
-    Globals.memory.storeByte(buffer, 0);
+    machine.getMemory().storeByte(buffer, 0);
   }
 
   /**
    * This method implements the TIME syscall.
    */
-  private static void time() {
-    long time = System.currentTimeMillis();
-    Globals.regfile.setRegister("a1", (int) (time >>> Data.WORD_LENGTH_BITS));
-    Globals.regfile.setRegister("a0", (int) (time & 0xffffffffL));
+  private static void time(Machine machine) throws SimulationException {
+    long time = Ecall.now(machine);
+    machine.getRegfile().setRegister("a1", (int) (time >>> Data.WORD_LENGTH_BITS));
+    machine.getRegfile().setRegister("a0", (int) (time & 0xffffffffL));
+  }
+
+  /**
+   * Gets the system time, or the virtual time if it is enabled, also used by the time CSR.
+   *
+   * @param machine machine that reads the time
+   * @return time in milliseconds
+   * @throws SimulationException if the time could not be replayed
+   */
+  static long now(Machine machine) throws SimulationException {
+    // virtual time is deterministic, it is not recorded
+    if (Settings.VIRTUAL_TIME)
+      return machine.getClock().millis(Settings.TIME_RATE);
+    return machine.getTape().value(Tape.TIME, System::currentTimeMillis);
   }
 
   /**
    * This method implements the PRINT_HEX syscall.
    */
-  private static void printHex() {
-    int value = Globals.regfile.getRegister("a1");
+  private static void printHex(Machine machine) {
+    int value = machine.getRegfile().getRegister("a1");
     if (Settings.GUI)
       IO.guistdout.postRunMessage(String.format("0x%08x", value), "#b71c1c");
     else
@@ -409,8 +467,8 @@ public final class Ecall {
   /**
    * This method implements the PRINT_BIN syscall.
    */
-  private static void printBin() {
-    int value = Globals.regfile.getRegister("a1");
+  private static void printBin(Machine machine) {
+    int value = machine.getRegfile().getRegister("a1");
     if (Settings.GUI)
       IO.guistdout.postRunMessage(String.format("0b%32s", Integer.toBinaryString(value)).replace(' ', '0'), "#b71c1c");
     else
@@ -420,8 +478,8 @@ public final class Ecall {
   /**
    * This method implements the PRINT_USGN syscall.
    */
-  private static void printUsgn() {
-    int value = Globals.regfile.getRegister("a1");
+  private static void printUsgn(Machine machine) {
+    int value = machine.getRegfile().getRegister("a1");
     if (Settings.GUI)
       IO.guistdout.postRunMessage(Long.toString(Integer.toUnsignedLong(value)), "#b71c1c");
     else
@@ -431,31 +489,33 @@ public final class Ecall {
   /**
    * This method implements the SET_SEED syscall.
    */
-  private static void setSeed() {
-    Ecall.RNG.setSeed(Globals.regfile.getRegister("a1"));
+  private static void setSeed(Machine machine) {
+    machine.getRandom().setSeed(machine.getRegfile().getRegister("a1"));
   }
 
   /**
    * This method implements the RAND_INT syscall.
    */
-  private static void randInt() {
-    Globals.regfile.setRegister("a0", Ecall.RNG.nextInt());
+  private static void randInt(Machine machine) throws SimulationException {
+    machine.getRegfile().setRegister("a0", (int) machine.getTape().value(Tape.RANDOM, machine.getRandom()::nextInt));
   }
 
   /**
    * This method implements the RAND_INT_RNG syscall.
    */
-  private static void randIntRng() {
-    int min = Globals.regfile.getRegister("a1");
-    int max = Globals.regfile.getRegister("a2");
-    Globals.regfile.setRegister("a0", Ecall.RNG.nextInt((max - min) + 1) + min);
+  private static void randIntRng(Machine machine) throws SimulationException {
+    int min = machine.getRegfile().getRegister("a1");
+    int max = machine.getRegfile().getRegister("a2");
+    machine.getRegfile().setRegister("a0",
+        (int) machine.getTape().value(Tape.RANDOM, () -> machine.getRandom().nextInt((max - min) + 1) + min));
   }
 
   /**
    * This method implements the RAND_FLOAT syscall.
    */
-  private static void randFloat() {
-    Globals.fregfile.setRegister("fa0", Ecall.RNG.nextFloat());
+  private static void randFloat(Machine machine) throws SimulationException {
+    long bits = machine.getTape().value(Tape.RANDOM, () -> Float.floatToRawIntBits(machine.getRandom().nextFloat()));
+    machine.getFregfile().setRegister("fa0", Float.intBitsToFloat((int) bits));
   }
 
 }
@@ -55,7 +55,8 @@ public final class InstructionSet {
 
   /** current classes in itype package */
   private static final String[] IClasses = { "Jalr", "Lb", "Lh", "Lw", "Lbu", "Lhu", "Addi", "Slti", "Sltiu", "Xori",
-      "Ori", "Andi", "Slli", "Srli", "Srai", "Ecall", "Flw", "Ebreak" };
+      "Ori", "Andi", "Slli", "Srli", "Srai", "Ecall", "Flw", "Ebreak", "Csrrw", "Csrrs", "Csrrc", "Csrrwi", "Csrrsi",
+      "Csrrci" };
 
   /** current classes in stype package */
   private static final String[] SClasses = { "Sb", "Sh", "Sw", "Fsw" };
@@ -122,7 +123,11 @@ public final class InstructionSet {
       { "jal", "jal offset", "jal x1, offset" }, { "jr", "jr rs", "jalr x0, 0(rs)" },
       { "jalr", "jalr rs", "jalr x1, 0(rs)" }, { "ret", "ret", "jalr x0, 0(x1)" },
       { "call", "call offset", "auipc x1, offset[31:12] + offset[11]" + NL + "jalr x1, offset[11:0](x1)" },
-      { "tail", "tail offset", "auipc x6, offset[31:12] + offset[11]" + NL + "jalr x0, offset[11:0](x6" } };
+      { "tail", "tail offset", "auipc x6, offset[31:12] + offset[11]" + NL + "jalr x0, offset[11:0](x6" },
+      { "csrr", "csrr rd, csr", "csrrs rd, csr, x0" }, { "rdcycle", "rdcycle rd", "csrrs rd, cycle, x0" },
+      { "rdcycleh", "rdcycleh rd", "csrrs rd, cycleh, x0" }, { "rdtime", "rdtime rd", "csrrs rd, time, x0" },
+      { "rdtimeh", "rdtimeh rd", "csrrs rd, timeh, x0" }, { "rdinstret", "rdinstret rd", "csrrs rd, instret, x0" },
+      { "rdinstreth", "rdinstreth rd", "csrrs rd, instreth, x0" } };
 
   /**
    * Unique constructor that initializes a newly InstructionSet object.
@@ -357,12 +362,29 @@ public final class InstructionSet {
           default:
             return null;
         }
-      case 0b1110011:
-        switch (code.get(InstructionField.IMM_11_0)) {
-          case 0b000000000000: // ecall
-            return "ecall";
-          case 0b000000000001: // ebreak
-            return "ebreak";
+      case 0b1110011: // system
+        switch (code.get(InstructionField.FUNCT3)) {
+          case 0b000:
+            switch (code.get(InstructionField.IMM_11_0)) {
+              case 0b000000000000: // ecall
+                return "ecall";
+              case 0b000000000001: // ebreak
+                return "ebreak";
+              default:
+                return null;
+            }
+          case 0b001: // csrrw
+            return "csrrw";
+          case 0b010: // csrrs
+            return "csrrs";
+          case 0b011: // csrrc
+            return "csrrc";
+          case 0b101: // csrrwi
+            return "csrrwi";
+          case 0b110: // csrrsi
+            return "csrrsi";
+          case 0b111: // csrrci
+            return "csrrci";
           default:
             return null;
         }
@@ -17,9 +17,6 @@ along with this program.  If not, see <https://www.gnu.org/licenses/>
 
 package vsim.riscv.exceptions;
 
-import vsim.Globals;
-
-
 /**
  * Breakpoint exception class throwed by ebreak statement.
  */
@@ -27,9 +24,11 @@ public final class BreakpointException extends SimulationException {
 
   /**
    * Creates a new breakpoint exception.
+   *
+   * @param address address of the ebreak statement
    */
-  public BreakpointException() {
-    super(String.format("breakpoint exception at: 0x%08x", Globals.regfile.getProgramCounter()));
+  public BreakpointException(int address) {
+    super(String.format("breakpoint exception at: 0x%08x", address));
   }
 
 }
@@ -17,17 +17,18 @@ along with this program.  If not, see <https://www.gnu.org/licenses/>
 
 package vsim.riscv.exceptions;
 
-import vsim.Globals;
-
-
 /**
  * Non-Instruction exception throwed when attempt to execute an invalid 0x00000000 instruction.
  */
 public final class NonInstructionException extends SimulationException {
 
-  /** Creates a new non-instruction exception. */
-  public NonInstructionException() {
-    super(String.format("attempt to execute non-instruction at 0x%08x", Globals.regfile.getProgramCounter()));
+  /**
+   * Creates a new non-instruction exception.
+   *
+   * @param address address of the non-instruction
+   */
+  public NonInstructionException(int address) {
+    super(String.format("attempt to execute non-instruction at 0x%08x", address));
   }
 
 }
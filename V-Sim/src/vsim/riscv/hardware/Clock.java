@@ -0,0 +1,115 @@
+/*
+Copyright (C) 2018-2019 Andres Castellanos
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <https://www.gnu.org/licenses/>
+*/
+
+package vsim.riscv.hardware;
+
+import java.util.function.LongSupplier;
+
+
+/**
+ * The class Clock implements the virtual clock of a machine. Virtual time starts at 0 when the program starts, it is
+ * advanced by the SLEEP ecall without waiting and, optionally, by the executed instructions at a fixed rate. The
+ * instruction count is not kept here, it is read from the running simulator, so executing an instruction costs
+ * nothing extra.
+ *
+ * @see vsim.Settings#VIRTUAL_TIME
+ * @see vsim.Settings#TIME_RATE
+ */
+public final class Clock {
+
+  /** instruction counter of a machine that is not running */
+  private static final LongSupplier STOPPED = () -> 0L;
+
+  /** number of instructions executed by the current run */
+  private LongSupplier counter;
+  /** virtual milliseconds slept */
+  private long slept;
+
+  /**
+   * Creates a new virtual clock at time 0.
+   */
+  public Clock() {
+    this.counter = STOPPED;
+    this.slept = 0;
+  }
+
+  /**
+   * Sets the instruction counter of the current run, called by the simulator and the debugger when they start.
+   *
+   * @param counter number of instructions executed so far
+   */
+  public void setCounter(LongSupplier counter) {
+    this.counter = counter;
+  }
+
+  /**
+   * Gets the number of instructions executed by the current run.
+   *
+   * @return number of instructions executed
+   */
+  public long getInstructions() {
+    return this.counter.getAsLong();
+  }
+
+  /**
+   * Advances the clock without waiting.
+   *
+   * @param millis virtual milliseconds
+   */
+  public void sleep(long millis) {
+    this.slept += millis;
+  }
+
+  /**
+   * Gets the virtual milliseconds slept, used by the debugger to step back.
+   *
+   * @return virtual milliseconds slept
+   */
+  public long getSlept() {
+    return this.slept;
+  }
+
+  /**
+   * Sets the virtual milliseconds slept, used by the debugger to step back.
+   *
+   * @param slept a value returned by {@link #getSlept}
+   */
+  public void setSlept(long slept) {
+    this.slept = slept;
+  }
+
+  /**
+   * Gets the virtual time.
+   *
+   * @param rate instructions per virtual millisecond (0 = only sleeps advance the clock)
+   * @return virtual milliseconds since the program started
+   */
+  public long millis(long rate) {
+    long time = this.slept;
+    if (rate > 0)
+      time += this.counter.getAsLong() / rate;
+    return time;
+  }
+
+  /**
+   * Resets the clock to time 0.
+   */
+  public void reset() {
+    this.slept = 0;
+  }
+
+}
@@ -0,0 +1,45 @@
+/*
+Copyright (C) 2018-2019 Andres Castellanos
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <https://www.gnu.org/licenses/>
+*/
+
+package vsim.riscv.hardware;
+
+/**
+ * The Journal interface is used to log the previous values of the hardware state before it is modified, e.g to undo
+ * simulator steps.
+ */
+public interface Journal {
+
+  /** RVI register file write */
+  public static final int RVI = 0;
+
+  /** RVF register file write */
+  public static final int RVF = 1;
+
+  /** main memory word write */
+  public static final int MEMORY = 2;
+
+  /**
+   * Called before a register or a memory word is modified.
+   *
+   * @param kind what is being modified, {@link vsim.riscv.hardware.Journal#RVI},
+   *        {@link vsim.riscv.hardware.Journal#RVF} or {@link vsim.riscv.hardware.Journal#MEMORY}
+   * @param index register number or word aligned memory address
+   * @param old previous register or memory word value
+   */
+  public void log(int kind, int index, int old);
+
+}
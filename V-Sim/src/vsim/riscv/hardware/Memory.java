@@ -17,7 +17,9 @@ along with this program.  If not, see <https://www.gnu.org/licenses/>
 
 package vsim.riscv.hardware;
 
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.Map;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import vsim.Settings;
@@ -35,23 +37,80 @@ public final class Memory {
   /** number of memory cells to show in the GUI application */
   private static final int ROWS = 32;
 
-  /** start address to generate memory cells */
-  private static int START = MemorySegments.STATIC_SEGMENT + (ROWS - 1) * Data.WORD_LENGTH;
+  /** number of address bits of a page offset, pages are 4 KiB */
+  private static final int PAGE_BITS = 12;
+
+  /** number of address bits of a page table index */
+  private static final int TABLE_BITS = 10;
+
+  /** number of entries of a page table and of the page directory */
+  private static final int TABLE_SIZE = 1 << TABLE_BITS;
+
+  /** page table index mask */
+  private static final int TABLE_MASK = TABLE_SIZE - 1;
+
+  /** page offset mask */
+  private static final int PAGE_MASK = (1 << PAGE_BITS) - 1;
+
+  /** number of words of a page */
+  private static final int PAGE_WORDS = (1 << PAGE_BITS) / Data.WORD_LENGTH;
+
+  /** number of pages of the 32-bit address space */
+  private static final int PAGES = 1 << (Data.WORD_LENGTH_BITS - PAGE_BITS);
+
+  /** no access permission */
+  public static final int NONE = 0x0;
+
+  /** read permission */
+  public static final int READ = 0x1;
+
+  /** write permission */
+  public static final int WRITE = 0x2;
+
+  /** execute permission */
+  public static final int EXECUTE = 0x4;
 
-  /** the only available instance of the Memory class */
-  public static final Memory ram = new Memory();
+  /** page with more than one permission, the permissions of this page are kept by byte */
+  private static final int MIXED = 0x8;
 
-  /** all allocated bytes */
-  private HashMap<Integer, Byte> memory;
+  /** page with at least one watched address, accesses to this page are notified to the watcher */
+  private static final int WATCH = 0x10;
+
+  /** two level page directory over the 32-bit address space, pages are allocated on first write */
+  private int[][][] memory;
+
+  /** pages written since the last image was taken, one bit per page */
+  private final long[] ownedPages;
+
+  /** page tables written since the last image was taken */
+  private final boolean[] ownedTables;
 
   /** memory snapshot */
-  private HashMap<Integer, Byte> snap;
+  private MemoryImage snap;
+
+  /** page permissions */
+  private byte[] perms;
+
+  /** byte permissions of mixed pages */
+  private HashMap<Integer, byte[]> mixed;
 
-  /** heap snapshot */
-  private int heapSnap;
+  /** if the permissions are shared with a forked memory, they are copied before they change */
+  private boolean sharedPerms;
 
-  /** current memory diff */
-  private HashMap<Integer, Byte> diff;
+  /** memory writes journal */
+  private Journal journal;
+
+  /** watched pages accesses watcher */
+  private Watcher watcher;
+
+  /** heap segment pointer (-1 if the program is not linked yet) */
+  private int heap;
+
+  /** memory address where the heap segment starts (-1 if the program is not linked yet) */
+  private int heapBegin;
+
+  /** start address to generate memory cells */
+  private int start;
 
   /** memory cell list */
   private ObservableList<MemoryCell> cells;
@@ -62,14 +121,170 @@ public final class Memory {
    * @see vsim.riscv.Register
    * @see vsim.riscv.RVIRegisterFile
    */
-  private Memory() {
-    this.memory = new HashMap<Integer, Byte>();
-    this.diff = new HashMap<Integer, Byte>();
-    this.heapSnap = -1;
-    // create initial memory cells
+  public Memory() {
+    this.memory = new int[TABLE_SIZE][][];
+    this.ownedPages = new long[PAGES / Long.SIZE];
+    this.ownedTables = new boolean[TABLE_SIZE];
+    this.perms = new byte[PAGES];
+    this.mixed = new HashMap<Integer, byte[]>();
+    this.sharedPerms = false;
+    this.heap = -1;
+    this.heapBegin = -1;
+    this.start = MemorySegments.STATIC_SEGMENT + (ROWS - 1) * Data.WORD_LENGTH;
+    this.resetPermissions();
+    this.createCells();
+  }
+
+  /**
+   * Creates a memory forked from an image of another memory. Pages and permissions are shared with the other memory
+   * and only copied when written, the image is the snapshot of the new memory.
+   *
+   * @param parent forked memory
+   * @param image image of the forked memory
+   */
+  private Memory(Memory parent, MemoryImage image) {
+    this.memory = image.getDirectory().clone();
+    this.ownedPages = new long[PAGES / Long.SIZE];
+    this.ownedTables = new boolean[TABLE_SIZE];
+    this.snap = image;
+    this.perms = parent.perms;
+    this.mixed = parent.mixed;
+    this.sharedPerms = true;
+    this.heap = image.getHeapPointer();
+    this.heapBegin = parent.heapBegin;
+    this.start = parent.start;
+    this.createCells();
+  }
+
+  /**
+   * Creates the initial memory cells.
+   */
+  private void createCells() {
     this.cells = FXCollections.observableArrayList();
-    for (int i = Memory.START, j = 0; j < ROWS; i -= Data.WORD_LENGTH, j++)
-      this.cells.add(new MemoryCell(i));
+    for (int i = this.start, j = 0; j < ROWS; i -= Data.WORD_LENGTH, j++)
+      this.cells.add(new MemoryCell(this, i));
+  }
+
+  /*
+   * PAGES
+   */
+
+  /**
+   * Gets the page that contains the address given.
+   *
+   * @param address any address of the page
+   * @return the page or null if the page was never written
+   */
+  private int[] page(int address) {
+    int[][] table = this.memory[address >>> (PAGE_BITS + TABLE_BITS)];
+    if (table == null)
+      return null;
+    return table[(address >>> PAGE_BITS) & TABLE_MASK];
+  }
+
+  /**
+   * Gets the page that contains the address given ready to be written. Pages and page tables shared with a memory
+   * image are copied first (copy-on-write) and missing pages are allocated if requested.
+   *
+   * @param address any address of the page
+   * @param allocate true to allocate the page if it was never written
+   * @return the page or null if the page was never written and allocation was not requested
+   */
+  private int[] writablePage(int address, boolean allocate) {
+    int dir = address >>> (PAGE_BITS + TABLE_BITS);
+    int index = (address >>> PAGE_BITS) & TABLE_MASK;
+    int[][] table = this.memory[dir];
+    int[] page = (table != null) ? table[index] : null;
+    if (page == null && !allocate)
+      return null;
+    // copy page table if it is shared with an image
+    if (table == null || !this.ownedTables[dir]) {
+      table = (table == null) ? new int[TABLE_SIZE][] : table.clone();
+      this.memory[dir] = table;
+      this.ownedTables[dir] = true;
+    }
+    // copy page if it is shared with an image
+    int number = address >>> PAGE_BITS;
+    long bit = 1L << number;
+    if (page == null || (this.ownedPages[number >>> 6] & bit) == 0) {
+      page = (page == null) ? new int[PAGE_WORDS] : page.clone();
+      table[index] = page;
+      this.ownedPages[number >>> 6] |= bit;
+    }
+    return page;
+  }
+
+  /**
+   * Writes a naturally aligned byte, half or word in its page.
+   *
+   * @param address aligned address where to write the value
+   * @param value the value to write
+   * @param mask value mask, {@link vsim.utils.Data#BYTE_MASK}, {@link vsim.utils.Data#HALF_MASK} or
+   *        {@link vsim.utils.Data#WORD_MASK}
+   */
+  private void write(int address, int value, int mask) {
+    value &= mask;
+    // untouched pages are zero filled, so there is no need to allocate them
+    int[] page = this.writablePage(address, value != 0);
+    if (page == null)
+      return;
+    int index = (address & PAGE_MASK) >>> 2;
+    int shift = (address & (Data.WORD_LENGTH - 1)) << 3;
+    int word = (page[index] & ~(mask << shift)) | (value << shift);
+    // log previous word value
+    if (this.journal != null && word != page[index])
+      this.journal.log(Journal.MEMORY, address & ~(Data.WORD_LENGTH - 1), page[index]);
+    page[index] = word;
+  }
+
+  /**
+   * Reads a naturally aligned and unsigned byte, half or word from its page.
+   *
+   * @param address aligned address where to read the value
+   * @param mask value mask, {@link vsim.utils.Data#BYTE_MASK}, {@link vsim.utils.Data#HALF_MASK} or
+   *        {@link vsim.utils.Data#WORD_MASK}
+   * @return the unsigned value
+   */
+  private int read(int address, int mask) {
+    int[] page = this.page(address);
+    if (page == null)
+      return 0x0;
+    return (page[(address & PAGE_MASK) >>> 2] >>> ((address & (Data.WORD_LENGTH - 1)) << 3)) & mask;
+  }
+
+  /**
+   * Checks that all the bytes of an access are valid.
+   *
+   * @param address first address of the access
+   * @param length access length in bytes
+   * @param read true = check for reading, false = check for writing
+   * @return true if the access is valid, false otherwise
+   */
+  private boolean checkAccess(int address, int length, boolean read) {
+    return this.checkAddress(address, read) && this.checkAddress(address + length - 1, read);
+  }
+
+  /**
+   * Notifies an access to the watcher if the address is in a watched page.
+   *
+   * @param address first address of the access
+   * @param length access length in bytes
+   * @param value the loaded or stored value
+   * @param read true = load, false = store
+   */
+  private void watch(int address, int length, int value, boolean read) {
+    if ((this.perms[address >>> PAGE_BITS] & WATCH) != 0 && this.watcher != null)
+      this.watcher.access(address, length, value, read);
+  }
+
+  /**
+   * Refreshes the GUI memory cells (GUI mode only).
+   */
+  private void refresh() {
+    if (Settings.GUI) {
+      for (MemoryCell cell : this.cells)
+        cell.update();
+    }
   }
 
   /*
@@ -85,19 +300,14 @@ public final class Memory {
    */
   public void storeByte(int address, int value) throws InvalidAddressException {
     try {
-      if (Memory.checkAddress(address, false)) {
-        if (value != 0)
-          this.memory.put(address, (byte) (value & Data.BYTE_MASK));
-        else
-          this.memory.remove(address);
+      if (this.checkAddress(address, false)) {
+        this.write(address, value, Data.BYTE_MASK);
+        this.watch(address, Data.BYTE_LENGTH, value & Data.BYTE_MASK, false);
       } else
         throw new InvalidAddressException(address, false);
     } finally {
       // refresh memory cells
-      if (Settings.GUI) {
-        for (MemoryCell cell : this.cells)
-          cell.update();
-      }
+      this.refresh();
     }
   }
 
@@ -108,15 +318,9 @@ public final class Memory {
    * @param value the byte value
    */
   public void privStoreByte(int address, int value) {
-    if (value != 0)
-      this.memory.put(address, (byte) (value & Data.BYTE_MASK));
-    else
-      this.memory.remove(address);
+    this.write(address, value, Data.BYTE_MASK);
     // refresh memory cells
-    if (Settings.GUI) {
-      for (MemoryCell cell : this.cells)
-        cell.update();
-    }
+    this.refresh();
   }
 
   /**
@@ -127,8 +331,22 @@ public final class Memory {
    * @throws InvalidAddressException if the address is invalid
    */
   public void storeHalf(int address, int value) throws InvalidAddressException {
-    this.storeByte(address, value);
-    this.storeByte(address + Data.BYTE_LENGTH, value >> Data.BYTE_LENGTH_BITS);
+    // misaligned halves are stored byte by byte
+    if ((address & (Data.HALF_LENGTH - 1)) != 0) {
+      this.storeByte(address, value);
+      this.storeByte(address + Data.BYTE_LENGTH, value >> Data.BYTE_LENGTH_BITS);
+      return;
+    }
+    try {
+      if (this.checkAccess(address, Data.HALF_LENGTH, false)) {
+        this.write(address, value, Data.HALF_MASK);
+        this.watch(address, Data.HALF_LENGTH, value & Data.HALF_MASK, false);
+      } else
+        throw new InvalidAddressException(address, false);
+    } finally {
+      // refresh memory cells
+      this.refresh();
+    }
   }
 
   /**
@@ -138,8 +356,15 @@ public final class Memory {
    * @param value the half value
    */
   public void privStoreHalf(int address, int value) {
-    this.privStoreByte(address, value);
-    this.privStoreByte(address + Data.BYTE_LENGTH, value >> Data.BYTE_LENGTH_BITS);
+    // misaligned halves are stored byte by byte
+    if ((address & (Data.HALF_LENGTH - 1)) != 0) {
+      this.privStoreByte(address, value);
+      this.privStoreByte(address + Data.BYTE_LENGTH, value >> Data.BYTE_LENGTH_BITS);
+      return;
+    }
+    this.write(address, value, Data.HALF_MASK);
+    // refresh memory cells
+    this.refresh();
   }
 
   /**
@@ -150,8 +375,22 @@ public final class Memory {
    * @throws InvalidAddressException if the address is invalid
    */
   public void storeWord(int address, int value) throws InvalidAddressException {
-    this.storeHalf(address, value);
-    this.storeHalf(address + Data.HALF_LENGTH, value >> Data.HALF_LENGTH_BITS);
+    // misaligned words are stored half by half
+    if ((address & (Data.WORD_LENGTH - 1)) != 0) {
+      this.storeHalf(address, value);
+      this.storeHalf(address + Data.HALF_LENGTH, value >> Data.HALF_LENGTH_BITS);
+      return;
+    }
+    try {
+      if (this.checkAccess(address, Data.WORD_LENGTH, false)) {
+        this.write(address, value, Data.WORD_MASK);
+        this.watch(address, Data.WORD_LENGTH, value, false);
+      } else
+        throw new InvalidAddressException(address, false);
+    } finally {
+      // refresh memory cells
+      this.refresh();
+    }
   }
 
   /**
@@ -161,8 +400,15 @@ public final class Memory {
    * @param value the word to store
    */
   public void privStoreWord(int address, int value) {
-    this.privStoreHalf(address, value);
-    this.privStoreHalf(address + Data.HALF_LENGTH, value >> Data.HALF_LENGTH_BITS);
+    // misaligned words are stored half by half
+    if ((address & (Data.WORD_LENGTH - 1)) != 0) {
+      this.privStoreHalf(address, value);
+      this.privStoreHalf(address + Data.HALF_LENGTH, value >> Data.HALF_LENGTH_BITS);
+      return;
+    }
+    this.write(address, value, Data.WORD_MASK);
+    // refresh memory cells
+    this.refresh();
   }
 
   /**
@@ -173,12 +419,11 @@ public final class Memory {
    * @throws InvalidAddressException if the address is invalid
    */
   public int loadByteUnsigned(int address) throws InvalidAddressException {
-    if (Memory.checkAddress(address, true)) {
-      if (!this.memory.containsKey(address))
-        return 0x0;
-      return ((int) this.memory.get(address)) & Data.BYTE_MASK;
-    } else
+    if (!this.checkAddress(address, true))
       throw new InvalidAddressException(address, true);
+    int value = this.read(address, Data.BYTE_MASK);
+    this.watch(address, Data.BYTE_LENGTH, value, true);
+    return value;
   }
 
   /**
@@ -188,9 +433,7 @@ public final class Memory {
    * @return the unsigned byte value
    */
   public int privLoadByteUnsigned(int address) {
-    if (!this.memory.containsKey(address))
-      return 0x0;
-    return ((int) this.memory.get(address)) & Data.BYTE_MASK;
+    return this.read(address, Data.BYTE_MASK);
   }
 
   /**
@@ -222,9 +465,17 @@ public final class Memory {
    * @throws InvalidAddressException if the address is invalid
    */
   public int loadHalfUnsigned(int address) throws InvalidAddressException {
-    int loByte = this.loadByteUnsigned(address);
-    int hiByte = this.loadByteUnsigned(address + Data.BYTE_LENGTH);
-    return (hiByte << Data.BYTE_LENGTH_BITS) | loByte;
+    // misaligned halves are loaded byte by byte
+    if ((address & (Data.HALF_LENGTH - 1)) != 0) {
+      int loByte = this.loadByteUnsigned(address);
+      int hiByte = this.loadByteUnsigned(address + Data.BYTE_LENGTH);
+      return (hiByte << Data.BYTE_LENGTH_BITS) | loByte;
+    }
+    if (!this.checkAccess(address, Data.HALF_LENGTH, true))
+      throw new InvalidAddressException(address, true);
+    int value = this.read(address, Data.HALF_MASK);
+    this.watch(address, Data.HALF_LENGTH, value, true);
+    return value;
   }
 
   /**
@@ -234,9 +485,13 @@ public final class Memory {
    * @return the unsigned half value
    */
   public int privLoadHalfUnsigned(int address) {
-    int loByte = this.privLoadByteUnsigned(address);
-    int hiByte = this.privLoadByteUnsigned(address + Data.BYTE_LENGTH);
-    return (hiByte << Data.BYTE_LENGTH_BITS) | loByte;
+    // misaligned halves are loaded byte by byte
+    if ((address & (Data.HALF_LENGTH - 1)) != 0) {
+      int loByte = this.privLoadByteUnsigned(address);
+      int hiByte = this.privLoadByteUnsigned(address + Data.BYTE_LENGTH);
+      return (hiByte << Data.BYTE_LENGTH_BITS) | loByte;
+    }
+    return this.read(address, Data.HALF_MASK);
   }
 
   /**
@@ -268,9 +523,17 @@ public final class Memory {
    * @throws InvalidAddressException if the address is invalid
    */
   public int loadWord(int address) throws InvalidAddressException {
-    int loHalf = this.loadHalfUnsigned(address);
-    int hiHalf = this.loadHalfUnsigned(address + Data.HALF_LENGTH);
-    return (hiHalf << Data.HALF_LENGTH_BITS) | loHalf;
+    // misaligned words are loaded half by half
+    if ((address & (Data.WORD_LENGTH - 1)) != 0) {
+      int loHalf = this.loadHalfUnsigned(address);
+      int hiHalf = this.loadHalfUnsigned(address + Data.HALF_LENGTH);
+      return (hiHalf << Data.HALF_LENGTH_BITS) | loHalf;
+    }
+    if (!this.checkAccess(address, Data.WORD_LENGTH, true))
+      throw new InvalidAddressException(address, true);
+    int value = this.read(address, Data.WORD_MASK);
+    this.watch(address, Data.WORD_LENGTH, value, true);
+    return value;
   }
 
   /**
@@ -280,9 +543,13 @@ public final class Memory {
    * @return the word value
    */
   public int privLoadWord(int address) {
-    int loHalf = this.privLoadHalfUnsigned(address);
-    int hiHalf = this.privLoadHalfUnsigned(address + Data.HALF_LENGTH);
-    return (hiHalf << Data.HALF_LENGTH_BITS) | loHalf;
+    // misaligned words are loaded half by half
+    if ((address & (Data.WORD_LENGTH - 1)) != 0) {
+      int loHalf = this.privLoadHalfUnsigned(address);
+      int hiHalf = this.privLoadHalfUnsigned(address + Data.HALF_LENGTH);
+      return (hiHalf << Data.HALF_LENGTH_BITS) | loHalf;
+    }
+    return this.read(address, Data.WORD_MASK);
   }
 
   /**
@@ -292,11 +559,11 @@ public final class Memory {
    * @return the nex available heap address or -1 if no more space.
    */
   public int allocateBytesFromHeap(int bytes) {
-    int address = MemorySegments.HEAP_SEGMENT;
+    int address = this.heap;
     // allocate bytes
-    MemorySegments.HEAP_SEGMENT += bytes;
+    this.heap += bytes;
     // align to a word boundary (if necessary)
-    MemorySegments.HEAP_SEGMENT = Data.alignToWordBoundary(MemorySegments.HEAP_SEGMENT);
+    this.heap = Data.alignToWordBoundary(this.heap);
     return address;
   }
 
@@ -304,27 +571,97 @@ public final class Memory {
    * This method clears all the allocated bytes of the memory.
    */
   public void reset() {
-    // reset memory
+    // reset memory, drop all pages written since the snapshot
     if (this.snap != null)
-      this.memory = this.snap;
-    else
-      this.memory.clear();
-    // reset heap segment pointer
-    MemorySegments.HEAP_SEGMENT = this.heapSnap;
-    // refresh memory cells
-    if (Settings.GUI) {
-      for (MemoryCell cell : this.cells)
-        cell.update();
+      this.restore(this.snap);
+    else {
+      this.memory = new int[TABLE_SIZE][][];
+      this.share();
+      // reset heap segment pointer
+      this.heap = -1;
+      this.heapBegin = -1;
+      // refresh memory cells
+      this.refresh();
     }
   }
 
   /**
-   * Saves a memory and heap snapshot to reset later.
+   * This method clears all the allocated bytes of the memory and discards the snapshot.
+   */
+  public void clear() {
+    this.snap = null;
+    this.reset();
+  }
+
+  /**
+   * Saves a memory and heap snapshot to reset later. The snapshot shares all the current pages with the memory, pages
+   * are only copied when written.
    */
-  @SuppressWarnings("unchecked")
   public void snapshot() {
-    this.snap = (HashMap<Integer, Byte>) this.memory.clone();
-    this.heapSnap = MemorySegments.HEAP_SEGMENT;
+    this.snap = this.checkpoint();
+  }
+
+  /**
+   * Takes an image of the current memory and heap pointer. This is a constant time operation, all the current pages
+   * are shared with the image and only copied when written.
+   *
+   * @return memory image
+   */
+  public MemoryImage checkpoint() {
+    MemoryImage image = new MemoryImage(this.memory, this.heap);
+    this.memory = this.memory.clone();
+    this.share();
+    return image;
+  }
+
+  /**
+   * Restores the memory and heap pointer of an image. This is a constant time operation, the image pages are shared
+   * with the memory and only copied when written.
+   *
+   * @param image memory image
+   */
+  public void restore(MemoryImage image) {
+    this.memory = image.getDirectory().clone();
+    this.share();
+    // restore heap segment pointer
+    this.heap = image.getHeapPointer();
+    // refresh memory cells
+    this.refresh();
+  }
+
+  /**
+   * Forks this memory, the new memory starts with the current pages, heap and permissions and its snapshot is this
+   * state. This is a constant time operation, pages and permissions are shared by both memories and only copied when
+   * one of them writes them, so read-only pages like the text segment are never copied.
+   *
+   * @return forked memory
+   */
+  public synchronized Memory fork() {
+    MemoryImage image = this.checkpoint();
+    this.sharedPerms = true;
+    return new Memory(this, image);
+  }
+
+  /**
+   * Copies the permissions before they change if they are shared with a forked memory.
+   */
+  private void ownPermissions() {
+    if (this.sharedPerms) {
+      this.perms = this.perms.clone();
+      HashMap<Integer, byte[]> mixed = new HashMap<Integer, byte[]>();
+      for (Map.Entry<Integer, byte[]> entry : this.mixed.entrySet())
+        mixed.put(entry.getKey(), entry.getValue().clone());
+      this.mixed = mixed;
+      this.sharedPerms = false;
+    }
+  }
+
+  /**
+   * Marks all the current page tables and pages as shared with an image.
+   */
+  private void share() {
+    Arrays.fill(this.ownedPages, 0L);
+    Arrays.fill(this.ownedTables, false);
   }
 
   /**
@@ -367,7 +704,7 @@ public final class Memory {
    * Use this method to see 4 memory cells above.
    */
   public void up() {
-    Memory.START += 16;
+    this.start += 16;
     this.updateMemoryCells();
   }
 
@@ -375,49 +712,49 @@ public final class Memory {
    * Use this method to see 4 memory cells below.
    */
   public void down() {
-    Memory.START -= 16;
+    this.start -= 16;
     this.updateMemoryCells();
   }
 
   /**
-   * This method sets {@link vsim.riscv.hardware.Memory#START} equal to
+   * This method sets {@link vsim.riscv.hardware.Memory#start} equal to
    * {@link vsim.riscv.MemorySegments#TEXT_SEGMENT_BEGIN}.
    */
   public void text() {
-    Memory.START = MemorySegments.TEXT_SEGMENT_BEGIN + (Memory.ROWS - 1) * Data.WORD_LENGTH;
+    this.start = MemorySegments.TEXT_SEGMENT_BEGIN + (Memory.ROWS - 1) * Data.WORD_LENGTH;
     this.updateMemoryCells();
   }
 
   /**
-   * This method sets {@link vsim.riscv.hardware.Memory#START} equal to
+   * This method sets {@link vsim.riscv.hardware.Memory#start} equal to
    * {@link vsim.riscv.MemorySegments#STATIC_SEGMENT}.
    */
   public void data() {
-    Memory.START = MemorySegments.STATIC_SEGMENT + (Memory.ROWS - 1) * Data.WORD_LENGTH;
+    this.start = MemorySegments.STATIC_SEGMENT + (Memory.ROWS - 1) * Data.WORD_LENGTH;
     this.updateMemoryCells();
   }
 
   /**
-   * This method sets {@link vsim.riscv.hardware.Memory#START} equal to {@link vsim.riscv.MemorySegments#HEAP_SEGMENT}.
+   * This method sets {@link vsim.riscv.hardware.Memory#start} equal to {@link vsim.riscv.MemorySegments#STACK_POINTER}.
    */
   public void stack() {
-    Memory.START = MemorySegments.STACK_POINTER;
+    this.start = MemorySegments.STACK_POINTER;
     this.updateMemoryCells();
   }
 
   /**
-   * This method sets {@link vsim.riscv.hardware.Memory#START} equal to {@link vsim.riscv.MemorySegments#HEAP_SEGMENT}.
+   * This method sets {@link vsim.riscv.hardware.Memory#start} equal to the heap segment pointer.
    */
   public void heap() {
-    Memory.START = MemorySegments.HEAP_SEGMENT + (Memory.ROWS - 1) * Data.WORD_LENGTH;
+    this.start = this.heap + (Memory.ROWS - 1) * Data.WORD_LENGTH;
     this.updateMemoryCells();
   }
 
   /**
-   * This method updates all memory cells according to {@link vsim.riscv.hardware.Memory#START}.
+   * This method updates all memory cells according to {@link vsim.riscv.hardware.Memory#start}.
    */
   private void updateMemoryCells() {
-    for (int i = Memory.START, j = 0; j < ROWS; i -= Data.WORD_LENGTH, j++)
+    for (int i = this.start, j = 0; j < ROWS; i -= Data.WORD_LENGTH, j++)
       this.cells.get(j).setIntAddress(i);
   }
 
@@ -427,7 +764,27 @@ public final class Memory {
    * @return current heap address
    */
   public int getHeapPointer() {
-    return MemorySegments.HEAP_SEGMENT;
+    return this.heap;
+  }
+
+  /**
+   * This method returns the address where the heap segment starts, i.e the end of the static data.
+   *
+   * @return heap segment start address
+   */
+  public int getHeapBegin() {
+    return this.heapBegin;
+  }
+
+  /**
+   * This method sets the heap segment start address and moves the heap pointer there, it is called by the linker
+   * after the static data is stored.
+   *
+   * @param address heap segment start address
+   */
+  public void setHeapBegin(int address) {
+    this.heapBegin = address;
+    this.heap = address;
   }
 
   /**
@@ -436,48 +793,129 @@ public final class Memory {
    * @param value the heap segment address value to use for restore
    */
   public void restoreHeap(int value) {
-    MemorySegments.HEAP_SEGMENT = value;
+    this.heap = value;
+  }
+
+  /**
+   * Sets the journal that logs the memory writes.
+   *
+   * @param journal memory writes journal or null to stop logging
+   */
+  public void setJournal(Journal journal) {
+    this.journal = journal;
   }
 
   /**
-   * This method gets the current diff of the main memory.
+   * This method restores a memory word without logging the write.
    *
-   * @return main memory diff
+   * @param address word aligned address
+   * @param value word previous value
    */
-  public HashMap<Integer, Byte> getDiff() {
-    HashMap<Integer, Byte> diff = this.diff;
-    this.diff = new HashMap<Integer, Byte>();
-    return diff;
+  public void restore(int address, int value) {
+    int[] page = this.writablePage(address, value != 0);
+    if (page != null)
+      page[(address & PAGE_MASK) >>> 2] = value;
+    // refresh memory cells
+    this.refresh();
   }
 
   /**
-   * This methods restores the main memory given a diff between states.
+   * Sets the watcher that is notified of the loads and stores to watched pages.
    *
-   * @param diff diff between states of the main memory
+   * @param watcher watched pages accesses watcher or null to stop notifying
+   */
+  public void setWatcher(Watcher watcher) {
+    this.watcher = watcher;
+  }
+
+  /**
+   * This method flags the pages of a memory region as watched, loads and stores to these pages are notified to the
+   * watcher.
+   *
+   * @param begin first address of the region
+   * @param end last address of the region (inclusive)
+   */
+  public void watch(int begin, int end) {
+    this.ownPermissions();
+    long last = Integer.toUnsignedLong(end) >>> PAGE_BITS;
+    for (long page = Integer.toUnsignedLong(begin) >>> PAGE_BITS; page <= last; page++)
+      this.perms[(int) page] |= WATCH;
+  }
+
+  /**
+   * This method clears the watched flag of all the pages.
+   */
+  public void unwatch() {
+    this.ownPermissions();
+    for (int i = 0; i < PAGES; i++)
+      this.perms[i] &= ~WATCH;
+  }
+
+  /**
+   * This method sets the permissions of a memory region.
+   *
+   * @param begin first address of the region
+   * @param end last address of the region (inclusive)
+   * @param perms region permissions, a combination of {@link vsim.riscv.hardware.Memory#READ},
+   *        {@link vsim.riscv.hardware.Memory#WRITE} and {@link vsim.riscv.hardware.Memory#EXECUTE}
+   */
+  public void protect(int begin, int end, int perms) {
+    this.ownPermissions();
+    long first = Integer.toUnsignedLong(begin);
+    long last = Integer.toUnsignedLong(end);
+    long size = 1L << PAGE_BITS;
+    while (first <= last) {
+      int page = (int) (first >>> PAGE_BITS);
+      long pageBegin = (long) page << PAGE_BITS;
+      long pageEnd = pageBegin + size - 1;
+      if (first == pageBegin && last >= pageEnd) {
+        // whole page
+        this.perms[page] = (byte) (perms | (this.perms[page] & WATCH));
+        this.mixed.remove(page);
+      } else {
+        // part of a page, keep permissions by byte
+        byte[] bytes = this.mixed.get(page);
+        if (bytes == null) {
+          bytes = new byte[(int) size];
+          Arrays.fill(bytes, (byte) (this.perms[page] & ~WATCH));
+          this.mixed.put(page, bytes);
+          this.perms[page] = (byte) (MIXED | (this.perms[page] & WATCH));
+        }
+        int from = (int) (first - pageBegin);
+        int to = (int) (Math.min(last, pageEnd) - pageBegin);
+        Arrays.fill(bytes, from, to + 1, (byte) perms);
+      }
+      first = pageEnd + 1;
+    }
+  }
+
+  /**
+   * This method resets the permissions to the default memory layout, i.e reserved memory can not be accessed, text
+   * segment can only be executed and the rest of the memory can be read and written.
    */
-  public void restore(HashMap<Integer, Byte> diff) {
-    for (Integer key : diff.keySet())
-      this.privStoreByte(key, diff.get(key));
+  public void resetPermissions() {
+    this.ownPermissions();
+    this.mixed.clear();
+    // keep watched pages
+    for (int i = 0; i < PAGES; i++)
+      this.perms[i] = (byte) (READ | WRITE | (this.perms[i] & WATCH));
+    this.protect(MemorySegments.RESERVED_LOW_BEGIN, MemorySegments.RESERVED_LOW_END, NONE);
+    this.protect(MemorySegments.TEXT_SEGMENT_BEGIN, MemorySegments.TEXT_SEGMENT_END, EXECUTE);
+    this.protect(MemorySegments.RESERVED_HIGH_BEGIN, MemorySegments.RESERVED_HIGH_END, NONE);
   }
 
   /**
-   * This method checks if the address given is a valid store address.
+   * This method checks if the address given is a valid load or store address.
    *
    * @param address the address to check
    * @param read true = check for reading, false = check for writing
    * @return true if the address is valid, false otherwise.
    */
-  public static boolean checkAddress(int address, boolean read) {
-    // reserved memory ?
-    if (Data.inRange(address, MemorySegments.RESERVED_LOW_BEGIN, MemorySegments.RESERVED_LOW_END)
-        || Data.inRange(address, MemorySegments.RESERVED_HIGH_BEGIN, MemorySegments.RESERVED_HIGH_END))
-      return false;
-    // text segment ?
-    if (Data.inRange(address, MemorySegments.TEXT_SEGMENT_BEGIN, MemorySegments.TEXT_SEGMENT_END))
-      return false;
-    // read only segment ?
-    return !(!read && MemorySegments.RODATA_SEGMENT_BEGIN != MemorySegments.RODATA_SEGMENT_END
-        && Data.inRange(address, MemorySegments.RODATA_SEGMENT_BEGIN, MemorySegments.RODATA_SEGMENT_END));
+  public boolean checkAddress(int address, boolean read) {
+    int perms = this.perms[address >>> PAGE_BITS];
+    if ((perms & MIXED) != 0)
+      perms = this.mixed.get(address >>> PAGE_BITS)[address & PAGE_MASK];
+    return (perms & (read ? READ : WRITE)) != 0;
   }
 
 }
@@ -26,6 +26,8 @@ import vsim.Settings;
  */
 public final class MemoryCell {
 
+  /** memory where the cell reads its bytes */
+  private final Memory memory;
   /** integer address of the cell */
   private int intAddress;
   /** memory cell address property */
@@ -42,9 +44,11 @@ public final class MemoryCell {
   /**
    * Creates a new memory cell.
    *
+   * @param memory memory where the cell reads its bytes
    * @param address address of the memory cell
    */
-  public MemoryCell(int address) {
+  public MemoryCell(Memory memory, int address) {
+    this.memory = memory;
     this.intAddress = address;
     // default values
     this.address = new SimpleStringProperty(String.format("0x%08x", this.intAddress));
@@ -164,16 +168,16 @@ public final class MemoryCell {
   }
 
   /**
-   * Updates all internal properties with the help of the Main memory.
+   * Updates all internal properties with the help of the memory.
    */
   public void update() {
     this.address.set(String.format("0x%08x", this.intAddress));
     // hex mode
     if (Settings.DISP_MEM_CELL == 0) {
-      this.offset0.set(String.format("%02x", Memory.ram.privLoadByteUnsigned(this.intAddress)));
-      this.offset1.set(String.format("%02x", Memory.ram.privLoadByteUnsigned(this.intAddress + 1)));
-      this.offset2.set(String.format("%02x", Memory.ram.privLoadByteUnsigned(this.intAddress + 2)));
-      this.offset3.set(String.format("%02x", Memory.ram.privLoadByteUnsigned(this.intAddress + 3)));
+      this.offset0.set(String.format("%02x", this.memory.privLoadByteUnsigned(this.intAddress)));
+      this.offset1.set(String.format("%02x", this.memory.privLoadByteUnsigned(this.intAddress + 1)));
+      this.offset2.set(String.format("%02x", this.memory.privLoadByteUnsigned(this.intAddress + 2)));
+      this.offset3.set(String.format("%02x", this.memory.privLoadByteUnsigned(this.intAddress + 3)));
     }
     // ascii mode
     else if (Settings.DISP_MEM_CELL == 1) {
@@ -184,10 +188,10 @@ public final class MemoryCell {
     }
     // decimal mode
     else {
-      this.offset0.set(String.format("%d", Memory.ram.privLoadByteUnsigned(this.intAddress)));
-      this.offset1.set(String.format("%d", Memory.ram.privLoadByteUnsigned(this.intAddress + 1)));
-      this.offset2.set(String.format("%d", Memory.ram.privLoadByteUnsigned(this.intAddress + 2)));
-      this.offset3.set(String.format("%d", Memory.ram.privLoadByteUnsigned(this.intAddress + 3)));
+      this.offset0.set(String.format("%d", this.memory.privLoadByteUnsigned(this.intAddress)));
+      this.offset1.set(String.format("%d", this.memory.privLoadByteUnsigned(this.intAddress + 1)));
+      this.offset2.set(String.format("%d", this.memory.privLoadByteUnsigned(this.intAddress + 2)));
+      this.offset3.set(String.format("%d", this.memory.privLoadByteUnsigned(this.intAddress + 3)));
     }
   }
 
@@ -198,7 +202,7 @@ public final class MemoryCell {
    * @return ascii representation of the memory byte
    */
   private String getChar(int address) {
-    char c = (char) Memory.ram.privLoadByteUnsigned(address);
+    char c = (char) this.memory.privLoadByteUnsigned(address);
     if (c >= 32 && c <= 126) {
       return "'" + c + "'";
     } else {
@@ -0,0 +1,60 @@
+/*
+Copyright (C) 2018-2019 Andres Castellanos
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <https://www.gnu.org/licenses/>
+*/
+
+package vsim.riscv.hardware;
+
+/**
+ * The class MemoryImage represents a frozen image of the main memory and the heap pointer. Images share all their
+ * pages with the memory, pages are only copied when the memory writes them.
+ */
+public final class MemoryImage {
+
+  /** frozen page directory */
+  private final int[][][] directory;
+  /** heap pointer */
+  private final int heap;
+
+  /**
+   * Creates a new memory image.
+   *
+   * @param directory frozen page directory
+   * @param heap heap pointer
+   */
+  MemoryImage(int[][][] directory, int heap) {
+    this.directory = directory;
+    this.heap = heap;
+  }
+
+  /**
+   * Gets the frozen page directory of this image.
+   *
+   * @return frozen page directory
+   */
+  int[][][] getDirectory() {
+    return this.directory;
+  }
+
+  /**
+   * Gets the heap pointer of this image.
+   *
+   * @return heap pointer
+   */
+  public int getHeapPointer() {
+    return this.heap;
+  }
+
+}
@@ -25,17 +25,14 @@ import vsim.utils.IO;
  */
 public final class RVFRegisterFile extends RegisterFile {
 
-  /** unique instance of the RVF register file */
-  public static final RVFRegisterFile regfile = new RVFRegisterFile();
-
   /**
    * Unique constructor that initializes a newly RVFRegisterFile object.
    *
    * @see vsim.riscv.Register
    * @see vsim.riscv.RVIRegisterFile
    */
-  private RVFRegisterFile() {
-    super(32, "f");
+  public RVFRegisterFile() {
+    super(32, "f", Journal.RVF);
     String[] mnemonics = { "ft0", "ft1", "ft2", "ft3", "ft4", "ft5", "ft6", "ft7", "fs0", "fs1", "fa0", "fa1", "fa2",
         "fa3", "fa4", "fa5", "fa6", "fa7", "fs2", "fs3", "fs4", "fs5", "fs6", "fs7", "fs8", "fs9", "fs10", "fs11",
         "ft8", "ft9", "ft10", "ft11" };
@@ -43,10 +40,8 @@ public final class RVFRegisterFile extends RegisterFile {
     for (int i = 0; i < mnemonics.length; i++) {
       // all registers are editable
       Register reg = new RVFRegister(i, mnemonics[i], 0, true);
-      // abi name
-      rf.put(mnemonics[i], reg);
-      // default name f0-f31
-      rf.put("f" + i, reg);
+      // abi name and default name f0-f31
+      this.add(reg, mnemonics[i], prefix + i);
     }
   }
 
@@ -57,10 +52,7 @@ public final class RVFRegisterFile extends RegisterFile {
    * @return register float value
    */
   public float getRegisterFloat(int number) {
-    Register reg = rf.get(prefix + number);
-    if (reg == null)
-      throw new IllegalArgumentException("Invalid Register: " + (prefix + number));
-    return Float.intBitsToFloat(reg.getValue());
+    return Float.intBitsToFloat(this.values[number]);
   }
 
   /**
@@ -70,10 +62,7 @@ public final class RVFRegisterFile extends RegisterFile {
    * @return register float value
    */
   public float getRegisterFloat(String name) {
-    Register reg = rf.get(name);
-    if (reg == null)
-      throw new IllegalArgumentException("Invalid Register: " + name);
-    return Float.intBitsToFloat(reg.getValue());
+    return Float.intBitsToFloat(this.getRegister(name));
   }
 
   /**
@@ -83,13 +72,7 @@ public final class RVFRegisterFile extends RegisterFile {
    * @param value register new float value
    */
   public void setRegister(int number, float value) {
-    Register reg = rf.get(prefix + number);
-    if (reg == null)
-      throw new IllegalArgumentException("Invalid Register: " + (prefix + number));
-    int intVal = Float.floatToIntBits(value);
-    if (intVal != reg.getValue())
-      diff.put(prefix + number, reg.getValue());
-    reg.setValue(intVal);
+    this.setRegister(number, Float.floatToIntBits(value));
   }
 
   /**
@@ -99,13 +82,7 @@ public final class RVFRegisterFile extends RegisterFile {
    * @param value register new float value
    */
   public void setRegister(String name, float value) {
-    Register reg = rf.get(name);
-    if (reg == null)
-      throw new IllegalArgumentException("Invalid Register: " + name);
-    int intVal = Float.floatToIntBits(value);
-    if (intVal != reg.getValue())
-      diff.put(prefix + reg.getNumber(), reg.getValue());
-    reg.setValue(intVal);
+    this.setRegister(name, Float.floatToIntBits(value));
   }
 
   /**
@@ -115,14 +92,14 @@ public final class RVFRegisterFile extends RegisterFile {
     String fmt = "%s%s (%s)%s[%s] {~= %.6f}";
     // include all registers in out string
     for (int i = 0; i < size; i++) {
-      Register reg = rf.get(prefix + i);
       String number = prefix + i;
       String space1 = (i >= 10) ? "" : " ";
-      int length = reg.getMnemonic().length();
+      String mnemonic = view[i].getMnemonic();
+      int length = mnemonic.length();
       String space2 = (length == 4) ? " " : ((length == 3) ? "  " : "   ");
-      String mnemonic = reg.getMnemonic();
-      float value = Float.intBitsToFloat(reg.getValue());
-      IO.stdout.println(String.format(fmt, number, space1, mnemonic, space2, reg.toString(), value));
+      String hex = String.format("0x%08x", values[i]);
+      float value = Float.intBitsToFloat(values[i]);
+      IO.stdout.println(String.format(fmt, number, space1, mnemonic, space2, hex, value));
     }
   }
 
@@ -138,8 +115,9 @@ public final class RVFRegisterFile extends RegisterFile {
     String fmt = "%s (%s) [%s] {~= %.6f}";
     String number = prefix + reg.getNumber();
     String mnemonic = reg.getMnemonic();
-    float value = Float.intBitsToFloat(reg.getValue());
-    IO.stdout.println(String.format(fmt, number, mnemonic, reg.toString(), value));
+    String hex = String.format("0x%08x", values[reg.getNumber()]);
+    float value = Float.intBitsToFloat(values[reg.getNumber()]);
+    IO.stdout.println(String.format(fmt, number, mnemonic, hex, value));
   }
 
 }
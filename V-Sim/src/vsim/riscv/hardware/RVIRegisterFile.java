@@ -28,19 +28,18 @@ import vsim.utils.IO;
  */
 public final class RVIRegisterFile extends RegisterFile {
 
-  /** unique instance of RVI register file */
-  public static final RVIRegisterFile regfile = new RVIRegisterFile();
-
   /** program counter special register */
-  private final Register pc;
+  private int pc;
+  /** program counter register view */
+  private final Register pcView;
 
   /**
-   * Creates a RVI register file. This constructor is private because there should be only one instance of this class.
+   * Creates a RVI register file, every simulated machine has its own.
    *
-   * @see vsim.hardware.RVIRegisterFile.rvi;
+   * @see vsim.Machine
    */
-  private RVIRegisterFile() {
-    super(32, "x");
+  public RVIRegisterFile() {
+    super(32, "x", Journal.RVI);
     // all rvi register mnemonics
     String[] mnemonics = { "zero", "ra", "sp", "gp", "tp", "t0", "t1", "t2", "s0", "s1", "a0", "a1", "a2", "a3", "a4",
         "a5", "a6", "a7", "s2", "s3", "s4", "s5", "s6", "s7", "s8", "s9", "s10", "s11", "t3", "t4", "t5", "t6" };
@@ -57,14 +56,14 @@ public final class RVIRegisterFile extends RegisterFile {
       // note: only "zero" register is not editable
       Register reg = new RVIRegister(i, mnemonics[i], resetValue, i != 0);
       // point all names to this new register
-      rf.put(mnemonics[i], reg);
-      rf.put(prefix + i, reg);
+      this.add(reg, mnemonics[i], prefix + i);
       // special frame pointer
       if (mnemonics[i].equals("s0"))
         rf.put("fp", reg);
     }
     // create program counter
-    pc = new RVIRegister(-1, "pc", MemorySegments.TEXT_SEGMENT_BEGIN, true);
+    this.pc = MemorySegments.TEXT_SEGMENT_BEGIN;
+    this.pcView = new RVIRegister(-1, "pc", MemorySegments.TEXT_SEGMENT_BEGIN, true);
   }
 
   /**
@@ -73,16 +72,18 @@ public final class RVIRegisterFile extends RegisterFile {
    * @return program counter value
    */
   public int getProgramCounter() {
-    return pc.getValue();
+    return this.pc;
   }
 
   /**
-   * Gets the integer value property of the program counter.
+   * Gets the integer value property of the program counter, this property is only updated when the register file is
+   * synchronized.
    *
+   * @see vsim.riscv.hardware.RVIRegisterFile#sync
    * @return integer value property of PC
    */
   public SimpleIntegerProperty programCounterProperty() {
-    return pc.valueProperty();
+    return this.pcView.valueProperty();
   }
 
   /**
@@ -91,14 +92,24 @@ public final class RVIRegisterFile extends RegisterFile {
    * @param value program counter new value
    */
   public void setProgramCounter(int value) {
-    this.pc.setValue(value);
+    this.pc = value;
   }
 
   /**
    * This method increments the program counter by {@link vsim.utils.Data#WORD_LENGTH}.
    */
   public void incProgramCounter() {
-    this.pc.setValue(this.pc.getValue() + Data.WORD_LENGTH);
+    this.pc += Data.WORD_LENGTH;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void sync() {
+    super.sync();
+    if (this.pcView.getValue() != this.pc)
+      this.pcView.setValue(this.pc);
   }
 
   /**
@@ -109,17 +120,17 @@ public final class RVIRegisterFile extends RegisterFile {
     String fmt = "%s%s (%s)%s[%s] {= %d}";
     // include all registers in out string
     for (int i = 0; i < size; i++) {
-      Register reg = rf.get(prefix + i);
       String number = prefix + i;
       String space1 = (i >= 10) ? "" : " ";
-      int length = reg.getMnemonic().length();
+      String mnemonic = view[i].getMnemonic();
+      int length = mnemonic.length();
       String space2 = (length == 4) ? " " : ((length == 3) ? "  " : "   ");
-      String mnemonic = reg.getMnemonic();
-      IO.stdout.println(String.format(fmt, number, space1, mnemonic, space2, reg.toString(), reg.getValue()));
+      String hex = String.format("0x%08x", values[i]);
+      IO.stdout.println(String.format(fmt, number, space1, mnemonic, space2, hex, values[i]));
     }
     // and pc
     IO.stdout.println();
-    IO.stdout.println(String.format("PC         [%s] {= %d}", pc.toString(), pc.getValue()));
+    IO.stdout.println(String.format("PC         [0x%08x] {= %d}", pc, pc));
   }
 
   /**
@@ -127,21 +138,20 @@ public final class RVIRegisterFile extends RegisterFile {
    */
   @Override
   public void printReg(String name) {
-    Register reg = null;
-    if ("pc".equals(name))
-      reg = pc;
-    else
-      reg = rf.get(name);
+    // print program counter
+    if ("pc".equals(name)) {
+      IO.stdout.println(String.format("PC [0x%08x]", pc));
+      return;
+    }
+    Register reg = rf.get(name);
     if (reg == null)
       throw new IllegalArgumentException("Invalid Register: " + name);
     // print regular register
-    if (!("pc".equals(reg.getMnemonic()))) {
-      String fmt = "%s (%s) [%s] {= %d}";
-      String number = prefix + reg.getNumber();
-      String mnemonic = reg.getMnemonic();
-      IO.stdout.println(String.format(fmt, number, mnemonic, reg.toString(), reg.getValue()));
-    } else
-      IO.stdout.println(String.format("PC [%s]", reg.toString()));
+    String fmt = "%s (%s) [0x%08x] {= %d}";
+    String number = prefix + reg.getNumber();
+    String mnemonic = reg.getMnemonic();
+    int value = values[reg.getNumber()];
+    IO.stdout.println(String.format(fmt, number, mnemonic, value, value));
   }
 
 }
@@ -23,7 +23,8 @@ import javafx.collections.ObservableList;
 
 
 /**
- * This class represents a basic and general register file
+ * This class represents a basic and general register file, register values are kept in a primitive array and the
+ * observable registers are only a view of it that is synchronized on demand.
  */
 abstract class RegisterFile {
 
@@ -31,36 +32,83 @@ abstract class RegisterFile {
   protected final int size;
   /** register raw prefix e.g x or f */
   protected final String prefix;
-  /** current register file diff */
-  protected HashMap<String, Integer> diff;
+  /** register values */
+  protected final int[] values;
+  /** register reset values */
+  private final int[] resetValues;
+  /** editable registers */
+  private final boolean[] editable;
+  /** register file kind used to log writes */
+  private final int kind;
+  /** register writes journal */
+  private Journal journal;
   /** observable list */
   protected ObservableList<Register> obs;
+  /** register views by number */
+  protected final Register[] view;
   /** register lookup */
   protected final HashMap<String, Register> rf;
 
   /**
    * Creates a general register file.
    *
+   * @param size number of registers
    * @param prefix register file registers prefix e.g x or f
+   * @param kind register file kind used to log writes, {@link vsim.riscv.hardware.Journal#RVI} or
+   *        {@link vsim.riscv.hardware.Journal#RVF}
    */
-  protected RegisterFile(int size, String prefix) {
+  protected RegisterFile(int size, String prefix, int kind) {
     this.size = size;
     this.prefix = prefix;
-    this.diff = new HashMap<String, Integer>();
+    this.kind = kind;
+    this.values = new int[size];
+    this.resetValues = new int[size];
+    this.editable = new boolean[size];
+    this.view = new Register[size];
     this.rf = new HashMap<String, Register>();
   }
 
+  /**
+   * Adds a register to the register file.
+   *
+   * @param reg register view
+   * @param names register names
+   */
+  protected void add(Register reg, String... names) {
+    int number = reg.getNumber();
+    this.view[number] = reg;
+    this.values[number] = reg.getValue();
+    this.resetValues[number] = reg.getValue();
+    this.editable[number] = reg.isEditable();
+    for (String name : names)
+      this.rf.put(name, reg);
+  }
+
+  /**
+   * Gets a register view given its name.
+   *
+   * @param name register name
+   * @return register view
+   * @throws IllegalArgumentException if the name is not a register
+   */
+  private Register lookup(String name) {
+    Register reg = this.rf.get(name);
+    if (reg == null)
+      throw new IllegalArgumentException("Invalid Register: " + name);
+    return reg;
+  }
+
   /**
    * Gets the mnemonic of a register given its number
    *
    * @param number register number
-   * @return register mnemonic or null if number is invalid
+   * @return register mnemonic
+   * @throws IllegalArgumentException if the number is not a register
    */
   public String getRegisterMnemonic(int number) {
-    Register reg = rf.get(prefix + number);
-    if (reg == null)
-      throw new IllegalArgumentException("Invalid Register: " + (prefix + number));
-    return reg.getMnemonic();
+    if (number < 0 || number >= this.size)
+      throw new IllegalArgumentException("Invalid Register: " + (this.prefix + number));
+    return this.view[number].getMnemonic();
   }
 
   /**
@@ -70,10 +118,7 @@ abstract class RegisterFile {
    * @return register number
    */
   public int getRegisterNumber(String name) {
-    Register reg = rf.get(name);
-    if (reg == null)
-      throw new IllegalArgumentException("Invalid Register: " + name);
-    return reg.getNumber();
+    return this.lookup(name).getNumber();
   }
 
   /**
@@ -83,44 +128,56 @@ abstract class RegisterFile {
    * @return register value
    */
   public int getRegister(int number) {
-    Register reg = rf.get(prefix + number);
-    if (reg == null)
-      throw new IllegalArgumentException("Invalid Register: " + (prefix + number));
-    return reg.getValue();
+    return this.values[number];
   }
 
   /**
    * Gets the content of a register given its name.
    *
    * @param name register ABI name
-   * @return register value or 0 if the name is invalid
+   * @return register value
+   * @throws IllegalArgumentException if the name is not a register
    */
   public int getRegister(String name) {
-    Register reg = rf.get(name);
-    if (reg == null)
-      throw new IllegalArgumentException("Invalid Register: " + name);
-    return reg.getValue();
+    return this.values[this.lookup(name).getNumber()];
   }
 
   /**
-   * Gets the current diff of the register file.
+   * Sets the journal that logs the register writes.
    *
-   * @return register file diff
+   * @param journal register writes journal or null to stop logging
    */
-  public HashMap<String, Integer> getDiff() {
-    HashMap<String, Integer> old = diff;
-    diff = new HashMap<String, Integer>();
-    return old;
+  public void setJournal(Journal journal) {
+    this.journal = journal;
   }
 
   /**
-   * Restores register file state.
+   * Restores the value of a register without logging the write.
+   *
+   * @param number register number
+   * @param value register previous value
+   */
+  public void restore(int number, int value) {
+    this.values[number] = value;
+  }
+
+  /**
+   * Saves the current register values.
+   *
+   * @return a copy of the register values
+   */
+  public int[] save() {
+    return this.values.clone();
+  }
+
+  /**
+   * Loads register values previously saved without logging the writes.
    *
    * @param values register values
+   * @see vsim.riscv.hardware.RegisterFile#save
    */
-  public void restore(HashMap<String, Integer> values) {
-    for (String key : values.keySet())
-      rf.get(key).setValue(values.get(key));
+  public void load(int[] values) {
+    System.arraycopy(values, 0, this.values, 0, this.size);
   }
 
   /**
@@ -132,11 +189,21 @@ abstract class RegisterFile {
     if (obs == null) {
       obs = FXCollections.observableArrayList();
       for (int i = 0; i < size; i++)
-        obs.add(rf.get(prefix + i));
+        obs.add(this.view[i]);
     }
     return obs;
   }
 
+  /**
+   * Synchronizes the observable registers with the current register values, only modified registers are updated.
+   */
+  public void sync() {
+    for (int i = 0; i < this.size; i++) {
+      if (this.view[i].getValue() != this.values[i])
+        this.view[i].setValue(this.values[i]);
+    }
+  }
+
   /**
    * Sets the value of a register given its number.
    *
@@ -144,13 +211,12 @@ abstract class RegisterFile {
    * @param value register new value
    */
   public void setRegister(int number, int value) {
-    Register reg = rf.get(prefix + number);
-    if (reg == null)
-      throw new IllegalArgumentException("Invalid Register: " + (prefix + number));
-    // save previous register value in diff
-    if (value != reg.getValue())
-      diff.put(prefix + number, reg.getValue());
-    reg.setValue(value);
+    if (this.editable[number]) {
+      // log previous register value
+      if (this.journal != null && value != this.values[number])
+        this.journal.log(this.kind, number, this.values[number]);
+      this.values[number] = value;
+    }
   }
 
   /**
@@ -158,14 +224,10 @@ abstract class RegisterFile {
    *
    * @param name register ABI name
    * @param value register new value
+   * @throws IllegalArgumentException if the name is not a register
    */
   public void setRegister(String name, int value) {
-    Register reg = rf.get(name);
-    if (reg == null)
-      throw new IllegalArgumentException("Invalid Register: " + name);
-    if (value != reg.getValue())
-      diff.put(prefix + reg.getNumber(), reg.getValue());
-    reg.setValue(value);
+    this.setRegister(this.lookup(name).getNumber(), value);
   }
 
   /**
@@ -173,10 +235,9 @@ abstract class RegisterFile {
    */
   public void reset() {
     // clear all registers
+    System.arraycopy(this.resetValues, 0, this.values, 0, this.size);
     for (int i = 0; i < size; i++)
-      rf.get(prefix + i).reset();
-    // reset diff
-    this.diff.clear();
+      this.view[i].reset();
   }
 
   /** Pretty prints the register file . */
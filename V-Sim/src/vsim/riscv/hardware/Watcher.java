@@ -0,0 +1,36 @@
+/*
+Copyright (C) 2018-2019 Andres Castellanos
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <https://www.gnu.org/licenses/>
+*/
+
+package vsim.riscv.hardware;
+
+/**
+ * The Watcher interface is notified of the program loads and stores that touch a watched memory page, e.g to implement
+ * debugger watchpoints.
+ */
+public interface Watcher {
+
+  /**
+   * Called after a load or a store to a watched page.
+   *
+   * @param address first address of the access
+   * @param length access length in bytes
+   * @param value the loaded or stored value
+   * @param read true = load, false = store
+   */
+  public void access(int address, int length, int value, boolean read);
+
+}
@@ -0,0 +1,161 @@
+/*
+Copyright (C) 2018-2019 Andres Castellanos
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <https://www.gnu.org/licenses/>
+*/
+
+package vsim.riscv.instructions;
+
+import vsim.Machine;
+import vsim.riscv.exceptions.SimulationException;
+import vsim.utils.Data;
+
+
+/**
+ * The class DecodedInstruction represents an instruction whose operands were extracted once from its machine code, so
+ * it can be executed many times without decoding it again.
+ */
+public final class DecodedInstruction {
+
+  /** resolved instruction */
+  private final Instruction instruction;
+  /** original machine code */
+  private final MachineCode code;
+  /** destination register number */
+  private final int rd;
+  /** source register 1 number */
+  private final int rs1;
+  /** source register 2 number */
+  private final int rs2;
+  /** source register 3 number */
+  private final int rs3;
+  /** sign-extended immediate (raw imm[31:12] for u-type instructions) */
+  private final int imm;
+
+  /**
+   * Creates a new decoded instruction.
+   *
+   * @param instruction the instruction that implements the machine code
+   * @param code machine code to decode
+   */
+  public DecodedInstruction(Instruction instruction, MachineCode code) {
+    this.instruction = instruction;
+    this.code = code;
+    this.rd = code.get(InstructionField.RD);
+    this.rs1 = code.get(InstructionField.RS1);
+    this.rs2 = code.get(InstructionField.RS2);
+    this.rs3 = code.get(InstructionField.RS3);
+    this.imm = DecodedInstruction.immediate(instruction.getFormat(), code);
+  }
+
+  /**
+   * This method extracts the immediate of a machine code given its format.
+   *
+   * @param format instruction format
+   * @param code machine code
+   * @return the sign-extended immediate, raw imm[31:12] for u-type or 0 if the format has no immediate
+   */
+  public static int immediate(Format format, MachineCode code) {
+    switch (format) {
+      case I:
+        return Data.signExtend(code.get(InstructionField.IMM_11_0), 12);
+      case S:
+        return Data.signExtend(code.get(InstructionField.IMM_11_5) << 5 | code.get(InstructionField.IMM_4_0), 12);
+      case B:
+        return Data.signExtend((code.get(InstructionField.IMM_12) << 11 | code.get(InstructionField.IMM_11B) << 10
+            | code.get(InstructionField.IMM_10_5) << 4 | code.get(InstructionField.IMM_4_1)) << 1, 13);
+      case U:
+        return code.get(InstructionField.IMM_31_12);
+      case J:
+        return Data.signExtend((code.get(InstructionField.IMM_20) << 19 | code.get(InstructionField.IMM_19_12) << 11
+            | code.get(InstructionField.IMM_11J) << 10 | code.get(InstructionField.IMM_10_1)) << 1, 21);
+      default:
+        return 0;
+    }
+  }
+
+  /**
+   * This method executes the decoded instruction.
+   *
+   * @param machine machine where the instruction is executed
+   * @throws SimulationException if an exception occurs while simulating the instruction
+   */
+  public void execute(Machine machine) throws SimulationException {
+    this.instruction.execute(machine, this);
+  }
+
+  /**
+   * This method returns the resolved instruction.
+   *
+   * @return the instruction
+   */
+  public Instruction getInstruction() {
+    return this.instruction;
+  }
+
+  /**
+   * This method returns the original machine code.
+   *
+   * @return the machine code
+   */
+  public MachineCode getCode() {
+    return this.code;
+  }
+
+  /**
+   * This method returns the destination register number.
+   *
+   * @return rd field
+   */
+  public int getRd() {
+    return this.rd;
+  }
+
+  /**
+   * This method returns the source register 1 number.
+   *
+   * @return rs1 field
+   */
+  public int getRs1() {
+    return this.rs1;
+  }
+
+  /**
+   * This method returns the source register 2 number.
+   *
+   * @return rs2 field
+   */
+  public int getRs2() {
+    return this.rs2;
+  }
+
+  /**
+   * This method returns the source register 3 number.
+   *
+   * @return rs3 field
+   */
+  public int getRs3() {
+    return this.rs3;
+  }
+
+  /**
+   * This method returns the decoded immediate.
+   *
+   * @return sign-extended immediate or raw imm[31:12] for u-type instructions
+   */
+  public int getImm() {
+    return this.imm;
+  }
+
+}
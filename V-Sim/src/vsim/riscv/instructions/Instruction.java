@@ -17,6 +17,7 @@ along with this program.  If not, see <https://www.gnu.org/licenses/>
 
 package vsim.riscv.instructions;
 
+import vsim.Machine;
 import vsim.riscv.exceptions.SimulationException;
 
 
@@ -52,10 +53,23 @@ public abstract class Instruction {
   /**
    * This method simulates an instruction.
    *
+   * @param machine machine where the instruction is executed
    * @param code machine code to execute
    * @throws SimulationException if an exception occurs while simulating a RISC-V program
    */
-  public abstract void execute(MachineCode code) throws SimulationException;
+  public void execute(Machine machine, MachineCode code) throws SimulationException {
+    this.execute(machine, new DecodedInstruction(this, code));
+  }
+
+  /**
+   * This method simulates a predecoded instruction.
+   *
+   * @param machine machine where the instruction is executed
+   * @param decoded predecoded instruction to execute
+   * @throws SimulationException if an exception occurs while simulating a RISC-V program
+   * @see vsim.riscv.instructions.DecodedInstruction
+   */
+  public abstract void execute(Machine machine, DecodedInstruction decoded) throws SimulationException;
 
   /**
    * This method returns the disassembled String representation of the code.
@@ -17,12 +17,12 @@ along with this program.  If not, see <https://www.gnu.org/licenses/>
 
 package vsim.riscv.instructions.btype;
 
-import vsim.Globals;
+import vsim.Machine;
+import vsim.riscv.instructions.DecodedInstruction;
 import vsim.riscv.instructions.Format;
 import vsim.riscv.instructions.Instruction;
 import vsim.riscv.instructions.InstructionField;
 import vsim.riscv.instructions.MachineCode;
-import vsim.utils.Data;
 
 
 /**
@@ -62,27 +62,22 @@ abstract class BType extends Instruction {
    * @return immediate value
    */
   private int getImm(MachineCode code) {
-    int imm_4_1 = code.get(InstructionField.IMM_4_1);
-    int imm_10_5 = code.get(InstructionField.IMM_10_5);
-    int imm_11 = code.get(InstructionField.IMM_11B);
-    int imm_12 = code.get(InstructionField.IMM_12);
-    int imm = (imm_12 << 11 | imm_11 << 10 | imm_10_5 << 4 | imm_4_1) << 1;
-    return Data.signExtend(imm, 13);
+    return DecodedInstruction.immediate(Format.B, code);
   }
 
   /**
    * {@inheritDoc}
    */
   @Override
-  public void execute(MachineCode code) {
-    int rs1 = Globals.regfile.getRegister(code.get(InstructionField.RS1));
-    int rs2 = Globals.regfile.getRegister(code.get(InstructionField.RS2));
+  public void execute(Machine machine, DecodedInstruction decoded) {
+    int rs1 = machine.getRegfile().getRegister(decoded.getRs1());
+    int rs2 = machine.getRegfile().getRegister(decoded.getRs2());
     boolean cmp = this.comparison(rs1, rs2);
     if (cmp) {
-      int pc = Globals.regfile.getProgramCounter();
-      Globals.regfile.setProgramCounter(pc + this.getImm(code));
+      int pc = machine.getRegfile().getProgramCounter();
+      machine.getRegfile().setProgramCounter(pc + decoded.getImm());
     } else
-      Globals.regfile.incProgramCounter();
+      machine.getRegfile().incProgramCounter();
   }
 
   /**
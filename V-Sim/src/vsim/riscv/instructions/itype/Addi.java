@@ -17,6 +17,9 @@ along with this program.  If not, see <https://www.gnu.org/licenses/>
 
 package vsim.riscv.instructions.itype;
 
+import vsim.Machine;
+
+
 /**
  * The Addi class represents an addi instruction.
  */
@@ -43,7 +46,7 @@ public final class Addi extends IType {
    * {@inheritDoc}
    */
   @Override
-  protected int compute(int rs1, int imm) {
+  protected int compute(Machine machine, int rs1, int imm) {
     return rs1 + imm;
   }
 
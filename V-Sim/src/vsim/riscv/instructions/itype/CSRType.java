@@ -0,0 +1,100 @@
+/*
+Copyright (C) 2018-2019 Andres Castellanos
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <https://www.gnu.org/licenses/>
+*/
+
+package vsim.riscv.instructions.itype;
+
+import vsim.Machine;
+import vsim.riscv.CSR;
+import vsim.riscv.exceptions.SimulationException;
+import vsim.riscv.instructions.DecodedInstruction;
+import vsim.riscv.instructions.Format;
+import vsim.riscv.instructions.Instruction;
+import vsim.riscv.instructions.InstructionField;
+import vsim.riscv.instructions.MachineCode;
+
+
+/**
+ * The class CSRType represents the general form of a Zicsr instruction, an i-type instruction whose immediate is the
+ * csr number and whose rs1 field is a register or, in the immediate forms, a 5-bit unsigned immediate.
+ */
+abstract class CSRType extends Instruction {
+
+  /** if the rs1 field is an immediate (csrrwi, csrrsi, csrrci) */
+  private final boolean immediate;
+  /** if the instruction always writes the csr (csrrw, csrrwi) */
+  private final boolean swap;
+
+  /**
+   * Unique constructor that initializes a newly CSRType object.
+   *
+   * @param mnemonic the instruction mnemonic
+   * @param usage the instruction usage
+   * @param description the instruction description
+   */
+  protected CSRType(String mnemonic, String usage, String description) {
+    super(Format.I, mnemonic, usage, description);
+    this.immediate = mnemonic.endsWith("i");
+    this.swap = mnemonic.startsWith("csrrw");
+  }
+
+  /**
+   * This method computes the new value of the csr.
+   *
+   * @param csr current csr value
+   * @param source value of rs1 or the immediate
+   * @return the new csr value
+   */
+  protected abstract int compute(int csr, int source);
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int getOpCode() {
+    return 0b1110011;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void execute(Machine machine, DecodedInstruction decoded) throws SimulationException {
+    int csr = decoded.getImm() & 0xfff;
+    int source = this.immediate ? decoded.getRs1() : machine.getRegfile().getRegister(decoded.getRs1());
+    int value = CSR.read(machine, csr);
+    // csrrs and csrrc with x0 or 0 only read the csr
+    if (this.swap || decoded.getRs1() != 0)
+      CSR.write(machine, csr, this.compute(value, source));
+    machine.getRegfile().setRegister(decoded.getRd(), value);
+    machine.getRegfile().incProgramCounter();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String disassemble(MachineCode code) {
+    String op = this.getMnemonic();
+    int rd = code.get(InstructionField.RD);
+    int rs1 = code.get(InstructionField.RS1);
+    String csr = CSR.name(code.get(InstructionField.IMM_11_0));
+    if (this.immediate)
+      return String.format("%s x%d, %s, %d", op, rd, csr, rs1);
+    return String.format("%s x%d, %s, x%d", op, rd, csr, rs1);
+  }
+
+}
@@ -0,0 +1,50 @@
+/*
+Copyright (C) 2018-2019 Andres Castellanos
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <https://www.gnu.org/licenses/>
+*/
+
+package vsim.riscv.instructions.itype;
+
+/**
+ * The Csrrci class represents a csrrci instruction.
+ */
+public final class Csrrci extends CSRType {
+
+  /**
+   * Unique constructor that initializes a newly Csrrci instruction.
+   *
+   * @see vsim.riscv.instructions.itype.CSRType
+   */
+  public Csrrci() {
+    super("csrrci", "csrrci rd, csr, zimm", "set t = CSRs[csr]; CSRs[csr] = t & ~zimm; x[rd] = t");
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int getFunct3() {
+    return 0b111;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected int compute(int csr, int source) {
+    return csr & ~source;
+  }
+
+}
@@ -17,6 +17,7 @@ along with this program.  If not, see <https://www.gnu.org/licenses/>
 
 package vsim.riscv.instructions.itype;
 
+import vsim.Machine;
 import vsim.riscv.exceptions.BreakpointException;
 import vsim.riscv.exceptions.SimulationException;
 
@@ -47,8 +48,8 @@ public final class Ebreak extends IType {
    * {@inheritDoc}
    */
   @Override
-  protected int compute(int rs1, int imm) throws SimulationException {
-    throw new BreakpointException();
+  protected int compute(Machine machine, int rs1, int imm) throws SimulationException {
+    throw new BreakpointException(machine.getRegfile().getProgramCounter());
   }
 
 }
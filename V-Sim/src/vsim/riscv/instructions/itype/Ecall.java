@@ -18,6 +18,7 @@ along with this program.  If not, see <https://www.gnu.org/licenses/>
 package vsim.riscv.instructions.itype;
 
 import static vsim.riscv.Ecall.handler;
+import vsim.Machine;
 import vsim.riscv.exceptions.SimulationException;
 
 
@@ -47,9 +48,9 @@ public final class Ecall extends IType {
    * {@inheritDoc}
    */
   @Override
-  protected int compute(int rs1, int imm) throws SimulationException {
+  protected int compute(Machine machine, int rs1, int imm) throws SimulationException {
     // call ecall handler
-    handler();
+    handler(machine);
     return 0;
   }
 
@@ -17,8 +17,9 @@ along with this program.  If not, see <https://www.gnu.org/licenses/>
 
 package vsim.riscv.instructions.itype;
 
-import vsim.Globals;
+import vsim.Machine;
 import vsim.riscv.exceptions.SimulationException;
+import vsim.riscv.instructions.DecodedInstruction;
 import vsim.riscv.instructions.Format;
 import vsim.riscv.instructions.Instruction;
 import vsim.riscv.instructions.InstructionField;
@@ -60,12 +61,10 @@ public final class Flw extends Instruction {
    * {@inheritDoc}
    */
   @Override
-  public void execute(MachineCode code) throws SimulationException {
-    int rs1 = Globals.regfile.getRegister(code.get(InstructionField.RS1));
-    int imm = code.get(InstructionField.IMM_11_0);
-    Globals.fregfile.setRegister(code.get(InstructionField.RD),
-        Globals.memory.loadWord(rs1 + Data.signExtend(imm, 12)));
-    Globals.regfile.incProgramCounter();
+  public void execute(Machine machine, DecodedInstruction decoded) throws SimulationException {
+    int rs1 = machine.getRegfile().getRegister(decoded.getRs1());
+    machine.getFregfile().setRegister(decoded.getRd(), machine.getMemory().loadWord(rs1 + decoded.getImm()));
+    machine.getRegfile().incProgramCounter();
   }
 
   /**
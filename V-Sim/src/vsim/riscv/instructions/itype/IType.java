@@ -17,8 +17,9 @@ along with this program.  If not, see <https://www.gnu.org/licenses/>
 
 package vsim.riscv.instructions.itype;
 
-import vsim.Globals;
+import vsim.Machine;
 import vsim.riscv.exceptions.SimulationException;
+import vsim.riscv.instructions.DecodedInstruction;
 import vsim.riscv.instructions.Format;
 import vsim.riscv.instructions.Instruction;
 import vsim.riscv.instructions.InstructionField;
@@ -31,6 +32,9 @@ import vsim.utils.Data;
  */
 abstract class IType extends Instruction {
 
+  /** if the instruction sets the program counter by itself (jalr) */
+  private final boolean jump;
+
   /**
    * Unique constructor that initializes a newly IType object.
    *
@@ -40,28 +44,29 @@ abstract class IType extends Instruction {
    */
   protected IType(String mnemonic, String usage, String description) {
     super(Format.I, mnemonic, usage, description);
+    this.jump = "jalr".equals(mnemonic);
   }
 
   /**
    * This method computes the result of the instruction.
    *
+   * @param machine machine where the instruction is executed
    * @param rs1 register source 1
    * @param imm immediate value
    * @return the computed result
    * @throws SimulationException if an exception occurs while calculating instruction result
    */
-  protected abstract int compute(int rs1, int imm) throws SimulationException;
+  protected abstract int compute(Machine machine, int rs1, int imm) throws SimulationException;
 
   /**
    * {@inheritDoc}
    */
   @Override
-  public void execute(MachineCode code) throws SimulationException {
-    int rs1 = Globals.regfile.getRegister(code.get(InstructionField.RS1));
-    int imm = Data.signExtend(code.get(InstructionField.IMM_11_0), 12);
-    Globals.regfile.setRegister(code.get(InstructionField.RD), this.compute(rs1, imm));
-    if (!this.getMnemonic().equals("jalr"))
-      Globals.regfile.incProgramCounter();
+  public void execute(Machine machine, DecodedInstruction decoded) throws SimulationException {
+    int rs1 = machine.getRegfile().getRegister(decoded.getRs1());
+    machine.getRegfile().setRegister(decoded.getRd(), this.compute(machine, rs1, decoded.getImm()));
+    if (!this.jump)
+      machine.getRegfile().incProgramCounter();
   }
 
   /**
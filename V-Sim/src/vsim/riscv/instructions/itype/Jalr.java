@@ -17,7 +17,7 @@ along with this program.  If not, see <https://www.gnu.org/licenses/>
 
 package vsim.riscv.instructions.itype;
 
-import vsim.Globals;
+import vsim.Machine;
 
 
 /**
@@ -46,10 +46,10 @@ public final class Jalr extends IType {
    * {@inheritDoc}
    */
   @Override
-  protected int compute(int rs1, int imm) {
-    int pc = Globals.regfile.getProgramCounter();
+  protected int compute(Machine machine, int rs1, int imm) {
+    int pc = machine.getRegfile().getProgramCounter();
     // set the least-significant bit of the result to zero
-    Globals.regfile.setProgramCounter((rs1 + imm) & ~1);
+    machine.getRegfile().setProgramCounter((rs1 + imm) & ~1);
     return pc + 4;
   }
 
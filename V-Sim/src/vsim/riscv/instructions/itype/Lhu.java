@@ -17,7 +17,7 @@ along with this program.  If not, see <https://www.gnu.org/licenses/>
 
 package vsim.riscv.instructions.itype;
 
-import vsim.Globals;
+import vsim.Machine;
 import vsim.riscv.exceptions.SimulationException;
 
 
@@ -55,8 +55,8 @@ public final class Lhu extends IType {
    * {@inheritDoc}
    */
   @Override
-  protected int compute(int rs1, int imm) throws SimulationException {
-    return Globals.memory.loadHalfUnsigned(rs1 + imm);
+  protected int compute(Machine machine, int rs1, int imm) throws SimulationException {
+    return machine.getMemory().loadHalfUnsigned(rs1 + imm);
   }
 
 }
@@ -17,6 +17,9 @@ along with this program.  If not, see <https://www.gnu.org/licenses/>
 
 package vsim.riscv.instructions.itype;
 
+import vsim.Machine;
+
+
 /**
  * The Slti class represents a slti instruction.
  */
@@ -51,7 +54,7 @@ public final class Slti extends IType {
    * {@inheritDoc}
    */
   @Override
-  protected int compute(int rs1, int imm) {
+  protected int compute(Machine machine, int rs1, int imm) {
     return (rs1 < imm) ? 1 : 0;
   }
 
@@ -17,6 +17,9 @@ along with this program.  If not, see <https://www.gnu.org/licenses/>
 
 package vsim.riscv.instructions.itype;
 
+import vsim.Machine;
+
+
 /**
  * The Sltiu class represents a sltiu instruction.
  */
@@ -51,7 +54,7 @@ public final class Sltiu extends IType {
    * {@inheritDoc}
    */
   @Override
-  protected int compute(int rs1, int imm) {
+  protected int compute(Machine machine, int rs1, int imm) {
     return (Integer.compareUnsigned(rs1, imm) < 0) ? 1 : 0;
   }
 
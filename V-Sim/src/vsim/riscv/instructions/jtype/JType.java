@@ -17,12 +17,12 @@ along with this program.  If not, see <https://www.gnu.org/licenses/>
 
 package vsim.riscv.instructions.jtype;
 
-import vsim.Globals;
+import vsim.Machine;
+import vsim.riscv.instructions.DecodedInstruction;
 import vsim.riscv.instructions.Format;
 import vsim.riscv.instructions.Instruction;
 import vsim.riscv.instructions.InstructionField;
 import vsim.riscv.instructions.MachineCode;
-import vsim.utils.Data;
 
 
 /**
@@ -44,10 +44,11 @@ abstract class JType extends Instruction {
   /**
    * This method computes the result of the instruction.
    *
+   * @param machine machine where the instruction is executed
    * @param imm immediate value
    * @return the computed result
    */
-  protected abstract int compute(int imm);
+  protected abstract int compute(Machine machine, int imm);
 
   /**
    * This method gets the immediate value of the instruction.
@@ -56,20 +57,15 @@ abstract class JType extends Instruction {
    * @return the immediate value
    */
   private int getImm(MachineCode code) {
-    int imm_10_1 = code.get(InstructionField.IMM_10_1);
-    int imm_11 = code.get(InstructionField.IMM_11J);
-    int imm_19_12 = code.get(InstructionField.IMM_19_12);
-    int imm_20 = code.get(InstructionField.IMM_20);
-    int imm = (imm_20 << 19 | imm_19_12 << 11 | imm_11 << 10 | imm_10_1) << 1;
-    return Data.signExtend(imm, 21);
+    return DecodedInstruction.immediate(Format.J, code);
   }
 
   /**
    * {@inheritDoc}
    */
   @Override
-  public void execute(MachineCode code) {
-    Globals.regfile.setRegister(code.get(InstructionField.RD), this.compute(this.getImm(code)));
+  public void execute(Machine machine, DecodedInstruction decoded) {
+    machine.getRegfile().setRegister(decoded.getRd(), this.compute(machine, decoded.getImm()));
   }
 
   /**
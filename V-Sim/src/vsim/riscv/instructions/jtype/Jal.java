@@ -17,7 +17,7 @@ along with this program.  If not, see <https://www.gnu.org/licenses/>
 
 package vsim.riscv.instructions.jtype;
 
-import vsim.Globals;
+import vsim.Machine;
 
 
 /**
@@ -46,9 +46,9 @@ public final class Jal extends JType {
    * {@inheritDoc}
    */
   @Override
-  protected int compute(int imm) {
-    int pc = Globals.regfile.getProgramCounter();
-    Globals.regfile.setProgramCounter(pc + imm);
+  protected int compute(Machine machine, int imm) {
+    int pc = machine.getRegfile().getProgramCounter();
+    machine.getRegfile().setProgramCounter(pc + imm);
     return pc + 4;
   }
 
@@ -17,7 +17,8 @@ along with this program.  If not, see <https://www.gnu.org/licenses/>
 
 package vsim.riscv.instructions.rtype;
 
-import vsim.Globals;
+import vsim.Machine;
+import vsim.riscv.instructions.DecodedInstruction;
 import vsim.riscv.instructions.Format;
 import vsim.riscv.instructions.Instruction;
 import vsim.riscv.instructions.InstructionField;
@@ -43,6 +44,7 @@ abstract class FRType extends Instruction {
   /**
    * This method computes the result of the instruction.
    *
+   * @param machine machine where the instruction is executed
    * @param rs1 register source 1
    * @param rs2 register source 2
    * @return the computed result
@@ -61,11 +63,11 @@ abstract class FRType extends Instruction {
    * {@inheritDoc}
    */
   @Override
-  public void execute(MachineCode code) {
-    float rs1 = Globals.fregfile.getRegisterFloat(code.get(InstructionField.RS1));
-    float rs2 = Globals.fregfile.getRegisterFloat(code.get(InstructionField.RS2));
-    Globals.fregfile.setRegister(code.get(InstructionField.RD), this.compute(rs1, rs2));
-    Globals.regfile.incProgramCounter();
+  public void execute(Machine machine, DecodedInstruction decoded) {
+    float rs1 = machine.getFregfile().getRegisterFloat(decoded.getRs1());
+    float rs2 = machine.getFregfile().getRegisterFloat(decoded.getRs2());
+    machine.getFregfile().setRegister(decoded.getRd(), this.compute(rs1, rs2));
+    machine.getRegfile().incProgramCounter();
   }
 
   /**
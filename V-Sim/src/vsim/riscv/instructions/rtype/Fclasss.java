@@ -17,7 +17,8 @@ along with this program.  If not, see <https://www.gnu.org/licenses/>
 
 package vsim.riscv.instructions.rtype;
 
-import vsim.Globals;
+import vsim.Machine;
+import vsim.riscv.instructions.DecodedInstruction;
 import vsim.riscv.instructions.Format;
 import vsim.riscv.instructions.Instruction;
 import vsim.riscv.instructions.InstructionField;
@@ -68,9 +69,9 @@ public final class Fclasss extends Instruction {
    * {@inheritDoc}
    */
   @Override
-  public void execute(MachineCode code) {
+  public void execute(Machine machine, DecodedInstruction decoded) {
     int out = 0;
-    float f = Globals.fregfile.getRegisterFloat(code.get(InstructionField.RS1));
+    float f = machine.getFregfile().getRegisterFloat(decoded.getRs1());
     int bits = Float.floatToRawIntBits(f);
     // set flags
     boolean infOrNaN = Float.isNaN(f) || Float.isInfinite(f);
@@ -100,8 +101,8 @@ public final class Fclasss extends Instruction {
       out |= 1 << 8;
     if (isNaN && !isSNaN)
       out |= 1 << 9;
-    Globals.regfile.setRegister(code.get(InstructionField.RD), out);
-    Globals.regfile.incProgramCounter();
+    machine.getRegfile().setRegister(decoded.getRd(), out);
+    machine.getRegfile().incProgramCounter();
   }
 
   /**
@@ -17,7 +17,8 @@ along with this program.  If not, see <https://www.gnu.org/licenses/>
 
 package vsim.riscv.instructions.rtype;
 
-import vsim.Globals;
+import vsim.Machine;
+import vsim.riscv.instructions.DecodedInstruction;
 import vsim.riscv.instructions.Format;
 import vsim.riscv.instructions.Instruction;
 import vsim.riscv.instructions.InstructionField;
@@ -66,10 +67,10 @@ public final class Fcvtsw extends Instruction {
    * {@inheritDoc}
    */
   @Override
-  public void execute(MachineCode code) {
-    int value = Globals.regfile.getRegister(code.get(InstructionField.RS1));
-    Globals.fregfile.setRegister(code.get(InstructionField.RD), ((Integer) value).floatValue());
-    Globals.regfile.incProgramCounter();
+  public void execute(Machine machine, DecodedInstruction decoded) {
+    int value = machine.getRegfile().getRegister(decoded.getRs1());
+    machine.getFregfile().setRegister(decoded.getRd(), ((Integer) value).floatValue());
+    machine.getRegfile().incProgramCounter();
   }
 
   /**
@@ -17,7 +17,8 @@ along with this program.  If not, see <https://www.gnu.org/licenses/>
 
 package vsim.riscv.instructions.rtype;
 
-import vsim.Globals;
+import vsim.Machine;
+import vsim.riscv.instructions.DecodedInstruction;
 import vsim.riscv.instructions.Format;
 import vsim.riscv.instructions.Instruction;
 import vsim.riscv.instructions.InstructionField;
@@ -66,15 +67,15 @@ public final class Fcvtws extends Instruction {
    * {@inheritDoc}
    */
   @Override
-  public void execute(MachineCode code) {
-    float value = Globals.fregfile.getRegisterFloat(code.get(InstructionField.RS1));
+  public void execute(Machine machine, DecodedInstruction decoded) {
+    float value = machine.getFregfile().getRegisterFloat(decoded.getRs1());
     int result;
     if (Float.isNaN(value))
       result = Integer.MAX_VALUE;
     else
       result = Math.round(value);
-    Globals.regfile.setRegister(code.get(InstructionField.RD), result);
-    Globals.regfile.incProgramCounter();
+    machine.getRegfile().setRegister(decoded.getRd(), result);
+    machine.getRegfile().incProgramCounter();
   }
 
   /**
@@ -17,7 +17,8 @@ along with this program.  If not, see <https://www.gnu.org/licenses/>
 
 package vsim.riscv.instructions.rtype;
 
-import vsim.Globals;
+import vsim.Machine;
+import vsim.riscv.instructions.DecodedInstruction;
 import vsim.riscv.instructions.Format;
 import vsim.riscv.instructions.Instruction;
 import vsim.riscv.instructions.InstructionField;
@@ -66,12 +67,12 @@ public final class Feqs extends Instruction {
    * {@inheritDoc}
    */
   @Override
-  public void execute(MachineCode code) {
-    float rs1 = Globals.fregfile.getRegisterFloat(code.get(InstructionField.RS1));
-    float rs2 = Globals.fregfile.getRegisterFloat(code.get(InstructionField.RS2));
+  public void execute(Machine machine, DecodedInstruction decoded) {
+    float rs1 = machine.getFregfile().getRegisterFloat(decoded.getRs1());
+    float rs2 = machine.getFregfile().getRegisterFloat(decoded.getRs2());
     int result = (rs1 == rs2) ? 1 : 0;
-    Globals.regfile.setRegister(code.get(InstructionField.RD), result);
-    Globals.regfile.incProgramCounter();
+    machine.getRegfile().setRegister(decoded.getRd(), result);
+    machine.getRegfile().incProgramCounter();
   }
 
   /**
@@ -17,7 +17,8 @@ along with this program.  If not, see <https://www.gnu.org/licenses/>
 
 package vsim.riscv.instructions.rtype;
 
-import vsim.Globals;
+import vsim.Machine;
+import vsim.riscv.instructions.DecodedInstruction;
 import vsim.riscv.instructions.Format;
 import vsim.riscv.instructions.Instruction;
 import vsim.riscv.instructions.InstructionField;
@@ -58,10 +59,10 @@ public final class Fmvwx extends Instruction {
    * {@inheritDoc}
    */
   @Override
-  public void execute(MachineCode code) {
-    Globals.fregfile.setRegister(code.get(InstructionField.RD),
-        Globals.regfile.getRegister(code.get(InstructionField.RS1)));
-    Globals.regfile.incProgramCounter();
+  public void execute(Machine machine, DecodedInstruction decoded) {
+    machine.getFregfile().setRegister(decoded.getRd(),
+        machine.getRegfile().getRegister(decoded.getRs1()));
+    machine.getRegfile().incProgramCounter();
   }
 
   /**
@@ -17,7 +17,8 @@ along with this program.  If not, see <https://www.gnu.org/licenses/>
 
 package vsim.riscv.instructions.rtype;
 
-import vsim.Globals;
+import vsim.Machine;
+import vsim.riscv.instructions.DecodedInstruction;
 import vsim.riscv.instructions.Format;
 import vsim.riscv.instructions.Instruction;
 import vsim.riscv.instructions.InstructionField;
@@ -43,6 +44,7 @@ abstract class RType extends Instruction {
   /**
    * This method computes the result of the instruction.
    *
+   * @param machine machine where the instruction is executed
    * @param rs1 register source 1
    * @param rs2 register source 2
    * @return the computed result
@@ -61,11 +63,11 @@ abstract class RType extends Instruction {
    * {@inheritDoc}
    */
   @Override
-  public void execute(MachineCode code) {
-    int rs1 = Globals.regfile.getRegister(code.get(InstructionField.RS1));
-    int rs2 = Globals.regfile.getRegister(code.get(InstructionField.RS2));
-    Globals.regfile.setRegister(code.get(InstructionField.RD), this.compute(rs1, rs2));
-    Globals.regfile.incProgramCounter();
+  public void execute(Machine machine, DecodedInstruction decoded) {
+    int rs1 = machine.getRegfile().getRegister(decoded.getRs1());
+    int rs2 = machine.getRegfile().getRegister(decoded.getRs2());
+    machine.getRegfile().setRegister(decoded.getRd(), this.compute(rs1, rs2));
+    machine.getRegfile().incProgramCounter();
   }
 
   /**
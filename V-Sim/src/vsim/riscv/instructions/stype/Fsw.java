@@ -17,13 +17,13 @@ along with this program.  If not, see <https://www.gnu.org/licenses/>
 
 package vsim.riscv.instructions.stype;
 
-import vsim.Globals;
+import vsim.Machine;
 import vsim.riscv.exceptions.SimulationException;
+import vsim.riscv.instructions.DecodedInstruction;
 import vsim.riscv.instructions.Format;
 import vsim.riscv.instructions.Instruction;
 import vsim.riscv.instructions.InstructionField;
 import vsim.riscv.instructions.MachineCode;
-import vsim.utils.Data;
 
 
 /**
@@ -63,21 +63,18 @@ public final class Fsw extends Instruction {
    * @return the immediate value
    */
   private int getImm(MachineCode code) {
-    int imm_11_5 = code.get(InstructionField.IMM_11_5);
-    int imm_4_0 = code.get(InstructionField.IMM_4_0);
-    int imm = (imm_11_5 << 5) | imm_4_0;
-    return Data.signExtend(imm, 12);
+    return DecodedInstruction.immediate(Format.S, code);
   }
 
   /**
    * {@inheritDoc}
    */
   @Override
-  public void execute(MachineCode code) throws SimulationException {
-    int rs1 = Globals.regfile.getRegister(code.get(InstructionField.RS1));
-    int rs2 = Globals.fregfile.getRegister(code.get(InstructionField.RS2));
-    Globals.memory.storeWord(rs1 + this.getImm(code), rs2);
-    Globals.regfile.incProgramCounter();
+  public void execute(Machine machine, DecodedInstruction decoded) throws SimulationException {
+    int rs1 = machine.getRegfile().getRegister(decoded.getRs1());
+    int rs2 = machine.getFregfile().getRegister(decoded.getRs2());
+    machine.getMemory().storeWord(rs1 + decoded.getImm(), rs2);
+    machine.getRegfile().incProgramCounter();
   }
 
   /**
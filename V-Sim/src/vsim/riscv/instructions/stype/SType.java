@@ -17,13 +17,13 @@ along with this program.  If not, see <https://www.gnu.org/licenses/>
 
 package vsim.riscv.instructions.stype;
 
-import vsim.Globals;
+import vsim.Machine;
 import vsim.riscv.exceptions.SimulationException;
+import vsim.riscv.instructions.DecodedInstruction;
 import vsim.riscv.instructions.Format;
 import vsim.riscv.instructions.Instruction;
 import vsim.riscv.instructions.InstructionField;
 import vsim.riscv.instructions.MachineCode;
-import vsim.utils.Data;
 
 
 /**
@@ -53,12 +53,13 @@ abstract class SType extends Instruction {
   /**
    * This method sets the value of rs2 in memory[rs1 + imm]
    *
+   * @param machine machine where the instruction is executed
    * @param rs1 register source 1
    * @param rs2 register source 2
    * @param imm immediate offset
    * @throws SimulationException if an exception occurs while setting the result in memory
    */
-  protected abstract void setMemory(int rs1, int rs2, int imm) throws SimulationException;
+  protected abstract void setMemory(Machine machine, int rs1, int rs2, int imm) throws SimulationException;
 
   /**
    * Gets immediate offset of an S-Type instruction.
@@ -67,21 +68,18 @@ abstract class SType extends Instruction {
    * @return immediate offset
    */
   private int getImm(MachineCode code) {
-    int imm_11_5 = code.get(InstructionField.IMM_11_5);
-    int imm_4_0 = code.get(InstructionField.IMM_4_0);
-    int imm = (imm_11_5 << 5) | imm_4_0;
-    return Data.signExtend(imm, 12);
+    return DecodedInstruction.immediate(Format.S, code);
   }
 
   /**
    * {@inheritDoc}
    */
   @Override
-  public void execute(MachineCode code) throws SimulationException {
-    int rs1 = Globals.regfile.getRegister(code.get(InstructionField.RS1));
-    int rs2 = Globals.regfile.getRegister(code.get(InstructionField.RS2));
-    this.setMemory(rs1, rs2, this.getImm(code));
-    Globals.regfile.incProgramCounter();
+  public void execute(Machine machine, DecodedInstruction decoded) throws SimulationException {
+    int rs1 = machine.getRegfile().getRegister(decoded.getRs1());
+    int rs2 = machine.getRegfile().getRegister(decoded.getRs2());
+    this.setMemory(machine, rs1, rs2, decoded.getImm());
+    machine.getRegfile().incProgramCounter();
   }
 
   /**
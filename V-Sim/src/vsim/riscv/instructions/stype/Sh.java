@@ -17,7 +17,7 @@ along with this program.  If not, see <https://www.gnu.org/licenses/>
 
 package vsim.riscv.instructions.stype;
 
-import vsim.Globals;
+import vsim.Machine;
 import vsim.riscv.exceptions.SimulationException;
 
 
@@ -47,8 +47,8 @@ public final class Sh extends SType {
    * {@inheritDoc}
    */
   @Override
-  protected void setMemory(int rs1, int rs2, int imm) throws SimulationException {
-    Globals.memory.storeHalf(rs1 + imm, rs2);
+  protected void setMemory(Machine machine, int rs1, int rs2, int imm) throws SimulationException {
+    machine.getMemory().storeHalf(rs1 + imm, rs2);
   }
 
 }
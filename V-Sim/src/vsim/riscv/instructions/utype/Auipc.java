@@ -17,7 +17,7 @@ along with this program.  If not, see <https://www.gnu.org/licenses/>
 
 package vsim.riscv.instructions.utype;
 
-import vsim.Globals;
+import vsim.Machine;
 
 
 /**
@@ -46,8 +46,8 @@ public final class Auipc extends UType {
    * {@inheritDoc}
    */
   @Override
-  protected int compute(int imm) {
-    return (imm << 12) + Globals.regfile.getProgramCounter();
+  protected int compute(Machine machine, int imm) {
+    return (imm << 12) + machine.getRegfile().getProgramCounter();
   }
 
 }
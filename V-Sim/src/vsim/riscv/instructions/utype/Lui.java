@@ -17,6 +17,9 @@ along with this program.  If not, see <https://www.gnu.org/licenses/>
 
 package vsim.riscv.instructions.utype;
 
+import vsim.Machine;
+
+
 /**
  * The Lui class represents a lui instruction.
  */
@@ -43,7 +46,7 @@ public final class Lui extends UType {
    * {@inheritDoc}
    */
   @Override
-  protected int compute(int imm) {
+  protected int compute(Machine machine, int imm) {
     return imm << 12;
   }
 
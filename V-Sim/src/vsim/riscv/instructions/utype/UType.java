@@ -17,7 +17,8 @@ along with this program.  If not, see <https://www.gnu.org/licenses/>
 
 package vsim.riscv.instructions.utype;
 
-import vsim.Globals;
+import vsim.Machine;
+import vsim.riscv.instructions.DecodedInstruction;
 import vsim.riscv.instructions.Format;
 import vsim.riscv.instructions.Instruction;
 import vsim.riscv.instructions.InstructionField;
@@ -43,18 +44,19 @@ abstract class UType extends Instruction {
   /**
    * This method computes the result of the instruction.
    *
+   * @param machine machine where the instruction is executed
    * @param imm immediate value
    * @return the computed result
    */
-  protected abstract int compute(int imm);
+  protected abstract int compute(Machine machine, int imm);
 
   /**
    * {@inheritDoc}
    */
   @Override
-  public void execute(MachineCode code) {
-    Globals.regfile.setRegister(code.get(InstructionField.RD), this.compute(code.get(InstructionField.IMM_31_12)));
-    Globals.regfile.incProgramCounter();
+  public void execute(Machine machine, DecodedInstruction decoded) {
+    machine.getRegfile().setRegister(decoded.getRd(), this.compute(machine, decoded.getImm()));
+    machine.getRegfile().incProgramCounter();
   }
 
   /**
@@ -0,0 +1,154 @@
+/*
+Copyright (C) 2018-2019 Andres Castellanos
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <https://www.gnu.org/licenses/>
+*/
+
+package vsim.server;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import vsim.Settings;
+import vsim.utils.IO;
+import vsim.utils.Message;
+
+
+/**
+ * The class Client is a simple simulation server client, used by the -connect flag and to test the server.
+ */
+public final class Client implements Closeable {
+
+  /** server connection */
+  private final Socket socket;
+  /** server input */
+  private final InputStream in;
+  /** server output */
+  private final OutputStream out;
+
+  /**
+   * Connects to a local simulation server.
+   *
+   * @param port server TCP port
+   * @throws IOException if the server is not reachable
+   */
+  public Client(int port) throws IOException {
+    this.socket = new Socket(InetAddress.getLoopbackAddress(), port);
+    this.in = new BufferedInputStream(this.socket.getInputStream());
+    this.out = new BufferedOutputStream(this.socket.getOutputStream());
+  }
+
+  /**
+   * Submits a job and waits for its result, the job output is written to streams while it runs.
+   *
+   * @param job job to run
+   * @param stdout job standard output destination
+   * @param stderr job standard error destination
+   * @return the result record, e.g {@code RESULT status=0 instructions=10 time=1 wait=0}
+   * @throws IOException if the server rejected the job or the connection is broken
+   */
+  public String run(Job job, OutputStream stdout, OutputStream stderr) throws IOException {
+    job.write(this.out);
+    String line;
+    while ((line = Protocol.readLine(this.in)) != null) {
+      String[] fields = line.split("\\s+");
+      switch (fields[0]) {
+        case Protocol.OUT:
+          stdout.write(Protocol.readPayload(this.in, Protocol.length(fields)));
+          break;
+        case Protocol.ERR:
+          stderr.write(Protocol.readPayload(this.in, Protocol.length(fields)));
+          break;
+        case Protocol.RESULT:
+          stdout.flush();
+          stderr.flush();
+          return line;
+        case Protocol.ERROR:
+          throw new IOException(line.substring(Protocol.ERROR.length()).trim());
+        default:
+          throw new IOException("unexpected server message: " + line);
+      }
+    }
+    throw new IOException("connection closed by server");
+  }
+
+  /**
+   * Gets the server statistics.
+   *
+   * @return statistics summary
+   * @throws IOException if the connection is broken
+   */
+  public String stats() throws IOException {
+    Protocol.writeLine(this.out, Protocol.STATS);
+    this.out.flush();
+    String line = Protocol.readLine(this.in);
+    if (line == null || !line.startsWith(Protocol.STATS))
+      throw new IOException("unexpected server message: " + line);
+    return line.substring(Protocol.STATS.length()).trim();
+  }
+
+  @Override
+  public void close() throws IOException {
+    try {
+      Protocol.writeLine(this.out, Protocol.QUIT);
+      this.out.flush();
+    } finally {
+      this.socket.close();
+    }
+  }
+
+  /**
+   * Runs source files on a local server and exits with the program exit status. The standard input of this process is
+   * sent as the job input if it is not a terminal. Without files the server statistics are printed.
+   *
+   * @param port server TCP port
+   * @param files source files
+   */
+  public static void connect(int port, ArrayList<File> files) {
+    int status = 0;
+    try (Client client = new Client(port)) {
+      if (files.isEmpty()) {
+        IO.stdout.println(client.stats());
+        return;
+      }
+      Job job = new Job();
+      for (File file : files)
+        job.addSource(file.getName(), Files.readAllBytes(file.toPath()));
+      if (System.console() == null) {
+        ByteArrayOutputStream stdin = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int n;
+        while ((n = System.in.read(buffer)) > 0)
+          stdin.write(buffer, 0, n);
+        job.setStdin(stdin.toByteArray());
+      }
+      job.setMaxInsts(Settings.MAX_INSTS);
+      job.setTimeout(Settings.TIMEOUT);
+      status = (int) Protocol.field(client.run(job, IO.stdout, IO.stderr), "status");
+    } catch (IOException e) {
+      Message.panic("server request failed: " + e.getMessage());
+    }
+    System.exit(status);
+  }
+
+}
@@ -0,0 +1,308 @@
+/*
+Copyright (C) 2018-2019 Andres Castellanos
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <https://www.gnu.org/licenses/>
+*/
+
+package vsim.server;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import vsim.Settings;
+import vsim.simulator.Batch;
+import vsim.simulator.BatchResult;
+
+
+/**
+ * The class Coordinator runs a batch of programs in child worker processes. Programs are sharded round-robin between
+ * the workers, an idle worker steals programs from the tail of the busiest shards, and a worker that crashes is
+ * restarted and its program retried. Every worker is a {@code vsim -worker} JVM that talks the
+ * {@link vsim.server.Protocol} over its standard input and output.
+ *
+ * @see vsim.server.Worker
+ */
+public final class Coordinator {
+
+  /** max number of times a program is sent to a worker before it is reported as crashed */
+  private static final int MAX_ATTEMPTS = 2;
+  /** extra time given to a worker to answer a program with a timeout, in milliseconds */
+  private static final long GRACE = 10000L;
+
+  /** programs to run */
+  private final List<File> programs;
+  /** program indexes of every worker shard */
+  private final ArrayList<ConcurrentLinkedDeque<Integer>> shards;
+  /** program results, completed by the workers */
+  private final ArrayList<CompletableFuture<BatchResult>> results;
+  /** kills workers that do not answer */
+  private final ScheduledExecutorService watchdog;
+
+  /**
+   * Creates a new coordinator.
+   *
+   * @param programs programs to run
+   * @param procs number of worker processes
+   */
+  private Coordinator(List<File> programs, int procs) {
+    this.programs = programs;
+    this.shards = new ArrayList<ConcurrentLinkedDeque<Integer>>();
+    for (int i = 0; i < procs; i++)
+      this.shards.add(new ConcurrentLinkedDeque<Integer>());
+    this.results = new ArrayList<CompletableFuture<BatchResult>>();
+    for (int i = 0; i < programs.size(); i++) {
+      this.shards.get(i % procs).add(i);
+      this.results.add(new CompletableFuture<BatchResult>());
+    }
+    this.watchdog = Executors.newSingleThreadScheduledExecutor(r -> {
+      Thread thread = new Thread(r, "vsim-watchdog");
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  /**
+   * Runs programs in worker processes and collects their results in the same order.
+   *
+   * @param programs programs to run (source files or directories)
+   * @param procs number of worker processes
+   * @param listener called with every result in program order as soon as it is available, can be null
+   * @return program results
+   */
+  public static ArrayList<BatchResult> run(List<File> programs, int procs, Consumer<BatchResult> listener) {
+    procs = Math.max(1, Math.min(procs, programs.size()));
+    Coordinator coordinator = new Coordinator(programs, procs);
+    ArrayList<Thread> threads = new ArrayList<Thread>();
+    for (int i = 0; i < procs; i++) {
+      int shard = i;
+      Thread thread = new Thread(() -> coordinator.serve(shard), "vsim-worker-" + i);
+      thread.setDaemon(true);
+      thread.start();
+      threads.add(thread);
+    }
+    ArrayList<BatchResult> results = new ArrayList<BatchResult>();
+    try {
+      for (CompletableFuture<BatchResult> future : coordinator.results) {
+        BatchResult result = future.join();
+        if (listener != null)
+          listener.accept(result);
+        results.add(result);
+      }
+      for (Thread thread : threads)
+        thread.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } finally {
+      coordinator.watchdog.shutdownNow();
+    }
+    return results;
+  }
+
+  /**
+   * Takes the next program of a worker, from the head of its own shard or from the tail of the largest other shard.
+   *
+   * @param shard worker shard
+   * @return program index or null if there are no programs left
+   */
+  private Integer take(int shard) {
+    Integer index = this.shards.get(shard).pollFirst();
+    while (index == null) {
+      ConcurrentLinkedDeque<Integer> victim = null;
+      int size = 0;
+      for (ConcurrentLinkedDeque<Integer> other : this.shards) {
+        int n = other.size();
+        if (n > size) {
+          victim = other;
+          size = n;
+        }
+      }
+      if (victim == null)
+        return null;
+      index = victim.pollLast();
+    }
+    return index;
+  }
+
+  /**
+   * Runs the programs of a shard in a worker process until there are no programs left.
+   *
+   * @param shard worker shard
+   */
+  private void serve(int shard) {
+    Process process = null;
+    Integer index;
+    while ((index = this.take(shard)) != null) {
+      File program = this.programs.get(index);
+      BatchResult result = null;
+      String error = null;
+      for (int attempt = 1; attempt <= MAX_ATTEMPTS && result == null; attempt++) {
+        try {
+          if (process == null || !process.isAlive())
+            process = Coordinator.start();
+          result = this.run(process, program);
+        } catch (IOException e) {
+          error = e.getMessage();
+          // the worker state is unknown, start a new one
+          if (process != null)
+            process.destroyForcibly();
+          process = null;
+        }
+      }
+      if (result == null) {
+        String stderr = String.format("vsim: (error) worker crashed: %s (%d attempts)%n", error, MAX_ATTEMPTS);
+        result = new BatchResult(program.toString(), Batch.sources(program), "", stderr, -1, 0, 0);
+      }
+      Batch.expect(result, program);
+      this.results.get(index).complete(result);
+    }
+    if (process != null)
+      Coordinator.stop(process);
+  }
+
+  /**
+   * Sends a program to a worker process and reads its output and result.
+   *
+   * @param process worker process
+   * @param program program to run
+   * @return program result
+   * @throws IOException if the worker crashed or did not answer in time
+   */
+  private BatchResult run(Process process, File program) throws IOException {
+    ArrayList<File> files = Batch.sources(program);
+    Job job = new Job();
+    for (File file : files)
+      job.addPath(file.getPath());
+    job.setStdin(Batch.input(program));
+    // a worker that hangs outside the simulated program is killed, the program budget is enforced by the worker
+    ScheduledFuture<?> kill = null;
+    if (Settings.TIMEOUT > 0)
+      kill = this.watchdog.schedule(process::destroyForcibly, Settings.TIMEOUT * 2 + GRACE, TimeUnit.MILLISECONDS);
+    try {
+      // process streams are already buffered
+      InputStream in = process.getInputStream();
+      job.write(process.getOutputStream());
+      ByteArrayOutputStream stdout = new ByteArrayOutputStream();
+      ByteArrayOutputStream stderr = new ByteArrayOutputStream();
+      String line;
+      while ((line = Protocol.readLine(in)) != null) {
+        String[] fields = line.split("\\s+");
+        switch (fields[0]) {
+          case Protocol.OUT:
+            stdout.write(Protocol.readPayload(in, Protocol.length(fields)));
+            break;
+          case Protocol.ERR:
+            stderr.write(Protocol.readPayload(in, Protocol.length(fields)));
+            break;
+          case Protocol.RESULT:
+            return new BatchResult(program.toString(), files, new String(stdout.toByteArray(), StandardCharsets.UTF_8),
+                new String(stderr.toByteArray(), StandardCharsets.UTF_8), (int) Protocol.field(line, "status"),
+                Protocol.field(line, "instructions"), Protocol.field(line, "time"));
+          case Protocol.ERROR:
+            throw new IOException(line.substring(Protocol.ERROR.length()).trim());
+          default:
+            throw new IOException("unexpected worker message: " + line);
+        }
+      }
+      throw new IOException("worker exited");
+    } finally {
+      if (kill != null)
+        kill.cancel(false);
+    }
+  }
+
+  /**
+   * Starts a worker process with the same simulator settings as this process. The trap handler is not passed, it is
+   * already part of the program sources.
+   *
+   * @return worker process
+   * @throws IOException if the process could not be started
+   */
+  private static Process start() throws IOException {
+    ArrayList<String> command = new ArrayList<String>();
+    command.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+    command.add("-cp");
+    command.add(System.getProperty("java.class.path"));
+    command.add("vsim.VSim");
+    command.add("-worker");
+    command.add("-notitle");
+    if (Settings.BARE)
+      command.add("-bare");
+    if (Settings.EXTRICT)
+      command.add("-extrict");
+    if (Settings.SELF_MODIFYING)
+      command.add("-self");
+    if (!Settings.START.equals("main")) {
+      command.add("-start");
+      command.add(Settings.START);
+    }
+    if (Settings.MAX_INSTS > 0) {
+      command.add("-maxinsts");
+      command.add(String.valueOf(Settings.MAX_INSTS));
+    }
+    if (Settings.TIMEOUT > 0) {
+      command.add("-timeout");
+      command.add(String.valueOf(Settings.TIMEOUT));
+    }
+    if (Settings.VIRTUAL_TIME)
+      command.add("-virtualtime");
+    if (Settings.TIME_RATE > 0) {
+      command.add("-timerate");
+      command.add(String.valueOf(Settings.TIME_RATE));
+    }
+    if (Settings.CACHE != null) {
+      command.add("-cache");
+      command.add(Settings.CACHE);
+      command.add("-cachesize");
+      command.add(String.valueOf(Math.max(1, Settings.CACHE_SIZE >> 20)));
+    }
+    if (Settings.NOCACHE)
+      command.add("-nocache");
+    ProcessBuilder builder = new ProcessBuilder(command);
+    builder.redirectError(ProcessBuilder.Redirect.INHERIT);
+    return builder.start();
+  }
+
+  /**
+   * Asks a worker process to quit and waits for it.
+   *
+   * @param process worker process
+   */
+  private static void stop(Process process) {
+    try {
+      OutputStream out = process.getOutputStream();
+      Protocol.writeLine(out, Protocol.QUIT);
+      out.close();
+      if (!process.waitFor(5, TimeUnit.SECONDS))
+        process.destroyForcibly();
+    } catch (IOException e) {
+      process.destroyForcibly();
+    } catch (InterruptedException e) {
+      process.destroyForcibly();
+      Thread.currentThread().interrupt();
+    }
+  }
+
+}
@@ -0,0 +1,275 @@
+/*
+Copyright (C) 2018-2019 Andres Castellanos
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <https://www.gnu.org/licenses/>
+*/
+
+package vsim.server;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import vsim.simulator.Batch;
+import vsim.simulator.BatchResult;
+import vsim.simulator.Cache;
+import vsim.utils.Console;
+import vsim.utils.FileIO;
+
+
+/**
+ * The class Job represents a program submitted to a simulation server: inline sources or server side source files, a
+ * standard input payload and optional run limits.
+ */
+public final class Job {
+
+  /** source names, inline file names or server side paths */
+  private final ArrayList<String> names;
+  /** inline source contents, null for server side paths */
+  private final ArrayList<byte[]> sources;
+  /** standard input contents */
+  private byte[] stdin;
+  /** max number of instructions (0 = server default) */
+  private long maxInsts;
+  /** max wall clock time in milliseconds (0 = server default) */
+  private long timeout;
+
+  /**
+   * Creates a new empty job.
+   */
+  public Job() {
+    this.names = new ArrayList<String>();
+    this.sources = new ArrayList<byte[]>();
+    this.stdin = new byte[0];
+    this.maxInsts = 0;
+    this.timeout = 0;
+  }
+
+  /**
+   * Adds an inline source file.
+   *
+   * @param name file name
+   * @param text source text
+   */
+  public void addSource(String name, byte[] text) {
+    this.names.add(name);
+    this.sources.add(text);
+  }
+
+  /**
+   * Adds a source file from the server file system.
+   *
+   * @param path file path
+   */
+  public void addPath(String path) {
+    this.names.add(path);
+    this.sources.add(null);
+  }
+
+  /**
+   * Sets the standard input contents.
+   *
+   * @param stdin standard input contents
+   */
+  public void setStdin(byte[] stdin) {
+    this.stdin = stdin;
+  }
+
+  /**
+   * Sets the max number of instructions.
+   *
+   * @param maxInsts max number of instructions (0 = server default)
+   */
+  public void setMaxInsts(long maxInsts) {
+    this.maxInsts = maxInsts;
+  }
+
+  /**
+   * Sets the max wall clock time.
+   *
+   * @param timeout max wall clock time in milliseconds (0 = server default)
+   */
+  public void setTimeout(long timeout) {
+    this.timeout = timeout;
+  }
+
+  /**
+   * Gets the job name, i.e its first source name.
+   *
+   * @return job name
+   */
+  public String getName() {
+    return this.names.isEmpty() ? "<empty>" : this.names.get(0);
+  }
+
+  /**
+   * Reads a job, the {@link Protocol#RUN} header was already read.
+   *
+   * @param in input stream
+   * @return the job
+   * @throws IOException if the job is malformed or could not be read
+   */
+  public static Job read(InputStream in) throws IOException {
+    Job job = new Job();
+    long size = 0;
+    int length;
+    String line;
+    while ((line = Protocol.readLine(in)) != null) {
+      String[] fields = line.split("\\s+");
+      switch (fields[0]) {
+        case Protocol.FILE:
+          if (fields.length != 3)
+            throw new IOException("expected: FILE name length");
+          length = Job.size(fields, size);
+          size += length;
+          job.addSource(fields[1], Protocol.readPayload(in, length));
+          break;
+        case Protocol.PATH:
+          if (fields.length < 2)
+            throw new IOException("expected: PATH path");
+          job.addPath(line.substring(Protocol.PATH.length()).trim());
+          break;
+        case Protocol.STDIN:
+          length = Job.size(fields, size);
+          size += length;
+          job.setStdin(Protocol.readPayload(in, length));
+          break;
+        case Protocol.MAXINSTS:
+          job.setMaxInsts(Job.limit(fields));
+          break;
+        case Protocol.TIMEOUT:
+          job.setTimeout(Job.limit(fields));
+          break;
+        case Protocol.END:
+          if (job.names.isEmpty())
+            throw new IOException("job without source files");
+          return job;
+        default:
+          throw new IOException("unknown job field: " + fields[0]);
+      }
+    }
+    throw new IOException("unterminated job");
+  }
+
+  /**
+   * Parses the length of a payload, checking the total payload length of the job.
+   *
+   * @param fields header fields
+   * @param size payload length of the job so far
+   * @return payload length
+   * @throws IOException if the length is not valid or the job payloads are too large
+   */
+  private static int size(String[] fields, long size) throws IOException {
+    int length = Protocol.length(fields);
+    if (size + length > Protocol.MAX_PAYLOAD)
+      throw new IOException("payload too large");
+    return length;
+  }
+
+  /**
+   * Parses a run limit.
+   *
+   * @param fields header fields
+   * @return run limit
+   * @throws IOException if the limit is not a positive number
+   */
+  private static long limit(String[] fields) throws IOException {
+    try {
+      long value = Long.parseLong(fields[fields.length - 1]);
+      if (value >= 0)
+        return value;
+    } catch (NumberFormatException e) {
+      // handled below
+    }
+    throw new IOException("invalid " + fields[0] + " value: " + fields[fields.length - 1]);
+  }
+
+  /**
+   * Writes this job, including the {@link Protocol#RUN} and {@link Protocol#END} headers.
+   *
+   * @param out output stream
+   * @throws IOException if the job could not be written
+   */
+  public void write(OutputStream out) throws IOException {
+    Protocol.writeLine(out, Protocol.RUN);
+    for (int i = 0; i < this.names.size(); i++) {
+      byte[] source = this.sources.get(i);
+      if (source != null)
+        Protocol.writeFrame(out, Protocol.FILE + " " + this.names.get(i).replaceAll("\\s", "_"), source, 0,
+            source.length);
+      else
+        Protocol.writeLine(out, Protocol.PATH + " " + this.names.get(i));
+    }
+    Protocol.writeFrame(out, Protocol.STDIN, this.stdin, 0, this.stdin.length);
+    if (this.maxInsts > 0)
+      Protocol.writeLine(out, Protocol.MAXINSTS + " " + this.maxInsts);
+    if (this.timeout > 0)
+      Protocol.writeLine(out, Protocol.TIMEOUT + " " + this.timeout);
+    Protocol.writeLine(out, Protocol.END);
+    out.flush();
+  }
+
+  /**
+   * Runs this job in the current thread, its output is written as {@link Protocol#OUT} and {@link Protocol#ERR}
+   * messages while it runs. Inline sources are written to a temporary directory that is deleted afterwards.
+   *
+   * @param out connection output stream
+   * @param maxInsts default max number of instructions (0 = no limit)
+   * @param timeout default max wall clock time in milliseconds (0 = no limit)
+   * @return job result
+   * @throws IOException if the inline sources could not be written
+   */
+  public BatchResult run(OutputStream out, long maxInsts, long timeout) throws IOException {
+    Path dir = Files.createTempDirectory("vsim");
+    ArrayList<File> files = new ArrayList<File>();
+    try {
+      for (int i = 0; i < this.names.size(); i++) {
+        byte[] source = this.sources.get(i);
+        if (source != null) {
+          // one directory per source, so equal names do not clash
+          String name = new File(this.names.get(i)).getName();
+          if (!(name.endsWith(".s") || name.endsWith(".asm")))
+            name += ".s";
+          Path file = Files.createDirectory(dir.resolve(Integer.toString(i))).resolve(name);
+          Files.write(file, source);
+          files.add(file.toFile());
+        } else
+          files.add(new File(this.names.get(i)));
+      }
+      FileIO.addTrapHandler(files);
+      // cached results need the job output
+      Console console = new Console(this.stdin, Protocol.frames(out, Protocol.OUT), Protocol.frames(out, Protocol.ERR),
+          Cache.get() != null);
+      return Batch.run(this.getName(), files, console, (this.maxInsts > 0) ? this.maxInsts : maxInsts,
+          (this.timeout > 0) ? this.timeout : timeout);
+    } finally {
+      // delete inline sources
+      for (int i = this.names.size() - 1; i >= 0; i--) {
+        if (this.sources.get(i) != null) {
+          Path sub = dir.resolve(Integer.toString(i));
+          if (Files.isDirectory(sub)) {
+            for (File f : sub.toFile().listFiles())
+              Files.deleteIfExists(f.toPath());
+            Files.deleteIfExists(sub);
+          }
+        }
+      }
+      Files.deleteIfExists(dir);
+    }
+  }
+
+}
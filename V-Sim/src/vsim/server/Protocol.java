@@ -0,0 +1,232 @@
+/*
+Copyright (C) 2018-2019 Andres Castellanos
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <https://www.gnu.org/licenses/>
+*/
+
+package vsim.server;
+
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import vsim.simulator.BatchResult;
+
+
+/**
+ * The class Protocol contains the framing used to talk to a simulation server. Every message is an ASCII header line,
+ * optionally followed by a payload whose length is the last field of the header. Header lines and payloads have a max
+ * length, a job whose payloads are longer than {@link #MAX_PAYLOAD} in total is rejected.
+ *
+ * <pre>
+ * client: RUN                      server: OUT length, payload
+ *         FILE name length, payload         ERR length, payload
+ *         PATH path                         RESULT status=s instructions=n time=ms wait=ms
+ *         STDIN length, payload             ERROR message
+ *         MAXINSTS n                        STATS summary
+ *         TIMEOUT ms
+ *         END
+ *         STATS
+ *         QUIT
+ * </pre>
+ */
+public final class Protocol {
+
+  /** starts a job */
+  public static final String RUN = "RUN";
+  /** inline source file of a job */
+  public static final String FILE = "FILE";
+  /** source file of a job in the server file system */
+  public static final String PATH = "PATH";
+  /** standard input of a job */
+  public static final String STDIN = "STDIN";
+  /** instruction limit of a job */
+  public static final String MAXINSTS = "MAXINSTS";
+  /** time limit of a job */
+  public static final String TIMEOUT = "TIMEOUT";
+  /** ends a job */
+  public static final String END = "END";
+  /** asks for server statistics */
+  public static final String STATS = "STATS";
+  /** closes the connection */
+  public static final String QUIT = "QUIT";
+  /** standard output chunk of a running job */
+  public static final String OUT = "OUT";
+  /** standard error chunk of a running job */
+  public static final String ERR = "ERR";
+  /** result record of a finished job */
+  public static final String RESULT = "RESULT";
+  /** rejected request */
+  public static final String ERROR = "ERROR";
+
+  /** max header line length */
+  private static final int MAX_LINE = 4096;
+  /** max payload length, also the max total payload length of a job */
+  public static final int MAX_PAYLOAD = 16 << 20;
+
+  /**
+   * Reads a header line.
+   *
+   * @param in input stream
+   * @return the header line without the line terminator or null at end of stream
+   * @throws IOException if the line could not be read or is too long
+   */
+  public static String readLine(InputStream in) throws IOException {
+    ByteArrayOutputStream line = new ByteArrayOutputStream();
+    int b;
+    while ((b = in.read()) != '\n') {
+      if (b == -1) {
+        if (line.size() == 0)
+          return null;
+        throw new EOFException("unterminated header line");
+      }
+      if (line.size() >= MAX_LINE)
+        throw new IOException("header line too long");
+      line.write(b);
+    }
+    return new String(line.toByteArray(), StandardCharsets.UTF_8).trim();
+  }
+
+  /**
+   * Reads a payload.
+   *
+   * @param in input stream
+   * @param length payload length
+   * @return payload bytes
+   * @throws IOException if the payload could not be read or is too large
+   */
+  public static byte[] readPayload(InputStream in, int length) throws IOException {
+    if (length < 0)
+      throw new IOException("invalid payload length: " + length);
+    if (length > MAX_PAYLOAD)
+      throw new IOException("payload too large");
+    byte[] payload = new byte[length];
+    int offset = 0;
+    while (offset < length) {
+      int n = in.read(payload, offset, length - offset);
+      if (n < 0)
+        throw new EOFException("truncated payload");
+      offset += n;
+    }
+    return payload;
+  }
+
+  /**
+   * Parses the payload length of a header, the last field of the header.
+   *
+   * @param fields header fields
+   * @return payload length
+   * @throws IOException if the length is not a valid number
+   */
+  public static int length(String[] fields) throws IOException {
+    try {
+      return Integer.parseInt(fields[fields.length - 1]);
+    } catch (NumberFormatException e) {
+      throw new IOException("invalid payload length: " + fields[fields.length - 1]);
+    }
+  }
+
+  /**
+   * Writes a header line.
+   *
+   * @param out output stream
+   * @param line header line
+   * @throws IOException if the line could not be written
+   */
+  public static void writeLine(OutputStream out, String line) throws IOException {
+    out.write((line + "\n").getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Writes a header line followed by a payload, the payload length is appended to the header.
+   *
+   * @param out output stream
+   * @param header header without the length
+   * @param payload payload bytes
+   * @param offset payload offset
+   * @param length payload length
+   * @throws IOException if the message could not be written
+   */
+  public static void writeFrame(OutputStream out, String header, byte[] payload, int offset, int length)
+      throws IOException {
+    Protocol.writeLine(out, header + " " + length);
+    out.write(payload, offset, length);
+  }
+
+  /**
+   * Formats the {@link #RESULT} record of a finished job.
+   *
+   * @param result job result
+   * @param wait time the job waited for a worker in milliseconds
+   * @return result record
+   */
+  public static String result(BatchResult result, long wait) {
+    return String.format("%s status=%d instructions=%d time=%d wait=%d", Protocol.RESULT, result.getStatus(),
+        result.getInstructions(), result.getTime(), wait);
+  }
+
+  /**
+   * Gets a numeric field of a {@link #RESULT} record.
+   *
+   * @param record result record
+   * @param name field name, e.g status
+   * @return field value
+   * @throws IOException if the record has no such field
+   */
+  public static long field(String record, String name) throws IOException {
+    for (String field : record.split("\\s+")) {
+      if (field.startsWith(name + "=")) {
+        try {
+          return Long.parseLong(field.substring(name.length() + 1));
+        } catch (NumberFormatException e) {
+          break;
+        }
+      }
+    }
+    throw new IOException("invalid result record: " + record);
+  }
+
+  /**
+   * Creates a stream that writes every chunk as an {@link #OUT} or {@link #ERR} message. Messages are written
+   * atomically, so the output and error streams of a job can share the connection.
+   *
+   * @param out connection output stream
+   * @param header message header, {@link #OUT} or {@link #ERR}
+   * @return frame output stream
+   */
+  public static OutputStream frames(OutputStream out, String header) {
+    return new OutputStream() {
+
+      @Override
+      public void write(int b) throws IOException {
+        this.write(new byte[] {(byte) b}, 0, 1);
+      }
+
+      @Override
+      public void write(byte[] b, int off, int len) throws IOException {
+        // chunks larger than the max payload length are split, the receiver would reject them
+        for (int n = 0; n < len; n += MAX_PAYLOAD) {
+          synchronized (out) {
+            Protocol.writeFrame(out, header, b, off + n, Math.min(len - n, MAX_PAYLOAD));
+            out.flush();
+          }
+        }
+      }
+
+    };
+  }
+
+}
@@ -0,0 +1,217 @@
+/*
+Copyright (C) 2018-2019 Andres Castellanos
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <https://www.gnu.org/licenses/>
+*/
+
+package vsim.server;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import vsim.Settings;
+import vsim.simulator.BatchResult;
+import vsim.utils.Message;
+
+
+/**
+ * The class Server implements a long-lived local simulation server. Clients connect to a loopback TCP port and submit
+ * jobs with the {@link vsim.server.Protocol}, every job runs in its own machine on a bounded pool of worker threads,
+ * so the JVM and the simulator hot paths stay warm between requests.
+ */
+public final class Server {
+
+  /** server socket */
+  private final ServerSocket socket;
+  /** job workers, with a bounded queue */
+  private final ThreadPoolExecutor workers;
+  /** connection handlers */
+  private final ExecutorService connections;
+  /** server statistics */
+  private final Stats stats;
+
+  /**
+   * Creates a new server listening on a loopback port.
+   *
+   * @param port TCP port (0 = any free port)
+   * @param workers number of worker threads
+   * @param queue max number of jobs waiting for a worker
+   * @throws IOException if the port could not be opened
+   */
+  public Server(int port, int workers, int queue) throws IOException {
+    this.socket = new ServerSocket(port, 50, InetAddress.getLoopbackAddress());
+    this.workers = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<Runnable>(Math.max(1, queue)));
+    this.connections = Executors.newCachedThreadPool();
+    this.stats = new Stats();
+  }
+
+  /**
+   * Starts a server with the server settings and serves forever.
+   *
+   * @param port TCP port (0 = any free port)
+   * @see vsim.Settings#WORKERS
+   * @see vsim.Settings#QUEUE
+   */
+  public static void serve(int port) {
+    try {
+      Server server = new Server(port, Settings.WORKERS, Settings.QUEUE);
+      Message.log(String.format("listening on 127.0.0.1:%d (%d workers, queue %d)", server.getPort(),
+          Settings.WORKERS, Settings.QUEUE));
+      server.serve();
+    } catch (IOException e) {
+      Message.panic("could not start server: " + e.getMessage());
+    }
+  }
+
+  /**
+   * Gets the port the server listens on.
+   *
+   * @return TCP port
+   */
+  public int getPort() {
+    return this.socket.getLocalPort();
+  }
+
+  /**
+   * Gets the server statistics.
+   *
+   * @return server statistics
+   */
+  public Stats getStats() {
+    return this.stats;
+  }
+
+  /**
+   * Accepts connections until the server is closed.
+   */
+  public void serve() {
+    while (!this.socket.isClosed()) {
+      try {
+        Socket client = this.socket.accept();
+        this.connections.execute(() -> this.handle(client));
+      } catch (IOException e) {
+        // socket closed
+      }
+    }
+  }
+
+  /**
+   * Stops accepting connections and jobs.
+   */
+  public void close() {
+    try {
+      this.socket.close();
+    } catch (IOException e) {
+      // already closed
+    }
+    this.workers.shutdownNow();
+    this.connections.shutdownNow();
+  }
+
+  /**
+   * Handles the requests of a connection until the client quits or disconnects.
+   *
+   * @param client client socket
+   */
+  private void handle(Socket client) {
+    try (Socket s = client) {
+      InputStream in = new BufferedInputStream(s.getInputStream());
+      OutputStream out = new BufferedOutputStream(s.getOutputStream());
+      String line;
+      while ((line = Protocol.readLine(in)) != null) {
+        if (line.equals(Protocol.RUN)) {
+          Job job;
+          try {
+            job = Job.read(in);
+          } catch (IOException e) {
+            // the rest of the stream can not be trusted
+            Protocol.writeLine(out, Protocol.ERROR + " " + e.getMessage());
+            break;
+          }
+          this.submit(job, out);
+        } else if (line.equals(Protocol.STATS))
+          Protocol.writeLine(out, Protocol.STATS + " " + this.stats.summary());
+        else if (line.equals(Protocol.QUIT))
+          break;
+        else if (!line.isEmpty())
+          Protocol.writeLine(out, Protocol.ERROR + " unknown request: " + line);
+        out.flush();
+      }
+      out.flush();
+    } catch (IOException e) {
+      // client disconnected
+    }
+  }
+
+  /**
+   * Runs a job on a worker and writes its result record.
+   *
+   * @param job job to run
+   * @param out connection output stream
+   * @throws IOException if the connection is broken
+   */
+  private void submit(Job job, OutputStream out) throws IOException {
+    long submitted = System.nanoTime();
+    long[] started = new long[1];
+    Future<BatchResult> future;
+    this.stats.enqueue();
+    try {
+      future = this.workers.submit(() -> {
+        started[0] = System.nanoTime();
+        this.stats.start();
+        return job.run(out, Settings.MAX_INSTS, Settings.TIMEOUT);
+      });
+    } catch (RejectedExecutionException e) {
+      this.stats.reject();
+      synchronized (out) {
+        Protocol.writeLine(out, Protocol.ERROR + " server busy, queue is full");
+      }
+      return;
+    }
+    BatchResult result = null;
+    String error = null;
+    try {
+      result = future.get();
+    } catch (ExecutionException e) {
+      error = "job failed: " + e.getCause().getMessage();
+    } catch (InterruptedException e) {
+      error = "server shutting down";
+    }
+    long now = System.nanoTime();
+    this.stats.finish(now - submitted);
+    synchronized (out) {
+      if (result != null)
+        Protocol.writeLine(out, Protocol.result(result, (started[0] - submitted) / 1000000L));
+      else
+        Protocol.writeLine(out, Protocol.ERROR + " " + error);
+    }
+    Message.log(String.format("%s exit(%d) in %.3fms, queue=%d", job.getName(),
+        (result != null) ? result.getStatus() : -1, (now - submitted) / 1e6, this.stats.getQueueDepth()));
+  }
+
+}
@@ -0,0 +1,125 @@
+/*
+Copyright (C) 2018-2019 Andres Castellanos
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <https://www.gnu.org/licenses/>
+*/
+
+package vsim.server;
+
+import java.util.Arrays;
+
+
+/**
+ * The class Stats keeps the request counters, queue depth and latency percentiles of a simulation server. Percentiles
+ * are computed over the latencies of the last {@link #WINDOW} requests.
+ */
+public final class Stats {
+
+  /** number of latencies used to compute percentiles */
+  private static final int WINDOW = 1024;
+
+  /** latencies of the last requests in nanoseconds (ring buffer) */
+  private final long[] latencies;
+  /** number of finished requests */
+  private long finished;
+  /** number of rejected requests */
+  private long rejected;
+  /** number of jobs waiting for a worker */
+  private int queued;
+  /** number of running jobs */
+  private int running;
+
+  /**
+   * Creates new empty server statistics.
+   */
+  public Stats() {
+    this.latencies = new long[WINDOW];
+    this.finished = 0;
+    this.rejected = 0;
+    this.queued = 0;
+    this.running = 0;
+  }
+
+  /**
+   * Accounts a job that is waiting for a worker.
+   */
+  public synchronized void enqueue() {
+    this.queued++;
+  }
+
+  /**
+   * Accounts a job rejected because the queue is full.
+   */
+  public synchronized void reject() {
+    this.queued--;
+    this.rejected++;
+  }
+
+  /**
+   * Accounts a job that left the queue and started running.
+   */
+  public synchronized void start() {
+    this.queued--;
+    this.running++;
+  }
+
+  /**
+   * Accounts a finished job.
+   *
+   * @param latency request latency in nanoseconds, from submission to result
+   */
+  public synchronized void finish(long latency) {
+    this.running--;
+    this.latencies[(int) (this.finished % WINDOW)] = latency;
+    this.finished++;
+  }
+
+  /**
+   * Gets the number of jobs waiting for a worker.
+   *
+   * @return queue depth
+   */
+  public synchronized int getQueueDepth() {
+    return this.queued;
+  }
+
+  /**
+   * Returns a one line summary of the statistics.
+   *
+   * @return statistics summary
+   */
+  public synchronized String summary() {
+    int n = (int) Math.min(this.finished, WINDOW);
+    long[] sorted = Arrays.copyOf(this.latencies, n);
+    Arrays.sort(sorted);
+    return String.format("finished=%d rejected=%d queued=%d running=%d p50=%.3fms p90=%.3fms p99=%.3fms max=%.3fms",
+        this.finished, this.rejected, this.queued, this.running, Stats.percentile(sorted, 50),
+        Stats.percentile(sorted, 90), Stats.percentile(sorted, 99), Stats.percentile(sorted, 100));
+  }
+
+  /**
+   * Computes a percentile with the nearest rank method.
+   *
+   * @param sorted sorted latencies in nanoseconds
+   * @param p percentile
+   * @return percentile in milliseconds, 0 if there are no latencies
+   */
+  private static double percentile(long[] sorted, int p) {
+    if (sorted.length == 0)
+      return 0.0;
+    int rank = (int) Math.ceil(p / 100.0 * sorted.length);
+    return sorted[Math.max(rank, 1) - 1] / 1e6;
+  }
+
+}
@@ -0,0 +1,69 @@
+/*
+Copyright (C) 2018-2019 Andres Castellanos
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <https://www.gnu.org/licenses/>
+*/
+
+package vsim.server;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.FileDescriptor;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import vsim.Settings;
+import vsim.simulator.BatchResult;
+import vsim.utils.Message;
+
+
+/**
+ * The class Worker implements a worker process of the batch {@link vsim.server.Coordinator}. It reads jobs from its
+ * standard input and answers on its standard output with the {@link vsim.server.Protocol}, one job at a time.
+ */
+public final class Worker {
+
+  /**
+   * Serves jobs until the coordinator quits or closes the standard input, then exits.
+   */
+  public static void serve() {
+    InputStream in = new BufferedInputStream(new FileInputStream(FileDescriptor.in));
+    OutputStream out = new BufferedOutputStream(new FileOutputStream(FileDescriptor.out));
+    // the standard output is the coordinator channel, anything else goes to standard error
+    System.setOut(System.err);
+    int status = 0;
+    try {
+      String line;
+      while ((line = Protocol.readLine(in)) != null && !line.equals(Protocol.QUIT)) {
+        if (line.equals(Protocol.RUN)) {
+          BatchResult result = Job.read(in).run(out, Settings.MAX_INSTS, Settings.TIMEOUT);
+          synchronized (out) {
+            Protocol.writeLine(out, Protocol.result(result, 0));
+            out.flush();
+          }
+        } else if (!line.isEmpty()) {
+          Protocol.writeLine(out, Protocol.ERROR + " unknown request: " + line);
+          out.flush();
+        }
+      }
+    } catch (IOException e) {
+      Message.error("worker: " + e.getMessage());
+      status = 1;
+    }
+    System.exit(status);
+  }
+
+}
@@ -0,0 +1,586 @@
+/*
+Copyright (C) 2018-2019 Andres Castellanos
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <https://www.gnu.org/licenses/>
+*/
+
+package vsim.simulator;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import vsim.Errors;
+import vsim.Machine;
+import vsim.Settings;
+import vsim.assembler.Assembler;
+import vsim.linker.LinkedProgram;
+import vsim.linker.Linker;
+import vsim.server.Coordinator;
+import vsim.utils.Console;
+import vsim.utils.IO;
+import vsim.utils.Message;
+import vsim.utils.Tape;
+
+
+/**
+ * The class Batch runs many programs in one JVM on a pool of worker threads. Every program is assembled, linked and
+ * simulated in its own machine with its own console, so its output and exit status are captured. A program is a source
+ * file or a directory of source files. Next to a program {@code name.s} (or directory {@code name}) these optional
+ * files are used: {@code name.input} (standard input), {@code name.expected} (expected standard output),
+ * {@code name.expected.err} (expected standard error) and {@code name.expected.status} (expected exit status, 0 by
+ * default).
+ */
+public final class Batch {
+
+  /** input file extension */
+  private static final String INPUT = ".input";
+
+  /** expected standard output file extension */
+  private static final String EXPECTED = ".expected";
+
+  /** expected standard error file extension */
+  private static final String EXPECTED_ERR = ".expected.err";
+
+  /** expected exit status file extension */
+  private static final String EXPECTED_STATUS = ".expected.status";
+
+  /**
+   * Runs all the programs of a directory or glob pattern with the batch settings, prints a summary, writes the
+   * requested reports and exits with status 0 if all programs passed or 1 otherwise.
+   *
+   * @param target directory or glob pattern
+   * @see vsim.Settings#WORKERS
+   * @see vsim.Settings#PROCS
+   * @see vsim.Settings#JSON
+   * @see vsim.Settings#JUNIT
+   */
+  public static void batch(String target) {
+    ArrayList<File> programs = Batch.find(target);
+    if (programs.isEmpty())
+      Message.panic("no RISC-V programs found in: " + target);
+    long start = System.nanoTime();
+    // run in worker processes or in worker threads of this JVM
+    ArrayList<BatchResult> results = (Settings.PROCS > 0) ? Coordinator.run(programs, Settings.PROCS, Batch::print)
+        : Batch.run(programs, Settings.WORKERS, Settings.MAX_INSTS, Settings.TIMEOUT, Batch::print);
+    long time = (System.nanoTime() - start) / 1000000L;
+    Batch.finish(results, time, "programs",
+        (Settings.PROCS > 0) ? Settings.PROCS + " processes" : Settings.WORKERS + " workers");
+  }
+
+  /**
+   * Prints if a result passed or the reason why it failed.
+   *
+   * @param result program result
+   */
+  static void print(BatchResult result) {
+    String failure = result.getFailure();
+    if (failure == null)
+      IO.stdout.println("    " + result.getName() + ": ✔");
+    else
+      IO.stdout.println("    " + result.getName() + ": ✘ (" + failure + ")");
+  }
+
+  /**
+   * Prints a summary of results, writes the requested reports and exits with status 0 if all results passed or 1
+   * otherwise.
+   *
+   * @param results results
+   * @param time total wall clock time in milliseconds
+   * @param what what was run, e.g programs
+   * @param pool what run them, e.g 4 workers
+   */
+  static void finish(ArrayList<BatchResult> results, long time, String what, String pool) {
+    int passed = 0;
+    for (BatchResult result : results) {
+      if (result.passed())
+        passed++;
+    }
+    IO.stdout.println();
+    IO.stdout.println(
+        String.format("%d/%d %s passed in %.3f s (%s)", passed, results.size(), what, time / 1000.0, pool));
+    // write reports
+    try {
+      if (Settings.JSON != null)
+        Batch.writeJSON(results, new File(Settings.JSON), time);
+      if (Settings.JUNIT != null)
+        Batch.writeJUnit(results, new File(Settings.JUNIT), time);
+    } catch (IOException e) {
+      Message.panic("could not write batch report: " + e.getMessage());
+    }
+    System.exit(passed == results.size() ? 0 : 1);
+  }
+
+  /**
+   * Runs programs in parallel and collects their results in the same order.
+   *
+   * @param programs programs to run (source files or directories)
+   * @param workers number of worker threads
+   * @param maxInsts max number of instructions per program (0 = no limit)
+   * @param timeout max wall clock time per program in milliseconds (0 = no limit)
+   * @param listener called with every result in program order as soon as it is available, can be null
+   * @return program results
+   */
+  public static ArrayList<BatchResult> run(List<File> programs, int workers, long maxInsts, long timeout,
+      Consumer<BatchResult> listener) {
+    return Batch.run(programs, workers, program -> Batch.run(program, maxInsts, timeout), listener);
+  }
+
+  /**
+   * Runs files in parallel and collects their results in the same order.
+   *
+   * @param files files to run, e.g programs
+   * @param workers number of worker threads
+   * @param runner runs a file in the current thread, it must not throw
+   * @param listener called with every result in file order as soon as it is available, can be null
+   * @return results
+   */
+  static ArrayList<BatchResult> run(List<File> files, int workers, Function<File, BatchResult> runner,
+      Consumer<BatchResult> listener) {
+    ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, workers));
+    try {
+      ArrayList<Future<BatchResult>> futures = new ArrayList<Future<BatchResult>>();
+      for (File file : files)
+        futures.add(executor.submit(() -> runner.apply(file)));
+      ArrayList<BatchResult> results = new ArrayList<BatchResult>();
+      for (Future<BatchResult> future : futures) {
+        BatchResult result;
+        try {
+          result = future.get();
+        } catch (ExecutionException | InterruptedException e) {
+          // run never throws, this only happens if the runner is interrupted
+          throw new RuntimeException(e);
+        }
+        if (listener != null)
+          listener.accept(result);
+        results.add(result);
+      }
+      return results;
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  /**
+   * Assembles, links and simulates a program in a new machine with a captured console in the current thread.
+   *
+   * @param program program to run (source file or directory)
+   * @param maxInsts max number of instructions (0 = no limit)
+   * @param timeout max wall clock time in milliseconds (0 = no limit)
+   * @return program result
+   */
+  public static BatchResult run(File program, long maxInsts, long timeout) {
+    Console console = new Console(Batch.input(program));
+    BatchResult result = Batch.run(program.toString(), Batch.sources(program), console, maxInsts, timeout);
+    Batch.expect(result, program);
+    return result;
+  }
+
+  /**
+   * Sets the expected output and exit status of a program result from the expected files next to the program.
+   *
+   * @param result program result
+   * @param program source file or directory
+   */
+  public static void expect(BatchResult result, File program) {
+    byte[] stdout = Batch.read(program, EXPECTED);
+    byte[] stderr = Batch.read(program, EXPECTED_ERR);
+    byte[] expectedStatus = Batch.read(program, EXPECTED_STATUS);
+    Integer exitStatus = null;
+    if (expectedStatus != null) {
+      try {
+        exitStatus = Integer.parseInt(new String(expectedStatus, StandardCharsets.UTF_8).trim());
+      } catch (NumberFormatException e) {
+        exitStatus = Integer.MIN_VALUE;
+      }
+    }
+    result.expect((stdout != null) ? new String(stdout, StandardCharsets.UTF_8) : null,
+        (stderr != null) ? new String(stderr, StandardCharsets.UTF_8) : null, exitStatus);
+  }
+
+  /**
+   * Verifies if a file is an expected output or exit status file.
+   *
+   * @param file any file
+   * @return true if the file is an expectation file, false otherwise
+   */
+  static boolean isExpectation(File file) {
+    String name = file.getName();
+    return name.endsWith(EXPECTED) || name.endsWith(EXPECTED_ERR) || name.endsWith(EXPECTED_STATUS);
+  }
+
+  /**
+   * Gets the standard input of a program from the input file next to it.
+   *
+   * @param program source file or directory
+   * @return standard input contents, empty if there is no input file
+   */
+  public static byte[] input(File program) {
+    byte[] input = Batch.read(program, INPUT);
+    return (input != null) ? input : new byte[0];
+  }
+
+  /**
+   * Assembles, links and simulates source files in a new machine with a console attached to the current thread. The
+   * console is flushed when the run ends. If results are cached, a cached run only replays its output and
+   * runs that take inputs from the host are not cached.
+   *
+   * @param name program name
+   * @param files program source files
+   * @param console program console
+   * @param maxInsts max number of instructions (0 = no limit)
+   * @param timeout max wall clock time in milliseconds (0 = no limit)
+   * @return program result, with the console output if it is captured
+   * @see vsim.simulator.Cache
+   */
+  public static BatchResult run(String name, ArrayList<File> files, Console console, long maxInsts, long timeout) {
+    return Batch.run(name, files, null, null, console, maxInsts, timeout);
+  }
+
+  /**
+   * Runs a program with a console attached to the current thread. With a template machine the program is already
+   * linked in it and is simulated in a fork of the template, otherwise the files are assembled and linked in a new
+   * machine. The console is flushed when the run ends. If results are cached, a cached run only replays its output and
+   * runs that take inputs from the host are not cached.
+   *
+   * @param name run name
+   * @param files program source files
+   * @param template machine where the program is linked or null
+   * @param linked program linked in the template or null
+   * @param console program console
+   * @param maxInsts max number of instructions (0 = no limit)
+   * @param timeout max wall clock time in milliseconds (0 = no limit)
+   * @return program result, with the console output if it is captured
+   * @see vsim.Machine#fork
+   */
+  public static BatchResult run(String name, ArrayList<File> files, Machine template, LinkedProgram linked,
+      Console console, long maxInsts, long timeout) {
+    Cache cache = Cache.get();
+    String key = null;
+    if (cache != null) {
+      try {
+        key = Cache.key(files, console.getInput(), maxInsts);
+      } catch (IOException e) {
+        // unreadable sources are reported by the assembler
+      }
+      BatchResult cached = (key != null && !Settings.NOCACHE) ? cache.load(key, name, files) : null;
+      if (cached != null) {
+        console.getOut().print(cached.getStdout());
+        console.getErr().print(cached.getStderr());
+        console.flush();
+        return cached;
+      }
+    }
+    Machine machine = (template != null) ? template.fork() : new Machine();
+    // only runs that do not depend on the host are cached
+    if (key != null)
+      machine.setTape(Tape.watch());
+    Budget budget = null;
+    int status = 0;
+    boolean crashed = false;
+    long start = System.nanoTime();
+    console.attach();
+    try {
+      Errors.clear();
+      // assemble -> link -> simulate
+      LinkedProgram program = (template != null) ? linked : Linker.link(machine, Assembler.assemble(machine, files));
+      // start counting after assembling and linking
+      budget = new Budget(maxInsts, timeout);
+      Simulator.simulate(machine, program, budget);
+    } catch (Console.Exit e) {
+      status = e.getStatus();
+    } catch (RuntimeException | StackOverflowError e) {
+      Message.error("simulator crashed: " + e);
+      status = 1;
+      crashed = true;
+    } finally {
+      Console.detach();
+      Errors.clear();
+    }
+    console.flush();
+    long time = (System.nanoTime() - start) / 1000000L;
+    long instructions = (budget != null) ? budget.getInstructions() : 0;
+    BatchResult result =
+        new BatchResult(name, files, console.getOutput(), console.getError(), status, instructions, time);
+    // timeouts and crashes may not happen again, neither host inputs nor file writes are replayed by the cache
+    if (key != null && !crashed && !(budget != null && budget.isTimedOut()) && machine.getTape().isDeterministic())
+      cache.store(key, result);
+    return result;
+  }
+
+  /**
+   * Finds the programs of a directory or glob pattern. Directory entries and pattern matches that are source files or
+   * directories are programs.
+   *
+   * @param target directory, source file or glob pattern
+   * @return programs found, sorted by name
+   */
+  public static ArrayList<File> find(String target) {
+    ArrayList<File> programs = new ArrayList<File>();
+    File file = new File(target);
+    if (file.isDirectory()) {
+      File[] entries = file.listFiles();
+      if (entries != null) {
+        for (File entry : entries) {
+          if (entry.isDirectory() || Batch.isSource(entry))
+            programs.add(entry);
+        }
+      }
+    } else if (file.isFile()) {
+      if (Batch.isSource(file))
+        programs.add(file);
+    } else {
+      // walk from the longest directory prefix without glob characters
+      int wildcard = target.length();
+      for (char c : "*?[{".toCharArray()) {
+        int index = target.indexOf(c);
+        if (index >= 0)
+          wildcard = Math.min(wildcard, index);
+      }
+      int slash = Math.max(target.lastIndexOf('/', wildcard), target.lastIndexOf(File.separatorChar, wildcard));
+      Path base = Paths.get((slash >= 0) ? target.substring(0, slash + 1) : "");
+      PathMatcher matcher = FileSystems.getDefault().getPathMatcher("glob:" + target);
+      if (Files.isDirectory(base)) {
+        try (Stream<Path> paths = Files.walk(base)) {
+          for (Path path : paths.filter(matcher::matches).collect(Collectors.toList())) {
+            File entry = path.toFile();
+            if (!path.equals(base) && (entry.isDirectory() || Batch.isSource(entry)))
+              programs.add(entry);
+          }
+        } catch (IOException e) {
+          Message.panic("could not search programs in: " + base);
+        }
+      }
+    }
+    Collections.sort(programs);
+    return programs;
+  }
+
+  /**
+   * Gets the source files of a program, the trap handler (if any) is always the first file.
+   *
+   * @param program source file or directory
+   * @return program source files
+   */
+  public static ArrayList<File> sources(File program) {
+    ArrayList<File> files = new ArrayList<File>();
+    if (program.isDirectory()) {
+      try (Stream<Path> paths = Files.walk(program.toPath())) {
+        for (Path path : paths.sorted().collect(Collectors.toList())) {
+          File file = path.toFile();
+          if (file.isFile() && Batch.isSource(file))
+            files.add(file);
+        }
+      } catch (IOException e) {
+        // reported by the assembler as no valid source file
+      }
+    } else
+      files.add(program);
+    if (Settings.TRAP != null && !files.contains(Settings.TRAP))
+      files.add(0, Settings.TRAP);
+    return files;
+  }
+
+  /**
+   * Verifies if a file is a RISC-V source file.
+   *
+   * @param file file to verify
+   * @return true if the file has a .s or .asm extension, false otherwise
+   */
+  private static boolean isSource(File file) {
+    String name = file.getName();
+    return name.endsWith(".s") || name.endsWith(".asm");
+  }
+
+  /**
+   * Reads a file next to a program, the file name is the program name without extension plus a new extension.
+   *
+   * @param program source file, input file or directory
+   * @param extension file extension
+   * @return file contents or null if the file does not exist or could not be read
+   */
+  private static byte[] read(File program, String extension) {
+    String name = program.getPath();
+    int dot = name.lastIndexOf('.');
+    if (!program.isDirectory() && dot > name.lastIndexOf(File.separatorChar))
+      name = name.substring(0, dot);
+    File file = new File(name + extension);
+    if (!file.isFile())
+      return null;
+    try {
+      return Files.readAllBytes(file.toPath());
+    } catch (IOException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Writes a JSON report of batch results.
+   *
+   * @param results batch results
+   * @param file report file
+   * @param time total wall clock time in milliseconds
+   * @throws IOException if the report could not be written
+   */
+  public static void writeJSON(List<BatchResult> results, File file, long time) throws IOException {
+    int passed = 0;
+    for (BatchResult result : results) {
+      if (result.passed())
+        passed++;
+    }
+    try (PrintWriter out = new PrintWriter(file, "UTF-8")) {
+      out.println("{");
+      out.println(String.format("  \"total\": %d,", results.size()));
+      out.println(String.format("  \"passed\": %d,", passed));
+      out.println(String.format("  \"failed\": %d,", results.size() - passed));
+      out.println(String.format("  \"time\": %d,", time));
+      out.println("  \"results\": [");
+      for (int i = 0; i < results.size(); i++) {
+        BatchResult result = results.get(i);
+        String failure = result.getFailure();
+        ArrayList<String> files = new ArrayList<String>();
+        for (File f : result.getFiles())
+          files.add(Batch.json(f.toString()));
+        out.println("    {");
+        out.println(String.format("      \"name\": %s,", Batch.json(result.getName())));
+        out.println(String.format("      \"files\": [%s],", String.join(", ", files)));
+        out.println(String.format("      \"passed\": %s,", failure == null));
+        out.println(String.format("      \"failure\": %s,", (failure == null) ? "null" : Batch.json(failure)));
+        out.println(String.format("      \"status\": %d,", result.getStatus()));
+        out.println(String.format("      \"instructions\": %d,", result.getInstructions()));
+        out.println(String.format("      \"time\": %d,", result.getTime()));
+        out.println(String.format("      \"stdout\": %s,", Batch.json(result.getStdout())));
+        out.println(String.format("      \"stderr\": %s", Batch.json(result.getStderr())));
+        out.println((i < results.size() - 1) ? "    }," : "    }");
+      }
+      out.println("  ]");
+      out.println("}");
+    }
+  }
+
+  /**
+   * Writes a JUnit XML report of batch results, every program is a test case.
+   *
+   * @param results batch results
+   * @param file report file
+   * @param time total wall clock time in milliseconds
+   * @throws IOException if the report could not be written
+   */
+  public static void writeJUnit(List<BatchResult> results, File file, long time) throws IOException {
+    int failures = 0;
+    for (BatchResult result : results) {
+      if (!result.passed())
+        failures++;
+    }
+    try (PrintWriter out = new PrintWriter(file, "UTF-8")) {
+      out.println("<?xml version=\"1.0\" encoding=\"UTF-8\"?>");
+      out.println(String.format("<testsuite name=\"vsim\" tests=\"%d\" failures=\"%d\" errors=\"0\" time=\"%.3f\">",
+          results.size(), failures, time / 1000.0));
+      for (BatchResult result : results) {
+        String failure = result.getFailure();
+        out.println(String.format("  <testcase classname=\"vsim\" name=\"%s\" time=\"%.3f\">",
+            Batch.xml(result.getName()), result.getTime() / 1000.0));
+        if (failure != null)
+          out.println(String.format("    <failure message=\"%s\"/>", Batch.xml(failure)));
+        out.println(String.format("    <system-out>%s</system-out>", Batch.xml(result.getStdout())));
+        out.println(String.format("    <system-err>%s</system-err>", Batch.xml(result.getStderr())));
+        out.println("  </testcase>");
+      }
+      out.println("</testsuite>");
+    }
+  }
+
+  /**
+   * Quotes a string as a JSON string.
+   *
+   * @param s string to quote
+   * @return JSON string
+   */
+  private static String json(String s) {
+    StringBuilder out = new StringBuilder(s.length() + 2);
+    out.append('"');
+    for (char c : s.toCharArray()) {
+      switch (c) {
+        case '"':
+          out.append("\\\"");
+          break;
+        case '\\':
+          out.append("\\\\");
+          break;
+        case '\n':
+          out.append("\\n");
+          break;
+        case '\r':
+          out.append("\\r");
+          break;
+        case '\t':
+          out.append("\\t");
+          break;
+        default:
+          if (c < 0x20)
+            out.append(String.format("\\u%04x", (int) c));
+          else
+            out.append(c);
+      }
+    }
+    return out.append('"').toString();
+  }
+
+  /**
+   * Escapes a string for XML text or attribute values, characters not allowed in XML are dropped.
+   *
+   * @param s string to escape
+   * @return escaped string
+   */
+  private static String xml(String s) {
+    StringBuilder out = new StringBuilder(s.length());
+    for (char c : s.toCharArray()) {
+      switch (c) {
+        case '&':
+          out.append("&amp;");
+          break;
+        case '<':
+          out.append("&lt;");
+          break;
+        case '>':
+          out.append("&gt;");
+          break;
+        case '"':
+          out.append("&quot;");
+          break;
+        default:
+          if (c >= 0x20 || c == '\n' || c == '\r' || c == '\t')
+            out.append(c);
+      }
+    }
+    return out.toString();
+  }
+
+}
@@ -0,0 +1,200 @@
+/*
+Copyright (C) 2018-2019 Andres Castellanos
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <https://www.gnu.org/licenses/>
+*/
+
+package vsim.simulator;
+
+import java.io.File;
+import java.util.ArrayList;
+
+
+/**
+ * The class BatchResult represents the outcome of a program run by the batch runner, i.e captured output, exit status,
+ * statistics and the expected output and status if any.
+ */
+public final class BatchResult {
+
+  /** program name (file or directory) */
+  private final String name;
+  /** program source files */
+  private final ArrayList<File> files;
+  /** captured standard output */
+  private final String stdout;
+  /** captured standard error */
+  private final String stderr;
+  /** program exit status */
+  private final int status;
+  /** number of executed instructions */
+  private final long instructions;
+  /** wall clock time of the run in milliseconds */
+  private final long time;
+  /** expected standard output or null if not checked */
+  private String expectedStdout;
+  /** expected standard error or null if not checked */
+  private String expectedStderr;
+  /** expected exit status or null if not checked */
+  private Integer expectedStatus;
+
+  /**
+   * Creates a new batch result.
+   *
+   * @param name program name
+   * @param files program source files
+   * @param stdout captured standard output
+   * @param stderr captured standard error
+   * @param status program exit status
+   * @param instructions number of executed instructions
+   * @param time wall clock time of the run in milliseconds
+   */
+  public BatchResult(String name, ArrayList<File> files, String stdout, String stderr, int status, long instructions,
+      long time) {
+    this.name = name;
+    this.files = files;
+    this.stdout = stdout;
+    this.stderr = stderr;
+    this.status = status;
+    this.instructions = instructions;
+    this.time = time;
+    this.expectedStdout = null;
+    this.expectedStderr = null;
+    this.expectedStatus = null;
+  }
+
+  /**
+   * Sets the expected output and exit status, null values are not checked.
+   *
+   * @param stdout expected standard output
+   * @param stderr expected standard error
+   * @param status expected exit status
+   */
+  public void expect(String stdout, String stderr, Integer status) {
+    this.expectedStdout = stdout;
+    this.expectedStderr = stderr;
+    this.expectedStatus = status;
+  }
+
+  /**
+   * Compares the result with the expected output and exit status. Without an expected exit status the program is
+   * expected to exit with status 0.
+   *
+   * @return a description of the first difference or null if the program passed
+   */
+  public String getFailure() {
+    int status = (this.expectedStatus != null) ? this.expectedStatus : 0;
+    if (this.status != status)
+      return String.format("exit status %d, expected %d", this.status, status);
+    if (this.expectedStdout != null && !this.expectedStdout.equals(this.stdout))
+      return "stdout " + BatchResult.diff(this.stdout, this.expectedStdout);
+    if (this.expectedStderr != null && !this.expectedStderr.equals(this.stderr))
+      return "stderr " + BatchResult.diff(this.stderr, this.expectedStderr);
+    return null;
+  }
+
+  /**
+   * Verifies if the program passed.
+   *
+   * @return true if the program matches its expected output and exit status, false otherwise
+   */
+  public boolean passed() {
+    return this.getFailure() == null;
+  }
+
+  /**
+   * Describes the first differing line of two outputs.
+   *
+   * @param actual actual output
+   * @param expected expected output
+   * @return difference description
+   */
+  private static String diff(String actual, String expected) {
+    String[] a = actual.split("\r?\n", -1);
+    String[] e = expected.split("\r?\n", -1);
+    int n = Math.min(a.length, e.length);
+    for (int i = 0; i < n; i++) {
+      if (!a[i].equals(e[i]))
+        return String.format("differs at line %d: got '%s', expected '%s'", i + 1, a[i], e[i]);
+    }
+    if (a.length > e.length)
+      return String.format("has extra output at line %d: '%s'", n + 1, a[n]);
+    if (a.length < e.length)
+      return String.format("is missing output at line %d: '%s'", n + 1, e[n]);
+    return "differs in line endings";
+  }
+
+  /**
+   * Gets the program name.
+   *
+   * @return program name
+   */
+  public String getName() {
+    return this.name;
+  }
+
+  /**
+   * Gets the program source files.
+   *
+   * @return program source files
+   */
+  public ArrayList<File> getFiles() {
+    return this.files;
+  }
+
+  /**
+   * Gets the captured standard output.
+   *
+   * @return captured standard output
+   */
+  public String getStdout() {
+    return this.stdout;
+  }
+
+  /**
+   * Gets the captured standard error.
+   *
+   * @return captured standard error
+   */
+  public String getStderr() {
+    return this.stderr;
+  }
+
+  /**
+   * Gets the program exit status.
+   *
+   * @return program exit status
+   */
+  public int getStatus() {
+    return this.status;
+  }
+
+  /**
+   * Gets the number of executed instructions.
+   *
+   * @return number of executed instructions
+   */
+  public long getInstructions() {
+    return this.instructions;
+  }
+
+  /**
+   * Gets the wall clock time of the run.
+   *
+   * @return wall clock time in milliseconds
+   */
+  public long getTime() {
+    return this.time;
+  }
+
+}
@@ -0,0 +1,306 @@
+/*
+Copyright (C) 2018-2019 Andres Castellanos
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <https://www.gnu.org/licenses/>
+*/
+
+package vsim.simulator;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import com.sun.management.ThreadMXBean;
+import vsim.Errors;
+import vsim.Machine;
+import vsim.Settings;
+import vsim.assembler.Assembler;
+import vsim.linker.LinkedProgram;
+import vsim.linker.Linker;
+import vsim.utils.Console;
+import vsim.utils.IO;
+import vsim.utils.Message;
+
+
+/**
+ * The class Bench measures the simulator speed on guest workloads, e.g the programs of {@code examples/bench}. Every
+ * workload is assembled and linked once, run a few warm-up times so the JVM compiles the simulator hot paths, and then
+ * measured. Workloads are checked like batch programs, so a workload with a {@code name.expected} file must produce
+ * the expected output. The report shows the simulated instructions per second (MIPS), the wall time and the allocation
+ * rate of every workload and, if a baseline file is given, the MIPS change against the baseline.
+ *
+ * @see vsim.simulator.Batch
+ */
+public final class Bench {
+
+  /**
+   * Runs all the workloads of a directory or glob pattern with the bench settings, prints a report and exits with
+   * status 0 if all workloads passed or 1 otherwise.
+   *
+   * @param target directory or glob pattern
+   * @see vsim.Settings#WARMUP
+   * @see vsim.Settings#ITERATIONS
+   * @see vsim.Settings#BASELINE
+   * @see vsim.Settings#SAVE_BASELINE
+   */
+  public static void bench(String target) {
+    ArrayList<File> programs = Batch.find(target);
+    if (programs.isEmpty())
+      Message.panic("no RISC-V programs found in: " + target);
+    Map<String, Double> baseline = null;
+    if (Settings.BASELINE != null) {
+      try {
+        baseline = Bench.load(new File(Settings.BASELINE));
+      } catch (IOException e) {
+        Message.panic("could not read baseline file: " + Settings.BASELINE);
+      }
+    }
+    IO.stdout.println(String.format(Locale.ROOT, "%d warm-up and %d measured runs per workload", Settings.WARMUP,
+        Settings.ITERATIONS));
+    IO.stdout.println();
+    IO.stdout.println(String.format("    %-20s %12s %12s %10s %12s %10s", "workload", "instructions", "time/run",
+        "MIPS", "alloc MB/s", "baseline"));
+    Map<String, Double> scores = new LinkedHashMap<String, Double>();
+    int passed = 0;
+    long instructions = 0;
+    long nanos = 0;
+    for (File program : programs) {
+      Measurement m = Bench.run(program, Settings.WARMUP, Settings.ITERATIONS);
+      if (m.failure != null) {
+        IO.stdout.println(String.format("    %-20s ✘ (%s)", m.name, m.failure));
+        continue;
+      }
+      passed++;
+      instructions += m.instructions * m.runs;
+      nanos += m.nanos;
+      double mips = m.getMIPS();
+      scores.put(m.name, mips);
+      IO.stdout.println(String.format(Locale.ROOT, "    %-20s %12d %9.3f ms %10.2f %12.1f %10s", m.name,
+          m.instructions, m.nanos / 1e6 / m.runs, mips, m.bytes / 1e6 / (m.nanos / 1e9),
+          Bench.compare(mips, baseline, m.name)));
+    }
+    IO.stdout.println();
+    double total = (nanos > 0) ? instructions / (nanos / 1e3) : 0;
+    String delta = (baseline != null) ? " (" + Bench.compare(total, baseline, "*") + " vs baseline)" : "";
+    IO.stdout.println(String.format(Locale.ROOT, "%d/%d workloads passed, %.2f MIPS overall%s", passed,
+        programs.size(), total, delta));
+    // save the scores as a new baseline
+    if (Settings.SAVE_BASELINE != null) {
+      scores.put("*", total);
+      try {
+        Bench.save(scores, new File(Settings.SAVE_BASELINE));
+      } catch (IOException e) {
+        Message.panic("could not write baseline file: " + Settings.SAVE_BASELINE);
+      }
+    }
+    System.exit(passed == programs.size() ? 0 : 1);
+  }
+
+  /**
+   * Measures a workload.
+   *
+   * @param program source file or directory
+   * @param warmup number of warm-up runs
+   * @param iterations number of measured runs
+   * @return workload measurement
+   */
+  public static Measurement run(File program, int warmup, int iterations) {
+    Measurement m = new Measurement(program.getName());
+    ArrayList<File> files = Batch.sources(program);
+    byte[] input = Batch.input(program);
+    // assemble and link once in a captured console, errors end the workload and not the bench
+    Machine template = new Machine();
+    LinkedProgram linked = null;
+    Console errors = new Console(input);
+    errors.attach();
+    try {
+      Errors.clear();
+      linked = Linker.link(template, Assembler.assemble(template, files));
+    } catch (Console.Exit e) {
+      linked = null;
+    } finally {
+      Console.detach();
+      Errors.clear();
+    }
+    if (linked == null) {
+      m.failure = "assembler or linker errors";
+      return m;
+    }
+    ThreadMXBean threads = Bench.threads();
+    for (int i = 0; i < warmup + iterations; i++) {
+      Machine machine = template.fork();
+      Console console = new Console(input);
+      Budget budget = new Budget(Settings.MAX_INSTS, Settings.TIMEOUT);
+      int status = 0;
+      long bytes = (threads != null) ? threads.getCurrentThreadAllocatedBytes() : 0;
+      long start = System.nanoTime();
+      console.attach();
+      try {
+        Simulator.simulate(machine, linked, budget);
+      } catch (Console.Exit e) {
+        status = e.getStatus();
+      } catch (RuntimeException | StackOverflowError e) {
+        m.failure = "simulator crashed: " + e;
+        return m;
+      } finally {
+        Console.detach();
+      }
+      long nanos = System.nanoTime() - start;
+      if (threads != null)
+        bytes = threads.getCurrentThreadAllocatedBytes() - bytes;
+      console.flush();
+      BatchResult result = new BatchResult(program.toString(), files, console.getOutput(), console.getError(), status,
+          budget.getInstructions(), nanos / 1000000L);
+      Batch.expect(result, program);
+      if (!result.passed()) {
+        m.failure = result.getFailure();
+        return m;
+      }
+      // warm-up runs are not measured
+      if (i >= warmup) {
+        m.instructions = budget.getInstructions();
+        m.nanos += nanos;
+        m.bytes += bytes;
+        m.runs++;
+      }
+    }
+    return m;
+  }
+
+  /**
+   * Gets the thread bean used to measure allocations.
+   *
+   * @return thread bean or null if the JVM does not measure thread allocations
+   */
+  private static ThreadMXBean threads() {
+    java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+    if (!(bean instanceof ThreadMXBean))
+      return null;
+    ThreadMXBean threads = (ThreadMXBean) bean;
+    if (!threads.isThreadAllocatedMemorySupported())
+      return null;
+    threads.setThreadAllocatedMemoryEnabled(true);
+    return threads;
+  }
+
+  /**
+   * Compares a score with its baseline.
+   *
+   * @param mips score in MIPS
+   * @param baseline baseline scores by workload name, can be null
+   * @param name workload name
+   * @return relative change, e.g +5.2%, or - if there is no baseline
+   */
+  private static String compare(double mips, Map<String, Double> baseline, String name) {
+    if (baseline == null || !baseline.containsKey(name) || baseline.get(name) <= 0)
+      return "-";
+    return String.format(Locale.ROOT, "%+.1f%%", (mips / baseline.get(name) - 1) * 100);
+  }
+
+  /**
+   * Loads a baseline file, one {@code name MIPS} line per workload, {@code *} is the overall score.
+   *
+   * @param file baseline file
+   * @return baseline scores by workload name
+   * @throws IOException if the file could not be read
+   */
+  public static Map<String, Double> load(File file) throws IOException {
+    Map<String, Double> baseline = new LinkedHashMap<String, Double>();
+    try (BufferedReader in = new BufferedReader(new FileReader(file))) {
+      String line;
+      while ((line = in.readLine()) != null) {
+        line = line.trim();
+        if (line.isEmpty() || line.startsWith("#"))
+          continue;
+        int space = line.lastIndexOf(' ');
+        try {
+          if (space > 0)
+            baseline.put(line.substring(0, space).trim(), Double.parseDouble(line.substring(space + 1)));
+        } catch (NumberFormatException e) {
+          throw new IOException("invalid baseline line: " + line);
+        }
+      }
+    }
+    return baseline;
+  }
+
+  /**
+   * Saves a baseline file.
+   *
+   * @param scores scores by workload name
+   * @param file baseline file
+   * @throws IOException if the file could not be written
+   */
+  public static void save(Map<String, Double> scores, File file) throws IOException {
+    try (PrintWriter out = new PrintWriter(file, "UTF-8")) {
+      out.println("# V-Sim bench baseline: workload MIPS (* = overall)");
+      for (Map.Entry<String, Double> score : scores.entrySet())
+        out.println(String.format(Locale.ROOT, "%s %.2f", score.getKey(), score.getValue()));
+    }
+  }
+
+  /**
+   * The class Measurement holds the measured runs of a workload.
+   */
+  public static final class Measurement {
+
+    /** workload name */
+    private final String name;
+    /** instructions of one run */
+    private long instructions;
+    /** total wall time of the measured runs in nanoseconds */
+    private long nanos;
+    /** total bytes allocated by the measured runs */
+    private long bytes;
+    /** number of measured runs */
+    private int runs;
+    /** why the workload failed or null if it passed */
+    private String failure;
+
+    /**
+     * Creates a new empty measurement.
+     *
+     * @param name workload name
+     */
+    private Measurement(String name) {
+      this.name = name;
+    }
+
+    /**
+     * Gets the simulated instructions per second.
+     *
+     * @return millions of instructions per second
+     */
+    public double getMIPS() {
+      return (this.nanos > 0) ? this.instructions * this.runs / (this.nanos / 1e3) : 0;
+    }
+
+    /**
+     * Gets why the workload failed.
+     *
+     * @return failure reason or null if the workload passed
+     */
+    public String getFailure() {
+      return this.failure;
+    }
+
+  }
+
+}
@@ -0,0 +1,110 @@
+/*
+Copyright (C) 2018-2019 Andres Castellanos
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <https://www.gnu.org/licenses/>
+*/
+
+package vsim.simulator;
+
+/**
+ * The class Breakpoint represents a debugger breakpoint with an optional condition and hit count.
+ */
+final class Breakpoint {
+
+  /** breakpoint address */
+  private final int address;
+  /** compiled condition or null if the breakpoint is unconditional */
+  private Condition condition;
+  /** number of hits to ignore before stopping */
+  private long ignore;
+  /** number of times the breakpoint was reached with a true condition */
+  private long hits;
+
+  /**
+   * Creates a new unconditional breakpoint.
+   *
+   * @param address breakpoint address
+   */
+  Breakpoint(int address) {
+    this.address = address;
+    this.condition = null;
+    this.ignore = 0;
+    this.hits = 0;
+  }
+
+  /**
+   * Verifies if the breakpoint condition is true.
+   *
+   * @return true if the breakpoint is unconditional or its condition is true, false otherwise
+   */
+  boolean test() {
+    return this.condition == null || this.condition.test();
+  }
+
+  /**
+   * Called when the breakpoint is reached, counts the hit and verifies if the program should stop.
+   *
+   * @return true if the program should stop, false otherwise
+   */
+  boolean hit() {
+    if (!this.test())
+      return false;
+    this.hits++;
+    return this.hits > this.ignore;
+  }
+
+  /**
+   * Sets the breakpoint condition.
+   *
+   * @param condition compiled condition or null to make the breakpoint unconditional
+   */
+  void setCondition(Condition condition) {
+    this.condition = condition;
+  }
+
+  /**
+   * Ignores the next hits of the breakpoint.
+   *
+   * @param count number of hits to ignore
+   */
+  void ignore(long count) {
+    this.ignore = this.hits + Math.max(count, 0);
+  }
+
+  /**
+   * Returns the breakpoint address.
+   *
+   * @return the breakpoint address
+   */
+  int getAddress() {
+    return this.address;
+  }
+
+  /**
+   * Returns a string representation of the breakpoint.
+   *
+   * @return the string representation
+   */
+  @Override
+  public String toString() {
+    String out = String.format("0x%08x", this.address);
+    if (this.condition != null)
+      out += " if " + this.condition;
+    out += " (hits: " + this.hits;
+    if (this.ignore > this.hits)
+      out += ", ignore next " + (this.ignore - this.hits);
+    return out + ")";
+  }
+
+}
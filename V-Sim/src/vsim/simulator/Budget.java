@@ -0,0 +1,164 @@
+/*
+Copyright (C) 2018-2019 Andres Castellanos
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <https://www.gnu.org/licenses/>
+*/
+
+package vsim.simulator;
+
+import vsim.Settings;
+
+
+/**
+ * The class Budget limits the number of instructions and the wall clock time of a run. It is a cheap countdown, the
+ * clock is only read once every {@link #CLOCK_INTERVAL} instructions and when the program wakes up from a sleep.
+ */
+public final class Budget {
+
+  /** exit status of a run that exhausts its budget */
+  public static final int EXIT_STATUS = 124;
+
+  /** number of instructions between wall clock checks */
+  private static final long CLOCK_INTERVAL = 1L << 16;
+
+  /** max number of instructions */
+  private final long limit;
+  /** if the run has a time limit */
+  private final boolean timed;
+  /** System.nanoTime deadline of the run */
+  private final long deadline;
+  /** instructions of the slices already consumed */
+  private long used;
+  /** size of the current slice */
+  private long slice;
+  /** remaining instructions of the current slice */
+  private long fuel;
+  /** exhausted limit description or null if the budget is not exhausted */
+  private String reason;
+
+  /**
+   * Creates a new run budget.
+   *
+   * @param maxInsts max number of instructions (0 = no limit)
+   * @param timeout max wall clock time in milliseconds (0 = no limit)
+   */
+  public Budget(long maxInsts, long timeout) {
+    this.limit = (maxInsts > 0) ? maxInsts : Long.MAX_VALUE;
+    this.timed = timeout > 0;
+    this.deadline = System.nanoTime() + (this.timed ? Math.min(timeout, Long.MAX_VALUE / 4000000L) * 1000000L : 0L);
+    this.used = 0;
+    this.slice = 0;
+    this.fuel = 0;
+    this.reason = null;
+  }
+
+  /**
+   * Creates a new run budget from {@link vsim.Settings#MAX_INSTS} and {@link vsim.Settings#TIMEOUT}.
+   */
+  public Budget() {
+    this(Settings.MAX_INSTS, Settings.TIMEOUT);
+  }
+
+  /**
+   * Accounts the next instruction, call it before executing every instruction.
+   *
+   * @return true if the instruction can be executed, false if the budget is exhausted
+   */
+  public boolean tick() {
+    if (this.fuel > 0) {
+      this.fuel--;
+      return true;
+    }
+    return this.refill();
+  }
+
+  /**
+   * Starts a new slice of instructions, checking the instruction and time limits.
+   *
+   * @return true if the budget is not exhausted, false otherwise
+   */
+  private boolean refill() {
+    this.used += this.slice;
+    this.slice = 0;
+    if (this.used >= this.limit)
+      this.reason = "instruction limit";
+    else if (this.timed && System.nanoTime() - this.deadline >= 0)
+      this.reason = "time limit";
+    if (this.reason != null)
+      return false;
+    this.slice = Math.min(this.limit - this.used, CLOCK_INTERVAL);
+    this.fuel = this.slice - 1;
+    return true;
+  }
+
+  /**
+   * Sleeps the running program, at most until the deadline of the run. If the deadline is reached the budget is
+   * exhausted before the next instruction, so a sleeping program does not outlive its time limit.
+   *
+   * @param millis milliseconds to sleep
+   */
+  public void sleep(long millis) {
+    long wait = millis;
+    if (this.timed)
+      wait = Math.min(millis, Math.max((this.deadline - System.nanoTime() + 999999L) / 1000000L, 0L));
+    try {
+      Thread.sleep(wait);
+    } catch (InterruptedException e) {
+      /* DO NOTHING */ }
+    if (this.timed && System.nanoTime() - this.deadline >= 0) {
+      // end the current slice, the next tick checks the clock
+      this.used += this.slice - this.fuel;
+      this.slice = 0;
+      this.fuel = 0;
+    }
+  }
+
+  /**
+   * Returns the number of instructions accounted so far.
+   *
+   * @return number of instructions
+   */
+  public long getInstructions() {
+    return this.used + this.slice - this.fuel;
+  }
+
+  /**
+   * Verifies if the budget is exhausted.
+   *
+   * @return true if the budget is exhausted, false otherwise
+   */
+  public boolean isExhausted() {
+    return this.reason != null;
+  }
+
+  /**
+   * Verifies if the budget was exhausted by the time limit, i.e the run did not end deterministically.
+   *
+   * @return true if the time limit was exceeded, false otherwise
+   */
+  public boolean isTimedOut() {
+    return "time limit".equals(this.reason);
+  }
+
+  /**
+   * Returns a summary of the exhausted budget.
+   *
+   * @param pc program counter where the run stopped
+   * @return the budget summary
+   */
+  public String summary(int pc) {
+    return String.format("%s exceeded at pc 0x%08x after %d instructions", this.reason, pc, this.getInstructions());
+  }
+
+}
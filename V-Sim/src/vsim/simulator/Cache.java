@@ -0,0 +1,272 @@
+/*
+Copyright (C) 2018-2019 Andres Castellanos
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <https://www.gnu.org/licenses/>
+*/
+
+package vsim.simulator;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import vsim.Globals;
+import vsim.Settings;
+
+
+/**
+ * The class Cache implements an on-disk cache of program results. Entries are keyed by a hash of everything that
+ * determines a run: the source files (including the trap handler), the assembler and simulator settings, the
+ * instruction limit and the standard input. Runs that take inputs from the host (files, wall clock time without
+ * virtual time, random numbers or the working directory) are not cached, their results may differ and their side
+ * effects would be lost. When the cache grows over its max size the least recently used entries are evicted.
+ */
+public final class Cache {
+
+  /** entry file extension */
+  private static final String EXTENSION = ".run";
+  /** entry file format magic number */
+  private static final int MAGIC = 0x5653494d;
+
+  /** shared cache of the current settings */
+  private static Cache shared = null;
+
+  /** cache directory */
+  private final File dir;
+  /** max cache size in bytes */
+  private final long maxSize;
+  /** estimated cache size in bytes, -1 if unknown */
+  private long size;
+
+  /**
+   * Creates a new cache.
+   *
+   * @param dir cache directory, created if it does not exist
+   * @param maxSize max cache size in bytes
+   */
+  public Cache(File dir, long maxSize) {
+    this.dir = dir;
+    this.maxSize = maxSize;
+    this.size = -1;
+  }
+
+  /**
+   * Gets the cache of the current settings.
+   *
+   * @return the cache or null if results are not cached
+   * @see vsim.Settings#CACHE
+   * @see vsim.Settings#CACHE_SIZE
+   */
+  public static synchronized Cache get() {
+    if (Settings.CACHE == null)
+      return null;
+    if (Cache.shared == null)
+      Cache.shared = new Cache(new File(Settings.CACHE), Settings.CACHE_SIZE);
+    return Cache.shared;
+  }
+
+  /**
+   * Computes the cache key of a run.
+   *
+   * @param files program source files, in assembling order
+   * @param input standard input contents
+   * @param maxInsts max number of instructions (0 = no limit)
+   * @return cache key, a hex SHA-256 digest
+   * @throws IOException if a source file could not be read
+   */
+  public static String key(ArrayList<File> files, byte[] input, long maxInsts) throws IOException {
+    MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      // every Java platform supports SHA-256
+      throw new IOException(e);
+    }
+    // results of another simulator version may differ
+    Cache.update(digest, Globals.VERSION.getBytes(StandardCharsets.UTF_8));
+    String flags = String.format("bare=%b extrict=%b self=%b start=%s maxinsts=%d virtualtime=%b timerate=%d",
+        Settings.BARE, Settings.EXTRICT, Settings.SELF_MODIFYING, Settings.START, maxInsts, Settings.VIRTUAL_TIME,
+        Settings.TIME_RATE);
+    Cache.update(digest, flags.getBytes(StandardCharsets.UTF_8));
+    // file names are part of error messages, but not their directories
+    for (File file : files) {
+      Cache.update(digest, file.getName().getBytes(StandardCharsets.UTF_8));
+      Cache.update(digest, Files.readAllBytes(file.toPath()));
+    }
+    Cache.update(digest, input);
+    StringBuilder key = new StringBuilder();
+    for (byte b : digest.digest())
+      key.append(String.format("%02x", b));
+    return key.toString();
+  }
+
+  /**
+   * Adds a length prefixed field to a digest, so different fields never hash the same.
+   *
+   * @param digest message digest
+   * @param field field bytes
+   */
+  private static void update(MessageDigest digest, byte[] field) {
+    int length = field.length;
+    digest.update(new byte[] {(byte) (length >>> 24), (byte) (length >>> 16), (byte) (length >>> 8), (byte) length});
+    digest.update(field);
+  }
+
+  /**
+   * Loads a cached result.
+   *
+   * @param key cache key
+   * @param name program name
+   * @param files program source files
+   * @return the cached result or null if there is no valid entry
+   */
+  public BatchResult load(String key, String name, ArrayList<File> files) {
+    File entry = new File(this.dir, key + EXTENSION);
+    if (!entry.isFile())
+      return null;
+    try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(entry)))) {
+      if (in.readInt() != MAGIC)
+        throw new IOException("invalid cache entry");
+      int status = in.readInt();
+      long instructions = in.readLong();
+      long time = in.readLong();
+      String stdout = Cache.readString(in);
+      String stderr = Cache.readString(in);
+      // recently used entries are evicted last
+      entry.setLastModified(System.currentTimeMillis());
+      return new BatchResult(name, files, stdout, stderr, status, instructions, time);
+    } catch (IOException e) {
+      // corrupted or concurrently evicted entry, run the program again
+      entry.delete();
+      return null;
+    }
+  }
+
+  /**
+   * Stores a result, evicting old entries if the cache is full. Errors are ignored, the cache is only an optimization.
+   *
+   * @param key cache key
+   * @param result program result
+   */
+  public void store(String key, BatchResult result) {
+    File entry = new File(this.dir, key + EXTENSION);
+    File tmp = null;
+    try {
+      Files.createDirectories(this.dir.toPath());
+      tmp = File.createTempFile(key, ".tmp", this.dir);
+      try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmp)))) {
+        out.writeInt(MAGIC);
+        out.writeInt(result.getStatus());
+        out.writeLong(result.getInstructions());
+        out.writeLong(result.getTime());
+        Cache.writeString(out, result.getStdout());
+        Cache.writeString(out, result.getStderr());
+      }
+      // readers never see a partially written entry
+      Files.move(tmp.toPath(), entry.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      this.account(entry.length());
+    } catch (IOException e) {
+      if (tmp != null)
+        tmp.delete();
+    }
+  }
+
+  /**
+   * Accounts a new entry and evicts the least recently used entries if the cache is over its max size.
+   *
+   * @param length entry size in bytes
+   */
+  private synchronized void account(long length) {
+    if (this.size < 0)
+      this.size = this.scan(new ArrayList<File>());
+    else
+      this.size += length;
+    if (this.size <= this.maxSize)
+      return;
+    // other processes may share the directory, so the real contents are evicted
+    ArrayList<File> entries = new ArrayList<File>();
+    this.size = this.scan(entries);
+    File[] sorted = entries.toArray(new File[0]);
+    Arrays.sort(sorted, Comparator.comparingLong(File::lastModified));
+    // leave some room to avoid evicting on every store
+    long target = this.maxSize - this.maxSize / 4;
+    for (int i = 0; i < sorted.length && this.size > target; i++) {
+      long n = sorted[i].length();
+      if (sorted[i].delete())
+        this.size -= n;
+    }
+  }
+
+  /**
+   * Finds the cache entries.
+   *
+   * @param entries list where the entries are added
+   * @return total size of the entries in bytes
+   */
+  private long scan(ArrayList<File> entries) {
+    long total = 0;
+    File[] files = this.dir.listFiles();
+    if (files != null) {
+      for (File file : files) {
+        if (file.getName().endsWith(EXTENSION)) {
+          entries.add(file);
+          total += file.length();
+        }
+      }
+    }
+    return total;
+  }
+
+  /**
+   * Reads a length prefixed UTF-8 string.
+   *
+   * @param in input stream
+   * @return the string
+   * @throws IOException if the string could not be read
+   */
+  private static String readString(DataInputStream in) throws IOException {
+    int length = in.readInt();
+    if (length < 0)
+      throw new IOException("invalid cache entry");
+    byte[] bytes = new byte[length];
+    in.readFully(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Writes a length prefixed UTF-8 string.
+   *
+   * @param out output stream
+   * @param s the string
+   * @throws IOException if the string could not be written
+   */
+  private static void writeString(DataOutputStream out, String s) throws IOException {
+    byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+    out.writeInt(bytes.length);
+    out.write(bytes);
+  }
+
+}
@@ -0,0 +1,96 @@
+/*
+Copyright (C) 2018-2019 Andres Castellanos
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <https://www.gnu.org/licenses/>
+*/
+
+package vsim.simulator;
+
+import java.util.HashMap;
+import vsim.Machine;
+import vsim.riscv.hardware.MemoryImage;
+import vsim.utils.IO;
+import vsim.utils.OpenFile;
+
+
+/**
+ * The class Checkpoint represents a full machine state taken during forward execution, used to go back to any
+ * previous instruction by restoring it and re-executing forward.
+ */
+final class Checkpoint {
+
+  /** machine whose state was taken */
+  private final Machine machine;
+  /** number of instructions executed when the checkpoint was taken */
+  private final long count;
+  /** program counter */
+  private final int pc;
+  /** RVI register values */
+  private final int[] rvi;
+  /** RVF register values */
+  private final int[] rvf;
+  /** main memory and heap pointer image */
+  private final MemoryImage memory;
+  /** open files */
+  private final HashMap<Integer, OpenFile> files;
+  /** user input log position */
+  private final int input;
+  /** input tape position */
+  private final int tape;
+  /** virtual milliseconds slept */
+  private final long slept;
+
+  /**
+   * Takes a checkpoint of the current state of a machine.
+   *
+   * @param machine machine whose state is taken
+   * @param count number of instructions executed so far
+   */
+  public Checkpoint(Machine machine, long count) {
+    this.machine = machine;
+    this.count = count;
+    this.pc = machine.getRegfile().getProgramCounter();
+    this.rvi = machine.getRegfile().save();
+    this.rvf = machine.getFregfile().save();
+    this.memory = machine.getMemory().checkpoint();
+    this.files = machine.getFS().getOpenFiles();
+    this.input = IO.getInputPosition();
+    this.tape = machine.getTape().getPosition();
+    this.slept = machine.getClock().getSlept();
+  }
+
+  /**
+   * Restores the machine state of this checkpoint.
+   */
+  public void restore() {
+    this.machine.getRegfile().setProgramCounter(this.pc);
+    this.machine.getRegfile().load(this.rvi);
+    this.machine.getFregfile().load(this.rvf);
+    this.machine.getMemory().restore(this.memory);
+    this.machine.getFS().setOpenFiles(this.files);
+    IO.setInputPosition(this.input);
+    this.machine.getTape().setPosition(this.tape);
+    this.machine.getClock().setSlept(this.slept);
+  }
+
+  /**
+   * Gets the number of instructions executed when the checkpoint was taken.
+   *
+   * @return number of instructions executed
+   */
+  public long getCount() {
+    return this.count;
+  }
+
+}
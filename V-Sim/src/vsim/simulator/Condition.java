@@ -0,0 +1,310 @@
+/*
+Copyright (C) 2018-2019 Andres Castellanos
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <https://www.gnu.org/licenses/>
+*/
+
+package vsim.simulator;
+
+import java.util.ArrayList;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import vsim.Machine;
+import vsim.utils.Data;
+
+
+/**
+ * The class Condition represents a breakpoint condition. Conditions are parsed only once into a tree of primitive
+ * register and memory reads that is cheap to evaluate on every breakpoint hit.
+ */
+final class Condition {
+
+  /** condition tokens pattern */
+  private static final Pattern TOKEN = Pattern.compile("\\s*(0[xX][0-9a-fA-F]+|0[bB][01]+|[0-9]+|[A-Za-z_][A-Za-z0-9_]*"
+      + "|>>>|<<|>>|<=|>=|==|!=|&&|\\|\\||[-+*/%&|^~!<>()\\[\\]])");
+
+  /** binary operators, from lowest to highest precedence */
+  private static final String[][] OPERATORS = {{"||"}, {"&&"}, {"|"}, {"^"}, {"&"}, {"==", "!="},
+      {"<", "<=", ">", ">="}, {"<<", ">>", ">>>"}, {"+", "-"}, {"*", "/", "%"}};
+
+  /**
+   * The interface Node represents a compiled expression node.
+   */
+  private interface Node {
+
+    /**
+     * Evaluates the node.
+     *
+     * @return the node value
+     */
+    public int evaluate();
+
+  }
+
+  /** condition source */
+  private final String source;
+  /** condition tokens, only used while parsing */
+  private final ArrayList<String> tokens;
+  /** current token, only used while parsing */
+  private int position;
+  /** machine whose state is evaluated */
+  private final Machine machine;
+  /** compiled condition */
+  private final Node root;
+
+  /**
+   * Parses and compiles a condition over the state of a machine.
+   *
+   * @param machine machine whose state is evaluated
+   * @param source condition source, e.g {@code a0 == 0 && mem32[sp + 8] > 100}
+   * @throws IllegalArgumentException if the condition is invalid
+   */
+  Condition(Machine machine, String source) {
+    this.machine = machine;
+    this.source = source.trim();
+    this.tokens = Condition.tokenize(this.source);
+    this.position = 0;
+    this.root = this.parse(0);
+    if (this.position != this.tokens.size())
+      throw new IllegalArgumentException("unexpected token '" + this.tokens.get(this.position) + "'");
+  }
+
+  /**
+   * Evaluates the condition using the current machine state.
+   *
+   * @return true if the condition is true (non zero), false otherwise
+   */
+  boolean test() {
+    return this.root.evaluate() != 0;
+  }
+
+  /**
+   * Splits a condition into tokens.
+   *
+   * @param source condition source
+   * @return condition tokens
+   * @throws IllegalArgumentException if there is an invalid character
+   */
+  private static ArrayList<String> tokenize(String source) {
+    ArrayList<String> tokens = new ArrayList<String>();
+    Matcher matcher = TOKEN.matcher(source);
+    int index = 0;
+    while (index < source.length()) {
+      if (!matcher.find(index) || matcher.start() != index) {
+        if (source.substring(index).trim().isEmpty())
+          break;
+        throw new IllegalArgumentException("invalid character at '" + source.substring(index).trim() + "'");
+      }
+      tokens.add(matcher.group(1));
+      index = matcher.end();
+    }
+    return tokens;
+  }
+
+  /**
+   * Returns the current token without consuming it.
+   *
+   * @return the current token or null if there are no more tokens
+   */
+  private String peek() {
+    return (this.position < this.tokens.size()) ? this.tokens.get(this.position) : null;
+  }
+
+  /**
+   * Consumes the current token.
+   *
+   * @return the consumed token
+   * @throws IllegalArgumentException if there are no more tokens
+   */
+  private String next() {
+    if (this.position >= this.tokens.size())
+      throw new IllegalArgumentException("unexpected end of condition");
+    return this.tokens.get(this.position++);
+  }
+
+  /**
+   * Consumes the current token that has to be the expected one.
+   *
+   * @param expected expected token
+   * @throws IllegalArgumentException if the current token is not the expected one
+   */
+  private void expect(String expected) {
+    String token = this.next();
+    if (!expected.equals(token))
+      throw new IllegalArgumentException("expected '" + expected + "' but found '" + token + "'");
+  }
+
+  /**
+   * Parses a binary expression of the given precedence level.
+   *
+   * @param level precedence level, an index of {@link #OPERATORS}
+   * @return the compiled expression
+   */
+  private Node parse(int level) {
+    if (level == OPERATORS.length)
+      return this.unary();
+    Node left = this.parse(level + 1);
+    while (true) {
+      String op = this.peek();
+      boolean found = false;
+      for (String operator : OPERATORS[level])
+        found |= operator.equals(op);
+      if (!found)
+        return left;
+      this.next();
+      left = Condition.binary(op, left, this.parse(level + 1));
+    }
+  }
+
+  /**
+   * Parses an unary expression.
+   *
+   * @return the compiled expression
+   */
+  private Node unary() {
+    String token = this.peek();
+    if ("-".equals(token) || "!".equals(token) || "~".equals(token)) {
+      this.next();
+      Node operand = this.unary();
+      if ("-".equals(token))
+        return () -> -operand.evaluate();
+      else if ("!".equals(token))
+        return () -> (operand.evaluate() == 0) ? 1 : 0;
+      return () -> ~operand.evaluate();
+    }
+    return this.primary();
+  }
+
+  /**
+   * Parses a number, a register, a memory read or a parenthesized expression.
+   *
+   * @return the compiled expression
+   */
+  private Node primary() {
+    String token = this.next();
+    // parenthesized expression
+    if ("(".equals(token)) {
+      Node node = this.parse(0);
+      this.expect(")");
+      return node;
+    }
+    // number
+    if (Character.isDigit(token.charAt(0))) {
+      int value;
+      try {
+        value = Data.parseInt(token);
+      } catch (NumberFormatException e) {
+        throw new IllegalArgumentException("invalid number '" + token + "'");
+      }
+      return () -> value;
+    }
+    if (!Character.isLetter(token.charAt(0)) && token.charAt(0) != '_')
+      throw new IllegalArgumentException("unexpected token '" + token + "'");
+    String name = token.toLowerCase();
+    // program counter
+    if ("pc".equals(name))
+      return () -> this.machine.getRegfile().getProgramCounter();
+    // memory reads
+    if ("mem8".equals(name) || "mem16".equals(name) || "mem32".equals(name)) {
+      this.expect("[");
+      Node address = this.parse(0);
+      this.expect("]");
+      if ("mem8".equals(name))
+        return () -> this.machine.getMemory().privLoadByte(address.evaluate());
+      else if ("mem16".equals(name))
+        return () -> this.machine.getMemory().privLoadHalf(address.evaluate());
+      return () -> this.machine.getMemory().privLoadWord(address.evaluate());
+    }
+    // RVI register, resolved only once
+    int number;
+    try {
+      number = this.machine.getRegfile().getRegisterNumber(name);
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException("invalid register '" + token + "'");
+    }
+    return () -> this.machine.getRegfile().getRegister(number);
+  }
+
+  /**
+   * Compiles a binary expression.
+   *
+   * @param op binary operator
+   * @param left left operand
+   * @param right right operand
+   * @return the compiled expression
+   */
+  private static Node binary(String op, Node left, Node right) {
+    switch (op) {
+      case "||":
+        return () -> (left.evaluate() != 0 || right.evaluate() != 0) ? 1 : 0;
+      case "&&":
+        return () -> (left.evaluate() != 0 && right.evaluate() != 0) ? 1 : 0;
+      case "|":
+        return () -> left.evaluate() | right.evaluate();
+      case "^":
+        return () -> left.evaluate() ^ right.evaluate();
+      case "&":
+        return () -> left.evaluate() & right.evaluate();
+      case "==":
+        return () -> (left.evaluate() == right.evaluate()) ? 1 : 0;
+      case "!=":
+        return () -> (left.evaluate() != right.evaluate()) ? 1 : 0;
+      case "<":
+        return () -> (left.evaluate() < right.evaluate()) ? 1 : 0;
+      case "<=":
+        return () -> (left.evaluate() <= right.evaluate()) ? 1 : 0;
+      case ">":
+        return () -> (left.evaluate() > right.evaluate()) ? 1 : 0;
+      case ">=":
+        return () -> (left.evaluate() >= right.evaluate()) ? 1 : 0;
+      case "<<":
+        return () -> left.evaluate() << right.evaluate();
+      case ">>":
+        return () -> left.evaluate() >> right.evaluate();
+      case ">>>":
+        return () -> left.evaluate() >>> right.evaluate();
+      case "+":
+        return () -> left.evaluate() + right.evaluate();
+      case "-":
+        return () -> left.evaluate() - right.evaluate();
+      case "*":
+        return () -> left.evaluate() * right.evaluate();
+      case "/":
+        // same as the div instruction, x / 0 = -1
+        return () -> {
+          int dividend = left.evaluate();
+          int divisor = right.evaluate();
+          return (divisor == 0) ? -1 : dividend / divisor;
+        };
+      default:
+        // same as the rem instruction, x % 0 = x
+        return () -> {
+          int dividend = left.evaluate();
+          int divisor = right.evaluate();
+          return (divisor == 0) ? dividend : dividend % divisor;
+        };
+    }
+  }
+
+  /**
+   * Returns the condition source.
+   *
+   * @return the condition source
+   */
+  @Override
+  public String toString() {
+    return this.source;
+  }
+
+}
@@ -17,17 +17,26 @@ along with this program.  If not, see <https://www.gnu.org/licenses/>
 
 package vsim.simulator;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.HashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import vsim.Globals;
+import vsim.Machine;
 import vsim.Settings;
 import vsim.assembler.statements.Statement;
 import vsim.linker.LinkedProgram;
 import vsim.riscv.MemorySegments;
 import vsim.riscv.exceptions.*;
+import vsim.riscv.hardware.Memory;
+import vsim.riscv.instructions.DecodedInstruction;
 import vsim.riscv.instructions.MachineCode;
+import vsim.utils.Console;
 import vsim.utils.Data;
 import vsim.utils.IO;
 import vsim.utils.Message;
+import vsim.utils.Tape;
 
 
 /**
@@ -35,32 +44,87 @@ import vsim.utils.Message;
  */
 public final class Debugger {
 
+  /** max number of reverse execution checkpoints */
+  private static final int MAX_CHECKPOINTS = 64;
+  /** return address register number */
+  private static final int RA = 1;
+  /** stack pointer register number */
+  private static final int SP = 2;
+
+  /** machine where the program is debugged */
+  private final Machine machine;
   /** simulator history */
   private History history;
+  /** reverse execution checkpoints, in instruction count order */
+  private final ArrayList<Checkpoint> checkpoints;
+  /** number of instructions between checkpoints */
+  private long interval;
+  /** number of instructions executed */
+  private long count;
   /** a linked program to debug */
   private LinkedProgram program;
-  /** a history of breakpoints */
-  private HashMap<Integer, Boolean> breakpoints;
+  /** breakpoints, one bit per text segment word */
+  private final BitSet breakpoints;
+  /** breakpoints conditions and hit counts, by address */
+  private final HashMap<Integer, Breakpoint> points;
+  /** temporary breakpoint address used by next, finish and until (-1 if none) */
+  private int temporary;
+  /** the temporary breakpoint only stops if sp is greater than or equal to this frame (unsigned) */
+  private int frame;
+  /** call site that returns to the temporary breakpoint, used to track recursive calls (-1 if none) */
+  private int callsite;
+  /** number of pending recursive returns to the temporary breakpoint */
+  private int depth;
+  /** address of the breakpoint where the program stopped, skipped when resuming (-1 if none) */
+  private int resume;
+  /** if the user requested to stop the running program */
+  private volatile boolean stop;
+  /** memory watchpoints, can be modified from the GUI while the program runs */
+  private final CopyOnWriteArrayList<Watchpoint> watchpoints;
+  /** last watchpoint hit message or null if no watchpoint was hit */
+  private String watched;
   /** previous command */
   private String[] args;
 
   /**
-   * Unique constructor that takes a linked program
+   * Unique constructor that takes a machine and a linked program
    *
+   * @param machine machine where the program was linked
    * @param program the linked program
    * @see vsim.linker.LinkedProgram
    */
-  public Debugger(LinkedProgram program) {
+  public Debugger(Machine machine, LinkedProgram program) {
+    this.machine = machine;
     this.program = program;
-    this.breakpoints = new HashMap<Integer, Boolean>();
+    this.breakpoints = new BitSet();
+    this.points = new HashMap<Integer, Breakpoint>();
+    this.temporary = -1;
+    this.frame = 0;
+    this.callsite = -1;
+    this.depth = 0;
+    this.resume = -1;
+    this.stop = false;
+    this.watchpoints = new CopyOnWriteArrayList<Watchpoint>();
+    this.watched = null;
     this.args = null;
     // set program breakpoints
     for (Integer breakpoint : program.getBreakpoints())
-      this.breakpoints.put(breakpoint, true);
+      this.set(breakpoint);
     // create history
-    this.history = new History();
+    this.history = new History(this.machine);
+    // watch memory accesses
+    this.machine.getMemory().unwatch();
+    this.machine.getMemory().setWatcher(this::access);
+    // reverse execution state
+    this.checkpoints = new ArrayList<Checkpoint>();
+    this.interval = Math.max(Settings.CHECKPOINT_INTERVAL, 1);
+    this.count = 0;
+    IO.setInputLog(true);
+    this.tape();
+    // the virtual clock counts the debugger instructions, so it goes back with the program
+    this.machine.getClock().setCounter(() -> this.count);
     // take a snapshot of the memory
-    Globals.memory.snapshot();
+    this.machine.getMemory().snapshot();
   }
 
   /**
@@ -85,12 +149,23 @@ public final class Debugger {
     IO.stdout.println("locals               - print local symbols of a file");
     // execution and breakpoints
     IO.stdout.println("step/s               - step the program for 1 instruction");
-    IO.stdout.println("backstep/b           - backstep the program for 1 instruction");
+    IO.stdout.println("backstep/b           - backstep the program for 1 instruction (b without arguments)");
+    IO.stdout.println("rstep/rs [n]         - reverse step the program for n instructions (default 1)");
+    IO.stdout.println("rcontinue/rc         - reverse continue to the previous breakpoint");
     IO.stdout.println("continue/c           - continue program execution without stepping");
+    IO.stdout.println("next/n               - step the program for 1 instruction, stepping over calls");
+    IO.stdout.println("finish/fin           - continue program execution until the current function returns");
+    IO.stdout.println("until/u [address]    - continue until address or the next instruction in the current frame");
     IO.stdout.println("breakpoint/b address - set a breakpoint at address");
+    IO.stdout.println("breakpoint/b a if c  - set a breakpoint that stops only if c, e.g 'a0 == 0 && mem32[sp+8] > 9'");
+    IO.stdout.println("ignore addr n        - ignore the next n hits of the breakpoint at addr");
     IO.stdout.println("clear                - clear all breakpoints");
     IO.stdout.println("delete addr          - delete breakpoint at address");
-    IO.stdout.println("list                 - list all breakpoints");
+    IO.stdout.println("list                 - list all breakpoints and watchpoints");
+    IO.stdout.println("watch addr [n] [v]   - break on writes to n bytes at addr (default 4), optionally of value v");
+    IO.stdout.println("rwatch addr [n] [v]  - break on reads of n bytes at addr (default 4), optionally of value v");
+    IO.stdout.println("awatch addr [n] [v]  - break on reads or writes of n bytes at addr (default 4)");
+    IO.stdout.println("unwatch [addr]       - delete watchpoints at addr (all if no addr)");
     // reset state and start again
     IO.stdout.println("reset                - reset all state (regs, memory) and start again");
   }
@@ -101,7 +176,7 @@ public final class Debugger {
    * @see vsim.riscv.RVIRegisterFile
    */
   private void showx() {
-    Globals.regfile.print();
+    this.machine.getRegfile().print();
   }
 
   /**
@@ -110,7 +185,7 @@ public final class Debugger {
    * @see vsim.riscv.RVFRegisterFile
    */
   private void showf() {
-    Globals.fregfile.print();
+    this.machine.getFregfile().print();
   }
 
   /**
@@ -121,7 +196,7 @@ public final class Debugger {
    */
   private void printx(String reg) {
     try {
-      Globals.regfile.printReg(reg);
+      this.machine.getRegfile().printReg(reg);
     } catch (IllegalArgumentException e) {
       Message.error("invalid register name: " + reg);
     }
@@ -135,7 +210,7 @@ public final class Debugger {
    */
   private void printf(String reg) {
     try {
-      Globals.fregfile.printReg(reg);
+      this.machine.getFregfile().printReg(reg);
     } catch (IllegalArgumentException e) {
       Message.error("invalid register name: " + reg);
     }
@@ -170,7 +245,7 @@ public final class Debugger {
       Message.error("invalid address: " + address);
       return;
     }
-    Globals.memory.print(addr, n);
+    this.machine.getMemory().print(addr, n);
   }
 
   /**
@@ -179,7 +254,7 @@ public final class Debugger {
    * @see vsim.Globals#globl
    */
   private void globals() {
-    Globals.globl.print();
+    this.machine.getGlobl().print();
   }
 
   /**
@@ -188,9 +263,9 @@ public final class Debugger {
    * @see vsim.Globals#local
    */
   private void locals() {
-    for (String filename : Globals.local.keySet()) {
+    for (String filename : this.machine.getLocal().keySet()) {
       IO.stdout.println(filename);
-      Globals.local.get(filename).print();
+      this.machine.getLocal().get(filename).print();
     }
   }
 
@@ -203,15 +278,15 @@ public final class Debugger {
   public synchronized boolean step(boolean goStep) {
     try {
       // already done ?
-      if (Status.EXIT.get())
+      if (this.machine.hasExited())
         return false;
-      Statement stmt = program.next();
-      int pcVal = Globals.regfile.getProgramCounter();
-      String pc = String.format("0x%08x", pcVal);
+      Statement stmt = program.next(this.machine);
+      DecodedInstruction decoded = program.fetch(this.machine);
+      int pcVal = this.machine.getRegfile().getProgramCounter();
       // manage breakpoints
-      if (goStep && this.breakpoints.containsKey(pcVal) && this.breakpoints.get(pcVal)) {
+      if (goStep && pcVal != this.resume && this.isBreakpoint(pcVal) && this.hit(pcVal)) {
         // breakpoint at this point ?
-        this.breakpoints.put(pcVal, false);
+        this.resume = pcVal;
         return false;
       }
       // get statement machine code
@@ -219,45 +294,39 @@ public final class Debugger {
       // display console info (CLI mode only)
       if (!Settings.GUI && !goStep) {
         String source = stmt.getDebugInfo().getSource();
+        String pc = String.format("0x%08x", pcVal);
         // format all debugging info
         IO.stdout.println(String.format("FROM: %s", stmt.getDebugInfo().getFilename()));
         IO.stdout.println(String.format("PC [%s] CODE:%s    %s » %s", pc, result.toString(), source,
             Globals.iset.get(stmt.getMnemonic()).disassemble(result)));
       }
       // save current pc to history
-      this.history.pushPCAndHeap();
-      // execute instruction
-      Globals.iset.get(stmt.getMnemonic()).execute(result);
-      // save diff between prev executed state and current executed states
-      this.history.pushState();
-      // reset breakpoint
-      if (this.breakpoints.containsKey(pcVal))
-        this.breakpoints.put(pcVal, true);
+      this.begin();
+      // resume breakpoint
+      this.resume = -1;
+      // execute predecoded instruction
+      decoded.execute(this.machine);
     } catch (BreakpointException e) {
-      Globals.regfile.incProgramCounter();
+      this.machine.getRegfile().incProgramCounter();
     } catch (NonInstructionException e) {
       // if self-modifying code is enabled
       // search in memory for a machine code
       if (Settings.SELF_MODIFYING) {
         try {
-          int pcVal = Globals.regfile.getProgramCounter();
+          int pcVal = this.machine.getRegfile().getProgramCounter();
           String pc = String.format("0x%08x", pcVal);
           // grab machine code
-          MachineCode code = new MachineCode(Globals.memory.loadWord(pcVal));
+          MachineCode code = new MachineCode(this.machine.getMemory().loadWord(pcVal));
           // decode inst mnemonic
           String mnemonic = Globals.iset.decode(code);
           // if a valid inst was found, execute it
           if (mnemonic != null) {
             // manage breakpoints
             if (goStep) {
-              // runtime ebreak
-              if ("ebreak".equals(mnemonic) && !this.breakpoints.containsKey(pcVal)) {
-                this.breakpoints.put(pcVal, false);
-                return false;
-              }
-              // breakpoint at this point ?
-              if (this.breakpoints.containsKey(pcVal) && this.breakpoints.get(pcVal)) {
-                this.breakpoints.put(pcVal, false);
+              // runtime ebreak or breakpoint at this point ?
+              if (pcVal != this.resume
+                  && ("ebreak".equals(mnemonic) || (this.isBreakpoint(pcVal) && this.hit(pcVal)))) {
+                this.resume = pcVal;
                 return false;
               }
             }
@@ -276,18 +345,15 @@ public final class Debugger {
               }
             }
             // save current pc to history
-            this.history.pushPCAndHeap();
+            this.begin();
+            // resume breakpoint
+            this.resume = -1;
             // execute instruction
-            Globals.iset.get(mnemonic).execute(code);
-            // save diff between prev executed state and current executed states
-            this.history.pushState();
-            // reset breakpoint
-            if (this.breakpoints.containsKey(pcVal))
-              this.breakpoints.put(pcVal, true);
+            Globals.iset.get(mnemonic).execute(this.machine, code);
           } else {
             // error if no exit/exit2 ecall
-            if (!Status.EXIT.get()) {
-              Status.EXIT.set(true);
+            if (!this.machine.hasExited()) {
+              this.machine.setExit(true);
               Message.runError(e.getMessage());
               if (!Settings.GUI)
                 System.exit(1);
@@ -295,11 +361,11 @@ public final class Debugger {
             return false;
           }
         } catch (BreakpointException ex) {
-          Globals.regfile.incProgramCounter();
+          this.machine.getRegfile().incProgramCounter();
         } catch (SimulationException ex) {
           // error if no exit/exit2 ecall
-          if (!Status.EXIT.get()) {
-            Status.EXIT.set(true);
+          if (!this.machine.hasExited()) {
+            this.machine.setExit(true);
             Message.runError(ex.getMessage());
             if (!Settings.GUI)
               System.exit(1);
@@ -308,8 +374,8 @@ public final class Debugger {
         }
       } else {
         // error if no exit/exit2 ecall
-        if (!Status.EXIT.get()) {
-          Status.EXIT.set(true);
+        if (!this.machine.hasExited()) {
+          this.machine.setExit(true);
           Message.runError(e.getMessage());
           if (!Settings.GUI)
             System.exit(1);
@@ -317,30 +383,549 @@ public final class Debugger {
         return false;
       }
     } catch (SimulationException e) {
-      if (!Status.EXIT.get()) {
-        Status.EXIT.set(true);
+      if (!this.machine.hasExited()) {
+        this.machine.setExit(true);
         Message.runError(e.getMessage());
         if (!Settings.GUI)
           System.exit(1);
       }
       return false;
     }
+    this.terminate();
+    this.report();
+    return true;
+  }
+
+  /**
+   * Exits the simulator with the program exit status if the program executed an exit/exit2 ecall (CLI mode only).
+   */
+  private void terminate() {
+    if (!Settings.GUI && this.machine.hasExited())
+      System.exit(this.machine.getExitStatus());
+  }
+
+  /**
+   * Starts the execution of an instruction, taking a checkpoint if necessary and saving the current state to history.
+   */
+  private void begin() {
+    if (this.count % this.interval == 0)
+      this.checkpoint();
+    this.history.pushPCAndHeap();
+    this.count++;
+  }
+
+  /**
+   * Takes a checkpoint of the current state, if there are too many checkpoints the interval between checkpoints is
+   * doubled and the checkpoints that are not aligned to the new interval are dropped.
+   */
+  private void checkpoint() {
+    // checkpoints after a backstep are still valid, execution is deterministic
+    if (!this.checkpoints.isEmpty() && this.checkpoints.get(this.checkpoints.size() - 1).getCount() >= this.count)
+      return;
+    this.checkpoints.add(new Checkpoint(this.machine, this.count));
+    if (this.checkpoints.size() > MAX_CHECKPOINTS) {
+      this.interval *= 2;
+      this.checkpoints.removeIf(checkpoint -> checkpoint.getCount() % this.interval != 0);
+    }
+  }
+
+  /**
+   * Re-executes the next instruction without checking breakpoints or printing debug info.
+   *
+   * @return true if the instruction was executed, false otherwise
+   */
+  private boolean replayStep() {
+    this.history.pushPCAndHeap();
+    this.count++;
+    try {
+      try {
+        this.program.fetch(this.machine).execute(this.machine);
+      } catch (NonInstructionException e) {
+        // search in memory for a machine code
+        if (!Settings.SELF_MODIFYING)
+          return false;
+        int pc = this.machine.getRegfile().getProgramCounter();
+        MachineCode code = new MachineCode(this.machine.getMemory().loadWord(pc));
+        String mnemonic = Globals.iset.decode(code);
+        if (mnemonic == null)
+          return false;
+        Globals.iset.get(mnemonic).execute(this.machine, code);
+      }
+    } catch (BreakpointException e) {
+      this.machine.getRegfile().incProgramCounter();
+    } catch (SimulationException e) {
+      return false;
+    }
     return true;
   }
 
+  /**
+   * Silently re-executes instructions until the given number of instructions is reached.
+   *
+   * @param target number of instructions
+   * @return the last instruction count at which a breakpoint was reached or -1 if no breakpoint was reached
+   */
+  private long replay(long target) {
+    long found = -1;
+    // re-executed instructions write to a discarding console of this thread only
+    Console previous = Console.get();
+    new Console(new byte[0], IO.nullout, IO.nullout).attach();
+    this.machine.getMemory().setWatcher(null);
+    try {
+      while (this.count < target) {
+        int pc = this.machine.getRegfile().getProgramCounter();
+        if (this.isBreakpoint(pc) && this.points.containsKey(pc) && this.points.get(pc).test())
+          found = this.count;
+        if (!this.replayStep())
+          break;
+      }
+    } finally {
+      if (previous != null)
+        previous.attach();
+      else
+        Console.detach();
+      this.machine.getMemory().setWatcher(this::access);
+    }
+    return found;
+  }
+
+  /**
+   * Restores a checkpoint.
+   *
+   * @param checkpoint checkpoint to restore
+   */
+  private void restore(Checkpoint checkpoint) {
+    checkpoint.restore();
+    this.count = checkpoint.getCount();
+    this.history.reset();
+    this.machine.setExit(false);
+  }
+
+  /**
+   * Goes back to a previous instruction count, restoring the nearest checkpoint and re-executing forward.
+   *
+   * @param target number of instructions
+   */
+  private void goTo(long target) {
+    for (int i = this.checkpoints.size() - 1; i >= 0; i--) {
+      Checkpoint checkpoint = this.checkpoints.get(i);
+      if (checkpoint.getCount() <= target) {
+        this.restore(checkpoint);
+        this.replay(target);
+        break;
+      }
+    }
+    this.rearm();
+  }
+
+  /**
+   * Re-arms all breakpoints after a reverse execution, except the one at the current pc (if any).
+   */
+  private void rearm() {
+    int pc = this.machine.getRegfile().getProgramCounter();
+    this.resume = this.isBreakpoint(pc) ? pc : -1;
+  }
+
   /**
    * This method tries to backstep the program by one statement restoring also the simulator state.
    */
   public void backstep() {
+    this.reverseStep(1);
+  }
+
+  /**
+   * Undoes the last instruction saved in the history.
+   */
+  private void undo() {
     this.history.pop();
+    this.count--;
+  }
+
+  /**
+   * This method reverse steps the program by n instructions, recent instructions are undone using the history and
+   * older ones restoring a checkpoint and re-executing forward.
+   *
+   * @param n number of instructions
+   */
+  public void reverseStep(long n) {
+    long target = Math.max(this.count - Math.max(n, 0), 0);
+    while (this.count > target && !this.history.isEmpty())
+      this.undo();
+    if (this.count > target)
+      this.goTo(target);
+    else
+      this.rearm();
+    // the history may not cover the instructions left, but checkpoints do
+    Status.EMPTY.set(this.count == 0);
   }
 
   /**
-   * This method continues the program execution until a breakpoint or no more available statements are found.
+   * This method reverse continues the program execution until the previous breakpoint or the beginning of the
+   * program.
    */
-  public void go() {
-    while (this.step(true))
-      ;
+  public void reverseContinue() {
+    long now = this.count;
+    // search the previous breakpoint from the latest checkpoint backwards
+    for (int i = this.checkpoints.size() - 1; i >= 0; i--) {
+      Checkpoint checkpoint = this.checkpoints.get(i);
+      if (checkpoint.getCount() >= now)
+        continue;
+      long end = now;
+      if (i + 1 < this.checkpoints.size())
+        end = Math.min(end, this.checkpoints.get(i + 1).getCount());
+      this.restore(checkpoint);
+      long found = this.replay(end);
+      if (found != -1) {
+        this.goTo(found);
+        return;
+      }
+    }
+    this.goTo(0);
+  }
+
+  /**
+   * This method continues the program execution until a breakpoint or no more available statements are found, or until
+   * {@link #stop} is called. Instructions are executed in a tight loop without printing debug info, the history is not
+   * kept and only checkpoints are taken, so reverse execution goes back through the checkpoints.
+   */
+  public synchronized void go() {
+    this.stop = false;
+    this.journal(false);
+    try {
+      this.loop();
+    } finally {
+      this.journal(true);
+      this.history.reset();
+      Status.EMPTY.set(this.count == 0);
+    }
+    this.terminate();
+    this.report();
+  }
+
+  /**
+   * Executes instructions until a breakpoint, an error, the end of the program or a stop request, counting them and
+   * taking a checkpoint every interval.
+   */
+  private void loop() {
+    LinkedProgram program = this.program;
+    // instructions until the next checkpoint
+    long countdown = Math.floorMod(-this.count, this.interval);
+    while (!this.stop && !this.machine.hasExited()) {
+      int pc = this.machine.getRegfile().getProgramCounter();
+      // breakpoint at this point ?
+      if (pc != this.resume && this.isBreakpoint(pc) && this.hit(pc)) {
+        this.resume = pc;
+        return;
+      }
+      DecodedInstruction decoded;
+      try {
+        decoded = program.fetch(this.machine);
+      } catch (NonInstructionException e) {
+        // self-modifying code or end of program, let a regular step handle it
+        if (!this.step(true))
+          return;
+        countdown = Math.floorMod(-this.count, this.interval);
+        continue;
+      }
+      if (countdown == 0) {
+        this.checkpoint();
+        countdown = this.interval - this.count % this.interval;
+      }
+      countdown--;
+      this.count++;
+      this.resume = -1;
+      try {
+        decoded.execute(this.machine);
+      } catch (BreakpointException e) {
+        this.machine.getRegfile().incProgramCounter();
+      } catch (SimulationException e) {
+        // error if no exit/exit2 ecall
+        if (!this.machine.hasExited()) {
+          this.machine.setExit(true);
+          Message.runError(e.getMessage());
+          if (!Settings.GUI)
+            System.exit(1);
+        }
+        return;
+      }
+    }
+  }
+
+  /**
+   * Starts or stops logging the register and memory writes of the machine to the history.
+   *
+   * @param on true to log the writes, false otherwise
+   */
+  private void journal(boolean on) {
+    History journal = on ? this.history : null;
+    this.machine.getMemory().setJournal(journal);
+    this.machine.getRegfile().setJournal(journal);
+    this.machine.getFregfile().setJournal(journal);
+  }
+
+  /**
+   * This method stops the program execution started by {@link #go}, it can be called from any thread.
+   */
+  public void stop() {
+    this.stop = true;
+  }
+
+  /**
+   * This method creates a watchpoint over a memory region.
+   *
+   * @param address first watched address
+   * @param length number of watched bytes
+   * @param kind watched accesses, {@link vsim.riscv.hardware.Memory#READ} and/or
+   *        {@link vsim.riscv.hardware.Memory#WRITE}
+   * @param value value condition or null if any value matches
+   */
+  public void watch(int address, int length, int kind, Integer value) {
+    Watchpoint watchpoint = new Watchpoint(address, length, kind, value);
+    this.watchpoints.add(watchpoint);
+    this.machine.getMemory().watch(watchpoint.getBegin(), watchpoint.getEnd());
+  }
+
+  /**
+   * This method deletes the watchpoints that start at the given address.
+   *
+   * @param address first watched address
+   */
+  public void unwatch(int address) {
+    if (!this.watchpoints.removeIf(watchpoint -> watchpoint.getBegin() == address))
+      Message.warning(String.format("no watchpoint at address: 0x%08x (ignoring)", address));
+    this.rewatch();
+  }
+
+  /**
+   * This method deletes all the watchpoints.
+   */
+  public void unwatch() {
+    this.watchpoints.clear();
+    this.rewatch();
+  }
+
+  /**
+   * Flags the memory pages of the current watchpoints as watched.
+   */
+  private void rewatch() {
+    this.machine.getMemory().unwatch();
+    for (Watchpoint watchpoint : this.watchpoints)
+      this.machine.getMemory().watch(watchpoint.getBegin(), watchpoint.getEnd());
+  }
+
+  /**
+   * Called by the memory after a load or a store to a watched page, stops the program if a watchpoint is hit.
+   *
+   * @param address first address of the access
+   * @param length access length in bytes
+   * @param value the loaded or stored value
+   * @param read true = load, false = store
+   */
+  private void access(int address, int length, int value, boolean read) {
+    for (Watchpoint watchpoint : this.watchpoints) {
+      if (watchpoint.matches(address, length, value, read)) {
+        this.watched = String.format("watchpoint %s hit at pc 0x%08x: %s 0x%08x at 0x%08x", watchpoint,
+            this.machine.getRegfile().getProgramCounter(), read ? "read" : "write", value, address);
+        this.stop = true;
+        return;
+      }
+    }
+  }
+
+  /**
+   * Reports the last watchpoint hit (if any).
+   */
+  private void report() {
+    if (this.watched != null) {
+      Message.log(this.watched);
+      this.watched = null;
+    }
+  }
+
+  /**
+   * Parses and creates a watchpoint from the watch, rwatch and awatch commands arguments.
+   *
+   * @param args command arguments
+   * @param kind watched accesses
+   */
+  private void watch(String[] args, int kind) {
+    if (args.length < 2 || args.length > 4) {
+      Message.error(
+          String.format("invalid usage of %s cmd, valid usage '%s address [length] [value]'", args[0], args[0]));
+      return;
+    }
+    try {
+      int address = Data.parseInt(args[1]);
+      int length = (args.length > 2) ? Data.parseInt(args[2]) : Data.WORD_LENGTH;
+      Integer value = (args.length > 3) ? Data.parseInt(args[3]) : null;
+      if (length <= 0)
+        Message.error("watchpoint length has to be positive");
+      else
+        this.watch(address, length, kind, value);
+    } catch (Exception e) {
+      Message.error("invalid watchpoint arguments: " + String.join(" ", args));
+    }
+  }
+
+  /**
+   * Returns the breakpoint bit index of a text segment address.
+   *
+   * @param address text segment address
+   * @return the breakpoint bit index
+   */
+  private static int bit(int address) {
+    return (address - MemorySegments.TEXT_SEGMENT_BEGIN) >>> 2;
+  }
+
+  /**
+   * Called when a breakpoint is reached, verifies if the program should stop.
+   *
+   * @param address breakpoint address
+   * @return true if the program should stop, false otherwise
+   */
+  private boolean hit(int address) {
+    // recursive call that will return to the temporary breakpoint ?
+    if (address == this.callsite)
+      this.depth++;
+    // temporary breakpoint of the current frame ?
+    if (address == this.temporary) {
+      if (this.depth > 0)
+        this.depth--;
+      else if (Integer.compareUnsigned(this.machine.getRegfile().getRegister(SP), this.frame) >= 0)
+        return true;
+    }
+    Breakpoint breakpoint = this.points.get(address);
+    return breakpoint != null && breakpoint.hit();
+  }
+
+  /**
+   * Runs the program at full speed until a temporary breakpoint is reached, the temporary breakpoints are removed when
+   * the program stops for any reason.
+   *
+   * @param address temporary breakpoint address
+   * @param frame the temporary breakpoint only stops if sp is greater than or equal to this frame (unsigned)
+   * @param callsite call site that returns to the temporary breakpoint or -1 if none, every time the call site is
+   *        reached the next return to the temporary breakpoint is ignored (recursion)
+   */
+  private void runTo(int address, int frame, int callsite) {
+    if (!Debugger.inText(address)) {
+      Message.error(String.format("address 0x%08x is not a valid text segment address", address));
+      return;
+    }
+    this.temporary = address;
+    this.frame = frame;
+    this.callsite = Debugger.inText(callsite) ? callsite : -1;
+    this.depth = 0;
+    this.breakpoints.set(Debugger.bit(address));
+    if (this.callsite != -1)
+      this.breakpoints.set(Debugger.bit(this.callsite));
+    // always execute the current instruction
+    this.resume = this.machine.getRegfile().getProgramCounter();
+    try {
+      this.go();
+    } finally {
+      if (!this.points.containsKey(address))
+        this.breakpoints.clear(Debugger.bit(address));
+      if (this.callsite != -1 && !this.points.containsKey(this.callsite))
+        this.breakpoints.clear(Debugger.bit(this.callsite));
+      this.temporary = -1;
+      this.callsite = -1;
+    }
+  }
+
+  /**
+   * Verifies if an address is a valid word aligned text segment address.
+   *
+   * @param address the address to check
+   * @return true if the address is valid, false otherwise
+   */
+  private static boolean inText(int address) {
+    return Data.isWordAligned(address)
+        && Data.inRange(address, MemorySegments.TEXT_SEGMENT_BEGIN, MemorySegments.TEXT_SEGMENT_END);
+  }
+
+  /**
+   * This method steps the program by one instruction, stepping over calls, i.e a jal or jalr that writes ra runs at
+   * full speed until it returns to the next instruction in the current frame.
+   */
+  public void next() {
+    if (this.machine.hasExited())
+      return;
+    int pc = this.machine.getRegfile().getProgramCounter();
+    try {
+      Statement stmt = this.program.next(this.machine);
+      String mnemonic = stmt.getMnemonic();
+      if (("jal".equals(mnemonic) || "jalr".equals(mnemonic)) && this.program.fetch(this.machine).getRd() == RA) {
+        this.runTo(pc + Data.WORD_LENGTH, this.machine.getRegfile().getRegister(SP), pc);
+        return;
+      }
+    } catch (NonInstructionException e) {
+      // self-modifying code, step it
+    }
+    this.step(false);
+  }
+
+  /**
+   * This method runs the program at full speed until the current frame returns, i.e until the return address in ra is
+   * reached with a stack pointer greater than or equal to the current one. Returns of recursive calls made from the
+   * same call site are skipped.
+   */
+  public void finish() {
+    if (!this.machine.hasExited()) {
+      int ra = this.machine.getRegfile().getRegister(RA);
+      this.runTo(ra, this.machine.getRegfile().getRegister(SP), ra - Data.WORD_LENGTH);
+    }
+  }
+
+  /**
+   * This method runs the program at full speed until the given address is reached.
+   *
+   * @param address the address in hex or decimal
+   */
+  public void until(String address) {
+    if (this.machine.hasExited())
+      return;
+    int addr;
+    try {
+      addr = Data.parseInt(address);
+    } catch (Exception e) {
+      Message.error("invalid address: " + address);
+      return;
+    }
+    this.runTo(addr, 0, -1);
+  }
+
+  /**
+   * This method runs the program at full speed until the next instruction in memory is reached in the current frame,
+   * e.g to leave a loop that branches backwards.
+   */
+  public void until() {
+    if (!this.machine.hasExited())
+      this.runTo(this.machine.getRegfile().getProgramCounter() + Data.WORD_LENGTH,
+          this.machine.getRegfile().getRegister(SP), -1);
+  }
+
+  /**
+   * Verifies if there is a breakpoint at the given address.
+   *
+   * @param address the address to check
+   * @return true if there is a breakpoint at the address, false otherwise
+   */
+  private boolean isBreakpoint(int address) {
+    int offset = address - MemorySegments.TEXT_SEGMENT_BEGIN;
+    return (offset & 0x3) == 0 && offset >= 0 && address <= MemorySegments.TEXT_SEGMENT_END
+        && this.breakpoints.get(offset >>> 2);
+  }
+
+  /**
+   * Sets a breakpoint at a valid text segment address.
+   *
+   * @param address the address of the breakpoint
+   * @return the breakpoint
+   */
+  private Breakpoint set(int address) {
+    this.breakpoints.set(Debugger.bit(address));
+    return this.points.computeIfAbsent(address, Breakpoint::new);
   }
 
   /**
@@ -349,18 +934,57 @@ public final class Debugger {
    * @param address the address of the breakpoint in hex or decimal
    */
   public void breakpoint(String address) {
+    this.breakpoint(address, null);
+  }
+
+  /**
+   * This method tries to create a conditional breakpoint at the given address. The condition is compiled only once and
+   * evaluated every time the breakpoint is reached.
+   *
+   * @param address the address of the breakpoint in hex or decimal
+   * @param condition the breakpoint condition or null for an unconditional breakpoint
+   */
+  public void breakpoint(String address, String condition) {
+    int addr;
     try {
-      int addr = Data.parseInt(address);
-      if (Data.isWordAligned(addr)) {
-        if (Data.inRange(addr, MemorySegments.TEXT_SEGMENT_BEGIN, MemorySegments.TEXT_SEGMENT_END)) {
-          if (!this.breakpoints.containsKey(addr))
-            this.breakpoints.put(addr, true);
-        } else
-          Message.error("breakpoint address has to be inside the text segment");
-      } else
-        Message.error("address is not aligned to a word boundary");
+      addr = Data.parseInt(address);
     } catch (Exception e) {
       Message.error("invalid address: " + address);
+      return;
+    }
+    if (!Data.isWordAligned(addr))
+      Message.error("address is not aligned to a word boundary");
+    else if (!Data.inRange(addr, MemorySegments.TEXT_SEGMENT_BEGIN, MemorySegments.TEXT_SEGMENT_END))
+      Message.error("breakpoint address has to be inside the text segment");
+    else {
+      Condition compiled = null;
+      if (condition != null) {
+        try {
+          compiled = new Condition(this.machine, condition);
+        } catch (IllegalArgumentException e) {
+          Message.error("invalid breakpoint condition: " + e.getMessage());
+          return;
+        }
+      }
+      this.set(addr).setCondition(compiled);
+    }
+  }
+
+  /**
+   * This method ignores the next hits of a breakpoint.
+   *
+   * @param address the address of the breakpoint in hex or decimal
+   * @param count number of hits to ignore
+   */
+  public void ignore(String address, String count) {
+    try {
+      int addr = Data.parseInt(address);
+      if (this.isBreakpoint(addr))
+        this.points.get(addr).ignore(Data.parseInt(count));
+      else
+        Message.warning("no breakpoint at address: " + address + " (ignoring)");
+    } catch (Exception e) {
+      Message.error("invalid arguments: " + address + " " + count);
     }
   }
 
@@ -369,9 +993,10 @@ public final class Debugger {
    */
   public void clear() {
     this.breakpoints.clear();
+    this.points.clear();
     // set program breakpoints
     for (Integer breakpoint : program.getBreakpoints())
-      this.breakpoints.put(breakpoint, true);
+      this.set(breakpoint);
   }
 
   /**
@@ -387,12 +1012,14 @@ public final class Debugger {
       Message.error("invalid address: " + address);
       return;
     }
-    if (this.breakpoints.containsKey(addr))
+    if (this.isBreakpoint(addr)) {
       if (this.program.getStatement(addr) != null && this.program.getStatement(addr).getMnemonic().equals("ebreak"))
         Message.warning("could not delete a ebreak breakpoint (ignoring)");
-      else
-        this.breakpoints.remove(addr);
-    else
+      else {
+        this.breakpoints.clear(Debugger.bit(addr));
+        this.points.remove(addr);
+      }
+    } else
       Message.warning("no breakpoint at address: " + address + " (ignoring)");
   }
 
@@ -400,12 +1027,17 @@ public final class Debugger {
    * This method lists the breakpoints that user set.
    */
   private void list() {
-    if (this.breakpoints.size() > 0) {
+    if (!this.breakpoints.isEmpty()) {
       IO.stdout.println("Breakpoints: " + System.getProperty("line.separator"));
-      for (Integer address : this.breakpoints.keySet())
-        IO.stdout.println(String.format("    0x%08x", address));
+      for (int i = this.breakpoints.nextSetBit(0); i >= 0; i = this.breakpoints.nextSetBit(i + 1))
+        IO.stdout.println("    " + this.points.get(MemorySegments.TEXT_SEGMENT_BEGIN + (i << 2)));
     } else
       Message.log("no breakpoints yet");
+    if (!this.watchpoints.isEmpty()) {
+      IO.stdout.println("Watchpoints: " + System.getProperty("line.separator"));
+      for (Watchpoint watchpoint : this.watchpoints)
+        IO.stdout.println("    " + watchpoint);
+    }
   }
 
   /**
@@ -413,9 +1045,25 @@ public final class Debugger {
    */
   public void reset() {
     Status.reset();
-    Globals.resetState();
+    this.machine.resetState();
     this.history.reset();
-    this.program.reset();
+    this.program.reset(this.machine);
+    this.resume = -1;
+    this.checkpoints.clear();
+    this.interval = Math.max(Settings.CHECKPOINT_INTERVAL, 1);
+    this.count = 0;
+    IO.setInputLog(true);
+    this.tape();
+  }
+
+  /**
+   * Records the program inputs to memory if the machine does not record or replay them, so re-executed instructions
+   * get the same time, random numbers and file system results instead of calling the ecalls again.
+   */
+  private void tape() {
+    Tape tape = this.machine.getTape();
+    if (tape == Tape.OFF || tape.isMemory())
+      this.machine.setTape(Tape.memory());
   }
 
   /**
@@ -499,12 +1147,52 @@ public final class Debugger {
         Message.warning("step command does not expect any argument (ignoring)");
       this.step(false);
     }
-    // backstep
-    else if (args[0].equals("backstep") || args[0].equals("b")) {
+    // next
+    else if (args[0].equals("next") || args[0].equals("n")) {
+      if (args.length != 1)
+        Message.warning("next command does not expect any argument (ignoring)");
+      this.next();
+    }
+    // finish
+    else if (args[0].equals("finish") || args[0].equals("fin")) {
+      if (args.length != 1)
+        Message.warning("finish command does not expect any argument (ignoring)");
+      this.finish();
+    }
+    // until [addr]
+    else if (args[0].equals("until") || args[0].equals("u")) {
+      if (args.length == 1)
+        this.until();
+      else if (args.length == 2)
+        this.until(args[1]);
+      else
+        Message.error("invalid usage of until cmd, valid usage 'until/u [address]'");
+    }
+    // backstep, b with arguments is a breakpoint
+    else if (args[0].equals("backstep") || (args[0].equals("b") && args.length == 1)) {
       if (args.length != 1)
         Message.warning("backstep command does not expect any argument (ignoring)");
       this.backstep();
     }
+    // reverse step
+    else if (args[0].equals("rstep") || args[0].equals("rs")) {
+      if (args.length == 1)
+        this.reverseStep(1);
+      else if (args.length == 2) {
+        try {
+          this.reverseStep(Data.parseInt(args[1]));
+        } catch (Exception e) {
+          Message.error("invalid number of instructions: " + args[1]);
+        }
+      } else
+        Message.error("invalid usage of rstep cmd, valid usage 'rstep/rs [n]'");
+    }
+    // reverse continue
+    else if (args[0].equals("rcontinue") || args[0].equals("rc")) {
+      if (args.length != 1)
+        Message.warning("rcontinue command does not expect any argument (ignoring)");
+      this.reverseContinue();
+    }
     // continue
     else if (args[0].equals("continue") || args[0].equals("c")) {
       if (args.length != 1)
@@ -515,8 +1203,17 @@ public final class Debugger {
     else if (args[0].equals("breakpoint") || args[0].equals("b")) {
       if (args.length == 2)
         this.breakpoint(args[1]);
+      else if (args.length > 3 && args[2].equals("if"))
+        this.breakpoint(args[1], String.join(" ", Arrays.copyOfRange(args, 3, args.length)));
+      else
+        Message.error("invalid usage of breakpoint cmd, valid usage 'breakpoint/b address [if condition]'");
+    }
+    // ignore addr n
+    else if (args[0].equals("ignore")) {
+      if (args.length == 3)
+        this.ignore(args[1], args[2]);
       else
-        Message.error("invalid usage of breakpoint cmd, valid usage 'breakpoint/b address'");
+        Message.error("invalid usage of ignore cmd, valid usage 'ignore address n'");
     }
     // clear
     else if (args[0].equals("clear")) {
@@ -531,6 +1228,26 @@ public final class Debugger {
       else
         Message.error("invalid usage of delete cmd, valid usage 'delete address'");
     }
+    // watchpoints
+    else if (args[0].equals("watch"))
+      this.watch(args, Memory.WRITE);
+    else if (args[0].equals("rwatch"))
+      this.watch(args, Memory.READ);
+    else if (args[0].equals("awatch"))
+      this.watch(args, Memory.READ | Memory.WRITE);
+    // unwatch [addr]
+    else if (args[0].equals("unwatch")) {
+      if (args.length == 1)
+        this.unwatch();
+      else if (args.length == 2) {
+        try {
+          this.unwatch(Data.parseInt(args[1]));
+        } catch (Exception e) {
+          Message.error("invalid address: " + args[1]);
+        }
+      } else
+        Message.error("invalid usage of unwatch cmd, valid usage 'unwatch [address]'");
+    }
     // list
     else if (args[0].equals("list")) {
       if (args.length != 1)
@@ -562,7 +1279,7 @@ public final class Debugger {
     while (true) {
       IO.stdout.print(">>> ");
       // read a line from stdin
-      String line = IO.readString(Integer.MAX_VALUE);
+      String line = IO.readLine();
       // nothing entered
       if ("".equals(line))
         continue;
@@ -17,102 +17,164 @@ along with this program.  If not, see <https://www.gnu.org/licenses/>
 
 package vsim.simulator;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import vsim.Globals;
+import vsim.Machine;
 import vsim.Settings;
+import vsim.riscv.hardware.Journal;
+import vsim.utils.IO;
 
 
 /**
- * This class represents a simple simulator state history.
+ * This class represents a simple simulator state history, it is implemented as a fixed capacity undo journal that logs
+ * the program counter and heap pointer of every step and the previous value of every register and memory word
+ * written during that step.
  */
-public final class History {
-
-  /** program counter history */
-  private final ArrayList<Integer> pcHist;
-  /** heap segment history */
-  private final ArrayList<Integer> heapHist;
-  /** main memory history */
-  private final ArrayList<HashMap<Integer, Byte>> memHist;
-  /** rvi register file history */
-  private final ArrayList<HashMap<String, Integer>> rviHist;
-  /** rvf register file history */
-  private final ArrayList<HashMap<String, Integer>> rvfHist;
+public final class History implements Journal {
+
+  /** machine whose writes are logged */
+  private final Machine machine;
+  /** program counter of every step */
+  private final int[] pcs;
+  /** heap pointer of every step */
+  private final int[] heaps;
+  /** user input log position of every step */
+  private final int[] inputs;
+  /** input tape position of every step */
+  private final int[] tapes;
+  /** virtual milliseconds slept of every step */
+  private final long[] sleeps;
+  /** position of the first write record of every step */
+  private final long[] marks;
+  /** kind of every write record */
+  private final byte[] kinds;
+  /** register number or memory address of every write record */
+  private final int[] indexes;
+  /** previous value of every write record */
+  private final int[] olds;
+  /** next step slot */
+  private int head;
+  /** number of steps saved */
+  private int count;
+  /** position of the next write record */
+  private long recHead;
+  /** position of the oldest write record */
+  private long recTail;
 
   /**
-   * Creates a new history object.
+   * Creates a new history object that saves up to {@link vsim.Settings#HIST_SIZE} steps and starts logging hardware
+   * writes of a machine.
+   *
+   * @param machine machine whose writes are logged
    */
-  public History() {
-    this.pcHist = new ArrayList<Integer>();
-    this.heapHist = new ArrayList<Integer>();
-    this.memHist = new ArrayList<HashMap<Integer, Byte>>();
-    this.rviHist = new ArrayList<HashMap<String, Integer>>();
-    this.rvfHist = new ArrayList<HashMap<String, Integer>>();
+  public History(Machine machine) {
+    this.machine = machine;
+    int steps = Math.max(Settings.HIST_SIZE, 1);
+    this.pcs = new int[steps];
+    this.heaps = new int[steps];
+    this.inputs = new int[steps];
+    this.tapes = new int[steps];
+    this.sleeps = new long[steps];
+    this.marks = new long[steps];
+    // a step writes one register or memory word most of the time
+    int records = steps * 8;
+    this.kinds = new byte[records];
+    this.indexes = new int[records];
+    this.olds = new int[records];
+    this.machine.getMemory().setJournal(this);
+    this.machine.getRegfile().setJournal(this);
+    this.machine.getFregfile().setJournal(this);
     Status.EMPTY.set(true);
   }
 
   /**
-   * Pushes program counter and heap state.
+   * Pushes program counter and heap state, starting a new step.
    */
   public void pushPCAndHeap() {
-    this.pcHist.add(Globals.regfile.getProgramCounter());
-    this.heapHist.add(Globals.memory.getHeapPointer());
-    if (this.pcHist.size() > Settings.HIST_SIZE) {
-      this.pcHist.remove(0);
-      this.heapHist.remove(0);
-      this.pcHist.trimToSize();
-      this.heapHist.trimToSize();
-    }
-    Status.EMPTY.set(this.isEmpty());
+    if (this.count == this.pcs.length)
+      this.drop();
+    this.pcs[this.head] = this.machine.getRegfile().getProgramCounter();
+    this.heaps[this.head] = this.machine.getMemory().getHeapPointer();
+    this.inputs[this.head] = IO.getInputPosition();
+    this.tapes[this.head] = this.machine.getTape().getPosition();
+    this.sleeps[this.head] = this.machine.getClock().getSlept();
+    this.marks[this.head] = this.recHead;
+    this.head = (this.head + 1) % this.pcs.length;
+    this.count++;
+    if (this.count == 1)
+      Status.EMPTY.set(false);
   }
 
   /**
-   * Pushes memory, RVI and RVF state.
+   * {@inheritDoc}
    */
-  public void pushState() {
-    // save diffs
-    this.memHist.add(Globals.memory.getDiff());
-    this.rviHist.add(Globals.regfile.getDiff());
-    this.rvfHist.add(Globals.fregfile.getDiff());
-    if (this.memHist.size() > Settings.HIST_SIZE) {
-      this.memHist.remove(0);
-      this.rviHist.remove(0);
-      this.rvfHist.remove(0);
-      this.memHist.trimToSize();
-      this.rviHist.trimToSize();
-      this.rvfHist.trimToSize();
-    }
-    Status.EMPTY.set(this.isEmpty());
+  @Override
+  public void log(int kind, int index, int old) {
+    // make room for this record
+    while (this.count > 0 && this.recHead - this.recTail == this.kinds.length)
+      this.drop();
+    // writes outside a step can not be undone
+    if (this.count == 0)
+      return;
+    int i = (int) (this.recHead % this.kinds.length);
+    this.kinds[i] = (byte) kind;
+    this.indexes[i] = index;
+    this.olds[i] = old;
+    this.recHead++;
   }
 
   /**
    * Restores previous memory, RVI and RVF state if possible.
    */
   public void pop() {
-    // restore program counter and memory heap
-    if (!this.pcHist.isEmpty()) {
-      Globals.regfile.setProgramCounter(this.pcHist.remove(this.pcHist.size() - 1));
-      Globals.memory.restoreHeap(this.heapHist.remove(this.heapHist.size() - 1));
-    }
-    // restore memory, rvi and rvf register files
-    if (!this.memHist.isEmpty()) {
-      Globals.memory.restore(this.memHist.remove(this.memHist.size() - 1));
-      Globals.regfile.restore(this.rviHist.remove(this.rviHist.size() - 1));
-      Globals.fregfile.restore(this.rvfHist.remove(this.rvfHist.size() - 1));
+    if (this.count == 0)
+      return;
+    this.head = (this.head + this.pcs.length - 1) % this.pcs.length;
+    this.count--;
+    // undo all writes of the step in reverse order
+    long mark = this.marks[this.head];
+    while (this.recHead > mark) {
+      this.recHead--;
+      int i = (int) (this.recHead % this.kinds.length);
+      switch (this.kinds[i]) {
+        case Journal.RVI:
+          this.machine.getRegfile().restore(this.indexes[i], this.olds[i]);
+          break;
+        case Journal.RVF:
+          this.machine.getFregfile().restore(this.indexes[i], this.olds[i]);
+          break;
+        default:
+          this.machine.getMemory().restore(this.indexes[i], this.olds[i]);
+          break;
+      }
     }
+    // restore program counter and memory heap
+    this.machine.getRegfile().setProgramCounter(this.pcs[this.head]);
+    this.machine.getMemory().restoreHeap(this.heaps[this.head]);
+    IO.setInputPosition(this.inputs[this.head]);
+    this.machine.getTape().setPosition(this.tapes[this.head]);
+    this.machine.getClock().setSlept(this.sleeps[this.head]);
     Status.EMPTY.set(this.isEmpty());
   }
 
+  /**
+   * Drops the oldest step.
+   */
+  private void drop() {
+    this.count--;
+    if (this.count == 0)
+      this.recTail = this.recHead;
+    else
+      this.recTail = this.marks[(this.head + this.pcs.length - this.count) % this.pcs.length];
+  }
+
   /**
    * This methods clears all the history saved.
    */
   public void reset() {
     // clear history
-    this.pcHist.clear();
-    this.heapHist.clear();
-    this.memHist.clear();
-    this.rviHist.clear();
-    this.rvfHist.clear();
+    this.head = 0;
+    this.count = 0;
+    this.recHead = 0;
+    this.recTail = 0;
     Status.EMPTY.set(true);
   }
 
@@ -122,8 +184,7 @@ public final class History {
    * @return true if the history is empty, false otherwise
    */
   public boolean isEmpty() {
-    return this.pcHist.isEmpty() && this.heapHist.isEmpty() && this.memHist.isEmpty() && this.rviHist.isEmpty()
-        && this.rvfHist.isEmpty();
+    return this.count == 0;
   }
 
 }
@@ -19,14 +19,16 @@ package vsim.simulator;
 
 import java.io.File;
 import java.util.ArrayList;
+import vsim.Errors;
 import vsim.Globals;
+import vsim.Machine;
 import vsim.Settings;
 import vsim.assembler.Assembler;
-import vsim.assembler.statements.Statement;
 import vsim.linker.LinkedProgram;
 import vsim.linker.Linker;
 import vsim.riscv.exceptions.*;
 import vsim.riscv.instructions.MachineCode;
+import vsim.utils.IO;
 import vsim.utils.Message;
 
 
@@ -45,43 +47,99 @@ public final class Simulator {
    * @see vsim.linker.LinkedProgram
    */
   public static void simulate(ArrayList<File> files) {
+    Simulator.simulate(files, Settings.MAX_INSTS, Settings.TIMEOUT);
+  }
+
+  /**
+   * This method takes an ArrayList of assembler filenames, then calls the assemble and link methods with this to
+   * generate a RISC-V linked program and finally simulates that generated linked program within an instruction and
+   * wall clock budget. If the budget is exhausted a summary is printed and the simulator exits with
+   * {@link vsim.simulator.Budget#EXIT_STATUS}.
+   *
+   * @param files an array of assembler filenames
+   * @param maxInsts max number of instructions (0 = no limit)
+   * @param timeout max wall clock time in milliseconds (0 = no limit)
+   */
+  public static void simulate(ArrayList<File> files, long maxInsts, long timeout) {
+    Simulator.simulate(Globals.machine, files, maxInsts, timeout);
+  }
+
+  /**
+   * This method takes an ArrayList of assembler filenames, then calls the assemble and link methods with this to
+   * generate a RISC-V linked program in a machine and finally simulates that generated linked program within an
+   * instruction and wall clock budget. The simulator exits with the program exit status when the program executes an
+   * exit/exit2 ecall.
+   *
+   * @param machine machine where the program is simulated
+   * @param files an array of assembler filenames
+   * @param maxInsts max number of instructions (0 = no limit)
+   * @param timeout max wall clock time in milliseconds (0 = no limit)
+   */
+  public static void simulate(Machine machine, ArrayList<File> files, long maxInsts, long timeout) {
     // clear all
-    Globals.reset();
+    Errors.clear();
+    machine.reset();
     // assemble -> link -> simulate
-    LinkedProgram program = Linker.link(Assembler.assemble(files));
+    LinkedProgram program = Linker.link(machine, Assembler.assemble(machine, files));
+    // start counting after assembling and linking
+    Simulator.simulate(machine, program, new Budget(maxInsts, timeout));
+  }
+
+  /**
+   * This method simulates a linked program from its start address within a budget. The simulator exits with the
+   * program exit status when the program executes an exit/exit2 ecall, see {@link vsim.utils.IO#exit}. If the budget is
+   * exhausted a summary is printed and the simulator exits with {@link vsim.simulator.Budget#EXIT_STATUS}. Breakpoints
+   * start the debugger only if the current thread is interactive, otherwise they are skipped.
+   *
+   * @param machine machine where the program was linked
+   * @param program the program to simulate
+   * @param budget run budget, it accounts every executed instruction
+   */
+  public static void simulate(Machine machine, LinkedProgram program, Budget budget) {
     // set start address
-    program.reset();
+    program.reset(machine);
+    // the virtual clock counts the instructions of the budget
+    machine.getClock().setCounter(budget::getInstructions);
+    // the sleep ecall does not sleep past the run deadline
+    machine.setBudget(budget);
     // execute all program
-    while (true) {
+    while (!machine.hasExited()) {
+      // budget exhausted ?
+      if (!budget.tick()) {
+        Message.error(budget.summary(machine.getRegfile().getProgramCounter()));
+        IO.exit(Budget.EXIT_STATUS);
+      }
       try {
-        // fetch
-        Statement stmt = program.next();
-        // execute
-        Globals.iset.get(stmt.getMnemonic()).execute(stmt.result());
+        // fetch predecoded instruction and execute it
+        program.fetch(machine).execute(machine);
       } catch (BreakpointException e) {
-        Message.log(e.getMessage());
-        Globals.regfile.incProgramCounter();
-        Simulator.debug(program);
-        break;
+        machine.getRegfile().incProgramCounter();
+        if (IO.isInteractive()) {
+          Message.log(e.getMessage());
+          Simulator.debug(machine, program);
+          break;
+        }
       } catch (NonInstructionException e) {
         // if self-modifying code is enabled
         // search in memory for a machine code
         if (Settings.SELF_MODIFYING) {
           try {
             // grab machine code
-            MachineCode code = new MachineCode(Globals.memory.loadWord(Globals.regfile.getProgramCounter()));
+            MachineCode code = new MachineCode(machine.getMemory().loadWord(machine.getRegfile().getProgramCounter()));
             // decode instruction mnemonic
             String mnemonic = Globals.iset.decode(code);
             // if a valid instruction was found, execute it
             if (mnemonic != null)
-              Globals.iset.get(mnemonic).execute(code);
+              Globals.iset.get(mnemonic).execute(machine, code);
             else
               Message.panic(e.getMessage());
           } catch (BreakpointException ex) {
-            Message.log(ex.getMessage());
-            Globals.regfile.incProgramCounter();
-            Simulator.debug(program);
-            break;
+            machine.getRegfile().incProgramCounter();
+            if (IO.isInteractive()) {
+              Message.log(ex.getMessage());
+              Simulator.debug(machine, program);
+              break;
+            }
           } catch (SimulationException ex) {
             Message.panic(ex.getMessage());
           }
@@ -91,18 +149,22 @@ public final class Simulator {
         Message.panic(e.getMessage());
       }
     }
+    // exit/exit2 ecall
+    if (machine.hasExited())
+      IO.exit(machine.getExitStatus());
   }
 
   /**
    * This method creates a Debugger for a given linked program.
    *
+   * @param machine machine where the program was linked
    * @param program the program to debug
    * @see vsim.simulator.Debugger
    * @see vsim.linker.LinkedProgram
    */
-  public static void debug(LinkedProgram program) {
+  public static void debug(Machine machine, LinkedProgram program) {
     // create a debugger and run it
-    (new Debugger(program)).run();
+    (new Debugger(machine, program)).run();
   }
 
   /**
@@ -115,14 +177,16 @@ public final class Simulator {
    * @see vsim.linker.LinkedProgram
    */
   public static void debug(ArrayList<File> files) {
+    Machine machine = Globals.machine;
     // clear all
-    Globals.reset();
+    Errors.clear();
+    machine.reset();
     // assemble -> link -> debug
-    LinkedProgram program = Linker.link(Assembler.assemble(files));
+    LinkedProgram program = Linker.link(machine, Assembler.assemble(machine, files));
     // set start address
-    program.reset();
+    program.reset(machine);
     // debug linked program
-    Simulator.debug(program);
+    Simulator.debug(machine, program);
   }
 
 }
@@ -0,0 +1,123 @@
+/*
+Copyright (C) 2018-2019 Andres Castellanos
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <https://www.gnu.org/licenses/>
+*/
+
+package vsim.simulator;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+import vsim.Machine;
+import vsim.Settings;
+import vsim.assembler.Assembler;
+import vsim.linker.LinkedProgram;
+import vsim.linker.Linker;
+import vsim.utils.Console;
+import vsim.utils.Message;
+
+
+/**
+ * The class Sweep runs one program against many standard inputs. The program is assembled and linked once in a
+ * template machine and every input runs in a fork of the template, so the memory pages, e.g the text segment and the
+ * static data, and the predecoded program are shared by all the runs. Next to an input {@code name.in} the optional
+ * {@code name.expected}, {@code name.expected.err} and {@code name.expected.status} files are checked like in batch
+ * mode.
+ *
+ * @see vsim.simulator.Batch
+ * @see vsim.Machine#fork
+ */
+public final class Sweep {
+
+  /**
+   * Runs source files against every input of a directory with the batch settings, prints a summary, writes the
+   * requested reports and exits with status 0 if all runs passed or 1 otherwise.
+   *
+   * @param target directory of input files
+   * @param files program source files
+   * @see vsim.Settings#WORKERS
+   * @see vsim.Settings#JSON
+   * @see vsim.Settings#JUNIT
+   */
+  public static void sweep(String target, ArrayList<File> files) {
+    ArrayList<File> inputs = Sweep.find(target);
+    if (inputs.isEmpty())
+      Message.panic("no input files found in: " + target);
+    long start = System.nanoTime();
+    Machine template = new Machine();
+    // assemble and link once, errors are reported here
+    LinkedProgram program = Linker.link(template, Assembler.assemble(template, files));
+    if (program == null)
+      System.exit(1);
+    ArrayList<BatchResult> results =
+        Sweep.run(template, program, files, inputs, Settings.WORKERS, Settings.MAX_INSTS, Settings.TIMEOUT,
+            Batch::print);
+    long time = (System.nanoTime() - start) / 1000000L;
+    Batch.finish(results, time, "inputs", Settings.WORKERS + " workers");
+  }
+
+  /**
+   * Runs a linked program against many inputs in parallel and collects the results in the same order.
+   *
+   * @param template machine where the program is linked, it must not run while the inputs run
+   * @param program linked program
+   * @param files program source files
+   * @param inputs standard input files
+   * @param workers number of worker threads
+   * @param maxInsts max number of instructions per run (0 = no limit)
+   * @param timeout max wall clock time per run in milliseconds (0 = no limit)
+   * @param listener called with every result in input order as soon as it is available, can be null
+   * @return results, named after the inputs
+   */
+  public static ArrayList<BatchResult> run(Machine template, LinkedProgram program, ArrayList<File> files,
+      List<File> inputs, int workers, long maxInsts, long timeout, Consumer<BatchResult> listener) {
+    return Batch.run(inputs, workers, input -> {
+      byte[] stdin;
+      try {
+        stdin = Files.readAllBytes(input.toPath());
+      } catch (IOException e) {
+        return new BatchResult(input.toString(), files, "", "vsim: (error) could not read input file\n", 1, 0, 0);
+      }
+      BatchResult result =
+          Batch.run(input.toString(), files, template, program, new Console(stdin), maxInsts, timeout);
+      Batch.expect(result, input);
+      return result;
+    }, listener);
+  }
+
+  /**
+   * Finds the input files of a directory, i.e all the regular files except the expectation files.
+   *
+   * @param target directory of input files
+   * @return input files, sorted by name
+   */
+  public static ArrayList<File> find(String target) {
+    ArrayList<File> inputs = new ArrayList<File>();
+    File[] entries = new File(target).listFiles();
+    if (entries != null) {
+      Arrays.sort(entries);
+      for (File entry : entries) {
+        if (entry.isFile() && !entry.isHidden() && !Batch.isExpectation(entry))
+          inputs.add(entry);
+      }
+    }
+    return inputs;
+  }
+
+}
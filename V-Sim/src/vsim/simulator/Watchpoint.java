@@ -0,0 +1,106 @@
+/*
+Copyright (C) 2018-2019 Andres Castellanos
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <https://www.gnu.org/licenses/>
+*/
+
+package vsim.simulator;
+
+import vsim.riscv.hardware.Memory;
+
+
+/**
+ * The class Watchpoint represents a debugger watchpoint over a memory region.
+ */
+final class Watchpoint {
+
+  /** first watched address */
+  private final int begin;
+  /** last watched address (inclusive) */
+  private final int end;
+  /** watched accesses, {@link vsim.riscv.hardware.Memory#READ} and/or {@link vsim.riscv.hardware.Memory#WRITE} */
+  private final int kind;
+  /** value condition or null if any value matches */
+  private final Integer value;
+
+  /**
+   * Creates a new watchpoint.
+   *
+   * @param begin first watched address
+   * @param length number of watched bytes
+   * @param kind watched accesses, {@link vsim.riscv.hardware.Memory#READ} and/or
+   *        {@link vsim.riscv.hardware.Memory#WRITE}
+   * @param value value condition or null if any value matches
+   */
+  Watchpoint(int begin, int length, int kind, Integer value) {
+    this.begin = begin;
+    this.end = begin + Math.max(length, 1) - 1;
+    this.kind = kind;
+    this.value = value;
+  }
+
+  /**
+   * Verifies if a memory access triggers this watchpoint.
+   *
+   * @param address first address of the access
+   * @param length access length in bytes
+   * @param value the loaded or stored value
+   * @param read true = load, false = store
+   * @return true if the access triggers this watchpoint, false otherwise
+   */
+  boolean matches(int address, int length, int value, boolean read) {
+    if ((this.kind & (read ? Memory.READ : Memory.WRITE)) == 0)
+      return false;
+    // overlapping regions ?
+    if (Integer.compareUnsigned(address, this.end) > 0 || Integer.compareUnsigned(address + length - 1, this.begin) < 0)
+      return false;
+    if (this.value == null)
+      return true;
+    int mask = (length >= Integer.BYTES) ? -1 : (1 << (length * Byte.SIZE)) - 1;
+    return (this.value & mask) == (value & mask);
+  }
+
+  /**
+   * Returns the first watched address.
+   *
+   * @return the first watched address
+   */
+  int getBegin() {
+    return this.begin;
+  }
+
+  /**
+   * Returns the last watched address.
+   *
+   * @return the last watched address (inclusive)
+   */
+  int getEnd() {
+    return this.end;
+  }
+
+  /**
+   * Returns a string representation of the watchpoint.
+   *
+   * @return the string representation
+   */
+  @Override
+  public String toString() {
+    String kind = (this.kind == Memory.READ) ? "read" : ((this.kind == Memory.WRITE) ? "write" : "access");
+    String out = String.format("0x%08x-0x%08x %s", this.begin, this.end, kind);
+    if (this.value != null)
+      out += String.format(" == 0x%08x", this.value);
+    return out;
+  }
+
+}
@@ -19,7 +19,12 @@ package vsim.utils;
 
 import java.awt.Desktop;
 import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
 import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import vsim.Globals;
 import vsim.Settings;
@@ -52,6 +57,32 @@ public final class Cmd {
     parser.add("-data", "dump static data to a file", "<file>");
     parser.add("-start", "start program at global label (default: main)", "<label>");
     parser.add("-debug", "start the debugger");
+    parser.add("-maxinsts", "stop the program after n instructions", "<n>");
+    parser.add("-timeout", "stop the program after ms milliseconds", "<ms>");
+    parser.add("-virtualtime", "sleep and time ecalls use a virtual clock");
+    parser.add("-timerate", "instructions per virtual millisecond (implies -virtualtime)", "<n>");
+    parser.add("-input", "read the program standard input from a file", "<file>");
+    parser.add("-output", "write the program standard output to a file", "<file>");
+    parser.add("-record", "record the program inputs, time and random numbers", "<file>");
+    parser.add("-replay", "replay the inputs of a recorded run", "<file>");
+    parser.add("-batch", "run every program in a directory or glob pattern", "<dir|glob>");
+    parser.add("-sweep", "link once, run the program with every input in a directory", "<dir>");
+    parser.add("-bench", "measure the simulator speed on every workload in a directory", "<dir|glob>");
+    parser.add("-warmup", "bench warm-up runs per workload (default: 3)", "<n>");
+    parser.add("-iterations", "bench measured runs per workload (default: 5)", "<n>");
+    parser.add("-baseline", "compare bench scores against a baseline file", "<file>");
+    parser.add("-savebaseline", "save bench scores as a baseline file", "<file>");
+    parser.add("-workers", "number of batch worker threads (default: cores)", "<n>");
+    parser.add("-procs", "run batch programs in n worker processes", "<n>");
+    parser.add("-worker", "run batch jobs from stdin (used by -procs)");
+    parser.add("-json", "write a JSON batch report to a file", "<file>");
+    parser.add("-junit", "write a JUnit XML batch report to a file", "<file>");
+    parser.add("-cache", "cache batch and server results in a directory", "<dir>");
+    parser.add("-cachesize", "max result cache size in MiB (default: 256)", "<n>");
+    parser.add("-nocache", "ignore cached results, refresh them");
+    parser.add("-server", "start a local simulation server on a TCP port", "<port>");
+    parser.add("-queue", "max number of server jobs waiting for a worker", "<n>");
+    parser.add("-connect", "run files on a local server (no files: stats)", "<port>");
     parser.add("-version", "show the simulator version and exit");
     parser.add("-license", "show license and copyright notice and exit");
     parser.add("-trap", "load a trap handler file", "<traphandler>");
@@ -75,6 +106,83 @@ public final class Cmd {
     Settings.CODE = parser.hasFlag("-code") ? parser.value("-code") : null;
     Settings.DATA = parser.hasFlag("-data") ? parser.value("-data") : null;
     Settings.DEBUG = parser.hasFlag("-debug");
+    // try to set run budgets
+    Settings.MAX_INSTS = Cmd.budget(parser, "-maxinsts");
+    Settings.TIMEOUT = Cmd.budget(parser, "-timeout");
+    // virtual clock settings
+    Settings.TIME_RATE = Cmd.budget(parser, "-timerate");
+    Settings.VIRTUAL_TIME = parser.hasFlag("-virtualtime") || Settings.TIME_RATE > 0;
+    // redirect standard streams
+    if (parser.hasFlag("-input")) {
+      try {
+        IO.setInput(Files.readAllBytes(Paths.get(parser.value("-input"))));
+      } catch (IOException | InvalidPathException e) {
+        Cmd.title();
+        Message.error("could not read input file: " + parser.value("-input"));
+        System.exit(1);
+      }
+    }
+    if (parser.hasFlag("-output")) {
+      try {
+        IO.setOutput(new FileOutputStream(parser.value("-output")));
+      } catch (IOException e) {
+        Cmd.title();
+        Message.error("could not write output file: " + parser.value("-output"));
+        System.exit(1);
+      }
+    }
+    // record or replay the nondeterministic inputs
+    if (parser.hasFlag("-record") && parser.hasFlag("-replay")) {
+      Cmd.title();
+      Message.error("-record and -replay can not be used together");
+      System.exit(1);
+    }
+    if (parser.hasFlag("-record")) {
+      try {
+        Globals.machine.setTape(Tape.record(new File(parser.value("-record"))));
+      } catch (IOException e) {
+        Cmd.title();
+        Message.error("could not write record file: " + parser.value("-record"));
+        System.exit(1);
+      }
+    }
+    if (parser.hasFlag("-replay")) {
+      try {
+        Globals.machine.setTape(Tape.replay(new File(parser.value("-replay"))));
+      } catch (IOException e) {
+        Cmd.title();
+        Message.error("could not read record file: " + parser.value("-replay") + " (" + e.getMessage() + ")");
+        System.exit(1);
+      }
+    }
+    // batch mode settings
+    Settings.BATCH = parser.hasFlag("-batch") ? parser.value("-batch") : null;
+    Settings.SWEEP = parser.hasFlag("-sweep") ? parser.value("-sweep") : null;
+    // bench mode settings
+    Settings.BENCH = parser.hasFlag("-bench") ? parser.value("-bench") : null;
+    if (parser.hasFlag("-warmup"))
+      Settings.WARMUP = (int) Math.min(Cmd.count(parser, "-warmup"), 1000);
+    if (parser.hasFlag("-iterations"))
+      Settings.ITERATIONS = (int) Math.min(Cmd.budget(parser, "-iterations"), 1000);
+    Settings.BASELINE = parser.hasFlag("-baseline") ? parser.value("-baseline") : null;
+    Settings.SAVE_BASELINE = parser.hasFlag("-savebaseline") ? parser.value("-savebaseline") : null;
+    Settings.JSON = parser.hasFlag("-json") ? parser.value("-json") : null;
+    Settings.JUNIT = parser.hasFlag("-junit") ? parser.value("-junit") : null;
+    if (parser.hasFlag("-workers"))
+      Settings.WORKERS = (int) Math.min(Cmd.budget(parser, "-workers"), 1024);
+    if (parser.hasFlag("-procs"))
+      Settings.PROCS = (int) Math.min(Cmd.budget(parser, "-procs"), 256);
+    Settings.WORKER = parser.hasFlag("-worker");
+    // the standard output of a worker process is the coordinator channel
+    if (Settings.WORKER)
+      Settings.TITLE = false;
+    // result cache settings
+    Settings.CACHE = parser.hasFlag("-cache") ? parser.value("-cache") : null;
+    if (parser.hasFlag("-cachesize"))
+      Settings.CACHE_SIZE = Math.min(Cmd.budget(parser, "-cachesize"), 1L << 20) << 20;
+    Settings.NOCACHE = parser.hasFlag("-nocache");
+    if (parser.hasFlag("-queue"))
+      Settings.QUEUE = (int) Math.min(Cmd.budget(parser, "-queue"), 1 << 20);
     // try to set start label
     if (parser.hasFlag("-start") && !Settings.setStart(parser.value("-start"), false)) {
       Cmd.title();
@@ -137,6 +245,24 @@ public final class Cmd {
       Globals.iset.print(parser.value("-info"));
       System.exit(0);
     }
+    // server port
+    Settings.SERVER = parser.hasFlag("-server");
+    if (Settings.SERVER || parser.hasFlag("-connect"))
+      Settings.PORT = Cmd.port(parser, Settings.SERVER ? "-server" : "-connect");
+    // programs are found by the batch runner or sent to the server and workers by clients
+    if (Settings.BATCH != null || Settings.BENCH != null || Settings.SERVER || Settings.WORKER) {
+      if (!parser.targets().isEmpty()) {
+        Cmd.title();
+        Message.error((Settings.BATCH != null ? "-batch"
+            : Settings.BENCH != null ? "-bench" : Settings.SERVER ? "-server" : "-worker")
+            + " does not accept files (cause: " + parser.targets().get(0) + ")");
+        System.exit(1);
+      }
+      // machine code and static data dumps are not available in batch, bench, server and worker modes
+      Settings.CODE = null;
+      Settings.DATA = null;
+      return new ArrayList<File>();
+    }
     // get files
     ArrayList<File> files = parser.targets();
     // assemble all files in directory
@@ -157,8 +283,8 @@ public final class Cmd {
         System.exit(1);
       }
     }
-    // check if no files passed
-    if (files.isEmpty()) {
+    // check if no files passed, a server client without files asks for statistics
+    if (files.isEmpty() && Settings.PORT < 0) {
       Cmd.title();
       Message.panic("no RISC-V files passed");
     }
@@ -166,6 +292,72 @@ public final class Cmd {
     return files;
   }
 
+  /**
+   * Gets the value of a positive number flag, e.g a run budget.
+   *
+   * @param parser argument parser
+   * @param flag number flag
+   * @return the flag value or 0 if the flag was not passed
+   */
+  private static long budget(ArgumentParser parser, String flag) {
+    if (!parser.hasFlag(flag))
+      return 0;
+    try {
+      long value = Long.parseLong(parser.value(flag));
+      if (value > 0)
+        return value;
+    } catch (NumberFormatException e) {
+      // handled below
+    }
+    Cmd.title();
+    Message.error("invalid " + flag + " value, expected a positive number (input: " + parser.value(flag) + ")");
+    System.exit(1);
+    return 0;
+  }
+
+  /**
+   * Gets the value of a non-negative number flag, e.g a number of runs.
+   *
+   * @param parser argument parser
+   * @param flag number flag
+   * @return the flag value
+   */
+  private static long count(ArgumentParser parser, String flag) {
+    try {
+      long value = Long.parseLong(parser.value(flag));
+      if (value >= 0)
+        return value;
+    } catch (NumberFormatException e) {
+      // handled below
+    }
+    Cmd.title();
+    Message.error("invalid " + flag + " value, expected a number >= 0 (input: " + parser.value(flag) + ")");
+    System.exit(1);
+    return 0;
+  }
+
+  /**
+   * Gets the value of a TCP port flag.
+   *
+   * @param parser argument parser
+   * @param flag port flag
+   * @return the port number
+   */
+  private static int port(ArgumentParser parser, String flag) {
+    try {
+      int port = Integer.parseInt(parser.value(flag));
+      if (port >= 0 && port <= 65535)
+        return port;
+    } catch (NumberFormatException e) {
+      // handled below
+    }
+    Cmd.title();
+    Message.error(
+        "invalid " + flag + " port, expected a number between 0 and 65535 (input: " + parser.value(flag) + ")");
+    System.exit(1);
+    return -1;
+  }
+
   /**
    * This method prints the title of the V-Sim simulator.
    */
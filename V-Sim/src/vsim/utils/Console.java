@@ -0,0 +1,267 @@
+/*
+Copyright (C) 2018-2019 Andres Castellanos
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <https://www.gnu.org/licenses/>
+*/
+
+package vsim.utils;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+
+
+/**
+ * The class Console represents the standard streams of a non-interactive run. Input comes from a byte array and output
+ * is captured in memory or written to streams. A console is attached to the thread that runs the program, so
+ * {@link vsim.utils.IO} reads and writes it instead of the process console and {@link vsim.utils.IO#exit} ends the run
+ * instead of the JVM.
+ */
+public final class Console {
+
+  /** console attached to each thread, null if the thread uses the process console */
+  private static final ThreadLocal<Console> current = new ThreadLocal<Console>();
+
+  /** standard input contents */
+  private final byte[] input;
+  /** standard input */
+  private final BufferedReader in;
+  /** standard output */
+  private final PrintStream out;
+  /** standard error */
+  private final PrintStream err;
+  /** captured standard output or null if the output is not captured */
+  private final ByteArrayOutputStream outBuffer;
+  /** captured standard error or null if the output is not captured */
+  private final ByteArrayOutputStream errBuffer;
+
+  /**
+   * Creates a new console that captures its output in memory.
+   *
+   * @param input standard input contents
+   */
+  public Console(byte[] input) {
+    this(input, new ByteArrayOutputStream(), new ByteArrayOutputStream());
+  }
+
+  /**
+   * Creates a new console with an empty standard input that captures its output in memory.
+   */
+  public Console() {
+    this(new byte[0]);
+  }
+
+  /**
+   * Creates a new console that writes its output to streams. Output is buffered until {@link #flush} is called or the
+   * buffer is full.
+   *
+   * @param input standard input contents
+   * @param out standard output stream
+   * @param err standard error stream
+   */
+  public Console(byte[] input, OutputStream out, OutputStream err) {
+    this(input, out, err, false);
+  }
+
+  /**
+   * Creates a new console that writes its output to streams and optionally also captures it in memory, e.g to cache
+   * the output of a streamed run.
+   *
+   * @param input standard input contents
+   * @param out standard output stream
+   * @param err standard error stream
+   * @param capture if the output is also captured
+   */
+  public Console(byte[] input, OutputStream out, OutputStream err, boolean capture) {
+    this.input = input;
+    this.in = new BufferedReader(new InputStreamReader(new ByteArrayInputStream(input), StandardCharsets.UTF_8));
+    this.outBuffer = Console.buffer(out, capture);
+    this.errBuffer = Console.buffer(err, capture);
+    this.out = IO.print(Console.stream(out, this.outBuffer), false);
+    this.err = IO.print(Console.stream(err, this.errBuffer), false);
+  }
+
+  /**
+   * Gets the capture buffer of an output stream.
+   *
+   * @param out output stream
+   * @param capture if the output is captured
+   * @return the stream itself if it is a memory buffer, a new buffer if capturing or null
+   */
+  private static ByteArrayOutputStream buffer(OutputStream out, boolean capture) {
+    if (out instanceof ByteArrayOutputStream)
+      return (ByteArrayOutputStream) out;
+    return capture ? new ByteArrayOutputStream() : null;
+  }
+
+  /**
+   * Creates the stream a console writes to, buffered and copied to the capture buffer if any.
+   *
+   * @param out output stream
+   * @param buffer capture buffer or null
+   * @return console output stream
+   */
+  private static OutputStream stream(OutputStream out, ByteArrayOutputStream buffer) {
+    if (out == buffer)
+      return out;
+    if (buffer == null)
+      return new BufferedOutputStream(out);
+    return new BufferedOutputStream(new OutputStream() {
+
+      @Override
+      public void write(int b) throws IOException {
+        buffer.write(b);
+        out.write(b);
+      }
+
+      @Override
+      public void write(byte[] b, int off, int len) throws IOException {
+        buffer.write(b, off, len);
+        out.write(b, off, len);
+      }
+
+      @Override
+      public void flush() throws IOException {
+        out.flush();
+      }
+
+    });
+  }
+
+  /**
+   * Gets the console attached to the current thread.
+   *
+   * @return the console of the current thread or null if the thread uses the process console
+   */
+  public static Console get() {
+    return Console.current.get();
+  }
+
+  /**
+   * Attaches this console to the current thread.
+   */
+  public void attach() {
+    Console.current.set(this);
+  }
+
+  /**
+   * Detaches any console from the current thread, the thread uses the process console again.
+   */
+  public static void detach() {
+    Console.current.remove();
+  }
+
+  /**
+   * Gets the console standard input contents, including anything already read.
+   *
+   * @return standard input contents
+   */
+  public byte[] getInput() {
+    return this.input;
+  }
+
+  /**
+   * Gets the console standard input.
+   *
+   * @return standard input
+   */
+  public BufferedReader getIn() {
+    return this.in;
+  }
+
+  /**
+   * Gets the console standard output.
+   *
+   * @return standard output
+   */
+  public PrintStream getOut() {
+    return this.out;
+  }
+
+  /**
+   * Gets the console standard error.
+   *
+   * @return standard error
+   */
+  public PrintStream getErr() {
+    return this.err;
+  }
+
+  /**
+   * Flushes the console standard output and error.
+   */
+  public void flush() {
+    this.out.flush();
+    this.err.flush();
+  }
+
+  /**
+   * Gets everything written to the console standard output.
+   *
+   * @return standard output contents or an empty string if the output is not captured
+   */
+  public String getOutput() {
+    this.out.flush();
+    return (this.outBuffer != null) ? new String(this.outBuffer.toByteArray(), StandardCharsets.UTF_8) : "";
+  }
+
+  /**
+   * Gets everything written to the console standard error.
+   *
+   * @return standard error contents or an empty string if the output is not captured
+   */
+  public String getError() {
+    this.err.flush();
+    return (this.errBuffer != null) ? new String(this.errBuffer.toByteArray(), StandardCharsets.UTF_8) : "";
+  }
+
+  /**
+   * The class Exit is thrown by {@link vsim.utils.IO#exit} to end a run that has a console attached.
+   */
+  public static final class Exit extends RuntimeException {
+
+    /** serialization version */
+    private static final long serialVersionUID = 1L;
+
+    /** run exit status */
+    private final int status;
+
+    /**
+     * Creates a new exit with a run exit status.
+     *
+     * @param status run exit status
+     */
+    public Exit(int status) {
+      super("exit(" + status + ")", null, false, false);
+      this.status = status;
+    }
+
+    /**
+     * Gets the run exit status.
+     *
+     * @return run exit status
+     */
+    public int getStatus() {
+      return this.status;
+    }
+
+  }
+
+}
@@ -18,13 +18,13 @@ along with this program.  If not, see <https://www.gnu.org/licenses/>
 package vsim.utils;
 
 import java.util.HashMap;
-import vsim.Globals;
 import vsim.Settings;
 import vsim.riscv.exceptions.SimulationException;
+import vsim.riscv.hardware.Memory;
 
 
 /**
- * The class FS implements a basic file system.
+ * The class FS implements a basic file system, every simulated machine has its own table of open files.
  */
 public final class FS {
 
@@ -52,25 +52,58 @@ public final class FS {
   /** flags mask */
   public static final int O_MASK = 0b1111111;
 
-  /** current open files */
-  private static final HashMap<Integer, OpenFile> open = new HashMap<Integer, OpenFile>();
   /** max allowed open files */
   public static final int MAX_FILES = 32;
 
+  /** machine memory where buffers are read and written */
+  private final Memory memory;
+  /** current open files */
+  private final HashMap<Integer, OpenFile> open;
+
+  /**
+   * Creates a file system without open files.
+   *
+   * @param memory machine memory where buffers are read and written
+   */
+  public FS(Memory memory) {
+    this.memory = memory;
+    this.open = new HashMap<Integer, OpenFile>();
+  }
+
   /**
    * Gets the next available file descriptor.
    *
    * @return next available file descriptor, or -1 if open files = max no. of open files
    */
-  private static int getNextFD() {
+  private int getNextFD() {
     // start at 3 because 0,1,2 are reserved FDs
     for (int i = 3; i < MAX_FILES + 3; i++) {
-      if (!FS.open.containsKey(i))
+      if (!this.open.containsKey(i))
         return i;
     }
     return -1;
   }
 
+  /**
+   * Gets a copy of the current open files table.
+   *
+   * @return open files by file descriptor
+   */
+  public HashMap<Integer, OpenFile> getOpenFiles() {
+    return new HashMap<Integer, OpenFile>(this.open);
+  }
+
+  /**
+   * Replaces the current open files table.
+   *
+   * @param files open files by file descriptor
+   * @see vsim.utils.FS#getOpenFiles
+   */
+  public void setOpenFiles(HashMap<Integer, OpenFile> files) {
+    this.open.clear();
+    this.open.putAll(files);
+  }
+
   /**
    * This method simulates the open syscall from C.
    *
@@ -78,11 +111,11 @@ public final class FS {
    * @param flags open flags
    * @return the file descriptor for the new file
    */
-  public static int open(String pathname, int flags) {
-    int fd = FS.getNextFD();
+  public int open(String pathname, int flags) {
+    int fd = this.getNextFD();
     if (fd != -1) {
       try {
-        FS.open.put(fd, new OpenFile(pathname, flags));
+        this.open.put(fd, new OpenFile(pathname, flags));
       } catch (SimulationException e) {
         Message.warning(e.getMessage());
         return -1;
@@ -99,28 +132,25 @@ public final class FS {
    * @param fd file descriptor of where to read the input
    * @param buffer pointer where the read content will stored
    * @param nbytes number of bytes to read before truncating the data
-   * @return the number of bytes that were read, -1 if error
+   * @return the number of bytes that were read, 0 at end of input, -1 if error
    * @throws SimulationException if an exception occurs while reading open file
    */
-  public static int read(int fd, int buffer, int nbytes) throws SimulationException {
+  public int read(int fd, int buffer, int nbytes) throws SimulationException {
     // only available from stdin
     int buff = buffer;
     if (fd == FS.STDIN) {
-      int rbytes = 0;
-      for (int i = 0; i < nbytes; i++) {
+      // consume the available input at once
+      String input = IO.read(nbytes);
+      for (int i = 0; i < input.length(); i++) {
         try {
-          int c = IO.readChar();
-          if (c == -1)
-            c = 0;
-          Globals.memory.storeByte(buff++, c);
-          rbytes++;
+          this.memory.storeByte(buff++, input.charAt(i));
         } catch (Exception e) {
-          if (rbytes > 0)
-            return rbytes;
+          if (i > 0)
+            return i;
           return -1;
         }
       }
-      return rbytes;
+      return input.length();
     }
     // stdout
     else if (fd == FS.STDOUT) {
@@ -133,8 +163,8 @@ public final class FS {
       return -1;
     }
     // normal file
-    else if (FS.open.containsKey(fd))
-      return FS.open.get(fd).read(buffer, nbytes);
+    else if (this.open.containsKey(fd))
+      return this.open.get(fd).read(this.memory, buffer, nbytes);
     // error
     return -1;
   }
@@ -148,7 +178,7 @@ public final class FS {
    * @return the number of bytes that were written, -1 if error
    * @throws SimulationException if an exception occurs while writing to open file
    */
-  public static int write(int fd, int buffer, int nbytes) throws SimulationException {
+  public int write(int fd, int buffer, int nbytes) throws SimulationException {
     int buff = buffer;
     // stdin
     if (fd == FS.STDIN) {
@@ -160,7 +190,7 @@ public final class FS {
       StringBuffer s = new StringBuffer(0);
       int wbytes = 0;
       for (int i = 0; i < nbytes; i++) {
-        char c = (char) Globals.memory.loadByteUnsigned(buff++);
+        char c = (char) this.memory.loadByteUnsigned(buff++);
         s.append(c);
         wbytes++;
       }
@@ -178,8 +208,8 @@ public final class FS {
       return wbytes;
     }
     // normal file
-    else if (FS.open.containsKey(fd))
-      return FS.open.get(fd).write(buff, nbytes);
+    else if (this.open.containsKey(fd))
+      return this.open.get(fd).write(this.memory, buff, nbytes);
     return -1;
   }
 
@@ -189,15 +219,15 @@ public final class FS {
    * @param fd file descriptor to be closed
    * @return 0 if success, -1 otherwise
    */
-  public static int close(int fd) {
+  public int close(int fd) {
     // stdin, stdout or stderr not allowed
     if (fd == FS.STDIN || fd == FS.STDOUT || fd == FS.STDERR) {
       Message.warning("file system: can not close stdin/stdout/stderr");
       return -1;
     }
     // normal file
-    else if (FS.open.containsKey(fd)) {
-      FS.open.remove(fd);
+    else if (this.open.containsKey(fd)) {
+      this.open.remove(fd);
       return 0;
     }
     return -1;
@@ -17,10 +17,16 @@ along with this program.  If not, see <https://www.gnu.org/licenses/>
 
 package vsim.utils;
 
+import java.io.BufferedOutputStream;
 import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.io.OutputStream;
 import java.io.PrintStream;
+import java.io.UnsupportedEncodingException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import vsim.Settings;
 import vsim.gui.components.InputDialog;
 import vsim.gui.utils.ConsoleInput;
@@ -30,14 +36,14 @@ import vsim.gui.utils.ConsoleOutput;
 /** The class IO represents the standard I/O of the simulator. */
 public final class IO {
 
-  /** CLI standard input */
-  public static final BufferedReader stdin = new BufferedReader(new InputStreamReader(System.in));
+  /** CLI standard input, see {@link #setInput} */
+  public static BufferedReader stdin = new BufferedReader(new InputStreamReader(System.in));
 
-  /** CLI standard output */
-  public static PrintStream stdout = System.out;
+  /** CLI standard output, writes to the console attached to the current thread if any, see {@link #setOutput} */
+  public static PrintStream stdout = IO.print(new Route(System.out, false), true);
 
-  /** CLI standard err */
-  public static PrintStream stderr = System.err;
+  /** CLI standard err, writes to the console attached to the current thread if any */
+  public static PrintStream stderr = IO.print(new Route(System.err, true), true);
 
   /** GUI standard input */
   public static ConsoleInput guistdin = null;
@@ -51,13 +57,242 @@ public final class IO {
   /** GUI input dialog */
   public static InputDialog dialog = null;
 
+  /** discards everything, used to silence re-executed instructions */
+  public static final PrintStream nullout = new PrintStream(new OutputStream() {
+
+    @Override
+    public void write(int b) {
+    }
+  });
+
+  /** if the user input is logged */
+  private static boolean logging = false;
+
+  /** logged user input */
+  private static final ArrayList<String> inputs = new ArrayList<String>();
+
+  /** position of the next user input in the log */
+  private static int position = 0;
+
+  /** max number of chars read at once by {@link #read} */
+  private static final int CHUNK = 1 << 16;
+
+  /** if buffered standard output is flushed when the JVM exits */
+  private static boolean flushOnExit = false;
+
+  /**
+   * The class Route is an output stream that writes to the console attached to the current thread, or to a process
+   * stream if the thread has no console.
+   */
+  private static final class Route extends OutputStream {
+
+    /** process stream */
+    private final PrintStream stream;
+    /** if this is a standard error route */
+    private final boolean err;
+
+    /**
+     * Creates a new route.
+     *
+     * @param stream process stream
+     * @param err true to route standard error, false to route standard output
+     */
+    public Route(PrintStream stream, boolean err) {
+      this.stream = stream;
+      this.err = err;
+    }
+
+    /**
+     * Gets the stream of the current thread.
+     *
+     * @return current thread stream
+     */
+    private PrintStream target() {
+      Console console = Console.get();
+      if (console == null)
+        return this.stream;
+      return this.err ? console.getErr() : console.getOut();
+    }
+
+    @Override
+    public void write(int b) {
+      this.target().write(b);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+      this.target().write(b, off, len);
+    }
+
+    @Override
+    public void flush() {
+      // console output is flushed by its owner, see Console#flush
+      if (Console.get() == null)
+        this.stream.flush();
+    }
+
+  }
+
+  /**
+   * Creates a print stream that encodes in UTF-8. Text is encoded before it is routed, so the process streams and
+   * the consoles always receive UTF-8, the same charset used to read sources, inputs and expected outputs.
+   *
+   * @param out output stream
+   * @param autoFlush if the stream is flushed on every println
+   * @return print stream
+   */
+  static PrintStream print(OutputStream out, boolean autoFlush) {
+    try {
+      return new PrintStream(out, autoFlush, StandardCharsets.UTF_8.name());
+    } catch (UnsupportedEncodingException e) {
+      // every JVM supports UTF-8
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * Gets the CLI standard input of the current thread.
+   *
+   * @return the attached console input or the process standard input
+   */
+  private static BufferedReader in() {
+    Console console = Console.get();
+    if (console != null)
+      return console.getIn();
+    // the user must see everything before input is requested
+    IO.stdout.flush();
+    return IO.stdin;
+  }
+
+  /**
+   * Sets the CLI standard input of the process, e.g the contents of an input file. The input is already in memory, so
+   * reads never block and {@link #read} can consume it in bulk.
+   *
+   * @param input standard input contents
+   */
+  public static void setInput(byte[] input) {
+    IO.stdin = new BufferedReader(new InputStreamReader(new ByteArrayInputStream(input), StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Sets the CLI standard output of the process, e.g an output file. The output is buffered, it is only flushed before
+   * input is requested and when the JVM exits.
+   *
+   * @param out standard output stream
+   */
+  public static synchronized void setOutput(OutputStream out) {
+    PrintStream stream = new PrintStream(new BufferedOutputStream(out, CHUNK), false);
+    IO.stdout = IO.print(new Route(stream, false), false);
+    if (!IO.flushOnExit) {
+      Runtime.getRuntime().addShutdownHook(new Thread(() -> IO.stdout.flush()));
+      IO.flushOnExit = true;
+    }
+  }
+
+  /**
+   * Verifies if the current thread can interact with a user, i.e it has no console attached.
+   *
+   * @return true if the current thread uses the process console, false otherwise
+   */
+  public static boolean isInteractive() {
+    return Console.get() == null;
+  }
+
+  /**
+   * Terminates the current run with an exit status. If the current thread has a console attached only the run ends
+   * with a {@link vsim.utils.Console.Exit}, otherwise the JVM exits.
+   *
+   * @param status exit status
+   */
+  public static void exit(int status) {
+    if (Console.get() != null)
+      throw new Console.Exit(status);
+    System.exit(status);
+  }
+
+  /**
+   * Enables or disables the user input log, the log is cleared in both cases. While the log is enabled every user
+   * input is saved, so instructions can be re-executed later with the same input.
+   *
+   * @param enabled true to enable the user input log, false to disable it
+   */
+  public static void setInputLog(boolean enabled) {
+    IO.logging = enabled;
+    IO.inputs.clear();
+    IO.position = 0;
+  }
+
+  /**
+   * Gets the position of the next user input in the log.
+   *
+   * @return position of the next user input
+   */
+  public static int getInputPosition() {
+    return IO.position;
+  }
+
+  /**
+   * Moves the user input log to a previous position, next reads replay logged input from that position.
+   *
+   * @param position position of the next user input
+   */
+  public static void setInputPosition(int position) {
+    IO.position = position;
+  }
+
+  /**
+   * Gets the next logged user input if any.
+   *
+   * @return the next logged user input or null if the user has to be asked
+   */
+  private static String replayInput() {
+    if (IO.logging && IO.position < IO.inputs.size())
+      return IO.inputs.get(IO.position++);
+    return null;
+  }
+
+  /**
+   * Saves a new user input in the log (if enabled).
+   *
+   * @param input user input
+   */
+  private static void logInput(String input) {
+    if (IO.logging) {
+      IO.inputs.add(input);
+      IO.position++;
+    }
+  }
+
+  /**
+   * Reads a line from the CLI standard input, used to read debugger commands. This input is never logged.
+   *
+   * @return the line read or an empty string if there is no more input
+   */
+  public static String readLine() {
+    String input = null;
+    try {
+      input = IO.in().readLine();
+    } catch (IOException e) {
+    }
+    // handle CTRL + D
+    if (input == null) {
+      IO.stdout.println();
+      input = "";
+    }
+    return input;
+  }
+
   /**
    * Reads an integer value from current standard input. Client is responsible for catching NumberFormatException.
    *
    * @return int value corresponding to user input
    */
   public static int readInt() {
-    String input = "0";
+    // replay logged input if any
+    String input = IO.replayInput();
+    if (input != null)
+      return Data.parseInt(input.trim());
+    input = "0";
     if (Settings.GUI) {
       if (!Settings.POPUP_ECALL_INPUT && guistdin != null)
         input = IO.guistdin.readString(-1);
@@ -67,7 +302,7 @@ public final class IO {
       }
     } else {
       try {
-        input = IO.stdin.readLine();
+        input = IO.in().readLine();
       } catch (IOException e) {
       }
     }
@@ -76,6 +311,7 @@ public final class IO {
       IO.stdout.println();
       input = "0";
     }
+    IO.logInput(input);
     // client is responsible for catching NumberFormatException
     return Data.parseInt(input.trim());
   }
@@ -86,7 +322,11 @@ public final class IO {
    * @return float value corresponding to user input
    */
   public static float readFloat() {
-    String input = "0.0";
+    // replay logged input if any
+    String input = IO.replayInput();
+    if (input != null)
+      return Data.parseFloat(input.trim());
+    input = "0.0";
     if (Settings.GUI) {
       if (!Settings.POPUP_ECALL_INPUT && guistdin != null)
         input = IO.guistdin.readString(-1);
@@ -96,7 +336,7 @@ public final class IO {
       }
     } else {
       try {
-        input = IO.stdin.readLine();
+        input = IO.in().readLine();
       } catch (IOException e) {
       }
     }
@@ -105,6 +345,7 @@ public final class IO {
       IO.stdout.println();
       input = "0.0";
     }
+    IO.logInput(input);
     // client is responsible for catching NumberFormatException
     return Data.parseFloat(input.trim());
   }
@@ -116,7 +357,11 @@ public final class IO {
    * @return the entered string, truncated to maximum length if necessary
    */
   public static String readString(int maxLength) {
-    String input = "";
+    // replay logged input if any
+    String input = IO.replayInput();
+    if (input != null)
+      return input;
+    input = "";
     if (Settings.GUI) {
       if (!Settings.POPUP_ECALL_INPUT && guistdin != null)
         input = IO.guistdin.readString(maxLength);
@@ -126,7 +371,7 @@ public final class IO {
       }
     } else {
       try {
-        input = IO.stdin.readLine();
+        input = IO.in().readLine();
       } catch (IOException e) {
       }
     }
@@ -138,6 +383,7 @@ public final class IO {
     // ensure maxLength
     if (input.length() > maxLength)
       input = (maxLength <= 0) ? "" : input.substring(0, maxLength);
+    IO.logInput(input);
     return input;
   }
 
@@ -147,6 +393,22 @@ public final class IO {
    * @return int value with lowest byte corresponding to user input
    */
   public static int readChar() {
+    // replay logged input if any
+    String input = IO.replayInput();
+    if (input != null)
+      return (int) input.charAt(0);
+    char c = IO.nextChar();
+    IO.logInput(String.valueOf(c));
+    return (int) c;
+  }
+
+  /**
+   * Reads the next char from current standard input without logging it. In CLI mode a line terminator right after the
+   * char is consumed too, so line oriented reads that follow do not see an empty line.
+   *
+   * @return the char read, '0' at end of input
+   */
+  private static char nextChar() {
     String input = "0";
     if (Settings.GUI) {
       if (!Settings.POPUP_ECALL_INPUT && guistdin != null)
@@ -157,13 +419,69 @@ public final class IO {
       }
     } else {
       try {
-        input = IO.stdin.readLine();
+        BufferedReader in = IO.in();
+        int c = in.read();
+        if (c == '\r') {
+          IO.skip(in, '\n');
+          input = "\n";
+        } else if (c != -1) {
+          if (c != '\n') {
+            IO.skip(in, '\r');
+            IO.skip(in, '\n');
+          }
+          input = String.valueOf((char) c);
+        }
       } catch (IOException e) {
       }
     }
     // handle CTRL + D
-    if (input == null)
+    if (input == null || input.isEmpty())
       input = "0";
-    return (int) input.charAt(0);
+    return input.charAt(0);
+  }
+
+  /**
+   * Skips the next char of a reader if it is the expected one.
+   *
+   * @param in reader
+   * @param expected expected char
+   * @throws IOException if the reader could not be read
+   */
+  private static void skip(BufferedReader in, char expected) throws IOException {
+    in.mark(1);
+    if (in.read() != expected)
+      in.reset();
+  }
+
+  /**
+   * Reads up to length chars from current standard input, e.g for the read ecall. In CLI mode all the buffered input
+   * is consumed at once, a read only blocks if there is no input available.
+   *
+   * @param length max number of chars to read
+   * @return the chars read or an empty string at end of input
+   */
+  public static String read(int length) {
+    // replay logged input if any
+    String input = IO.replayInput();
+    if (input != null)
+      return input;
+    input = "";
+    if (length > 0 && Settings.GUI) {
+      // the GUI asks char by char
+      StringBuilder chars = new StringBuilder();
+      for (int i = 0; i < length; i++)
+        chars.append(IO.nextChar());
+      input = chars.toString();
+    } else if (length > 0) {
+      try {
+        char[] chars = new char[Math.min(length, CHUNK)];
+        int n = IO.in().read(chars, 0, chars.length);
+        if (n > 0)
+          input = new String(chars, 0, n);
+      } catch (IOException e) {
+      }
+    }
+    IO.logInput(input);
+    return input;
   }
 }
@@ -84,7 +84,7 @@ public final class Message {
       IO.guistderr.postError("vsim: (fatal error) " + msg + System.getProperty("line.separator"));
     else {
       IO.stderr.println("vsim: (fatal error) " + msg);
-      System.exit(1);
+      IO.exit(1);
     }
   }
 
@@ -23,8 +23,8 @@ import java.io.FileReader;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
-import vsim.Globals;
 import vsim.riscv.exceptions.*;
+import vsim.riscv.hardware.Memory;
 
 
 /**
@@ -122,12 +122,13 @@ public final class OpenFile {
   /**
    * This method simulates the read syscall from C, is used in FS class.
    *
+   * @param memory machine memory
    * @param buffer pointer where the read content will stored
    * @param nbytes number of bytes to read before truncating the data
    * @return the number of bytes that were read, -1 if error
    * @throws SimulationException if an exception occurs while reading open file
    */
-  public int read(int buffer, int nbytes) throws SimulationException {
+  public int read(Memory memory, int buffer, int nbytes) throws SimulationException {
     int buff = buffer;
     // read permissions ?
     if (this.read || this.rdwr) {
@@ -138,7 +139,7 @@ public final class OpenFile {
           int b = br.read();
           if (b == -1)
             b = 0;
-          Globals.memory.storeByte(buff++, b);
+          memory.storeByte(buff++, b);
           rbytes++;
         }
         br.close();
@@ -155,19 +156,20 @@ public final class OpenFile {
   /**
    * This method simulates the write syscall from C, is used in FS class.
    *
+   * @param memory machine memory
    * @param buffer pointer to a buffer of at least nbytes bytes
    * @param nbytes the number of bytes to write
    * @return the number of bytes that were written, -1 if error
    * @throws SimulationException if an exception occurs while writing open file
    */
-  public int write(int buffer, int nbytes) throws SimulationException {
+  public int write(Memory memory, int buffer, int nbytes) throws SimulationException {
     // build string
     int buff = buffer;
     if (this.write && !this.rdwr || this.rdwr && !this.write) {
       StringBuffer s = new StringBuffer(0);
       int wbytes = 0;
       for (int i = 0; i < nbytes; i++) {
-        char c = (char) Globals.memory.loadByteUnsigned(buff++);
+        char c = (char) memory.loadByteUnsigned(buff++);
         s.append(c);
         wbytes++;
       }
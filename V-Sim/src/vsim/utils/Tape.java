@@ -0,0 +1,405 @@
+/*
+Copyright (C) 2018-2019 Andres Castellanos
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <https://www.gnu.org/licenses/>
+*/
+
+package vsim.utils;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import vsim.riscv.exceptions.SimulationException;
+
+
+/**
+ * The class Tape implements a log of the nondeterministic inputs of a program: console reads, file system results,
+ * wall clock time, random numbers and the working directory. A recording tape writes every input to a compact binary
+ * file as the program runs, a replaying tape feeds them back from that file without asking the user or the host, so
+ * a recorded run can be reproduced exactly, at full speed and under the debugger.
+ *
+ * <p>Tape events are consumed in order, the debugger saves and restores the tape position to step back. Events
+ * before the last recorded one are always replayed, even when recording, so a run that steps back reads the same
+ * inputs again. The debugger records to memory when there is no tape, so stepping back never asks the host twice.
+ */
+public final class Tape {
+
+  /** READ_INT event */
+  public static final byte READ_INT = 1;
+  /** READ_FLOAT event, float bits */
+  public static final byte READ_FLOAT = 2;
+  /** READ_STRING event, UTF-8 string */
+  public static final byte READ_STRING = 3;
+  /** READ_CHAR event */
+  public static final byte READ_CHAR = 4;
+  /** OPEN event, file descriptor */
+  public static final byte OPEN = 5;
+  /** READ event, number of bytes read */
+  public static final byte READ = 6;
+  /** READ event data, bytes read */
+  public static final byte READ_DATA = 7;
+  /** WRITE event to a file, number of bytes written */
+  public static final byte WRITE = 8;
+  /** CLOSE event */
+  public static final byte CLOSE = 9;
+  /** CWD event, UTF-8 path */
+  public static final byte CWD = 10;
+  /** TIME event, milliseconds since the epoch */
+  public static final byte TIME = 11;
+  /** RAND_INT, RAND_INT_RNG and RAND_FLOAT events, float bits for RAND_FLOAT */
+  public static final byte RANDOM = 12;
+
+  /** tape file format magic number */
+  private static final int MAGIC = 0x56544150;
+  /** tape file format version */
+  private static final int VERSION = 1;
+  /** event names for error messages, by tag */
+  private static final String[] NAMES = {"?", "read_int", "read_float", "read_string", "read_char", "open", "read",
+      "read (data)", "write", "close", "cwd", "time", "random"};
+
+  /** tape that does not record or replay anything */
+  public static final Tape OFF = new Tape(null, false, false);
+
+  /** event tags */
+  private final ArrayList<Byte> tags;
+  /** event values, a Long or a byte[] */
+  private final ArrayList<Object> values;
+  /** recording file, null if not recording */
+  private final DataOutputStream out;
+  /** if the tape is replaying a file */
+  private final boolean replaying;
+  /** if new events are recorded */
+  private final boolean recording;
+  /** next event position */
+  private int position;
+  /** if an input was taken from the host, i.e the run may not be reproducible */
+  private boolean host;
+
+  /**
+   * Creates a new tape.
+   *
+   * @param out recording file, null if not recording
+   * @param replaying if the tape is replaying a file
+   * @param recording if new events are recorded
+   */
+  private Tape(DataOutputStream out, boolean replaying, boolean recording) {
+    this.tags = new ArrayList<Byte>();
+    this.values = new ArrayList<Object>();
+    this.out = out;
+    this.replaying = replaying;
+    this.recording = recording;
+    this.position = 0;
+    this.host = false;
+  }
+
+  /**
+   * Creates a tape that records to a file. The file is flushed when the simulator exits.
+   *
+   * @param file recording file, it is overwritten
+   * @return recording tape
+   * @throws IOException if the file could not be created
+   */
+  public static Tape record(File file) throws IOException {
+    DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)));
+    out.writeInt(MAGIC);
+    out.writeByte(VERSION);
+    Tape tape = new Tape(out, false, true);
+    Runtime.getRuntime().addShutdownHook(new Thread(tape::flush));
+    return tape;
+  }
+
+  /**
+   * Creates a tape that records to memory only, used by the debugger to step back deterministically.
+   *
+   * @return recording tape
+   */
+  public static Tape memory() {
+    return new Tape(null, false, true);
+  }
+
+  /**
+   * Creates a tape that does not record or replay anything, it only remembers if the program took an input from the
+   * host, used to avoid caching runs that may not be reproducible.
+   *
+   * @return watching tape
+   * @see #isDeterministic
+   */
+  public static Tape watch() {
+    return new Tape(null, false, false);
+  }
+
+  /**
+   * Creates a tape that replays a recorded file.
+   *
+   * @param file recorded file
+   * @return replaying tape
+   * @throws IOException if the file could not be read or it is not a valid tape file
+   */
+  public static Tape replay(File file) throws IOException {
+    Tape tape = new Tape(null, true, false);
+    try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+      if (in.readInt() != MAGIC || in.readUnsignedByte() != VERSION)
+        throw new IOException("not a tape file");
+      int tag;
+      while ((tag = in.read()) != -1) {
+        if (tag <= 0 || tag >= NAMES.length)
+          throw new IOException("invalid tape event");
+        long value = Tape.readVarLong(in);
+        if (tag == READ_STRING || tag == READ_DATA || tag == CWD) {
+          if (value < 0 || value > Integer.MAX_VALUE)
+            throw new IOException("invalid tape event");
+          byte[] bytes = new byte[(int) value];
+          in.readFully(bytes);
+          tape.add((byte) tag, bytes);
+        } else
+          tape.add((byte) tag, value);
+      }
+    } catch (EOFException e) {
+      throw new IOException("truncated tape file");
+    }
+    return tape;
+  }
+
+  /**
+   * Verifies if this tape replays a file, i.e the program never waits for inputs.
+   *
+   * @return true if the tape replays a file, false otherwise
+   */
+  public boolean isReplaying() {
+    return this.replaying;
+  }
+
+  /**
+   * Verifies if this tape only records to memory.
+   *
+   * @return true if the tape was created by {@link #memory}, false otherwise
+   */
+  public boolean isMemory() {
+    return this.recording && this.out == null;
+  }
+
+  /**
+   * Verifies if every input taken by the program came from its standard input. File system results, wall clock time,
+   * random numbers and the working directory depend on the host.
+   *
+   * @return true if no input was taken from the host, false otherwise
+   */
+  public synchronized boolean isDeterministic() {
+    return !this.host;
+  }
+
+  /**
+   * Gets the next event position.
+   *
+   * @return next event position
+   */
+  public int getPosition() {
+    return this.position;
+  }
+
+  /**
+   * Sets the next event position, used by the debugger to step back.
+   *
+   * @param position a position returned by {@link #getPosition}
+   */
+  public void setPosition(int position) {
+    this.position = position;
+  }
+
+  /**
+   * Gets the next value of an event, replaying it or taking it from a source and recording it.
+   *
+   * @param tag event tag
+   * @param source event source, not called if the event is replayed
+   * @return event value
+   * @throws SimulationException if the source fails or the tape does not match the program
+   */
+  public long value(byte tag, Value source) throws SimulationException {
+    if (this == OFF)
+      return source.get();
+    Object value = this.next(tag);
+    if (value != null)
+      return (Long) value;
+    long v = source.get();
+    this.capture(tag, v);
+    return v;
+  }
+
+  /**
+   * Gets the next data of an event, replaying it or taking it from a source and recording it.
+   *
+   * @param tag event tag
+   * @param source event source, not called if the event is replayed
+   * @return event data
+   * @throws SimulationException if the source fails or the tape does not match the program
+   */
+  public byte[] bytes(byte tag, Bytes source) throws SimulationException {
+    if (this == OFF)
+      return source.get();
+    Object value = this.next(tag);
+    if (value != null)
+      return (byte[]) value;
+    byte[] v = source.get();
+    this.capture(tag, v);
+    return v;
+  }
+
+  /**
+   * Takes the next recorded event.
+   *
+   * @param tag expected event tag
+   * @return event value or null if there are no recorded events left and the tape is not replaying
+   * @throws SimulationException if the recorded event does not match or a replaying tape is exhausted
+   */
+  private synchronized Object next(byte tag) throws SimulationException {
+    if (this.position < this.tags.size()) {
+      byte recorded = this.tags.get(this.position);
+      if (recorded != tag)
+        throw new SimulationException(String.format("tape: expected %s event but the program did %s (event %d)",
+            NAMES[recorded], NAMES[tag], this.position + 1));
+      return this.values.get(this.position++);
+    }
+    if (this.replaying)
+      throw new SimulationException(String.format("tape: no more events to replay, the program did %s (event %d)",
+          NAMES[tag], this.position + 1));
+    return null;
+  }
+
+  /**
+   * Records a new event, if recording.
+   *
+   * @param tag event tag
+   * @param value a Long or a byte[]
+   */
+  private synchronized void capture(byte tag, Object value) {
+    // console reads come from the standard input, every other event from the host
+    if (tag > READ_CHAR)
+      this.host = true;
+    if (!this.recording)
+      return;
+    this.add(tag, value);
+    this.position++;
+    if (this.out == null)
+      return;
+    try {
+      this.out.writeByte(tag);
+      if (value instanceof byte[]) {
+        byte[] bytes = (byte[]) value;
+        Tape.writeVarLong(this.out, bytes.length);
+        this.out.write(bytes);
+      } else
+        Tape.writeVarLong(this.out, (Long) value);
+    } catch (IOException e) {
+      Message.warning("tape: could not record event: " + e.getMessage());
+    }
+  }
+
+  /**
+   * Adds an event to the tape.
+   *
+   * @param tag event tag
+   * @param value a Long or a byte[]
+   */
+  private void add(byte tag, Object value) {
+    this.tags.add(tag);
+    this.values.add(value);
+  }
+
+  /**
+   * Flushes the recording file.
+   */
+  public synchronized void flush() {
+    if (this.out == null)
+      return;
+    try {
+      this.out.flush();
+    } catch (IOException e) {
+      Message.warning("tape: could not write recording: " + e.getMessage());
+    }
+  }
+
+  /**
+   * Writes a zig-zag variable length long, small values of any sign take one byte.
+   *
+   * @param out output stream
+   * @param value the value
+   * @throws IOException if the value could not be written
+   */
+  private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+    long v = (value << 1) ^ (value >> 63);
+    while ((v & ~0x7fL) != 0) {
+      out.writeByte((int) ((v & 0x7f) | 0x80));
+      v >>>= 7;
+    }
+    out.writeByte((int) v);
+  }
+
+  /**
+   * Reads a zig-zag variable length long.
+   *
+   * @param in input stream
+   * @return the value
+   * @throws IOException if the value could not be read
+   */
+  private static long readVarLong(DataInputStream in) throws IOException {
+    long v = 0;
+    for (int shift = 0; shift < 64; shift += 7) {
+      int b = in.readUnsignedByte();
+      v |= (long) (b & 0x7f) << shift;
+      if ((b & 0x80) == 0)
+        return (v >>> 1) ^ -(v & 1);
+    }
+    throw new IOException("invalid tape event");
+  }
+
+  /**
+   * Source of event values.
+   */
+  @FunctionalInterface
+  public interface Value {
+
+    /**
+     * Gets the value of an event from the host.
+     *
+     * @return event value
+     * @throws SimulationException if the value could not be taken
+     */
+    long get() throws SimulationException;
+
+  }
+
+  /**
+   * Source of event data.
+   */
+  @FunctionalInterface
+  public interface Bytes {
+
+    /**
+     * Gets the data of an event from the host.
+     *
+     * @return event data
+     * @throws SimulationException if the data could not be taken
+     */
+    byte[] get() throws SimulationException;
+
+  }
+
+}
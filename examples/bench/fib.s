@@ -0,0 +1,47 @@
+#################################
+# Recursive Fibonacci Benchmark #
+#################################
+
+# computes fib(25) with the naive recursive definition
+
+.globl main
+
+.rodata
+  msg: .string "fib(25) = "
+
+.text
+
+main:
+  li a0, 25
+  call fib
+  mv s0, a0
+  li a0, 4
+  la a1, msg
+  ecall
+  li a0, 1
+  mv a1, s0
+  ecall
+  li a0, 10
+  ecall
+
+# fib(a0) = fib(a0 - 1) + fib(a0 - 2), fib(0) = 0, fib(1) = 1
+fib:
+  li t0, 2
+  blt a0, t0, fib_ret
+  addi sp, sp, -12
+  sw ra, 8(sp)
+  sw s0, 4(sp)
+  sw s1, 0(sp)
+  mv s0, a0
+  addi a0, s0, -1
+  call fib
+  mv s1, a0
+  addi a0, s0, -2
+  call fib
+  add a0, s1, a0
+  lw ra, 8(sp)
+  lw s0, 4(sp)
+  lw s1, 0(sp)
+  addi sp, sp, 12
+fib_ret:
+  ret
@@ -0,0 +1,97 @@
+###################################
+# Float Matrix Multiply Benchmark #
+###################################
+
+# multiplies two 64x64 float matrices, C = A * B with
+# A[i][j] = i + j + 1 and B[i][j] = (i * j) % 7, and
+# prints the trace of C
+
+.globl main
+
+.data
+  A: .space 16384
+  B: .space 16384
+  C: .space 16384
+
+.rodata
+  trace: .string "trace: "
+
+.text
+
+main:
+  li s0, 64
+  la s1, A
+  la s2, B
+  la s3, C
+  # initialize A and B
+  li t0, 0
+  mv t2, s1
+  mv t3, s2
+  li t6, 7
+init_i:
+  li t1, 0
+init_j:
+  add t4, t0, t1
+  addi t4, t4, 1
+  fcvt.s.w ft0, t4
+  fsw ft0, 0(t2)
+  mul t5, t0, t1
+  rem t5, t5, t6
+  fcvt.s.w ft1, t5
+  fsw ft1, 0(t3)
+  addi t2, t2, 4
+  addi t3, t3, 4
+  addi t1, t1, 1
+  blt t1, s0, init_j
+  addi t0, t0, 1
+  blt t0, s0, init_i
+  # C[i][j] = sum(A[i][k] * B[k][j])
+  slli s4, s0, 2
+  li t0, 0
+mul_i:
+  li t1, 0
+mul_j:
+  fmv.w.x ft0, zero
+  # a = &A[i][0], b = &B[0][j]
+  mul t2, t0, s4
+  add t2, s1, t2
+  slli t3, t1, 2
+  add t3, s2, t3
+  li t4, 0
+mul_k:
+  flw ft1, 0(t2)
+  flw ft2, 0(t3)
+  fmadd.s ft0, ft1, ft2, ft0
+  addi t2, t2, 4
+  add t3, t3, s4
+  addi t4, t4, 1
+  blt t4, s0, mul_k
+  # store C[i][j]
+  mul t5, t0, s4
+  slli t6, t1, 2
+  add t5, t5, t6
+  add t5, s3, t5
+  fsw ft0, 0(t5)
+  addi t1, t1, 1
+  blt t1, s0, mul_j
+  addi t0, t0, 1
+  blt t0, s0, mul_i
+  # trace of C
+  fmv.w.x fa0, zero
+  li t0, 0
+  mv t2, s3
+  addi s5, s4, 4
+trace_i:
+  flw ft0, 0(t2)
+  fadd.s fa0, fa0, ft0
+  add t2, t2, s5
+  addi t0, t0, 1
+  blt t0, s0, trace_i
+  li a0, 4
+  la a1, trace
+  ecall
+  fcvt.w.s a1, fa0
+  li a0, 1
+  ecall
+  li a0, 10
+  ecall
@@ -0,0 +1,104 @@
+####################
+# Memcpy Benchmark #
+####################
+
+# copies a 64 KiB buffer back and forth, 16 times word by word
+# and 4 times byte by byte, and prints a checksum of the result
+
+.globl main
+
+.data
+  src: .space 65536
+  dst: .space 65536
+
+.rodata
+  checksum: .string "checksum: "
+
+.text
+
+main:
+  la s0, src
+  la s1, dst
+  li s2, 65536
+  # fill the source buffer with a pattern
+  mv t0, s0
+  add t1, s0, s2
+  li t2, 0x01020304
+  li t3, 0x01010101
+fill:
+  sw t2, 0(t0)
+  add t2, t2, t3
+  addi t0, t0, 4
+  bltu t0, t1, fill
+  # word copies, swapping source and destination every round
+  li s3, 16
+words:
+  mv a0, s1
+  mv a1, s0
+  mv a2, s2
+  call memcpy_words
+  mv t0, s0
+  mv s0, s1
+  mv s1, t0
+  addi s3, s3, -1
+  bnez s3, words
+  # byte copies
+  li s3, 4
+bytes:
+  mv a0, s1
+  mv a1, s0
+  mv a2, s2
+  call memcpy_bytes
+  mv t0, s0
+  mv s0, s1
+  mv s1, t0
+  addi s3, s3, -1
+  bnez s3, bytes
+  # checksum of the last copy
+  li t4, 0
+  mv t0, s0
+  add t1, s0, s2
+sum:
+  lw t2, 0(t0)
+  xor t4, t4, t2
+  slli t5, t4, 1
+  srli t6, t4, 31
+  or t4, t5, t6
+  addi t0, t0, 4
+  bltu t0, t1, sum
+  li a0, 4
+  la a1, checksum
+  ecall
+  li a0, 21
+  mv a1, t4
+  ecall
+  li a0, 10
+  ecall
+
+# memcpy_words(a0 = dst, a1 = src, a2 = bytes), 4 words per iteration
+memcpy_words:
+  add a3, a1, a2
+mw_loop:
+  lw t0, 0(a1)
+  lw t1, 4(a1)
+  lw t2, 8(a1)
+  lw t3, 12(a1)
+  sw t0, 0(a0)
+  sw t1, 4(a0)
+  sw t2, 8(a0)
+  sw t3, 12(a0)
+  addi a0, a0, 16
+  addi a1, a1, 16
+  bltu a1, a3, mw_loop
+  ret
+
+# memcpy_bytes(a0 = dst, a1 = src, a2 = bytes)
+memcpy_bytes:
+  add a3, a1, a2
+mb_loop:
+  lbu t0, 0(a1)
+  sb t0, 0(a0)
+  addi a0, a0, 1
+  addi a1, a1, 1
+  bltu a1, a3, mb_loop
+  ret
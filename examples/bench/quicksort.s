@@ -0,0 +1,145 @@
+#######################
+# Quicksort Benchmark #
+#######################
+
+# sorts 10000 pseudo-random integers with a recursive quicksort,
+# checks the order and prints a checksum
+
+.globl main
+
+.data
+  array: .space 40000
+
+.rodata
+  sorted: .string "sorted: "
+  unsorted: .string "NOT sorted: "
+  checksum: .string "checksum: "
+
+.text
+
+main:
+  # fill the array with a linear congruential generator
+  la s0, array
+  li s1, 10000
+  li t0, 12345
+  li t1, 1103515245
+  li t2, 12345
+  mv t3, s0
+  li t4, 0
+fill:
+  mul t0, t0, t1
+  add t0, t0, t2
+  srli t5, t0, 8
+  sw t5, 0(t3)
+  addi t3, t3, 4
+  addi t4, t4, 1
+  blt t4, s1, fill
+  # quicksort(array, 0, n - 1)
+  mv a0, s0
+  li a1, 0
+  addi a2, s1, -1
+  call quicksort
+  # check the order and compute sum(a[i] ^ i)
+  li t0, 1
+  li t1, 0
+  lw t2, 0(s0)
+  mv t3, t2
+check:
+  bge t0, s1, done
+  slli t4, t0, 2
+  add t4, s0, t4
+  lw t5, 0(t4)
+  bgtu t2, t5, bad
+  xor t6, t5, t0
+  add t3, t3, t6
+  mv t2, t5
+  addi t0, t0, 1
+  j check
+bad:
+  li a0, 4
+  la a1, unsorted
+  ecall
+  li a0, 1
+  mv a1, t0
+  ecall
+  li a0, 17
+  li a1, 1
+  ecall
+done:
+  li a0, 4
+  la a1, sorted
+  ecall
+  li a0, 1
+  mv a1, s1
+  ecall
+  li a0, 11
+  li a1, '\n'
+  ecall
+  li a0, 4
+  la a1, checksum
+  ecall
+  li a0, 23
+  mv a1, t3
+  ecall
+  li a0, 10
+  ecall
+
+# quicksort(a0 = base, a1 = lo, a2 = hi), Lomuto partition
+quicksort:
+  bge a1, a2, qs_ret
+  addi sp, sp, -20
+  sw ra, 16(sp)
+  sw s0, 12(sp)
+  sw s1, 8(sp)
+  sw s2, 4(sp)
+  mv s0, a0
+  mv s1, a1
+  mv s2, a2
+  # pivot = a[hi]
+  slli t0, s2, 2
+  add t0, s0, t0
+  lw t1, 0(t0)
+  # i = lo - 1
+  addi t2, s1, -1
+  mv t3, s1
+partition:
+  bge t3, s2, partitioned
+  slli t4, t3, 2
+  add t4, s0, t4
+  lw t5, 0(t4)
+  bgtu t5, t1, next
+  addi t2, t2, 1
+  slli t6, t2, 2
+  add t6, s0, t6
+  lw a3, 0(t6)
+  sw t5, 0(t6)
+  sw a3, 0(t4)
+next:
+  addi t3, t3, 1
+  j partition
+partitioned:
+  # swap a[i + 1] and a[hi]
+  addi t2, t2, 1
+  slli t6, t2, 2
+  add t6, s0, t6
+  lw a3, 0(t6)
+  sw t1, 0(t6)
+  sw a3, 0(t0)
+  # quicksort(lo, p - 1), quicksort(p + 1, hi)
+  sw t2, 0(sp)
+  mv a0, s0
+  mv a1, s1
+  addi a2, t2, -1
+  call quicksort
+  lw t2, 0(sp)
+  mv a0, s0
+  addi a1, t2, 1
+  mv a2, s2
+  call quicksort
+  lw ra, 16(sp)
+  lw s0, 12(sp)
+  lw s1, 8(sp)
+  lw s2, 4(sp)
+  addi sp, sp, 20
+qs_ret:
+  ret
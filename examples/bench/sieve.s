@@ -0,0 +1,50 @@
+###################
+# Sieve Benchmark #
+###################
+
+# counts the primes below 200000 with the sieve of Eratosthenes
+
+.globl main
+
+.data
+  composite: .space 200000
+
+.rodata
+  primes: .string "primes below 200000: "
+
+.text
+
+main:
+  li s0, 200000
+  la s1, composite
+  li s2, 0
+  li t0, 2
+  li t3, 1
+  # multiples of primes above sqrt(200000) are already marked
+  li t6, 448
+outer:
+  bge t0, s0, done
+  add t1, s1, t0
+  lbu t2, 0(t1)
+  bnez t2, next
+  # t0 is prime, mark its multiples from t0 * t0
+  addi s2, s2, 1
+  bge t0, t6, next
+  mul t4, t0, t0
+mark:
+  add t5, s1, t4
+  sb t3, 0(t5)
+  add t4, t4, t0
+  blt t4, s0, mark
+next:
+  addi t0, t0, 1
+  j outer
+done:
+  li a0, 4
+  la a1, primes
+  ecall
+  li a0, 1
+  mv a1, s2
+  ecall
+  li a0, 10
+  ecall
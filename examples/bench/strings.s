@@ -0,0 +1,152 @@
+#####################
+# Strings Benchmark #
+#####################
+
+# reads up to 32 lines from stdin (until an empty line), then
+# 64 times reverses and uppercases every line in place, counting
+# words, and finally prints every line char by char with ecalls
+
+.globl main
+
+.data
+  lines: .space 2560
+
+.rodata
+  nlines: .string "lines: "
+  words: .string " words: "
+
+.text
+
+main:
+  la s0, lines
+  li s1, 0
+  li s2, 32
+read:
+  bge s1, s2, process
+  li t0, 80
+  mul t0, s1, t0
+  add a1, s0, t0
+  li a0, 8
+  li a2, 80
+  ecall
+  lbu t0, 0(a1)
+  beqz t0, process
+  addi s1, s1, 1
+  j read
+process:
+  li s3, 64
+round:
+  li s4, 0
+  li s5, 0
+line:
+  bge s4, s1, round_done
+  li t0, 80
+  mul t0, s4, t0
+  add a0, s0, t0
+  call reverse
+  call upper
+  call count
+  add s5, s5, a0
+  addi s4, s4, 1
+  j line
+round_done:
+  addi s3, s3, -1
+  bnez s3, round
+  # print every line char by char
+  li s4, 0
+print:
+  bge s4, s1, done
+  li t0, 80
+  mul t0, s4, t0
+  add s6, s0, t0
+print_char:
+  lbu a1, 0(s6)
+  beqz a1, print_nl
+  li a0, 11
+  ecall
+  addi s6, s6, 1
+  j print_char
+print_nl:
+  li a0, 11
+  li a1, '\n'
+  ecall
+  addi s4, s4, 1
+  j print
+done:
+  li a0, 4
+  la a1, nlines
+  ecall
+  li a0, 1
+  mv a1, s1
+  ecall
+  li a0, 4
+  la a1, words
+  ecall
+  li a0, 1
+  mv a1, s5
+  ecall
+  li a0, 10
+  ecall
+
+# reverse(a0 = string) in place, keeps a0
+reverse:
+  mv t0, a0
+rev_end:
+  lbu t1, 0(t0)
+  beqz t1, rev_swap
+  addi t0, t0, 1
+  j rev_end
+rev_swap:
+  addi t0, t0, -1
+  mv t1, a0
+rev_loop:
+  bgeu t1, t0, rev_ret
+  lbu t2, 0(t1)
+  lbu t3, 0(t0)
+  sb t3, 0(t1)
+  sb t2, 0(t0)
+  addi t1, t1, 1
+  addi t0, t0, -1
+  j rev_loop
+rev_ret:
+  ret
+
+# upper(a0 = string) in place, keeps a0
+upper:
+  mv t0, a0
+  li t2, 'a'
+  li t3, 'z'
+up_loop:
+  lbu t1, 0(t0)
+  beqz t1, up_ret
+  blt t1, t2, up_next
+  bgt t1, t3, up_next
+  addi t1, t1, -32
+  sb t1, 0(t0)
+up_next:
+  addi t0, t0, 1
+  j up_loop
+up_ret:
+  ret
+
+# count(a0 = string) returns the number of words in a0
+count:
+  li t4, 0
+  li t5, 0
+  li t2, ' '
+cnt_loop:
+  lbu t1, 0(a0)
+  beqz t1, cnt_ret
+  beq t1, t2, cnt_space
+  bnez t5, cnt_next
+  li t5, 1
+  addi t4, t4, 1
+  j cnt_next
+cnt_space:
+  li t5, 0
+cnt_next:
+  addi a0, a0, 1
+  j cnt_loop
+cnt_ret:
+  mv a0, t4
+  ret
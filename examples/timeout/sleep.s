@@ -0,0 +1,16 @@
+######################
+#    sleep TIMEOUT   #
+######################
+
+# A program that only sleeps must still stop at the time limit of the run:
+#   vsim -batch examples/timeout -timeout 500
+
+.globl main
+
+.text
+
+main:
+  li a0, 18
+  li a1, 200
+  ecall
+  j main
@@ -0,0 +1,91 @@
+######################
+#     csr TESTS      #
+######################
+
+.globl main
+
+.text
+
+main:
+
+test01:
+  li a1, 1
+  rdinstret x1
+  nop
+  nop
+  rdinstret x2
+  sub x3, x2, x1
+  li x29, 3
+  bne x3, x29, fail
+
+test02:
+  li a1, 2
+  rdcycle x1
+  nop
+  nop
+  rdcycle x2
+  sub x3, x2, x1
+  li x29, 3
+  bne x3, x29, fail
+
+test03:
+  li a1, 3
+  rdcycle x1
+  rdinstret x2
+  sub x3, x2, x1
+  li x29, 1
+  bne x3, x29, fail
+
+test04:
+  li a1, 4
+  csrr x1, instret
+  csrr x2, 0xc02
+  sub x3, x2, x1
+  li x29, 1
+  bne x3, x29, fail
+
+test05:
+  li a1, 5
+  csrrs x1, instret, x0
+  csrrc x2, instret, x0
+  sub x3, x2, x1
+  li x29, 1
+  bne x3, x29, fail
+
+test06:
+  li a1, 6
+  csrrsi x1, instret, 0
+  csrrci x2, instret, 0
+  sub x3, x2, x1
+  li x29, 1
+  bne x3, x29, fail
+
+test07:
+  li a1, 7
+  rdinstreth x1
+  rdcycleh x2
+  li x29, 0
+  bne x1, x29, fail
+  bne x2, x29, fail
+
+test08:
+  li a1, 8
+  csrrsi x0, cycle, 0
+  csrrci x0, time, 0
+  csrrs x0, instreth, x0
+  rdtime x1
+  rdtimeh x2
+
+# writing a counter stops the program, see csr.expected.status
+test09:
+  li a1, 9
+  csrrwi x1, instret, 0
+  j fail
+
+success:
+  li a0, 10
+  ecall
+
+fail:
+  li a0, 17
+  ecall
@@ -25,6 +25,20 @@ JAR = os.listdir('build/libs/')[0]
 CMD = 'java -jar build/libs/' + JAR + ' -extrict -notitle %s'
 
 
+def expected(f):
+    # expected exit status and standard error of a test
+    name = f[:-len('.s')]
+    status = 0
+    error = None
+    if os.path.isfile(name + '.expected.status'):
+        with open(name + '.expected.status') as fd:
+            status = int(fd.read().strip())
+    if os.path.isfile(name + '.expected.err'):
+        with open(name + '.expected.err') as fd:
+            error = fd.read()
+    return status, error
+
+
 def main():
     print(newline + 'Testing VSim....' + newline)
     # just try to run every program
@@ -39,10 +53,12 @@ def main():
                 continue
             total += 1
             command = CMD % f
-            process = subprocess.Popen(command, shell=True, stdout=subprocess.PIPE)
-            process.wait()
+            process = subprocess.Popen(command, shell=True, stdout=subprocess.PIPE, stderr=subprocess.PIPE)
+            _, stderr = process.communicate()
             rcode = process.returncode
-            if rcode != 0:
+            # tests that should stop the program have expected status and error files
+            status, err = expected(f)
+            if rcode != status or (err is not None and stderr.decode('utf-8') != err):
                 nerror += 1
                 print('    ' + f + ':test%02d ✘' % rcode)
                 errors.append('    ' + f + ':test%02d ✘' % rcode)